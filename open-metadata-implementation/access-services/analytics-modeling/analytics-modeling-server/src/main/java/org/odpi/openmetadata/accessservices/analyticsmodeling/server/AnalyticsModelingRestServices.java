@@ -78,7 +78,7 @@ public class AnalyticsModelingRestServices {
 			ret = handleInvalidParameterResponse(e, methodName);
 		}
 
-		restCallLogger.logRESTCallReturn(token, ret.toString());
+		restCallLogger.logRESTCallReturn(token, ret);
 		return ret;
 	}
 
@@ -116,7 +116,7 @@ public class AnalyticsModelingRestServices {
 			ret = handleInvalidParameterResponse(e, methodName);
 		}
 
-		restCallLogger.logRESTCallReturn(token, ret.toString());
+		restCallLogger.logRESTCallReturn(token, ret);
 		return ret;
 	}
 
@@ -148,7 +148,7 @@ public class AnalyticsModelingRestServices {
 		} catch (InvalidParameterException e) {
 			ret = handleInvalidParameterResponse(e, methodName);
 		}
-		restCallLogger.logRESTCallReturn(token, ret.toString());
+		restCallLogger.logRESTCallReturn(token, ret);
 		return ret;
 	}
 
@@ -184,7 +184,7 @@ public class AnalyticsModelingRestServices {
 			ret = handleInvalidParameterResponse(e, methodName);
 		}
 		
-		restCallLogger.logRESTCallReturn(token, ret.toString());
+		restCallLogger.logRESTCallReturn(token, ret);
 		return ret;
 	}
 
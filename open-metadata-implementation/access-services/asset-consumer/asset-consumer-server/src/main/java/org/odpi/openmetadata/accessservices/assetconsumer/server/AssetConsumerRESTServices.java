@@ -69,7 +69,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -119,7 +119,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -166,7 +166,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -218,7 +218,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -292,7 +292,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -342,7 +342,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -399,7 +399,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -449,7 +449,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -515,7 +515,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -584,7 +584,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -652,7 +652,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -704,7 +704,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -753,7 +753,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -804,7 +804,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -855,7 +855,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -910,7 +910,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -978,7 +978,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1038,7 +1038,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1094,7 +1094,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1143,7 +1143,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1187,7 +1187,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1238,7 +1238,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1289,7 +1289,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1340,7 +1340,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1391,7 +1391,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1454,7 +1454,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1517,7 +1517,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1574,7 +1574,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1632,7 +1632,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1683,7 +1683,7 @@ public class AssetConsumerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 }
\ No newline at end of file
@@ -92,7 +92,7 @@ public class AssetManagerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -172,7 +172,7 @@ public class AssetManagerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -236,7 +236,7 @@ public class AssetManagerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -334,7 +334,7 @@ public class AssetManagerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -432,7 +432,7 @@ public class AssetManagerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -531,7 +531,7 @@ public class AssetManagerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -612,7 +612,7 @@ public class AssetManagerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -690,7 +690,7 @@ public class AssetManagerRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -104,7 +104,7 @@ public class DataAssetExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -172,7 +172,7 @@ public class DataAssetExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -242,7 +242,7 @@ public class DataAssetExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -301,7 +301,7 @@ public class DataAssetExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -360,7 +360,7 @@ public class DataAssetExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -417,7 +417,7 @@ public class DataAssetExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -474,7 +474,7 @@ public class DataAssetExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -531,7 +531,7 @@ public class DataAssetExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -603,7 +603,7 @@ public class DataAssetExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -673,7 +673,7 @@ public class DataAssetExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -745,7 +745,7 @@ public class DataAssetExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -815,7 +815,7 @@ public class DataAssetExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -886,7 +886,7 @@ public class DataAssetExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
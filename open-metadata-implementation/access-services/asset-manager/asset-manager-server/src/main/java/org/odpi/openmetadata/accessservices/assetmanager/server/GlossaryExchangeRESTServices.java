@@ -104,7 +104,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -175,7 +175,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -242,7 +242,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -299,7 +299,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -371,7 +371,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -427,7 +427,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -498,7 +498,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -554,7 +554,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -627,7 +627,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -700,7 +700,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -775,7 +775,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -846,7 +846,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -918,7 +918,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -985,7 +985,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1052,7 +1052,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1127,7 +1127,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1202,7 +1202,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1257,7 +1257,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1330,7 +1330,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1409,7 +1409,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1482,7 +1482,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1553,7 +1553,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1625,7 +1625,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1704,7 +1704,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1775,7 +1775,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1843,7 +1843,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1910,7 +1910,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1977,7 +1977,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2045,7 +2045,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2116,7 +2116,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2191,7 +2191,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2265,7 +2265,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2337,7 +2337,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2416,7 +2416,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2473,7 +2473,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2529,7 +2529,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2585,7 +2585,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2641,7 +2641,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2708,7 +2708,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2764,7 +2764,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2831,7 +2831,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2887,7 +2887,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2943,7 +2943,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2999,7 +2999,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3056,7 +3056,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3112,7 +3112,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3168,7 +3168,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3224,7 +3224,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3280,7 +3280,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3353,7 +3353,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3432,7 +3432,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3512,7 +3512,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3585,7 +3585,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3655,7 +3655,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3729,7 +3729,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3797,7 +3797,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
 
@@ -3869,7 +3869,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3944,7 +3944,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -4019,7 +4019,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -4077,7 +4077,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -4156,7 +4156,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -4228,7 +4228,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -4303,7 +4303,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -4375,7 +4375,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -4450,7 +4450,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -105,7 +105,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -172,7 +172,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -242,7 +242,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -309,7 +309,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -392,7 +392,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -467,7 +467,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -526,7 +526,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -584,7 +584,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -640,7 +640,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -713,7 +713,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -783,7 +783,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -856,7 +856,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -927,7 +927,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -998,7 +998,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1077,7 +1077,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1151,7 +1151,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1219,7 +1219,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1297,7 +1297,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1372,7 +1372,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1452,7 +1452,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1527,7 +1527,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1606,7 +1606,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1681,7 +1681,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1737,7 +1737,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1810,7 +1810,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1889,7 +1889,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1968,7 +1968,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2040,7 +2040,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2113,7 +2113,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2185,7 +2185,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2246,7 +2246,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2302,7 +2302,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2378,7 +2378,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2453,7 +2453,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2523,7 +2523,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2594,7 +2594,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2651,7 +2651,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2708,7 +2708,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2784,7 +2784,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2859,7 +2859,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2929,7 +2929,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3000,7 +3000,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3057,7 +3057,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3114,7 +3114,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3190,7 +3190,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3265,7 +3265,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3335,7 +3335,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3406,7 +3406,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3463,7 +3463,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3520,7 +3520,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3597,7 +3597,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3672,7 +3672,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3729,7 +3729,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3786,7 +3786,7 @@ public class LineageExchangeRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
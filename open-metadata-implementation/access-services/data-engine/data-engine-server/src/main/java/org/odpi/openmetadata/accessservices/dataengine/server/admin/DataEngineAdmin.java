@@ -10,6 +10,7 @@ import org.odpi.openmetadata.accessservices.dataengine.server.processors.DataEng
 import org.odpi.openmetadata.adminservices.configuration.properties.AccessServiceConfig;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceAdmin;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
+import org.odpi.openmetadata.adminservices.ffdc.OMAGAdminErrorCode;
 import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
@@ -22,6 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * DataEngineAdmin is the class that is called by the OMAG Server to initialize and terminate
@@ -36,6 +38,9 @@ public class DataEngineAdmin extends AccessServiceAdmin {
 
     private static final Logger log = LoggerFactory.getLogger(DataEngineAdmin.class);
 
+    private static final String PROCESSING_THREADS_PROPERTY_NAME = "ProcessingThreads";
+    private static final int DEFAULT_PROCESSING_THREADS = 8;
+
     /**
      * Initialize the access service.
      *
@@ -60,13 +65,15 @@ public class DataEngineAdmin extends AccessServiceAdmin {
                     accessServiceConfig.getAccessServiceName(), auditLog);
             List<String> defaultZones = this.extractDefaultZones(accessServiceConfig.getAccessServiceOptions(),
                     accessServiceConfig.getAccessServiceName(), auditLog);
+            int processingThreads = extractProcessingThreads(accessServiceConfig.getAccessServiceOptions(),
+                    accessServiceConfig.getAccessServiceName());
 
             instance = new DataEngineServicesInstance(repositoryConnector, supportedZones, defaultZones, auditLog, serverUserName,
                     repositoryConnector.getMaxPageSize(),
                     super.getOutTopicConnection(accessServiceConfig.getAccessServiceInTopic(),
                             AccessServiceDescription.DATA_ENGINE_OMAS.getAccessServiceFullName(),
                             DataEngineInTopicClientProvider.class.getName(),
-                            auditLog)); //TODO: using getOutTopicConnection temporary, we need getInTopicConnection... Check the correct way to create connection for the omas instance - using dedicated client provider class name (current impl.) or provided by the accessServiceConfig.getAccessServiceInTopic() (?)
+                            auditLog), processingThreads); //TODO: using getOutTopicConnection temporary, we need getInTopicConnection... Check the correct way to create connection for the omas instance - using dedicated client provider class name (current impl.) or provided by the accessServiceConfig.getAccessServiceInTopic() (?)
 
             serverName = instance.getServerName();
 
@@ -111,6 +118,38 @@ public class DataEngineAdmin extends AccessServiceAdmin {
         }
     }
 
+    /**
+     * Extract the max number of threads creating the independent processes of a single request from the access service options.
+     *
+     * @param accessServiceOptions  options from the access service configuration
+     * @param accessServiceFullName name of this access service
+     *
+     * @return number of processing threads, or the default if the option is not set
+     *
+     * @throws OMAGConfigurationErrorException the option is not a positive number
+     */
+    private int extractProcessingThreads(Map<String, Object> accessServiceOptions, String accessServiceFullName) throws
+                                                                                                                  OMAGConfigurationErrorException {
+        final String methodName = "extractProcessingThreads";
+
+        if (accessServiceOptions == null || accessServiceOptions.get(PROCESSING_THREADS_PROPERTY_NAME) == null) {
+            return DEFAULT_PROCESSING_THREADS;
+        }
+
+        String processingThreadsValue = accessServiceOptions.get(PROCESSING_THREADS_PROPERTY_NAME).toString();
+        try {
+            int processingThreads = Integer.parseInt(processingThreadsValue);
+            if (processingThreads < 1) {
+                throw new NumberFormatException("The number of processing threads must be at least 1");
+            }
+            return processingThreads;
+        } catch (NumberFormatException error) {
+            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.BAD_CONFIG_PROPERTIES.getMessageDefinition(accessServiceFullName,
+                    processingThreadsValue, PROCESSING_THREADS_PROPERTY_NAME, error.getClass().getName(), error.getMessage()),
+                    this.getClass().getName(), methodName, error);
+        }
+    }
+
     /**
      * Returns the connector created from topic connection properties
      *
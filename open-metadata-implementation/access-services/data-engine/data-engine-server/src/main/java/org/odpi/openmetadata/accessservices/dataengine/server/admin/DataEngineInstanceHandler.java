@@ -13,6 +13,8 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * DataEngineInstanceHandler retrieves information from the instance map for the access service instances.
  * The instance map is thread-safe. Instances are added and removed by the DataEngineAdmin class.
@@ -150,6 +152,27 @@ public class DataEngineInstanceHandler extends OCFOMASServiceInstanceHandler {
 
         return null;
     }
-}
 
+    /**
+     * Retrieve the pool of threads that create the independent processes of a request
+     *
+     * @param userId               calling user
+     * @param serverName           name of the server tied to the request
+     * @param serviceOperationName name of the REST API call (typically the top-level methodName)
+     *
+     * @return executor for use by the requested instance
+     *
+     * @throws InvalidParameterException no available instance for the requested server
+     * @throws UserNotAuthorizedException user does not have access to the requested server
+     * @throws PropertyServerException the service name is not known - indicating a logic error
+     */
+    public ExecutorService getProcessingWorkers(String userId, String serverName, String serviceOperationName) throws
+                                                                                                               InvalidParameterException,
+                                                                                                               UserNotAuthorizedException,
+                                                                                                               PropertyServerException {
+        DataEngineServicesInstance instance = (DataEngineServicesInstance) super.getServerServiceInstance(userId,
+                serverName, serviceOperationName);
 
+        return instance.getProcessingWorkers();
+    }
+}
@@ -16,6 +16,11 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * DataEngineServicesInstance caches references to OMRS objects for a specific server.
@@ -29,6 +34,7 @@ public class DataEngineServicesInstance extends OCFOMASServiceInstance {
     private DataEngineSchemaTypeHandler dataEngineSchemaTypeHandler;
     private PortHandler portHandler;
     private Connection inTopicConnection;
+    private ExecutorService processingWorkers;
 
     /**
      * Set up the local repository connector that will service the REST Calls
@@ -39,17 +45,21 @@ public class DataEngineServicesInstance extends OCFOMASServiceInstance {
      * @param auditLog            logging destination
      * @param localServerUserId   userId used for server initiated actions
      * @param maxPageSize         max number of results to return on single request
+     * @param inTopicConnection   connection used in the client to produce events on the input topic
+     * @param processingThreads   max number of threads creating the independent processes of a single request
      *
      * @throws NewInstanceException a problem occurred during initialization
      */
     DataEngineServicesInstance(OMRSRepositoryConnector repositoryConnector, List<String> supportedZones, List<String> defaultZones,
-                               AuditLog auditLog, String localServerUserId, int maxPageSize, Connection inTopicConnection) throws NewInstanceException {
+                               AuditLog auditLog, String localServerUserId, int maxPageSize, Connection inTopicConnection, int processingThreads)
+            throws NewInstanceException {
 
 
         super(description.getAccessServiceFullName(), repositoryConnector, supportedZones, defaultZones, auditLog,
                 localServerUserId, maxPageSize);
 
         this.inTopicConnection = inTopicConnection;
+        this.processingWorkers = createProcessingWorkers(processingThreads);
 
         if (repositoryHandler != null) {
             dataEngineRegistrationHandler = new DataEngineRegistrationHandler(serviceName, serverName, invalidParameterHandler, repositoryHandler,
@@ -118,4 +128,49 @@ public class DataEngineServicesInstance extends OCFOMASServiceInstance {
      * @return connection object for client
      */
     Connection getInTopicConnection() { return inTopicConnection; }
+
+    /**
+     * Return the pool of threads that create the independent processes of a request
+     *
+     * @return executor for process creation
+     */
+    ExecutorService getProcessingWorkers() {
+        return processingWorkers;
+    }
+
+    /**
+     * Stop the threads creating processes and unregister the instance.
+     */
+    @Override
+    public void shutdown() {
+        processingWorkers.shutdownNow();
+
+        super.shutdown();
+    }
+
+    /**
+     * Create the bounded pool of threads used to create independent processes in parallel. The threads are daemon threads
+     * that end after a minute without work, so an idle server does not hold on to them.
+     *
+     * @param processingThreads max number of threads
+     *
+     * @return executor for process creation
+     */
+    private ExecutorService createProcessingWorkers(int processingThreads) {
+        final String threadNamePrefix = description.getAccessServiceFullName() + ":" + serverName + ":";
+        final AtomicInteger threadNumber = new AtomicInteger(0);
+
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(processingThreads, processingThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        workers.allowCoreThreadTimeOut(true);
+
+        return workers;
+    }
 }
@@ -6,6 +6,7 @@ import org.odpi.openmetadata.accessservices.dataengine.ffdc.DataEngineErrorCode;
 import org.odpi.openmetadata.accessservices.dataengine.server.mappers.CommonMapper;
 import org.odpi.openmetadata.accessservices.dataengine.server.mappers.SchemaTypePropertiesMapper;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.odpi.openmetadata.commonservices.generichandlers.UniqueNameGUIDCache;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
@@ -145,7 +146,8 @@ public class DataEngineCommonHandler {
     }
 
     /**
-     * Find out if the entity is already stored in the repository. It uses the fully qualified name to retrieve the entity
+     * Find out if the entity is already stored in the repository. It uses the fully qualified name to retrieve the entity.
+     * The guid found for a qualified name is cached, so later calls retrieve the entity by its guid instead of searching.
      *
      * @param userId         the name of the calling user
      * @param qualifiedName  the qualifiedName name of the entity to be searched
@@ -165,6 +167,15 @@ public class DataEngineCommonHandler {
         invalidParameterHandler.validateUserId(userId, methodName);
         invalidParameterHandler.validateName(qualifiedName, CommonMapper.QUALIFIED_NAME_PROPERTY_NAME, methodName);
 
+        UniqueNameGUIDCache uniqueNameCache = UniqueNameGUIDCache.getCache(serverName);
+        if (uniqueNameCache != null) {
+            Optional<EntityDetail> cachedEntity = findCachedEntity(userId, uniqueNameCache, qualifiedName, entityTypeName);
+            if (cachedEntity.isPresent()) {
+                return cachedEntity;
+            }
+        }
+
+        String uniqueName = qualifiedName;
         qualifiedName = repositoryHelper.getExactMatchRegex(qualifiedName);
 
         InstanceProperties properties = repositoryHelper.addStringPropertyToInstance(serviceName, null, CommonMapper.QUALIFIED_NAME_PROPERTY_NAME,
@@ -175,12 +186,53 @@ public class DataEngineCommonHandler {
         Optional<EntityDetail> retrievedEntity = Optional.ofNullable(repositoryHandler.getUniqueEntityByName(userId, qualifiedName,
                 CommonMapper.QUALIFIED_NAME_PROPERTY_NAME, properties, entityTypeDef.getGUID(), entityTypeDef.getName(), methodName));
 
+        if (uniqueNameCache != null) {
+            retrievedEntity.ifPresent(entity -> uniqueNameCache.putGUID(entityTypeName, CommonMapper.QUALIFIED_NAME_PROPERTY_NAME, uniqueName,
+                    entity.getGUID()));
+        }
+
         log.trace("Searching for entity with qualifiedName: {}. Result is {}", qualifiedName,
                 retrievedEntity.map(InstanceHeader::getGUID).orElse(null));
 
         return retrievedEntity;
     }
 
+    /**
+     * Retrieve the entity cached for the qualified name. The entity is only returned if it still has the qualified name,
+     * otherwise it is removed from the cache.
+     *
+     * @param userId          the name of the calling user
+     * @param uniqueNameCache the unique name cache of the server
+     * @param qualifiedName   the qualifiedName name of the entity to be searched
+     * @param entityTypeName  the type name of the entity
+     *
+     * @return optional with entity details if found in the cache, empty optional if the qualified name needs to be searched for
+     */
+    private Optional<EntityDetail> findCachedEntity(String userId, UniqueNameGUIDCache uniqueNameCache, String qualifiedName,
+                                                    String entityTypeName) {
+        final String methodName = "findCachedEntity";
+
+        String cachedGUID = uniqueNameCache.getGUID(entityTypeName, CommonMapper.QUALIFIED_NAME_PROPERTY_NAME, qualifiedName);
+        if (cachedGUID == null) {
+            return Optional.empty();
+        }
+
+        EntityDetail entity = null;
+        try {
+            entity = repositoryHandler.getEntityByGUID(userId, cachedGUID, CommonMapper.GUID_PROPERTY_NAME, entityTypeName, methodName);
+        } catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException e) {
+            log.debug("Cached entity {} for qualifiedName {} could not be retrieved: {}", cachedGUID, qualifiedName, e.toString());
+        }
+
+        if (entity == null || entity.getStatus() == InstanceStatus.DELETED || !qualifiedName.equals(repositoryHelper.getStringProperty(serviceName,
+                CommonMapper.QUALIFIED_NAME_PROPERTY_NAME, entity.getProperties(), methodName))) {
+            uniqueNameCache.removeGUID(cachedGUID);
+            return Optional.empty();
+        }
+
+        return Optional.of(entity);
+    }
+
     /**
      * Create or updates an external relationship between two entities. Verifies that the relationship is not present before creating it. If the
      * relationship is present, verifies the instanceProperties for the relationship to be updated.
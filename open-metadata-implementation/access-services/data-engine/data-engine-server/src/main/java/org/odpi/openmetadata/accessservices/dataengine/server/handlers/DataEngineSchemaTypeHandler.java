@@ -26,8 +26,10 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -172,6 +174,30 @@ public class DataEngineSchemaTypeHandler {
                                               String externalSourceName) throws InvalidParameterException,
                                                                                 UserNotAuthorizedException,
                                                                                 PropertyServerException {
+        addLineageMappingRelationship(userId, sourceSchemaAttributeQualifiedName, targetSchemaAttributeQualifiedName, Collections.emptyMap(),
+                externalSourceName);
+    }
+
+    /**
+     * Create LineageMapping relationship between two schema attributes, using the GUIDs of the schema attributes that have already been
+     * retrieved. This avoids retrieving the same schema attribute again for each lineage mapping of a batch.
+     *
+     * @param userId                             the name of the calling user
+     * @param sourceSchemaAttributeQualifiedName the qualified name of the source schema attribute
+     * @param targetSchemaAttributeQualifiedName the qualified name of the target schema attribute
+     * @param schemaAttributeGUIDs               the GUIDs of the schema attributes already retrieved, keyed by qualified name. The schema
+     *                                           attributes that are not in the map are retrieved from the repository
+     * @param externalSourceName                 the unique name of the external source
+     *
+     * @throws InvalidParameterException  the bean properties are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    public void addLineageMappingRelationship(String userId, String sourceSchemaAttributeQualifiedName, String targetSchemaAttributeQualifiedName,
+                                              Map<String, String> schemaAttributeGUIDs, String externalSourceName) throws
+                                                                                                                   InvalidParameterException,
+                                                                                                                   UserNotAuthorizedException,
+                                                                                                                   PropertyServerException {
         final String methodName = "addLineageMappingRelationship";
         final String parameterName = "qualifiedName";
 
@@ -179,25 +205,36 @@ public class DataEngineSchemaTypeHandler {
         invalidParameterHandler.validateName(sourceSchemaAttributeQualifiedName, PortPropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, methodName);
         invalidParameterHandler.validateName(targetSchemaAttributeQualifiedName, PortPropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, methodName);
 
-        Optional<EntityDetail> sourceSchemaAttributeEntity = findSchemaAttributeEntity(userId, sourceSchemaAttributeQualifiedName);
-        Optional<EntityDetail> targetSchemaAttributeEntity = findSchemaAttributeEntity(userId, targetSchemaAttributeQualifiedName);
+        Optional<String> sourceSchemaAttributeGUID = getSchemaAttributeGUID(userId, sourceSchemaAttributeQualifiedName, schemaAttributeGUIDs);
+        Optional<String> targetSchemaAttributeGUID = getSchemaAttributeGUID(userId, targetSchemaAttributeQualifiedName, schemaAttributeGUIDs);
 
-        if (!sourceSchemaAttributeEntity.isPresent()) {
+        if (!sourceSchemaAttributeGUID.isPresent()) {
             dataEngineCommonHandler.throwInvalidParameterException(DataEngineErrorCode.SCHEMA_ATTRIBUTE_NOT_FOUND, methodName, parameterName,
                     sourceSchemaAttributeQualifiedName);
             return;
         }
-        if (!targetSchemaAttributeEntity.isPresent()) {
+        if (!targetSchemaAttributeGUID.isPresent()) {
             dataEngineCommonHandler.throwInvalidParameterException(DataEngineErrorCode.SCHEMA_ATTRIBUTE_NOT_FOUND, methodName, parameterName,
                     targetSchemaAttributeQualifiedName);
             return;
         }
 
-        dataEngineCommonHandler.createOrUpdateExternalRelationship(userId, sourceSchemaAttributeEntity.get().getGUID(),
-                targetSchemaAttributeEntity.get().getGUID(), SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_NAME,
+        dataEngineCommonHandler.createOrUpdateExternalRelationship(userId, sourceSchemaAttributeGUID.get(),
+                targetSchemaAttributeGUID.get(), SchemaTypePropertiesMapper.LINEAGE_MAPPINGS_TYPE_NAME,
                 SchemaElementMapper.SCHEMA_ATTRIBUTE_TYPE_NAME, externalSourceName, null);
     }
 
+    private Optional<String> getSchemaAttributeGUID(String userId, String qualifiedName, Map<String, String> schemaAttributeGUIDs) throws
+                                                                                                                                  UserNotAuthorizedException,
+                                                                                                                                  PropertyServerException,
+                                                                                                                                  InvalidParameterException {
+        String schemaAttributeGUID = schemaAttributeGUIDs.get(qualifiedName);
+        if (schemaAttributeGUID != null) {
+            return Optional.of(schemaAttributeGUID);
+        }
+        return findSchemaAttributeEntity(userId, qualifiedName).map(EntityDetail::getGUID);
+    }
+
     /**
      * Remove the schema type with the associated schema attributes
      *
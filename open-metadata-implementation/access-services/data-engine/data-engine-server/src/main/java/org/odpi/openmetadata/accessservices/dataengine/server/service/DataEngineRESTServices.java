@@ -30,11 +30,19 @@ import org.springframework.http.HttpStatus;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -503,7 +511,8 @@ public class DataEngineRESTServices {
     }
 
     /**
-     * Create LineageMappings relationships between schema attributes
+     * Create LineageMappings relationships between schema attributes. Each schema attribute is retrieved once, however many of the
+     * lineage mappings it is part of.
      *
      * @param userId             the name of the calling user
      * @param serverName         name of server instance to call
@@ -530,10 +539,12 @@ public class DataEngineRESTServices {
 
         DataEngineSchemaTypeHandler dataEngineSchemaTypeHandler = instanceHandler.getDataEngineSchemaTypeHandler(userId, serverName, methodName);
 
+        Map<String, String> schemaAttributeGUIDs = findSchemaAttributeGUIDs(userId, dataEngineSchemaTypeHandler, lineageMappings);
+
         lineageMappings.parallelStream().forEach(lineageMapping -> {
             try {
                 dataEngineSchemaTypeHandler.addLineageMappingRelationship(userId, lineageMapping.getSourceAttribute(),
-                        lineageMapping.getTargetAttribute(), externalSourceName);
+                        lineageMapping.getTargetAttribute(), schemaAttributeGUIDs, externalSourceName);
             } catch (InvalidParameterException error) {
                 log.error(EXCEPTION_WHILE_ADDING_LINEAGE_MAPPING, lineageMapping.toString(), error.toString());
                 restExceptionHandler.captureInvalidParameterException(response, error);
@@ -560,37 +571,49 @@ public class DataEngineRESTServices {
 
         log.trace(DEBUG_MESSAGE_METHOD_DETAILS, methodName, processes);
 
+        ProcessListResponse response = new ProcessListResponse();
+        ExecutorService processingWorkers;
+        try {
+            processingWorkers = instanceHandler.getProcessingWorkers(userId, serverName, methodName);
+        } catch (InvalidParameterException error) {
+            restExceptionHandler.captureInvalidParameterException(response, error);
+            return response;
+        } catch (PropertyServerException error) {
+            restExceptionHandler.capturePropertyServerException(response, error);
+            return response;
+        } catch (UserNotAuthorizedException error) {
+            restExceptionHandler.captureUserNotAuthorizedException(response, error);
+            return response;
+        }
+
         Predicate<? super Process> hasPortImplementationsPredicate = process -> CollectionUtils.isNotEmpty(process.getPortImplementations());
-        Map<Boolean, List<Process>> partitionedProcesses = processes.parallelStream().collect(partitioningBy(hasPortImplementationsPredicate));
+        Map<Boolean, List<Process>> partitionedProcesses = processes.stream().collect(partitioningBy(hasPortImplementationsPredicate));
 
-        List<GUIDResponse> createdProcesses = new ArrayList<>();
-        List<GUIDResponse> failedProcesses = new ArrayList<>();
+        List<GUIDResponse> createdProcesses = Collections.synchronizedList(new ArrayList<>());
+        List<GUIDResponse> failedProcesses = Collections.synchronizedList(new ArrayList<>());
         Consumer<Process> processConsumer = process ->
         {
             GUIDResponse guidResponse = createOrUpdateProcess(userId, serverName, process, externalSourceName);
             if (guidResponse.getRelatedHTTPCode() == HttpStatus.OK.value()) {
-                String processGUID = guidResponse.getGUID();
-                process.setGUID(processGUID);
-                VoidResponse updateStatusResponse = updateProcessStatus(userId, serverName, processGUID, InstanceStatus.ACTIVE);
-                if (updateStatusResponse.getRelatedHTTPCode() != 200) {
-                    captureException(updateStatusResponse, guidResponse);
-                }
+                process.setGUID(guidResponse.getGUID());
                 createdProcesses.add(guidResponse);
             } else {
                 failedProcesses.add(guidResponse);
             }
         };
 
-        partitionedProcesses.get(Boolean.TRUE).parallelStream().forEach(processConsumer);
+        runInParallel(processingWorkers, partitionedProcesses.get(Boolean.TRUE), processConsumer);
         // processes that have port aliases can not be processed in parallel, as multiple processes can define the same port alias
         partitionedProcesses.get(Boolean.FALSE).forEach(processConsumer);
 
-        ProcessListResponse response = new ProcessListResponse();
-        response.setGUIDs(createdProcesses.parallelStream().map(GUIDResponse::getGUID).collect(Collectors.toList()));
+        response.setGUIDs(createdProcesses.stream().map(GUIDResponse::getGUID).collect(Collectors.toList()));
         handleFailedProcesses(response, failedProcesses);
 
         addProcessHierarchyRelationships(userId, serverName, processes, response, externalSourceName);
 
+        // each process stays in DRAFT until its lineage mappings have been created
+        addLineageMappingsAndActivateProcesses(userId, serverName, processes, response, externalSourceName, processingWorkers);
+
         log.debug(DEBUG_MESSAGE_METHOD_RETURN, methodName, response);
 
         return response;
@@ -797,7 +820,6 @@ public class DataEngineRESTServices {
         String qualifiedName = process.getQualifiedName();
         List<PortImplementation> portImplementations = process.getPortImplementations();
         List<PortAlias> portAliases = process.getPortAliases();
-        List<LineageMapping> lineageMappings = process.getLineageMappings();
         UpdateSemantic updateSemantic = process.getUpdateSemantic();
 
         GUIDResponse response = new GUIDResponse();
@@ -839,8 +861,6 @@ public class DataEngineRESTServices {
                     Stream.concat(portImplementationGUIDs.stream(), portAliasGUIDs.stream()).collect(Collectors.toSet()), response,
                     externalSourceName);
 
-            addLineageMappings(userId, serverName, lineageMappings, response, externalSourceName);
-
             log.info("Data Engine OMAS has created or updated a Process with qualified name {} and guid {}", qualifiedName, processGUID);
 
             response.setGUID(processGUID);
@@ -908,6 +928,212 @@ public class DataEngineRESTServices {
         });
     }
 
+    /**
+     * Create the lineage mappings of the successfully created processes and then set each process to ACTIVE. This is done once all of
+     * the processes have been created, so that the lineage mappings can link the schema attributes of different processes, and the
+     * schema attributes shared by the lineage mappings of several processes are only retrieved once. The processes are handled in
+     * parallel by the processing workers; a process is only activated once all of its lineage mappings exist, and a lineage mapping
+     * shared by several processes is only created once. The processes with lineage mappings that could not be created stay in DRAFT
+     * and are moved to the failed GUIDs of the response.
+     */
+    private void addLineageMappingsAndActivateProcesses(String userId, String serverName, List<Process> processes,
+                                                        ProcessListResponse response, String externalSourceName,
+                                                        ExecutorService processingWorkers) {
+        final String methodName = "addLineageMappingsAndActivateProcesses";
+
+        List<Process> createdProcesses = processes.stream()
+                .filter(process -> response.getGUIDs().contains(process.getGUID()))
+                .collect(Collectors.toList());
+        List<LineageMapping> lineageMappings = createdProcesses.stream()
+                .map(Process::getLineageMappings)
+                .filter(CollectionUtils::isNotEmpty)
+                .flatMap(Collection::stream)
+                .distinct()
+                .collect(Collectors.toList());
+
+        DataEngineSchemaTypeHandler dataEngineSchemaTypeHandler = null;
+        Map<String, String> schemaAttributeGUIDs = Collections.emptyMap();
+        if (!lineageMappings.isEmpty()) {
+            try {
+                dataEngineSchemaTypeHandler = instanceHandler.getDataEngineSchemaTypeHandler(userId, serverName, methodName);
+                schemaAttributeGUIDs = findSchemaAttributeGUIDs(userId, dataEngineSchemaTypeHandler, lineageMappings);
+            } catch (InvalidParameterException error) {
+                log.error(EXCEPTION_WHILE_ADDING_LINEAGE_MAPPING, methodName, error.toString());
+                restExceptionHandler.captureInvalidParameterException(response, error);
+            } catch (PropertyServerException error) {
+                log.error(EXCEPTION_WHILE_ADDING_LINEAGE_MAPPING, methodName, error.toString());
+                restExceptionHandler.capturePropertyServerException(response, error);
+            } catch (UserNotAuthorizedException error) {
+                log.error(EXCEPTION_WHILE_ADDING_LINEAGE_MAPPING, methodName, error.toString());
+                restExceptionHandler.captureUserNotAuthorizedException(response, error);
+            }
+        }
+
+        DataEngineSchemaTypeHandler lineageMappingHandler = dataEngineSchemaTypeHandler;
+        Map<String, String> lineageMappingSchemaAttributeGUIDs = schemaAttributeGUIDs;
+        Map<LineageMapping, CompletableFuture<Boolean>> claimedLineageMappings = new ConcurrentHashMap<>();
+        Set<String> failedProcessGUIDs = Collections.synchronizedSet(new HashSet<>());
+
+        runInParallel(processingWorkers, createdProcesses, process -> {
+            if (!addProcessLineageMappings(userId, process, lineageMappingHandler, lineageMappingSchemaAttributeGUIDs,
+                    claimedLineageMappings, response, externalSourceName)) {
+                failedProcessGUIDs.add(process.getGUID());
+                return;
+            }
+
+            VoidResponse updateStatusResponse = updateProcessStatus(userId, serverName, process.getGUID(), InstanceStatus.ACTIVE);
+            if (updateStatusResponse.getRelatedHTTPCode() != HttpStatus.OK.value()) {
+                synchronized (response) {
+                    captureException(updateStatusResponse, response);
+                }
+            }
+        });
+
+        List<String> activatedProcessGUIDs = new ArrayList<>();
+        List<String> failedGUIDs = new ArrayList<>();
+        if (response.getFailedGUIDs() != null) {
+            failedGUIDs.addAll(response.getFailedGUIDs());
+        }
+        for (Process process : createdProcesses) {
+            if (failedProcessGUIDs.contains(process.getGUID())) {
+                failedGUIDs.add(process.getGUID());
+            } else {
+                activatedProcessGUIDs.add(process.getGUID());
+            }
+        }
+
+        response.setGUIDs(activatedProcessGUIDs);
+        response.setFailedGUIDs(failedGUIDs);
+    }
+
+    /**
+     * Create the lineage mappings of a process. A lineage mapping shared with other processes is created by the first process that
+     * claims it; the other processes wait for its outcome once they have created their own lineage mappings, so two processes never
+     * wait on each other.
+     *
+     * @return true if all of the lineage mappings of the process exist
+     */
+    private boolean addProcessLineageMappings(String userId, Process process, DataEngineSchemaTypeHandler dataEngineSchemaTypeHandler,
+                                              Map<String, String> schemaAttributeGUIDs,
+                                              Map<LineageMapping, CompletableFuture<Boolean>> claimedLineageMappings,
+                                              ProcessListResponse response, String externalSourceName) {
+        if (CollectionUtils.isEmpty(process.getLineageMappings())) {
+            return true;
+        }
+
+        boolean created = true;
+        List<CompletableFuture<Boolean>> lineageMappingsOfOtherProcesses = new ArrayList<>();
+        for (LineageMapping lineageMapping : process.getLineageMappings()) {
+            CompletableFuture<Boolean> claim = new CompletableFuture<>();
+            CompletableFuture<Boolean> existingClaim = claimedLineageMappings.putIfAbsent(lineageMapping, claim);
+            if (existingClaim != null) {
+                lineageMappingsOfOtherProcesses.add(existingClaim);
+                continue;
+            }
+            try {
+                boolean lineageMappingCreated = dataEngineSchemaTypeHandler != null &&
+                        addLineageMapping(userId, dataEngineSchemaTypeHandler, lineageMapping, schemaAttributeGUIDs, response,
+                                externalSourceName);
+                created = created && lineageMappingCreated;
+                claim.complete(lineageMappingCreated);
+            } finally {
+                claim.complete(false);
+            }
+        }
+
+        for (CompletableFuture<Boolean> lineageMapping : lineageMappingsOfOtherProcesses) {
+            created = lineageMapping.join() && created;
+        }
+
+        return created;
+    }
+
+    private boolean addLineageMapping(String userId, DataEngineSchemaTypeHandler dataEngineSchemaTypeHandler, LineageMapping lineageMapping,
+                                      Map<String, String> schemaAttributeGUIDs, ProcessListResponse response, String externalSourceName) {
+        try {
+            dataEngineSchemaTypeHandler.addLineageMappingRelationship(userId, lineageMapping.getSourceAttribute(),
+                    lineageMapping.getTargetAttribute(), schemaAttributeGUIDs, externalSourceName);
+            return true;
+        } catch (InvalidParameterException error) {
+            log.error(EXCEPTION_WHILE_ADDING_LINEAGE_MAPPING, lineageMapping.toString(), error.toString());
+            synchronized (response) {
+                restExceptionHandler.captureInvalidParameterException(response, error);
+            }
+        } catch (PropertyServerException error) {
+            log.error(EXCEPTION_WHILE_ADDING_LINEAGE_MAPPING, lineageMapping.toString(), error.toString());
+            synchronized (response) {
+                restExceptionHandler.capturePropertyServerException(response, error);
+            }
+        } catch (UserNotAuthorizedException error) {
+            log.error(EXCEPTION_WHILE_ADDING_LINEAGE_MAPPING, lineageMapping.toString(), error.toString());
+            synchronized (response) {
+                restExceptionHandler.captureUserNotAuthorizedException(response, error);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Run the task for each of the items on the processing workers and wait for all of them to finish. The items are handled on the
+     * calling thread if there are no workers, or if the workers no longer accept tasks because the server is shutting down.
+     */
+    private <T> void runInParallel(ExecutorService processingWorkers, List<T> items, Consumer<T> task) {
+        if (processingWorkers == null || items.size() < 2) {
+            items.forEach(task);
+            return;
+        }
+
+        List<Future<?>> results = new ArrayList<>();
+        for (T item : items) {
+            try {
+                results.add(processingWorkers.submit(() -> task.accept(item)));
+            } catch (RejectedExecutionException error) {
+                task.accept(item);
+            }
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                results.get(i).get();
+            } catch (InterruptedException error) {
+                Thread.currentThread().interrupt();
+                results.subList(i, results.size()).forEach(result -> result.cancel(true));
+                throw new IllegalStateException(error);
+            } catch (ExecutionException error) {
+                results.subList(i + 1, results.size()).forEach(result -> result.cancel(true));
+                if (error.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) error.getCause();
+                }
+                throw new IllegalStateException(error.getCause());
+            }
+        }
+    }
+
+    /**
+     * Retrieve the GUIDs of the schema attributes linked by the lineage mappings. Each distinct qualified name is retrieved once.
+     * The schema attributes that are not found, or can not be retrieved, are left out of the map and are reported when the lineage
+     * mapping is created.
+     */
+    private Map<String, String> findSchemaAttributeGUIDs(String userId, DataEngineSchemaTypeHandler dataEngineSchemaTypeHandler,
+                                                         List<LineageMapping> lineageMappings) {
+        Set<String> qualifiedNames = lineageMappings.stream()
+                .flatMap(lineageMapping -> Stream.of(lineageMapping.getSourceAttribute(), lineageMapping.getTargetAttribute()))
+                .filter(StringUtils::isNotEmpty)
+                .collect(Collectors.toSet());
+
+        Map<String, String> schemaAttributeGUIDs = new HashMap<>();
+        for (String qualifiedName : qualifiedNames) {
+            try {
+                dataEngineSchemaTypeHandler.findSchemaAttributeEntity(userId, qualifiedName)
+                        .ifPresent(entityDetail -> schemaAttributeGUIDs.put(qualifiedName, entityDetail.getGUID()));
+            } catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException error) {
+                log.debug("Exception while retrieving schema attribute {} : {}", qualifiedName, error.toString());
+            }
+        }
+
+        return schemaAttributeGUIDs;
+    }
+
     private void addProcessPortRelationships(String userId, String serverName, String processGUID, Set<String> portGUIDs, GUIDResponse response,
                                              String externalSourceName) throws InvalidParameterException, PropertyServerException,
                                                                                UserNotAuthorizedException {
@@ -963,7 +1189,7 @@ public class DataEngineRESTServices {
 
     private Set<String> createOrUpdatePortImplementations(String userId, String serverName, List<PortImplementation> portImplementations,
                                                           GUIDResponse response, String externalSourceName) {
-        Set<String> portImplementationGUIDs = new HashSet<>();
+        Set<String> portImplementationGUIDs = Collections.synchronizedSet(new HashSet<>());
 
         if (CollectionUtils.isNotEmpty(portImplementations)) {
             portImplementations.parallelStream().forEach(portImplementation ->
@@ -986,7 +1212,7 @@ public class DataEngineRESTServices {
 
     private Set<String> createOrUpdatePortAliases(String userId, String serverName, List<PortAlias> portAliases, GUIDResponse response,
                                                   String externalSourceName) {
-        Set<String> portAliasGUIDs = new HashSet<>();
+        Set<String> portAliasGUIDs = Collections.synchronizedSet(new HashSet<>());
 
         if (CollectionUtils.isNotEmpty(portAliases)) {
             portAliases.parallelStream().forEach(portAlias -> {
@@ -54,9 +54,12 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -73,6 +76,7 @@ class DataEngineRESTServicesTest {
     private static final String SERVER_NAME = "server";
     private static final String USER = "user";
     private static final String QUALIFIED_NAME = "qualifiedName";
+    private static final String SECOND_QUALIFIED_NAME = "secondQualifiedName";
     private static final String NAME = "name";
     private static final String DESCRIPTION = "desc";
     private static final String TYPE = "type";
@@ -636,6 +640,99 @@ class DataEngineRESTServicesTest {
         assertEquals(GUID, response.getGUIDs().get(0));
     }
 
+    @Test
+    void createProcesses_withSharedLineageMappings() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        mockSchemaTypeHandler("addAnchorGUID");
+        mockSchemaTypeHandler("addLineageMappingsAndActivateProcesses");
+        mockProcessHandler("createOrUpdateProcess");
+        mockProcessHandler("updateProcessStatus");
+
+        Process firstProcess = getProcessWithLineageMappings(QUALIFIED_NAME);
+        Process secondProcess = getProcessWithLineageMappings(SECOND_QUALIFIED_NAME);
+        when(processHandler.createProcess(USER, firstProcess, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(GUID);
+        when(processHandler.createProcess(USER, secondProcess, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(PROCESS_GUID);
+        Optional<EntityDetail> sourceAttributeEntity = mockEntityDetail(SCHEMA_GUID);
+        when(dataEngineSchemaTypeHandler.findSchemaAttributeEntity(USER, SOURCE_QUALIFIED_NAME)).thenReturn(sourceAttributeEntity);
+        Optional<EntityDetail> targetAttributeEntity = mockEntityDetail(PORT_GUID);
+        when(dataEngineSchemaTypeHandler.findSchemaAttributeEntity(USER, TARGET_QUALIFIED_NAME)).thenReturn(targetAttributeEntity);
+
+        ProcessesRequestBody requestBody = mockProcessesRequestBody(Arrays.asList(firstProcess, secondProcess));
+
+        ProcessListResponse response = dataEngineRESTServices.createOrUpdateProcesses(USER, SERVER_NAME, requestBody);
+
+        verify(dataEngineSchemaTypeHandler, times(1)).findSchemaAttributeEntity(USER, SOURCE_QUALIFIED_NAME);
+        verify(dataEngineSchemaTypeHandler, times(1)).findSchemaAttributeEntity(USER, TARGET_QUALIFIED_NAME);
+        verify(dataEngineSchemaTypeHandler, times(1)).addLineageMappingRelationship(eq(USER), eq(SOURCE_QUALIFIED_NAME),
+                eq(TARGET_QUALIFIED_NAME), anyMap(), eq(EXTERNAL_SOURCE_DE_QUALIFIED_NAME));
+
+        verify(processHandler, times(1)).updateProcessStatus(USER, GUID, InstanceStatus.ACTIVE);
+        verify(processHandler, times(1)).updateProcessStatus(USER, PROCESS_GUID, InstanceStatus.ACTIVE);
+        assertEquals(new HashSet<>(Arrays.asList(GUID, PROCESS_GUID)), new HashSet<>(response.getGUIDs()));
+    }
+
+    @Test
+    void createProcesses_withSharedLineageMappings_onProcessingWorkers() throws InvalidParameterException, PropertyServerException,
+                                                                                UserNotAuthorizedException {
+        ExecutorService processingWorkers = Executors.newFixedThreadPool(2);
+        when(instanceHandler.getProcessingWorkers(USER, SERVER_NAME, "createOrUpdateProcesses")).thenReturn(processingWorkers);
+        mockSchemaTypeHandler("addAnchorGUID");
+        mockSchemaTypeHandler("addLineageMappingsAndActivateProcesses");
+        mockProcessHandler("createOrUpdateProcess");
+        mockProcessHandler("updateProcessStatus");
+
+        Process firstProcess = getProcessWithLineageMappings(QUALIFIED_NAME);
+        Process secondProcess = getProcessWithLineageMappings(SECOND_QUALIFIED_NAME);
+        when(processHandler.createProcess(USER, firstProcess, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(GUID);
+        when(processHandler.createProcess(USER, secondProcess, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(PROCESS_GUID);
+        Optional<EntityDetail> sourceAttributeEntity = mockEntityDetail(SCHEMA_GUID);
+        when(dataEngineSchemaTypeHandler.findSchemaAttributeEntity(USER, SOURCE_QUALIFIED_NAME)).thenReturn(sourceAttributeEntity);
+        Optional<EntityDetail> targetAttributeEntity = mockEntityDetail(PORT_GUID);
+        when(dataEngineSchemaTypeHandler.findSchemaAttributeEntity(USER, TARGET_QUALIFIED_NAME)).thenReturn(targetAttributeEntity);
+
+        ProcessesRequestBody requestBody = mockProcessesRequestBody(Arrays.asList(firstProcess, secondProcess));
+
+        ProcessListResponse response;
+        try {
+            response = dataEngineRESTServices.createOrUpdateProcesses(USER, SERVER_NAME, requestBody);
+        } finally {
+            processingWorkers.shutdownNow();
+        }
+
+        verify(dataEngineSchemaTypeHandler, times(1)).addLineageMappingRelationship(eq(USER), eq(SOURCE_QUALIFIED_NAME),
+                eq(TARGET_QUALIFIED_NAME), anyMap(), eq(EXTERNAL_SOURCE_DE_QUALIFIED_NAME));
+        verify(processHandler, times(1)).updateProcessStatus(USER, GUID, InstanceStatus.ACTIVE);
+        verify(processHandler, times(1)).updateProcessStatus(USER, PROCESS_GUID, InstanceStatus.ACTIVE);
+        assertEquals(Arrays.asList(GUID, PROCESS_GUID), response.getGUIDs());
+    }
+
+    @Test
+    void createProcess_withFailedLineageMapping_staysInDraft() throws InvalidParameterException, PropertyServerException,
+                                                                      UserNotAuthorizedException, InvocationTargetException,
+                                                                      NoSuchMethodException, InstantiationException,
+                                                                      IllegalAccessException {
+        mockSchemaTypeHandler("addAnchorGUID");
+        mockSchemaTypeHandler("addLineageMappingsAndActivateProcesses");
+        mockProcessHandler("createOrUpdateProcess");
+        mockProcessHandler("updateProcessStatus");
+
+        Process processWithLineageMappings = getProcessWithLineageMappings(QUALIFIED_NAME);
+        when(processHandler.createProcess(USER, processWithLineageMappings, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(GUID);
+
+        String methodName = "addLineageMappingRelationship";
+        InvalidParameterException mockedException = mockException(InvalidParameterException.class, methodName);
+        doThrow(mockedException).when(dataEngineSchemaTypeHandler).addLineageMappingRelationship(eq(USER), eq(SOURCE_QUALIFIED_NAME),
+                eq(TARGET_QUALIFIED_NAME), anyMap(), eq(EXTERNAL_SOURCE_DE_QUALIFIED_NAME));
+
+        ProcessesRequestBody requestBody = mockProcessesRequestBody(Collections.singletonList(processWithLineageMappings));
+
+        ProcessListResponse response = dataEngineRESTServices.createOrUpdateProcesses(USER, SERVER_NAME, requestBody);
+
+        verify(restExceptionHandler, times(1)).captureInvalidParameterException(any(ProcessListResponse.class), eq(mockedException));
+        verify(processHandler, times(0)).updateProcessStatus(USER, GUID, InstanceStatus.ACTIVE);
+        assertTrue(response.getGUIDs().isEmpty());
+        assertEquals(Collections.singletonList(GUID), response.getFailedGUIDs());
+    }
+
     @Test
     void addPortsToProcess() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
         mockProcessHandler("addPortsToProcess");
@@ -714,8 +811,8 @@ class DataEngineRESTServicesTest {
 
         dataEngineRESTServices.addLineageMappings(USER, SERVER_NAME, requestBody);
 
-        verify(dataEngineSchemaTypeHandler, times(1)).addLineageMappingRelationship(USER, SOURCE_QUALIFIED_NAME,
-                TARGET_QUALIFIED_NAME, EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        verify(dataEngineSchemaTypeHandler, times(1)).addLineageMappingRelationship(eq(USER), eq(SOURCE_QUALIFIED_NAME),
+                eq(TARGET_QUALIFIED_NAME), anyMap(), eq(EXTERNAL_SOURCE_DE_QUALIFIED_NAME));
     }
 
     @Test
@@ -732,8 +829,8 @@ class DataEngineRESTServicesTest {
         LineageMappingsRequestBody requestBody = mockLineageMappingsRequestBody();
 
         InvalidParameterException mockedException = mockException(InvalidParameterException.class, methodName);
-        doThrow(mockedException).when(dataEngineSchemaTypeHandler).addLineageMappingRelationship(USER, SOURCE_QUALIFIED_NAME, TARGET_QUALIFIED_NAME,
-                EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        doThrow(mockedException).when(dataEngineSchemaTypeHandler).addLineageMappingRelationship(eq(USER), eq(SOURCE_QUALIFIED_NAME),
+                eq(TARGET_QUALIFIED_NAME), anyMap(), eq(EXTERNAL_SOURCE_DE_QUALIFIED_NAME));
 
         VoidResponse response = dataEngineRESTServices.addLineageMappings(USER, SERVER_NAME, requestBody);
 
@@ -754,8 +851,8 @@ class DataEngineRESTServicesTest {
         LineageMappingsRequestBody requestBody = mockLineageMappingsRequestBody();
 
         UserNotAuthorizedException mockedException = mockException(UserNotAuthorizedException.class, methodName);
-        doThrow(mockedException).when(dataEngineSchemaTypeHandler).addLineageMappingRelationship(USER, SOURCE_QUALIFIED_NAME, TARGET_QUALIFIED_NAME,
-                EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        doThrow(mockedException).when(dataEngineSchemaTypeHandler).addLineageMappingRelationship(eq(USER), eq(SOURCE_QUALIFIED_NAME),
+                eq(TARGET_QUALIFIED_NAME), anyMap(), eq(EXTERNAL_SOURCE_DE_QUALIFIED_NAME));
 
         VoidResponse response = dataEngineRESTServices.addLineageMappings(USER, SERVER_NAME, requestBody);
 
@@ -819,6 +916,13 @@ class DataEngineRESTServicesTest {
         return requestBody;
     }
 
+    private ProcessesRequestBody mockProcessesRequestBody(List<Process> processes) {
+        ProcessesRequestBody requestBody = new ProcessesRequestBody();
+        requestBody.setProcesses(processes);
+        requestBody.setExternalSourceName(EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        return requestBody;
+    }
+
     private PortListRequestBody mockPortListRequestBody() {
         PortListRequestBody requestBody = new PortListRequestBody();
         requestBody.setPorts(Collections.singletonList(QUALIFIED_NAME));
@@ -905,4 +1009,11 @@ class DataEngineRESTServicesTest {
 
         return process;
     }
-}
\ No newline at end of file
+
+    private Process getProcessWithLineageMappings(String qualifiedName) {
+        Process process = getProcess(Collections.emptyList(), Collections.emptyList(), Collections.singletonList(getLineageMapping()));
+        process.setQualifiedName(qualifiedName);
+
+        return process;
+    }
+}
@@ -71,7 +71,7 @@ public class DigitalServiceRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -9,6 +9,7 @@ import org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file.F
 import org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.console.ConsoleAuditLogStoreProvider;
 import org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.eventtopic.EventTopicAuditLogStoreProvider;
 import org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file.FileBasedAuditLogStoreProvider;
+import org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file.RollingFileAuditLogStoreProvider;
 import org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.slf4j.SLF4JAuditLogStoreProvider;
 import org.odpi.openmetadata.adapters.repositoryservices.cohortregistrystore.file.FileBasedRegistryStoreProvider;
 import org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSRepositoryConnectorProvider;
@@ -185,6 +186,38 @@ public class ConnectorConfigurationFactory
     }
 
 
+    /**
+     * Return the connection for the rolling file audit log.
+     * The log records are appended to rolling segment files that are indexed so the audit log can be queried.
+     * The segments are stored in a different directory to the one used by the file-based audit log.
+     *
+     * @param localServerName   name of the local server
+     * @param supportedSeverities list of severities that should be logged to this destination (empty list means all)
+     * @return OCF Connection used to create the rolling file audit logger
+     */
+    public Connection getRollingFileAuditLogConnection(String       localServerName,
+                                                       List<String> supportedSeverities)
+    {
+        final String destinationName = "Rolling files";
+
+        String endpointAddress = "data/servers/" + localServerName + "/logs/auditlog-segments";
+
+        Endpoint endpoint = new Endpoint();
+
+        endpoint.setAddress(endpointAddress);
+
+        Connection connection = new Connection();
+
+        connection.setDisplayName(destinationName + " in " + endpointAddress);
+        connection.setEndpoint(endpoint);
+        connection.setConnectorType(getConnectorType(RollingFileAuditLogStoreProvider.class.getName()));
+
+        setSupportedAuditLogSeverities(supportedSeverities, connection);
+
+        return connection;
+    }
+
+
     /**
      * Return the connection for the file-based audit log.
      * By default, the File-based Audit log is stored in a directory called localServerName.auditlog.
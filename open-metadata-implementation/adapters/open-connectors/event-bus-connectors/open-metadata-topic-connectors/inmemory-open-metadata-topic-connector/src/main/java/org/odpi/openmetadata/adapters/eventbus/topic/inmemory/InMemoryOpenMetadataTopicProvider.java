@@ -38,6 +38,7 @@ public class InMemoryOpenMetadataTopicProvider extends OpenMetadataTopicProvider
 
         List<String> recognizedConfigurationProperties = new ArrayList<>();
         recognizedConfigurationProperties.add(sleepTimeProperty);
+        recognizedConfigurationProperties.add(incomingEventQueueSizeProperty);
 
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
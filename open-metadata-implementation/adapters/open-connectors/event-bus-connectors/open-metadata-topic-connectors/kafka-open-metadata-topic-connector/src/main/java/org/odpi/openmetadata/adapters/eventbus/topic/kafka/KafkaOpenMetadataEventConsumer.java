@@ -230,10 +230,6 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                 }
                 recoverAfterError();
             }
-            finally
-            {
-                awaitNextPollingTime();
-            }
         }
 
         if (consumer != null)
@@ -6,15 +6,18 @@ import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.errors.RetriableException;
-import org.apache.kafka.common.errors.WakeupException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * KafkaOpenMetadataEventProducer manages the sending of events on Apache Kafka.  This is done through called to
@@ -23,22 +26,37 @@ import java.util.concurrent.TimeUnit;
  * Kafka is not always running.  When this occurs, the call to publish events hangs and this is disruptive to the
  * rest of the server.  So the role of this class is to manage the sending of events in a separate thread
  * and manage the logging of errors to alert the operations team that Kafka needs restarting.
+ *
+ * The events are passed to Kafka in batches without waiting for each one to be acknowledged.  The result of
+ * each send is returned through a callback.  Events that fail with a retriable error are resent up to the
+ * configured number of retries.  After that they are sent to the dead letter topic (if configured) and
+ * logged in the audit log.
+ *
+ * Each event is given a sequence number when it is buffered.  Events waiting to be resent are kept in sequence
+ * order and no newer event is passed to Kafka while an older one is waiting to be resent.  If the producer thread
+ * ends, the connector moves the events that have not been sent to the producer that replaces this one.
  */
 public class KafkaOpenMetadataEventProducer implements Runnable
 {
-    private final List<String> sendBuffer = Collections.synchronizedList(new ArrayList<>());
-
     private static final Logger log = LoggerFactory.getLogger(KafkaOpenMetadataEventProducer.class);
 
     private static final String       defaultThreadName = "KafkaProducer for topic ";
 
-    private volatile boolean running = true;
+    private final BlockingQueue<BufferedEvent> sendBuffer;
+    private final Queue<BufferedEvent>         resendBuffer = new PriorityBlockingQueue<>(11, Comparator.comparingLong(BufferedEvent::getSequenceNumber));
+
+    private volatile boolean running     = true;
+    private volatile boolean transferred = false;
 
     private final AuditLog auditLog;
     private final String   listenerThreadName;
     private final String   topicName;
-    private final int sleepTime = 1000;
-    private static final long recoverySleepTimeSec = 10L;
+    private final String   deadLetterTopicName;
+    private final int      maxBatchSize;
+    private final long     pollTimeout;
+    private final int      maxSendRetries;
+    private final long     recoverySleepTimeSec;
+    private final long     closeTimeoutSec;
 
     private final String                          localServerId;
     private final Properties                      producerProperties;
@@ -46,7 +64,9 @@ public class KafkaOpenMetadataEventProducer implements Runnable
 
     private KafkaOpenMetadataTopicConnector connector;
 
-    private long    messageSendCount = 0;
+    private final AtomicLong    messageSendCount   = new AtomicLong(0);
+    private final AtomicLong    nextSequenceNumber = new AtomicLong(0);
+    private final AtomicBoolean inErrorLoop      = new AtomicBoolean(false);
 
 
     /**
@@ -55,15 +75,17 @@ public class KafkaOpenMetadataEventProducer implements Runnable
      *
      * @param topicName name of the topic to listen on.
      * @param localServerId identifier to enable receiver to identify that an event came from this server.
+     * @param producerConfiguration egeria specific properties for the producer.
      * @param producerProperties properties for the consumer.
      * @param connector connector holding the inbound listeners.
      * @param auditLog  audit log for this component.
      */
-    KafkaOpenMetadataEventProducer(String                          topicName,
-                                   String                          localServerId,
-                                   Properties                      producerProperties,
-                                   KafkaOpenMetadataTopicConnector connector,
-                                   AuditLog                        auditLog)
+    KafkaOpenMetadataEventProducer(String                                      topicName,
+                                   String                                      localServerId,
+                                   KafkaOpenMetadataEventProducerConfiguration producerConfiguration,
+                                   Properties                                  producerProperties,
+                                   KafkaOpenMetadataTopicConnector             connector,
+                                   AuditLog                                    auditLog)
     {
         this.auditLog = auditLog;
         this.topicName = topicName;
@@ -72,6 +94,14 @@ public class KafkaOpenMetadataEventProducer implements Runnable
         this.producerProperties = producerProperties;
         this.listenerThreadName = defaultThreadName + topicName;
 
+        this.sendBuffer = new LinkedBlockingQueue<>(producerConfiguration.getIntProperty(KafkaOpenMetadataEventProducerProperty.SEND_BUFFER_SIZE));
+        this.maxBatchSize = producerConfiguration.getIntProperty(KafkaOpenMetadataEventProducerProperty.MAX_BATCH_SIZE);
+        this.pollTimeout = producerConfiguration.getLongProperty(KafkaOpenMetadataEventProducerProperty.POLL_TIMEOUT);
+        this.maxSendRetries = producerConfiguration.getIntProperty(KafkaOpenMetadataEventProducerProperty.MAX_SEND_RETRIES);
+        this.recoverySleepTimeSec = producerConfiguration.getLongProperty(KafkaOpenMetadataEventProducerProperty.RECOVERY_SLEEP_TIME);
+        this.closeTimeoutSec = producerConfiguration.getLongProperty(KafkaOpenMetadataEventProducerProperty.CLOSE_TIMEOUT);
+        this.deadLetterTopicName = producerConfiguration.getOptionalProperty(KafkaOpenMetadataEventProducerProperty.DEAD_LETTER_TOPIC);
+
         final String           actionDescription = "new producer";
 
         auditLog.logMessage(actionDescription,
@@ -81,99 +111,135 @@ public class KafkaOpenMetadataEventProducer implements Runnable
     }
 
 
-
     /**
-     * Sends the supplied event to the topic.  It retries if Kafka is not responding.
+     * Passes a batch of events to Kafka.  The events are sent asynchronously and the result of each send
+     * is returned to handleSendResult.  If Kafka is not responding, the unsent events are kept for
+     * the next attempt.  If an older event is waiting to be resent, the rest of the batch is sent after it.
      *
-     * @param event object containing the event properties.
-     * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
+     * @param batch events to send
+     * @return false if Kafka reported a retriable error and needs time to recover
      */
-    private void publishEvent(String event) throws ConnectorCheckedException
+    private boolean publishEvents(List<BufferedEvent> batch)
     {
-        final String methodName = "publishEvent";
+        for (int i = 0; i < batch.size(); i++)
+        {
+            BufferedEvent bufferedEvent = batch.get(i);
+            BufferedEvent waitingEvent  = resendBuffer.peek();
 
-        boolean                  eventSent = false;
-        long                     eventRetryCount = 0;
+            if ((waitingEvent != null) && (waitingEvent.sequenceNumber < bufferedEvent.sequenceNumber))
+            {
+                resendBuffer.addAll(batch.subList(i, batch.size()));
+                return true;
+            }
 
-        if (producer == null)
-        {
-            log.debug("Creating Producer");
-            producer = new KafkaProducer<>(producerProperties);
-        }
-        while (!eventSent)
-        {
             try
             {
-                log.debug("Sending message {0}" + event);
-                ProducerRecord<String, String> record = new ProducerRecord<>(topicName, localServerId, event);
-                producer.send(record).get();
-                eventSent = true;
-                messageSendCount++;
+                if (producer == null)
+                {
+                    log.debug("Creating Producer");
+                    producer = new KafkaProducer<>(producerProperties);
+                }
+
+                log.debug("Sending message {}", bufferedEvent.event);
+                ProducerRecord<String, String> record = new ProducerRecord<>(bufferedEvent.topicName, localServerId, bufferedEvent.event);
+                producer.send(record, (metadata, error) -> handleSendResult(bufferedEvent, error));
             }
-            catch (ExecutionException error)
+            catch (Exception error)
             {
-                /*
-                 * This may be a simple timeout or something else more
-                 */
-                log.debug("Kafka had trouble sending event: " + event + "exception message is " + error.getMessage());
+                log.debug("Kafka had trouble sending event: {} exception message is {}", bufferedEvent.event, error.getMessage());
 
-                if (!isExceptionRetryable(error))
-                {
-                    /* kafka thinks this isn't a retryable problem */
-                    /* so let the caller try */
-
-                    producer.close();
-                    producer = null;
-
-                    throw new ConnectorCheckedException(KafkaOpenMetadataTopicConnectorErrorCode.ERROR_SENDING_EVENT.getMessageDefinition(error.getClass().getName(),
-                                                                                                                                          topicName,
-                                                                                                                                          error.getMessage()),
-                                                                                                                                          this.getClass().getName(),
-                                                                                                                                          methodName,
-                                                                                                                                          error);
-                }
-                if (eventRetryCount == 10)
+                handleSendResult(bufferedEvent, error);
+
+                if (isExceptionRetryable(error))
                 {
-                    /* we've retried now let the caller retry */
-                    producer.close();
-                    producer = null;
-                    log.error("Retryable Exception closed producer ");
-                    break;
+                    /*
+                     * Kafka is not available so keep the rest of the batch until it has had time to recover.
+                     */
+                    resendBuffer.addAll(batch.subList(i + 1, batch.size()));
+                    return false;
                 }
-                else
-                {
-                    if (eventRetryCount == 0)
-                    {
-                        auditLog.logMessage(methodName,
-                                            KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SEND_IN_ERROR_LOOP.getMessageDefinition(topicName,
-                                                                                                                                   Long.toString(messageSendCount),
-                                                                                                                                   Long.toString(this.getSendBufferSize()),
-                                                                                                                                   error.getMessage()));
-                    }
 
-                    eventRetryCount++;
-                }
+                /*
+                 * The producer may not be usable after an unexpected error so it is recreated for the next event.
+                 */
+                log.error("Exception in sendEvent " + error.toString());
+                safeClose(Duration.ZERO);
             }
-            catch (WakeupException error)
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Process the result of sending an event.  This is called from the Kafka producer's thread
+     * so it must not block.
+     *
+     * @param bufferedEvent event that was sent
+     * @param error exception returned by Kafka or null if the event was sent successfully
+     */
+    private void handleSendResult(BufferedEvent bufferedEvent,
+                                  Exception     error)
+    {
+        final String methodName = "handleSendResult";
+
+        if (error == null)
+        {
+            messageSendCount.incrementAndGet();
+            inErrorLoop.set(false);
+        }
+        else if (isRunning() && isExceptionRetryable(error) && bufferedEvent.sendAttempts < maxSendRetries)
+        {
+            if (inErrorLoop.compareAndSet(false, true))
             {
-                log.error("Wake up for shut down " + error.toString());
+                auditLog.logMessage(methodName,
+                                    KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SEND_IN_ERROR_LOOP.getMessageDefinition(topicName,
+                                                                                                                           Long.toString(messageSendCount.get()),
+                                                                                                                           Long.toString(this.getSendBufferSize()),
+                                                                                                                           error.getMessage()));
             }
-            catch (Throwable error)
-            {
-                producer.close();
-                producer = null;
-                log.debug("Send Events Throwable catch block closed producer");
-                log.error("Exception in sendEvent " + error.toString());
 
-                throw new ConnectorCheckedException(KafkaOpenMetadataTopicConnectorErrorCode.ERROR_SENDING_EVENT.getMessageDefinition(error.getClass().getName(),
-                                                                                                                                      topicName,
-                                                                                                                                      error.getMessage()),
-                                                    this.getClass().getName(),
-                                                    methodName,
-                                                    error);
-            }
+            bufferedEvent.sendAttempts++;
+            resendBuffer.add(bufferedEvent);
         }
+        else
+        {
+            sendFailed(bufferedEvent, error);
+        }
+    }
+
 
+    /**
+     * Record that an event could not be sent.  It is passed to the dead letter topic if there is one.
+     *
+     * @param bufferedEvent event that failed
+     * @param error exception returned by Kafka
+     */
+    private void sendFailed(BufferedEvent bufferedEvent,
+                            Exception     error)
+    {
+        final String methodName = "sendFailed";
+
+        if ((deadLetterTopicName != null) && (! bufferedEvent.topicName.equals(deadLetterTopicName)) && isRunning())
+        {
+            auditLog.logMessage(methodName,
+                                KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SENT_TO_DEAD_LETTER_TOPIC.getMessageDefinition(bufferedEvent.topicName,
+                                                                                                                              deadLetterTopicName,
+                                                                                                                              error.getClass().getName(),
+                                                                                                                              error.getMessage()),
+                                bufferedEvent.event);
+
+            resendBuffer.add(new BufferedEvent(deadLetterTopicName, bufferedEvent.event, bufferedEvent.sequenceNumber));
+        }
+        else
+        {
+            auditLog.logMessage(methodName,
+                                KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SEND_FAILED.getMessageDefinition(bufferedEvent.topicName,
+                                                                                                                Integer.toString(bufferedEvent.sendAttempts + 1),
+                                                                                                                error.getClass().getName(),
+                                                                                                                error.getMessage()),
+                                bufferedEvent.event);
+        }
     }
 
 
@@ -187,32 +253,42 @@ public class KafkaOpenMetadataEventProducer implements Runnable
 
         auditLog.logMessage(actionDescription,
                             KafkaOpenMetadataTopicConnectorAuditCode.KAFKA_PRODUCER_START.getMessageDefinition(topicName,
-                                                                                                               String.valueOf(sendBuffer.size())),
+                                                                                                               String.valueOf(getSendBufferSize())),
                             this.producerProperties.toString());
 
+        List<BufferedEvent> batch = new ArrayList<>(maxBatchSize);
 
         while (isRunning())
         {
             try
             {
-                String bufferedEvent = this.getEvent();
-
                 /*
-                 * If there are no events waiting then sleep
+                 * Events waiting to be resent go first.  Otherwise wait for the next new event.
                  */
+                BufferedEvent bufferedEvent = resendBuffer.poll();
+
                 if (bufferedEvent == null)
                 {
-                    TimeUnit.MILLISECONDS.sleep(sleepTime);
+                    bufferedEvent = sendBuffer.poll(pollTimeout, TimeUnit.MILLISECONDS);
                 }
-                else
+
+                if (bufferedEvent != null)
                 {
                     /*
-                     * Send all waiting events
+                     * Send all waiting events, up to the maximum batch size.
                      */
-                    while (bufferedEvent != null)
+                    batch.add(bufferedEvent);
+
+                    while ((batch.size() < maxBatchSize) && ((bufferedEvent = resendBuffer.poll()) != null))
                     {
-                        publishEvent(bufferedEvent);
-                        bufferedEvent = this.getEvent();
+                        batch.add(bufferedEvent);
+                    }
+
+                    sendBuffer.drainTo(batch, maxBatchSize - batch.size());
+
+                    if (! publishEvents(batch))
+                    {
+                        this.recoverAfterError();
                     }
                 }
             }
@@ -233,69 +309,127 @@ public class KafkaOpenMetadataEventProducer implements Runnable
                     break;
                 }
             }
+            finally
+            {
+                batch.clear();
+            }
         }
 
-        /* producer may have already closed by exception handler in publishEvent */
-        if(producer != null) {
-            log.debug("");
-            producer.close();
-            producer = null;
-        }
+        /*
+         * Closing the producer waits for the events already passed to Kafka to be sent.  Events that fail
+         * while it closes are kept in the resend buffer so they can be moved to the next producer.
+         */
+        safeClose(Duration.ofSeconds(closeTimeoutSec));
+        stopRunning();
 
         auditLog.logMessage(actionDescription,
                             KafkaOpenMetadataTopicConnectorAuditCode.KAFKA_PRODUCER_SHUTDOWN.getMessageDefinition(topicName,
                                                                                                                   Integer.toString(getSendBufferSize()),
-                                                                                                                  Long.toString(messageSendCount)),
+                                                                                                                  Long.toString(messageSendCount.get())),
                            this.producerProperties.toString());
     }
 
 
     /**
-     * Supports putting events to the in memory OMRS Topic
+     * Close the Kafka producer if it is open.
      *
-     * @param newEvent  event to publish
+     * @param timeout maximum time to wait for the events passed to Kafka to be sent
      */
-    private void putEvent(String  newEvent)
+    private void safeClose(Duration timeout)
     {
-        sendBuffer.add(newEvent);
+        if (producer != null)
+        {
+            try
+            {
+                producer.close(timeout);
+            }
+            catch (Exception error)
+            {
+                log.debug("Unable to close producer", error);
+            }
+
+            producer = null;
+        }
     }
 
 
     /**
-     * Returns the size of the send buffer
+     * Returns the number of events waiting to be sent.
      *
      * @return int
      */
     private int getSendBufferSize()
     {
-        return sendBuffer.size();
+        return sendBuffer.size() + resendBuffer.size();
     }
 
 
     /**
-     * Returns all of the events found on the in memory OMRS Topic.
+     * Sends the supplied event to the topic.  This waits while the send buffer is full.
      *
-     * @return list of received events.
+     * @param event  OMRSEvent object containing the event properties.
+     * @return false if the event was not accepted because the unsent events have been moved to another producer
      */
-    private String getEvent()
+    public boolean sendEvent(String event)
     {
-        if (sendBuffer.isEmpty())
+        BufferedEvent bufferedEvent = new BufferedEvent(topicName, event, nextSequenceNumber.getAndIncrement());
+
+        try
         {
-            return null;
+            while (! sendBuffer.offer(bufferedEvent, pollTimeout, TimeUnit.MILLISECONDS))
+            {
+                if (transferred)
+                {
+                    return false;
+                }
+            }
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+            return true;
         }
 
-        return sendBuffer.remove(0);
+        /*
+         * If the unsent events were moved while the event was being added, either it was moved with them or
+         * it needs to be sent to the new producer.
+         */
+        return (! transferred) || (! sendBuffer.remove(bufferedEvent));
     }
 
 
     /**
-     * Sends the supplied event to the topic.
+     * Move the events that have not been sent to the producer that replaces this one.  This is called
+     * after the producer thread has ended and before the new producer is started.  The events keep their
+     * order and are sent by the new producer before any events it is passed.
      *
-     * @param event  OMRSEvent object containing the event properties.
+     * @param newProducer producer that replaces this one
      */
-    public void sendEvent(String event)
+    void transferUnsentEvents(KafkaOpenMetadataEventProducer newProducer)
     {
-        this.putEvent(event);
+        transferred = true;
+
+        List<BufferedEvent> unsentEvents = new ArrayList<>();
+        BufferedEvent       bufferedEvent;
+
+        while ((bufferedEvent = resendBuffer.poll()) != null)
+        {
+            unsentEvents.add(bufferedEvent);
+        }
+
+        sendBuffer.drainTo(unsentEvents);
+
+        for (BufferedEvent unsentEvent : unsentEvents)
+        {
+            newProducer.resendBuffer.add(new BufferedEvent(unsentEvent.topicName,
+                                                           unsentEvent.event,
+                                                           newProducer.nextSequenceNumber.getAndIncrement()));
+        }
+
+        if (! unsentEvents.isEmpty())
+        {
+            log.info("Moved {} unsent events for topic {} to the new producer", unsentEvents.size(), topicName);
+        }
     }
 
 
@@ -347,14 +481,39 @@ public class KafkaOpenMetadataEventProducer implements Runnable
 
     private boolean isExceptionRetryable( Throwable throwable)
     {
-
-        Throwable nested = null;
-        while ((nested = throwable.getCause()) != null) {
-             if( nested instanceof RetriableException) {
+        while (throwable != null) {
+             if( throwable instanceof RetriableException) {
                  return true;
              }
            throwable = throwable.getCause();
        }
         return false;
     }
+
+
+    /**
+     * BufferedEvent is an event waiting to be sent along with the topic it is sent to, its place in the
+     * order of events and the number of times it has been resent.
+     */
+    private static class BufferedEvent
+    {
+        private final String topicName;
+        private final String event;
+        private final long   sequenceNumber;
+        private int          sendAttempts = 0;
+
+        BufferedEvent(String topicName,
+                      String event,
+                      long   sequenceNumber)
+        {
+            this.topicName = topicName;
+            this.event = event;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        long getSequenceNumber()
+        {
+            return sequenceNumber;
+        }
+    }
 }
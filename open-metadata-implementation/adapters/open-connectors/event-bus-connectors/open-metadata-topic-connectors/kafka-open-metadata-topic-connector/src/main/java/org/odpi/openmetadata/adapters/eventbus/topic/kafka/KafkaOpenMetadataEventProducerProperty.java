@@ -0,0 +1,70 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+/**
+ * Configurable properties for the KafkaOpenMetadataEventProducer.  These control how events are buffered
+ * before they are passed to the Apache Kafka producer.  The batching of events on the wire is controlled by
+ * the Apache Kafka producer properties such as linger.ms and batch.size.
+ */
+public enum KafkaOpenMetadataEventProducerProperty
+{
+    /*
+     * Controls the maximum number of events waiting to be passed to Kafka.  When this size is reached,
+     * the caller sending an event waits until there is space in the buffer.
+     */
+    SEND_BUFFER_SIZE("send_buffer_size", "10000"),
+
+    /*
+     * The maximum number of events taken from the send buffer and passed to Kafka in one pass.
+     */
+    MAX_BATCH_SIZE("max_batch_size", "500"),
+
+    /*
+     * This specifies how long (in ms) the producer thread waits for a new event before checking
+     * whether it has been asked to shut down.
+     */
+    POLL_TIMEOUT("poll_timeout_ms", "1000"),
+
+    /*
+     * The number of times an event is resent after Kafka reports a retriable error.  Once this is exceeded,
+     * the event is sent to the dead letter topic (if configured) and logged in the audit log.
+     */
+    MAX_SEND_RETRIES("max_send_retries", "10"),
+
+    /*
+     * The name of the topic that receives the events that could not be sent.  There is no
+     * dead letter topic by default.
+     */
+    DEAD_LETTER_TOPIC("dead_letter_topic", null),
+
+    /*
+     * The amount of time to sleep after we encounter a Kafka error, in seconds.
+     */
+    RECOVERY_SLEEP_TIME("recovery_sleep_time_sec", "10"),
+
+    /*
+     * The maximum time (in seconds) to wait for the events already passed to Kafka to be sent
+     * when the producer shuts down.
+     */
+    CLOSE_TIMEOUT("close_timeout_sec", "30");
+
+    private final String propertyName;
+    private final String defaultValue;
+
+    KafkaOpenMetadataEventProducerProperty(String name, String defaultValue)
+    {
+        this.propertyName = name;
+        this.defaultValue = defaultValue;
+    }
+
+    public String getPropertyName()
+    {
+        return propertyName;
+    }
+
+    public String getDefaultValue()
+    {
+        return defaultValue;
+    }
+}
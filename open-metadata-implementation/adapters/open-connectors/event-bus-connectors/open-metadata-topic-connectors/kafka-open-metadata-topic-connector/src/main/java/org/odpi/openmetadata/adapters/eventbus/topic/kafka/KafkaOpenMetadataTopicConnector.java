@@ -32,19 +32,17 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
     
     private final Properties producerProperties = new Properties();
+    private final Properties producerEgeriaProperties = new Properties();
     private final Properties consumerEgeriaProperties = new Properties();
     private final Properties consumerProperties = new Properties();
 
 
     private KafkaOpenMetadataEventConsumer consumer = null;
-    private KafkaOpenMetadataEventProducer producer = null;
+    private volatile KafkaOpenMetadataEventProducer producer = null;
 
     private String       topicName          = null;
     private String       serverId           = null;
 
-    /* this buffer is for consumed events */
-    private final List<IncomingEvent> incomingEventsList = Collections.synchronizedList(new ArrayList<>());
-
     private KafkaProducerExecutor executor = null;
 
     final String                   threadHeader = "Kafka-";
@@ -64,7 +62,16 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
             /* we don't care why the thread ended , we just restart it */
             /* The thread will log on exit and on restart already, so no need to let anyone know */
-            producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, KafkaOpenMetadataTopicConnector.this, auditLog);
+            KafkaOpenMetadataEventProducer newProducer = new KafkaOpenMetadataEventProducer(topicName,
+                                                                                            serverId,
+                                                                                            new KafkaOpenMetadataEventProducerConfiguration(producerEgeriaProperties, auditLog),
+                                                                                            producerProperties,
+                                                                                            KafkaOpenMetadataTopicConnector.this,
+                                                                                            auditLog);
+
+            /* the events the old producer has not sent go first, so they are not lost or overtaken */
+            producer.transferUnsentEvents(newProducer);
+            producer = newProducer;
             producerThread = new Thread(producer, threadHeader + "Producer-" + topicName);
             executor.execute(producerThread);
         }
@@ -84,8 +91,8 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
         producerProperties.put("bootstrap.servers", "localhost:9092");
         producerProperties.put("acks", "all");
         producerProperties.put("retries", 1);
-        producerProperties.put("batch.size", 16384);
-        producerProperties.put("linger.ms", 0);
+        producerProperties.put("batch.size", 65536);
+        producerProperties.put("linger.ms", 5);
         producerProperties.put("buffer.memory", 33554432);
         producerProperties.put("key.serializer", "org.apache.kafka.common.serialization.StringSerializer");
         producerProperties.put("value.serializer", "org.apache.kafka.common.serialization.StringSerializer");
@@ -177,6 +184,9 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
             propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.producerPropertyName);
             copyProperties(propertiesObject, producerProperties);
 
+            propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.egeriaProducerPropertyName);
+            copyProperties(propertiesObject, producerEgeriaProperties);
+
             propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.consumerPropertyName);
             copyProperties(propertiesObject, consumerProperties);
             
@@ -262,7 +272,8 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
         consumerThread = new Thread(consumer, threadHeader + "Consumer-" + topicName);
         consumerThread.start();
 
-        producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, this, auditLog);
+        KafkaOpenMetadataEventProducerConfiguration producerConfig = new KafkaOpenMetadataEventProducerConfiguration(producerEgeriaProperties, auditLog);
+        producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerConfig, producerProperties, this, auditLog);
         producerThread = new Thread(producer, threadHeader + "Producer-" + topicName);
         executor = new KafkaProducerExecutor();
         executor.execute(producerThread);
@@ -280,47 +291,29 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     @Override
     public void sendEvent(String event) throws ConnectorCheckedException
     {
-        if (producer != null)
-        {
-            producer.sendEvent(event);
-        }
-    }
-
-
-    /**
-     * Look to see if there is one of more new events to process.
-     *
-     * @return a list of received events or null
-     */
-    @Override
-    protected List<IncomingEvent> checkForIncomingEvents()
-    {
-        List<IncomingEvent> newEvents = null;
+        KafkaOpenMetadataEventProducer currentProducer = producer;
 
-        // This method is called periodically from a independent thread managed by OpenMetadataTopic
-        // (superclass) so it should not block.
-
-        if ((incomingEventsList != null) && (!incomingEventsList.isEmpty()))
+        /*
+         * The producer returns false if it has been replaced while the event was being added.
+         */
+        while ((currentProducer != null) && (! currentProducer.sendEvent(event)))
         {
-            log.debug("Checking for events.  Number of found events: {}", incomingEventsList.size());
-            newEvents = new ArrayList<>(incomingEventsList);
-
-            // empty incomingEventsList otherwise same events will be sent again
-            incomingEventsList.removeAll(newEvents);
+            Thread.yield();
+            currentProducer = producer;
         }
-
-        return newEvents;
     }
 
+
     /**
-     * Distribute events to other listeners.
+     * Distribute events to other listeners.  The event is passed to the listener thread straight away.
+     * This blocks while the incoming event queue is full.
      *
      * @param event object containing the event properties.
      */
     void distributeToListeners(IncomingEvent event)
     {
         log.debug("distribute event to listeners" + event);
-        incomingEventsList.add(event);
+        addIncomingEvent(event);
     }
 
 
@@ -393,7 +386,7 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
      * @return int
      */
     int getNumberOfUnprocessedEvents() {
-    	return incomingEventsList.size();
+    	return getIncomingEventCount();
     }
 
     private class KafkaStatusChecker {
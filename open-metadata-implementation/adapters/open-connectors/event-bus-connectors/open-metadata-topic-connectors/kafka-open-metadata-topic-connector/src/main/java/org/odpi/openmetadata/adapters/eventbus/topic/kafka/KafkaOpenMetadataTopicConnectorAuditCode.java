@@ -125,7 +125,21 @@ public enum KafkaOpenMetadataTopicConnectorAuditCode implements AuditLogMessageS
             "Depending on the nature of the error, events may no longer be exchanged with the topic.",
             "Check the OMAG Server's audit log and Kafka error logs for related messages that " +
                                          "indicate the cause of this error.  Work to clear the underlying error.  " +
-                                         "Once fixed, it may be necessary to restart the server to cause a reconnect to Kafka.")
+                                         "Once fixed, it may be necessary to restart the server to cause a reconnect to Kafka."),
+
+    EVENT_SEND_FAILED("OCF-KAFKA-TOPIC-CONNECTOR-0018",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "Unable to send event on topic {0} after {1} attempts.  Error {2} was returned with message {3}",
+            "The event is discarded.  The event is included in the additional information of this message.",
+            "Review the operational status of Apache Kafka and the error message to determine the cause of the error.  " +
+                                         "Once the error is corrected, the event may need to be resent."),
+
+    EVENT_SENT_TO_DEAD_LETTER_TOPIC("OCF-KAFKA-TOPIC-CONNECTOR-0019",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "Unable to send event on topic {0} so it is being sent to dead letter topic {1}.  Error {2} was returned with message {3}",
+            "The event is sent to the dead letter topic.  The event is included in the additional information of this message.",
+            "Review the operational status of Apache Kafka and the error message to determine the cause of the error.  " +
+                                         "Once the error is corrected, the events on the dead letter topic may need to be resent.")
     ;
 
     private final AuditLogMessageDefinition messageDefinition;
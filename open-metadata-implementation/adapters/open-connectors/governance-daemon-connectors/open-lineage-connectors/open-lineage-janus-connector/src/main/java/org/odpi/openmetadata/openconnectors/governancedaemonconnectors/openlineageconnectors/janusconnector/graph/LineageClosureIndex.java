@@ -0,0 +1,188 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps the data flow edges of the lineage graph in memory, together with the upstream and downstream closures computed
+ * from them. The closures are computed when first queried and kept until an edge that changes them is added, so the
+ * lineage queries do not have to traverse the graph. Vertices are identified by their graph ids.
+ */
+class LineageClosureIndex {
+
+    private final Map<String, Map<Object, Set<Object>>> inEdges = new HashMap<>();
+    private final Map<String, Map<Object, Set<Object>>> outEdges = new HashMap<>();
+    private final Cache<String, Closure> closures;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final long buildTime = System.currentTimeMillis();
+
+    /**
+     * Create an empty index.
+     *
+     * @param maximumClosures - maximum number of computed closures to keep
+     */
+    LineageClosureIndex(long maximumClosures) {
+        this.closures = CacheBuilder.newBuilder().maximumSize(maximumClosures).build();
+    }
+
+    /**
+     * Adds a data flow edge. The closures that the edge extends are discarded: the downstream closures of the vertices
+     * upstream of the edge and the upstream closures of the vertices downstream of it.
+     *
+     * @param label  - the label of the data flow edge
+     * @param fromId - the id of the vertex the edge starts from
+     * @param toId   - the id of the vertex the edge goes to
+     */
+    void addEdge(String label, Object fromId, Object toId) {
+        lock.writeLock().lock();
+        try {
+            boolean added = outEdges.computeIfAbsent(label, l -> new HashMap<>()).computeIfAbsent(fromId, id -> new HashSet<>()).add(toId);
+            inEdges.computeIfAbsent(label, l -> new HashMap<>()).computeIfAbsent(toId, id -> new HashSet<>()).add(fromId);
+            if (!added) {
+                return;
+            }
+
+            for (Object vertexId : getReachableVertices(inEdges, label, fromId)) {
+                closures.invalidate(getKey(label, false, vertexId));
+            }
+            for (Object vertexId : getReachableVertices(outEdges, label, toId)) {
+                closures.invalidate(getKey(label, true, vertexId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the vertices and edges upstream of a vertex, together with the ultimate sources, that is the vertices
+     * upstream with no incoming edges. A vertex with no incoming edges is its own ultimate source.
+     *
+     * @param label    - the label of the data flow edges to follow
+     * @param vertexId - the id of the queried vertex
+     *
+     * @return the upstream closure
+     */
+    Closure getUpstream(String label, Object vertexId) {
+        return getClosure(label, true, vertexId);
+    }
+
+    /**
+     * Returns the vertices and edges downstream of a vertex, together with the ultimate destinations, that is the
+     * vertices downstream with no outgoing edges. A vertex with no outgoing edges is its own ultimate destination.
+     *
+     * @param label    - the label of the data flow edges to follow
+     * @param vertexId - the id of the queried vertex
+     *
+     * @return the downstream closure
+     */
+    Closure getDownstream(String label, Object vertexId) {
+        return getClosure(label, false, vertexId);
+    }
+
+    /**
+     * Returns the time the index was created, in milliseconds.
+     *
+     * @return the creation time
+     */
+    long getBuildTime() {
+        return buildTime;
+    }
+
+    private Closure getClosure(String label, boolean upstream, Object vertexId) {
+        lock.readLock().lock();
+        try {
+            String key = getKey(label, upstream, vertexId);
+            Closure closure = closures.getIfPresent(key);
+            if (closure == null) {
+                closure = computeClosure(label, upstream, vertexId);
+                closures.put(key, closure);
+            }
+            return closure;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Closure computeClosure(String label, boolean upstream, Object vertexId) {
+        Map<Object, Set<Object>> edges = (upstream ? inEdges : outEdges).getOrDefault(label, Collections.emptyMap());
+        Set<Object> vertexIds = new HashSet<>();
+        Set<Object> ultimateVertexIds = new HashSet<>();
+        Set<Map.Entry<Object, Object>> closureEdges = new HashSet<>();
+
+        for (Object reachedId : getReachableVertices(upstream ? inEdges : outEdges, label, vertexId)) {
+            Set<Object> nextIds = edges.getOrDefault(reachedId, Collections.emptySet());
+            if (nextIds.isEmpty()) {
+                ultimateVertexIds.add(reachedId);
+            }
+            for (Object nextId : nextIds) {
+                vertexIds.add(reachedId);
+                vertexIds.add(nextId);
+                closureEdges.add(upstream ? new AbstractMap.SimpleImmutableEntry<>(nextId, reachedId) :
+                        new AbstractMap.SimpleImmutableEntry<>(reachedId, nextId));
+            }
+        }
+        return new Closure(vertexIds, closureEdges, ultimateVertexIds);
+    }
+
+    private Set<Object> getReachableVertices(Map<String, Map<Object, Set<Object>>> edgesByLabel, String label, Object vertexId) {
+        Map<Object, Set<Object>> edges = edgesByLabel.getOrDefault(label, Collections.emptyMap());
+        Set<Object> reached = new HashSet<>();
+        Deque<Object> toVisit = new ArrayDeque<>();
+        reached.add(vertexId);
+        toVisit.add(vertexId);
+        while (!toVisit.isEmpty()) {
+            for (Object nextId : edges.getOrDefault(toVisit.remove(), Collections.emptySet())) {
+                if (reached.add(nextId)) {
+                    toVisit.add(nextId);
+                }
+            }
+        }
+        return reached;
+    }
+
+    private String getKey(String label, boolean upstream, Object vertexId) {
+        return label + "/" + (upstream ? "up" : "down") + "/" + vertexId;
+    }
+
+    /**
+     * The vertices and edges reachable from a vertex in one direction. The edges are pairs of the ids of the vertex
+     * the edge starts from and of the vertex it goes to. The vertices are the ends of these edges.
+     */
+    static class Closure {
+
+        private final Set<Object> vertexIds;
+        private final Set<Map.Entry<Object, Object>> edges;
+        private final Set<Object> ultimateVertexIds;
+
+        Closure(Set<Object> vertexIds, Set<Map.Entry<Object, Object>> edges, Set<Object> ultimateVertexIds) {
+            this.vertexIds = Collections.unmodifiableSet(vertexIds);
+            this.edges = Collections.unmodifiableSet(edges);
+            this.ultimateVertexIds = Collections.unmodifiableSet(ultimateVertexIds);
+        }
+
+        Set<Object> getVertexIds() {
+            return vertexIds;
+        }
+
+        Set<Map.Entry<Object, Object>> getEdges() {
+            return edges;
+        }
+
+        Set<Object> getUltimateVertexIds() {
+            return ultimateVertexIds;
+        }
+    }
+}
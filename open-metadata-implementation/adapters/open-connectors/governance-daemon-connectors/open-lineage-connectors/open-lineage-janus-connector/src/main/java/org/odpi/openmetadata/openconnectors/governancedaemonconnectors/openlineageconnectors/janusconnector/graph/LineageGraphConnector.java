@@ -26,12 +26,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.stream.Collectors;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.addE;
@@ -90,6 +93,28 @@ public class LineageGraphConnector extends LineageGraphConnectorBase {
     private GraphFactory graphFactory;
     private AuditLog auditLog;
 
+    private static final long LINEAGE_QUERY_CACHE_SIZE = 1000;
+    private static final long LINEAGE_QUERY_CACHE_EXPIRY_SEC = 600;
+
+    /**
+     * Relationships that change the column mappings of the processes they are connected to.
+     */
+    private static final Set<String> PROCESS_MAPPING_RELATIONSHIPS = new HashSet<>(Arrays.asList(PROCESS_PORT, PORT_DELEGATION,
+            PORT_SCHEMA, ATTRIBUTE_FOR_SCHEMA, LINEAGE_MAPPING, NESTED_SCHEMA_ATTRIBUTE, ASSET_SCHEMA_TYPE));
+
+    /**
+     * Guids of the ends of the lineage relationships stored since the last run of the scheduler task.
+     */
+    private final Set<String> changedElementGuids = new ConcurrentSkipListSet<>();
+    private volatile boolean fullScanRequired = true;
+
+    /**
+     * Set when the scheduler task adds column or table data flows to the graph.
+     */
+    private boolean dataFlowsAdded = false;
+
+    private final LineageQueryCache lineageQueryCache = new LineageQueryCache(LINEAGE_QUERY_CACHE_SIZE, LINEAGE_QUERY_CACHE_EXPIRY_SEC);
+
     /**
      * Instantiates the graph based on the configuration passed.
      */
@@ -137,15 +162,29 @@ public class LineageGraphConnector extends LineageGraphConnectorBase {
 
     }
 
+    /**
+     * Maps the input columns to the output columns of the processes. The first run after startup maps all the processes
+     * in the graph; the following runs only map the processes connected to the lineage relationships stored since the
+     * previous run. The data flows added by the run are also added to the closure index used by the lineage queries.
+     * The index is built again when it was dropped, and after the same time as the query results expire, so that it also
+     * picks up the data flows added by other servers sharing a remote graph.
+     */
     @Override
     public void schedulerTask() {
+        Set<String> changedGuids = drainChangedElementGuids();
+        dataFlowsAdded = false;
         try {
-            //TODO investigate possibility of adding the PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG again
-            List<Vertex> vertices = g.V().has(PROPERTY_KEY_LABEL, PROCESS).toList();
-
-            List<String> guidList = vertices.stream()
-                    .map(v -> g.V(v.id()).elementMap(PROPERTY_KEY_ENTITY_GUID).toList().get(0).get(PROPERTY_KEY_ENTITY_GUID).toString())
-                    .collect(Collectors.toList());
+            Set<String> guidList;
+            if (fullScanRequired) {
+                guidList = g.V().has(PROPERTY_KEY_LABEL, PROCESS).values(PROPERTY_KEY_ENTITY_GUID).toList().stream()
+                        .map(Object::toString)
+                        .collect(Collectors.toSet());
+            } else {
+                guidList = new HashSet<>();
+                for (String changedGuid : changedGuids) {
+                    guidList.addAll(helper.getProcessesAffectedBy(changedGuid));
+                }
+            }
 
             guidList.forEach(
                     guid -> findInputColumns(g, guid)
@@ -153,12 +192,56 @@ public class LineageGraphConnector extends LineageGraphConnectorBase {
             if (graphFactory.isSupportingTransactions()) {
                 g.tx().commit();
             }
+            fullScanRequired = false;
         } catch (Exception e) {
             log.error("Something went wrong when trying to map a process. The error is: ", e);
             auditLog.logException("Something went wrong when trying to map a process.", PROCESS_MAPPING_ERROR.getMessageDefinition(), e);
             if (graphFactory.isSupportingTransactions()) {
                 g.tx().rollback();
             }
+            changedElementGuids.addAll(changedGuids);
+            helper.dropClosureIndex();
+        }
+        if (dataFlowsAdded) {
+            lineageQueryCache.invalidate();
+        }
+        if (helper.isClosureIndexStale(LINEAGE_QUERY_CACHE_EXPIRY_SEC)) {
+            helper.buildClosureIndex();
+        }
+    }
+
+    /**
+     * Removes and returns the guids recorded since the last run of the scheduler task. Guids recorded while draining are
+     * either returned or kept for the next run.
+     *
+     * @return the guids of the changed elements
+     */
+    private Set<String> drainChangedElementGuids() {
+        Set<String> changedGuids = new HashSet<>();
+        Iterator<String> iterator = changedElementGuids.iterator();
+        while (iterator.hasNext()) {
+            changedGuids.add(iterator.next());
+            iterator.remove();
+        }
+        return changedGuids;
+    }
+
+    /**
+     * Records the ends of a stored relationship if it can change the column mappings of a process.
+     *
+     * @param relationshipLabel - the type of the relationship
+     * @param fromEntity        - the first end of the relationship
+     * @param toEntity          - the second end of the relationship
+     */
+    private void recordLineageChange(String relationshipLabel, LineageEntity fromEntity, LineageEntity toEntity) {
+        if (!PROCESS_MAPPING_RELATIONSHIPS.contains(relationshipLabel)) {
+            return;
+        }
+        if (fromEntity != null && fromEntity.getGuid() != null) {
+            changedElementGuids.add(fromEntity.getGuid());
+        }
+        if (toEntity != null && toEntity.getGuid() != null) {
+            changedElementGuids.add(toEntity.getGuid());
         }
     }
 
@@ -291,6 +374,9 @@ public class LineageGraphConnector extends LineageGraphConnectorBase {
             if (graphFactory.isSupportingTransactions()) {
                 g.tx().commit();
             }
+            dataFlowsAdded = true;
+            helper.indexDataFlowEdge(EDGE_LABEL_COLUMN_DATA_FLOW, columnIn, subProcess);
+            helper.indexDataFlowEdge(EDGE_LABEL_COLUMN_DATA_FLOW, subProcess, columnOut);
 
             addAssetToProcessEdges(columnIn, columnOut, process);
 
@@ -307,25 +393,35 @@ public class LineageGraphConnector extends LineageGraphConnectorBase {
      * @param process   - The vertex of the process.
      */
     private void addAssetToProcessEdges(Vertex columnIn, Vertex columnOut, Vertex process) {
+        boolean assetInAdded = false;
         Optional<Vertex> assetIn = getAsset(columnIn);
         if (assetIn.isPresent()) {
             Iterator<Vertex> tableVertex = g.V(assetIn.get().id()).outE(EDGE_LABEL_TABLE_DATA_FLOW).inV().hasId(process.id());
             if (!tableVertex.hasNext()) {
                 g.V(assetIn.get().id()).addE(EDGE_LABEL_TABLE_DATA_FLOW).to(g.V(process.id())).next();
+                assetInAdded = true;
             }
         }
 
+        boolean assetOutAdded = false;
         Optional<Vertex> assetOut = getAsset(columnOut);
         if (assetOut.isPresent()) {
             Iterator<Vertex> tableVertex = g.V(assetOut.get().id()).inE(EDGE_LABEL_TABLE_DATA_FLOW).outV().hasId(process.id());
             if (!tableVertex.hasNext()) {
                 g.V(process.id()).addE(EDGE_LABEL_TABLE_DATA_FLOW).to(g.V(assetOut.get().id())).next();
+                assetOutAdded = true;
             }
         }
 
         if (graphFactory.isSupportingTransactions()) {
             g.tx().commit();
         }
+        if (assetInAdded) {
+            helper.indexDataFlowEdge(EDGE_LABEL_TABLE_DATA_FLOW, assetIn.get(), process);
+        }
+        if (assetOutAdded) {
+            helper.indexDataFlowEdge(EDGE_LABEL_TABLE_DATA_FLOW, process, assetOut.get());
+        }
     }
 
     /**
@@ -378,6 +474,8 @@ public class LineageGraphConnector extends LineageGraphConnectorBase {
                 if (graphFactory.isSupportingTransactions()) {
                     g.tx().commit();
                 }
+                recordLineageChange(entry.getRelationshipType(), fromEntity, toEntity);
+                lineageQueryCache.invalidate();
             } catch (Exception e) {
                 log.error("An exception happened when trying to create vertices and relationships in LineageGraph. The error is", e);
                 if (graphFactory.isSupportingTransactions()) {
@@ -469,6 +567,7 @@ public class LineageGraphConnector extends LineageGraphConnectorBase {
             if (graphFactory.isSupportingTransactions()) {
                 g.tx().commit();
             }
+            lineageQueryCache.invalidate();
         } catch (Exception e) {
             log.error("An exception happened during update of the properties with exception: ", e);
             if (graphFactory.isSupportingTransactions()) {
@@ -495,6 +594,8 @@ public class LineageGraphConnector extends LineageGraphConnectorBase {
             if (graphFactory.isSupportingTransactions()) {
                 g.tx().commit();
             }
+            recordLineageChange(lineageRelationship.getTypeDefName(), firstEnd, secondEnd);
+            lineageQueryCache.invalidate();
         } catch (Exception e) {
             log.debug("An exception happened during update of the properties with error:", e);
             if (graphFactory.isSupportingTransactions()) {
@@ -524,6 +625,7 @@ public class LineageGraphConnector extends LineageGraphConnectorBase {
             if (graphFactory.isSupportingTransactions()) {
                 g.tx().commit();
             }
+            lineageQueryCache.invalidate();
         } catch (Exception e) {
             log.debug("An exception happened during update of the properties with error:", e);
             if (graphFactory.isSupportingTransactions()) {
@@ -558,6 +660,7 @@ public class LineageGraphConnector extends LineageGraphConnectorBase {
                 if (graphFactory.isSupportingTransactions()) {
                     g.tx().commit();
                 }
+                lineageQueryCache.invalidate();
                 break;
             }
         }
@@ -589,6 +692,7 @@ public class LineageGraphConnector extends LineageGraphConnectorBase {
                         if (graphFactory.isSupportingTransactions()) {
                             g.tx().commit();
                         }
+                        lineageQueryCache.invalidate();
                         break;
                     } catch (Exception e) {
                         log.debug("An exception happened during delete of classifications with error:", e);
@@ -619,6 +723,8 @@ public class LineageGraphConnector extends LineageGraphConnectorBase {
         if (graphFactory.isSupportingTransactions()) {
             g.tx().commit();
         }
+        helper.dropClosureIndex();
+        lineageQueryCache.invalidate();
         log.debug("Vertex with guid {} deleted", guid);
     }
 
@@ -637,6 +743,7 @@ public class LineageGraphConnector extends LineageGraphConnectorBase {
         if (graphFactory.isSupportingTransactions()) {
             g.tx().commit();
         }
+        lineageQueryCache.invalidate();
         log.debug("Edge with guid {} deleted", guid);
     }
 
@@ -752,19 +859,24 @@ public class LineageGraphConnector extends LineageGraphConnectorBase {
 
         switch (scope) {
             case SOURCE_AND_DESTINATION:
-                lineageVerticesAndEdges = helper.sourceAndDestination(guid, includeProcesses);
+                lineageVerticesAndEdges = lineageQueryCache.getLineage(scope, guid, includeProcesses,
+                        () -> helper.sourceAndDestination(guid, includeProcesses));
                 break;
             case END_TO_END:
-                lineageVerticesAndEdges = helper.endToEnd(guid, includeProcesses);
+                lineageVerticesAndEdges = lineageQueryCache.getLineage(scope, guid, includeProcesses,
+                        () -> helper.endToEnd(guid, includeProcesses));
                 break;
             case ULTIMATE_SOURCE:
-                lineageVerticesAndEdges = helper.ultimateSource(guid, includeProcesses);
+                lineageVerticesAndEdges = lineageQueryCache.getLineage(scope, guid, includeProcesses,
+                        () -> helper.ultimateSource(guid, includeProcesses));
                 break;
             case ULTIMATE_DESTINATION:
-                lineageVerticesAndEdges = helper.ultimateDestination(guid, includeProcesses);
+                lineageVerticesAndEdges = lineageQueryCache.getLineage(scope, guid, includeProcesses,
+                        () -> helper.ultimateDestination(guid, includeProcesses));
                 break;
             case VERTICAL:
-                lineageVerticesAndEdges = helper.verticalLineage(guid);
+                lineageVerticesAndEdges = lineageQueryCache.getLineage(scope, guid, includeProcesses,
+                        () -> helper.verticalLineage(guid));
                 break;
         }
         if (lineageVerticesAndEdges.isPresent() && !displayNameMustContain.isEmpty()) {
@@ -6,10 +6,12 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.odpi.openmetadata.governanceservers.openlineage.model.LineageEdge;
@@ -28,6 +30,7 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -53,8 +56,12 @@ import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.op
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.GLOSSARY_CATEGORY;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.GLOSSARY_KEY;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.GLOSSARY_TERM;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.LINEAGE_MAPPING;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.NESTED_SCHEMA_ATTRIBUTE;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PORT_DELEGATION;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PORT_SCHEMA;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PROCESS;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PROCESS_PORT;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.RELATIONAL_COLUMN;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.RELATIONAL_DB_SCHEMA_TYPE;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.RELATIONAL_TABLE;
@@ -95,8 +102,11 @@ public class LineageGraphConnectorHelper {
 
     private static final Logger log = LoggerFactory.getLogger(LineageGraphConnectorHelper.class);
 
+    private static final long MAXIMUM_INDEXED_CLOSURES = 10000;
+
     private final GraphTraversalSource g;
     private final boolean supportingTransactions;
+    private volatile LineageClosureIndex closureIndex;
     private final String[] glossaryTermAndClassificationEdges = {EDGE_LABEL_SEMANTIC_ASSIGNMENT, EDGE_LABEL_RELATED_TERM,
             EDGE_LABEL_SYNONYM, EDGE_LABEL_ANTONYM, EDGE_LABEL_REPLACEMENT_TERM, EDGE_LABEL_TRANSLATION, EDGE_LABEL_IS_A_RELATIONSHIP,
             EDGE_LABEL_CLASSIFICATION, EDGE_LABEL_TERM_CATEGORIZATION};
@@ -118,11 +128,19 @@ public class LineageGraphConnectorHelper {
      */
 
     public Optional<LineageVerticesAndEdges> ultimateSource(String guid, boolean includeProcesses) {
-        Optional<String> edgeLabelOptional = getEdgeLabelForDataFlow(g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).next());
+        Vertex queriedVertex = g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).next();
+        Optional<String> edgeLabelOptional = getEdgeLabelForDataFlow(queriedVertex);
         if (!edgeLabelOptional.isPresent()) {
             return Optional.empty();
         }
         String edgeLabel = edgeLabelOptional.get();
+
+        LineageClosureIndex index = closureIndex;
+        if (index != null) {
+            return Optional.of(getCondensedLineage(guid, edgeLabel, index.getUpstream(edgeLabel, queriedVertex.id()), SOURCE_CONDENSATION,
+                    includeProcesses));
+        }
+
         Graph sourceGraph = null;
         List<Vertex> sourcesList = null;
 
@@ -160,11 +178,19 @@ public class LineageGraphConnectorHelper {
      * @return a subgraph in an Open Lineage specific format.
      */
     public Optional<LineageVerticesAndEdges> ultimateDestination(String guid, boolean includeProcesses) {
-        Optional<String> edgeLabelOptional = getEdgeLabelForDataFlow(g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).next());
+        Vertex queriedVertex = g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).next();
+        Optional<String> edgeLabelOptional = getEdgeLabelForDataFlow(queriedVertex);
         if (!edgeLabelOptional.isPresent()) {
             return Optional.empty();
         }
         String edgeLabel = edgeLabelOptional.get();
+
+        LineageClosureIndex index = closureIndex;
+        if (index != null) {
+            return Optional.of(getCondensedLineage(guid, edgeLabel, index.getDownstream(edgeLabel, queriedVertex.id()), DESTINATION_CONDENSATION,
+                    includeProcesses));
+        }
+
         Graph destinationGraph = null;
         List<Vertex> destinationsList = null;
 
@@ -203,11 +229,28 @@ public class LineageGraphConnectorHelper {
      * @return a subgraph in an Open Lineage specific format.
      */
     public Optional<LineageVerticesAndEdges> endToEnd(String guid, boolean includeProcesses) {
-        Optional<String> edgeLabelOptional = getEdgeLabelForDataFlow(g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).next());
+        Vertex queriedVertex = g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).next();
+        Optional<String> edgeLabelOptional = getEdgeLabelForDataFlow(queriedVertex);
         if (!edgeLabelOptional.isPresent()) {
             return Optional.empty();
         }
         String edgeLabel = edgeLabelOptional.get();
+
+        LineageClosureIndex index = closureIndex;
+        if (index != null) {
+            LineageClosureIndex.Closure upstream = index.getUpstream(edgeLabel, queriedVertex.id());
+            LineageClosureIndex.Closure downstream = index.getDownstream(edgeLabel, queriedVertex.id());
+
+            Set<Object> vertexIds = new HashSet<>(upstream.getVertexIds());
+            vertexIds.addAll(downstream.getVertexIds());
+            Set<Map.Entry<Object, Object>> edges = new HashSet<>(upstream.getEdges());
+            edges.addAll(downstream.getEdges());
+
+            Map<Object, LineageVertex> lineageVertices = getLineageVertices(vertexIds);
+            return Optional.of(getLineageVerticesAndEdges(getLineageVertices(vertexIds, lineageVertices),
+                    getLineageEdges(edgeLabel, edges, lineageVertices), includeProcesses));
+        }
+
         Graph endToEndGraph = null;
 
         try{
@@ -399,6 +442,88 @@ public class LineageGraphConnectorHelper {
         lineageVerticesAndEdges.setLineageEdges(lineageEdges);
     }
 
+    /**
+     * Returns the guids of the processes whose column mappings depend on the queried node. These are the processes that
+     * reach the node through their ports and port schemas, together with the processes that reach any schema element
+     * the node (or, for a table or schema type, any of its columns) is mapped to with a lineage mapping.
+     *
+     * @param guid the guid of a node that has been added or changed
+     *
+     * @return the guids of the processes that need their column mappings recomputed
+     */
+    public Set<String> getProcessesAffectedBy(String guid) {
+        List<Object> processGuids = g.V().has(PROPERTY_KEY_ENTITY_GUID, guid)
+                .union(__.identity(), __.out(ATTRIBUTE_FOR_SCHEMA, NESTED_SCHEMA_ATTRIBUTE))
+                .union(__.identity(), __.both(LINEAGE_MAPPING))
+                .emit(__.has(PROPERTY_KEY_LABEL, PROCESS))
+                .repeat(__.in(ATTRIBUTE_FOR_SCHEMA, PORT_SCHEMA, PORT_DELEGATION, PROCESS_PORT))
+                .times(4)
+                .has(PROPERTY_KEY_LABEL, PROCESS)
+                .values(PROPERTY_KEY_ENTITY_GUID)
+                .dedup().toList();
+
+        commitTransaction();
+
+        return processGuids.stream().map(Object::toString).collect(Collectors.toSet());
+    }
+
+    /**
+     * Loads all the data flow edges of the graph into a new closure index, which is then used by the ultimate source,
+     * ultimate destination, source and destination and end to end queries instead of traversing the graph.
+     */
+    public void buildClosureIndex() {
+        LineageClosureIndex index = new LineageClosureIndex(MAXIMUM_INDEXED_CLOSURES);
+        try {
+            g.E().hasLabel(EDGE_LABEL_COLUMN_DATA_FLOW, EDGE_LABEL_TABLE_DATA_FLOW)
+                    .project("label", "from", "to").by(T.label).by(__.outV().id()).by(__.inV().id())
+                    .toList()
+                    .forEach(edge -> index.addEdge(edge.get("label").toString(), edge.get("from"), edge.get("to")));
+            commitTransaction();
+        } catch (Exception e) {
+            if (supportingTransactions) {
+                g.tx().rollback();
+            }
+            log.error("Exception while building the lineage closure index. The graph is traversed until the next build.", e);
+            closureIndex = null;
+            return;
+        }
+        closureIndex = index;
+    }
+
+    /**
+     * Discards the closure index after a change that it cannot follow, such as a deletion. The graph is traversed until
+     * the index is built again.
+     */
+    public void dropClosureIndex() {
+        closureIndex = null;
+    }
+
+    /**
+     * Returns true if the closure index is not built, or was built more than the given number of seconds ago.
+     *
+     * @param maximumAgeSec the number of seconds after which the index should be built again
+     *
+     * @return whether the index needs to be built
+     */
+    public boolean isClosureIndexStale(long maximumAgeSec) {
+        LineageClosureIndex index = closureIndex;
+        return index == null || System.currentTimeMillis() - index.getBuildTime() > maximumAgeSec * 1000;
+    }
+
+    /**
+     * Adds a data flow edge that has been committed to the graph to the closure index.
+     *
+     * @param edgeLabel the label of the data flow edge
+     * @param from      the vertex the edge starts from
+     * @param to        the vertex the edge goes to
+     */
+    public void indexDataFlowEdge(String edgeLabel, Vertex from, Vertex to) {
+        LineageClosureIndex index = closureIndex;
+        if (index != null) {
+            index.addEdge(edgeLabel, from.id(), to.id());
+        }
+    }
+
     /**
      * * Returns a subgraph containing all root and leaf nodes of the full graph that are connected with the queried node.
      * * The queried node can be a column or table.
@@ -414,9 +539,34 @@ public class LineageGraphConnectorHelper {
      */
     private LineageVerticesAndEdges getCondensedLineage(String guid, GraphTraversalSource g, Graph subGraph, Set<LineageVertex> ultimateVertices,
                                                         String condensationType, boolean includeProcesses) {
+        return getCondensedLineage(guid, getLineageVertices(subGraph), getLineageEdges(subGraph, SOURCE_CONDENSATION.equalsIgnoreCase(condensationType)),
+                ultimateVertices, condensationType, includeProcesses);
+    }
+
+    /**
+     * Returns the condensed lineage of the queried node from a closure of the closure index.
+     *
+     * @param guid             the guid of the queried node
+     * @param edgeLabel        the label of the data flow edges in the closure
+     * @param closure          the upstream or downstream closure of the queried node
+     * @param condensationType the type of the condensation
+     * @param includeProcesses Will filter out all processes and subprocesses from the response if false.
+     *
+     * @return the subgraph in an Open Lineage specific format
+     */
+    private LineageVerticesAndEdges getCondensedLineage(String guid, String edgeLabel, LineageClosureIndex.Closure closure,
+                                                        String condensationType, boolean includeProcesses) {
+        Set<Object> vertexIds = new HashSet<>(closure.getVertexIds());
+        vertexIds.addAll(closure.getUltimateVertexIds());
+        Map<Object, LineageVertex> lineageVertices = getLineageVertices(vertexIds);
 
-        Set<LineageVertex> lineageVertices = getLineageVertices(subGraph);
-        Set<LineageEdge> lineageEdges = getLineageEdges(subGraph, SOURCE_CONDENSATION.equalsIgnoreCase(condensationType));
+        return getCondensedLineage(guid, getLineageVertices(closure.getVertexIds(), lineageVertices),
+                getLineageEdges(edgeLabel, closure.getEdges(), lineageVertices),
+                new HashSet<>(getLineageVertices(closure.getUltimateVertexIds(), lineageVertices)), condensationType, includeProcesses);
+    }
+
+    private LineageVerticesAndEdges getCondensedLineage(String guid, Set<LineageVertex> lineageVertices, Set<LineageEdge> lineageEdges,
+                                                        Set<LineageVertex> ultimateVertices, String condensationType, boolean includeProcesses) {
 
         Vertex originalQueriedVertex = g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).next();
         commitTransaction();
@@ -554,9 +704,11 @@ public class LineageGraphConnectorHelper {
      * @return The graph in an Open Lineage specific format.
      */
     private LineageVerticesAndEdges getLineageVerticesAndEdges(Graph subGraph, boolean includeProcesses) {
-        Set<LineageVertex> lineageVertices = getLineageVertices(subGraph);
-        Set<LineageEdge> lineageEdges = getLineageEdges(subGraph, false);
+        return getLineageVerticesAndEdges(getLineageVertices(subGraph), getLineageEdges(subGraph, false), includeProcesses);
+    }
 
+    private LineageVerticesAndEdges getLineageVerticesAndEdges(Set<LineageVertex> lineageVertices, Set<LineageEdge> lineageEdges,
+                                                               boolean includeProcesses) {
         condenseProcesses(includeProcesses, lineageVertices, lineageEdges);
 
         addColumnProperties(lineageVertices);
@@ -605,6 +757,39 @@ public class LineageGraphConnectorHelper {
         return lineageVertices;
     }
 
+    /**
+     * Reads the vertices of a closure from the graph in a single query.
+     *
+     * @param vertexIds the ids of the vertices
+     *
+     * @return the vertices in the Open Lineage format, by vertex id
+     */
+    private Map<Object, LineageVertex> getLineageVertices(Set<Object> vertexIds) {
+        Map<Object, LineageVertex> lineageVertices = new HashMap<>();
+        if (vertexIds.isEmpty()) {
+            return lineageVertices;
+        }
+        g.V(vertexIds.toArray()).toList().forEach(vertex -> lineageVertices.put(vertex.id(), abstractVertex(vertex)));
+        commitTransaction();
+        return lineageVertices;
+    }
+
+    private Set<LineageVertex> getLineageVertices(Set<Object> vertexIds, Map<Object, LineageVertex> lineageVertices) {
+        return vertexIds.stream().map(lineageVertices::get).filter(Objects::nonNull).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private Set<LineageEdge> getLineageEdges(String edgeLabel, Set<Map.Entry<Object, Object>> edges, Map<Object, LineageVertex> lineageVertices) {
+        Set<LineageEdge> lineageEdges = new HashSet<>();
+        for (Map.Entry<Object, Object> edge : edges) {
+            LineageVertex from = lineageVertices.get(edge.getKey());
+            LineageVertex to = lineageVertices.get(edge.getValue());
+            if (from != null && to != null) {
+                lineageEdges.add(new LineageEdge(edgeLabel, from.getNodeID(), to.getNodeID()));
+            }
+        }
+        return lineageEdges;
+    }
+
     private Set<LineageVertex> getLineageVertices(List<Vertex> vertexList) {
         Set<LineageVertex> lineageVertices = new HashSet<>();
         vertexList.forEach(vertex -> lineageVertices.add(abstractVertex(vertex)));
@@ -0,0 +1,97 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.odpi.openmetadata.governanceservers.openlineage.model.LineageVerticesAndEdges;
+import org.odpi.openmetadata.governanceservers.openlineage.model.Scope;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Holds the results of the lineage queries until the lineage graph is changed. The entries are also expired after a
+ * fixed time, which bounds how long a result can be served after a change made by another server sharing the graph.
+ */
+class LineageQueryCache {
+
+    private final Cache<String, LineageVerticesAndEdges> results;
+    private long generation = 0;
+
+    /**
+     * Create the cache.
+     *
+     * @param maximumSize         - maximum number of query results to keep
+     * @param expireAfterWriteSec - number of seconds after which a query result is discarded
+     */
+    LineageQueryCache(long maximumSize, long expireAfterWriteSec) {
+        this.results = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWriteSec, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Returns the result of a lineage query, running the query only if its result is not cached. The result of a query
+     * that ran while the graph was changed is returned but not cached. A copy of the cached result is returned, so the
+     * caller can filter it.
+     *
+     * @param scope            - the scope of the query
+     * @param guid             - the guid of the queried node
+     * @param includeProcesses - whether the processes are included in the result, ignored for vertical lineage
+     * @param query            - the query to run when the result is not cached
+     *
+     * @return the result of the query
+     */
+    Optional<LineageVerticesAndEdges> getLineage(Scope scope, String guid, boolean includeProcesses,
+                                                 Supplier<Optional<LineageVerticesAndEdges>> query) {
+        String key = getKey(scope, guid, includeProcesses);
+
+        LineageVerticesAndEdges cachedResult = results.getIfPresent(key);
+        if (cachedResult != null) {
+            return Optional.of(copyOf(cachedResult));
+        }
+
+        long queryGeneration = getGeneration();
+        Optional<LineageVerticesAndEdges> result = query.get();
+        if (result.isPresent()) {
+            synchronized (this) {
+                if (generation == queryGeneration) {
+                    results.put(key, copyOf(result.get()));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Discards all the query results. Called after each change to the lineage graph.
+     */
+    synchronized void invalidate() {
+        generation++;
+        results.invalidateAll();
+    }
+
+    /**
+     * Vertical lineage does not depend on includeProcesses, so it is left out of the key of vertical lineage queries.
+     */
+    private String getKey(Scope scope, String guid, boolean includeProcesses) {
+        if (scope == Scope.VERTICAL) {
+            return scope.name() + "/" + guid;
+        }
+        return scope.name() + "/" + guid + "/" + includeProcesses;
+    }
+
+    private synchronized long getGeneration() {
+        return generation;
+    }
+
+    private LineageVerticesAndEdges copyOf(LineageVerticesAndEdges lineageVerticesAndEdges) {
+        return new LineageVerticesAndEdges(
+                lineageVerticesAndEdges.getLineageVertices() == null ? null : new HashSet<>(lineageVerticesAndEdges.getLineageVertices()),
+                lineageVerticesAndEdges.getLineageEdges() == null ? null : new HashSet<>(lineageVerticesAndEdges.getLineageEdges()));
+    }
+}
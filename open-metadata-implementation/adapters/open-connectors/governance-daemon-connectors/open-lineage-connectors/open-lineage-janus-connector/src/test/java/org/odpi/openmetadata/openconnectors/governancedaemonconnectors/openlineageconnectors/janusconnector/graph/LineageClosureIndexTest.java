@@ -0,0 +1,95 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LineageClosureIndexTest {
+
+    private static final String COLUMN_DATA_FLOW = "ColumnDataFlow";
+    private static final String TABLE_DATA_FLOW = "TableDataFlow";
+
+    @Test
+    public void closuresFollowTheEdgesInOneDirection() {
+        LineageClosureIndex index = new LineageClosureIndex(100);
+        index.addEdge(COLUMN_DATA_FLOW, "c1", "p1");
+        index.addEdge(COLUMN_DATA_FLOW, "c2", "p1");
+        index.addEdge(COLUMN_DATA_FLOW, "p1", "c3");
+        index.addEdge(COLUMN_DATA_FLOW, "c3", "p2");
+        index.addEdge(COLUMN_DATA_FLOW, "p2", "c4");
+
+        LineageClosureIndex.Closure upstream = index.getUpstream(COLUMN_DATA_FLOW, "c3");
+        assertEquals(new HashSet<>(Arrays.asList("c1", "c2", "p1", "c3")), upstream.getVertexIds());
+        assertEquals(new HashSet<>(Arrays.asList("c1", "c2")), upstream.getUltimateVertexIds());
+        assertEquals(new HashSet<>(Arrays.asList(new AbstractMap.SimpleImmutableEntry<>("c1", "p1"),
+                new AbstractMap.SimpleImmutableEntry<>("c2", "p1"), new AbstractMap.SimpleImmutableEntry<>("p1", "c3"))), upstream.getEdges());
+
+        LineageClosureIndex.Closure downstream = index.getDownstream(COLUMN_DATA_FLOW, "c3");
+        assertEquals(new HashSet<>(Arrays.asList("c3", "p2", "c4")), downstream.getVertexIds());
+        assertEquals(Collections.singleton("c4"), downstream.getUltimateVertexIds());
+    }
+
+    @Test
+    public void vertexWithoutEdgesIsItsOwnUltimateVertex() {
+        LineageClosureIndex index = new LineageClosureIndex(100);
+        index.addEdge(COLUMN_DATA_FLOW, "c1", "p1");
+
+        LineageClosureIndex.Closure upstream = index.getUpstream(COLUMN_DATA_FLOW, "c1");
+        assertTrue(upstream.getVertexIds().isEmpty());
+        assertTrue(upstream.getEdges().isEmpty());
+        assertEquals(Collections.singleton("c1"), upstream.getUltimateVertexIds());
+    }
+
+    @Test
+    public void cyclesAreTraversedOnce() {
+        LineageClosureIndex index = new LineageClosureIndex(100);
+        index.addEdge(COLUMN_DATA_FLOW, "c1", "p1");
+        index.addEdge(COLUMN_DATA_FLOW, "p1", "c2");
+        index.addEdge(COLUMN_DATA_FLOW, "c2", "p2");
+        index.addEdge(COLUMN_DATA_FLOW, "p2", "c3");
+        index.addEdge(COLUMN_DATA_FLOW, "c3", "p3");
+        index.addEdge(COLUMN_DATA_FLOW, "p3", "c2");
+
+        LineageClosureIndex.Closure upstream = index.getUpstream(COLUMN_DATA_FLOW, "c3");
+        assertEquals(new HashSet<>(Arrays.asList("c1", "p1", "c2", "p2", "c3", "p3")), upstream.getVertexIds());
+        assertEquals(Collections.singleton("c1"), upstream.getUltimateVertexIds());
+        assertEquals(6, upstream.getEdges().size());
+    }
+
+    @Test
+    public void labelsAreIndexedSeparately() {
+        LineageClosureIndex index = new LineageClosureIndex(100);
+        index.addEdge(COLUMN_DATA_FLOW, "c1", "c2");
+        index.addEdge(TABLE_DATA_FLOW, "t1", "c2");
+
+        assertEquals(Collections.singleton("c1"), index.getUpstream(COLUMN_DATA_FLOW, "c2").getUltimateVertexIds());
+        assertEquals(Collections.singleton("t1"), index.getUpstream(TABLE_DATA_FLOW, "c2").getUltimateVertexIds());
+    }
+
+    @Test
+    public void addedEdgeUpdatesTheComputedClosures() {
+        LineageClosureIndex index = new LineageClosureIndex(100);
+        index.addEdge(COLUMN_DATA_FLOW, "c1", "p1");
+        index.addEdge(COLUMN_DATA_FLOW, "p1", "c2");
+        index.addEdge(COLUMN_DATA_FLOW, "c3", "p2");
+
+        assertEquals(Collections.singleton("c1"), index.getUpstream(COLUMN_DATA_FLOW, "c2").getUltimateVertexIds());
+        assertEquals(Collections.singleton("c2"), index.getDownstream(COLUMN_DATA_FLOW, "c1").getUltimateVertexIds());
+        assertEquals(Collections.singleton("c3"), index.getUpstream(COLUMN_DATA_FLOW, "p2").getUltimateVertexIds());
+
+        index.addEdge(COLUMN_DATA_FLOW, "c0", "c1");
+        index.addEdge(COLUMN_DATA_FLOW, "c2", "p2");
+
+        assertEquals(Collections.singleton("c0"), index.getUpstream(COLUMN_DATA_FLOW, "c2").getUltimateVertexIds());
+        assertEquals(Collections.singleton("p2"), index.getDownstream(COLUMN_DATA_FLOW, "c1").getUltimateVertexIds());
+        assertEquals(new HashSet<>(Arrays.asList("c0", "c3")), index.getUpstream(COLUMN_DATA_FLOW, "p2").getUltimateVertexIds());
+    }
+}
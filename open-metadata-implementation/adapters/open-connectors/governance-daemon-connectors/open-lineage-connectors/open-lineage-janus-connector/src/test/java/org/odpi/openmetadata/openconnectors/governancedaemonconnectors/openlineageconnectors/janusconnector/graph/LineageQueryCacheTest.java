@@ -0,0 +1,118 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph;
+
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.governanceservers.openlineage.model.LineageEdge;
+import org.odpi.openmetadata.governanceservers.openlineage.model.LineageVertex;
+import org.odpi.openmetadata.governanceservers.openlineage.model.LineageVerticesAndEdges;
+import org.odpi.openmetadata.governanceservers.openlineage.model.Scope;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LineageQueryCacheTest {
+
+    @Test
+    public void resultIsCachedUntilInvalidated() {
+        LineageQueryCache cache = new LineageQueryCache(10, 600);
+        AtomicInteger runs = new AtomicInteger();
+        Supplier<Optional<LineageVerticesAndEdges>> query = countingQuery(runs);
+
+        cache.getLineage(Scope.ULTIMATE_SOURCE, "c1", true, query);
+        cache.getLineage(Scope.ULTIMATE_SOURCE, "c1", true, query);
+        assertEquals(1, runs.get());
+
+        cache.invalidate();
+        cache.getLineage(Scope.ULTIMATE_SOURCE, "c1", true, query);
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    public void resultIsCachedByScopeGuidAndIncludeProcesses() {
+        LineageQueryCache cache = new LineageQueryCache(10, 600);
+        AtomicInteger runs = new AtomicInteger();
+        Supplier<Optional<LineageVerticesAndEdges>> query = countingQuery(runs);
+
+        cache.getLineage(Scope.ULTIMATE_SOURCE, "c1", true, query);
+        cache.getLineage(Scope.ULTIMATE_SOURCE, "c1", false, query);
+        cache.getLineage(Scope.ULTIMATE_DESTINATION, "c1", true, query);
+        cache.getLineage(Scope.ULTIMATE_SOURCE, "c2", true, query);
+        assertEquals(4, runs.get());
+    }
+
+    @Test
+    public void verticalLineageIgnoresIncludeProcesses() {
+        LineageQueryCache cache = new LineageQueryCache(10, 600);
+        AtomicInteger runs = new AtomicInteger();
+        Supplier<Optional<LineageVerticesAndEdges>> query = countingQuery(runs);
+
+        cache.getLineage(Scope.VERTICAL, "g1", true, query);
+        cache.getLineage(Scope.VERTICAL, "g1", false, query);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    public void resultOfQueryRunningDuringChangeIsNotCached() {
+        LineageQueryCache cache = new LineageQueryCache(10, 600);
+        AtomicInteger runs = new AtomicInteger();
+        Supplier<Optional<LineageVerticesAndEdges>> query = countingQuery(runs);
+
+        Optional<LineageVerticesAndEdges> result = cache.getLineage(Scope.END_TO_END, "c1", true, () -> {
+            cache.invalidate();
+            return query.get();
+        });
+        assertTrue(result.isPresent());
+
+        cache.getLineage(Scope.END_TO_END, "c1", true, query);
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    public void emptyResultIsNotCached() {
+        LineageQueryCache cache = new LineageQueryCache(10, 600);
+        AtomicInteger runs = new AtomicInteger();
+        Supplier<Optional<LineageVerticesAndEdges>> query = () -> {
+            runs.incrementAndGet();
+            return Optional.empty();
+        };
+
+        cache.getLineage(Scope.VERTICAL, "p1", true, query);
+        cache.getLineage(Scope.VERTICAL, "p1", true, query);
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    public void filteringReturnedResultDoesNotChangeCachedResult() {
+        LineageQueryCache cache = new LineageQueryCache(10, 600);
+        AtomicInteger runs = new AtomicInteger();
+        Supplier<Optional<LineageVerticesAndEdges>> query = countingQuery(runs);
+
+        cache.getLineage(Scope.SOURCE_AND_DESTINATION, "c1", true, query).get().getLineageVertices().clear();
+        cache.getLineage(Scope.SOURCE_AND_DESTINATION, "c1", true, query).get().getLineageEdges().clear();
+
+        LineageVerticesAndEdges cachedResult = cache.getLineage(Scope.SOURCE_AND_DESTINATION, "c1", true, query).get();
+        assertEquals(1, runs.get());
+        assertEquals(2, cachedResult.getLineageVertices().size());
+        assertEquals(1, cachedResult.getLineageEdges().size());
+    }
+
+    private Supplier<Optional<LineageVerticesAndEdges>> countingQuery(AtomicInteger runs) {
+        return () -> {
+            runs.incrementAndGet();
+
+            HashSet<LineageVertex> vertices = new HashSet<>();
+            vertices.add(new LineageVertex("c1", "TabularColumn"));
+            vertices.add(new LineageVertex("c2", "TabularColumn"));
+            HashSet<LineageEdge> edges = new HashSet<>();
+            edges.add(new LineageEdge("ColumnDataFlow", "c1", "c2"));
+
+            return Optional.of(new LineageVerticesAndEdges(vertices, edges));
+        };
+    }
+}
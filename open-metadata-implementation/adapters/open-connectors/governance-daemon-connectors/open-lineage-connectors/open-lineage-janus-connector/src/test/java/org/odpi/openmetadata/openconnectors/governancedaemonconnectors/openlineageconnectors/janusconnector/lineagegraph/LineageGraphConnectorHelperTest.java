@@ -13,16 +13,26 @@ import org.odpi.openmetadata.governanceservers.openlineage.model.LineageVertex;
 import org.odpi.openmetadata.governanceservers.openlineage.model.LineageVerticesAndEdges;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageGraphConnectorHelper;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.ATTRIBUTE_FOR_SCHEMA;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.DATA_FILE;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.GLOSSARY_TERM;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.LINEAGE_MAPPING;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PORT_DELEGATION;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PORT_IMPLEMENTATION;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PORT_SCHEMA;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PROCESS;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PROCESS_PORT;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.RELATIONAL_TABLE;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.TABULAR_COLUMN;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.TABULAR_SCHEMA_TYPE;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.EDGE_LABEL_COLUMN_DATA_FLOW;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.EDGE_LABEL_RELATED_TERM;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.EDGE_LABEL_SEMANTIC_ASSIGNMENT;
@@ -30,6 +40,7 @@ import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.op
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.NODE_LABEL_SUB_PROCESS;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_ENTITY_GUID;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_LABEL;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_PROCESS_GUID;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_VALUE_NODE_ID_CONDENSED_DESTINATION;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_VALUE_NODE_ID_CONDENSED_SOURCE;
@@ -221,6 +232,94 @@ public class LineageGraphConnectorHelperTest {
         validateResponse(expectedNodeIDs, lineageVertices);
     }
 
+    @Test
+    public void processesAffectedByChange() {
+        GraphTraversalSource g = JanusGraphFactory.build().set("storage.backend", "inmemory").open().traversal();
+        LineageGraphConnectorHelper helper = new LineageGraphConnectorHelper(g, true);
+
+        Vertex process = getLabeledVertex(g, PROCESS, "process");
+        Vertex port = getLabeledVertex(g, PORT_IMPLEMENTATION, "port");
+        Vertex portImplementation = getLabeledVertex(g, PORT_IMPLEMENTATION, "portImplementation");
+        Vertex schemaType = getLabeledVertex(g, TABULAR_SCHEMA_TYPE, "schemaType");
+        Vertex attribute = getLabeledVertex(g, TABULAR_COLUMN, "attribute");
+        Vertex column = getLabeledVertex(g, TABULAR_COLUMN, "column");
+        getLabeledVertex(g, TABULAR_COLUMN, "unrelatedColumn");
+
+        g.addE(PROCESS_PORT).from(process).to(port).next();
+        g.addE(PORT_DELEGATION).from(port).to(portImplementation).next();
+        g.addE(PORT_SCHEMA).from(portImplementation).to(schemaType).next();
+        g.addE(ATTRIBUTE_FOR_SCHEMA).from(schemaType).to(attribute).next();
+        g.addE(LINEAGE_MAPPING).from(column).to(attribute).next();
+
+        Set<String> expectedProcesses = Collections.singleton("process");
+        assertEquals(expectedProcesses, helper.getProcessesAffectedBy("process"));
+        assertEquals(expectedProcesses, helper.getProcessesAffectedBy("port"));
+        assertEquals(expectedProcesses, helper.getProcessesAffectedBy("schemaType"));
+        assertEquals(expectedProcesses, helper.getProcessesAffectedBy("attribute"));
+        assertEquals(expectedProcesses, helper.getProcessesAffectedBy("column"));
+        assertTrue(helper.getProcessesAffectedBy("unrelatedColumn").isEmpty());
+    }
+
+    @Test
+    public void indexedLineageMatchesTraversedLineage() {
+        GraphTraversalSource g = JanusGraphFactory.build().set("storage.backend", "inmemory").open().traversal();
+        addColumnLineageData(g);
+        addTableLineageData(g);
+
+        LineageGraphConnectorHelper traversingHelper = new LineageGraphConnectorHelper(g, true);
+        LineageGraphConnectorHelper indexedHelper = new LineageGraphConnectorHelper(g, true);
+        indexedHelper.buildClosureIndex();
+
+        for (String guid : Arrays.asList("c11", "c21", "c22", "c32", "c42", "d1", "t1", "t2")) {
+            for (boolean includeProcesses : new boolean[]{true, false}) {
+                assertSameLineage(traversingHelper.ultimateSource(guid, includeProcesses).get(),
+                        indexedHelper.ultimateSource(guid, includeProcesses).get());
+                assertSameLineage(traversingHelper.ultimateDestination(guid, includeProcesses).get(),
+                        indexedHelper.ultimateDestination(guid, includeProcesses).get());
+                assertSameLineage(traversingHelper.sourceAndDestination(guid, includeProcesses).get(),
+                        indexedHelper.sourceAndDestination(guid, includeProcesses).get());
+                assertSameLineage(traversingHelper.endToEnd(guid, includeProcesses).get(),
+                        indexedHelper.endToEnd(guid, includeProcesses).get());
+            }
+        }
+    }
+
+    @Test
+    public void indexedLineageFollowsAddedDataFlows() {
+        GraphTraversalSource g = JanusGraphFactory.build().set("storage.backend", "inmemory").open().traversal();
+        addTableLineageData(g);
+
+        LineageGraphConnectorHelper indexedHelper = new LineageGraphConnectorHelper(g, true);
+        indexedHelper.buildClosureIndex();
+        indexedHelper.ultimateSource("t2", true);
+
+        Vertex d0 = getVertex(g, DATA_FILE, "d0", "d0");
+        Vertex p0 = getVertex(g, PROCESS, "p0", "p0");
+        Vertex d1 = g.V().has(PROPERTY_KEY_ENTITY_GUID, "d1").next();
+        g.addE(EDGE_LABEL_TABLE_DATA_FLOW).from(d0).to(p0).next();
+        g.addE(EDGE_LABEL_TABLE_DATA_FLOW).from(p0).to(d1).next();
+        indexedHelper.indexDataFlowEdge(EDGE_LABEL_TABLE_DATA_FLOW, d0, p0);
+        indexedHelper.indexDataFlowEdge(EDGE_LABEL_TABLE_DATA_FLOW, p0, d1);
+
+        HashSet<String> expectedNodeIDs = new HashSet<>(Arrays.asList("d0", "p0", "d1", "p1", "t1", "p2", "t2"));
+        validateResponse(expectedNodeIDs, indexedHelper.ultimateSource("t2", true).get().getLineageVertices());
+    }
+
+    private void assertSameLineage(LineageVerticesAndEdges expected, LineageVerticesAndEdges actual) {
+        assertEquals(getNodeIDs(expected), getNodeIDs(actual));
+        assertEquals(getEdges(expected), getEdges(actual));
+    }
+
+    private Set<String> getNodeIDs(LineageVerticesAndEdges lineageVerticesAndEdges) {
+        return lineageVerticesAndEdges.getLineageVertices().stream().map(LineageVertex::getNodeID).collect(Collectors.toSet());
+    }
+
+    private Set<String> getEdges(LineageVerticesAndEdges lineageVerticesAndEdges) {
+        return lineageVerticesAndEdges.getLineageEdges().stream()
+                .map(edge -> edge.getSourceNodeID() + " " + edge.getEdgeType() + " " + edge.getDestinationNodeID())
+                .collect(Collectors.toSet());
+    }
+
     private void validateResponse(HashSet<String> expectedNodeIDs, Set<LineageVertex> lineageVertices) {
         assertEquals(expectedNodeIDs.size(), lineageVertices.size());
         for (LineageVertex returnedVertex : lineageVertices) {
@@ -320,4 +419,9 @@ public class LineageGraphConnectorHelperTest {
         return vertex;
     }
 
-}
\ No newline at end of file
+    private static Vertex getLabeledVertex(GraphTraversalSource g, String nodeType, String guid) {
+        return g.addV(nodeType).property(PROPERTY_KEY_ENTITY_GUID, guid)
+                .property(PROPERTY_KEY_LABEL, nodeType)
+                .next();
+    }
+}
@@ -0,0 +1,314 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * AuditLogSegment is the index entry for one of the segment files written by the
+ * RollingFileAuditLogStoreConnector.  It records the time period covered by the segment along with
+ * the severities and components of the log records it contains so that queries only need to read
+ * the segments that could hold matching log records.
+ */
+public class AuditLogSegment
+{
+    private String      fileName        = null;
+    private long        createTime      = 0L;
+    private long        size            = 0L;
+    private long        recordCount     = 0L;
+    private long        firstTimeStamp  = Long.MAX_VALUE;
+    private long        lastTimeStamp   = Long.MIN_VALUE;
+    private Set<String> severities      = new TreeSet<>();
+    private Set<String> components      = new TreeSet<>();
+
+
+    /**
+     * Default constructor used when the index is read.
+     */
+    public AuditLogSegment()
+    {
+    }
+
+
+    /**
+     * Constructor for a new segment.
+     *
+     * @param fileName name of the segment file
+     * @param createTime time that the segment was started
+     */
+    AuditLogSegment(String fileName,
+                    long   createTime)
+    {
+        this.fileName = fileName;
+        this.createTime = createTime;
+    }
+
+
+    /**
+     * Update the index entry with a log record that has been added to the segment.
+     *
+     * @param timeStamp time of the log record
+     * @param severity severity of the log record
+     * @param component name of the component that wrote the log record
+     * @param recordSize number of bytes added to the segment
+     */
+    void addLogRecord(Date   timeStamp,
+                      String severity,
+                      String component,
+                      long   recordSize)
+    {
+        long time = (timeStamp == null) ? System.currentTimeMillis() : timeStamp.getTime();
+
+        firstTimeStamp = Math.min(firstTimeStamp, time);
+        lastTimeStamp = Math.max(lastTimeStamp, time);
+        recordCount++;
+        size = size + recordSize;
+
+        if (severity != null)
+        {
+            severities.add(severity);
+        }
+
+        if (component != null)
+        {
+            components.add(component);
+        }
+    }
+
+
+    /**
+     * Return whether the segment could contain log records that match a query.
+     *
+     * @param severity requested severity or null for any
+     * @param component requested component or null for any
+     * @param startDate start of the time period or null for no start
+     * @param endDate end of the time period or null for no end
+     * @return boolean
+     */
+    boolean mayContain(String severity,
+                       String component,
+                       Date   startDate,
+                       Date   endDate)
+    {
+        if (recordCount == 0)
+        {
+            return false;
+        }
+
+        if ((startDate != null) && (lastTimeStamp < startDate.getTime()))
+        {
+            return false;
+        }
+
+        if ((endDate != null) && (firstTimeStamp > endDate.getTime()))
+        {
+            return false;
+        }
+
+        if ((severity != null) && (! severities.contains(severity)))
+        {
+            return false;
+        }
+
+        return (component == null) || (components.contains(component));
+    }
+
+
+    /**
+     * Return the name of the segment file.
+     *
+     * @return file name
+     */
+    public String getFileName()
+    {
+        return fileName;
+    }
+
+
+    /**
+     * Set up the name of the segment file.
+     *
+     * @param fileName file name
+     */
+    public void setFileName(String fileName)
+    {
+        this.fileName = fileName;
+    }
+
+
+    /**
+     * Return the time that the segment was started.
+     *
+     * @return milliseconds since the epoch
+     */
+    public long getCreateTime()
+    {
+        return createTime;
+    }
+
+
+    /**
+     * Set up the time that the segment was started.
+     *
+     * @param createTime milliseconds since the epoch
+     */
+    public void setCreateTime(long createTime)
+    {
+        this.createTime = createTime;
+    }
+
+
+    /**
+     * Return the size of the segment file.
+     *
+     * @return number of bytes
+     */
+    public long getSize()
+    {
+        return size;
+    }
+
+
+    /**
+     * Set up the size of the segment file.
+     *
+     * @param size number of bytes
+     */
+    public void setSize(long size)
+    {
+        this.size = size;
+    }
+
+
+    /**
+     * Return the number of log records in the segment.
+     *
+     * @return count
+     */
+    public long getRecordCount()
+    {
+        return recordCount;
+    }
+
+
+    /**
+     * Set up the number of log records in the segment.
+     *
+     * @param recordCount count
+     */
+    public void setRecordCount(long recordCount)
+    {
+        this.recordCount = recordCount;
+    }
+
+
+    /**
+     * Return the time stamp of the earliest log record in the segment.
+     *
+     * @return milliseconds since the epoch
+     */
+    public long getFirstTimeStamp()
+    {
+        return firstTimeStamp;
+    }
+
+
+    /**
+     * Set up the time stamp of the earliest log record in the segment.
+     *
+     * @param firstTimeStamp milliseconds since the epoch
+     */
+    public void setFirstTimeStamp(long firstTimeStamp)
+    {
+        this.firstTimeStamp = firstTimeStamp;
+    }
+
+
+    /**
+     * Return the time stamp of the latest log record in the segment.
+     *
+     * @return milliseconds since the epoch
+     */
+    public long getLastTimeStamp()
+    {
+        return lastTimeStamp;
+    }
+
+
+    /**
+     * Set up the time stamp of the latest log record in the segment.
+     *
+     * @param lastTimeStamp milliseconds since the epoch
+     */
+    public void setLastTimeStamp(long lastTimeStamp)
+    {
+        this.lastTimeStamp = lastTimeStamp;
+    }
+
+
+    /**
+     * Return the severities of the log records in the segment.
+     *
+     * @return set of severity names
+     */
+    public Set<String> getSeverities()
+    {
+        return severities;
+    }
+
+
+    /**
+     * Set up the severities of the log records in the segment.
+     *
+     * @param severities set of severity names
+     */
+    public void setSeverities(Set<String> severities)
+    {
+        this.severities = (severities == null) ? new TreeSet<>() : new TreeSet<>(severities);
+    }
+
+
+    /**
+     * Return the names of the components that wrote the log records in the segment.
+     *
+     * @return set of component names
+     */
+    public Set<String> getComponents()
+    {
+        return components;
+    }
+
+
+    /**
+     * Set up the names of the components that wrote the log records in the segment.
+     *
+     * @param components set of component names
+     */
+    public void setComponents(Set<String> components)
+    {
+        this.components = (components == null) ? new TreeSet<>() : new TreeSet<>(components);
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "AuditLogSegment{" +
+                "fileName='" + fileName + '\'' +
+                ", createTime=" + createTime +
+                ", size=" + size +
+                ", recordCount=" + recordCount +
+                ", firstTimeStamp=" + firstTimeStamp +
+                ", lastTimeStamp=" + lastTimeStamp +
+                ", severities=" + severities +
+                ", components=" + components +
+                '}';
+    }
+}
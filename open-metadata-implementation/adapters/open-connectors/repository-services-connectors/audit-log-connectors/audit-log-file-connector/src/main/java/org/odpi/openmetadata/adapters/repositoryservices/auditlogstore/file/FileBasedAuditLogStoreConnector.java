@@ -2,7 +2,6 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.io.FileUtils;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
@@ -96,9 +95,8 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
             {
                 File configStoreFile =
                         new File(configStoreTemplateName + "/log-record-" + logRecord.getGUID());
-                ObjectMapper objectMapper    = new ObjectMapper();
 
-                String configStoreFileContents = objectMapper.writeValueAsString(logRecord);
+                String configStoreFileContents = super.getJSONLogRecord(logRecord, methodName);
                 FileUtils.writeStringToFile(configStoreFile, configStoreFileContents, (String)null, false);
             }
             catch (IOException ioException)
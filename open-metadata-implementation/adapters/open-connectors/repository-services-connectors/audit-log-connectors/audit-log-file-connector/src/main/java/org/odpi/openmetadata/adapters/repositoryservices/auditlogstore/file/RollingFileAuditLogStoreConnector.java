@@ -0,0 +1,596 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreConnectorBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSJSONMapper;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * RollingFileAuditLogStoreConnector provides a connector implementation for a file based audit log that
+ * supports queries.  The log records are appended, one JSON document per line, to a segment file.  A new
+ * segment is started when the current one reaches its maximum size or age.  When a segment is finished,
+ * a summary of its contents is added to an index file.  The index records the time period, severities
+ * and components covered by each segment so that a query only reads the segments that could contain matching
+ * log records.
+ */
+public class RollingFileAuditLogStoreConnector extends OMRSAuditLogStoreConnectorBase
+{
+    private static final String defaultDirectoryName = "omag.server.auditlog.segments";
+
+    static final String segmentFilePrefix = "audit-log-";
+    static final String segmentFileSuffix = ".jsonl";
+    static final String indexFileName     = "segment-index.jsonl";
+
+    private static final Logger log = LoggerFactory.getLogger(RollingFileAuditLogStoreConnector.class);
+
+    private Path                  directory      = null;
+    private long                  maxSegmentSize = 10 * 1024 * 1024;
+    private long                  maxSegmentAge  = 60 * 60 * 1000;
+    private List<AuditLogSegment> segments       = new ArrayList<>();
+    private AuditLogSegment       currentSegment = null;
+
+
+    /**
+     * Default constructor used by the connector provider.
+     */
+    public RollingFileAuditLogStoreConnector()
+    {
+    }
+
+
+    /**
+     * Set up the directory for the segment files and load the index.
+     *
+     * @throws ConnectorCheckedException something went wrong
+     */
+    @Override
+    public synchronized void start() throws ConnectorCheckedException
+    {
+        super.start();
+
+        String directoryName = null;
+
+        EndpointProperties endpoint = connectionProperties.getEndpoint();
+
+        if (endpoint != null)
+        {
+            directoryName = endpoint.getAddress();
+        }
+
+        if (directoryName == null)
+        {
+            directoryName = defaultDirectoryName;
+        }
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
+        {
+            Object maxSegmentSize = configurationProperties.get(RollingFileAuditLogStoreProvider.maxSegmentSizeProperty);
+            Object maxSegmentAge  = configurationProperties.get(RollingFileAuditLogStoreProvider.maxSegmentAgeProperty);
+
+            if ((maxSegmentSize instanceof Number) && (((Number)maxSegmentSize).longValue() > 0))
+            {
+                this.maxSegmentSize = ((Number)maxSegmentSize).longValue();
+            }
+
+            if ((maxSegmentAge instanceof Number) && (((Number)maxSegmentAge).longValue() > 0))
+            {
+                this.maxSegmentAge = ((Number)maxSegmentAge).longValue() * 1000;
+            }
+        }
+
+        directory = Paths.get(directoryName);
+        segments = new ArrayList<>();
+        currentSegment = null;
+
+        try
+        {
+            Files.createDirectories(directory);
+
+            this.loadIndex();
+        }
+        catch (IOException ioException)
+        {
+            log.error("Unusable Server Audit Log Store :(", ioException);
+        }
+    }
+
+
+    /**
+     * Read the index file.  Any segment files that are missing from the index, such as the one that was being
+     * written when the server stopped, are read to recreate their index entries.
+     *
+     * @throws IOException problem reading the files
+     */
+    private void loadIndex() throws IOException
+    {
+        Set<String> indexedSegments = new HashSet<>();
+        Path        indexFile       = directory.resolve(indexFileName);
+
+        if (Files.exists(indexFile))
+        {
+            for (String indexEntry : Files.readAllLines(indexFile, StandardCharsets.UTF_8))
+            {
+                if (! indexEntry.isEmpty())
+                {
+                    AuditLogSegment segment = OMRSJSONMapper.readValue(indexEntry, AuditLogSegment.class);
+
+                    segments.add(segment);
+                    indexedSegments.add(segment.getFileName());
+                }
+            }
+        }
+
+        List<String> unindexedSegments = new ArrayList<>();
+
+        try (Stream<Path> files = Files.list(directory))
+        {
+            files.map(file -> file.getFileName().toString())
+                 .filter(fileName -> fileName.startsWith(segmentFilePrefix) && fileName.endsWith(segmentFileSuffix))
+                 .filter(fileName -> ! indexedSegments.contains(fileName))
+                 .sorted()
+                 .forEach(unindexedSegments::add);
+        }
+
+        for (String fileName : unindexedSegments)
+        {
+            AuditLogSegment segment = new AuditLogSegment(fileName, Files.getLastModifiedTime(directory.resolve(fileName)).toMillis());
+
+            for (OMRSAuditLogRecord logRecord : this.readSegment(segment))
+            {
+                segment.addLogRecord(logRecord.getTimeStamp(),
+                                     logRecord.getSeverity(),
+                                     this.getComponentName(logRecord),
+                                     0);
+            }
+
+            segment.setSize(Files.size(directory.resolve(fileName)));
+
+            this.addToIndex(segment);
+            segments.add(segment);
+        }
+
+        segments.sort((segment1, segment2) -> segment1.getFileName().compareTo(segment2.getFileName()));
+    }
+
+
+    /**
+     * Add the summary of a finished segment to the index file.
+     *
+     * @param segment finished segment
+     * @throws IOException problem writing the index
+     */
+    private void addToIndex(AuditLogSegment segment) throws IOException
+    {
+        String indexEntry = OMRSJSONMapper.writeValue(segment) + "\n";
+
+        Files.write(directory.resolve(indexFileName),
+                    indexEntry.getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+    }
+
+
+    /**
+     * Return the segment to write new log records to.  A new segment is started if the current one has
+     * reached its maximum size or age.
+     *
+     * @return segment
+     * @throws IOException problem writing the index
+     */
+    private AuditLogSegment getCurrentSegment() throws IOException
+    {
+        long now = System.currentTimeMillis();
+
+        if ((currentSegment != null) &&
+            ((currentSegment.getSize() >= maxSegmentSize) || (now - currentSegment.getCreateTime() >= maxSegmentAge)))
+        {
+            this.addToIndex(currentSegment);
+            currentSegment = null;
+        }
+
+        if (currentSegment == null)
+        {
+            /*
+             * The segment files are named after the time they were started so that they sort into time order.
+             */
+            String fileName = String.format("%s%013d%s", segmentFilePrefix, now, segmentFileSuffix);
+
+            while (Files.exists(directory.resolve(fileName)))
+            {
+                now++;
+                fileName = String.format("%s%013d%s", segmentFilePrefix, now, segmentFileSuffix);
+            }
+
+            currentSegment = new AuditLogSegment(fileName, now);
+            segments.add(currentSegment);
+        }
+
+        return currentSegment;
+    }
+
+
+    /**
+     * Return the name of the component that wrote a log record.
+     *
+     * @param logRecord log record
+     * @return component name or null
+     */
+    private String getComponentName(OMRSAuditLogRecord logRecord)
+    {
+        if (logRecord.getOriginatorComponent() != null)
+        {
+            return logRecord.getOriginatorComponent().getComponentName();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Store the audit log record in the audit log store.
+     *
+     * @param logRecord  log record to store
+     * @return unique identifier assigned to the log record
+     * @throws InvalidParameterException indicates that the logRecord parameter is invalid.
+     * @throws RepositoryErrorException indicates that the audit log store is not available or has an error.
+     */
+    @Override
+    public String storeLogRecord(OMRSAuditLogRecord logRecord) throws InvalidParameterException,
+                                                                      RepositoryErrorException
+    {
+        this.storeLogRecords(Collections.singletonList(logRecord));
+
+        return logRecord.getGUID();
+    }
+
+
+    /**
+     * Store a batch of audit log records in the audit log store.  They are appended to the current segment
+     * with a single write.
+     *
+     * @param logRecords  log records to store
+     * @throws InvalidParameterException indicates that one of the log records is invalid.
+     * @throws RepositoryErrorException indicates that the audit log store is not available or has an error.
+     */
+    @Override
+    public synchronized void storeLogRecords(List<OMRSAuditLogRecord> logRecords) throws InvalidParameterException,
+                                                                                          RepositoryErrorException
+    {
+        final String methodName = "storeLogRecords";
+
+        StringBuilder            segmentLines     = new StringBuilder();
+        List<OMRSAuditLogRecord> supportedRecords = new ArrayList<>();
+        List<Integer>            lineSizes        = new ArrayList<>();
+
+        for (OMRSAuditLogRecord logRecord : logRecords)
+        {
+            super.validateLogRecord(logRecord, methodName);
+
+            if (isSupportedSeverity(logRecord))
+            {
+                String segmentLine = super.getJSONLogRecord(logRecord, methodName) + "\n";
+
+                segmentLines.append(segmentLine);
+                supportedRecords.add(logRecord);
+                lineSizes.add(segmentLine.getBytes(StandardCharsets.UTF_8).length);
+            }
+        }
+
+        if (! supportedRecords.isEmpty())
+        {
+            try
+            {
+                AuditLogSegment segment = this.getCurrentSegment();
+
+                Files.write(directory.resolve(segment.getFileName()),
+                            segmentLines.toString().getBytes(StandardCharsets.UTF_8),
+                            StandardOpenOption.CREATE,
+                            StandardOpenOption.APPEND);
+
+                for (int i = 0; i < supportedRecords.size(); i++)
+                {
+                    OMRSAuditLogRecord logRecord = supportedRecords.get(i);
+
+                    segment.addLogRecord(logRecord.getTimeStamp(),
+                                         logRecord.getSeverity(),
+                                         this.getComponentName(logRecord),
+                                         lineSizes.get(i));
+                }
+            }
+            catch (IOException ioException)
+            {
+                throw new RepositoryErrorException(OMRSErrorCode.AUDIT_LOG_STORE_NOT_AVAILABLE.getMessageDefinition(getDestinationName(),
+                                                                                                                   ioException.getMessage()),
+                                                   this.getClass().getName(),
+                                                   methodName,
+                                                   ioException);
+            }
+        }
+    }
+
+
+    /**
+     * Read all of the log records in a segment.
+     *
+     * @param segment segment to read
+     * @return list of log records in the order they were written
+     * @throws IOException problem reading the segment
+     */
+    private List<OMRSAuditLogRecord> readSegment(AuditLogSegment segment) throws IOException
+    {
+        List<OMRSAuditLogRecord> logRecords = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(directory.resolve(segment.getFileName()), StandardCharsets.UTF_8))
+        {
+            String segmentLine = reader.readLine();
+
+            while (segmentLine != null)
+            {
+                if (! segmentLine.isEmpty())
+                {
+                    try
+                    {
+                        logRecords.add(OMRSJSONMapper.readValue(segmentLine, OMRSAuditLogRecord.class));
+                    }
+                    catch (IOException badRecord)
+                    {
+                        /*
+                         * The last line of a segment may be incomplete if the server stopped while it was being written.
+                         */
+                        log.debug("Ignoring unreadable log record in " + segment.getFileName(), badRecord);
+                    }
+                }
+
+                segmentLine = reader.readLine();
+            }
+        }
+
+        return logRecords;
+    }
+
+
+    /**
+     * Return a page of the log records that match a query.  Only the segments that the index says could
+     * contain matching log records are read.
+     *
+     * @param severity requested severity or null for any
+     * @param component requested component or null for any
+     * @param startDate start of the time period or null for no start
+     * @param endDate end of the time period or null for no end
+     * @param offset number of matching log records to skip
+     * @param maximumRecords maximum number of log records to return, or 0 for no limit
+     * @param methodName calling method
+     * @return list of log records in the order they were written, or null if there are none
+     * @throws PagingErrorException indicates that the offset or the maximumRecords parameters are invalid.
+     * @throws RepositoryErrorException indicates that the audit log store is not available or has an error.
+     */
+    private synchronized List<OMRSAuditLogRecord> findLogRecords(String severity,
+                                                                 String component,
+                                                                 Date   startDate,
+                                                                 Date   endDate,
+                                                                 int    offset,
+                                                                 int    maximumRecords,
+                                                                 String methodName) throws PagingErrorException,
+                                                                                           RepositoryErrorException
+    {
+        if ((offset < 0) || (maximumRecords < 0))
+        {
+            throw new PagingErrorException(OMRSErrorCode.INVALID_AUDIT_LOG_PAGING.getMessageDefinition(getDestinationName(),
+                                                                                                       Integer.toString(offset),
+                                                                                                       Integer.toString(maximumRecords),
+                                                                                                       methodName),
+                                           this.getClass().getName(),
+                                           methodName);
+        }
+
+        List<OMRSAuditLogRecord> results = new ArrayList<>();
+        int                      skipped = 0;
+
+        try
+        {
+            for (AuditLogSegment segment : segments)
+            {
+                if (segment.mayContain(severity, component, startDate, endDate))
+                {
+                    for (OMRSAuditLogRecord logRecord : this.readSegment(segment))
+                    {
+                        Date timeStamp = logRecord.getTimeStamp();
+
+                        if (((severity == null) || (severity.equals(logRecord.getSeverity()))) &&
+                            ((component == null) || (component.equals(this.getComponentName(logRecord)))) &&
+                            ((startDate == null) || ((timeStamp != null) && (! timeStamp.before(startDate)))) &&
+                            ((endDate == null) || ((timeStamp != null) && (! timeStamp.after(endDate)))))
+                        {
+                            if (skipped < offset)
+                            {
+                                skipped++;
+                            }
+                            else
+                            {
+                                results.add(logRecord);
+
+                                if (results.size() == maximumRecords)
+                                {
+                                    return results;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        catch (IOException ioException)
+        {
+            throw new RepositoryErrorException(OMRSErrorCode.AUDIT_LOG_STORE_NOT_AVAILABLE.getMessageDefinition(getDestinationName(),
+                                                                                                               ioException.getMessage()),
+                                               this.getClass().getName(),
+                                               methodName,
+                                               ioException);
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Retrieve a specific audit log record.  The segments are read newest first since recent log records
+     * are the ones most likely to be requested.
+     *
+     * @param logRecordId unique identifier for the log record
+     * @return requested audit log record or null if it is not known
+     * @throws InvalidParameterException     indicates that the logRecordId parameter is invalid.
+     * @throws RepositoryErrorException      indicates that the audit log store is not available or has an error.
+     */
+    @Override
+    public synchronized OMRSAuditLogRecord getAuditLogRecord(String logRecordId) throws InvalidParameterException,
+                                                                                        RepositoryErrorException
+    {
+        final String methodName = "getAuditLogRecord";
+
+        if (logRecordId == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            for (int i = segments.size() - 1; i >= 0; i--)
+            {
+                for (OMRSAuditLogRecord logRecord : this.readSegment(segments.get(i)))
+                {
+                    if (logRecordId.equals(logRecord.getGUID()))
+                    {
+                        return logRecord;
+                    }
+                }
+            }
+        }
+        catch (IOException ioException)
+        {
+            throw new RepositoryErrorException(OMRSErrorCode.AUDIT_LOG_STORE_NOT_AVAILABLE.getMessageDefinition(getDestinationName(),
+                                                                                                               ioException.getMessage()),
+                                               this.getClass().getName(),
+                                               methodName,
+                                               ioException);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Retrieve a list of log records written in a specified time period.  The offset and maximumRecords
+     * parameters support a paging
+     *
+     * @param startDate      start of time period
+     * @param endDate        end of time period
+     * @param offset         offset of full collection to begin the return results
+     * @param maximumRecords maximum number of log records to return
+     * @return list of log records from the specified time period
+     * @throws InvalidParameterException     indicates that the start and/or end date parameters are invalid.
+     * @throws PagingErrorException          indicates that the offset or the maximumRecords parameters are invalid.
+     * @throws RepositoryErrorException      indicates that the audit log store is not available or has an error.
+     */
+    @Override
+    public List<OMRSAuditLogRecord> getAuditLogRecordsByTimeStamp(Date startDate,
+                                                                  Date endDate,
+                                                                  int  offset,
+                                                                  int  maximumRecords) throws InvalidParameterException,
+                                                                                              PagingErrorException,
+                                                                                              RepositoryErrorException
+    {
+        final String methodName = "getAuditLogRecordsByTimeStamp";
+
+        return this.findLogRecords(null, null, startDate, endDate, offset, maximumRecords, methodName);
+    }
+
+
+    /**
+     * Retrieve a list of log records that have specific severity.  The offset and maximumRecords
+     * parameters support a paging model.
+     *
+     * @param severity       the severity value of messages to return
+     * @param startDate      start of time period
+     * @param endDate        end of time period
+     * @param offset         offset of full collection to begin the return results
+     * @param maximumRecords maximum number of log records to return
+     * @return list of log records from the specified time period
+     * @throws InvalidParameterException     indicates that the severity, start and/or end date parameters are invalid.
+     * @throws PagingErrorException          indicates that the offset or the maximumRecords parameters are invalid.
+     * @throws RepositoryErrorException      indicates that the audit log store is not available or has an error.
+     */
+    @Override
+    public List<OMRSAuditLogRecord> getAuditLogRecordsBySeverity(String severity,
+                                                                 Date   startDate,
+                                                                 Date   endDate,
+                                                                 int    offset,
+                                                                 int    maximumRecords) throws InvalidParameterException,
+                                                                                               PagingErrorException,
+                                                                                               RepositoryErrorException
+    {
+        final String methodName = "getAuditLogRecordsBySeverity";
+
+        return this.findLogRecords(severity, null, startDate, endDate, offset, maximumRecords, methodName);
+    }
+
+
+    /**
+     * Retrieve a list of log records written by a specific component.  The offset and maximumRecords
+     * parameters support a paging model.
+     *
+     * @param component  name of the component to retrieve events from
+     * @param startDate  start of time period
+     * @param endDate  end of time period
+     * @param offset  offset of full collection to begin the return results
+     * @param maximumRecords  maximum number of log records to return
+     * @return list of log records from the specified time period
+     * @throws InvalidParameterException indicates that the component, start and/or end date parameters are invalid.
+     * @throws PagingErrorException indicates that the offset or the maximumRecords parameters are invalid.
+     * @throws RepositoryErrorException indicates that the audit log store is not available or has an error.
+     */
+    @Override
+    public List<OMRSAuditLogRecord> getAuditLogRecordsByComponent(String component,
+                                                                  Date   startDate,
+                                                                  Date   endDate,
+                                                                  int    offset,
+                                                                  int    maximumRecords) throws InvalidParameterException,
+                                                                                                PagingErrorException,
+                                                                                                RepositoryErrorException
+    {
+        final String methodName = "getAuditLogRecordsByComponent";
+
+        return this.findLogRecords(null, component, startDate, endDate, offset, maximumRecords, methodName);
+    }
+}
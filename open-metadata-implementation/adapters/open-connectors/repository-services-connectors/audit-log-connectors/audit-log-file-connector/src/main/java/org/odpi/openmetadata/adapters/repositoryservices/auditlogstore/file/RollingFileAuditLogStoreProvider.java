@@ -0,0 +1,52 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreProviderBase;
+
+import java.util.List;
+
+/**
+ * RollingFileAuditLogStoreProvider is the OCF connector provider for the rolling file audit log store.
+ */
+public class RollingFileAuditLogStoreProvider extends OMRSAuditLogStoreProviderBase
+{
+    private static final String  connectorTypeGUID = "9b4d3a5e-6c0b-4f1e-8a27-3d5c9e1f7b62";
+    private static final String  connectorTypeName = "Rolling File Audit Log Store Connector";
+    private static final String  connectorTypeDescription = "Connector supports storing and querying audit log messages in rolling JSON lines files.";
+
+    /*
+     * The size in bytes and the age in seconds at which a new segment file is started.
+     */
+    public static final String  maxSegmentSizeProperty = "maxSegmentSize";
+    public static final String  maxSegmentAgeProperty  = "maxSegmentAge";
+
+    /**
+     * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
+     * audit log store implementation.
+     */
+    public RollingFileAuditLogStoreProvider()
+    {
+        Class<?>    connectorClass = RollingFileAuditLogStoreConnector.class;
+
+        super.setConnectorClassName(connectorClass.getName());
+
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setType(ConnectorType.getConnectorTypeType());
+        connectorType.setGUID(connectorTypeGUID);
+        connectorType.setQualifiedName(connectorTypeName);
+        connectorType.setDisplayName(connectorTypeName);
+        connectorType.setDescription(connectorTypeDescription);
+        connectorType.setConnectorProviderClassName(this.getClass().getName());
+
+        List<String> recognizedConfigurationProperties = super.getRecognizedConfigurationProperties();
+
+        recognizedConfigurationProperties.add(maxSegmentSizeProperty);
+        recognizedConfigurationProperties.add(maxSegmentAgeProperty);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
+        super.connectorTypeBean = connectorType;
+    }
+}
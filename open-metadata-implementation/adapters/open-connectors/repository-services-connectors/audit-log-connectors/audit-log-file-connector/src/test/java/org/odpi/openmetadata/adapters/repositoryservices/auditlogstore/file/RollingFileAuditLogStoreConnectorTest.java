@@ -0,0 +1,176 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogReportingComponent;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+public class RollingFileAuditLogStoreConnectorTest
+{
+    private static final String[] severities = { "Information", "Error", "Trace" };
+    private static final String[] components = { "OMRS", "Asset Consumer OMAS" };
+
+
+    @Test
+    void testQueries() throws Exception
+    {
+        Path                              directory = Files.createTempDirectory("auditlog");
+        RollingFileAuditLogStoreConnector connector = getConnector(directory);
+        List<OMRSAuditLogRecord>          batch     = new ArrayList<>();
+
+        for (int i = 0; i < 300; i++)
+        {
+            batch.add(getLogRecord(i));
+
+            if (batch.size() == 50)
+            {
+                connector.storeLogRecords(batch);
+                batch.clear();
+            }
+        }
+
+        connector.storeLogRecord(getLogRecord(300));
+
+        validateQueries(connector);
+
+        /*
+         * The small segment size means several segments have been finished and added to the index.
+         */
+        assertTrue(countSegments(directory) > 2);
+        assertTrue(Files.size(directory.resolve(RollingFileAuditLogStoreConnector.indexFileName)) > 0);
+
+        /*
+         * A new connector finds the segments, including the one that was being written.
+         */
+        connector.disconnect();
+        connector = getConnector(directory);
+
+        validateQueries(connector);
+
+        connector.storeLogRecord(getLogRecord(301));
+
+        assertEquals(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0).size(), 302);
+        assertEquals(connector.getAuditLogRecord("guid301").getMessageText(), "Message 301");
+
+        connector.disconnect();
+    }
+
+
+    /**
+     * Check the results of each type of query.
+     *
+     * @param connector connector to query
+     * @throws Exception unexpected error
+     */
+    private void validateQueries(RollingFileAuditLogStoreConnector connector) throws Exception
+    {
+        List<OMRSAuditLogRecord> results = connector.getAuditLogRecordsByTimeStamp(new Date(100000), new Date(199000), 10, 20);
+
+        assertEquals(results.size(), 20);
+        assertEquals(results.get(0).getGUID(), "guid110");
+        assertEquals(results.get(19).getGUID(), "guid129");
+
+        results = connector.getAuditLogRecordsBySeverity("Error", null, null, 0, 0);
+
+        assertEquals(results.size(), 100);
+
+        for (OMRSAuditLogRecord logRecord : results)
+        {
+            assertEquals(logRecord.getSeverity(), "Error");
+        }
+
+        results = connector.getAuditLogRecordsByComponent("Asset Consumer OMAS", new Date(0), new Date(9000), 0, 100);
+
+        assertEquals(results.size(), 5);
+        assertEquals(results.get(4).getGUID(), "guid9");
+
+        assertNull(connector.getAuditLogRecordsBySeverity("Security", null, null, 0, 0));
+        assertEquals(connector.getAuditLogRecord("guid42").getMessageText(), "Message 42");
+        assertNull(connector.getAuditLogRecord("unknown"));
+    }
+
+
+    /**
+     * Count the segment files in the directory.
+     *
+     * @param directory audit log directory
+     * @return count
+     * @throws Exception unexpected error
+     */
+    private long countSegments(Path directory) throws Exception
+    {
+        try (Stream<Path> files = Files.list(directory))
+        {
+            return files.filter(file -> file.getFileName().toString().startsWith(RollingFileAuditLogStoreConnector.segmentFilePrefix)).count();
+        }
+    }
+
+
+    /**
+     * Create and start a connector with a small segment size.
+     *
+     * @param directory audit log directory
+     * @return connector
+     * @throws Exception unexpected error
+     */
+    private RollingFileAuditLogStoreConnector getConnector(Path directory) throws Exception
+    {
+        RollingFileAuditLogStoreConnector connector  = new RollingFileAuditLogStoreConnector();
+        Connection                        connection = new Connection();
+        Endpoint                          endpoint   = new Endpoint();
+        Map<String, Object>               properties = new HashMap<>();
+
+        endpoint.setAddress(directory.toString());
+        properties.put(RollingFileAuditLogStoreProvider.maxSegmentSizeProperty, 20000);
+        connection.setEndpoint(endpoint);
+        connection.setConfigurationProperties(properties);
+
+        connector.initialize("TestConnector", new ConnectionProperties(connection));
+        connector.start();
+
+        return connector;
+    }
+
+
+    /**
+     * Create a log record.  The records are a second apart and cycle through the severities and components.
+     *
+     * @param sequence sequence number
+     * @return log record
+     */
+    private OMRSAuditLogRecord getLogRecord(int sequence)
+    {
+        OMRSAuditLogRecord logRecord = new OMRSAuditLogRecord();
+
+        logRecord.setGUID("guid" + sequence);
+        logRecord.setTimeStamp(new Date(sequence * 1000L));
+        logRecord.setOriginatorProperties(Collections.singletonMap("serverName", "TestServer"));
+        logRecord.setOriginatorComponent(new AuditLogReportingComponent(1,
+                                                                        components[sequence % components.length],
+                                                                        "Test component",
+                                                                        null));
+        logRecord.setSeverity(severities[sequence % severities.length]);
+        logRecord.setMessageText("Message " + sequence);
+
+        return logRecord;
+    }
+}
@@ -2,19 +2,24 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
-import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentProcessor;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSJSONMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
 
+/**
+ * FileBasedOpenMetadataArchiveStoreConnector stores an open metadata archive as a JSON file.  The file is
+ * read and written one element at a time so large archives can be loaded without holding the whole archive
+ * in memory.
+ */
 public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArchiveStoreConnector
 {
     /*
@@ -79,13 +84,9 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
 
         try
         {
-            log.debug("Retrieving server configuration properties");
+            log.debug("Retrieving open metadata archive");
 
-            String configStoreFileContents = FileUtils.readFileToString(archiveStoreFile, "UTF-8");
-
-            ObjectMapper objectMapper = new ObjectMapper();
-
-            newOpenMetadataArchive = objectMapper.readValue(configStoreFileContents, OpenMetadataArchive.class);
+            newOpenMetadataArchive = OMRSJSONMapper.getReader(OpenMetadataArchive.class).readValue(archiveStoreFile);
         }
         catch (IOException ioException)
         {
@@ -102,6 +103,54 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
     }
 
 
+    /**
+     * Pass the contents of the archive to a processor as the file is read.
+     *
+     * @param contentProcessor receiver of the archive's content
+     * @return boolean indicating whether the archive has any content
+     */
+    @Override
+    public boolean processArchiveContents(OpenMetadataArchiveContentProcessor contentProcessor)
+    {
+        File archiveStoreFile = new File(archiveStoreName);
+
+        if (! archiveStoreFile.exists())
+        {
+            /*
+             * As for getArchiveContents, a missing file is treated as an archive with no properties.
+             */
+            log.debug("Open metadata archive " + archiveStoreName + " not found");
+
+            contentProcessor.processArchiveProperties(null);
+        }
+        else
+        {
+            OpenMetadataArchiveStreamReader archiveReader = new OpenMetadataArchiveStreamReader(archiveStoreFile);
+
+            try
+            {
+                log.debug("Streaming open metadata archive");
+
+                archiveReader.processArchiveContents(contentProcessor);
+            }
+            catch (IOException ioException)
+            {
+                log.error("Unable to read open metadata archive " + archiveStoreName, ioException);
+
+                /*
+                 * If the file could not be parsed at all, it is reported in the same way as an archive with no properties.
+                 */
+                if (! archiveReader.isPropertiesProcessed())
+                {
+                    contentProcessor.processArchiveProperties(null);
+                }
+            }
+        }
+
+        return true;
+    }
+
+
     /**
      * Set new contents into the archive.  This overrides any content previously stored.
      *
@@ -114,7 +163,7 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
 
         try
         {
-            log.debug("Writing open metadata archive store properties: " + archiveContents);
+            log.debug("Writing open metadata archive " + archiveStoreName);
 
             if (archiveContents == null)
             {
@@ -122,11 +171,10 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
             }
             else
             {
-                ObjectMapper objectMapper = new ObjectMapper();
-
-                String archiveStoreFileContents = objectMapper.writeValueAsString(archiveContents);
-
-                FileUtils.writeStringToFile(archiveStoreFile, archiveStoreFileContents, (String)null,false);
+                try (OpenMetadataArchiveStreamWriter archiveWriter = new OpenMetadataArchiveStreamWriter(archiveStoreFile))
+                {
+                    archiveWriter.writeArchiveContents(archiveContents);
+                }
             }
         }
         catch (IOException   ioException)
@@ -0,0 +1,466 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentProcessor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSJSONMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * OpenMetadataArchiveStreamReader parses an open metadata archive file one element at a time and passes each
+ * element to an OpenMetadataArchiveContentProcessor.  Only the element being parsed is held in memory, apart from
+ * type definitions that appear in the file before the types they depend on.  These are held back until the end of
+ * the type store.  Type definitions are small compared to the instances so this does not affect the memory
+ * needed for large archives.
+ */
+class OpenMetadataArchiveStreamReader
+{
+    static final String classField                = "class";
+    static final String archivePropertiesField    = "archiveProperties";
+    static final String archiveTypeStoreField     = "archiveTypeStore";
+    static final String archiveInstanceStoreField = "archiveInstanceStore";
+    static final String attributeTypeDefsField    = "attributeTypeDefs";
+    static final String newTypeDefsField          = "newTypeDefs";
+    static final String typeDefPatchesField       = "typeDefPatches";
+    static final String entitiesField             = "entities";
+    static final String relationshipsField        = "relationships";
+    static final String classificationsField      = "classifications";
+
+    private final File    archiveFile;
+    private       boolean propertiesProcessed = false;
+
+
+    /**
+     * Constructor takes the file to read.
+     *
+     * @param archiveFile open metadata archive file
+     */
+    OpenMetadataArchiveStreamReader(File archiveFile)
+    {
+        this.archiveFile = archiveFile;
+    }
+
+
+    /**
+     * Pass the content of the archive file to the content processor.  The archive properties and type store
+     * need to be processed before the instance store.  If the file has them in a different order, they are
+     * located with a separate pass over the file.  The instances are also counted with a separate pass before
+     * they are passed on so the content processor can report its progress.
+     *
+     * @param contentProcessor receiver of the archive's content
+     * @throws IOException the file can not be read or is not a valid open metadata archive
+     */
+    void processArchiveContents(OpenMetadataArchiveContentProcessor contentProcessor) throws IOException
+    {
+        boolean typeStoreProcessed = false;
+
+        try (JsonParser parser = this.getParser())
+        {
+            if (parser.nextToken() == JsonToken.START_OBJECT)
+            {
+                while (parser.nextToken() == JsonToken.FIELD_NAME)
+                {
+                    String fieldName = parser.getCurrentName();
+
+                    parser.nextToken();
+
+                    if (archivePropertiesField.equals(fieldName) && (! propertiesProcessed))
+                    {
+                        OpenMetadataArchiveProperties archiveProperties = this.readElement(parser, OpenMetadataArchiveProperties.class);
+
+                        propertiesProcessed = true;
+
+                        if (! contentProcessor.processArchiveProperties(archiveProperties))
+                        {
+                            return;
+                        }
+                    }
+                    else if ((archiveTypeStoreField.equals(fieldName) && (! typeStoreProcessed)) ||
+                             (archiveInstanceStoreField.equals(fieldName)))
+                    {
+                        if (! propertiesProcessed)
+                        {
+                            OpenMetadataArchiveProperties archiveProperties = this.findArchiveProperties();
+
+                            propertiesProcessed = true;
+
+                            if (! contentProcessor.processArchiveProperties(archiveProperties))
+                            {
+                                return;
+                            }
+                        }
+
+                        if (! typeStoreProcessed)
+                        {
+                            typeStoreProcessed = true;
+
+                            if (archiveTypeStoreField.equals(fieldName))
+                            {
+                                this.processTypeStore(parser, contentProcessor);
+                                continue;
+                            }
+
+                            /*
+                             * The instance store comes first in the file so the type store is read in a separate pass.
+                             */
+                            try (JsonParser typeStoreParser = this.findSection(archiveTypeStoreField))
+                            {
+                                if (typeStoreParser != null)
+                                {
+                                    this.processTypeStore(typeStoreParser, contentProcessor);
+                                }
+                            }
+                        }
+
+                        this.countInstances(contentProcessor);
+                        this.processInstanceStore(parser, contentProcessor);
+                    }
+                    else
+                    {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+
+        if (! propertiesProcessed)
+        {
+            contentProcessor.processArchiveProperties(null);
+        }
+    }
+
+
+    /**
+     * Return whether the archive properties have been passed to the content processor.  This is used after
+     * an error to determine whether any of the archive has been processed.
+     *
+     * @return boolean
+     */
+    boolean isPropertiesProcessed()
+    {
+        return propertiesProcessed;
+    }
+
+
+    /**
+     * Create a parser for the archive file.
+     *
+     * @return parser positioned before the first token
+     * @throws IOException the file can not be opened
+     */
+    private JsonParser getParser() throws IOException
+    {
+        return OMRSJSONMapper.getObjectMapper().getFactory().createParser(archiveFile);
+    }
+
+
+    /**
+     * Create a parser that is positioned at the start of one of the top level sections of the archive.
+     *
+     * @param sectionName name of the section
+     * @return parser or null if the section is not in the archive
+     * @throws IOException the file can not be read
+     */
+    private JsonParser findSection(String sectionName) throws IOException
+    {
+        JsonParser parser = this.getParser();
+
+        if (parser.nextToken() == JsonToken.START_OBJECT)
+        {
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String fieldName = parser.getCurrentName();
+
+                parser.nextToken();
+
+                if (sectionName.equals(fieldName))
+                {
+                    return parser;
+                }
+
+                parser.skipChildren();
+            }
+        }
+
+        parser.close();
+
+        return null;
+    }
+
+
+    /**
+     * Read the archive properties with a separate pass over the file.
+     *
+     * @return archive properties or null if there are none
+     * @throws IOException the file can not be read
+     */
+    private OpenMetadataArchiveProperties findArchiveProperties() throws IOException
+    {
+        try (JsonParser parser = this.findSection(archivePropertiesField))
+        {
+            if (parser != null)
+            {
+                return this.readElement(parser, OpenMetadataArchiveProperties.class);
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Pass the type definitions to the content processor.  Attribute type definitions are passed as they are
+     * read.  New type definitions are passed as they are read once the attribute type definitions have been
+     * read, and patches are passed as they are read once the new type definitions have been read.
+     * Otherwise they are held back until the end of the type store.
+     *
+     * @param parser parser positioned at the start of the type store
+     * @param contentProcessor receiver of the archive's content
+     * @throws IOException the file can not be read
+     */
+    private void processTypeStore(JsonParser                          parser,
+                                  OpenMetadataArchiveContentProcessor contentProcessor) throws IOException
+    {
+        if (parser.currentToken() != JsonToken.START_OBJECT)
+        {
+            parser.skipChildren();
+            return;
+        }
+
+        boolean            attributeTypeDefsProcessed = false;
+        boolean            newTypeDefsProcessed       = false;
+        List<TypeDef>      heldNewTypeDefs            = new ArrayList<>();
+        List<TypeDefPatch> heldTypeDefPatches         = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String fieldName = parser.getCurrentName();
+
+            parser.nextToken();
+
+            if (attributeTypeDefsField.equals(fieldName))
+            {
+                this.readElements(parser, AttributeTypeDef.class, contentProcessor::processAttributeTypeDef);
+                attributeTypeDefsProcessed = true;
+            }
+            else if (newTypeDefsField.equals(fieldName))
+            {
+                if (attributeTypeDefsProcessed)
+                {
+                    this.readElements(parser, TypeDef.class, contentProcessor::processNewTypeDef);
+                    newTypeDefsProcessed = true;
+                }
+                else
+                {
+                    this.readElements(parser, TypeDef.class, heldNewTypeDefs::add);
+                }
+            }
+            else if (typeDefPatchesField.equals(fieldName))
+            {
+                if (newTypeDefsProcessed)
+                {
+                    this.readElements(parser, TypeDefPatch.class, contentProcessor::processTypeDefPatch);
+                }
+                else
+                {
+                    this.readElements(parser, TypeDefPatch.class, heldTypeDefPatches::add);
+                }
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+        }
+
+        heldNewTypeDefs.forEach(contentProcessor::processNewTypeDef);
+        heldTypeDefPatches.forEach(contentProcessor::processTypeDefPatch);
+    }
+
+
+    /**
+     * Count the instances in the instance store with a separate pass over the file.  The content of the instances
+     * is skipped rather than parsed so this is much quicker than loading them.
+     *
+     * @param contentProcessor receiver of the instance counts
+     * @throws IOException the file can not be read
+     */
+    private void countInstances(OpenMetadataArchiveContentProcessor contentProcessor) throws IOException
+    {
+        long entityCount         = 0;
+        long relationshipCount   = 0;
+        long classificationCount = 0;
+
+        try (JsonParser parser = this.findSection(archiveInstanceStoreField))
+        {
+            if ((parser == null) || (parser.currentToken() != JsonToken.START_OBJECT))
+            {
+                return;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String fieldName = parser.getCurrentName();
+
+                parser.nextToken();
+
+                if (entitiesField.equals(fieldName))
+                {
+                    entityCount = this.countElements(parser);
+                }
+                else if (relationshipsField.equals(fieldName))
+                {
+                    relationshipCount = this.countElements(parser);
+                }
+                else if (classificationsField.equals(fieldName))
+                {
+                    classificationCount = this.countElements(parser);
+                }
+                else
+                {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        contentProcessor.processInstanceStoreSize(entityCount, relationshipCount, classificationCount);
+    }
+
+
+    /**
+     * Count the non-null elements of a list in the archive without parsing them.
+     *
+     * @param parser parser positioned at the start of the list
+     * @return number of elements
+     * @throws IOException the list can not be read
+     */
+    private long countElements(JsonParser parser) throws IOException
+    {
+        long elementCount = 0;
+
+        if (parser.currentToken() != JsonToken.START_ARRAY)
+        {
+            parser.skipChildren();
+            return elementCount;
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY)
+        {
+            if (parser.currentToken() != JsonToken.VALUE_NULL)
+            {
+                elementCount ++;
+            }
+
+            parser.skipChildren();
+        }
+
+        return elementCount;
+    }
+
+
+    /**
+     * Pass the instances to the content processor in the order they are read.
+     *
+     * @param parser parser positioned at the start of the instance store
+     * @param contentProcessor receiver of the archive's content
+     * @throws IOException the file can not be read
+     */
+    private void processInstanceStore(JsonParser                          parser,
+                                      OpenMetadataArchiveContentProcessor contentProcessor) throws IOException
+    {
+        if (parser.currentToken() != JsonToken.START_OBJECT)
+        {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String fieldName = parser.getCurrentName();
+
+            parser.nextToken();
+
+            if (entitiesField.equals(fieldName))
+            {
+                this.readElements(parser, EntityDetail.class, contentProcessor::processEntity);
+            }
+            else if (relationshipsField.equals(fieldName))
+            {
+                this.readElements(parser, Relationship.class, contentProcessor::processRelationship);
+            }
+            else if (classificationsField.equals(fieldName))
+            {
+                this.readElements(parser, ClassificationEntityExtension.class, contentProcessor::processClassification);
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+        }
+    }
+
+
+    /**
+     * Read an element from the archive.
+     *
+     * @param parser parser positioned at the start of the element
+     * @param elementClass class of the element
+     * @param <T> type of the element
+     * @return element
+     * @throws IOException the element can not be parsed
+     */
+    private <T> T readElement(JsonParser parser,
+                              Class<T>   elementClass) throws IOException
+    {
+        ObjectReader reader = OMRSJSONMapper.getReader(elementClass);
+
+        return reader.readValue(parser);
+    }
+
+
+    /**
+     * Read each element of a list in the archive and pass it to the element processor.  Null elements are skipped.
+     *
+     * @param parser parser positioned at the start of the list
+     * @param elementClass class of the elements
+     * @param elementProcessor receiver of the elements
+     * @param <T> type of the elements
+     * @throws IOException the list can not be parsed
+     */
+    private <T> void readElements(JsonParser  parser,
+                                  Class<T>    elementClass,
+                                  Consumer<T> elementProcessor) throws IOException
+    {
+        if (parser.currentToken() != JsonToken.START_ARRAY)
+        {
+            parser.skipChildren();
+            return;
+        }
+
+        ObjectReader reader = OMRSJSONMapper.getReader(elementClass);
+
+        while (parser.nextToken() != JsonToken.END_ARRAY)
+        {
+            T element = reader.readValue(parser);
+
+            if (element != null)
+            {
+                elementProcessor.accept(element);
+            }
+        }
+    }
+}
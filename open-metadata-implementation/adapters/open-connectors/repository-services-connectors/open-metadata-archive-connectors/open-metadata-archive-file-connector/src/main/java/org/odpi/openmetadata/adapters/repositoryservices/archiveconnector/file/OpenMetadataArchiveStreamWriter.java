@@ -0,0 +1,331 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSJSONMapper;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * OpenMetadataArchiveStreamWriter writes an open metadata archive file one element at a time so that an archive
+ * can be written without building its whole content in memory.  The elements must be written in the order
+ * that they are loaded into a repository: the archive properties, then the attribute type definitions, new type
+ * definitions and patches to type definitions, followed by the entities, relationships and classifications.
+ * The file is complete once the writer is closed.
+ */
+public class OpenMetadataArchiveStreamWriter implements Closeable
+{
+    /*
+     * The sections of the archive in the order they are written.  The type definitions and instances are
+     * lists within the type store and the instance store respectively.
+     */
+    private enum ArchiveSection
+    {
+        NONE                (null, null, null),
+        ARCHIVE_PROPERTIES  (null, null, null),
+        ATTRIBUTE_TYPE_DEFS (OpenMetadataArchiveStreamReader.archiveTypeStoreField, "OpenMetadataArchiveTypeStore", OpenMetadataArchiveStreamReader.attributeTypeDefsField),
+        NEW_TYPE_DEFS       (OpenMetadataArchiveStreamReader.archiveTypeStoreField, "OpenMetadataArchiveTypeStore", OpenMetadataArchiveStreamReader.newTypeDefsField),
+        TYPE_DEF_PATCHES    (OpenMetadataArchiveStreamReader.archiveTypeStoreField, "OpenMetadataArchiveTypeStore", OpenMetadataArchiveStreamReader.typeDefPatchesField),
+        ENTITIES            (OpenMetadataArchiveStreamReader.archiveInstanceStoreField, "OpenMetadataArchiveInstanceStore", OpenMetadataArchiveStreamReader.entitiesField),
+        RELATIONSHIPS       (OpenMetadataArchiveStreamReader.archiveInstanceStoreField, "OpenMetadataArchiveInstanceStore", OpenMetadataArchiveStreamReader.relationshipsField),
+        CLASSIFICATIONS     (OpenMetadataArchiveStreamReader.archiveInstanceStoreField, "OpenMetadataArchiveInstanceStore", OpenMetadataArchiveStreamReader.classificationsField);
+
+        private final String storeName;
+        private final String storeClassName;
+        private final String listName;
+
+        ArchiveSection(String storeName,
+                       String storeClassName,
+                       String listName)
+        {
+            this.storeName = storeName;
+            this.storeClassName = storeClassName;
+            this.listName = listName;
+        }
+    }
+
+    /*
+     * Each element is written to the generator without flushing the file.
+     */
+    private static final ObjectWriter elementWriter = OMRSJSONMapper.getObjectMapper().writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    private final JsonGenerator  generator;
+    private       ArchiveSection currentSection = ArchiveSection.NONE;
+    private       boolean        closed         = false;
+
+
+    /**
+     * Create the archive file and write the start of the archive.  Any existing file is replaced.
+     *
+     * @param archiveFile file to write the archive to
+     * @throws IOException the file can not be written
+     */
+    public OpenMetadataArchiveStreamWriter(File archiveFile) throws IOException
+    {
+        this.generator = OMRSJSONMapper.getObjectMapper().getFactory().createGenerator(archiveFile, JsonEncoding.UTF8);
+
+        generator.writeStartObject();
+        generator.writeStringField(OpenMetadataArchiveStreamReader.classField, "OpenMetadataArchive");
+    }
+
+
+    /**
+     * Write the complete content of an archive that is held in memory.
+     *
+     * @param archiveContents open metadata archive
+     * @throws IOException the file can not be written
+     */
+    public void writeArchiveContents(OpenMetadataArchive archiveContents) throws IOException
+    {
+        if (archiveContents.getArchiveProperties() != null)
+        {
+            this.writeArchiveProperties(archiveContents.getArchiveProperties());
+        }
+
+        OpenMetadataArchiveTypeStore archiveTypeStore = archiveContents.getArchiveTypeStore();
+
+        if (archiveTypeStore != null)
+        {
+            this.writeElements(archiveTypeStore.getAttributeTypeDefs(), ArchiveSection.ATTRIBUTE_TYPE_DEFS);
+            this.writeElements(archiveTypeStore.getNewTypeDefs(), ArchiveSection.NEW_TYPE_DEFS);
+            this.writeElements(archiveTypeStore.getTypeDefPatches(), ArchiveSection.TYPE_DEF_PATCHES);
+        }
+
+        OpenMetadataArchiveInstanceStore archiveInstanceStore = archiveContents.getArchiveInstanceStore();
+
+        if (archiveInstanceStore != null)
+        {
+            this.writeElements(archiveInstanceStore.getEntities(), ArchiveSection.ENTITIES);
+            this.writeElements(archiveInstanceStore.getRelationships(), ArchiveSection.RELATIONSHIPS);
+            this.writeElements(archiveInstanceStore.getClassifications(), ArchiveSection.CLASSIFICATIONS);
+        }
+    }
+
+
+    /**
+     * Write the properties that describe the archive.  This must be the first element written.
+     *
+     * @param archiveProperties properties of the archive
+     * @throws IOException the file can not be written
+     */
+    public void writeArchiveProperties(OpenMetadataArchiveProperties archiveProperties) throws IOException
+    {
+        if (currentSection != ArchiveSection.NONE)
+        {
+            throw new IllegalStateException("The archive properties must be written before any other element of the archive");
+        }
+
+        this.moveToSection(ArchiveSection.ARCHIVE_PROPERTIES);
+
+        generator.writeFieldName(OpenMetadataArchiveStreamReader.archivePropertiesField);
+        elementWriter.writeValue(generator, archiveProperties);
+    }
+
+
+    /**
+     * Write an attribute type definition.
+     *
+     * @param attributeTypeDef attribute type definition
+     * @throws IOException the file can not be written
+     */
+    public void writeAttributeTypeDef(AttributeTypeDef attributeTypeDef) throws IOException
+    {
+        this.writeElement(attributeTypeDef, ArchiveSection.ATTRIBUTE_TYPE_DEFS);
+    }
+
+
+    /**
+     * Write a new type definition.
+     *
+     * @param typeDef type definition
+     * @throws IOException the file can not be written
+     */
+    public void writeNewTypeDef(TypeDef typeDef) throws IOException
+    {
+        this.writeElement(typeDef, ArchiveSection.NEW_TYPE_DEFS);
+    }
+
+
+    /**
+     * Write a patch to a type definition.
+     *
+     * @param typeDefPatch patch to a type definition
+     * @throws IOException the file can not be written
+     */
+    public void writeTypeDefPatch(TypeDefPatch typeDefPatch) throws IOException
+    {
+        this.writeElement(typeDefPatch, ArchiveSection.TYPE_DEF_PATCHES);
+    }
+
+
+    /**
+     * Write an entity.
+     *
+     * @param entity entity
+     * @throws IOException the file can not be written
+     */
+    public void writeEntity(EntityDetail entity) throws IOException
+    {
+        this.writeElement(entity, ArchiveSection.ENTITIES);
+    }
+
+
+    /**
+     * Write a relationship.
+     *
+     * @param relationship relationship
+     * @throws IOException the file can not be written
+     */
+    public void writeRelationship(Relationship relationship) throws IOException
+    {
+        this.writeElement(relationship, ArchiveSection.RELATIONSHIPS);
+    }
+
+
+    /**
+     * Write a classification.
+     *
+     * @param classification classification and the entity it belongs to
+     * @throws IOException the file can not be written
+     */
+    public void writeClassification(ClassificationEntityExtension classification) throws IOException
+    {
+        this.writeElement(classification, ArchiveSection.CLASSIFICATIONS);
+    }
+
+
+    /**
+     * Write each of the non-null elements in a list.
+     *
+     * @param elements elements to write
+     * @param section section of the archive that the elements belong to
+     * @throws IOException the file can not be written
+     */
+    private void writeElements(List<?>        elements,
+                               ArchiveSection section) throws IOException
+    {
+        if (elements != null)
+        {
+            for (Object element : elements)
+            {
+                if (element != null)
+                {
+                    this.writeElement(element, section);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Write an element to the list for its section of the archive.
+     *
+     * @param element element to write
+     * @param section section of the archive that the element belongs to
+     * @throws IOException the file can not be written
+     */
+    private void writeElement(Object         element,
+                              ArchiveSection section) throws IOException
+    {
+        this.moveToSection(section);
+
+        elementWriter.writeValue(generator, element);
+    }
+
+
+    /**
+     * Close the list (and store) of the current section and start the requested section.
+     *
+     * @param section section that the next element belongs to
+     * @throws IOException the file can not be written
+     */
+    private void moveToSection(ArchiveSection section) throws IOException
+    {
+        if (closed)
+        {
+            throw new IllegalStateException("The open metadata archive has already been closed");
+        }
+
+        if (section == currentSection)
+        {
+            return;
+        }
+
+        if (section.ordinal() < currentSection.ordinal())
+        {
+            throw new IllegalStateException("The " + section.name() + " of the open metadata archive can not be written after the " +
+                                                    currentSection.name());
+        }
+
+        if (currentSection.storeName != null)
+        {
+            generator.writeEndArray();
+
+            if (! currentSection.storeName.equals(section.storeName))
+            {
+                generator.writeEndObject();
+            }
+        }
+
+        if (section.storeName != null)
+        {
+            if (! section.storeName.equals(currentSection.storeName))
+            {
+                generator.writeFieldName(section.storeName);
+                generator.writeStartObject();
+                generator.writeStringField(OpenMetadataArchiveStreamReader.classField, section.storeClassName);
+            }
+
+            generator.writeFieldName(section.listName);
+            generator.writeStartArray();
+        }
+
+        currentSection = section;
+    }
+
+
+    /**
+     * Complete the archive and close the file.
+     *
+     * @throws IOException the file can not be written
+     */
+    @Override
+    public void close() throws IOException
+    {
+        if (! closed)
+        {
+            try
+            {
+                if (currentSection.storeName != null)
+                {
+                    generator.writeEndArray();
+                    generator.writeEndObject();
+                }
+
+                generator.writeEndObject();
+            }
+            finally
+            {
+                closed = true;
+                generator.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,342 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentProcessor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSJSONMapper;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Validate that the file-based archive store writes an archive that can be read back, both as a whole
+ * and one element at a time, and that the elements are passed on in the order needed to load them.
+ */
+public class FileBasedOpenMetadataArchiveStoreConnectorTest
+{
+    @Test
+    void testRoundTrip() throws Exception
+    {
+        File                                       archiveFile = File.createTempFile("archive", ".json");
+        FileBasedOpenMetadataArchiveStoreConnector connector   = getConnector(archiveFile);
+        OpenMetadataArchive                        archive     = getArchive();
+
+        connector.setArchiveContents(archive);
+
+        assertEquals(connector.getArchiveContents(), archive);
+
+        RecordingProcessor processor = new RecordingProcessor();
+
+        assertTrue(connector.processArchiveContents(processor));
+        assertEquals(processor.elements, Arrays.asList("archive", "PrimitiveDef:string", "EntityDef:Asset",
+                                                       "TypeDefPatch:Referenceable", "InstanceStoreSize:2/1/1",
+                                                       "EntityDetail:entity1",
+                                                       "EntityDetail:entity2", "Relationship:relationship1",
+                                                       "Classification:entity1"));
+
+        archiveFile.delete();
+    }
+
+
+    @Test
+    void testSectionOrder() throws Exception
+    {
+        /*
+         * The sections of the archive are written in the reverse of the order they need to be processed in.
+         */
+        OpenMetadataArchive archive   = getArchive();
+        ObjectNode          typeStore = OMRSJSONMapper.getObjectMapper().createObjectNode();
+
+        typeStore.put("class", "OpenMetadataArchiveTypeStore");
+        typeStore.set("typeDefPatches", toJSON(archive.getArchiveTypeStore().getTypeDefPatches()));
+        typeStore.set("newTypeDefs", toJSON(archive.getArchiveTypeStore().getNewTypeDefs()));
+        typeStore.set("attributeTypeDefs", toJSON(archive.getArchiveTypeStore().getAttributeTypeDefs()));
+
+        ObjectNode archiveNode = OMRSJSONMapper.getObjectMapper().createObjectNode();
+
+        archiveNode.put("class", "OpenMetadataArchive");
+        archiveNode.set("archiveInstanceStore", toJSON(archive.getArchiveInstanceStore()));
+        archiveNode.set("archiveTypeStore", typeStore);
+        archiveNode.set("archiveProperties", toJSON(archive.getArchiveProperties()));
+
+        File archiveFile = File.createTempFile("archive", ".json");
+
+        Files.write(archiveFile.toPath(), OMRSJSONMapper.writeValue(archiveNode).getBytes(StandardCharsets.UTF_8));
+
+        RecordingProcessor processor = new RecordingProcessor();
+
+        getConnector(archiveFile).processArchiveContents(processor);
+
+        assertEquals(processor.elements, Arrays.asList("archive", "PrimitiveDef:string", "EntityDef:Asset",
+                                                       "TypeDefPatch:Referenceable", "InstanceStoreSize:2/1/1",
+                                                       "EntityDetail:entity1",
+                                                       "EntityDetail:entity2", "Relationship:relationship1",
+                                                       "Classification:entity1"));
+
+        archiveFile.delete();
+    }
+
+
+    @Test
+    void testMissingArchive() throws Exception
+    {
+        File archiveFile = File.createTempFile("archive", ".json");
+
+        archiveFile.delete();
+
+        RecordingProcessor processor = new RecordingProcessor();
+
+        assertTrue(getConnector(archiveFile).processArchiveContents(processor));
+        assertEquals(processor.elements, Collections.singletonList("no archive properties"));
+    }
+
+
+    @Test
+    void testWriteOrder() throws Exception
+    {
+        File archiveFile = File.createTempFile("archive", ".json");
+
+        try (OpenMetadataArchiveStreamWriter archiveWriter = new OpenMetadataArchiveStreamWriter(archiveFile))
+        {
+            archiveWriter.writeArchiveProperties(getArchive().getArchiveProperties());
+            archiveWriter.writeEntity(getEntity("entity1"));
+
+            try
+            {
+                archiveWriter.writeNewTypeDef(new EntityDef());
+                fail("Type written after entity");
+            }
+            catch (IllegalStateException expectedError)
+            {
+                /*
+                 * The types must come before the instances.
+                 */
+            }
+        }
+
+        OpenMetadataArchive archive = getConnector(archiveFile).getArchiveContents();
+
+        assertNull(archive.getArchiveTypeStore());
+        assertEquals(archive.getArchiveInstanceStore().getEntities().size(), 1);
+
+        archiveFile.delete();
+    }
+
+
+    /**
+     * Convert an archive element, or each element in a list, to JSON in the same way as the archive writer.
+     *
+     * @param value element or list of elements
+     * @return JSON node
+     * @throws Exception unexpected error
+     */
+    private JsonNode toJSON(Object value) throws Exception
+    {
+        if (value instanceof List)
+        {
+            ArrayNode arrayNode = OMRSJSONMapper.getObjectMapper().createArrayNode();
+
+            for (Object element : (List<?>)value)
+            {
+                arrayNode.add(toJSON(element));
+            }
+
+            return arrayNode;
+        }
+
+        return OMRSJSONMapper.getObjectMapper().readTree(OMRSJSONMapper.writeValue(value));
+    }
+
+
+    /**
+     * Create and start a connector for an archive file.
+     *
+     * @param archiveFile archive file
+     * @return connector
+     * @throws Exception unexpected error
+     */
+    private FileBasedOpenMetadataArchiveStoreConnector getConnector(File archiveFile) throws Exception
+    {
+        FileBasedOpenMetadataArchiveStoreConnector connector  = new FileBasedOpenMetadataArchiveStoreConnector();
+        Connection                                 connection = new Connection();
+        Endpoint                                   endpoint   = new Endpoint();
+
+        endpoint.setAddress(archiveFile.getAbsolutePath());
+        connection.setEndpoint(endpoint);
+
+        connector.initialize("TestConnector", new ConnectionProperties(connection));
+        connector.start();
+
+        return connector;
+    }
+
+
+    /**
+     * Create a small archive with one of each type of element.
+     *
+     * @return archive
+     */
+    private OpenMetadataArchive getArchive()
+    {
+        OpenMetadataArchiveProperties archiveProperties = new OpenMetadataArchiveProperties();
+
+        archiveProperties.setArchiveGUID("archiveGUID");
+        archiveProperties.setArchiveName("archive");
+
+        PrimitiveDef primitiveDef = new PrimitiveDef(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+
+        primitiveDef.setGUID("primitiveGUID");
+        primitiveDef.setName("string");
+
+        EntityDef entityDef = new EntityDef();
+
+        entityDef.setGUID("entityDefGUID");
+        entityDef.setName("Asset");
+
+        TypeDefPatch typeDefPatch = new TypeDefPatch();
+
+        typeDefPatch.setTypeDefGUID("referenceableGUID");
+        typeDefPatch.setTypeDefName("Referenceable");
+
+        OpenMetadataArchiveTypeStore typeStore = new OpenMetadataArchiveTypeStore();
+
+        typeStore.setAttributeTypeDefs(Collections.singletonList(primitiveDef));
+        typeStore.setNewTypeDefs(Collections.singletonList(entityDef));
+        typeStore.setTypeDefPatches(Collections.singletonList(typeDefPatch));
+
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID("relationship1");
+
+        EntityProxy entityProxy = new EntityProxy();
+
+        entityProxy.setGUID("entity1");
+
+        ClassificationEntityExtension classification = new ClassificationEntityExtension();
+
+        classification.setEntityToClassify(entityProxy);
+
+        OpenMetadataArchiveInstanceStore instanceStore = new OpenMetadataArchiveInstanceStore();
+
+        instanceStore.setEntities(Arrays.asList(getEntity("entity1"), getEntity("entity2")));
+        instanceStore.setRelationships(Collections.singletonList(relationship));
+        instanceStore.setClassifications(Collections.singletonList(classification));
+
+        OpenMetadataArchive archive = new OpenMetadataArchive();
+
+        archive.setArchiveProperties(archiveProperties);
+        archive.setArchiveTypeStore(typeStore);
+        archive.setArchiveInstanceStore(instanceStore);
+
+        return archive;
+    }
+
+
+    /**
+     * Create an entity.
+     *
+     * @param guid unique identifier of the entity
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+
+        return entity;
+    }
+
+
+    /**
+     * RecordingProcessor records the elements it receives in order.
+     */
+    private static class RecordingProcessor implements OpenMetadataArchiveContentProcessor
+    {
+        final List<String> elements = new ArrayList<>();
+
+        @Override
+        public boolean processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+        {
+            elements.add(archiveProperties == null ? "no archive properties" : archiveProperties.getArchiveName());
+
+            return archiveProperties != null;
+        }
+
+        @Override
+        public void processAttributeTypeDef(AttributeTypeDef attributeTypeDef)
+        {
+            elements.add(attributeTypeDef.getClass().getSimpleName() + ":" + attributeTypeDef.getName());
+        }
+
+        @Override
+        public void processNewTypeDef(TypeDef typeDef)
+        {
+            elements.add(typeDef.getClass().getSimpleName() + ":" + typeDef.getName());
+        }
+
+        @Override
+        public void processTypeDefPatch(TypeDefPatch typeDefPatch)
+        {
+            elements.add("TypeDefPatch:" + typeDefPatch.getTypeDefName());
+        }
+
+        @Override
+        public void processInstanceStoreSize(long entityCount,
+                                             long relationshipCount,
+                                             long classificationCount)
+        {
+            elements.add("InstanceStoreSize:" + entityCount + "/" + relationshipCount + "/" + classificationCount);
+        }
+
+        @Override
+        public void processEntity(EntityDetail entity)
+        {
+            elements.add("EntityDetail:" + entity.getGUID());
+        }
+
+        @Override
+        public void processRelationship(Relationship relationship)
+        {
+            elements.add("Relationship:" + relationship.getGUID());
+        }
+
+        @Override
+        public void processClassification(ClassificationEntityExtension classification)
+        {
+            elements.add("Classification:" + classification.getEntityToClassify().getGUID());
+        }
+    }
+}
@@ -3,8 +3,6 @@
 
 package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
@@ -23,6 +21,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSJSONMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,6 +29,7 @@ import java.io.Serializable;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.*;
 
@@ -103,10 +103,9 @@ public class GraphOMRSClassificationMapper {
         if (classificationProperties != null) {
 
             // First write properties as json - useful for handling collections and possibly for full text/string matching???
-            ObjectMapper objectMapper = new ObjectMapper();
             String jsonString;
             try {
-                jsonString = objectMapper.writeValueAsString(classificationProperties);
+                jsonString = OMRSJSONMapper.writeInstanceProperties(classificationProperties);
                 log.debug("{} classification has serialized properties {}", methodName, jsonString);
                 vertex.property("classificationProperties", jsonString);
             } catch (Throwable exc) {
@@ -299,10 +298,9 @@ public class GraphOMRSClassificationMapper {
 
         List<String> maintainedByList = classification.getMaintainedBy();
         if (maintainedByList != null && !maintainedByList.isEmpty()) {
-            ObjectMapper objectMapper = new ObjectMapper();
             String jsonString;
             try {
-                jsonString = objectMapper.writeValueAsString(maintainedByList);
+                jsonString = OMRSJSONMapper.writeValue(maintainedByList);
                 vertex.property(PROPERTY_KEY_CLASSIFICATION_MAINTAINED_BY, jsonString);
 
             } catch (Throwable exc) {
@@ -330,10 +328,9 @@ public class GraphOMRSClassificationMapper {
 
         Map<String, Serializable> mappingProperties = classification.getMappingProperties();
         if (mappingProperties != null && !mappingProperties.isEmpty()) {
-            ObjectMapper objectMapper = new ObjectMapper();
             String jsonString;
             try {
-                jsonString = objectMapper.writeValueAsString(mappingProperties);
+                jsonString = OMRSJSONMapper.writeValue(mappingProperties);
                 vertex.property(PROPERTY_KEY_CLASSIFICATION_MAPPING_PROPERTIES, jsonString);
 
             } catch (Throwable exc) {
@@ -360,18 +357,32 @@ public class GraphOMRSClassificationMapper {
 
     public void mapVertexToClassification(Vertex vertex, Classification classification)
             throws RepositoryErrorException
+    {
+        mapPropertiesToClassification(propertyName -> getVertexProperty(vertex, propertyName), classification);
+    }
+
+
+    // Map a classification from the values of its core properties, as projected by a traversal
+    void mapCorePropertiesToClassification(Map<Object, Object> coreProperties, Classification classification)
+            throws RepositoryErrorException
+    {
+        mapPropertiesToClassification(coreProperties::get, classification);
+    }
+
+
+    private void mapPropertiesToClassification(Function<String, Object> vertexProperties, Classification classification)
+            throws RepositoryErrorException
     {
         String methodName = "mapVertexToClassification";
 
-        mapVertexToInstanceAuditHeader(vertex, classification);
+        mapPropertiesToInstanceAuditHeader(vertexProperties, classification);
 
         // properties
-        String stringProps = (String) getVertexProperty(vertex, "classificationProperties");
+        String stringProps = (String) vertexProperties.apply("classificationProperties");
 
         if (stringProps != null) {
-            ObjectMapper objectMapper = new ObjectMapper();
             try {
-                InstanceProperties instanceProperties = objectMapper.readValue(stringProps, InstanceProperties.class);
+                InstanceProperties instanceProperties = OMRSJSONMapper.readInstanceProperties(stringProps);
                 log.debug("{} classification has deserialized properties {}", methodName, instanceProperties);
                 classification.setProperties(instanceProperties);
             } catch (Throwable exc) {
@@ -389,27 +400,34 @@ public class GraphOMRSClassificationMapper {
 
     public void mapVertexToInstanceAuditHeader(Vertex vertex, Classification classification)
             throws RepositoryErrorException
+    {
+        mapPropertiesToInstanceAuditHeader(propertyName -> getVertexProperty(vertex, propertyName), classification);
+    }
+
+
+    private void mapPropertiesToInstanceAuditHeader(Function<String, Object> vertexProperties, Classification classification)
+            throws RepositoryErrorException
     {
         String methodName = "mapVertexToInstanceAuditHeader";
 
 
-        classification.setName((String) getVertexProperty(vertex, PROPERTY_KEY_CLASSIFICATION_CLASSIFICATION_NAME));
-        classification.setMetadataCollectionId((String) getVertexProperty(vertex, PROPERTY_KEY_CLASSIFICATION_METADATACOLLECTION_ID));
-        classification.setMetadataCollectionName((String) getVertexProperty(vertex, PROPERTY_KEY_CLASSIFICATION_METADATACOLLECTION_NAME));
-        classification.setClassificationOriginGUID((String) getVertexProperty(vertex, PROPERTY_KEY_CLASSIFICATION_CLASSIFICATION_ORIGIN_GUID));
-        classification.setCreatedBy((String) getVertexProperty(vertex, PROPERTY_KEY_CLASSIFICATION_CREATED_BY));
-        classification.setCreateTime((Date) getVertexProperty(vertex, PROPERTY_KEY_CLASSIFICATION_CREATE_TIME));
-        classification.setUpdatedBy((String) getVertexProperty(vertex, PROPERTY_KEY_CLASSIFICATION_UPDATED_BY));
-        classification.setUpdateTime((Date) getVertexProperty(vertex, PROPERTY_KEY_CLASSIFICATION_UPDATE_TIME));
-        classification.setVersion((long) getVertexProperty(vertex, PROPERTY_KEY_CLASSIFICATION_VERSION));
-        classification.setInstanceLicense((String) getVertexProperty(vertex, PROPERTY_KEY_CLASSIFICATION_INSTANCE_LICENSE));
+        classification.setName((String) vertexProperties.apply(PROPERTY_KEY_CLASSIFICATION_CLASSIFICATION_NAME));
+        classification.setMetadataCollectionId((String) vertexProperties.apply(PROPERTY_KEY_CLASSIFICATION_METADATACOLLECTION_ID));
+        classification.setMetadataCollectionName((String) vertexProperties.apply(PROPERTY_KEY_CLASSIFICATION_METADATACOLLECTION_NAME));
+        classification.setClassificationOriginGUID((String) vertexProperties.apply(PROPERTY_KEY_CLASSIFICATION_CLASSIFICATION_ORIGIN_GUID));
+        classification.setCreatedBy((String) vertexProperties.apply(PROPERTY_KEY_CLASSIFICATION_CREATED_BY));
+        classification.setCreateTime((Date) vertexProperties.apply(PROPERTY_KEY_CLASSIFICATION_CREATE_TIME));
+        classification.setUpdatedBy((String) vertexProperties.apply(PROPERTY_KEY_CLASSIFICATION_UPDATED_BY));
+        classification.setUpdateTime((Date) vertexProperties.apply(PROPERTY_KEY_CLASSIFICATION_UPDATE_TIME));
+        classification.setVersion((long) vertexProperties.apply(PROPERTY_KEY_CLASSIFICATION_VERSION));
+        classification.setInstanceLicense((String) vertexProperties.apply(PROPERTY_KEY_CLASSIFICATION_INSTANCE_LICENSE));
 
 
         // Retrieve the type name from the vertex, use the RH to retrieve the type
         // then use the necessary type fields to construct a TypeDefSummary and pass
         // that to the RH to create a new InstanceType...
         try {
-            String typeName = (String) getVertexProperty(vertex, PROPERTY_KEY_CLASSIFICATION_TYPE_NAME);
+            String typeName = (String) vertexProperties.apply(PROPERTY_KEY_CLASSIFICATION_TYPE_NAME);
             TypeDef typeDef = repositoryHelper.getTypeDefByName(repositoryName, typeName);
             InstanceType instanceType = repositoryHelper.getNewInstanceType(repositoryName, typeDef);
             classification.setType(instanceType);
@@ -426,28 +444,27 @@ public class GraphOMRSClassificationMapper {
 
         GraphOMRSMapperUtils mapperUtils = new GraphOMRSMapperUtils();
 
-        Integer provenanceOrdinal = (Integer) getVertexProperty(vertex, PROPERTY_KEY_CLASSIFICATION_INSTANCE_PROVENANCE_TYPE);
+        Integer provenanceOrdinal = (Integer) vertexProperties.apply(PROPERTY_KEY_CLASSIFICATION_INSTANCE_PROVENANCE_TYPE);
         InstanceProvenanceType instanceProvenanceType = mapperUtils.mapProvenanceOrdinalToEnum(provenanceOrdinal);
         classification.setInstanceProvenanceType(instanceProvenanceType);
 
-        Integer statusOrdinal = (Integer) getVertexProperty(vertex, PROPERTY_KEY_CLASSIFICATION_CURRENT_STATUS);
+        Integer statusOrdinal = (Integer) vertexProperties.apply(PROPERTY_KEY_CLASSIFICATION_CURRENT_STATUS);
         InstanceStatus instanceStatus = mapperUtils.mapStatusOrdinalToEnum(statusOrdinal);
         classification.setStatus(instanceStatus);
 
-        Integer statusOnDeleteOrdinal = (Integer) getVertexProperty(vertex, PROPERTY_KEY_CLASSIFICATION_STATUS_ON_DELETE);
+        Integer statusOnDeleteOrdinal = (Integer) vertexProperties.apply(PROPERTY_KEY_CLASSIFICATION_STATUS_ON_DELETE);
         InstanceStatus instanceStatusOnDelete = mapperUtils.mapStatusOrdinalToEnum(statusOnDeleteOrdinal);
         classification.setStatusOnDelete(instanceStatusOnDelete);
 
-        Integer originOrdinal = (Integer) getVertexProperty(vertex, PROPERTY_KEY_CLASSIFICATION_CLASSIFICATION_ORIGIN);
+        Integer originOrdinal = (Integer) vertexProperties.apply(PROPERTY_KEY_CLASSIFICATION_CLASSIFICATION_ORIGIN);
         ClassificationOrigin classificationOrigin = mapperUtils.mapClassificationOriginOrdinalToEnum(originOrdinal);
         classification.setClassificationOrigin(classificationOrigin);
 
         // maintainedBy
-        String maintainedByString = (String) getVertexProperty(vertex, PROPERTY_KEY_CLASSIFICATION_MAINTAINED_BY);
+        String maintainedByString = (String) vertexProperties.apply(PROPERTY_KEY_CLASSIFICATION_MAINTAINED_BY);
         if (maintainedByString != null) {
-            ObjectMapper objectMapper = new ObjectMapper();
             try {
-                List<String> maintainedByList = (List<String>) objectMapper.readValue(maintainedByString, List.class);
+                List<String> maintainedByList = OMRSJSONMapper.readStringList(maintainedByString);
                 log.debug("{} vertex has deserialized maintainedBy list {}", methodName, maintainedByList);
                 classification.setMaintainedBy(maintainedByList);
 
@@ -460,16 +477,14 @@ public class GraphOMRSClassificationMapper {
             }
         }
 
-        classification.setReplicatedBy((String) getVertexProperty( vertex,  PROPERTY_KEY_CLASSIFICATION_REPLICATED_BY));
+        classification.setReplicatedBy((String) vertexProperties.apply(PROPERTY_KEY_CLASSIFICATION_REPLICATED_BY));
 
 
         // mappingProperties
-        String mappingPropertiesString = (String) getVertexProperty(vertex, PROPERTY_KEY_CLASSIFICATION_MAPPING_PROPERTIES);
+        String mappingPropertiesString = (String) vertexProperties.apply(PROPERTY_KEY_CLASSIFICATION_MAPPING_PROPERTIES);
         if (mappingPropertiesString != null) {
-            ObjectMapper objectMapper = new ObjectMapper();
             try {
-                TypeReference<Map<String, Serializable>> typeReference = new TypeReference<Map<String, Serializable>>() {};
-                Map<String, Serializable> mappingPropertiesMap = objectMapper.readValue(mappingPropertiesString, typeReference);
+                Map<String, Serializable> mappingPropertiesMap = OMRSJSONMapper.readSerializableMap(mappingPropertiesString);
                 log.debug("{} vertex has deserialized mappingProperties {}", methodName, mappingPropertiesMap);
                 classification.setMappingProperties(mappingPropertiesMap);
 
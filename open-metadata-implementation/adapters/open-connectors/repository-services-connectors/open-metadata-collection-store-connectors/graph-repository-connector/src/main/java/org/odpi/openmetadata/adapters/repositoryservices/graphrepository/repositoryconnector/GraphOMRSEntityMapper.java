@@ -3,8 +3,6 @@
 package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
 
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -26,6 +24,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityProxyOnlyException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSJSONMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +34,7 @@ import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.*;
 
@@ -130,10 +130,9 @@ public class GraphOMRSEntityMapper {
         if (instanceProperties != null) {
 
             // First write properties as json - useful for handling collections and possibly for full text/string matching???
-            ObjectMapper objectMapper = new ObjectMapper();
             String jsonString;
             try {
-                jsonString = objectMapper.writeValueAsString(instanceProperties);
+                jsonString = OMRSJSONMapper.writeInstanceProperties(instanceProperties);
                 log.debug("{} entity has serialized properties {}", methodName, jsonString);
                 vertex.property("instanceProperties", jsonString);
             } catch (Throwable exc) {
@@ -192,10 +191,9 @@ public class GraphOMRSEntityMapper {
         InstanceProperties uniqueProperties = entity.getUniqueProperties();
         if (uniqueProperties != null) {
             // First approach was to write properties as json - could be useful for text/string matching???
-            ObjectMapper objectMapper = new ObjectMapper();
             String jsonString;
             try {
-                jsonString = objectMapper.writeValueAsString(uniqueProperties);
+                jsonString = OMRSJSONMapper.writeValue(uniqueProperties);
                 log.debug("{} entity proxy has serialized unique properties {}", methodName, jsonString);
                 vertex.property("instanceProperties", jsonString);
             } catch (Throwable exc) {
@@ -372,10 +370,9 @@ public class GraphOMRSEntityMapper {
         // can be indexed even on Relationships. Queries can use textRegex to search/retrieve.
         if (entity.getMaintainedBy() != null) {
             List<String> maintainers = entity.getMaintainedBy();
-            ObjectMapper objectMapper = new ObjectMapper();
             String jsonString;
             try {
-                jsonString = objectMapper.writeValueAsString(maintainers);
+                jsonString = OMRSJSONMapper.writeValue(maintainers);
                 log.debug("{} entity maintainedBy serialized to {}", methodName, jsonString);
                 vertex.property(PROPERTY_KEY_ENTITY_MAINTAINED_BY, jsonString);
             }
@@ -406,10 +403,9 @@ public class GraphOMRSEntityMapper {
         // anticipated that it will be used for search, more for correlation.
         if (entity.getMappingProperties() != null) {
             Map<String, Serializable> mappingProperties = entity.getMappingProperties();
-            ObjectMapper objectMapper = new ObjectMapper();
             String jsonString;
             try {
-                jsonString = objectMapper.writeValueAsString(mappingProperties);
+                jsonString = OMRSJSONMapper.writeValue(mappingProperties);
                 log.debug("{} entity maintainedBy serialized to {}", methodName, jsonString);
                 vertex.property(PROPERTY_KEY_ENTITY_MAPPING_PROPERTIES, jsonString);
             }
@@ -440,10 +436,35 @@ public class GraphOMRSEntityMapper {
             RepositoryErrorException,
             EntityProxyOnlyException
 
+    {
+        mapPropertiesToEntityDetail(propertyName -> getVertexProperty(vertex, propertyName), entity);
+        entity.setClassifications(mapVertexToClassifications(vertex));
+    }
+
+
+    // Map an entity from the values of its core properties and those of its classifications, as projected by a traversal
+    void mapCorePropertiesToEntityDetail(Map<Object, Object>       coreProperties,
+                                         List<Map<Object, Object>> classificationProperties,
+                                         EntityDetail              entity)
+            throws
+            RepositoryErrorException,
+            EntityProxyOnlyException
+
+    {
+        mapPropertiesToEntityDetail(coreProperties::get, entity);
+        entity.setClassifications(mapCorePropertiesToClassifications(classificationProperties));
+    }
+
+
+    private void mapPropertiesToEntityDetail(Function<String, Object> vertexProperties, EntityDetail entity)
+            throws
+            RepositoryErrorException,
+            EntityProxyOnlyException
+
     {
         String methodName = "mapVertexToEntityDetail";
 
-        Boolean isProxy = ((Boolean) getVertexProperty( vertex, PROPERTY_KEY_ENTITY_IS_PROXY));
+        Boolean isProxy = ((Boolean) vertexProperties.apply(PROPERTY_KEY_ENTITY_IS_PROXY));
         if (isProxy) {
 
             log.error("{} an EntityProxy cannot be retrieved as an EntityDetail {}", methodName, entity.getGUID());
@@ -456,15 +477,14 @@ public class GraphOMRSEntityMapper {
         }
 
 
-        mapVertexToEntitySummary(vertex, entity);
+        mapPropertiesToEntitySummary(vertexProperties, entity);
 
         // properties
-        String stringProps = (String) getVertexProperty(vertex, "instanceProperties");
+        String stringProps = (String) vertexProperties.apply("instanceProperties");
 
         if (stringProps != null) {
-            ObjectMapper objectMapper = new ObjectMapper();
             try {
-                InstanceProperties instanceProperties = objectMapper.readValue(stringProps, InstanceProperties.class);
+                InstanceProperties instanceProperties = OMRSJSONMapper.readInstanceProperties(stringProps);
                 log.debug("{} entity has deserialized properties {}", methodName, instanceProperties);
                 entity.setProperties(instanceProperties);
             } catch (Throwable exc) {
@@ -483,10 +503,29 @@ public class GraphOMRSEntityMapper {
     // This method is not concerned with how the proxy flag is set - it will render the vertex as a proxy whether it was created as such or as an EntityDetail
     void mapVertexToEntityProxy(Vertex vertex, EntityProxy entity)
             throws RepositoryErrorException
+    {
+        mapPropertiesToEntityProxy(propertyName -> getVertexProperty(vertex, propertyName), entity);
+        entity.setClassifications(mapVertexToClassifications(vertex));
+    }
+
+
+    // Map an entity proxy from the values of its core properties and those of its classifications, as projected by a traversal
+    void mapCorePropertiesToEntityProxy(Map<Object, Object>       coreProperties,
+                                        List<Map<Object, Object>> classificationProperties,
+                                        EntityProxy               entity)
+            throws RepositoryErrorException
+    {
+        mapPropertiesToEntityProxy(coreProperties::get, entity);
+        entity.setClassifications(mapCorePropertiesToClassifications(classificationProperties));
+    }
+
+
+    private void mapPropertiesToEntityProxy(Function<String, Object> vertexProperties, EntityProxy entity)
+            throws RepositoryErrorException
     {
         String methodName = "mapVertexToEntityProxy";
 
-        mapVertexToEntitySummary(vertex, entity);
+        mapPropertiesToEntitySummary(vertexProperties, entity);
 
         InstanceType type = entity.getType();
         TypeDef typeDef;
@@ -510,12 +549,11 @@ public class GraphOMRSEntityMapper {
         }
 
         // properties
-        String stringProps = (String) getVertexProperty(vertex, "instanceProperties");
+        String stringProps = (String) vertexProperties.apply("instanceProperties");
 
         if (stringProps != null) {
-            ObjectMapper objectMapper = new ObjectMapper();
             try {
-                InstanceProperties instanceProperties = objectMapper.readValue(stringProps, InstanceProperties.class);
+                InstanceProperties instanceProperties = OMRSJSONMapper.readInstanceProperties(stringProps);
                 log.debug("{} entity has deserialized properties {}", methodName, instanceProperties);
                 List<TypeDefAttribute> propertiesDefinition = repositoryHelper.getAllPropertiesForTypeDef(repositoryName, typeDef, methodName);
                 InstanceProperties uniqueAttributes = new InstanceProperties();
@@ -565,26 +603,34 @@ public class GraphOMRSEntityMapper {
 
     void mapVertexToEntitySummary(Vertex vertex, EntitySummary entity)
             throws RepositoryErrorException
+    {
+        mapPropertiesToEntitySummary(propertyName -> getVertexProperty(vertex, propertyName), entity);
+        entity.setClassifications(mapVertexToClassifications(vertex));
+    }
+
+
+    private void mapPropertiesToEntitySummary(Function<String, Object> vertexProperties, EntitySummary entity)
+            throws RepositoryErrorException
     {
         String methodName = "mapVertexToEntitySummary";
 
 
-        entity.setGUID((String) getVertexProperty( vertex, PROPERTY_KEY_ENTITY_GUID));
-        entity.setMetadataCollectionId((String) getVertexProperty( vertex, PROPERTY_KEY_ENTITY_METADATACOLLECTION_ID));
-        entity.setMetadataCollectionName((String) getVertexProperty( vertex, PROPERTY_KEY_ENTITY_METADATACOLLECTION_NAME));
-        entity.setCreatedBy((String) getVertexProperty( vertex,  PROPERTY_KEY_ENTITY_CREATED_BY));
-        entity.setCreateTime((Date)getVertexProperty( vertex, PROPERTY_KEY_ENTITY_CREATE_TIME));
-        entity.setUpdatedBy((String) getVertexProperty( vertex,  PROPERTY_KEY_ENTITY_UPDATED_BY));
-        entity.setUpdateTime((Date)getVertexProperty( vertex, PROPERTY_KEY_ENTITY_UPDATE_TIME));
-        entity.setVersion((long) getVertexProperty( vertex, PROPERTY_KEY_ENTITY_VERSION));
-        entity.setInstanceLicense((String) getVertexProperty( vertex, PROPERTY_KEY_ENTITY_INSTANCE_LICENSE));
-        entity.setInstanceURL((String) getVertexProperty( vertex,  PROPERTY_KEY_ENTITY_INSTANCE_URL));
+        entity.setGUID((String) vertexProperties.apply(PROPERTY_KEY_ENTITY_GUID));
+        entity.setMetadataCollectionId((String) vertexProperties.apply(PROPERTY_KEY_ENTITY_METADATACOLLECTION_ID));
+        entity.setMetadataCollectionName((String) vertexProperties.apply(PROPERTY_KEY_ENTITY_METADATACOLLECTION_NAME));
+        entity.setCreatedBy((String) vertexProperties.apply(PROPERTY_KEY_ENTITY_CREATED_BY));
+        entity.setCreateTime((Date) vertexProperties.apply(PROPERTY_KEY_ENTITY_CREATE_TIME));
+        entity.setUpdatedBy((String) vertexProperties.apply(PROPERTY_KEY_ENTITY_UPDATED_BY));
+        entity.setUpdateTime((Date) vertexProperties.apply(PROPERTY_KEY_ENTITY_UPDATE_TIME));
+        entity.setVersion((long) vertexProperties.apply(PROPERTY_KEY_ENTITY_VERSION));
+        entity.setInstanceLicense((String) vertexProperties.apply(PROPERTY_KEY_ENTITY_INSTANCE_LICENSE));
+        entity.setInstanceURL((String) vertexProperties.apply(PROPERTY_KEY_ENTITY_INSTANCE_URL));
 
         // Retrieve the type name from the vertex, use the RH to retrieve the type
         // then use the necessary type fields to construct a TypeDefSummary and pass
         // that to the RH to create a new InstanceType...
         try {
-            String typeName = (String) getVertexProperty( vertex, PROPERTY_KEY_ENTITY_TYPE_NAME);
+            String typeName = (String) vertexProperties.apply(PROPERTY_KEY_ENTITY_TYPE_NAME);
             TypeDef typeDef = repositoryHelper.getTypeDefByName(repositoryName, typeName);
             InstanceType instanceType = repositoryHelper.getNewInstanceType(repositoryName, typeDef);
             entity.setType(instanceType);
@@ -601,24 +647,23 @@ public class GraphOMRSEntityMapper {
 
         GraphOMRSMapperUtils mapperUtils = new GraphOMRSMapperUtils();
 
-        Integer provenanceOrdinal = (Integer) getVertexProperty( vertex, PROPERTY_KEY_ENTITY_INSTANCE_PROVENANCE_TYPE);
+        Integer provenanceOrdinal = (Integer) vertexProperties.apply(PROPERTY_KEY_ENTITY_INSTANCE_PROVENANCE_TYPE);
         InstanceProvenanceType instanceProvenanceType = mapperUtils.mapProvenanceOrdinalToEnum(provenanceOrdinal);
         entity.setInstanceProvenanceType(instanceProvenanceType);
 
-        Integer statusOrdinal = (Integer) getVertexProperty( vertex, PROPERTY_KEY_ENTITY_CURRENT_STATUS);
+        Integer statusOrdinal = (Integer) vertexProperties.apply(PROPERTY_KEY_ENTITY_CURRENT_STATUS);
         InstanceStatus instanceStatus = mapperUtils.mapStatusOrdinalToEnum(statusOrdinal);
         entity.setStatus(instanceStatus);
 
-        Integer statusOnDeleteOrdinal = (Integer) getVertexProperty( vertex, PROPERTY_KEY_ENTITY_STATUS_ON_DELETE);
+        Integer statusOnDeleteOrdinal = (Integer) vertexProperties.apply(PROPERTY_KEY_ENTITY_STATUS_ON_DELETE);
         InstanceStatus statusOnDelete = mapperUtils.mapStatusOrdinalToEnum(statusOnDeleteOrdinal);
         entity.setStatusOnDelete(statusOnDelete);
 
 
-        String maintainedByString = (String) getVertexProperty(vertex, PROPERTY_KEY_ENTITY_MAINTAINED_BY);
+        String maintainedByString = (String) vertexProperties.apply(PROPERTY_KEY_ENTITY_MAINTAINED_BY);
         if (maintainedByString != null) {
-            ObjectMapper objectMapper = new ObjectMapper();
             try {
-                List<String> maintainedByList = (List<String>) objectMapper.readValue(maintainedByString, List.class);
+                List<String> maintainedByList = OMRSJSONMapper.readStringList(maintainedByString);
                 log.debug("{} entity has deserialized maintainedBy {}", methodName, maintainedByList);
                 entity.setMaintainedBy(maintainedByList);
             } catch (Throwable exc) {
@@ -631,15 +676,13 @@ public class GraphOMRSEntityMapper {
             }
         }
 
-        entity.setReplicatedBy((String) getVertexProperty( vertex,  PROPERTY_KEY_ENTITY_REPLICATED_BY));
+        entity.setReplicatedBy((String) vertexProperties.apply(PROPERTY_KEY_ENTITY_REPLICATED_BY));
 
 
-        String mappingPropertiesString = (String) getVertexProperty(vertex, PROPERTY_KEY_ENTITY_MAPPING_PROPERTIES);
+        String mappingPropertiesString = (String) vertexProperties.apply(PROPERTY_KEY_ENTITY_MAPPING_PROPERTIES);
         if (mappingPropertiesString != null) {
-            ObjectMapper objectMapper = new ObjectMapper();
             try {
-                TypeReference<Map<String, Serializable>> typeReference = new TypeReference<Map<String, Serializable>>() {};
-                Map<String, Serializable> mappingPropertiesMap = objectMapper.readValue(mappingPropertiesString, typeReference);
+                Map<String, Serializable> mappingPropertiesMap = OMRSJSONMapper.readSerializableMap(mappingPropertiesString);
                 log.debug("{} entity has deserialized mappingProperties {}", methodName, mappingPropertiesMap);
                 entity.setMappingProperties(mappingPropertiesMap);
             } catch (Throwable exc) {
@@ -651,9 +694,14 @@ public class GraphOMRSEntityMapper {
                         methodName, exc);
             }
         }
+    }
+
 
+    private List<Classification> mapVertexToClassifications(Vertex vertex)
+            throws RepositoryErrorException
+    {
+        String methodName = "mapVertexToClassifications";
 
-        // Get the classifications
         List<Classification> classifications = new ArrayList<>();
         Iterator<Edge> classifierEdges = vertex.edges(Direction.OUT, "Classifier");
         while (classifierEdges.hasNext()) {
@@ -667,8 +715,28 @@ public class GraphOMRSEntityMapper {
         if (classifications.isEmpty()) {
             classifications = null;
         }
-        entity.setClassifications(classifications);
+        return classifications;
+    }
 
+
+    private List<Classification> mapCorePropertiesToClassifications(List<Map<Object, Object>> classificationProperties)
+            throws RepositoryErrorException
+    {
+        String methodName = "mapCorePropertiesToClassifications";
+
+        List<Classification> classifications = new ArrayList<>();
+        if (classificationProperties != null) {
+            for (Map<Object, Object> coreProperties : classificationProperties) {
+                Classification classification = new Classification();
+                classificationMapper.mapCorePropertiesToClassification(coreProperties, classification);
+                log.debug("{} entity has classification: {} ", methodName, classification.getName());
+                classifications.add(classification);
+            }
+        }
+        if (classifications.isEmpty()) {
+            classifications = null;
+        }
+        return classifications;
     }
 
 
@@ -680,6 +748,10 @@ public class GraphOMRSEntityMapper {
         return isProxy;
     }
 
+    Boolean isProxy(Map<Object, Object> coreProperties) {
+        return (Boolean) coreProperties.get(PROPERTY_KEY_ENTITY_IS_PROXY);
+    }
+
     public void setProxy(Vertex vertex) {
         vertex.property(PROPERTY_KEY_ENTITY_IS_PROXY, true);
     }
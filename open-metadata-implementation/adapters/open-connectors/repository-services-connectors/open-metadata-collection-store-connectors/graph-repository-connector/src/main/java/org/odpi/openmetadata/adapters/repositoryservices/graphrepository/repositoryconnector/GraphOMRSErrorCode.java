@@ -146,6 +146,10 @@ public enum GraphOMRSErrorCode implements ExceptionMessageSet
             "The search properties contains a values that do not match the type of property {0} - reported by the {1} method of class {2} to open metadata repository {3}",
             "The system is unable to perform the request because the provided values do not match the type of the property.",
             "Correct the caller's code and retry the request."),
+    UPDATE_CONFLICT(409, "OMRS-GRAPH-REPOSITORY-409-001",
+            "The {0} method of class {1} could not commit its update to open metadata repository {2} after {3} attempts because other requests were changing the same instances",
+            "The system was unable to perform the update because the instances were locked by other transactions.",
+            "Retry the request when the other updates to the instances have completed."),
 
     ;
 
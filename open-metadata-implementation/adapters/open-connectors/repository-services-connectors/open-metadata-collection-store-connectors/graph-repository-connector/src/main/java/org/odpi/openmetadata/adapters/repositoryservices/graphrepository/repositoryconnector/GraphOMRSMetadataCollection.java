@@ -53,6 +53,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -324,6 +325,45 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         return entity;
     }
 
+    // areEntitiesKnown
+    @Override
+    public Map<String, EntityDetail> areEntitiesKnown(String       userId,
+                                                      List<String> guids)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            UserNotAuthorizedException
+    {
+        final String  methodName = "areEntitiesKnown";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstanceListParameterValidation(userId, guids, methodName);
+
+        /*
+         * Perform operation
+         */
+        Map<String, EntityDetail> entities = graphStore.getEntityDetailsFromStore(guids);
+
+        Iterator<Map.Entry<String, EntityDetail>> iterator = entities.entrySet().iterator();
+
+        while (iterator.hasNext())
+        {
+            Map.Entry<String, EntityDetail> entity = iterator.next();
+
+            try {
+                repositoryValidator.validateEntityFromStore(repositoryName, entity.getKey(), entity.getValue(), methodName);
+            }
+            catch (EntityNotKnownException e) {
+                log.error("{} entity with GUID {} does not exist in repository {}", methodName, entity.getKey(), repositoryName);
+                iterator.remove();
+            }
+        }
+
+        return entities;
+    }
+
     // isRelationshipKnown
     @Override
     public Relationship  isRelationshipKnown(String     userId,
@@ -1247,6 +1287,12 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
             specifiedTypeName = typeDef.getName();
         }
 
+        // The classification filter is applied after the search so the graph can only page the results if there is none.
+        int maxResults = 0;
+        if (limitResultsByClassification == null || limitResultsByClassification.isEmpty()) {
+            maxResults = getMaxResults(fromEntityElement, pageSize);
+        }
+
         TypeDefGallery activeTypes = repositoryHelper.getActiveTypeDefGallery();
         List<TypeDef> allTypeDefs = activeTypes.getTypeDefs();
 
@@ -1267,8 +1313,14 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
                 }
 
+                int maxResultsForType = getMaxResultsForType(maxResults, sequencingProperty, returnEntities);
+                if (maxResultsForType < 0) {
+                    break;
+                }
+
                 // Invoke a type specific search. The search will expect the regexp to match fully to the value.
-                List<EntityDetail> entitiesForCurrentType = graphStore.findEntitiesByProperty(actualTypeName, matchProperties, matchCriteria, true);
+                List<EntityDetail> entitiesForCurrentType = graphStore.findEntitiesByProperty(actualTypeName, matchProperties, matchCriteria, true,
+                                                                                              limitResultsByStatus, sequencingProperty, sequencingOrder, maxResultsForType);
 
                 if (entitiesForCurrentType != null && !entitiesForCurrentType.isEmpty()) {
                     if (returnEntities == null) {
@@ -1380,6 +1432,8 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
         String specifiedTypeName = null;
 
+        int maxResults = getMaxResults(fromRelationshipElement, pageSize);
+
         if (relationshipTypeGUID != null) {
             // search the specified type (only)
             TypeDef typeDef = repositoryHelper.getTypeDef(repositoryName, guidParameterName, relationshipTypeGUID, methodName);
@@ -1387,7 +1441,8 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
             log.info("{}: search relationship type {}", methodName, specifiedTypeName);
 
-            returnRelationships = graphStore.findRelationshipsByProperty(specifiedTypeName, matchProperties, matchCriteria, true);
+            returnRelationships = graphStore.findRelationshipsByProperty(specifiedTypeName, matchProperties, matchCriteria, true,
+                                                                         limitResultsByStatus, sequencingProperty, sequencingOrder, maxResults);
 
         }
         else {
@@ -1404,9 +1459,15 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
                     String actualTypeName = typeDef.getName();
 
+                    int maxResultsForType = getMaxResultsForType(maxResults, sequencingProperty, returnRelationships);
+                    if (maxResultsForType < 0) {
+                        break;
+                    }
+
                     // For this type, invoke a type specific search...
 
-                    List<Relationship> relationshipsForCurrentType = graphStore.findRelationshipsByProperty(actualTypeName, matchProperties, matchCriteria, true);
+                    List<Relationship> relationshipsForCurrentType = graphStore.findRelationshipsByProperty(actualTypeName, matchProperties, matchCriteria, true,
+                                                                                                            limitResultsByStatus, sequencingProperty, sequencingOrder, maxResultsForType);
 
                     if (relationshipsForCurrentType != null && !relationshipsForCurrentType.isEmpty()) {
                         if (returnRelationships == null) {
@@ -1464,6 +1525,55 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    /**
+     * Return the number of matching instances that a search needs to retrieve from the graph to be able to
+     * fill the requested page.
+     *
+     * @param fromElement the starting element number of the instances to return
+     * @param pageSize the maximum number of instances to return
+     * @return number of instances or zero if all matching instances are needed
+     */
+    private int getMaxResults(int fromElement,
+                              int pageSize)
+    {
+        if ((pageSize <= 0) || (fromElement < 0) || (fromElement > Integer.MAX_VALUE - pageSize))
+        {
+            return 0;
+        }
+
+        return fromElement + pageSize;
+    }
+
+
+    /**
+     * Return the number of matching instances that the search of the next type needs to retrieve from the graph.
+     * If the results are sequenced on a property every type must supply its own first maxResults instances.
+     * Otherwise the results keep the order that the types are searched in so each type only needs to supply
+     * the instances that are still missing from the page.
+     *
+     * @param maxResults number of instances needed to fill the page or zero if all matching instances are needed
+     * @param sequencingProperty name of the property that the results are sequenced on
+     * @param resultsSoFar instances found by the searches of the previous types
+     * @return number of instances for the type, zero for all instances or -1 if the page is already full
+     */
+    private int getMaxResultsForType(int     maxResults,
+                                     String  sequencingProperty,
+                                     List<?> resultsSoFar)
+    {
+        if ((maxResults == 0) || (sequencingProperty != null) || (resultsSoFar == null))
+        {
+            return maxResults;
+        }
+
+        if (resultsSoFar.size() >= maxResults)
+        {
+            return -1;
+        }
+
+        return maxResults - resultsSoFar.size();
+    }
+
+
     // findEntitiesByPropertyValue
     @Override
     public  List<EntityDetail> findEntitiesByPropertyValue(String                userId,
@@ -1524,6 +1634,12 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
             specifiedTypeName = typeDef.getName();
         }
 
+        // The classification filter is applied after the search so the graph can only page the results if there is none.
+        int maxResults = 0;
+        if (limitResultsByClassification == null || limitResultsByClassification.isEmpty()) {
+            maxResults = getMaxResults(fromEntityElement, pageSize);
+        }
+
         TypeDefGallery activeTypes = repositoryHelper.getActiveTypeDefGallery();
         List<TypeDef> allTypeDefs = activeTypes.getTypeDefs();
 
@@ -1544,11 +1660,17 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
                 }
 
+                int maxResultsForType = getMaxResultsForType(maxResults, sequencingProperty, returnEntities);
+                if (maxResultsForType < 0) {
+                    break;
+                }
+
                 InstanceProperties matchProperties = graphStore.constructMatchPropertiesForSearchCriteria(typeDef, searchCriteria, GraphOMRSConstants.ElementType.Vertex);
 
 
                 // Do not tolerate substring matches - instead always the regex must match the whole value - i.e. set fullMatch parameter to true.
-                List<EntityDetail> entitiesForCurrentType = graphStore.findEntitiesByProperty(actualTypeName, matchProperties, MatchCriteria.ANY, true);
+                List<EntityDetail> entitiesForCurrentType = graphStore.findEntitiesByProperty(actualTypeName, matchProperties, MatchCriteria.ANY, true,
+                                                                                              limitResultsByStatus, sequencingProperty, sequencingOrder, maxResultsForType);
 
 
                 if (entitiesForCurrentType != null && !entitiesForCurrentType.isEmpty()) {
@@ -1672,14 +1794,22 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         }
 
 
+        int maxResults = getMaxResults(fromRelationshipElement, pageSize);
+
         for (TypeDef typeDef : typesToSearch) {
 
             String currentTypeName = typeDef.getName();
 
+            int maxResultsForType = getMaxResultsForType(maxResults, sequencingProperty, returnRelationships);
+            if (maxResultsForType < 0) {
+                break;
+            }
+
             InstanceProperties matchProperties = graphStore.constructMatchPropertiesForSearchCriteria(typeDef, searchCriteria, GraphOMRSConstants.ElementType.Edge);
 
             // Expect the regex to fully match the value
-            List<Relationship> relationshipsForCurrentType = graphStore.findRelationshipsByProperty(currentTypeName, matchProperties, MatchCriteria.ANY, true);
+            List<Relationship> relationshipsForCurrentType = graphStore.findRelationshipsByProperty(currentTypeName, matchProperties, MatchCriteria.ANY, true,
+                                                                                                    limitResultsByStatus, sequencingProperty, sequencingOrder, maxResultsForType);
 
             if (relationshipsForCurrentType != null && !relationshipsForCurrentType.isEmpty()) {
                 if (returnRelationships == null) {
@@ -1816,6 +1946,15 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
             specifiedTypeName = typeDef.getName();
         }
 
+        /*
+         * The classifications are matched after the search so the graph can only page the results if there are none.
+         */
+        int maxResults = 0;
+        if ((matchClassifications == null) || (matchClassifications.getConditions() == null) || (matchClassifications.getConditions().isEmpty()))
+        {
+            maxResults = getMaxResults(fromEntityElement, pageSize);
+        }
+
         TypeDefGallery activeTypes = repositoryHelper.getActiveTypeDefGallery();
         List<TypeDef> allTypeDefs = activeTypes.getTypeDefs();
 
@@ -1878,10 +2017,17 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                     }
                 }
 
+                int maxResultsForType = getMaxResultsForType(maxResults, sequencingProperty, returnEntities);
+                if (maxResultsForType < 0)
+                {
+                    break;
+                }
+
                 /*
                  * Invoke a type specific search. The search will expect the regexp to match fully to the value.
                  */
-                List<EntityDetail> entitiesForCurrentType = graphStore.findEntities(actualTypeName, matchProperties, true);
+                List<EntityDetail> entitiesForCurrentType = graphStore.findEntities(actualTypeName, matchProperties, true,
+                                                                                    limitResultsByStatus, sequencingProperty, sequencingOrder, maxResultsForType);
 
                 if (entitiesForCurrentType != null && !entitiesForCurrentType.isEmpty())
                 {
@@ -2032,6 +2178,8 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
             specifiedTypeName = typeDef.getName();
         }
 
+        int maxResults = getMaxResults(fromRelationshipElement, pageSize);
+
         TypeDefGallery activeTypes = repositoryHelper.getActiveTypeDefGallery();
         List<TypeDef> allTypeDefs = activeTypes.getTypeDefs();
 
@@ -2094,10 +2242,17 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                     }
                 }
 
+                int maxResultsForType = getMaxResultsForType(maxResults, sequencingProperty, returnRelationships);
+                if (maxResultsForType < 0)
+                {
+                    break;
+                }
+
                 /*
                  * Invoke a type specific search. The search will expect the regexp to match fully to the value.
                  */
-                List<Relationship> relationshipsForCurrentType = graphStore.findRelationships(actualTypeName, matchProperties, true);
+                List<Relationship> relationshipsForCurrentType = graphStore.findRelationships(actualTypeName, matchProperties, true,
+                                                                                              limitResultsByStatus, sequencingProperty, sequencingOrder, maxResultsForType);
 
                 if (relationshipsForCurrentType != null && !relationshipsForCurrentType.isEmpty())
                 {
@@ -3317,6 +3472,43 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    /**
+     * Save a list of entities as reference copies.  The id of the home metadata collection is already set up in
+     * each entity.  The entities are saved in a single graph transaction.
+     *
+     * @param userId  unique identifier for requesting server.
+     * @param entities  details of the entities to save.
+     * @throws InvalidParameterException one of the entities is invalid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveEntityReferenceCopies(String             userId,
+                                          List<EntityDetail> entities)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            UserNotAuthorizedException
+    {
+        final String  methodName            = "saveEntityReferenceCopies";
+        final String  instanceParameterName = "entities";
+
+        /*
+         * Validate parameters
+         */
+        super.referenceInstanceListParameterValidation(userId, entities, instanceParameterName, methodName);
+
+        /*
+         * Save entities
+         */
+        if ((entities != null) && (! entities.isEmpty()))
+        {
+            graphStore.saveEntityReferenceCopiesToStore(entities);
+        }
+    }
+
+
     @Override
     public List<Classification> getHomeClassifications(String userId,
                                                        String entityGUID)
@@ -3593,6 +3785,43 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    /**
+     * Save a list of relationships as reference copies.  The id of the home metadata collection is already set up
+     * in each relationship.  The relationships are saved in a single graph transaction.
+     *
+     * @param userId  unique identifier for requesting server.
+     * @param relationships  relationships to save.
+     * @throws InvalidParameterException one of the relationships is invalid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveRelationshipReferenceCopies(String             userId,
+                                                List<Relationship> relationships)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            UserNotAuthorizedException
+    {
+        final String  methodName            = "saveRelationshipReferenceCopies";
+        final String  instanceParameterName = "relationships";
+
+        /*
+         * Validate parameters
+         */
+        super.referenceInstanceListParameterValidation(userId, relationships, instanceParameterName, methodName);
+
+        /*
+         * Save relationships
+         */
+        if ((relationships != null) && (! relationships.isEmpty()))
+        {
+            graphStore.saveRelationshipReferenceCopiesToStore(relationships);
+        }
+    }
+
+
     @Override
     public void purgeRelationshipReferenceCopy(String   userId,
                                                String   relationshipGUID,
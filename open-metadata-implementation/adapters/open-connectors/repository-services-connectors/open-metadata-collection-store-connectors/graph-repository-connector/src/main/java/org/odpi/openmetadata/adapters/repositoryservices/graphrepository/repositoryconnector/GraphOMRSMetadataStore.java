@@ -4,17 +4,23 @@
 package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
 
 
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphException;
 import org.janusgraph.core.attribute.Text;
+import org.janusgraph.diskstorage.locking.PermanentLockingException;
+import org.janusgraph.diskstorage.locking.TemporaryLockingException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ArrayPropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
@@ -50,6 +56,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -57,6 +64,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.P.eq;
 import static org.apache.tinkerpop.gremlin.process.traversal.P.gt;
@@ -67,6 +76,7 @@ import static org.apache.tinkerpop.gremlin.process.traversal.P.neq;
 import static org.apache.tinkerpop.gremlin.process.traversal.P.within;
 import static org.apache.tinkerpop.gremlin.process.traversal.P.without;
 
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.elementMap;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
 
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_CLASSIFICATION_CLASSIFICATION_NAME;
@@ -98,15 +108,37 @@ import static org.odpi.openmetadata.repositoryservices.connectors.stores.metadat
  * GraphOMRSMetadataStore provides the graph store for the GraphRepositoryConnector
  * The Graph Store is implemented using JanusGraph and is used to store instances.
  * There is no type graph because the RCM is used to get any information about TypeDefs and AttributeTypeDefs.
+ *
+ * The store does not serialize all of its callers.  JanusGraph gives each thread its own transaction, so every
+ * request reads and updates the graph in a transaction of its own and requests on different threads run concurrently.
+ * Most changes to an instance only change properties that are not indexed, or add classification vertices, so
+ * JanusGraph would not detect two transactions changing the same instance.  Each update therefore holds the locks,
+ * selected from a fixed set by GUID, of the instances that it changes.  Updates to the same instance run one at a time
+ * while updates to different instances run concurrently.
  */
 class GraphOMRSMetadataStore {
 
     private static final Logger log = LoggerFactory.getLogger(GraphOMRSMetadataStore.class);
 
+    static final int MAX_UPDATE_ATTEMPTS = 5;
+    private static final int LOCK_STRIPES        = 64;
+
+    static final int DEFAULT_MAX_SUBGRAPH_RELATIONSHIPS = 10000;
+
     private String repositoryName;
     private String metadataCollectionId;
 
     private OMRSRepositoryHelper repositoryHelper;
+    private AuditLog             auditLog;
+
+    private int maxSubgraphRelationships = DEFAULT_MAX_SUBGRAPH_RELATIONSHIPS;
+
+    // Keys of the properties that are projected to map the entities, classifications and relationships of a subgraph
+    private static final String[] subGraphEntityPropertyKeys         = getSubGraphPropertyKeys(corePropertiesEntity.values(), "instanceProperties");
+    private static final String[] subGraphClassificationPropertyKeys = getSubGraphPropertyKeys(corePropertiesClassification.values(), "classificationProperties");
+    private static final String[] subGraphRelationshipPropertyKeys   = getSubGraphPropertyKeys(corePropertiesRelationship.values(), "relationshipProperties");
+
+    private final ReentrantLock[] instanceLocks = new ReentrantLock[LOCK_STRIPES];
 
     // The instance graph is used to store entities (vertices) and relationships (edges).
 
@@ -125,7 +157,7 @@ class GraphOMRSMetadataStore {
      * @param repositoryName       name of this repository
      * @param repositoryHelper     utilities
      * @param auditLog             logging destination
-     * @param storageProperties    properties for the graph DB
+     * @param storageProperties    properties for the graph DB and the maximum size of a neighborhood
      * @throws RepositoryErrorException problem with the graph database.
      */
     GraphOMRSMetadataStore(String                 metadataCollectionId,
@@ -142,14 +174,30 @@ class GraphOMRSMetadataStore {
         this.metadataCollectionId = metadataCollectionId;
         this.repositoryName = repositoryName;
         this.repositoryHelper = repositoryHelper;
+        this.auditLog = auditLog;
+
+        for (int i = 0; i < LOCK_STRIPES; i++)
+        {
+            instanceLocks[i] = new ReentrantLock();
+        }
 
 
+        /*
+         * The maximum size of a neighborhood is not a JanusGraph property so it is taken out of the storage properties.
+         */
+        Map<String, Object> graphProperties = storageProperties;
+        if ((storageProperties != null) && (storageProperties.containsKey(GraphOMRSRepositoryConnectorProvider.maxSubgraphRelationshipsProperty)))
+        {
+            graphProperties = new HashMap<>(storageProperties);
+            this.setMaxSubgraphRelationships(graphProperties.remove(GraphOMRSRepositoryConnectorProvider.maxSubgraphRelationshipsProperty));
+        }
+
         try
         {
             graphFactory = new GraphOMRSGraphFactory();
             synchronized (GraphOMRSMetadataStore.class)
             {
-                instanceGraph = graphFactory.open(metadataCollectionId, repositoryName, auditLog, storageProperties);
+                instanceGraph = graphFactory.open(metadataCollectionId, repositoryName, auditLog, graphProperties);
             }
         }
         catch (RepositoryErrorException e)
@@ -165,22 +213,260 @@ class GraphOMRSMetadataStore {
     }
 
 
+    /*
+     * Set the maximum number of relationships in the neighborhood of an entity from its configuration property, which may be a
+     * number or a string.  A value that is not a positive number is ignored.
+     */
+    private void setMaxSubgraphRelationships(Object propertyValue)
+    {
+        try
+        {
+            int value = (propertyValue instanceof Number) ? ((Number) propertyValue).intValue() : Integer.parseInt(String.valueOf(propertyValue));
+
+            if (value > 0)
+            {
+                maxSubgraphRelationships = value;
+            }
+            else
+            {
+                log.warn("Ignoring {} value {}", GraphOMRSRepositoryConnectorProvider.maxSubgraphRelationshipsProperty, propertyValue);
+            }
+        }
+        catch (NumberFormatException e)
+        {
+            log.warn("Ignoring {} value {}", GraphOMRSRepositoryConnectorProvider.maxSubgraphRelationshipsProperty, propertyValue);
+        }
+    }
+
+
+    /*
+     * An update to the graph that is made in the transaction of the calling thread.  It may throw one type of
+     * checked exception in addition to RepositoryErrorException.
+     */
+    interface GraphUpdate<E extends Exception>
+    {
+        void apply(GraphTraversalSource g) throws E, RepositoryErrorException;
+    }
+
+
+    /*
+     * Make an update to the graph and commit it while holding the locks of the instances that it changes.  Updates
+     * to the same instance are therefore made one after another, and each sees the changes committed by the one
+     * before - for example a create then finds the instance that was added by the other update and reports that it
+     * already exists.  JanusGraph can still fail a commit because another transaction holds a lock on a unique index
+     * entry (for example if the storage backend is shared), in which case the transaction is rolled back and the
+     * update is made again.  Any other failure is passed straight back to the caller.
+     */
+    <E extends Exception> void updateGraph(String         methodName,
+                                           GraphUpdate<E> update,
+                                           String...      instanceGUIDs)
+
+    throws E,
+           RepositoryErrorException
+
+    {
+        List<ReentrantLock> locks = this.lockInstances(instanceGUIDs);
+
+        try
+        {
+            this.commitUpdate(methodName, update);
+        }
+        finally
+        {
+            for (ReentrantLock lock : locks)
+            {
+                lock.unlock();
+            }
+        }
+    }
+
+
+    /*
+     * Acquire the locks of the instances with the supplied GUIDs.  The locks are always acquired in the same order
+     * so that two updates that change more than one instance cannot deadlock.
+     */
+    private List<ReentrantLock> lockInstances(String... instanceGUIDs)
+    {
+        Set<Integer> stripes = new TreeSet<>();
+
+        for (String instanceGUID : instanceGUIDs)
+        {
+            if (instanceGUID != null)
+            {
+                stripes.add((instanceGUID.hashCode() & Integer.MAX_VALUE) % LOCK_STRIPES);
+            }
+        }
+
+        List<ReentrantLock> locks = new ArrayList<>();
+
+        for (Integer stripe : stripes)
+        {
+            instanceLocks[stripe].lock();
+            locks.add(instanceLocks[stripe]);
+        }
+
+        return locks;
+    }
+
+
+    /*
+     * Make an update to the graph and commit it, making it again if the commit fails because of a locking failure.
+     */
+    private <E extends Exception> void commitUpdate(String         methodName,
+                                                    GraphUpdate<E> update)
+
+    throws E,
+           RepositoryErrorException
+
+    {
+        for (int attempt = 1; ; attempt++)
+        {
+            GraphTraversalSource g = instanceGraph.traversal();
+
+            try
+            {
+                update.apply(g);
+
+                g.tx().commit();
+
+                return;
+            }
+            catch (JanusGraphException e)
+            {
+                if (g.tx().isOpen())
+                {
+                    g.tx().rollback();
+                }
+
+                if (! isLockingFailure(e))
+                {
+                    throw e;
+                }
+
+                if (attempt >= MAX_UPDATE_ATTEMPTS)
+                {
+                    log.error("{} could not commit update after {} attempts", methodName, attempt);
+
+                    throw new RepositoryErrorException(
+                            GraphOMRSErrorCode.UPDATE_CONFLICT.getMessageDefinition(
+                                    methodName,
+                                    this.getClass().getName(),
+                                    repositoryName,
+                                    Integer.toString(attempt)),
+                            this.getClass().getName(),
+                            methodName, e);
+                }
+
+                log.debug("{} retrying update after locking failure on attempt {}: {}", methodName, attempt, e.getMessage());
+            }
+        }
+    }
+
+
+    /*
+     * Return true if the exception was caused by a transaction failing to acquire or verify a lock.
+     */
+    private boolean isLockingFailure(Throwable exception)
+    {
+        Throwable cause = exception;
+
+        while (cause != null)
+        {
+            if ((cause instanceof PermanentLockingException) || (cause instanceof TemporaryLockingException))
+            {
+                return true;
+            }
+
+            cause = cause.getCause();
+        }
+
+        return false;
+    }
+
+
+    /*
+     * Return the GUIDs of a list of entities so that they can be locked.
+     */
+    private String[] getEntityGUIDs(List<EntityDetail> entities)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            if (entity != null)
+            {
+                guids.add(entity.getGUID());
+            }
+        }
+
+        return guids.toArray(new String[0]);
+    }
+
+
+    /*
+     * Return the GUIDs of a list of relationships, and of the entities at their ends, so that they can be locked.
+     * The entities are locked because their vertices are created as proxies if they do not exist, and so that they
+     * are not removed while a relationship is added to them.
+     */
+    private String[] getRelationshipGUIDs(List<Relationship> relationships)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            if (relationship != null)
+            {
+                guids.add(relationship.getGUID());
+
+                if (relationship.getEntityOneProxy() != null)
+                {
+                    guids.add(relationship.getEntityOneProxy().getGUID());
+                }
+
+                if (relationship.getEntityTwoProxy() != null)
+                {
+                    guids.add(relationship.getEntityTwoProxy().getGUID());
+                }
+            }
+        }
+
+        return guids.toArray(new String[0]);
+    }
+
+
     // A note on existence checking:
     // The MDC will NOT have already checked that there is not already an entity or entity proxy wth the same GUID.
     // Although we KNOW that this is an attempt to create a new entity and that the GUID has just been generated,
     // so we COULD re-spin it, we should NOT do that here - it should be in the MDC layer and RepoHelper layer.
     // Therefore if we get a GUID clash here we throw an exception.
     //
-    synchronized EntityDetail createEntityInStore(EntityDetail entity)
+    EntityDetail createEntityInStore(EntityDetail entity)
 
     throws RepositoryErrorException,
            InvalidParameterException
     {
         final String methodName = "createEntityInStore";
 
+        updateGraph(methodName, g -> addEntityToGraph(g, entity, methodName), entity.getGUID());
+
+        return entity;
+    }
+
+
+    /*
+     * Add a vertex for the entity to the current transaction, replacing a proxy for the same entity if the entity is
+     * a reference copy.  The transaction is rolled back if the entity cannot be added; otherwise it is left for the
+     * caller to commit.
+     */
+    private void addEntityToGraph(GraphTraversalSource g,
+                                  EntityDetail         entity,
+                                  String               methodName)
+
+    throws RepositoryErrorException,
+           InvalidParameterException
+    {
         Vertex vertex;
 
-        GraphTraversalSource g = instanceGraph.traversal();
         Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entity.getGUID());
 
         if (vertexIt.hasNext())
@@ -277,11 +563,6 @@ class GraphOMRSMetadataStore {
                     this.getClass().getName(),
                     methodName, e);
         }
-
-
-        g.tx().commit();
-
-        return entity;
     }
 
     // A note on existence checking:
@@ -290,14 +571,28 @@ class GraphOMRSMetadataStore {
     // If the MDC found that an entity (of any description, entity, proxy or reference copy) is present - then it will not have asked you to create the proxy
     // So - if we do find that there is a GUID clash then throw exception.
     //
-    synchronized void createEntityProxyInStore(EntityProxy entityProxy)
+    void createEntityProxyInStore(EntityProxy entityProxy)
 
     throws RepositoryErrorException,
            InvalidParameterException
     {
         final String methodName = "createEntityProxyInStore";
 
-        GraphTraversalSource g = instanceGraph.traversal();
+        updateGraph(methodName, g -> addEntityProxyToGraph(g, entityProxy, methodName), entityProxy.getGUID());
+    }
+
+
+    /*
+     * Add a vertex for the entity proxy to the current transaction.  The transaction is rolled back if the proxy
+     * cannot be added; otherwise it is left for the caller to commit.
+     */
+    private void addEntityProxyToGraph(GraphTraversalSource g,
+                                       EntityProxy          entityProxy,
+                                       String               methodName)
+
+    throws RepositoryErrorException,
+           InvalidParameterException
+    {
         Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityProxy.getGUID());
         if (vertexIt.hasNext())
         {
@@ -348,9 +643,6 @@ class GraphOMRSMetadataStore {
                     this.getClass().getName(),
                     methodName, e);
         }
-
-        g.tx().commit();
-
     }
 
 
@@ -390,18 +682,57 @@ class GraphOMRSMetadataStore {
      *         else
      *             error
      */
-    synchronized void saveEntityReferenceCopyToStore(EntityDetail entity)
+    void saveEntityReferenceCopyToStore(EntityDetail entity)
 
     throws InvalidParameterException,
            RepositoryErrorException
 
     {
-
         final String methodName = "saveEntityReferenceCopyToStore";
 
+        updateGraph(methodName, g -> saveEntityReferenceCopyToGraph(g, entity, methodName), entity.getGUID());
+    }
+
+
+    /*
+     * Save a list of entity reference copies in a single transaction.  Each entity is processed as described
+     * for saveEntityReferenceCopyToStore; if any of them fails, the whole transaction is rolled back.
+     */
+    void saveEntityReferenceCopiesToStore(List<EntityDetail> entities)
+
+    throws InvalidParameterException,
+           RepositoryErrorException
+
+    {
+        final String methodName = "saveEntityReferenceCopiesToStore";
+
+        updateGraph(methodName, g ->
+        {
+            for (EntityDetail entity : entities)
+            {
+                saveEntityReferenceCopyToGraph(g, entity, methodName);
+            }
+
+            log.debug("{} Commit tx containing {} entity reference copies", methodName, entities.size());
+        }, this.getEntityGUIDs(entities));
+    }
+
+
+    /*
+     * Add or update the vertex for an entity reference copy in the current transaction.  The transaction is
+     * rolled back if the entity cannot be saved; otherwise it is left for the caller to commit.
+     */
+    private void saveEntityReferenceCopyToGraph(GraphTraversalSource g,
+                                                EntityDetail         entity,
+                                                String               methodName)
+
+    throws InvalidParameterException,
+           RepositoryErrorException
+
+    {
+
         Vertex vertex;
 
-        GraphTraversalSource g = instanceGraph.traversal();
         Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entity.getGUID());
 
         if (vertexIt.hasNext())
@@ -487,13 +818,10 @@ class GraphOMRSMetadataStore {
                     this.getClass().getName(),
                     methodName, e);
         }
-
-
-        g.tx().commit();
     }
 
 
-    synchronized EntityDetail getEntityDetailFromStore(String guid)
+    EntityDetail getEntityDetailFromStore(String guid)
 
     throws EntityNotKnownException,
            EntityProxyOnlyException,
@@ -590,7 +918,57 @@ class GraphOMRSMetadataStore {
         return entity;
     }
 
-    synchronized EntitySummary getEntitySummaryFromStore(String guid)
+    Map<String, EntityDetail> getEntityDetailsFromStore(List<String> guids)
+
+    throws RepositoryErrorException
+    {
+        String methodName = "getEntityDetailsFromStore";
+
+        Map<String, EntityDetail> entities = new HashMap<>();
+
+        if ((guids == null) || (guids.isEmpty()))
+        {
+            return entities;
+        }
+
+        // Look for all of the entities in a single traversal - proxies are not returned
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        try
+        {
+            List<Vertex> vertices = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, within(guids)).toList();
+
+            for (Vertex vertex : vertices)
+            {
+                if (!entityMapper.isProxy(vertex))
+                {
+                    try
+                    {
+                        EntityDetail entity = new EntityDetail();
+                        entityMapper.mapVertexToEntityDetail(vertex, entity);
+                        entities.put(entity.getGUID(), entity);
+                    }
+                    catch (EntityProxyOnlyException e)
+                    {
+                        log.debug("{} skipping proxy vertex {}", methodName, vertex);
+                    }
+                }
+            }
+        }
+        catch (RepositoryErrorException e)
+        {
+            log.error("{} Caught exception {}", methodName, e.getMessage());
+            g.tx().rollback();
+
+            throw e;
+        }
+
+        g.tx().commit();
+
+        return entities;
+    }
+
+    EntitySummary getEntitySummaryFromStore(String guid)
 
     throws EntityNotKnownException,
            RepositoryErrorException
@@ -660,7 +1038,7 @@ class GraphOMRSMetadataStore {
     }
 
 
-    synchronized EntityProxy getEntityProxyFromStore(String guid)
+    EntityProxy getEntityProxyFromStore(String guid)
 
     throws RepositoryErrorException
 
@@ -719,18 +1097,30 @@ class GraphOMRSMetadataStore {
     // This method needs to locate the vertices so that the edge can be created in the graph.
     // If either of these fails then throw exception
     //
-    synchronized void createRelationshipInStore(Relationship relationship)
+    void createRelationshipInStore(Relationship relationship)
 
     throws RepositoryErrorException,
            InvalidParameterException
 
     {
-        String methodName = "createRelationshipInStore";
+        final String methodName = "createRelationshipInStore";
 
-        // Begin a graph transaction. Locate the vertices for the ends, and create an edge between them.
+        updateGraph(methodName, g -> addRelationshipToGraph(g, relationship, methodName), this.getRelationshipGUIDs(Collections.singletonList(relationship)));
+    }
 
-        GraphTraversalSource g = instanceGraph.traversal();
 
+    /*
+     * Locate the vertices for the ends of the relationship and add an edge between them to the current transaction.
+     * The transaction is rolled back if the relationship cannot be added; otherwise it is left for the caller to commit.
+     */
+    private void addRelationshipToGraph(GraphTraversalSource g,
+                                        Relationship         relationship,
+                                        String               methodName)
+
+    throws RepositoryErrorException,
+           InvalidParameterException
+
+    {
         Iterator<Edge> edgeIt = g.E().hasLabel("Relationship").has(PROPERTY_KEY_RELATIONSHIP_GUID, relationship.getGUID());
         if (edgeIt.hasNext())
         {
@@ -807,8 +1197,6 @@ class GraphOMRSMetadataStore {
         }
 
         log.debug("{} Commit tx containing creation of edge", methodName);
-        g.tx().commit();
-
     }
 
 
@@ -860,16 +1248,55 @@ class GraphOMRSMetadataStore {
      *       - else metadataCollectionId is not local and values match
      *             update existing edge by mapping relationship
      */
-    synchronized void saveRelationshipReferenceCopyToStore(Relationship relationship)
+    void saveRelationshipReferenceCopyToStore(Relationship relationship)
 
     throws InvalidParameterException,
            RepositoryErrorException
 
     {
-
         final String methodName = "saveRelationshipReferenceCopyToStore";
 
-        GraphTraversalSource g = instanceGraph.traversal();
+        updateGraph(methodName, g -> saveRelationshipReferenceCopyToGraph(g, relationship, methodName), this.getRelationshipGUIDs(Collections.singletonList(relationship)));
+    }
+
+
+    /*
+     * Save a list of relationship reference copies in a single transaction.  Each relationship is processed as
+     * described for saveRelationshipReferenceCopyToStore; if any of them fails, the whole transaction is rolled back.
+     */
+    void saveRelationshipReferenceCopiesToStore(List<Relationship> relationships)
+
+    throws InvalidParameterException,
+           RepositoryErrorException
+
+    {
+        final String methodName = "saveRelationshipReferenceCopiesToStore";
+
+        updateGraph(methodName, g ->
+        {
+            for (Relationship relationship : relationships)
+            {
+                saveRelationshipReferenceCopyToGraph(g, relationship, methodName);
+            }
+
+            log.debug("{} Commit tx containing {} relationship reference copies", methodName, relationships.size());
+        }, this.getRelationshipGUIDs(relationships));
+    }
+
+
+    /*
+     * Add or update the edge for a relationship reference copy, and proxies for any missing entities, in the current
+     * transaction.  The transaction is rolled back if the relationship cannot be saved; otherwise it is left for
+     * the caller to commit.
+     */
+    private void saveRelationshipReferenceCopyToGraph(GraphTraversalSource g,
+                                                      Relationship         relationship,
+                                                      String               methodName)
+
+    throws InvalidParameterException,
+           RepositoryErrorException
+
+    {
 
         Vertex vertex;
 
@@ -897,7 +1324,7 @@ class GraphOMRSMetadataStore {
         else
         {
             // Entity does not exist, create proxy
-            createEntityProxyInStore(entityOne);
+            addEntityProxyToGraph(g, entityOne, methodName);
         }
 
         // Process end 2
@@ -922,7 +1349,7 @@ class GraphOMRSMetadataStore {
         else
         {
             // Entity does not exist, create proxy
-            createEntityProxyInStore(entityTwo);
+            addEntityProxyToGraph(g, entityTwo, methodName);
         }
 
 
@@ -1035,13 +1462,10 @@ class GraphOMRSMetadataStore {
                     this.getClass().getName(),
                     methodName, e);
         }
-
-        log.debug("{} Commit tx containing creation or update of edge", methodName);
-        g.tx().commit();
     }
 
 
-    synchronized Relationship getRelationshipFromStore(String guid)
+    Relationship getRelationshipFromStore(String guid)
 
     throws RepositoryErrorException
 
@@ -1116,17 +1540,30 @@ class GraphOMRSMetadataStore {
     }
 
 
-    synchronized void updateEntityInStore(EntityDetail entity)
+    void updateEntityInStore(EntityDetail entity)
 
     throws RepositoryErrorException
 
     {
+        final String methodName = "updateEntityInStore";
+
+        updateGraph(methodName, g -> updateEntityInGraph(g, entity, methodName), entity.getGUID());
+    }
 
-        String methodName = "updateEntityInStore";
 
+    /*
+     * Update the vertex for the entity, and its classifications, in the current transaction.  The transaction is
+     * rolled back if the entity cannot be updated; otherwise it is left for the caller to commit.
+     */
+    private void updateEntityInGraph(GraphTraversalSource g,
+                                     EntityDetail         entity,
+                                     String               methodName)
+
+    throws RepositoryErrorException
+
+    {
         // Look in the graph
         String guid = entity.getGUID();
-        GraphTraversalSource g = instanceGraph.traversal();
 
         GraphTraversal<Vertex, Vertex> gt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, guid);
 
@@ -1169,8 +1606,6 @@ class GraphOMRSMetadataStore {
         }
 
         log.debug("{} commit entity update tx: ", methodName);
-        g.tx().commit();
-
     }
 
 
@@ -1270,16 +1705,29 @@ class GraphOMRSMetadataStore {
 
 
     // updateRelationshipInStore
-    synchronized void updateRelationshipInStore(Relationship relationship)
+    void updateRelationshipInStore(Relationship relationship)
 
     throws RepositoryErrorException
 
     {
+        final String methodName = "updateRelationshipInStore";
 
-        String methodName = "updateRelationshipInStore";
+        updateGraph(methodName, g -> updateRelationshipInGraph(g, relationship, methodName), relationship.getGUID());
+    }
+
+
+    /*
+     * Update the edge for the relationship in the current transaction.  The transaction is rolled back if the
+     * relationship cannot be updated; otherwise it is left for the caller to commit.
+     */
+    private void updateRelationshipInGraph(GraphTraversalSource g,
+                                           Relationship         relationship,
+                                           String               methodName)
+
+    throws RepositoryErrorException
 
+    {
         String guid = relationship.getGUID();
-        GraphTraversalSource g = instanceGraph.traversal();
 
         Iterator<Edge> edgeIt = g.E().hasLabel("Relationship").has(PROPERTY_KEY_RELATIONSHIP_GUID, guid);
 
@@ -1308,21 +1756,31 @@ class GraphOMRSMetadataStore {
                         methodName, e);
             }
         }
-
-        g.tx().commit();
     }
 
     // removeEntityFromStore
     //
     // This method will remove the entity vertex and any classifier edges and classification vertices linked off it
 
-    synchronized void removeEntityFromStore(String entityGUID)
+    void removeEntityFromStore(String entityGUID)
+
+    throws RepositoryErrorException
+
     {
         final String methodName = "removeEntityFromStore";
 
-        // Look in the graph
-        GraphTraversalSource g = instanceGraph.traversal();
+        updateGraph(methodName, g -> removeEntityFromGraph(g, entityGUID, methodName), entityGUID);
+    }
+
 
+    /*
+     * Remove the entity vertex and its classifications in the current transaction, leaving it for the caller to commit.
+     */
+    private void removeEntityFromGraph(GraphTraversalSource g,
+                                       String               entityGUID,
+                                       String               methodName)
+    {
+        // Look in the graph
         GraphTraversal<Vertex, Vertex> gt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityGUID);
 
         // Only looking for non-proxy entities:
@@ -1366,34 +1824,34 @@ class GraphOMRSMetadataStore {
                 log.debug("{} removed entity vertex with guid {}", methodName, entityGUID);
             }
         }
-        g.tx().commit();
-
     }
 
 
     // removeRelationshipFromStore
-    synchronized void removeRelationshipFromStore(String relationshipGUID)
+    void removeRelationshipFromStore(String relationshipGUID)
+
+    throws RepositoryErrorException
+
     {
         final String methodName = "removeRelationshipFromStore";
         // TODO - could capture existing relationship and move it to 'history'
 
-        // Look in the graph
-        GraphTraversalSource g = instanceGraph.traversal();
-
-        Iterator<Edge> edgeIt = g.E().hasLabel("Relationship").has(PROPERTY_KEY_RELATIONSHIP_GUID, relationshipGUID);
-        if (edgeIt.hasNext())
+        updateGraph(methodName, g ->
         {
-            Edge edge = edgeIt.next();
-            log.debug("{} found existing edge {}", methodName, edge);
-            edge.remove();
-            log.debug("{} removed relationship edge with guid {}", methodName, relationshipGUID);
-        }
-        g.tx().commit();
-
+            // Look in the graph
+            Iterator<Edge> edgeIt = g.E().hasLabel("Relationship").has(PROPERTY_KEY_RELATIONSHIP_GUID, relationshipGUID);
+            if (edgeIt.hasNext())
+            {
+                Edge edge = edgeIt.next();
+                log.debug("{} found existing edge {}", methodName, edge);
+                edge.remove();
+                log.debug("{} removed relationship edge with guid {}", methodName, relationshipGUID);
+            }
+        }, relationshipGUID);
     }
 
     // getRelationshipsForEntity
-    synchronized List<Relationship> getRelationshipsForEntity(String entityGUID)
+    List<Relationship> getRelationshipsForEntity(String entityGUID)
 
     throws RepositoryErrorException
 
@@ -1478,7 +1936,11 @@ class GraphOMRSMetadataStore {
     List<EntityDetail> findEntitiesByProperty(String               typeDefName,
                                               InstanceProperties   matchProperties,
                                               MatchCriteria        matchCriteria,
-                                              Boolean              fullMatch)
+                                              Boolean              fullMatch,
+                                              List<InstanceStatus> limitResultsByStatus,
+                                              String               sequencingProperty,
+                                              SequencingOrder      sequencingOrder,
+                                              int                  maxResults)
 
     throws InvalidParameterException
 
@@ -1876,9 +2338,19 @@ class GraphOMRSMetadataStore {
         }
 
 
-        while (gt.hasNext())
+        Iterator<Vertex> results = this.getPagedResults(gt,
+                                                        typeDefName,
+                                                        PROPERTY_KEY_PREFIX_ENTITY,
+                                                        PROPERTY_KEY_ENTITY_CURRENT_STATUS,
+                                                        limitResultsByStatus,
+                                                        sequencingProperty,
+                                                        sequencingOrder,
+                                                        maxResults,
+                                                        methodName);
+
+        while (results.hasNext())
         {
-            Vertex vertex = gt.next();
+            Vertex vertex = results.next();
             log.debug("{} found vertex {}", methodName, vertex);
 
             EntityDetail entityDetail = new EntityDetail();
@@ -1905,6 +2377,129 @@ class GraphOMRSMetadataStore {
 
     }
 
+    /*
+     * Complete a search traversal so that the graph rather than the caller filters out the instances with the wrong
+     * status and, when maxResults is set, stops once it has found enough instances to fill the requested page.
+     *
+     * The caller still formats the results into the page, so each search only needs to return a set of instances
+     * that is guaranteed to contain the page. If the results are sequenced on a primitive property of the type, the
+     * instances that have a value for the property are ordered by the graph and only the first maxResults are
+     * returned, together with up to maxResults instances that have no value for the property (these sort before the
+     * instances with values in ascending order and after them in descending order). If the sequencing property
+     * cannot be ordered by the graph (for example it is a BigInteger or BigDecimal) the paging is left to the caller.
+     *
+     * A maxResults of zero means that all of the matching instances are returned.
+     */
+    private <E extends Element> Iterator<E> getPagedResults(GraphTraversal<E, E> gt,
+                                                            String               typeDefName,
+                                                            String               propertyKeyPrefix,
+                                                            String               statusPropertyKey,
+                                                            List<InstanceStatus> limitResultsByStatus,
+                                                            String               sequencingProperty,
+                                                            SequencingOrder      sequencingOrder,
+                                                            int                  maxResults,
+                                                            String               methodName)
+    {
+        /*
+         * Soft deleted instances are never returned by a search.
+         */
+        if ((limitResultsByStatus == null) || (limitResultsByStatus.isEmpty()))
+        {
+            GraphTraversal<E, E> t = new DefaultGraphTraversal<>();
+            t = t.has(statusPropertyKey, InstanceStatus.DELETED.getOrdinal());
+            gt = gt.not(t);
+        }
+        else
+        {
+            List<Integer> statusOrdinals = new ArrayList<>();
+            for (InstanceStatus status : limitResultsByStatus)
+            {
+                if ((status != null) && (status != InstanceStatus.DELETED))
+                {
+                    statusOrdinals.add(status.getOrdinal());
+                }
+            }
+            gt = gt.has(statusPropertyKey, within(statusOrdinals));
+        }
+
+        if (maxResults <= 0)
+        {
+            log.debug("{} traversal looks like this --> {} ", methodName, gt);
+            return gt;
+        }
+
+        PrimitiveDefCategory sequencingCategory = null;
+        String               sequencingKey      = null;
+
+        if ((sequencingProperty != null) && (typeDefName != null))
+        {
+            TypeDef typeDef = repositoryHelper.getTypeDefByName(repositoryName, typeDefName);
+            List<TypeDefAttribute> propertiesDef = repositoryHelper.getAllPropertiesForTypeDef(repositoryName, typeDef, methodName);
+
+            if (propertiesDef != null)
+            {
+                for (TypeDefAttribute propertyDef : propertiesDef)
+                {
+                    AttributeTypeDef atd = propertyDef.getAttributeType();
+                    if ((sequencingProperty.equals(propertyDef.getAttributeName())) && (atd != null) && (atd.getCategory() == PRIMITIVE))
+                    {
+                        GraphOMRSMapperUtils mapperUtils = new GraphOMRSMapperUtils();
+                        Map<String, String> qualifiedPropertyNames = mapperUtils.getQualifiedPropertyNamesForTypeDef(typeDef, repositoryName, repositoryHelper);
+
+                        sequencingCategory = ((PrimitiveDef) atd).getPrimitiveDefCategory();
+                        sequencingKey = propertyKeyPrefix + qualifiedPropertyNames.get(sequencingProperty);
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (sequencingKey == null)
+        {
+            /*
+             * None of the instances of this type have a value for the sequencing property so they are all equal
+             * in the sequence.
+             */
+            gt = gt.limit(maxResults);
+            log.debug("{} traversal looks like this --> {} ", methodName, gt);
+            return gt;
+        }
+
+        switch (sequencingCategory)
+        {
+            case OM_PRIMITIVE_TYPE_BOOLEAN:
+            case OM_PRIMITIVE_TYPE_BYTE:
+            case OM_PRIMITIVE_TYPE_CHAR:
+            case OM_PRIMITIVE_TYPE_SHORT:
+            case OM_PRIMITIVE_TYPE_INT:
+            case OM_PRIMITIVE_TYPE_LONG:
+            case OM_PRIMITIVE_TYPE_FLOAT:
+            case OM_PRIMITIVE_TYPE_DOUBLE:
+            case OM_PRIMITIVE_TYPE_STRING:
+            case OM_PRIMITIVE_TYPE_DATE:
+                Order order = (sequencingOrder == SequencingOrder.PROPERTY_DESCENDING) ? Order.desc : Order.asc;
+
+                GraphTraversal<E, E> sequencedTraversal = gt.asAdmin().clone();
+                sequencedTraversal = sequencedTraversal.has(sequencingKey).order().by(sequencingKey, order).limit(maxResults);
+                gt = gt.hasNot(sequencingKey).limit(maxResults);
+
+                log.debug("{} traversals look like this --> {} and {} ", methodName, sequencedTraversal, gt);
+
+                List<E> pagedResults = sequencedTraversal.toList();
+                gt.forEachRemaining(pagedResults::add);
+                return pagedResults.iterator();
+
+            default:
+                /*
+                 * The graph cannot order this property in the same way as the repository helper so return all of
+                 * the matching instances.
+                 */
+                log.debug("{} traversal looks like this --> {} ", methodName, gt);
+                return gt;
+        }
+    }
+
+
     /*
      * This method converts an Egeria regex into an expression that can be used with the JanusGraph
      * text predicates.
@@ -2106,10 +2701,14 @@ class GraphOMRSMetadataStore {
 
 
     // findRelationshipsByProperty
-    List<Relationship> findRelationshipsByProperty(String              typeDefName,
-                                                   InstanceProperties  matchProperties,
-                                                   MatchCriteria       matchCriteria,
-                                                   Boolean             fullMatch)
+    List<Relationship> findRelationshipsByProperty(String               typeDefName,
+                                                   InstanceProperties   matchProperties,
+                                                   MatchCriteria        matchCriteria,
+                                                   Boolean              fullMatch,
+                                                   List<InstanceStatus> limitResultsByStatus,
+                                                   String               sequencingProperty,
+                                                   SequencingOrder      sequencingOrder,
+                                                   int                  maxResults)
 
     throws RepositoryErrorException,
            InvalidParameterException
@@ -2498,9 +3097,19 @@ class GraphOMRSMetadataStore {
         }
 
 
-        while (gt.hasNext())
+        Iterator<Edge> results = this.getPagedResults(gt,
+                                                      typeDefName,
+                                                      PROPERTY_KEY_PREFIX_RELATIONSHIP,
+                                                      PROPERTY_KEY_RELATIONSHIP_CURRENT_STATUS,
+                                                      limitResultsByStatus,
+                                                      sequencingProperty,
+                                                      sequencingOrder,
+                                                      maxResults,
+                                                      methodName);
+
+        while (results.hasNext())
         {
-            Edge edge = gt.next();
+            Edge edge = results.next();
             log.debug("{} found edge {}", methodName, edge);
             Relationship relationship = new Relationship();
             relationshipMapper.mapEdgeToRelationship(edge, relationship);
@@ -3223,7 +3832,8 @@ class GraphOMRSMetadataStore {
                               int level)
 
     throws TypeErrorException,
-           EntityNotKnownException
+           EntityNotKnownException,
+           RepositoryErrorException
     {
 
         final String methodName = "getSubGraph";
@@ -3241,6 +3851,9 @@ class GraphOMRSMetadataStore {
          * The root entity is always included regardless of the entityTypeGUIDs.
          *
          * Only EntityDetail objects are returned in InstanceGraph.entities, but EntityProxy objects are traversed and are embedded in InstanceGraph.relationships.
+         *
+         * Each relationship and entity is returned once, however many paths lead to it.  A subgraph with more than
+         * maxSubgraphRelationships relationships is capped to the relationships nearest the root and flagged as truncated.
          */
 
         if (level == -1)
@@ -3254,6 +3867,9 @@ class GraphOMRSMetadataStore {
         List<EntityDetail> entities = new ArrayList<>();
         List<Relationship> relationships = new ArrayList<>();
 
+        Set<String> entityGUIDs = new HashSet<>();
+        Map<Object, EntityProxy> entityProxies = new HashMap<>();
+
         InstanceGraph subGraph = new InstanceGraph();
 
 
@@ -3359,8 +3975,11 @@ class GraphOMRSMetadataStore {
         /* The essence of the traversal is as follows, where V(rootVertex) is the vertex relating to the rootEntity,
          * specified by the entityGUID parameter.
          * The traversal repeats a sub-traversal that emits each traversed relationship and destination entity. The
-         * traversal does not emit the root vertex - since the root entity is retrieved and added to the InstanceGraph
-         * prior to commencement of the traversal. The traversal follows all relationships (subject to filtering conditions)
+         * traversal is breadth first: the barrier at the end of the sub-traversal completes each level before the next
+         * is started, and the dedup of the relationships means each relationship is traversed once, at the level nearest
+         * to the root entity. Without it every path through the neighborhood is explored, which grows exponentially
+         * with the level around highly connected entities. The traversal does not emit the root vertex - since the root
+         * entity is retrieved and added to the InstanceGraph prior to commencement of the traversal. The traversal follows all relationships (subject to filtering conditions)
          * and visit all connected entities (subject to filtering conditions). The method returns an InstanceGraph,
          * which contains a list of Relationship objects and a list of EntityDetail objects. When the traversal reaches
          * an EntityProxy it will continue to traverse, despite not being able to include th proxy in the InstanceGraph.
@@ -3373,11 +3992,14 @@ class GraphOMRSMetadataStore {
          * The following is pseudo-code:
          *
          * g.V(rootVertex).repeat(
-         *     bothE("Relationship").has({relationship-status-filter}).has({relationship-type-filter}).as("r").
-         *     otherV().has({entity-status-filter}).has({entity-type-filter}).as("e").
-         *         where(out("Classifier").has({classification-filter})).
-         *     simplePath()).
-         * times(2).emit().select("r","e")
+         *     bothE("Relationship").has({relationship-status-filter}).has({relationship-type-filter}).dedup().as("r").
+         *     otherV().has({entity-status-filter}).has({entity-type-filter}).
+         *         where(out("Classifier").has({classification-filter})).as("e").
+         *     barrier()).
+         * times(2).emit().select("r","e").by(id).limit(maxSubgraphRelationships + 1)
+         *
+         * The traversal only returns the identifiers of the relationships and entities.  The relationships and entities
+         * are mapped once the size of the subgraph is known.
          *
          * THe various filters are optional and are implemented using has(<property>,within(<filter-collection>))
          */
@@ -3415,6 +4037,7 @@ class GraphOMRSMetadataStore {
                     EntityDetail rootEntity = new EntityDetail();
                     entityMapper.mapVertexToEntityDetail(rootVertex, rootEntity);
                     entities.add(rootEntity);
+                    entityGUIDs.add(rootEntity.getGUID());
                     g.tx().commit();
 
                 }
@@ -3455,8 +4078,8 @@ class GraphOMRSMetadataStore {
                         edgesTraversal = edgesTraversal.has(PROPERTY_KEY_RELATIONSHIP_TYPE_NAME, within(relationshipTypeNames));
                     }
 
-                    // Project the relationships and move on to the inVertex for each relationship...
-                    GraphTraversal<Vertex, Vertex> vertexTraversal = edgesTraversal.as("r").otherV();
+                    // Traverse each relationship only once, then project the relationships and move on to the inVertex for each relationship...
+                    GraphTraversal<Vertex, Vertex> vertexTraversal = edgesTraversal.dedup().as("r").otherV();
 
                     // Optionally filter entities by status
                     if (statusWithin) {
@@ -3486,41 +4109,80 @@ class GraphOMRSMetadataStore {
                     // Project the traversed TO entities (only, not the entities we have traversed FROM)...
                     vertexTraversal = vertexTraversal.as("e");
 
-                    // Include simplePath to avoid back-tracking
-                    vertexTraversal = vertexTraversal.simplePath();
+                    // Complete each level before starting the next so that the dedup keeps the nearest traversal of each relationship
+                    vertexTraversal = vertexTraversal.barrier();
 
-                    // Construct the overall traversal
+                    // Construct the overall traversal, which only returns the identifiers of the relationships and entities
 
-                    GraphTraversal<Vertex, Map<String,Element>> overallTraversal;
+                    GraphTraversal<Vertex, Map<String, Object>> overallTraversal;
                     if (limited)
                     {
-                        overallTraversal = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityGUID).repeat(vertexTraversal).times(level).emit().select("r", "e");
+                        overallTraversal = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityGUID).repeat(vertexTraversal).times(level).emit().select("r", "e").by(T.id);
                     }
                     else
                     {
-                        overallTraversal = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityGUID).repeat(vertexTraversal).emit().select("r", "e");
+                        overallTraversal = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityGUID).repeat(vertexTraversal).emit().select("r", "e").by(T.id);
+                    }
+
+                    // Fetch one more relationship than the limit to detect that the subgraph has been capped
+                    List<Map<String, Object>> subGraphIds = overallTraversal.limit(maxSubgraphRelationships + 1L).toList();
+
+                    if (subGraphIds.size() > maxSubgraphRelationships)
+                    {
+                        log.debug("{} returning the nearest {} relationships in the subgraph of entity with GUID {}", methodName, maxSubgraphRelationships, entityGUID);
+                        subGraphIds = subGraphIds.subList(0, maxSubgraphRelationships);
+                        subGraph.setTruncated(true);
+                    }
+
+                    // Project the core properties of each of the relationships and entities once, including the entities at the ends of the relationships
+                    Map<Object, Map<Object, Object>> edges = new HashMap<>();
+                    Map<Object, Map<String, Object>> vertices = new HashMap<>();
+
+                    if (!subGraphIds.isEmpty())
+                    {
+                        Set<Object> edgeIds = new HashSet<>();
+                        Set<Object> vertexIds = new HashSet<>();
+
+                        for (Map<String, Object> ids : subGraphIds)
+                        {
+                            edgeIds.add(ids.get("r"));
+                            vertexIds.add(ids.get("e"));
+                        }
+
+                        g.E(edgeIds.toArray()).elementMap(subGraphRelationshipPropertyKeys).forEachRemaining(edgeProperties ->
+                        {
+                            edges.put(edgeProperties.get(T.id), edgeProperties);
+                            vertexIds.add(getSubGraphEndId(edgeProperties, Direction.OUT));
+                            vertexIds.add(getSubGraphEndId(edgeProperties, Direction.IN));
+                        });
+
+                        g.V(vertexIds.toArray()).project("entity", "classifications").
+                                by(elementMap(subGraphEntityPropertyKeys)).
+                                by(out("Classifier").elementMap(subGraphClassificationPropertyKeys).fold()).
+                                forEachRemaining(vertexProperties -> vertices.put(getSubGraphEntityProperties(vertexProperties).get(T.id), vertexProperties));
                     }
 
-                    while (overallTraversal.hasNext())
+                    for (Map<String, Object> ids : subGraphIds)
                     {
 
-                        Map<String, Element> resTuple = overallTraversal.next();
-                        Edge edge = (Edge) resTuple.get("r");
-                        Vertex vertex = (Vertex) resTuple.get("e");
+                        Map<Object, Object> edgeProperties = edges.get(ids.get("r"));
+                        Map<String, Object> vertexProperties = vertices.get(ids.get("e"));
 
-                        log.debug("{} subgraph has edge {} and vertex {}", methodName, edge, vertex);
+                        log.debug("{} subgraph has edge {} and vertex {}", methodName, ids.get("r"), ids.get("e"));
 
-                        if (edge != null && vertex != null)
+                        if (edgeProperties != null && vertexProperties != null)
                         {
 
-                            log.debug("{} save the relationship for edge {}", methodName, edge);
+                            log.debug("{} save the relationship for edge {}", methodName, ids.get("r"));
 
                             Relationship relationship = new Relationship();
-                            relationshipMapper.mapEdgeToRelationship(edge, relationship);
+                            relationshipMapper.mapCorePropertiesToRelationship(edgeProperties, relationship);
                             relationships.add(relationship);
 
                             // Get the end entities and add them to the relationship as proxies.
 
+                            Map<Object, Object> entityProperties = getSubGraphEntityProperties(vertexProperties);
+
                             try
                             {
 
@@ -3530,26 +4192,24 @@ class GraphOMRSMetadataStore {
                                  */
 
                                 // Start with the outVertex
-                                Vertex vout = edge.outVertex();
+                                Map<String, Object> vout = vertices.get(getSubGraphEndId(edgeProperties, Direction.OUT));
 
                                 if (vout != null)
                                 {
-                                    log.debug("{} Create proxy for end 1 entity vertex {}", methodName, vout);
-                                    EntityProxy entityOneProxy = new EntityProxy();
-                                    entityMapper.mapVertexToEntityProxy(vout, entityOneProxy);
+                                    log.debug("{} Create proxy for end 1 entity vertex {}", methodName, getSubGraphEndId(edgeProperties, Direction.OUT));
+                                    EntityProxy entityOneProxy = this.getSubGraphEntityProxy(vout, entityProxies);
                                     log.debug("{} entityOneProxy {}", methodName, entityOneProxy);
                                     relationship.setEntityOneProxy(entityOneProxy);
 
                                 }
 
                                 // Move to the inVertex
-                                Vertex vin = edge.inVertex();
+                                Map<String, Object> vin = vertices.get(getSubGraphEndId(edgeProperties, Direction.IN));
 
                                 if (vin != null)
                                 {
-                                    log.debug("{} Create proxy for end 2 entity vertex {}", methodName, vin);
-                                    EntityProxy entityTwoProxy = new EntityProxy();
-                                    entityMapper.mapVertexToEntityProxy(vin, entityTwoProxy);
+                                    log.debug("{} Create proxy for end 2 entity vertex {}", methodName, getSubGraphEndId(edgeProperties, Direction.IN));
+                                    EntityProxy entityTwoProxy = this.getSubGraphEntityProxy(vin, entityProxies);
                                     log.debug("{} entityTwoProxy {}", methodName, entityTwoProxy);
                                     relationship.setEntityTwoProxy(entityTwoProxy);
 
@@ -3560,15 +4220,16 @@ class GraphOMRSMetadataStore {
                                  * is the vertex from the tuple above. Only need to add the arrived-at
                                  * vertex to the InstanceGraph because the traversed-from vertex will
                                  * already have been added (it is either the root or has been
-                                 * traversed through already).
+                                 * traversed through already).  An entity that is reached through
+                                 * more than one relationship is only added once.
                                  */
 
-                                log.debug("{} Create entity detail for remote vertex {}", methodName, vertex);
+                                log.debug("{} Create entity detail for remote vertex {}", methodName, ids.get("e"));
 
-                                if (!entityMapper.isProxy(vertex))
+                                if ((entityGUIDs.add((String) entityProperties.get(PROPERTY_KEY_ENTITY_GUID))) && (!entityMapper.isProxy(entityProperties)))
                                 {
                                     EntityDetail entityDetail = new EntityDetail();
-                                    entityMapper.mapVertexToEntityDetail(vertex, entityDetail);
+                                    entityMapper.mapCorePropertiesToEntityDetail(entityProperties, getSubGraphClassificationProperties(vertexProperties), entityDetail);
                                     log.debug("{} entityDetail {}", methodName, entityDetail);
                                     entities.add(entityDetail);
                                 }
@@ -3584,7 +4245,7 @@ class GraphOMRSMetadataStore {
 
                                 throw new EntityNotKnownException(
                                         GraphOMRSErrorCode.ENTITY_NOT_FOUND.getMessageDefinition(
-                                                entityMapper.getEntityGUID(vertex), methodName,
+                                                (String) entityProperties.get(PROPERTY_KEY_ENTITY_GUID), methodName,
                                                 this.getClass().getName(),
                                                 repositoryName),
                                         this.getClass().getName(),
@@ -3609,6 +4270,11 @@ class GraphOMRSMetadataStore {
             g.tx().rollback();
             throw e;
         }
+        catch (RepositoryErrorException e)
+        {
+            g.tx().rollback();
+            throw e;
+        }
         catch (Exception e)
         {
             log.error("{} caught exception from subgraph traversal {}", methodName, e.getMessage());
@@ -3619,6 +4285,70 @@ class GraphOMRSMetadataStore {
 
     }
 
+    /*
+     * Return the proxy for an entity at the end of a relationship in a subgraph.  The entities near the root are at
+     * the ends of many of the relationships, so each vertex is only mapped once and each relationship gets its own copy.
+     */
+    private EntityProxy getSubGraphEntityProxy(Map<String, Object>      vertexProperties,
+                                               Map<Object, EntityProxy> entityProxies)
+
+    throws RepositoryErrorException
+    {
+        Map<Object, Object> entityProperties = getSubGraphEntityProperties(vertexProperties);
+        EntityProxy entityProxy = entityProxies.get(entityProperties.get(T.id));
+
+        if (entityProxy == null)
+        {
+            entityProxy = new EntityProxy();
+            entityMapper.mapCorePropertiesToEntityProxy(entityProperties, getSubGraphClassificationProperties(vertexProperties), entityProxy);
+            entityProxies.put(entityProperties.get(T.id), entityProxy);
+        }
+
+        return new EntityProxy(entityProxy);
+    }
+
+
+    /*
+     * The instances in a subgraph are mapped from their core properties and their serialized instance properties,
+     * without the individual instance properties that are only stored to search on them.
+     */
+    private static String[] getSubGraphPropertyKeys(Collection<String> corePropertyKeys, String instancePropertiesKey)
+    {
+        List<String> propertyKeys = new ArrayList<>(corePropertyKeys);
+        propertyKeys.add(instancePropertiesKey);
+
+        return propertyKeys.toArray(new String[0]);
+    }
+
+
+    /*
+     * The projections of the vertices in a subgraph hold the core properties of the entity and of each of its classifications.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Object, Object> getSubGraphEntityProperties(Map<String, Object> vertexProperties)
+    {
+        return (Map<Object, Object>) vertexProperties.get("entity");
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private List<Map<Object, Object>> getSubGraphClassificationProperties(Map<String, Object> vertexProperties)
+    {
+        return (List<Map<Object, Object>>) vertexProperties.get("classifications");
+    }
+
+
+    /*
+     * The projection of an edge in a subgraph holds the identifier of the vertex at each end.
+     */
+    private Object getSubGraphEndId(Map<Object, Object> edgeProperties, Direction direction)
+    {
+        Map<?, ?> endProperties = (Map<?, ?>) edgeProperties.get(direction);
+
+        return endProperties == null ? null : endProperties.get(T.id);
+    }
+
+
     public InstanceGraph getPaths(String                startEntityGUID,
                                   String                endEntityGUID,
                                   List<InstanceStatus>  limitResultsByStatus,
@@ -3641,6 +4371,9 @@ class GraphOMRSMetadataStore {
          * The root entity is always included regardless of status.
          *
          * Only EntityDetail objects are returned in InstanceGraph.entities, but EntityProxy objects are traversed and are embedded in InstanceGraph.relationships.
+         *
+         * Paths with more than maxSubgraphRelationships relationships between them are capped to the relationships of the
+         * first paths and flagged as truncated.
          */
 
         List<EntityDetail> entities = new ArrayList<>();
@@ -3853,6 +4586,12 @@ class GraphOMRSMetadataStore {
 
                                 edge = (Edge) object;
 
+                                if (relationships.size() == maxSubgraphRelationships)
+                                {
+                                    log.debug("{} returning the first {} relationships in the paths from entity with GUID {}", methodName, maxSubgraphRelationships, startEntityGUID);
+                                    subGraph.setTruncated(true);
+                                    break;
+                                }
 
                                 log.debug("{} subgraph has edge {} ", methodName, edge);
 
@@ -3946,9 +4685,13 @@ class GraphOMRSMetadataStore {
 
 
     // findEntities
-    List<EntityDetail> findEntities(String              typeDefName,
-                                    SearchProperties    searchProperties,
-                                    boolean             fullMatch)
+    List<EntityDetail> findEntities(String               typeDefName,
+                                    SearchProperties     searchProperties,
+                                    boolean              fullMatch,
+                                    List<InstanceStatus> limitResultsByStatus,
+                                    String               sequencingProperty,
+                                    SequencingOrder      sequencingOrder,
+                                    int                  maxResults)
 
     throws InvalidParameterException,
            RepositoryErrorException,
@@ -4098,9 +4841,19 @@ class GraphOMRSMetadataStore {
             }
         }
 
-        while (gt.hasNext())
+        Iterator<Vertex> results = this.getPagedResults(gt,
+                                                        typeDefName,
+                                                        PROPERTY_KEY_PREFIX_ENTITY,
+                                                        PROPERTY_KEY_ENTITY_CURRENT_STATUS,
+                                                        limitResultsByStatus,
+                                                        sequencingProperty,
+                                                        sequencingOrder,
+                                                        maxResults,
+                                                        methodName);
+
+        while (results.hasNext())
         {
-            Vertex vertex = gt.next();
+            Vertex vertex = results.next();
             log.debug("{} found vertex {}", methodName, vertex);
 
             EntityDetail entityDetail = new EntityDetail();
@@ -4138,9 +4891,13 @@ class GraphOMRSMetadataStore {
 
 
     // findRelationships
-    List<Relationship> findRelationships(String              typeDefName,
-                                         SearchProperties    searchProperties,
-                                         boolean             fullMatch)
+    List<Relationship> findRelationships(String               typeDefName,
+                                         SearchProperties     searchProperties,
+                                         boolean              fullMatch,
+                                         List<InstanceStatus> limitResultsByStatus,
+                                         String               sequencingProperty,
+                                         SequencingOrder      sequencingOrder,
+                                         int                  maxResults)
 
     throws InvalidParameterException,
            RepositoryErrorException,
@@ -4289,9 +5046,19 @@ class GraphOMRSMetadataStore {
         }
 
 
-        while (gt.hasNext())
+        Iterator<Edge> results = this.getPagedResults(gt,
+                                                      typeDefName,
+                                                      PROPERTY_KEY_PREFIX_RELATIONSHIP,
+                                                      PROPERTY_KEY_RELATIONSHIP_CURRENT_STATUS,
+                                                      limitResultsByStatus,
+                                                      sequencingProperty,
+                                                      sequencingOrder,
+                                                      maxResults,
+                                                      methodName);
+
+        while (results.hasNext())
         {
-            Edge edge = gt.next();
+            Edge edge = results.next();
             log.debug("{} found edge {}", methodName, edge);
             Relationship relationship = new Relationship();
             try
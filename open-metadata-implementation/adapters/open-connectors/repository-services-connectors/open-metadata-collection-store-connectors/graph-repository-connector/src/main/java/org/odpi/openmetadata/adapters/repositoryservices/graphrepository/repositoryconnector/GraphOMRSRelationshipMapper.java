@@ -4,8 +4,6 @@ package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.reposi
 
 
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Property;
 
@@ -22,6 +20,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSJSONMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,6 +28,7 @@ import java.io.Serializable;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.*;
 
@@ -239,10 +239,9 @@ class GraphOMRSRelationshipMapper {
 
         List<String> maintainedByList = relationship.getMaintainedBy();
         if (maintainedByList != null && !maintainedByList.isEmpty()) {
-            ObjectMapper objectMapper = new ObjectMapper();
             String jsonString;
             try {
-                jsonString = objectMapper.writeValueAsString(maintainedByList);
+                jsonString = OMRSJSONMapper.writeValue(maintainedByList);
                 edge.property(PROPERTY_KEY_RELATIONSHIP_MAINTAINED_BY, jsonString);
 
             } catch (Throwable exc) {
@@ -275,10 +274,9 @@ class GraphOMRSRelationshipMapper {
 
         Map<String, Serializable> mappingProperties = relationship.getMappingProperties();
         if (mappingProperties != null && !mappingProperties.isEmpty()) {
-            ObjectMapper objectMapper = new ObjectMapper();
             String jsonString;
             try {
-                jsonString = objectMapper.writeValueAsString(mappingProperties);
+                jsonString = OMRSJSONMapper.writeValue(mappingProperties);
                 edge.property(PROPERTY_KEY_RELATIONSHIP_MAPPING_PROPERTIES, jsonString);
 
             } catch (Throwable exc) {
@@ -306,11 +304,10 @@ class GraphOMRSRelationshipMapper {
         InstanceProperties instanceProperties = relationship.getProperties();
         if (instanceProperties != null) {
             // First approach is to write properties as json - useful for handling collections and possibly for full text/string matching???
-            ObjectMapper objectMapper = new ObjectMapper();
             String jsonString;
 
             try {
-                jsonString = objectMapper.writeValueAsString(instanceProperties);
+                jsonString = OMRSJSONMapper.writeInstanceProperties(instanceProperties);
                 edge.property("relationshipProperties", jsonString);
 
             } catch (Throwable exc) {
@@ -368,24 +365,41 @@ class GraphOMRSRelationshipMapper {
     void mapEdgeToRelationship(Edge edge, Relationship relationship)
             throws
             RepositoryErrorException
+    {
+        mapPropertiesToRelationship(propertyName -> getEdgeProperty(edge, propertyName), relationship);
+    }
+
+
+    // Map a relationship from the values of its core properties, as projected by a traversal
+    void mapCorePropertiesToRelationship(Map<Object, Object> coreProperties, Relationship relationship)
+            throws
+            RepositoryErrorException
+    {
+        mapPropertiesToRelationship(coreProperties::get, relationship);
+    }
+
+
+    private void mapPropertiesToRelationship(Function<String, Object> edgeProperties, Relationship relationship)
+            throws
+            RepositoryErrorException
     {
         final String methodName = "mapEdgeToRelationship";
 
-        relationship.setGUID((String) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_GUID));
-        relationship.setMetadataCollectionId((String) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_METADATACOLLECTION_ID));
-        relationship.setMetadataCollectionName((String) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_METADATACOLLECTION_NAME));
-        relationship.setCreatedBy((String) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_CREATED_BY));
-        relationship.setCreateTime((Date) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_CREATE_TIME));
-        relationship.setUpdatedBy((String) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_UPDATED_BY));
-        relationship.setUpdateTime((Date) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_UPDATE_TIME));
-        relationship.setVersion((long) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_VERSION));
-        relationship.setInstanceLicense((String) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_INSTANCE_LICENSE));
-        relationship.setInstanceURL((String) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_INSTANCE_URL));
+        relationship.setGUID((String) edgeProperties.apply(PROPERTY_KEY_RELATIONSHIP_GUID));
+        relationship.setMetadataCollectionId((String) edgeProperties.apply(PROPERTY_KEY_RELATIONSHIP_METADATACOLLECTION_ID));
+        relationship.setMetadataCollectionName((String) edgeProperties.apply(PROPERTY_KEY_RELATIONSHIP_METADATACOLLECTION_NAME));
+        relationship.setCreatedBy((String) edgeProperties.apply(PROPERTY_KEY_RELATIONSHIP_CREATED_BY));
+        relationship.setCreateTime((Date) edgeProperties.apply(PROPERTY_KEY_RELATIONSHIP_CREATE_TIME));
+        relationship.setUpdatedBy((String) edgeProperties.apply(PROPERTY_KEY_RELATIONSHIP_UPDATED_BY));
+        relationship.setUpdateTime((Date) edgeProperties.apply(PROPERTY_KEY_RELATIONSHIP_UPDATE_TIME));
+        relationship.setVersion((long) edgeProperties.apply(PROPERTY_KEY_RELATIONSHIP_VERSION));
+        relationship.setInstanceLicense((String) edgeProperties.apply(PROPERTY_KEY_RELATIONSHIP_INSTANCE_LICENSE));
+        relationship.setInstanceURL((String) edgeProperties.apply(PROPERTY_KEY_RELATIONSHIP_INSTANCE_URL));
 
         // Retrieve the type name from the edge, use the RH to retrieve the type
         // then use the necessary type fields to construct a TypeDefSummary and pass
         // that to the RH to create a new InstanceType...
-        String typeName = (String) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_TYPE_NAME);
+        String typeName = (String) edgeProperties.apply(PROPERTY_KEY_RELATIONSHIP_TYPE_NAME);
         try {
             TypeDef typeDef = repositoryHelper.getTypeDefByName(repositoryName, typeName);
             InstanceType instanceType = repositoryHelper.getNewInstanceType(repositoryName, typeDef);
@@ -404,24 +418,23 @@ class GraphOMRSRelationshipMapper {
 
         GraphOMRSMapperUtils mapperUtils = new GraphOMRSMapperUtils();
 
-        Integer provenanceOrdinal = (Integer) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_INSTANCE_PROVENANCE_TYPE);
+        Integer provenanceOrdinal = (Integer) edgeProperties.apply(PROPERTY_KEY_RELATIONSHIP_INSTANCE_PROVENANCE_TYPE);
         InstanceProvenanceType instanceProvenanceType = mapperUtils.mapProvenanceOrdinalToEnum(provenanceOrdinal);
         relationship.setInstanceProvenanceType(instanceProvenanceType);
 
-        Integer statusOrdinal = (Integer) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_CURRENT_STATUS);
+        Integer statusOrdinal = (Integer) edgeProperties.apply(PROPERTY_KEY_RELATIONSHIP_CURRENT_STATUS);
         InstanceStatus instanceStatus = mapperUtils.mapStatusOrdinalToEnum(statusOrdinal);
         relationship.setStatus(instanceStatus);
 
-        Integer statusOnDeleteOrdinal = (Integer) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_STATUS_ON_DELETE);
+        Integer statusOnDeleteOrdinal = (Integer) edgeProperties.apply(PROPERTY_KEY_RELATIONSHIP_STATUS_ON_DELETE);
         InstanceStatus statusOnDelete = mapperUtils.mapStatusOrdinalToEnum(statusOnDeleteOrdinal);
         relationship.setStatusOnDelete(statusOnDelete);
 
         // maintainedBy
-        String maintainedByString = (String) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_MAINTAINED_BY);
+        String maintainedByString = (String) edgeProperties.apply(PROPERTY_KEY_RELATIONSHIP_MAINTAINED_BY);
         if (maintainedByString != null) {
-            ObjectMapper objectMapper = new ObjectMapper();
             try {
-                List<String> maintainedByList = (List<String>) objectMapper.readValue(maintainedByString, List.class);
+                List<String> maintainedByList = OMRSJSONMapper.readStringList(maintainedByString);
                 log.debug("{} edge has deserialized maintainedBy list {}", methodName, maintainedByList);
                 relationship.setMaintainedBy(maintainedByList);
 
@@ -436,16 +449,14 @@ class GraphOMRSRelationshipMapper {
             }
         }
 
-        relationship.setReplicatedBy((String) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_REPLICATED_BY));
+        relationship.setReplicatedBy((String) edgeProperties.apply(PROPERTY_KEY_RELATIONSHIP_REPLICATED_BY));
 
 
         // mappingProperties
-        String mappingPropertiesString = (String) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_MAPPING_PROPERTIES);
+        String mappingPropertiesString = (String) edgeProperties.apply(PROPERTY_KEY_RELATIONSHIP_MAPPING_PROPERTIES);
         if (mappingPropertiesString != null) {
-            ObjectMapper objectMapper = new ObjectMapper();
             try {
-                TypeReference<Map<String, Serializable>> typeReference = new TypeReference<Map<String, Serializable>>() {};
-                Map<String, Serializable> mappingPropertiesMap = objectMapper.readValue(mappingPropertiesString, typeReference);
+                Map<String, Serializable> mappingPropertiesMap = OMRSJSONMapper.readSerializableMap(mappingPropertiesString);
                 log.debug("{} edge has deserialized mappingProperties {}", methodName, mappingPropertiesMap);
                 relationship.setMappingProperties(mappingPropertiesMap);
 
@@ -462,11 +473,10 @@ class GraphOMRSRelationshipMapper {
 
 
         // relationshipProperties
-        String stringProps = (String) (getEdgeProperty(edge, "relationshipProperties"));
+        String stringProps = (String) edgeProperties.apply("relationshipProperties");
         if (stringProps != null) {
-            ObjectMapper objectMapper = new ObjectMapper();
             try {
-                InstanceProperties instanceProperties = objectMapper.readValue(stringProps, InstanceProperties.class);
+                InstanceProperties instanceProperties = OMRSJSONMapper.readInstanceProperties(stringProps);
                 log.debug("{} relationship has deserialized properties {}", methodName, instanceProperties);
                 relationship.setProperties(instanceProperties);
 
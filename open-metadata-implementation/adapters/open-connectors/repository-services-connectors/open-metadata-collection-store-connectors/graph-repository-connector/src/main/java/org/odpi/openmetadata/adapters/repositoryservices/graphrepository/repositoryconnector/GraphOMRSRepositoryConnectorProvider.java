@@ -24,6 +24,12 @@ public class GraphOMRSRepositoryConnectorProvider extends OMRSRepositoryConnecto
     static final String  connectorTypeName        = "OMRS Graph Repository Connector";
     static final String  connectorTypeDescription = "OMRS Repository Connector that uses graph repository store.";
 
+    /**
+     * Configuration property for the maximum number of relationships returned in the neighborhood of an entity.
+     * It is removed from the configuration properties before they are passed to JanusGraph.
+     */
+    public static final String  maxSubgraphRelationshipsProperty = "maxSubgraphRelationships";
+
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
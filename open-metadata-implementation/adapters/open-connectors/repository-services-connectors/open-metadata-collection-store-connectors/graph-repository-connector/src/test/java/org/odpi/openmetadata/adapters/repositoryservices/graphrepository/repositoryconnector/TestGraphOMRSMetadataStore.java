@@ -0,0 +1,582 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
+
+import org.janusgraph.core.JanusGraphException;
+import org.janusgraph.diskstorage.locking.TemporaryLockingException;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.ClassificationDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.RelationshipDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Test that updates made concurrently to the same instances in the graph store are made one after another,
+ * that batches of reference copies are saved, and that the neighborhood of an entity returns each instance once.
+ */
+public class TestGraphOMRSMetadataStore
+{
+    private static final String METADATA_COLLECTION_ID = "test-metadata-collection-id";
+    private static final String REMOTE_COLLECTION_ID   = "remote-metadata-collection-id";
+    private static final String REPOSITORY_NAME        = "TestGraphRepository";
+    private static final String ENTITY_TYPE_NAME       = "TestEntity";
+    private static final String CLASSIFICATION_NAME    = "TestClassification";
+    private static final String RELATIONSHIP_TYPE_NAME = "TestRelationship";
+    private static final int    THREAD_COUNT           = 8;
+
+    @Mock
+    private OMRSRepositoryHelper repositoryHelper;
+    @Mock
+    private AuditLog             auditLog;
+
+    private GraphOMRSMetadataStore metadataStore;
+    private GraphOMRSMetadataStore smallSubgraphStore;
+
+
+    @BeforeClass
+    public void setup() throws Exception
+    {
+        MockitoAnnotations.initMocks(this);
+
+        when(repositoryHelper.getTypeDefByName(anyString(), anyString())).thenAnswer(invocation -> getTypeDef(invocation.getArgument(1)));
+        when(repositoryHelper.getNewInstanceType(anyString(), any())).thenAnswer(invocation -> getInstanceType(invocation.getArgument(1)));
+        when(repositoryHelper.getTypeDef(anyString(), anyString(), anyString(), anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> getTypeDef(invocation.getArgument(4)));
+
+        metadataStore = new GraphOMRSMetadataStore(METADATA_COLLECTION_ID, REPOSITORY_NAME, repositoryHelper, auditLog,
+                                                   getStorageProperties());
+
+        Map<String, Object> smallSubgraphProperties = getStorageProperties();
+        smallSubgraphProperties.put(GraphOMRSRepositoryConnectorProvider.maxSubgraphRelationshipsProperty, "2");
+
+        smallSubgraphStore = new GraphOMRSMetadataStore(METADATA_COLLECTION_ID, REPOSITORY_NAME, repositoryHelper, auditLog,
+                                                        smallSubgraphProperties);
+    }
+
+
+    private Map<String, Object> getStorageProperties() throws Exception
+    {
+        File storageDirectory = Files.createTempDirectory("graph-store").toFile();
+        storageDirectory.deleteOnExit();
+
+        Map<String, Object> storageProperties = new HashMap<>();
+        storageProperties.put("storage.backend", "berkeleyje");
+        storageProperties.put("storage.directory", new File(storageDirectory, "berkeley").getPath());
+        storageProperties.put("index.search.backend", "lucene");
+        storageProperties.put("index.search.directory", new File(storageDirectory, "searchindex").getPath());
+
+        return storageProperties;
+    }
+
+
+    @Test
+    void testConcurrentClassification() throws Exception
+    {
+        EntityDetail entity = getEntity(UUID.randomUUID().toString());
+
+        metadataStore.createEntityInStore(entity);
+
+        List<Callable<Void>> updates = new ArrayList<>();
+
+        for (int i = 0; i < THREAD_COUNT; i++)
+        {
+            updates.add(() ->
+            {
+                EntityDetail classifiedEntity = getEntity(entity.getGUID());
+                classifiedEntity.setClassifications(Collections.singletonList(getClassification()));
+
+                metadataStore.updateEntityInStore(classifiedEntity);
+
+                return null;
+            });
+        }
+
+        runConcurrently(updates);
+
+        EntityDetail storedEntity = metadataStore.getEntityDetailFromStore(entity.getGUID());
+
+        assertEquals(storedEntity.getClassifications().size(), 1);
+    }
+
+
+    @Test
+    void testConcurrentCreate() throws Exception
+    {
+        String           guid    = UUID.randomUUID().toString();
+        AtomicInteger    created = new AtomicInteger();
+        AtomicInteger    refused = new AtomicInteger();
+        List<Callable<Void>> creates = new ArrayList<>();
+
+        for (int i = 0; i < THREAD_COUNT; i++)
+        {
+            creates.add(() ->
+            {
+                try
+                {
+                    metadataStore.createEntityInStore(getEntity(guid));
+                    created.incrementAndGet();
+                }
+                catch (InvalidParameterException error)
+                {
+                    refused.incrementAndGet();
+                }
+
+                return null;
+            });
+        }
+
+        runConcurrently(creates);
+
+        assertEquals(created.get(), 1);
+        assertEquals(refused.get(), THREAD_COUNT - 1);
+    }
+
+
+    @Test
+    void testRetryAfterLockingFailure() throws Exception
+    {
+        AtomicInteger attempts = new AtomicInteger();
+
+        metadataStore.updateGraph("testRetryAfterLockingFailure", g ->
+        {
+            if (attempts.incrementAndGet() == 1)
+            {
+                throw new JanusGraphException("Lock conflict", new TemporaryLockingException("Lock conflict"));
+            }
+        }, UUID.randomUUID().toString());
+
+        assertEquals(attempts.get(), 2);
+    }
+
+
+    @Test
+    void testRetryLimit()
+    {
+        AtomicInteger attempts = new AtomicInteger();
+
+        try
+        {
+            metadataStore.updateGraph("testRetryLimit", g ->
+            {
+                attempts.incrementAndGet();
+
+                throw new JanusGraphException("Lock conflict", new TemporaryLockingException("Lock conflict"));
+            }, UUID.randomUUID().toString());
+
+            fail("Update should not have been committed");
+        }
+        catch (RepositoryErrorException error)
+        {
+            assertEquals(attempts.get(), GraphOMRSMetadataStore.MAX_UPDATE_ATTEMPTS);
+        }
+    }
+
+
+    @Test
+    void testNoRetryAfterOtherFailure()
+    {
+        AtomicInteger attempts = new AtomicInteger();
+
+        try
+        {
+            metadataStore.updateGraph("testNoRetryAfterOtherFailure", g ->
+            {
+                attempts.incrementAndGet();
+
+                throw new JanusGraphException("Not a lock conflict");
+            }, UUID.randomUUID().toString());
+
+            fail("Update should not have been committed");
+        }
+        catch (JanusGraphException | RepositoryErrorException error)
+        {
+            assertEquals(attempts.get(), 1);
+        }
+    }
+
+
+    @Test
+    void testSaveReferenceCopyBatches() throws Exception
+    {
+        EntityDetail entityOne   = getEntity(UUID.randomUUID().toString());
+        EntityDetail entityTwo   = getEntity(UUID.randomUUID().toString());
+        EntityDetail entityThree = getEntity(UUID.randomUUID().toString());
+
+        for (EntityDetail entity : Arrays.asList(entityOne, entityTwo, entityThree))
+        {
+            entity.setMetadataCollectionId(REMOTE_COLLECTION_ID);
+        }
+
+        /*
+         * The first entity is already known through a relationship so its proxy is replaced by the reference copy.
+         * The third is only saved as a proxy when the relationships are saved.
+         */
+        metadataStore.createEntityProxyInStore(getEntityProxy(entityOne));
+        metadataStore.saveEntityReferenceCopiesToStore(Arrays.asList(entityOne, entityTwo));
+
+        Relationship relationshipOne = getRelationship(entityOne, entityTwo);
+        Relationship relationshipTwo = getRelationship(entityTwo, entityThree);
+
+        metadataStore.saveRelationshipReferenceCopiesToStore(Arrays.asList(relationshipOne, relationshipTwo));
+
+        for (EntityDetail entity : Arrays.asList(entityOne, entityTwo))
+        {
+            EntityDetail storedEntity = metadataStore.getEntityDetailFromStore(entity.getGUID());
+
+            assertEquals(storedEntity.getMetadataCollectionId(), REMOTE_COLLECTION_ID);
+        }
+
+        assertEquals(metadataStore.getEntityProxyFromStore(entityThree.getGUID()).getGUID(), entityThree.getGUID());
+
+        for (Relationship relationship : Arrays.asList(relationshipOne, relationshipTwo))
+        {
+            Relationship storedRelationship = metadataStore.getRelationshipFromStore(relationship.getGUID());
+
+            assertEquals(storedRelationship.getEntityOneProxy().getGUID(), relationship.getEntityOneProxy().getGUID());
+            assertEquals(storedRelationship.getEntityTwoProxy().getGUID(), relationship.getEntityTwoProxy().getGUID());
+        }
+    }
+
+
+    @Test
+    void testGetEntityDetailsFromStore() throws Exception
+    {
+        EntityDetail entity      = getEntity(UUID.randomUUID().toString());
+        EntityDetail proxyEntity = getEntity(UUID.randomUUID().toString());
+        String       unknownGUID = UUID.randomUUID().toString();
+
+        metadataStore.createEntityInStore(entity);
+        metadataStore.createEntityProxyInStore(getEntityProxy(proxyEntity));
+
+        Map<String, EntityDetail> storedEntities = metadataStore.getEntityDetailsFromStore(Arrays.asList(entity.getGUID(),
+                                                                                                         proxyEntity.getGUID(),
+                                                                                                         unknownGUID));
+
+        assertEquals(storedEntities.keySet(), Collections.singleton(entity.getGUID()));
+        assertEquals(storedEntities.get(entity.getGUID()).getVersion(), entity.getVersion());
+    }
+
+
+    @Test
+    void testSubGraphWithCycle() throws Exception
+    {
+        List<EntityDetail> entities = createEntities(metadataStore, 3);
+
+        createRelationship(metadataStore, entities.get(0), entities.get(1));
+        createRelationship(metadataStore, entities.get(1), entities.get(2));
+        createRelationship(metadataStore, entities.get(2), entities.get(0));
+
+        InstanceGraph subGraph = metadataStore.getSubGraph(entities.get(0).getGUID(), null, null, null, null, 5);
+
+        assertEquals(subGraph.getRelationships().size(), 3);
+        assertEquals(getGUIDs(subGraph), getGUIDs(entities));
+    }
+
+
+    @Test
+    void testSubGraphWithDiamond() throws Exception
+    {
+        List<EntityDetail> entities = createEntities(metadataStore, 4);
+
+        createRelationship(metadataStore, entities.get(0), entities.get(1));
+        createRelationship(metadataStore, entities.get(0), entities.get(2));
+        createRelationship(metadataStore, entities.get(1), entities.get(3));
+        createRelationship(metadataStore, entities.get(2), entities.get(3));
+
+        InstanceGraph subGraph = metadataStore.getSubGraph(entities.get(0).getGUID(), null, null, null, null, 2);
+
+        assertEquals(subGraph.getRelationships().size(), 4);
+        assertEquals(subGraph.getEntities().size(), 4);
+        assertEquals(getGUIDs(subGraph), getGUIDs(entities));
+
+        InstanceGraph nearestLevel = metadataStore.getSubGraph(entities.get(0).getGUID(), null, null, null, null, 1);
+
+        assertEquals(nearestLevel.getRelationships().size(), 2);
+        assertEquals(nearestLevel.getEntities().size(), 3);
+    }
+
+
+    @Test
+    void testSubGraphMapsProxiesAndClassifications() throws Exception
+    {
+        EntityDetail classifiedEntity = getEntity(UUID.randomUUID().toString());
+        classifiedEntity.setClassifications(Collections.singletonList(getClassification()));
+        metadataStore.createEntityInStore(classifiedEntity);
+
+        List<EntityDetail> entities = createEntities(metadataStore, 1);
+
+        createRelationship(metadataStore, entities.get(0), classifiedEntity);
+
+        InstanceGraph subGraph = metadataStore.getSubGraph(entities.get(0).getGUID(), null, null, null, null, 1);
+
+        assertFalse(subGraph.isTruncated());
+        assertEquals(getGUIDs(subGraph), new HashSet<>(Arrays.asList(entities.get(0).getGUID(), classifiedEntity.getGUID())));
+
+        for (EntityDetail entity : subGraph.getEntities())
+        {
+            if (entity.getGUID().equals(classifiedEntity.getGUID()))
+            {
+                assertEquals(entity.getClassifications().get(0).getName(), CLASSIFICATION_NAME);
+            }
+        }
+
+        Relationship relationship = subGraph.getRelationships().get(0);
+
+        assertEquals(relationship.getEntityOneProxy().getGUID(), entities.get(0).getGUID());
+        assertEquals(relationship.getEntityTwoProxy().getGUID(), classifiedEntity.getGUID());
+        assertEquals(relationship.getEntityTwoProxy().getClassifications().get(0).getName(), CLASSIFICATION_NAME);
+    }
+
+
+    @Test
+    void testSubGraphTooLarge() throws Exception
+    {
+        List<EntityDetail> entities = createEntities(smallSubgraphStore, 4);
+
+        createRelationship(smallSubgraphStore, entities.get(0), entities.get(1));
+        createRelationship(smallSubgraphStore, entities.get(0), entities.get(2));
+
+        InstanceGraph subGraph = smallSubgraphStore.getSubGraph(entities.get(0).getGUID(), null, null, null, null, 1);
+
+        assertEquals(subGraph.getRelationships().size(), 2);
+        assertFalse(subGraph.isTruncated());
+
+        createRelationship(smallSubgraphStore, entities.get(0), entities.get(3));
+
+        InstanceGraph cappedSubGraph = smallSubgraphStore.getSubGraph(entities.get(0).getGUID(), null, null, null, null, 1);
+
+        assertEquals(cappedSubGraph.getRelationships().size(), 2);
+        assertEquals(cappedSubGraph.getEntities().size(), 3);
+        assertTrue(cappedSubGraph.isTruncated());
+    }
+
+
+    @Test
+    void testPathsTooLarge() throws Exception
+    {
+        List<EntityDetail> entities = createEntities(smallSubgraphStore, 4);
+
+        createRelationship(smallSubgraphStore, entities.get(0), entities.get(1));
+        createRelationship(smallSubgraphStore, entities.get(1), entities.get(2));
+
+        InstanceGraph paths = smallSubgraphStore.getPaths(entities.get(0).getGUID(), entities.get(2).getGUID(), null, 10, 5);
+
+        assertEquals(paths.getRelationships().size(), 2);
+        assertFalse(paths.isTruncated());
+
+        createRelationship(smallSubgraphStore, entities.get(2), entities.get(3));
+
+        InstanceGraph cappedPaths = smallSubgraphStore.getPaths(entities.get(0).getGUID(), entities.get(3).getGUID(), null, 10, 5);
+
+        assertEquals(cappedPaths.getRelationships().size(), 2);
+        assertTrue(cappedPaths.isTruncated());
+    }
+
+
+    private List<EntityDetail> createEntities(GraphOMRSMetadataStore store, int count) throws Exception
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (int i = 0; i < count; i++)
+        {
+            EntityDetail entity = getEntity(UUID.randomUUID().toString());
+
+            store.createEntityInStore(entity);
+            entities.add(entity);
+        }
+
+        return entities;
+    }
+
+
+    private void createRelationship(GraphOMRSMetadataStore store, EntityDetail entityOne, EntityDetail entityTwo) throws Exception
+    {
+        Relationship relationship = getRelationship(entityOne, entityTwo);
+
+        relationship.setMetadataCollectionId(METADATA_COLLECTION_ID);
+        store.createRelationshipInStore(relationship);
+    }
+
+
+    private Set<String> getGUIDs(InstanceGraph subGraph)
+    {
+        return getGUIDs(subGraph.getEntities());
+    }
+
+
+    private Set<String> getGUIDs(List<EntityDetail> entities)
+    {
+        Set<String> guids = new HashSet<>();
+
+        for (EntityDetail entity : entities)
+        {
+            guids.add(entity.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    /*
+     * Run the tasks at the same time and wait for them all to complete.
+     */
+    private void runConcurrently(List<Callable<Void>> tasks) throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch  start    = new CountDownLatch(1);
+
+        try
+        {
+            List<Future<Void>> results = new ArrayList<>();
+
+            for (Callable<Void> task : tasks)
+            {
+                results.add(executor.submit(() ->
+                {
+                    start.await();
+
+                    return task.call();
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<Void> result : results)
+            {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+
+    private EntityDetail getEntity(String guid)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setType(getInstanceType(getTypeDef(ENTITY_TYPE_NAME)));
+        entity.setMetadataCollectionId(METADATA_COLLECTION_ID);
+        entity.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+        entity.setStatus(InstanceStatus.ACTIVE);
+        entity.setCreatedBy("test");
+        entity.setCreateTime(new Date());
+        entity.setVersion(1L);
+
+        return entity;
+    }
+
+
+    private EntityProxy getEntityProxy(EntityDetail entity)
+    {
+        EntityProxy entityProxy = new EntityProxy();
+
+        entityProxy.setGUID(entity.getGUID());
+        entityProxy.setType(entity.getType());
+        entityProxy.setMetadataCollectionId(entity.getMetadataCollectionId());
+        entityProxy.setInstanceProvenanceType(entity.getInstanceProvenanceType());
+        entityProxy.setStatus(entity.getStatus());
+        entityProxy.setCreatedBy(entity.getCreatedBy());
+        entityProxy.setCreateTime(entity.getCreateTime());
+        entityProxy.setVersion(entity.getVersion());
+
+        return entityProxy;
+    }
+
+
+    private Relationship getRelationship(EntityDetail entityOne, EntityDetail entityTwo)
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(UUID.randomUUID().toString());
+        relationship.setType(getInstanceType(getTypeDef(RELATIONSHIP_TYPE_NAME)));
+        relationship.setMetadataCollectionId(REMOTE_COLLECTION_ID);
+        relationship.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+        relationship.setStatus(InstanceStatus.ACTIVE);
+        relationship.setCreatedBy("test");
+        relationship.setCreateTime(new Date());
+        relationship.setVersion(1L);
+        relationship.setEntityOneProxy(getEntityProxy(entityOne));
+        relationship.setEntityTwoProxy(getEntityProxy(entityTwo));
+
+        return relationship;
+    }
+
+
+    private Classification getClassification()
+    {
+        Classification classification = new Classification();
+
+        classification.setName(CLASSIFICATION_NAME);
+        classification.setType(getInstanceType(getTypeDef(CLASSIFICATION_NAME)));
+        classification.setMetadataCollectionId(METADATA_COLLECTION_ID);
+        classification.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+        classification.setStatus(InstanceStatus.ACTIVE);
+        classification.setCreatedBy("test");
+        classification.setCreateTime(new Date());
+        classification.setVersion(1L);
+
+        return classification;
+    }
+
+
+    private TypeDef getTypeDef(String typeName)
+    {
+        TypeDef typeDef;
+
+        if (CLASSIFICATION_NAME.equals(typeName))
+        {
+            typeDef = new ClassificationDef();
+        }
+        else if (RELATIONSHIP_TYPE_NAME.equals(typeName))
+        {
+            typeDef = new RelationshipDef();
+        }
+        else
+        {
+            typeDef = new EntityDef();
+        }
+
+        typeDef.setGUID(typeName + "-guid");
+        typeDef.setName(typeName);
+
+        return typeDef;
+    }
+
+
+    private InstanceType getInstanceType(TypeDef typeDef)
+    {
+        InstanceType instanceType = new InstanceType();
+
+        instanceType.setTypeDefGUID(typeDef.getGUID());
+        instanceType.setTypeDefName(typeDef.getName());
+
+        return instanceType;
+    }
+}
@@ -0,0 +1,430 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * InMemoryInstanceHistory holds the previous versions of the entities or relationships in the
+ * InMemoryOMRSMetadataStore.  The versions of each instance are kept in their own chain, ordered by the time
+ * that each version was created, so the version of an instance at a point in time is found with a binary
+ * search of its chain.  Each chain is an immutable list that is replaced when it changes, so it can be read
+ * without a lock.
+ * <p>
+ * The history can be bounded by the number of versions kept for each instance and/or by the length of time
+ * that a version is kept after it has been superseded.  Zero means no limit.
+ *
+ * @param <T> EntityDetail or Relationship
+ */
+class InMemoryInstanceHistory<T extends InstanceHeader>
+{
+    private static final int PRUNE_INTERVAL = 1000;
+
+    private final Map<String, List<T>> versionChains    = new ConcurrentHashMap<>();
+    private final AtomicLong           versionsAdded    = new AtomicLong(0);
+    private volatile int               maxVersions      = 0;
+    private volatile long              maxVersionAge    = 0;
+
+
+    /**
+     * Default constructor
+     */
+    InMemoryInstanceHistory()
+    {
+    }
+
+
+    /**
+     * Set up the retention policy for the history.
+     *
+     * @param maxVersions - maximum number of previous versions kept for each instance (zero means no limit)
+     * @param maxVersionAge - number of milliseconds that a version is kept after it has been superseded
+     *                      (zero means no limit)
+     */
+    void setRetention(int    maxVersions,
+                      long   maxVersionAge)
+    {
+        this.maxVersions = maxVersions;
+        this.maxVersionAge = maxVersionAge;
+    }
+
+
+    /**
+     * Add a previous version of an instance to its chain.
+     *
+     * @param instance - version to add
+     */
+    void addVersion(T   instance)
+    {
+        versionChains.compute(instance.getGUID(), (guid, versions) ->
+        {
+            List<T> updatedVersions = new ArrayList<>();
+
+            if (versions != null)
+            {
+                updatedVersions.addAll(versions);
+            }
+
+            /*
+             * Versions normally arrive in time order so this is usually the end of the chain.
+             */
+            int position = updatedVersions.size();
+
+            while ((position > 0) && (getVersionTime(updatedVersions.get(position - 1)) > getVersionTime(instance)))
+            {
+                position--;
+            }
+
+            updatedVersions.add(position, instance);
+
+            return prune(updatedVersions, System.currentTimeMillis());
+        });
+
+        if (versionsAdded.incrementAndGet() % PRUNE_INTERVAL == 0)
+        {
+            pruneAll();
+        }
+    }
+
+
+    /**
+     * Return the most recent previous version of an instance.
+     *
+     * @param guid - unique identifier of the instance
+     * @return instance or null if there is no history for the instance
+     */
+    T getLatestVersion(String   guid)
+    {
+        List<T> versions = versionChains.get(guid);
+
+        if ((versions == null) || (versions.isEmpty()))
+        {
+            return null;
+        }
+
+        return versions.get(versions.size() - 1);
+    }
+
+
+    /**
+     * Return the version of the instance that was current at the requested time.
+     *
+     * @param guid - unique identifier of the instance
+     * @param asOfTime - time of interest
+     * @return instance or null if the instance had not been created (or is not in the history)
+     */
+    T getVersionAsOf(String   guid,
+                     Date     asOfTime)
+    {
+        List<T> versions = versionChains.get(guid);
+
+        if (versions == null)
+        {
+            return null;
+        }
+
+        /*
+         * Locate the last version that was created at or before the requested time.
+         */
+        long requestedTime = asOfTime.getTime();
+        int  low           = 0;
+        int  high          = versions.size() - 1;
+        T    result        = null;
+
+        while (low <= high)
+        {
+            int  middle      = (low + high) >>> 1;
+            T    version     = versions.get(middle);
+            long versionTime = getVersionTime(version);
+
+            if (versionTime <= requestedTime)
+            {
+                if (versionTime != Long.MIN_VALUE)
+                {
+                    result = version;
+                }
+
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle - 1;
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Return a read-only map of the instances as they were at the requested time.  Each instance is located
+     * when it is requested so no copy of the store is made.
+     *
+     * @param currentStore - the store of current versions
+     * @param asOfTime - time of interest
+     * @return map from GUID to the version of each instance at the requested time
+     */
+    Map<String, T> getStoreAsOf(Map<String, T>   currentStore,
+                                Date             asOfTime)
+    {
+        return new StoreAsOfTime(currentStore, asOfTime);
+    }
+
+
+    /**
+     * Return the time that a version of an instance was created.
+     *
+     * @param instance - version of the instance
+     * @return time in milliseconds (Long.MIN_VALUE if unknown)
+     */
+    static long getVersionTime(InstanceHeader   instance)
+    {
+        if (instance.getUpdateTime() != null)
+        {
+            return instance.getUpdateTime().getTime();
+        }
+        else if (instance.getCreateTime() != null)
+        {
+            return instance.getCreateTime().getTime();
+        }
+
+        return Long.MIN_VALUE;
+    }
+
+
+    /**
+     * Apply the retention policy to every chain.  This removes the versions that have aged out of the
+     * chains that have not been updated recently.
+     */
+    private void pruneAll()
+    {
+        if (maxVersionAge > 0)
+        {
+            long now = System.currentTimeMillis();
+
+            for (String guid : versionChains.keySet())
+            {
+                versionChains.computeIfPresent(guid, (chainGUID, versions) -> prune(versions, now));
+            }
+        }
+    }
+
+
+    /**
+     * Apply the retention policy to a chain of versions.  A version is only removed for its age once the
+     * version that replaced it is older than the limit, so the history always holds the version that was
+     * current at any time within the retention period.  The latest version in the chain is kept because the
+     * time it was superseded is not recorded here.
+     *
+     * @param versions - chain of versions, oldest first
+     * @param now - current time in milliseconds
+     * @return pruned chain (or null if the chain is empty)
+     */
+    private List<T> prune(List<T>   versions,
+                          long      now)
+    {
+        int firstVersion = 0;
+
+        if ((maxVersions > 0) && (versions.size() > maxVersions))
+        {
+            firstVersion = versions.size() - maxVersions;
+        }
+
+        if (maxVersionAge > 0)
+        {
+            long cutOffTime = now - maxVersionAge;
+
+            while ((firstVersion < versions.size() - 1) && (getVersionTime(versions.get(firstVersion + 1)) < cutOffTime))
+            {
+                firstVersion++;
+            }
+        }
+
+        if (versions.isEmpty())
+        {
+            return null;
+        }
+
+        return Collections.unmodifiableList(new ArrayList<>(versions.subList(firstVersion, versions.size())));
+    }
+
+
+    /**
+     * StoreAsOfTime is a read-only view of a store as it was at a point in time.  The instances are
+     * the current versions that were created before the requested time and the versions from the history
+     * that were current at the time.
+     */
+    private class StoreAsOfTime extends AbstractMap<String, T>
+    {
+        private final Map<String, T> currentStore;
+        private final Date           asOfTime;
+
+
+        /**
+         * Constructor
+         *
+         * @param currentStore - the store of current versions
+         * @param asOfTime - time of interest
+         */
+        StoreAsOfTime(Map<String, T>   currentStore,
+                      Date             asOfTime)
+        {
+            this.currentStore = currentStore;
+            this.asOfTime = asOfTime;
+        }
+
+
+        /**
+         * Return the version of an instance at the requested time.
+         *
+         * @param guid - unique identifier of the instance
+         * @return instance or null
+         */
+        @Override
+        public T get(Object   guid)
+        {
+            if (! (guid instanceof String))
+            {
+                return null;
+            }
+
+            T currentVersion = currentStore.get(guid);
+
+            if (currentVersion != null)
+            {
+                long versionTime = getVersionTime(currentVersion);
+
+                if ((versionTime != Long.MIN_VALUE) && (versionTime <= asOfTime.getTime()))
+                {
+                    return currentVersion;
+                }
+            }
+
+            return getVersionAsOf((String)guid, asOfTime);
+        }
+
+
+        /**
+         * Return whether the instance existed at the requested time.
+         *
+         * @param guid - unique identifier of the instance
+         * @return boolean flag
+         */
+        @Override
+        public boolean containsKey(Object   guid)
+        {
+            return get(guid) != null;
+        }
+
+
+        /**
+         * Return the instances that existed at the requested time.  Each is located as the set is iterated.
+         *
+         * @return set of entries
+         */
+        @Override
+        public Set<Entry<String, T>> entrySet()
+        {
+            return new AbstractSet<Entry<String, T>>()
+            {
+                @Override
+                public Iterator<Entry<String, T>> iterator()
+                {
+                    return new StoreAsOfTimeIterator();
+                }
+
+                @Override
+                public int size()
+                {
+                    int count = 0;
+
+                    for (Iterator<Entry<String, T>> iterator = iterator(); iterator.hasNext(); iterator.next())
+                    {
+                        count++;
+                    }
+
+                    return count;
+                }
+            };
+        }
+
+
+        /**
+         * StoreAsOfTimeIterator steps through the GUIDs of the current store and then the GUIDs that are only
+         * in the history, returning the instances that existed at the requested time.
+         */
+        private class StoreAsOfTimeIterator implements Iterator<Entry<String, T>>
+        {
+            private final Iterator<String> currentGUIDs = currentStore.keySet().iterator();
+            private final Iterator<String> historyGUIDs = versionChains.keySet().iterator();
+            private Entry<String, T>       nextEntry    = null;
+
+
+            /**
+             * Return whether there is another instance.
+             *
+             * @return boolean flag
+             */
+            @Override
+            public boolean hasNext()
+            {
+                while (nextEntry == null)
+                {
+                    String guid;
+
+                    if (currentGUIDs.hasNext())
+                    {
+                        guid = currentGUIDs.next();
+                    }
+                    else if (historyGUIDs.hasNext())
+                    {
+                        guid = historyGUIDs.next();
+
+                        if (currentStore.containsKey(guid))
+                        {
+                            continue;
+                        }
+                    }
+                    else
+                    {
+                        return false;
+                    }
+
+                    T instance = get(guid);
+
+                    if (instance != null)
+                    {
+                        nextEntry = new SimpleImmutableEntry<>(guid, instance);
+                    }
+                }
+
+                return true;
+            }
+
+
+            /**
+             * Return the next instance.
+             *
+             * @return entry for the instance
+             */
+            @Override
+            public Entry<String, T> next()
+            {
+                if (! hasNext())
+                {
+                    throw new NoSuchElementException();
+                }
+
+                Entry<String, T> entry = nextEntry;
+
+                nextEntry = null;
+
+                return entry;
+            }
+        }
+    }
+}
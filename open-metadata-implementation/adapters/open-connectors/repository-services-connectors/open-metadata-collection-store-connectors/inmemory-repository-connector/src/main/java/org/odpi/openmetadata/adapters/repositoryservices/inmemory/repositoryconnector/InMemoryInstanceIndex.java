@@ -0,0 +1,423 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * InMemoryInstanceIndex maintains the secondary indexes for the current versions of the entities or the
+ * relationships in the InMemoryOMRSMetadataStore.  The indexes map the type name, classification names,
+ * relationship end GUIDs and string property values of each instance to its GUID.  They are used to narrow
+ * down the instances that a query needs to test.  Every instance returned by a lookup is still checked by the
+ * query itself so the index may briefly hold a stale key while an instance is being updated.
+ */
+class InMemoryInstanceIndex
+{
+    private static final Comparator<Map.Entry<String, String>> valueComparator = Map.Entry.<String, String>comparingByKey()
+                                                                                          .thenComparing(Map.Entry.comparingByValue());
+
+    private final Map<String, IndexKeys>                  indexedInstances      = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>>                guidsByTypeName       = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>>                guidsByClassification = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>>                guidsByEndGUID        = new ConcurrentHashMap<>();
+    private final NavigableSet<Map.Entry<String, String>> guidsByStringValue    = new ConcurrentSkipListSet<>(valueComparator);
+
+
+    /**
+     * Default constructor
+     */
+    InMemoryInstanceIndex()
+    {
+    }
+
+
+    /**
+     * Index a new version of an instance.  The keys of the new version are added before the keys that are
+     * no longer present are removed so that a concurrent lookup does not miss the instance.
+     *
+     * @param instance - new version of the entity or relationship
+     */
+    void indexInstance(InstanceHeader   instance)
+    {
+        String    guid    = instance.getGUID();
+        IndexKeys newKeys = new IndexKeys(instance);
+
+        addKey(guidsByTypeName, newKeys.typeName, guid);
+        addKeys(guidsByClassification, newKeys.classificationNames, guid);
+        addKeys(guidsByEndGUID, newKeys.endGUIDs, guid);
+
+        for (String value : newKeys.stringValues)
+        {
+            guidsByStringValue.add(new AbstractMap.SimpleImmutableEntry<>(value, guid));
+        }
+
+        IndexKeys oldKeys = indexedInstances.put(guid, newKeys);
+
+        if (oldKeys != null)
+        {
+            removeKeys(oldKeys, newKeys, guid);
+        }
+    }
+
+
+    /**
+     * Remove an instance from the indexes.
+     *
+     * @param guid - unique identifier of the instance
+     */
+    void removeInstance(String   guid)
+    {
+        IndexKeys oldKeys = indexedInstances.remove(guid);
+
+        if (oldKeys != null)
+        {
+            removeKeys(oldKeys, null, guid);
+        }
+    }
+
+
+    /**
+     * Return the GUIDs of the instances of the requested types.
+     *
+     * @param typeNames - names of the types (subtypes are not included unless they are in the list)
+     * @return set of GUIDs
+     */
+    Set<String> getGUIDsForTypes(Collection<String>   typeNames)
+    {
+        Set<String> guids = new LinkedHashSet<>();
+
+        for (String typeName : typeNames)
+        {
+            Set<String> typeGUIDs = guidsByTypeName.get(typeName);
+
+            if (typeGUIDs != null)
+            {
+                guids.addAll(typeGUIDs);
+            }
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Return the GUIDs of the entities that have the named classification.
+     *
+     * @param classificationName - name of the classification
+     * @return set of GUIDs
+     */
+    Set<String> getGUIDsForClassification(String   classificationName)
+    {
+        return copyOf(guidsByClassification.get(classificationName));
+    }
+
+
+    /**
+     * Return the GUIDs of the relationships that are connected to an entity.
+     *
+     * @param entityGUID - unique identifier of the entity
+     * @return set of GUIDs
+     */
+    Set<String> getGUIDsForEnd(String   entityGUID)
+    {
+        return copyOf(guidsByEndGUID.get(entityGUID));
+    }
+
+
+    /**
+     * Return the GUIDs of the instances that have a string or enum property with the requested value.
+     *
+     * @param value - property value
+     * @param prefixMatch - true means match values that start with the requested value
+     * @return set of GUIDs
+     */
+    Set<String> getGUIDsForStringValue(String    value,
+                                       boolean   prefixMatch)
+    {
+        Set<String> guids = new LinkedHashSet<>();
+
+        for (Map.Entry<String, String> entry : guidsByStringValue.tailSet(new AbstractMap.SimpleImmutableEntry<>(value, ""), true))
+        {
+            String indexedValue = entry.getKey();
+
+            if ((value.equals(indexedValue)) || ((prefixMatch) && (indexedValue.startsWith(value))))
+            {
+                guids.add(entry.getValue());
+            }
+            else
+            {
+                break;
+            }
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Remove the keys of the old version of an instance that are not present in the new version.
+     *
+     * @param oldKeys - keys of the old version
+     * @param newKeys - keys of the new version (or null if the instance is removed)
+     * @param guid - unique identifier of the instance
+     */
+    private void removeKeys(IndexKeys   oldKeys,
+                            IndexKeys   newKeys,
+                            String      guid)
+    {
+        if ((newKeys == null) || (! Objects.equals(oldKeys.typeName, newKeys.typeName)))
+        {
+            removeKey(guidsByTypeName, oldKeys.typeName, guid);
+        }
+
+        for (String classificationName : oldKeys.classificationNames)
+        {
+            if ((newKeys == null) || (! newKeys.classificationNames.contains(classificationName)))
+            {
+                removeKey(guidsByClassification, classificationName, guid);
+            }
+        }
+
+        for (String endGUID : oldKeys.endGUIDs)
+        {
+            if ((newKeys == null) || (! newKeys.endGUIDs.contains(endGUID)))
+            {
+                removeKey(guidsByEndGUID, endGUID, guid);
+            }
+        }
+
+        for (String value : oldKeys.stringValues)
+        {
+            if ((newKeys == null) || (! newKeys.stringValues.contains(value)))
+            {
+                guidsByStringValue.remove(new AbstractMap.SimpleImmutableEntry<>(value, guid));
+            }
+        }
+    }
+
+
+    /**
+     * Add a GUID to the set for each of the supplied keys.
+     *
+     * @param index - index to update
+     * @param keys - keys to add the GUID under
+     * @param guid - unique identifier of the instance
+     */
+    private void addKeys(Map<String, Set<String>>  index,
+                         Set<String>               keys,
+                         String                    guid)
+    {
+        for (String key : keys)
+        {
+            addKey(index, key, guid);
+        }
+    }
+
+
+    /**
+     * Add a GUID to the set for a key.  The set is created and updated atomically so it can not be
+     * removed by a concurrent update while the GUID is being added.
+     *
+     * @param index - index to update
+     * @param key - key to add the GUID under
+     * @param guid - unique identifier of the instance
+     */
+    private void addKey(Map<String, Set<String>>  index,
+                        String                    key,
+                        String                    guid)
+    {
+        if (key != null)
+        {
+            index.compute(key, (indexKey, guids) ->
+            {
+                Set<String> updatedGUIDs = guids;
+
+                if (updatedGUIDs == null)
+                {
+                    updatedGUIDs = ConcurrentHashMap.newKeySet();
+                }
+
+                updatedGUIDs.add(guid);
+
+                return updatedGUIDs;
+            });
+        }
+    }
+
+
+    /**
+     * Remove a GUID from the set for a key.  The set is removed once it is empty.
+     *
+     * @param index - index to update
+     * @param key - key to remove the GUID from
+     * @param guid - unique identifier of the instance
+     */
+    private void removeKey(Map<String, Set<String>>  index,
+                           String                    key,
+                           String                    guid)
+    {
+        if (key != null)
+        {
+            index.computeIfPresent(key, (indexKey, guids) ->
+            {
+                guids.remove(guid);
+
+                if (guids.isEmpty())
+                {
+                    return null;
+                }
+
+                return guids;
+            });
+        }
+    }
+
+
+    /**
+     * Take a copy of a set of GUIDs from an index.
+     *
+     * @param guids - set from the index (may be null)
+     * @return copy of the set
+     */
+    private Set<String> copyOf(Set<String>   guids)
+    {
+        if (guids == null)
+        {
+            return new LinkedHashSet<>();
+        }
+
+        return new LinkedHashSet<>(guids);
+    }
+
+
+    /**
+     * IndexKeys holds the keys that a version of an instance is indexed under.  These are kept with the index
+     * so the keys can be removed when the instance changes, even if the stored instance object has been
+     * updated in place.
+     */
+    private static class IndexKeys
+    {
+        private String      typeName            = null;
+        private Set<String> classificationNames = new HashSet<>();
+        private Set<String> endGUIDs            = new HashSet<>();
+        private Set<String> stringValues        = new HashSet<>();
+
+
+        /**
+         * Extract the keys from an instance.
+         *
+         * @param instance - entity or relationship
+         */
+        IndexKeys(InstanceHeader   instance)
+        {
+            if (instance.getType() != null)
+            {
+                typeName = instance.getType().getTypeDefName();
+            }
+
+            if (instance instanceof EntityDetail)
+            {
+                EntityDetail entity = (EntityDetail)instance;
+
+                if (entity.getClassifications() != null)
+                {
+                    for (Classification classification : entity.getClassifications())
+                    {
+                        if ((classification != null) && (classification.getName() != null))
+                        {
+                            classificationNames.add(classification.getName());
+                        }
+                    }
+                }
+
+                addStringValues(entity.getProperties());
+            }
+            else if (instance instanceof Relationship)
+            {
+                Relationship relationship = (Relationship)instance;
+
+                addEndGUID(relationship.getEntityOneProxy());
+                addEndGUID(relationship.getEntityTwoProxy());
+                addStringValues(relationship.getProperties());
+            }
+        }
+
+
+        /**
+         * Add the GUID of the entity at one end of a relationship.
+         *
+         * @param entityProxy - proxy for the entity
+         */
+        private void addEndGUID(EntityProxy   entityProxy)
+        {
+            if ((entityProxy != null) && (entityProxy.getGUID() != null))
+            {
+                endGUIDs.add(entityProxy.getGUID());
+            }
+        }
+
+
+        /**
+         * Add the string and enum values that would be tested by a search of the instance's properties.  This
+         * includes the values nested in struct, array and map properties.
+         *
+         * @param properties - properties to index
+         */
+        private void addStringValues(InstanceProperties   properties)
+        {
+            if (properties == null)
+            {
+                return;
+            }
+
+            Iterator<String> propertyNames = properties.getPropertyNames();
+
+            while (propertyNames.hasNext())
+            {
+                InstancePropertyValue propertyValue = properties.getPropertyValue(propertyNames.next());
+
+                if ((propertyValue == null) || (propertyValue.getInstancePropertyCategory() == null))
+                {
+                    continue;
+                }
+
+                switch (propertyValue.getInstancePropertyCategory())
+                {
+                    case PRIMITIVE:
+                        Object primitiveValue = ((PrimitivePropertyValue)propertyValue).getPrimitiveValue();
+
+                        if (primitiveValue instanceof String)
+                        {
+                            stringValues.add((String)primitiveValue);
+                        }
+                        break;
+
+                    case ENUM:
+                        String symbolicName = ((EnumPropertyValue)propertyValue).getSymbolicName();
+
+                        if (symbolicName != null)
+                        {
+                            stringValues.add(symbolicName);
+                        }
+                        break;
+
+                    case STRUCT:
+                        addStringValues(((StructPropertyValue)propertyValue).getAttributes());
+                        break;
+
+                    case ARRAY:
+                        addStringValues(((ArrayPropertyValue)propertyValue).getArrayValues());
+                        break;
+
+                    case MAP:
+                        addStringValues(((MapPropertyValue)propertyValue).getMapValues());
+                        break;
+                }
+            }
+        }
+    }
+}
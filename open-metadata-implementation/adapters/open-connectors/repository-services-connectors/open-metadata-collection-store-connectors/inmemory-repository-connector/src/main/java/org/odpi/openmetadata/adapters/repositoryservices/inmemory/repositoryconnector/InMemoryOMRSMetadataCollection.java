@@ -11,9 +11,11 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -53,6 +55,107 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Set up the retention policy for the history of the instances in the repository.
+     *
+     * @param maxVersions maximum number of previous versions kept for each instance (zero means no limit)
+     * @param maxVersionAge number of milliseconds that a previous version is kept after it has been superseded
+     *                      (zero means no limit)
+     */
+    void setHistoryRetention(int    maxVersions,
+                             long   maxVersionAge)
+    {
+        this.repositoryStore.setHistoryRetention(maxVersions, maxVersionAge);
+    }
+
+
+    /**
+     * Load the instances saved in the storage directory and save all future changes there so the
+     * repository's content survives a restart of the server.
+     *
+     * @param storageDirectory directory for the snapshot and change log files
+     * @param snapshotInterval number of changes saved before a new snapshot is written
+     * @throws OMRSLogicErrorException the stored instances can not be loaded
+     */
+    void setPersistentStore(String   storageDirectory,
+                            long     snapshotInterval) throws OMRSLogicErrorException
+    {
+        final String methodName = "setPersistentStore";
+
+        try
+        {
+            this.repositoryStore.setPersistentStore(new InMemoryPersistentStore(repositoryName,
+                                                                                storageDirectory,
+                                                                                snapshotInterval,
+                                                                                this::logSnapshotFailure));
+        }
+        catch (IOException error)
+        {
+            throw new OMRSLogicErrorException(OMRSErrorCode.IN_MEMORY_STORE_IO_ERROR.getMessageDefinition(repositoryName,
+                                                                                                      "load",
+                                                                                                      storageDirectory,
+                                                                                                      error.getMessage()),
+                                              this.getClass().getName(),
+                                              methodName,
+                                              error);
+        }
+    }
+
+
+    /**
+     * Write a final snapshot of the instances and close the persistent store (if there is one).
+     *
+     * @throws OMRSLogicErrorException the instances could not be saved
+     */
+    void closePersistentStore() throws OMRSLogicErrorException
+    {
+        final String methodName = "closePersistentStore";
+
+        InMemoryPersistentStore persistentStore = this.repositoryStore.getPersistentStore();
+
+        if (persistentStore != null)
+        {
+            try
+            {
+                persistentStore.close();
+            }
+            catch (IOException error)
+            {
+                throw new OMRSLogicErrorException(OMRSErrorCode.IN_MEMORY_STORE_IO_ERROR.getMessageDefinition(repositoryName,
+                                                                                                          "save",
+                                                                                                          persistentStore.getStorageDirectory(),
+                                                                                                          error.getMessage()),
+                                                  this.getClass().getName(),
+                                                  methodName,
+                                                  error);
+            }
+        }
+    }
+
+
+    /**
+     * Record in the audit log that a background snapshot of the persistent store failed.
+     *
+     * @param error exception from the snapshot
+     */
+    private void logSnapshotFailure(Exception   error)
+    {
+        final String actionDescription = "Write persistent store snapshot";
+
+        InMemoryPersistentStore persistentStore = this.repositoryStore.getPersistentStore();
+
+        if ((auditLog != null) && (persistentStore != null))
+        {
+            auditLog.logException(actionDescription,
+                                  OMRSAuditCode.IN_MEMORY_SNAPSHOT_FAILED.getMessageDefinition(repositoryName,
+                                                                                               persistentStore.getStorageDirectory(),
+                                                                                               error.getClass().getName(),
+                                                                                               error.getMessage()),
+                                  error);
+        }
+    }
+
+
     /* ===================================================
      * Group 3: Locating entity and relationship instances
      */
@@ -305,9 +408,18 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
 
         List<Relationship> entityRelationships = new ArrayList<>();
 
-        Map<String, Relationship>   relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        Collection<Relationship>   candidateRelationships;
 
-        for (Relationship  storedRelationship : relationshipStore.values())
+        if (asOfTime == null)
+        {
+            candidateRelationships = repositoryStore.getRelationshipsForEntity(entityGUID);
+        }
+        else
+        {
+            candidateRelationships = repositoryStore.timeWarpRelationshipStore(asOfTime).values();
+        }
+
+        for (Relationship  storedRelationship : candidateRelationships)
         {
             if (storedRelationship != null)
             {
@@ -398,6 +510,8 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                                                                                                 PagingErrorException,
                                                                                                 UserNotAuthorizedException
     {
+        final String  methodName = "findEntitiesByProperty";
+
         /*
          * Validate parameters
          */
@@ -416,13 +530,11 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The type index narrows down the entities that are tested when a type is supplied.
          */
-        List<EntityDetail>         foundEntities = new ArrayList<>();
-        Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+        List<EntityDetail>   foundEntities = new ArrayList<>();
 
-        for (EntityDetail  entity : entityStore.values())
+        for (EntityDetail  entity : getCandidateEntities(entityTypeGUID, null, null, asOfTime, methodName))
         {
             if (entity != null)
             {
@@ -496,6 +608,8 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                                                                                       PagingErrorException,
                                                                                       UserNotAuthorizedException
     {
+        final String  methodName = "findEntities";
+
         /*
          * Validate parameters
          */
@@ -514,13 +628,11 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The type index narrows down the entities that are tested when a type or subtypes are supplied.
          */
-        List<EntityDetail>         foundEntities = new ArrayList<>();
-        Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+        List<EntityDetail>   foundEntities = new ArrayList<>();
 
-        for (EntityDetail  entity : entityStore.values())
+        for (EntityDetail  entity : getCandidateEntities(entityTypeGUID, entitySubtypeGUIDs, null, asOfTime, methodName))
         {
             if (entity != null)
             {
@@ -616,16 +728,24 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The classification index returns the entities to test unless this is a historical query.
          */
-        Map<String, EntityDetail>   entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+        Collection<EntityDetail>    candidateEntities;
         List<EntityDetail>          foundEntities = new ArrayList<>();
 
         List<String>                classificationList = new ArrayList<>();
         classificationList.add(classificationName);
 
-        for (EntityDetail  entity : entityStore.values())
+        if (asOfTime == null)
+        {
+            candidateEntities = repositoryStore.getClassifiedEntities(classificationName);
+        }
+        else
+        {
+            candidateEntities = repositoryStore.timeWarpEntityStore(asOfTime).values();
+        }
+
+        for (EntityDetail  entity : candidateEntities)
         {
             if (entity != null)
             {
@@ -742,12 +862,12 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Process operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * An exact or starts-with search uses the property value index; otherwise the type index narrows
+         * down the entities that are tested.
          */
         List<EntityDetail>   foundEntities = new ArrayList<>();
 
-        for (EntityDetail  entity : repositoryStore.timeWarpEntityStore(asOfTime).values())
+        for (EntityDetail  entity : getCandidateEntities(entityTypeGUID, null, searchCriteria, asOfTime, methodName))
         {
             if (entity != null)
             {
@@ -935,6 +1055,8 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                                                                                             FunctionNotSupportedException,
                                                                                             UserNotAuthorizedException
     {
+        final String  methodName = "findRelationships";
+
         /*
          * Validate parameters
          */
@@ -953,13 +1075,11 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating a relationship since it iterates through all of
-         * the stored entities.
+         * The type index narrows down the relationships that are tested when a type or subtypes are supplied.
          */
-        List<Relationship>         foundRelationships = new ArrayList<>();
-        Map<String, Relationship>  relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        List<Relationship>   foundRelationships = new ArrayList<>();
 
-        for (Relationship  relationship : relationshipStore.values())
+        for (Relationship  relationship : getCandidateRelationships(relationshipTypeGUID, relationshipSubtypeGUIDs, null, asOfTime, methodName))
         {
             if (relationship != null)
             {
@@ -1059,13 +1179,11 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating a relationship since it iterates through all of
-         * the stored entities.
+         * The type index narrows down the relationships that are tested when a type is supplied.
          */
-        List<Relationship>         foundRelationships = new ArrayList<>();
-        Map<String, Relationship>  relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        List<Relationship>   foundRelationships = new ArrayList<>();
 
-        for (Relationship  relationship : relationshipStore.values())
+        for (Relationship  relationship : getCandidateRelationships(relationshipTypeGUID, null, null, asOfTime, methodName))
         {
             if (relationship != null)
             {
@@ -1159,12 +1277,12 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating a relationship since it iterates through all of
-         * the stored relationships.
+         * An exact or starts-with search uses the property value index; otherwise the type index narrows
+         * down the relationships that are tested.
          */
         List<Relationship>  foundRelationships = new ArrayList<>();
 
-        for (Relationship  relationship : repositoryStore.timeWarpRelationshipStore(asOfTime).values())
+        for (Relationship  relationship : getCandidateRelationships(relationshipTypeGUID, null, searchCriteria, asOfTime, methodName))
         {
             if (relationship != null)
             {
@@ -1277,10 +1395,11 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         }
 
         /*
-         * Time warp the stores
+         * Time warp the stores.  The neighbourhood makes several passes over the stores so it works on
+         * copies that do not change under it.
          */
-        Map<String, EntityDetail>   entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
-        Map<String, Relationship>   relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        Map<String, EntityDetail>   entityStore = new HashMap<>(repositoryStore.timeWarpEntityStore(asOfTime));
+        Map<String, Relationship>   relationshipStore = new HashMap<>(repositoryStore.timeWarpRelationshipStore(asOfTime));
 
         InMemoryEntityNeighbourhood inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper,
                                                                                                   repositoryName,
@@ -3551,6 +3670,43 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Save a list of entities as reference copies.  The id of the home metadata collection is already set up in
+     * each entity.  The whole list is validated before any of the entities are stored, so if one of the entities
+     * is invalid then none of them are saved.
+     *
+     * @param userId  unique identifier for requesting server.
+     * @param entities  details of the entities to save.
+     * @throws InvalidParameterException one of the entities is invalid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveEntityReferenceCopies(String             userId,
+                                          List<EntityDetail> entities) throws InvalidParameterException,
+                                                                              RepositoryErrorException,
+                                                                              UserNotAuthorizedException
+    {
+        final String  methodName = "saveEntityReferenceCopies";
+        final String  instanceParameterName = "entities";
+
+        /*
+         * Validate parameters
+         */
+        super.referenceInstanceListParameterValidation(userId, entities, instanceParameterName, methodName);
+
+        if (entities != null)
+        {
+            for (EntityDetail entity : entities)
+            {
+                repositoryStore.saveReferenceEntityToStore(entity);
+                repositoryStore.removeEntityProxyFromStore(entity.getGUID());
+            }
+        }
+    }
+
+
     /**
      * Retrieve any locally homed classifications assigned to the requested entity.  This method is implemented by repository connectors that are able
      * to store classifications for entities that are homed in another repository.
@@ -3894,6 +4050,44 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Save a list of relationships as reference copies.  The id of the home metadata collection is already set up
+     * in each relationship.  The whole list is validated before any of the relationships are stored, so if one of
+     * the relationships is invalid then none of them are saved.
+     *
+     * @param userId  unique identifier for requesting server.
+     * @param relationships  relationships to save.
+     * @throws InvalidParameterException one of the relationships is invalid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveRelationshipReferenceCopies(String             userId,
+                                                List<Relationship> relationships) throws InvalidParameterException,
+                                                                                         RepositoryErrorException,
+                                                                                         UserNotAuthorizedException
+    {
+        final String  methodName = "saveRelationshipReferenceCopies";
+        final String  instanceParameterName = "relationships";
+
+        /*
+         * Validate parameters
+         */
+        super.referenceInstanceListParameterValidation(userId, relationships, instanceParameterName, methodName);
+
+        if (relationships != null)
+        {
+            for (Relationship relationship : relationships)
+            {
+                repositoryStore.addEntityProxyToStore(relationship.getEntityOneProxy());
+                repositoryStore.addEntityProxyToStore(relationship.getEntityTwoProxy());
+                repositoryStore.saveReferenceRelationshipToStore(relationship);
+            }
+        }
+    }
+
+
     /**
      * Remove the reference copy of the relationship from the local repository. This method can be used to
      * remove reference copies from the local cohort, repositories that have left the cohort,
@@ -3953,4 +4147,165 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
             super.reportRelationshipNotKnown(relationshipGUID, methodName);
         }
     }
+
+
+    /* ======================================================
+     * Selecting the instances to test in a query
+     */
+
+
+    /**
+     * Return the entities that need to be tested by a query.  The indexes in the repository store are only
+     * used for queries of the current versions of the entities.  Each entity returned still needs to be tested
+     * against all of the query's criteria.
+     *
+     * @param typeGUID unique identifier of the type of entity requested (null means any type)
+     * @param subtypeGUIDs optional list of subtypes of the type to restrict the results to
+     * @param searchCriteria optional regular expression that one of the entity's string properties must match
+     * @param asOfTime time of a historical query (null means now)
+     * @param methodName calling method
+     * @return entities to test
+     */
+    private Collection<EntityDetail> getCandidateEntities(String         typeGUID,
+                                                          List<String>   subtypeGUIDs,
+                                                          String         searchCriteria,
+                                                          Date           asOfTime,
+                                                          String         methodName)
+    {
+        if (asOfTime != null)
+        {
+            return repositoryStore.timeWarpEntityStore(asOfTime).values();
+        }
+
+        if (isIndexedSearch(searchCriteria))
+        {
+            return repositoryStore.getEntitiesWithStringValue(repositoryHelper.getUnqualifiedLiteralString(searchCriteria),
+                                                              repositoryHelper.isStartsWithRegex(searchCriteria, false));
+        }
+
+        Set<String> typeNames = getTypeNamesForQuery(typeGUID, subtypeGUIDs, methodName);
+
+        if (typeNames != null)
+        {
+            return repositoryStore.getEntitiesOfTypes(typeNames);
+        }
+
+        return repositoryStore.getEntities();
+    }
+
+
+    /**
+     * Return the relationships that need to be tested by a query.  The indexes in the repository store are only
+     * used for queries of the current versions of the relationships.  Each relationship returned still needs to
+     * be tested against all of the query's criteria.
+     *
+     * @param typeGUID unique identifier of the type of relationship requested (null means any type)
+     * @param subtypeGUIDs optional list of subtypes of the type to restrict the results to
+     * @param searchCriteria optional regular expression that one of the relationship's string properties must match
+     * @param asOfTime time of a historical query (null means now)
+     * @param methodName calling method
+     * @return relationships to test
+     */
+    private Collection<Relationship> getCandidateRelationships(String         typeGUID,
+                                                               List<String>   subtypeGUIDs,
+                                                               String         searchCriteria,
+                                                               Date           asOfTime,
+                                                               String         methodName)
+    {
+        if (asOfTime != null)
+        {
+            return repositoryStore.timeWarpRelationshipStore(asOfTime).values();
+        }
+
+        if (isIndexedSearch(searchCriteria))
+        {
+            return repositoryStore.getRelationshipsWithStringValue(repositoryHelper.getUnqualifiedLiteralString(searchCriteria),
+                                                                   repositoryHelper.isStartsWithRegex(searchCriteria, false));
+        }
+
+        Set<String> typeNames = getTypeNamesForQuery(typeGUID, subtypeGUIDs, methodName);
+
+        if (typeNames != null)
+        {
+            return repositoryStore.getRelationshipsOfTypes(typeNames);
+        }
+
+        return repositoryStore.getRelationships();
+    }
+
+
+    /**
+     * Determine whether the search criteria can be resolved through the property value index.  This is the
+     * case for the case-sensitive exact match and starts-with regular expressions built by the repository helper.
+     *
+     * @param searchCriteria regular expression (may be null)
+     * @return boolean flag
+     */
+    private boolean isIndexedSearch(String   searchCriteria)
+    {
+        if (searchCriteria == null)
+        {
+            return false;
+        }
+
+        return (repositoryHelper.isExactMatchRegex(searchCriteria, false)) ||
+               (repositoryHelper.isStartsWithRegex(searchCriteria, false));
+    }
+
+
+    /**
+     * Return the names of all of the types that match the type (and optional subtypes) of a query.  This includes
+     * the subtypes of each of the requested types.
+     *
+     * @param typeGUID unique identifier of the requested type (null means any type)
+     * @param subtypeGUIDs optional list of subtypes of the type to restrict the results to
+     * @param methodName calling method
+     * @return set of type names, or null if the query can not be narrowed by type
+     */
+    private Set<String> getTypeNamesForQuery(String         typeGUID,
+                                             List<String>   subtypeGUIDs,
+                                             String         methodName)
+    {
+        final String  typeGUIDParameterName = "typeGUID";
+
+        List<String>  typeGUIDs = subtypeGUIDs;
+
+        if (typeGUIDs == null)
+        {
+            if (typeGUID == null)
+            {
+                return null;
+            }
+
+            typeGUIDs = Collections.singletonList(typeGUID);
+        }
+
+        Set<String>   typeNames = new HashSet<>();
+
+        try
+        {
+            for (String guid : typeGUIDs)
+            {
+                TypeDef typeDef = repositoryHelper.getTypeDef(repositoryName, typeGUIDParameterName, guid, methodName);
+
+                typeNames.add(typeDef.getName());
+
+                List<String> subtypeNames = repositoryHelper.getSubTypesOf(repositoryName, typeDef.getName());
+
+                if (subtypeNames != null)
+                {
+                    typeNames.addAll(subtypeNames);
+                }
+            }
+        }
+        catch (TypeErrorException error)
+        {
+            /*
+             * The type is not known so the query tests every instance, as it did before the indexes.
+             */
+            return null;
+        }
+
+        return typeNames;
+    }
 }
@@ -9,19 +9,33 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector
+ * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector.
+ * The stores are concurrent maps so readers never take a lock.  Each change to an instance is made while holding
+ * one of a fixed set of locks selected from the instance's GUID.  This keeps the current version and the history
+ * of an instance consistent without serializing updates to unrelated instances.  The current versions of the
+ * entities and relationships are also indexed so that queries only need to test the instances that could match.
+ * If a persistent store is set up, each change is also recorded in it while the instance's lock is held so the
+ * changes to an instance are recorded in the order they were made.
  */
 class InMemoryOMRSMetadataStore
 {
-    private String                                 repositoryName           = null;
-    private volatile Map<String, EntityDetail>     entityStore              = new HashMap<>();
-    private volatile Map<String, EntityProxy>      entityProxyStore         = new HashMap<>();
-    private volatile List<EntityDetail>            entityHistoryStore       = new ArrayList<>();
-    private volatile Map<String, Relationship>     relationshipStore        = new HashMap<>();
-    private volatile List<Relationship>            relationshipHistoryStore = new ArrayList<>();
+    private static final int LOCK_STRIPES = 64;
+
+    private String                                      repositoryName           = null;
+    private final Map<String, EntityDetail>             entityStore              = new ConcurrentHashMap<>();
+    private final Map<String, EntityProxy>              entityProxyStore         = new ConcurrentHashMap<>();
+    private final InMemoryInstanceHistory<EntityDetail> entityHistoryStore       = new InMemoryInstanceHistory<>();
+    private final Map<String, Relationship>             relationshipStore        = new ConcurrentHashMap<>();
+    private final InMemoryInstanceHistory<Relationship> relationshipHistoryStore = new InMemoryInstanceHistory<>();
+    private final Object[]                              instanceLocks            = new Object[LOCK_STRIPES];
+    private final InMemoryInstanceIndex                 entityIndex              = new InMemoryInstanceIndex();
+    private final InMemoryInstanceIndex                 relationshipIndex        = new InMemoryInstanceIndex();
+    private volatile InMemoryPersistentStore            persistentStore          = null;
 
 
     /**
@@ -29,6 +43,22 @@ class InMemoryOMRSMetadataStore
      */
     InMemoryOMRSMetadataStore()
     {
+        for (int i = 0; i < LOCK_STRIPES; i++)
+        {
+            instanceLocks[i] = new Object();
+        }
+    }
+
+
+    /**
+     * Return the lock that serializes changes to the instance with the supplied GUID.
+     *
+     * @param guid - unique identifier for the instance
+     * @return lock object
+     */
+    private Object getInstanceLock(String   guid)
+    {
+        return instanceLocks[(guid.hashCode() & Integer.MAX_VALUE) % LOCK_STRIPES];
     }
 
 
@@ -44,13 +74,55 @@ class InMemoryOMRSMetadataStore
 
 
     /**
-     * Return a list of entities from the store that are at the latest level.
+     * Set up the retention policy for the history of the entities and relationships.
      *
-     * @return list of EntityDetail objects
+     * @param maxVersions - maximum number of previous versions kept for each instance (zero means no limit)
+     * @param maxVersionAge - number of milliseconds that a previous version is kept after it has been
+     *                      superseded (zero means no limit)
      */
-    synchronized List<EntityDetail>   getEntities()
+    void setHistoryRetention(int    maxVersions,
+                             long   maxVersionAge)
     {
-        return new ArrayList<>(entityStore.values());
+        entityHistoryStore.setRetention(maxVersions, maxVersionAge);
+        relationshipHistoryStore.setRetention(maxVersions, maxVersionAge);
+    }
+
+
+    /**
+     * Load the instances from a persistent store and record all future changes in it.  This is called before
+     * the repository is in use.
+     *
+     * @param persistentStore - store for the instances
+     * @throws IOException problem reading the persistent store
+     */
+    void setPersistentStore(InMemoryPersistentStore   persistentStore) throws IOException
+    {
+        persistentStore.open(this);
+
+        this.persistentStore = persistentStore;
+    }
+
+
+    /**
+     * Return the persistent store for the instances.
+     *
+     * @return persistent store or null if the instances are only held in memory
+     */
+    InMemoryPersistentStore getPersistentStore()
+    {
+        return persistentStore;
+    }
+
+
+    /**
+     * Return the entities from the store that are at the latest level.  This is a read-only view of the
+     * store rather than a copy.  Its iterator does not fail if the store is changed while it is in use.
+     *
+     * @return collection of EntityDetail objects
+     */
+    Collection<EntityDetail>   getEntities()
+    {
+        return Collections.unmodifiableCollection(entityStore.values());
     }
 
 
@@ -60,212 +132,236 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the entity
      * @return entity object
      */
-    synchronized EntityDetail  getEntity(String   guid)
+    EntityDetail  getEntity(String   guid)
     {
+        if (guid == null)
+        {
+            return null;
+        }
+
         return entityStore.get(guid);
     }
 
 
+    /**
+     * Return the entity proxies from the store.  This is a read-only view of the store rather than a copy.
+     *
+     * @return collection of entity proxies
+     */
+    Collection<EntityProxy>   getEntityProxies()
+    {
+        return Collections.unmodifiableCollection(entityProxyStore.values());
+    }
+
+
     /**
      * Return the entity proxy identified by the guid.
      *
      * @param guid - unique identifier
      * @return entity proxy object
      */
-    synchronized EntityProxy  getEntityProxy(String   guid)
+    EntityProxy  getEntityProxy(String   guid)
     {
+        if (guid == null)
+        {
+            return null;
+        }
+
         return entityProxyStore.get(guid);
     }
 
 
     /**
      * Return an entity store that contains entities as they were at the time supplied in the asOfTime
-     * parameter
+     * parameter.  A read-only view is returned rather than a copy.  For a historical query, the version of
+     * each instance is located in its version chain as it is requested.
      *
      * @param asOfTime - time for the store (or null means now)
      * @return entity store for the requested time
      */
-    synchronized Map<String, EntityDetail>  timeWarpEntityStore(Date         asOfTime)
+    Map<String, EntityDetail>  timeWarpEntityStore(Date         asOfTime)
     {
         if (asOfTime == null)
         {
-            return new HashMap<>(entityStore);
+            return Collections.unmodifiableMap(entityStore);
         }
 
-        Map<String, EntityDetail>  timeWarpedEntityStore = new HashMap<>();
+        return entityHistoryStore.getStoreAsOf(entityStore, asOfTime);
+    }
 
-        /*
-         * First step through the current relationship store and extract all of the relationships that were
-         * last updated before the asOfTime.
-         */
-        for (EntityDetail  entity : entityStore.values())
-        {
-            if (entity != null)
-            {
-                if (entity.getUpdateTime() != null)
-                {
-                    String entityGUID = entity.getGUID();
 
-                    if (entityGUID != null)
-                    {
-                        if (! entity.getUpdateTime().after(asOfTime))
-                        {
-                            timeWarpedEntityStore.put(entityGUID, entity);
-                        }
-                    }
-                }
-                else if (entity.getCreateTime() != null)
-                {
-                    if (! entity.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedEntityStore.put(entity.getGUID(), entity);
-                    }
-                }
-            }
-        }
+    /**
+     * Return the relationships at their current level.  This is a read-only view of the store rather than
+     * a copy.  Its iterator does not fail if the store is changed while it is in use.
+     *
+     * @return collection of relationships
+     */
+    Collection<Relationship>   getRelationships()
+    {
+        return Collections.unmodifiableCollection(relationshipStore.values());
+    }
 
-        /*
-         * Now step through the history store picking up the versions of other entities that were active
-         * at the time of the asOfTime.
-         */
-        for (EntityDetail oldEntity : entityHistoryStore)
-        {
-            if (oldEntity != null)
-            {
-                String entityGUID = oldEntity.getGUID();
 
-                if (oldEntity.getUpdateTime() != null)
-                {
-                    if (! oldEntity.getUpdateTime().after(asOfTime))
-                    {
-                        EntityDetail newerEntity = timeWarpedEntityStore.put(entityGUID, oldEntity);
+    /**
+     * Return the current entities of the requested types.
+     *
+     * @param typeNames - names of the types (subtypes are only included if they are in the list)
+     * @return list of entities
+     */
+    List<EntityDetail>   getEntitiesOfTypes(Collection<String>   typeNames)
+    {
+        return getEntities(entityIndex.getGUIDsForTypes(typeNames));
+    }
 
-                        if (newerEntity != null)
-                        {
-                            timeWarpedEntityStore.put(entityGUID, newerEntity);
-                        }
-                        break;
-                    }
-                }
-                else if (oldEntity.getCreateTime() != null)
-                {
-                    if (! oldEntity.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedEntityStore.put(entityGUID, oldEntity);
-                        break;
-                    }
-                }
-            }
-        }
 
-        return timeWarpedEntityStore;
+    /**
+     * Return the current entities that have the named classification.
+     *
+     * @param classificationName - name of the classification
+     * @return list of entities
+     */
+    List<EntityDetail>   getClassifiedEntities(String   classificationName)
+    {
+        return getEntities(entityIndex.getGUIDsForClassification(classificationName));
     }
 
 
     /**
-     * Return the list of relationships at their current level.
+     * Return the current entities that have a string or enum property value that equals (or starts with)
+     * the supplied value.
      *
+     * @param value - property value
+     * @param prefixMatch - true means match values that start with the supplied value
+     * @return list of entities
+     */
+    List<EntityDetail>   getEntitiesWithStringValue(String    value,
+                                                    boolean   prefixMatch)
+    {
+        return getEntities(entityIndex.getGUIDsForStringValue(value, prefixMatch));
+    }
+
+
+    /**
+     * Return the current relationships of the requested types.
+     *
+     * @param typeNames - names of the types (subtypes are only included if they are in the list)
      * @return list of relationships
      */
-    synchronized List<Relationship>   getRelationships()
+    List<Relationship>   getRelationshipsOfTypes(Collection<String>   typeNames)
     {
-        return new ArrayList<>(relationshipStore.values());
+        return getRelationships(relationshipIndex.getGUIDsForTypes(typeNames));
     }
 
 
     /**
-     * Return the relationship identified by the guid.
+     * Return the current relationships that are connected to an entity.
      *
-     * @param guid - unique identifier for the relationship
-     * @return relationship object
+     * @param entityGUID - unique identifier of the entity
+     * @return list of relationships
      */
-    protected synchronized Relationship  getRelationship(String   guid)
+    List<Relationship>   getRelationshipsForEntity(String   entityGUID)
     {
-        return relationshipStore.get(guid);
+        return getRelationships(relationshipIndex.getGUIDsForEnd(entityGUID));
     }
 
+
     /**
-     * Return a relationship store that contains relationships as they were at the time supplied in the asOfTime
-     * parameter
+     * Return the current relationships that have a string or enum property value that equals (or starts with)
+     * the supplied value.
      *
-     * @param asOfTime - time for the store (or null means now)
-     * @return relationship store for the requested time
+     * @param value - property value
+     * @param prefixMatch - true means match values that start with the supplied value
+     * @return list of relationships
      */
-    synchronized Map<String, Relationship>  timeWarpRelationshipStore(Date         asOfTime)
+    List<Relationship>   getRelationshipsWithStringValue(String    value,
+                                                         boolean   prefixMatch)
     {
-        if (asOfTime == null)
+        return getRelationships(relationshipIndex.getGUIDsForStringValue(value, prefixMatch));
+    }
+
+
+    /**
+     * Look up the current version of each of the entities returned by an index.  An entity that has been
+     * removed since the index was read is skipped.
+     *
+     * @param guids - unique identifiers of the entities
+     * @return list of entities
+     */
+    private List<EntityDetail>   getEntities(Set<String>   guids)
+    {
+        List<EntityDetail> entities = new ArrayList<>(guids.size());
+
+        for (String guid : guids)
         {
-            return new HashMap<>(relationshipStore);
+            EntityDetail entity = entityStore.get(guid);
+
+            if (entity != null)
+            {
+                entities.add(entity);
+            }
         }
 
-        Map<String, Relationship>  timeWarpedRelationshipStore = new HashMap<>();
+        return entities;
+    }
 
 
-        /*
-         * First step through the current relationship store and extract all of the relationships that were
-         * last updated before the asOfTime.
-         */
-        for (Relationship  relationship : relationshipStore.values())
+    /**
+     * Look up the current version of each of the relationships returned by an index.  A relationship that has
+     * been removed since the index was read is skipped.
+     *
+     * @param guids - unique identifiers of the relationships
+     * @return list of relationships
+     */
+    private List<Relationship>   getRelationships(Set<String>   guids)
+    {
+        List<Relationship> relationships = new ArrayList<>(guids.size());
+
+        for (String guid : guids)
         {
+            Relationship relationship = relationshipStore.get(guid);
+
             if (relationship != null)
             {
-                if (relationship.getUpdateTime() != null)
-                {
-                    String relationshipGUID = relationship.getGUID();
-
-                    if (relationshipGUID != null)
-                    {
-                        if (! relationship.getUpdateTime().after(asOfTime))
-                        {
-                            timeWarpedRelationshipStore.put(relationshipGUID, relationship);
-                        }
-                    }
-                }
-                else if (relationship.getCreateTime() != null)
-                {
-                    if (! relationship.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedRelationshipStore.put(relationship.getGUID(), relationship);
-                    }
-                }
+                relationships.add(relationship);
             }
         }
 
-        /*
-         * Now step through the history store picking up the versions of other relationships that were active
-         * at the time of the asOfTime.
-         */
-        for (Relationship oldRelationship : relationshipHistoryStore)
+        return relationships;
+    }
+
+
+    /**
+     * Return the relationship identified by the guid.
+     *
+     * @param guid - unique identifier for the relationship
+     * @return relationship object
+     */
+    protected Relationship  getRelationship(String   guid)
+    {
+        if (guid == null)
         {
-            if (oldRelationship != null)
-            {
-                String relationshipGUID = oldRelationship.getGUID();
+            return null;
+        }
 
-                if (oldRelationship.getUpdateTime() != null)
-                {
-                    if (! oldRelationship.getUpdateTime().after(asOfTime))
-                    {
-                        Relationship newerRelationship = timeWarpedRelationshipStore.put(relationshipGUID, oldRelationship);
+        return relationshipStore.get(guid);
+    }
 
-                        if (newerRelationship != null)
-                        {
-                            timeWarpedRelationshipStore.put(relationshipGUID, newerRelationship);
-                        }
-                        break;
-                    }
-                }
-                else if (oldRelationship.getCreateTime() != null)
-                {
-                    if (! oldRelationship.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedRelationshipStore.put(relationshipGUID, oldRelationship);
-                        break;
-                    }
-                }
-            }
+    /**
+     * Return a relationship store that contains relationships as they were at the time supplied in the asOfTime
+     * parameter.  A read-only view is returned rather than a copy.  For a historical query, the version of
+     * each instance is located in its version chain as it is requested.
+     *
+     * @param asOfTime - time for the store (or null means now)
+     * @return relationship store for the requested time
+     */
+    Map<String, Relationship>  timeWarpRelationshipStore(Date         asOfTime)
+    {
+        if (asOfTime == null)
+        {
+            return Collections.unmodifiableMap(relationshipStore);
         }
 
-        return timeWarpedRelationshipStore;
+        return relationshipHistoryStore.getStoreAsOf(relationshipStore, asOfTime);
     }
 
     /**
@@ -274,18 +370,24 @@ class InMemoryOMRSMetadataStore
      * @param entity - new version of the entity
      * @return entity with potentially updated GUID
      */
-    synchronized EntityDetail createEntityInStore(EntityDetail    entity)
+    EntityDetail createEntityInStore(EntityDetail    entity)
     {
         /*
-         * There is a small chance the randomly generated GUID will clash with an existing relationship.
-         * If this happens a new GUID is generated for the relationship and the process repeats.
+         * There is a small chance the randomly generated GUID will clash with an existing entity.
+         * If this happens a new GUID is generated for the entity and the process repeats.
          */
-        EntityDetail existingEntity = entityStore.put(entity.getGUID(), entity);
+        EntityDetail existingEntity = entityStore.putIfAbsent(entity.getGUID(), entity);
 
         while (existingEntity != null)
         {
             entity.setGUID(UUID.randomUUID().toString());
-            existingEntity = entityStore.put(entity.getGUID(), entity);
+            existingEntity = entityStore.putIfAbsent(entity.getGUID(), entity);
+        }
+
+        synchronized (getInstanceLock(entity.getGUID()))
+        {
+            entityIndex.indexInstance(entity);
+            saveEntity(entity);
         }
 
         return entity;
@@ -298,18 +400,24 @@ class InMemoryOMRSMetadataStore
      * @param relationship - new version of the relationship
      * @return relationship with potentially updated GUID
      */
-    synchronized Relationship createRelationshipInStore(Relationship    relationship)
+    Relationship createRelationshipInStore(Relationship    relationship)
     {
         /*
          * There is a small chance the randomly generated GUID will clash with an existing relationship.
          * If this happens a new GUID is generated for the relationship and the process repeats.
          */
-        Relationship existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
+        Relationship existingRelationship = relationshipStore.putIfAbsent(relationship.getGUID(), relationship);
 
         while (existingRelationship != null)
         {
             relationship.setGUID(UUID.randomUUID().toString());
-            existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
+            existingRelationship = relationshipStore.putIfAbsent(relationship.getGUID(), relationship);
+        }
+
+        synchronized (getInstanceLock(relationship.getGUID()))
+        {
+            relationshipIndex.indexInstance(relationship);
+            saveRelationship(relationship);
         }
 
         return relationship;
@@ -321,9 +429,9 @@ class InMemoryOMRSMetadataStore
      *
      * @param entityProxy - entity proxy object to add
      */
-    synchronized void addEntityProxyToStore(EntityProxy    entityProxy)
+    void addEntityProxyToStore(EntityProxy    entityProxy)
     {
-        entityProxyStore.put(entityProxy.getGUID(), entityProxy);
+        updateEntityProxyInStore(entityProxy);
     }
 
 
@@ -333,13 +441,20 @@ class InMemoryOMRSMetadataStore
      *
      * @param entity - new version of the entity
      */
-    synchronized void updateEntityInStore(EntityDetail    entity)
+    void updateEntityInStore(EntityDetail    entity)
     {
-        EntityDetail    oldEntity = entityStore.put(entity.getGUID(), entity);
-
-        if (oldEntity != null)
+        synchronized (getInstanceLock(entity.getGUID()))
         {
-            entityHistoryStore.add(0, oldEntity);
+            entityIndex.indexInstance(entity);
+
+            EntityDetail    oldEntity = entityStore.put(entity.getGUID(), entity);
+
+            saveEntity(entity);
+
+            if (oldEntity != null)
+            {
+                entityHistoryStore.addVersion(oldEntity);
+            }
         }
     }
 
@@ -349,9 +464,17 @@ class InMemoryOMRSMetadataStore
      *
      * @param entityProxy - entity proxy object to add
      */
-    synchronized void updateEntityProxyInStore(EntityProxy    entityProxy)
+    void updateEntityProxyInStore(EntityProxy    entityProxy)
     {
-        entityProxyStore.put(entityProxy.getGUID(), entityProxy);
+        synchronized (getInstanceLock(entityProxy.getGUID()))
+        {
+            entityProxyStore.put(entityProxy.getGUID(), entityProxy);
+
+            if (persistentStore != null)
+            {
+                persistentStore.saveEntityProxy(entityProxy);
+            }
+        }
     }
 
 
@@ -361,14 +484,20 @@ class InMemoryOMRSMetadataStore
      *
      * @param relationship - new version of the relationship
      */
-    synchronized void updateRelationshipInStore(Relationship    relationship)
+    void updateRelationshipInStore(Relationship    relationship)
     {
+        synchronized (getInstanceLock(relationship.getGUID()))
+        {
+            relationshipIndex.indexInstance(relationship);
 
-        Relationship    oldRelationship = relationshipStore.put(relationship.getGUID(), relationship);
+            Relationship    oldRelationship = relationshipStore.put(relationship.getGUID(), relationship);
 
-        if (oldRelationship != null)
-        {
-            relationshipHistoryStore.add(0, oldRelationship);
+            saveRelationship(relationship);
+
+            if (oldRelationship != null)
+            {
+                relationshipHistoryStore.addVersion(oldRelationship);
+            }
         }
     }
 
@@ -379,9 +508,14 @@ class InMemoryOMRSMetadataStore
      *
      * @param entity - object to save
      */
-    synchronized void saveReferenceEntityToStore(EntityDetail    entity)
+    void saveReferenceEntityToStore(EntityDetail    entity)
     {
-        entityStore.put(entity.getGUID(), entity);
+        synchronized (getInstanceLock(entity.getGUID()))
+        {
+            entityIndex.indexInstance(entity);
+            entityStore.put(entity.getGUID(), entity);
+            saveEntity(entity);
+        }
     }
 
 
@@ -391,9 +525,14 @@ class InMemoryOMRSMetadataStore
      *
      * @param relationship - object to save
      */
-    synchronized void saveReferenceRelationshipToStore(Relationship    relationship)
+    void saveReferenceRelationshipToStore(Relationship    relationship)
     {
-        relationshipStore.put(relationship.getGUID(), relationship);
+        synchronized (getInstanceLock(relationship.getGUID()))
+        {
+            relationshipIndex.indexInstance(relationship);
+            relationshipStore.put(relationship.getGUID(), relationship);
+            saveRelationship(relationship);
+        }
     }
 
 
@@ -404,46 +543,51 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the required element
      * @return - previous version of this relationship - or null if not found
      */
-    synchronized Relationship retrievePreviousVersionOfRelationship(String   guid)
+    Relationship retrievePreviousVersionOfRelationship(String   guid)
     {
         if (guid != null)
         {
-            Relationship  currentVersionOfRelationship = relationshipStore.get(guid);
+            synchronized (getInstanceLock(guid))
+            {
+                Relationship  currentVersionOfRelationship = relationshipStore.get(guid);
 
-            long versionNumber = 0;
+                long versionNumber = 0;
 
-            if (currentVersionOfRelationship != null)
-            {
-                versionNumber = currentVersionOfRelationship.getVersion() + 1;
-            }
+                if (currentVersionOfRelationship != null)
+                {
+                    versionNumber = currentVersionOfRelationship.getVersion() + 1;
+                }
 
 
-            for (Relationship relationship : relationshipHistoryStore)
-            {
+                Relationship relationship = relationshipHistoryStore.getLatestVersion(guid);
+
                 if (relationship != null)
                 {
-                    if (guid.equals(relationship.getGUID()))
+                    if (versionNumber == 0)
                     {
-                        if (versionNumber == 0)
-                        {
-                            versionNumber = relationship.getVersion() + 1;
-                        }
-                        /*
-                         * Clone the head (most recent) version in the history, set its version number to the next version
-                         * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
-                         * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
-                         * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
-                         * updated longer ago than was really the case.
-                         */
-                        Relationship newRelationship = new Relationship(relationship);
-                        newRelationship.setVersion(versionNumber);
-                        Date restoreTime = new Date();
-                        newRelationship.setUpdateTime(restoreTime);
-                        relationshipStore.put(guid, newRelationship);
-                        relationshipHistoryStore.add(0, currentVersionOfRelationship);
-                        return newRelationship;
-
+                        versionNumber = relationship.getVersion() + 1;
                     }
+                    /*
+                     * Clone the head (most recent) version in the history, set its version number to the next version
+                     * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
+                     * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
+                     * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
+                     * updated longer ago than was really the case.
+                     */
+                    Relationship newRelationship = new Relationship(relationship);
+                    newRelationship.setVersion(versionNumber);
+                    Date restoreTime = new Date();
+                    newRelationship.setUpdateTime(restoreTime);
+                    relationshipIndex.indexInstance(newRelationship);
+                    relationshipStore.put(guid, newRelationship);
+                    saveRelationship(newRelationship);
+
+                    if (currentVersionOfRelationship != null)
+                    {
+                        relationshipHistoryStore.addVersion(currentVersionOfRelationship);
+                    }
+
+                    return newRelationship;
                 }
             }
         }
@@ -459,47 +603,52 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the required element
      * @return - previous version of this Entity - or null if not found
      */
-    synchronized EntityDetail retrievePreviousVersionOfEntity(String   guid)
+    EntityDetail retrievePreviousVersionOfEntity(String   guid)
     {
         if (guid != null)
         {
-            EntityDetail  currentVersionOfEntity = entityStore.get(guid);
+            synchronized (getInstanceLock(guid))
+            {
+                EntityDetail  currentVersionOfEntity = entityStore.get(guid);
 
-            long versionNumber = 0;
+                long versionNumber = 0;
 
-            if (currentVersionOfEntity != null)
-            {
-                versionNumber = currentVersionOfEntity.getVersion() + 1;
-            }
+                if (currentVersionOfEntity != null)
+                {
+                    versionNumber = currentVersionOfEntity.getVersion() + 1;
+                }
+
+                EntityDetail entity = entityHistoryStore.getLatestVersion(guid);
 
-            for (EntityDetail entity : entityHistoryStore)
-            {
                 if (entity != null)
                 {
-                    if (guid.equals(entity.getGUID()))
+                    if (versionNumber == 0)
                     {
-                        if (versionNumber == 0)
-                        {
-                            versionNumber = entity.getVersion() + 1;
-                        }
-
-                        /*
-                         * Clone the head (most recent) version in the history, set its version number to the next version
-                         * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
-                         * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
-                         * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
-                         * updated longer ago than was really the case.
-                         *
-                         */
-                        EntityDetail newEntity = new EntityDetail(entity);
-                        newEntity.setVersion(versionNumber);
-                        Date restoreTime = new Date();
-                        newEntity.setUpdateTime(restoreTime);
-                        entityStore.put(guid, newEntity);
-                        entityHistoryStore.add(0, currentVersionOfEntity);
-                        return newEntity;
+                        versionNumber = entity.getVersion() + 1;
+                    }
 
+                    /*
+                     * Clone the head (most recent) version in the history, set its version number to the next version
+                     * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
+                     * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
+                     * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
+                     * updated longer ago than was really the case.
+                     *
+                     */
+                    EntityDetail newEntity = new EntityDetail(entity);
+                    newEntity.setVersion(versionNumber);
+                    Date restoreTime = new Date();
+                    newEntity.setUpdateTime(restoreTime);
+                    entityIndex.indexInstance(newEntity);
+                    entityStore.put(guid, newEntity);
+                    saveEntity(newEntity);
+
+                    if (currentVersionOfEntity != null)
+                    {
+                        entityHistoryStore.addVersion(currentVersionOfEntity);
                     }
+
+                    return newEntity;
                 }
             }
         }
@@ -513,10 +662,15 @@ class InMemoryOMRSMetadataStore
      *
      * @param entity - entity to remove
      */
-    synchronized void removeEntityFromStore(EntityDetail     entity)
+    void removeEntityFromStore(EntityDetail     entity)
     {
-        entityStore.remove(entity.getGUID());
-        entityHistoryStore.add(0, entity);
+        synchronized (getInstanceLock(entity.getGUID()))
+        {
+            entityStore.remove(entity.getGUID());
+            entityIndex.removeInstance(entity.getGUID());
+            removeSavedEntity(entity.getGUID());
+            entityHistoryStore.addVersion(entity);
+        }
     }
 
 
@@ -525,13 +679,18 @@ class InMemoryOMRSMetadataStore
      *
      * @param guid - entity to remove
      */
-    synchronized void removeReferenceEntityFromStore(String     guid)
+    void removeReferenceEntityFromStore(String     guid)
     {
-        EntityDetail entity = entityStore.remove(guid);
-
-        if (entity != null)
+        synchronized (getInstanceLock(guid))
         {
-            entityHistoryStore.add(0, entity);
+            EntityDetail entity = entityStore.remove(guid);
+
+            if (entity != null)
+            {
+                entityIndex.removeInstance(guid);
+                removeSavedEntity(guid);
+                entityHistoryStore.addVersion(entity);
+            }
         }
     }
 
@@ -541,9 +700,15 @@ class InMemoryOMRSMetadataStore
      *
      * @param guid - entity proxy to remove
      */
-    synchronized void removeEntityProxyFromStore(String     guid)
+    void removeEntityProxyFromStore(String     guid)
     {
-        entityProxyStore.remove(guid);
+        synchronized (getInstanceLock(guid))
+        {
+            if ((entityProxyStore.remove(guid) != null) && (persistentStore != null))
+            {
+                persistentStore.removeEntityProxy(guid);
+            }
+        }
     }
 
 
@@ -552,10 +717,15 @@ class InMemoryOMRSMetadataStore
      *
      * @param relationship - relationship to remove
      */
-    synchronized void removeRelationshipFromStore(Relationship     relationship)
+    void removeRelationshipFromStore(Relationship     relationship)
     {
-        relationshipStore.remove(relationship.getGUID());
-        relationshipHistoryStore.add(0, relationship);
+        synchronized (getInstanceLock(relationship.getGUID()))
+        {
+            relationshipStore.remove(relationship.getGUID());
+            relationshipIndex.removeInstance(relationship.getGUID());
+            removeSavedRelationship(relationship.getGUID());
+            relationshipHistoryStore.addVersion(relationship);
+        }
     }
 
 
@@ -564,14 +734,144 @@ class InMemoryOMRSMetadataStore
      *
      * @param guid - relationship to remove
      */
-    synchronized void removeReferenceRelationshipFromStore(String     guid)
+    void removeReferenceRelationshipFromStore(String     guid)
     {
-        Relationship  relationship = relationshipStore.remove(guid);
+        synchronized (getInstanceLock(guid))
+        {
+            Relationship  relationship = relationshipStore.remove(guid);
 
-        if (relationship != null)
+            if (relationship != null)
+            {
+                relationshipIndex.removeInstance(guid);
+                removeSavedRelationship(guid);
+                relationshipHistoryStore.addVersion(relationship);
+            }
+        }
+    }
+
+
+    /**
+     * Load an entity from the persistent store.
+     *
+     * @param entity - stored version of the entity
+     */
+    void restoreEntity(EntityDetail   entity)
+    {
+        entityIndex.indexInstance(entity);
+        entityStore.put(entity.getGUID(), entity);
+    }
+
+
+    /**
+     * Apply the removal of an entity that is recorded in the persistent store.
+     *
+     * @param guid - unique identifier of the entity
+     */
+    void forgetEntity(String   guid)
+    {
+        entityStore.remove(guid);
+        entityIndex.removeInstance(guid);
+    }
+
+
+    /**
+     * Load an entity proxy from the persistent store.
+     *
+     * @param entityProxy - stored version of the entity proxy
+     */
+    void restoreEntityProxy(EntityProxy   entityProxy)
+    {
+        entityProxyStore.put(entityProxy.getGUID(), entityProxy);
+    }
+
+
+    /**
+     * Apply the removal of an entity proxy that is recorded in the persistent store.
+     *
+     * @param guid - unique identifier of the entity proxy
+     */
+    void forgetEntityProxy(String   guid)
+    {
+        entityProxyStore.remove(guid);
+    }
+
+
+    /**
+     * Load a relationship from the persistent store.
+     *
+     * @param relationship - stored version of the relationship
+     */
+    void restoreRelationship(Relationship   relationship)
+    {
+        relationshipIndex.indexInstance(relationship);
+        relationshipStore.put(relationship.getGUID(), relationship);
+    }
+
+
+    /**
+     * Apply the removal of a relationship that is recorded in the persistent store.
+     *
+     * @param guid - unique identifier of the relationship
+     */
+    void forgetRelationship(String   guid)
+    {
+        relationshipStore.remove(guid);
+        relationshipIndex.removeInstance(guid);
+    }
+
+
+    /**
+     * Record a new version of an entity in the persistent store (if there is one).
+     *
+     * @param entity - entity that has been stored
+     */
+    private void saveEntity(EntityDetail   entity)
+    {
+        if (persistentStore != null)
+        {
+            persistentStore.saveEntity(entity);
+        }
+    }
+
+
+    /**
+     * Record the removal of an entity in the persistent store (if there is one).
+     *
+     * @param guid - unique identifier of the entity
+     */
+    private void removeSavedEntity(String   guid)
+    {
+        if (persistentStore != null)
+        {
+            persistentStore.removeEntity(guid);
+        }
+    }
+
+
+    /**
+     * Record a new version of a relationship in the persistent store (if there is one).
+     *
+     * @param relationship - relationship that has been stored
+     */
+    private void saveRelationship(Relationship   relationship)
+    {
+        if (persistentStore != null)
         {
-            relationshipHistoryStore.add(0, relationship);
+            persistentStore.saveRelationship(relationship);
         }
     }
 
+
+    /**
+     * Record the removal of a relationship in the persistent store (if there is one).
+     *
+     * @param guid - unique identifier of the relationship
+     */
+    private void removeSavedRelationship(String   guid)
+    {
+        if (persistentStore != null)
+        {
+            persistentStore.removeRelationship(guid);
+        }
+    }
 }
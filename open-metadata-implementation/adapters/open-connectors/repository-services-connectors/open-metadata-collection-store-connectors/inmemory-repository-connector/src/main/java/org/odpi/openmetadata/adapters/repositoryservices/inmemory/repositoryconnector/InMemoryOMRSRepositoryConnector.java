@@ -3,15 +3,33 @@
 package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
 
 
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
+import java.util.Map;
+
 /**
  * The InMemoryOMRSRepositoryConnector is a connector to a local in memory repository.  It is used for test,
  * small scale fixed or temporary repositories where the initial content comes from open metadata archives and
  * other members of connected open metadata repository cohorts.
+ * <p>
+ * The history of the instances is kept without limit unless the maxHistoryVersions and/or
+ * maxHistoryAge (milliseconds) configuration properties of the connection are set.
+ * <p>
+ * If the storageDirectory configuration property is set, the current instances are also saved in that directory
+ * and reloaded when the server restarts.  The changes are appended to a change log and a compacted snapshot
+ * of the instances is written after every snapshotInterval changes (default 10000) and when the connector
+ * is disconnected.
  */
 public class InMemoryOMRSRepositoryConnector extends OMRSRepositoryConnector
 {
+    static final String maxHistoryVersionsProperty = "maxHistoryVersions";
+    static final String maxHistoryAgeProperty      = "maxHistoryAge";
+    static final String storageDirectoryProperty   = "storageDirectory";
+    static final String snapshotIntervalProperty   = "snapshotInterval";
+
+    private static final long defaultSnapshotInterval = 10000;
+
     /**
      * Default constructor used by the OCF Connector Provider.
      */
@@ -38,11 +56,101 @@ public class InMemoryOMRSRepositoryConnector extends OMRSRepositoryConnector
             /*
              * Initialize the metadata collection only once the connector is properly set up.
              */
-            super.metadataCollection = new InMemoryOMRSMetadataCollection(this,
-                                                                          super.serverName,
-                                                                          repositoryHelper,
-                                                                          repositoryValidator,
-                                                                          metadataCollectionId);
+            InMemoryOMRSMetadataCollection inMemoryMetadataCollection = new InMemoryOMRSMetadataCollection(this,
+                                                                                                            super.serverName,
+                                                                                                            repositoryHelper,
+                                                                                                            repositoryValidator,
+                                                                                                            metadataCollectionId);
+
+            setUpHistoryRetention(inMemoryMetadataCollection);
+            setUpPersistentStore(inMemoryMetadataCollection);
+
+            super.metadataCollection = inMemoryMetadataCollection;
+        }
+    }
+
+
+    /**
+     * Pass the history retention policy from the connection's configuration properties to the
+     * metadata collection.
+     *
+     * @param inMemoryMetadataCollection new metadata collection
+     */
+    private void setUpHistoryRetention(InMemoryOMRSMetadataCollection inMemoryMetadataCollection)
+    {
+        int  maxHistoryVersions = 0;
+        long maxHistoryAge      = 0;
+
+        if (connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                Object maxVersions = configurationProperties.get(maxHistoryVersionsProperty);
+                Object maxAge      = configurationProperties.get(maxHistoryAgeProperty);
+
+                if (maxVersions instanceof Integer)
+                {
+                    maxHistoryVersions = (Integer)maxVersions;
+                }
+
+                if (maxAge instanceof Number)
+                {
+                    maxHistoryAge = ((Number)maxAge).longValue();
+                }
+            }
+        }
+
+        inMemoryMetadataCollection.setHistoryRetention(maxHistoryVersions, maxHistoryAge);
+    }
+
+
+    /**
+     * Load the saved instances into the metadata collection if the connection's configuration properties
+     * name a storage directory.
+     *
+     * @param inMemoryMetadataCollection new metadata collection
+     */
+    private void setUpPersistentStore(InMemoryOMRSMetadataCollection inMemoryMetadataCollection)
+    {
+        if (connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                Object storageDirectory = configurationProperties.get(storageDirectoryProperty);
+                Object interval         = configurationProperties.get(snapshotIntervalProperty);
+                long   snapshotInterval = defaultSnapshotInterval;
+
+                if ((interval instanceof Number) && (((Number)interval).longValue() > 0))
+                {
+                    snapshotInterval = ((Number)interval).longValue();
+                }
+
+                if (storageDirectory instanceof String)
+                {
+                    inMemoryMetadataCollection.setPersistentStore((String)storageDirectory, snapshotInterval);
+                }
+            }
         }
     }
+
+
+    /**
+     * Save the instances to the persistent store (if there is one) before the connector is closed.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public void disconnect() throws ConnectorCheckedException
+    {
+        if (metadataCollection instanceof InMemoryOMRSMetadataCollection)
+        {
+            ((InMemoryOMRSMetadataCollection)metadataCollection).closePersistentStore();
+        }
+
+        super.disconnect();
+    }
 }
\ No newline at end of file
@@ -7,6 +7,9 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorTyp
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnectorProviderBase;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * In the Open Connector Framework (OCF), a ConnectorProvider is a factory for a specific type of connector.
  * The InMemoryOMRSRepositoryConnectorProvider is the connector provider for the InMemoryOMRSRepositoryConnector.
@@ -42,6 +45,14 @@ public class InMemoryOMRSRepositoryConnectorProvider extends OMRSRepositoryConne
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String>  recognizedPropertyNames = new ArrayList<>();
+        recognizedPropertyNames.add(InMemoryOMRSRepositoryConnector.maxHistoryVersionsProperty);
+        recognizedPropertyNames.add(InMemoryOMRSRepositoryConnector.maxHistoryAgeProperty);
+        recognizedPropertyNames.add(InMemoryOMRSRepositoryConnector.storageDirectoryProperty);
+        recognizedPropertyNames.add(InMemoryOMRSRepositoryConnector.snapshotIntervalProperty);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedPropertyNames);
+
         super.connectorTypeBean = connectorType;
         super.setConnectorComponentDescription(OMRSAuditingComponent.INMEM_REPOSITORY_CONNECTOR);
     }
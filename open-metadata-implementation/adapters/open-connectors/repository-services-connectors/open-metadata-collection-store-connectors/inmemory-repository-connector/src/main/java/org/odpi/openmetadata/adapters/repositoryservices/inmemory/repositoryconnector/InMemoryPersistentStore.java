@@ -0,0 +1,669 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * InMemoryPersistentStore keeps a copy of the current entities, entity proxies and relationships of the
+ * InMemoryOMRSMetadataStore in a local directory so the repository can be restored when the server restarts.
+ * Each change is appended to a change log.  Once the change log holds enough records, a compacted snapshot of
+ * the store is written on a background thread and the change log is started again.  On start up the snapshot is
+ * memory-mapped and loaded, and then the change log is replayed over it.
+ * <p>
+ * Every record holds its length, a checksum, the record type and the JSON form of the instance (or the GUID for a
+ * removal).  A record that was only partly written when the server stopped is discarded.  The history of the
+ * instances is not stored.
+ * <p>
+ * While a snapshot is written, new changes go to a fresh change log.  Every change in the previous change log
+ * was made to the store before the snapshot started, so replaying the snapshot, the previous change log and then
+ * the current change log always ends with the latest version of each instance.
+ */
+class InMemoryPersistentStore
+{
+    static final String SNAPSHOT_FILE_NAME            = "instances.snapshot";
+    static final String CHANGE_LOG_FILE_NAME          = "instances.log";
+    static final String PREVIOUS_CHANGE_LOG_FILE_NAME = "instances.log.previous";
+
+    private static final String NEW_SNAPSHOT_FILE_NAME = "instances.snapshot.new";
+
+    private static final byte ENTITY               = 1;
+    private static final byte ENTITY_REMOVED       = 2;
+    private static final byte ENTITY_PROXY         = 3;
+    private static final byte ENTITY_PROXY_REMOVED = 4;
+    private static final byte RELATIONSHIP         = 5;
+    private static final byte RELATIONSHIP_REMOVED = 6;
+
+    private static final int  RECORD_HEADER_SIZE = 9;
+    private static final long MAPPED_WINDOW_SIZE = Integer.MAX_VALUE;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String              repositoryName;
+    private final Path                storageDirectory;
+    private final long                snapshotInterval;
+    private final Consumer<Exception> snapshotErrorHandler;
+    private final ReadWriteLock       changeLogLock        = new ReentrantReadWriteLock();
+    private final AtomicLong          changesSinceSnapshot = new AtomicLong(0);
+    private final AtomicBoolean       snapshotScheduled    = new AtomicBoolean(false);
+    private final ExecutorService     snapshotExecutor;
+
+    private InMemoryOMRSMetadataStore store     = null;
+    private FileChannel               changeLog = null;
+
+
+    /**
+     * Constructor
+     *
+     * @param repositoryName - name of the repository - used for messages
+     * @param storageDirectory - directory for the snapshot and change log files
+     * @param snapshotInterval - number of changes written to the change log before a snapshot is taken
+     * @param snapshotErrorHandler - called if a snapshot written in the background fails
+     */
+    InMemoryPersistentStore(String              repositoryName,
+                            String              storageDirectory,
+                            long                snapshotInterval,
+                            Consumer<Exception> snapshotErrorHandler)
+    {
+        this.repositoryName = repositoryName;
+        this.storageDirectory = Paths.get(storageDirectory);
+        this.snapshotInterval = snapshotInterval;
+        this.snapshotErrorHandler = snapshotErrorHandler;
+        this.snapshotExecutor = Executors.newSingleThreadExecutor(runnable ->
+        {
+            Thread thread = new Thread(runnable, "InMemoryRepositorySnapshot-" + repositoryName);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+
+    /**
+     * Return the directory where the files are stored.
+     *
+     * @return path name
+     */
+    String getStorageDirectory()
+    {
+        return storageDirectory.toString();
+    }
+
+
+    /**
+     * Load the stored instances into the store and open the change log so the changes to the store
+     * can be recorded.
+     *
+     * @param store - empty store to load
+     * @throws IOException problem reading or opening the files
+     */
+    synchronized void open(InMemoryOMRSMetadataStore store) throws IOException
+    {
+        this.store = store;
+
+        Files.createDirectories(storageDirectory);
+
+        Path snapshotFile          = storageDirectory.resolve(SNAPSHOT_FILE_NAME);
+        Path previousChangeLogFile = storageDirectory.resolve(PREVIOUS_CHANGE_LOG_FILE_NAME);
+        Path changeLogFile         = storageDirectory.resolve(CHANGE_LOG_FILE_NAME);
+
+        Files.deleteIfExists(storageDirectory.resolve(NEW_SNAPSHOT_FILE_NAME));
+
+        loadFile(snapshotFile);
+        loadFile(previousChangeLogFile);
+
+        long changeLogLength = loadFile(changeLogFile);
+
+        changeLog = FileChannel.open(changeLogFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+        /*
+         * Drop any partly written record from the end of the change log.
+         */
+        changeLog.truncate(changeLogLength);
+        changeLog.position(changeLogLength);
+
+        if (Files.exists(previousChangeLogFile))
+        {
+            /*
+             * The server stopped while a snapshot was being written.  Nothing else is using the store yet
+             * so the snapshot is completed now.
+             */
+            rotateChangeLog();
+            writeSnapshot();
+        }
+    }
+
+
+    /**
+     * Record a new version of an entity.
+     *
+     * @param entity - entity that has been stored
+     */
+    void saveEntity(EntityDetail   entity)
+    {
+        saveInstance(ENTITY, entity);
+    }
+
+
+    /**
+     * Record the removal of an entity.
+     *
+     * @param guid - unique identifier of the entity
+     */
+    void removeEntity(String   guid)
+    {
+        saveRemoval(ENTITY_REMOVED, guid);
+    }
+
+
+    /**
+     * Record a new version of an entity proxy.
+     *
+     * @param entityProxy - entity proxy that has been stored
+     */
+    void saveEntityProxy(EntityProxy   entityProxy)
+    {
+        saveInstance(ENTITY_PROXY, entityProxy);
+    }
+
+
+    /**
+     * Record the removal of an entity proxy.
+     *
+     * @param guid - unique identifier of the entity proxy
+     */
+    void removeEntityProxy(String   guid)
+    {
+        saveRemoval(ENTITY_PROXY_REMOVED, guid);
+    }
+
+
+    /**
+     * Record a new version of a relationship.
+     *
+     * @param relationship - relationship that has been stored
+     */
+    void saveRelationship(Relationship   relationship)
+    {
+        saveInstance(RELATIONSHIP, relationship);
+    }
+
+
+    /**
+     * Record the removal of a relationship.
+     *
+     * @param guid - unique identifier of the relationship
+     */
+    void removeRelationship(String   guid)
+    {
+        saveRemoval(RELATIONSHIP_REMOVED, guid);
+    }
+
+
+    /**
+     * Write a snapshot of the store now.  This is used when the repository is shut down so the
+     * change log is empty when it restarts.
+     *
+     * @throws IOException problem writing the files
+     */
+    void takeSnapshot() throws IOException
+    {
+        rotateChangeLog();
+        writeSnapshot();
+    }
+
+
+    /**
+     * Stop the background snapshots, write a final snapshot if there are changes since the last one, and
+     * close the change log.  This means a repository that was shut down cleanly has no change log to replay
+     * when it restarts.
+     *
+     * @throws IOException problem writing the files
+     */
+    void close() throws IOException
+    {
+        snapshotExecutor.shutdown();
+
+        try
+        {
+            snapshotExecutor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        if (changesSinceSnapshot.get() > 0)
+        {
+            takeSnapshot();
+        }
+
+        changeLogLock.writeLock().lock();
+
+        try
+        {
+            if (changeLog != null)
+            {
+                changeLog.force(false);
+                changeLog.close();
+            }
+        }
+        finally
+        {
+            changeLogLock.writeLock().unlock();
+        }
+    }
+
+
+    /**
+     * Append the JSON form of an instance to the change log.
+     *
+     * @param recordType - type of record
+     * @param instance - instance to save
+     */
+    private void saveInstance(byte             recordType,
+                              InstanceHeader   instance)
+    {
+        final String methodName = "saveInstance";
+
+        try
+        {
+            writeChange(recordType, objectMapper.writeValueAsBytes(instance));
+        }
+        catch (IOException error)
+        {
+            throw new OMRSLogicErrorException(OMRSErrorCode.IN_MEMORY_STORE_IO_ERROR.getMessageDefinition(repositoryName,
+                                                                                                      "write to",
+                                                                                                      storageDirectory.toString(),
+                                                                                                      error.getMessage()),
+                                              this.getClass().getName(),
+                                              methodName,
+                                              error);
+        }
+    }
+
+
+    /**
+     * Append the GUID of a removed instance to the change log.
+     *
+     * @param recordType - type of record
+     * @param guid - unique identifier of the removed instance
+     */
+    private void saveRemoval(byte     recordType,
+                             String   guid)
+    {
+        final String methodName = "saveRemoval";
+
+        try
+        {
+            writeChange(recordType, guid.getBytes(StandardCharsets.UTF_8));
+        }
+        catch (IOException error)
+        {
+            throw new OMRSLogicErrorException(OMRSErrorCode.IN_MEMORY_STORE_IO_ERROR.getMessageDefinition(repositoryName,
+                                                                                                      "write to",
+                                                                                                      storageDirectory.toString(),
+                                                                                                      error.getMessage()),
+                                              this.getClass().getName(),
+                                              methodName,
+                                              error);
+        }
+    }
+
+
+    /**
+     * Append a record to the change log and schedule a snapshot once the interval is reached.  Many threads
+     * can write records at the same time.  Each record is written with a single call so records do not
+     * interleave.
+     *
+     * @param recordType - type of record
+     * @param payload - content of the record
+     * @throws IOException problem writing to the change log
+     */
+    private void writeChange(byte     recordType,
+                             byte[]   payload) throws IOException
+    {
+        ByteBuffer record = encodeRecord(recordType, payload);
+
+        changeLogLock.readLock().lock();
+
+        try
+        {
+            while (record.hasRemaining())
+            {
+                changeLog.write(record);
+            }
+        }
+        finally
+        {
+            changeLogLock.readLock().unlock();
+        }
+
+        if ((changesSinceSnapshot.incrementAndGet() >= snapshotInterval) && (snapshotScheduled.compareAndSet(false, true)))
+        {
+            snapshotExecutor.execute(this::takeBackgroundSnapshot);
+        }
+    }
+
+
+    /**
+     * Write a snapshot on the background thread.  If it fails, the previous change log is kept and the snapshot
+     * is retried once the next batch of changes has been written.
+     */
+    private void takeBackgroundSnapshot()
+    {
+        try
+        {
+            takeSnapshot();
+        }
+        catch (Exception error)
+        {
+            snapshotErrorHandler.accept(error);
+        }
+        finally
+        {
+            snapshotScheduled.set(false);
+        }
+    }
+
+
+    /**
+     * Move the current change log aside and start an empty one.  Writers are only held up while the files
+     * are switched.  If a previous change log is still present from a failed snapshot, the current change log
+     * is added to the end of it.
+     *
+     * @throws IOException problem with the files
+     */
+    private synchronized void rotateChangeLog() throws IOException
+    {
+        Path changeLogFile         = storageDirectory.resolve(CHANGE_LOG_FILE_NAME);
+        Path previousChangeLogFile = storageDirectory.resolve(PREVIOUS_CHANGE_LOG_FILE_NAME);
+
+        changeLogLock.writeLock().lock();
+
+        try
+        {
+            changeLog.force(false);
+
+            if (Files.exists(previousChangeLogFile))
+            {
+                try (FileChannel previousChangeLog = FileChannel.open(previousChangeLogFile, StandardOpenOption.APPEND))
+                {
+                    FileChannel currentChangeLog = FileChannel.open(changeLogFile, StandardOpenOption.READ);
+
+                    try
+                    {
+                        long position = 0;
+                        long size     = currentChangeLog.size();
+
+                        while (position < size)
+                        {
+                            position += currentChangeLog.transferTo(position, size - position, previousChangeLog);
+                        }
+                    }
+                    finally
+                    {
+                        currentChangeLog.close();
+                    }
+
+                    previousChangeLog.force(false);
+                }
+
+                changeLog.truncate(0);
+                changeLog.position(0);
+            }
+            else
+            {
+                changeLog.close();
+                Files.move(changeLogFile, previousChangeLogFile, StandardCopyOption.ATOMIC_MOVE);
+                changeLog = FileChannel.open(changeLogFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            }
+
+            changesSinceSnapshot.set(0);
+        }
+        finally
+        {
+            changeLogLock.writeLock().unlock();
+        }
+    }
+
+
+    /**
+     * Write all of the instances in the store to a new snapshot file, replace the old snapshot with it and
+     * remove the previous change log that it covers.
+     *
+     * @throws IOException problem with the files
+     */
+    private synchronized void writeSnapshot() throws IOException
+    {
+        Path newSnapshotFile = storageDirectory.resolve(NEW_SNAPSHOT_FILE_NAME);
+
+        try (FileChannel snapshot = FileChannel.open(newSnapshotFile,
+                                                     StandardOpenOption.CREATE,
+                                                     StandardOpenOption.TRUNCATE_EXISTING,
+                                                     StandardOpenOption.WRITE))
+        {
+            for (EntityDetail entity : store.getEntities())
+            {
+                writeRecord(snapshot, encodeRecord(ENTITY, objectMapper.writeValueAsBytes(entity)));
+            }
+
+            for (EntityProxy entityProxy : store.getEntityProxies())
+            {
+                writeRecord(snapshot, encodeRecord(ENTITY_PROXY, objectMapper.writeValueAsBytes(entityProxy)));
+            }
+
+            for (Relationship relationship : store.getRelationships())
+            {
+                writeRecord(snapshot, encodeRecord(RELATIONSHIP, objectMapper.writeValueAsBytes(relationship)));
+            }
+
+            snapshot.force(true);
+        }
+
+        Files.move(newSnapshotFile,
+                   storageDirectory.resolve(SNAPSHOT_FILE_NAME),
+                   StandardCopyOption.ATOMIC_MOVE,
+                   StandardCopyOption.REPLACE_EXISTING);
+        Files.deleteIfExists(storageDirectory.resolve(PREVIOUS_CHANGE_LOG_FILE_NAME));
+    }
+
+
+    /**
+     * Write a complete record to a file.
+     *
+     * @param file - file to write to
+     * @param record - encoded record
+     * @throws IOException problem writing the file
+     */
+    private void writeRecord(FileChannel   file,
+                             ByteBuffer    record) throws IOException
+    {
+        while (record.hasRemaining())
+        {
+            file.write(record);
+        }
+    }
+
+
+    /**
+     * Build a record from its type and content.  The header holds the length of the content, a checksum
+     * of the type and content, and the type.
+     *
+     * @param recordType - type of record
+     * @param payload - content of the record
+     * @return buffer ready to write
+     */
+    private ByteBuffer encodeRecord(byte     recordType,
+                                    byte[]   payload)
+    {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length);
+
+        record.putInt(payload.length);
+        record.putInt(getChecksum(recordType, payload));
+        record.put(recordType);
+        record.put(payload);
+        record.flip();
+
+        return record;
+    }
+
+
+    /**
+     * Calculate the checksum of a record.
+     *
+     * @param recordType - type of record
+     * @param payload - content of the record
+     * @return checksum
+     */
+    private int getChecksum(byte     recordType,
+                            byte[]   payload)
+    {
+        CRC32 checksum = new CRC32();
+
+        checksum.update(recordType);
+        checksum.update(payload);
+
+        return (int)checksum.getValue();
+    }
+
+
+    /**
+     * Memory-map a snapshot or change log file and apply each of its records to the store.  Large files
+     * are mapped in windows.  Loading stops at the first record that is incomplete or fails its checksum.
+     *
+     * @param file - file to load
+     * @return length of the valid records in the file
+     * @throws IOException problem reading the file
+     */
+    private long loadFile(Path   file) throws IOException
+    {
+        if (! Files.exists(file))
+        {
+            return 0;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            long fileSize    = channel.size();
+            long windowStart = 0;
+
+            while (windowStart < fileSize)
+            {
+                long             windowSize = Math.min(fileSize - windowStart, MAPPED_WINDOW_SIZE);
+                MappedByteBuffer window     = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowSize);
+                int              recordStart;
+
+                while (true)
+                {
+                    recordStart = window.position();
+
+                    if (window.remaining() < RECORD_HEADER_SIZE)
+                    {
+                        break;
+                    }
+
+                    int  length     = window.getInt();
+                    int  checksum   = window.getInt();
+                    byte recordType = window.get();
+
+                    if ((length < 0) || (window.remaining() < length))
+                    {
+                        break;
+                    }
+
+                    byte[] payload = new byte[length];
+
+                    window.get(payload);
+
+                    if (checksum != getChecksum(recordType, payload))
+                    {
+                        return windowStart + recordStart;
+                    }
+
+                    applyRecord(recordType, payload);
+                }
+
+                if ((recordStart == 0) || (windowStart + windowSize == fileSize))
+                {
+                    /*
+                     * The rest of the file is a partly written record.
+                     */
+                    return windowStart + recordStart;
+                }
+
+                /*
+                 * The next record crosses the end of the window so the next window starts with it.
+                 */
+                windowStart = windowStart + recordStart;
+            }
+
+            return windowStart;
+        }
+    }
+
+
+    /**
+     * Apply a record from a snapshot or change log to the store.
+     *
+     * @param recordType - type of record
+     * @param payload - content of the record
+     * @throws IOException the content could not be parsed
+     */
+    private void applyRecord(byte     recordType,
+                             byte[]   payload) throws IOException
+    {
+        switch (recordType)
+        {
+            case ENTITY:
+                store.restoreEntity(objectMapper.readValue(payload, EntityDetail.class));
+                break;
+
+            case ENTITY_REMOVED:
+                store.forgetEntity(new String(payload, StandardCharsets.UTF_8));
+                break;
+
+            case ENTITY_PROXY:
+                store.restoreEntityProxy(objectMapper.readValue(payload, EntityProxy.class));
+                break;
+
+            case ENTITY_PROXY_REMOVED:
+                store.forgetEntityProxy(new String(payload, StandardCharsets.UTF_8));
+                break;
+
+            case RELATIONSHIP:
+                store.restoreRelationship(objectMapper.readValue(payload, Relationship.class));
+                break;
+
+            case RELATIONSHIP_REMOVED:
+                store.forgetRelationship(new String(payload, StandardCharsets.UTF_8));
+                break;
+
+            default:
+                throw new IOException("Unknown record type " + recordType + " in the persistent store of " + repositoryName);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+
+public class TestInMemoryInstanceHistory
+{
+    @Test
+    void testVersionAsOfTime()
+    {
+        InMemoryInstanceHistory<EntityDetail> history = new InMemoryInstanceHistory<>();
+
+        history.addVersion(getEntity("1111", 1, 1000));
+        history.addVersion(getEntity("1111", 2, 2000));
+        history.addVersion(getEntity("1111", 3, 3000));
+
+        assertNull(history.getVersionAsOf("1111", new Date(999)));
+        assertEquals(history.getVersionAsOf("1111", new Date(1000)).getVersion(), 1);
+        assertEquals(history.getVersionAsOf("1111", new Date(2500)).getVersion(), 2);
+        assertEquals(history.getVersionAsOf("1111", new Date(9000)).getVersion(), 3);
+        assertEquals(history.getLatestVersion("1111").getVersion(), 3);
+        assertNull(history.getVersionAsOf("2222", new Date(9000)));
+
+        /*
+         * The view of the store combines the current versions with the history.
+         */
+        Map<String, EntityDetail> currentStore = new HashMap<>();
+
+        currentStore.put("1111", getEntity("1111", 4, 4000));
+        currentStore.put("2222", getEntity("2222", 1, 5000));
+
+        Map<String, EntityDetail> storeAsOf = history.getStoreAsOf(currentStore, new Date(4500));
+
+        assertEquals(storeAsOf.get("1111").getVersion(), 4);
+        assertNull(storeAsOf.get("2222"));
+        assertEquals(storeAsOf.size(), 1);
+
+        storeAsOf = history.getStoreAsOf(currentStore, new Date(2000));
+
+        assertEquals(storeAsOf.get("1111").getVersion(), 2);
+        assertEquals(storeAsOf.values().size(), 1);
+    }
+
+
+    @Test
+    void testRetention()
+    {
+        InMemoryInstanceHistory<EntityDetail> history = new InMemoryInstanceHistory<>();
+
+        history.setRetention(2, 0);
+
+        for (int version = 1; version <= 5; version++)
+        {
+            history.addVersion(getEntity("1111", version, version * 1000));
+        }
+
+        assertNull(history.getVersionAsOf("1111", new Date(3999)));
+        assertEquals(history.getVersionAsOf("1111", new Date(4000)).getVersion(), 4);
+
+        /*
+         * A version is kept while the version that replaced it is within the age limit.
+         */
+        long now = System.currentTimeMillis();
+
+        history = new InMemoryInstanceHistory<>();
+        history.setRetention(0, 60000);
+
+        history.addVersion(getEntity("1111", 1, now - 300000));
+        history.addVersion(getEntity("1111", 2, now - 200000));
+        history.addVersion(getEntity("1111", 3, now - 30000));
+
+        assertNull(history.getVersionAsOf("1111", new Date(now - 250000)));
+        assertEquals(history.getVersionAsOf("1111", new Date(now - 100000)).getVersion(), 2);
+        assertEquals(history.getLatestVersion("1111").getVersion(), 3);
+    }
+
+
+    /**
+     * Create a version of an entity.
+     *
+     * @param guid unique identifier
+     * @param version version number
+     * @param updateTime time of the version
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid,
+                                   long   version,
+                                   long   updateTime)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+        entity.setUpdateTime(new Date(updateTime));
+
+        return entity;
+    }
+}
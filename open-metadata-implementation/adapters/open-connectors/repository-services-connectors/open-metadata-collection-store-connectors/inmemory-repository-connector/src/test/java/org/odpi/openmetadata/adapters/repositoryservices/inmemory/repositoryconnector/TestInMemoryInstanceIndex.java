@@ -0,0 +1,133 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+public class TestInMemoryInstanceIndex
+{
+    @Test
+    void testEntityIndex()
+    {
+        InMemoryInstanceIndex index  = new InMemoryInstanceIndex();
+        EntityDetail          entity = getEntity("1111", "GlossaryTerm", "Confidentiality", "Customer Number");
+
+        index.indexInstance(entity);
+        index.indexInstance(getEntity("2222", "Asset", null, "Customer Record"));
+
+        assertEquals(index.getGUIDsForTypes(Collections.singletonList("GlossaryTerm")), Collections.singleton("1111"));
+        assertEquals(index.getGUIDsForClassification("Confidentiality"), Collections.singleton("1111"));
+        assertEquals(index.getGUIDsForStringValue("Customer Number", false), Collections.singleton("1111"));
+        assertEquals(index.getGUIDsForStringValue("Customer", false), Collections.emptySet());
+        assertEquals(index.getGUIDsForStringValue("Customer", true), new HashSet<>(Arrays.asList("1111", "2222")));
+
+        /*
+         * The keys of the old version are removed when the entity changes.
+         */
+        index.indexInstance(getEntity("1111", "GlossaryTerm", null, "Account Number"));
+
+        assertTrue(index.getGUIDsForClassification("Confidentiality").isEmpty());
+        assertEquals(index.getGUIDsForStringValue("Customer", true), Collections.singleton("2222"));
+        assertEquals(index.getGUIDsForStringValue("Account Number", false), Collections.singleton("1111"));
+
+        index.removeInstance("1111");
+
+        assertTrue(index.getGUIDsForTypes(Collections.singletonList("GlossaryTerm")).isEmpty());
+        assertTrue(index.getGUIDsForStringValue("Account Number", false).isEmpty());
+    }
+
+
+    @Test
+    void testRelationshipIndex()
+    {
+        InMemoryInstanceIndex index        = new InMemoryInstanceIndex();
+        Relationship          relationship = new Relationship();
+
+        relationship.setGUID("3333");
+        relationship.setType(getType("SemanticAssignment"));
+        relationship.setEntityOneProxy(getEntityProxy("1111"));
+        relationship.setEntityTwoProxy(getEntityProxy("2222"));
+
+        index.indexInstance(relationship);
+
+        assertEquals(index.getGUIDsForEnd("1111"), Collections.singleton("3333"));
+        assertEquals(index.getGUIDsForEnd("2222"), Collections.singleton("3333"));
+        assertTrue(index.getGUIDsForEnd("4444").isEmpty());
+    }
+
+
+    /**
+     * Create an entity with a single string property.
+     *
+     * @param guid unique identifier
+     * @param typeName name of the entity's type
+     * @param classificationName optional classification
+     * @param displayName value of the string property
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid,
+                                   String typeName,
+                                   String classificationName,
+                                   String displayName)
+    {
+        EntityDetail           entity        = new EntityDetail();
+        InstanceProperties     properties    = new InstanceProperties();
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+        entity.setGUID(guid);
+        entity.setType(getType(typeName));
+
+        propertyValue.setPrimitiveValue(displayName);
+        properties.setProperty("displayName", propertyValue);
+        entity.setProperties(properties);
+
+        if (classificationName != null)
+        {
+            Classification classification = new Classification();
+
+            classification.setName(classificationName);
+            entity.setClassifications(Collections.singletonList(classification));
+        }
+
+        return entity;
+    }
+
+
+    /**
+     * Create an instance type.
+     *
+     * @param typeName name of the type
+     * @return type
+     */
+    private InstanceType getType(String typeName)
+    {
+        InstanceType type = new InstanceType();
+
+        type.setTypeDefName(typeName);
+
+        return type;
+    }
+
+
+    /**
+     * Create an entity proxy.
+     *
+     * @param guid unique identifier of the entity
+     * @return proxy
+     */
+    private EntityProxy getEntityProxy(String guid)
+    {
+        EntityProxy entityProxy = new EntityProxy();
+
+        entityProxy.setGUID(guid);
+
+        return entityProxy;
+    }
+}
@@ -0,0 +1,120 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+
+public class TestInMemoryOMRSMetadataStore
+{
+    private static final int THREADS  = 8;
+    private static final int ENTITIES = 50;
+    private static final int VERSIONS = 20;
+
+
+    @Test
+    void testConcurrentUpdates() throws Exception
+    {
+        InMemoryOMRSMetadataStore store    = new InMemoryOMRSMetadataStore();
+        ExecutorService           executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>>           futures  = new ArrayList<>();
+
+        for (int i = 0; i < ENTITIES; i++)
+        {
+            store.createEntityInStore(getEntity("guid" + i, 1));
+        }
+
+        /*
+         * Every thread updates every entity while the others read the store.
+         */
+        for (int thread = 0; thread < THREADS; thread++)
+        {
+            futures.add(executor.submit(() ->
+            {
+                for (int version = 2; version <= VERSIONS; version++)
+                {
+                    for (int i = 0; i < ENTITIES; i++)
+                    {
+                        store.updateEntityInStore(getEntity("guid" + i, version));
+                        assertNotNull(store.getEntity("guid" + i));
+                    }
+
+                    Iterator<EntityDetail> iterator = store.getEntities().iterator();
+
+                    while (iterator.hasNext())
+                    {
+                        assertNotNull(iterator.next());
+                    }
+                }
+
+                return null;
+            }));
+        }
+
+        for (Future<?> future : futures)
+        {
+            future.get();
+        }
+
+        executor.shutdown();
+
+        assertEquals(store.getEntities().size(), ENTITIES);
+
+        /*
+         * Restoring the previous version moves the current version into the history and gives the
+         * restored copy the next version number.
+         */
+        EntityDetail currentVersion  = store.getEntity("guid0");
+        EntityDetail restoredVersion = store.retrievePreviousVersionOfEntity("guid0");
+
+        assertNotNull(restoredVersion);
+        assertEquals(restoredVersion.getVersion(), currentVersion.getVersion() + 1);
+        assertEquals(store.getEntity("guid0"), restoredVersion);
+    }
+
+
+    @Test
+    void testCreateWithClashingGUID()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        EntityDetail first  = store.createEntityInStore(getEntity("guid", 1));
+        EntityDetail second = store.createEntityInStore(getEntity("guid", 1));
+
+        assertEquals(first.getGUID(), "guid");
+        assertEquals(store.getEntities().size(), 2);
+        assertEquals(store.getEntity(second.getGUID()), second);
+        assertNull(store.getEntity(null));
+    }
+
+
+    /**
+     * Create a simple entity.
+     *
+     * @param guid unique identifier
+     * @param version version number
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid,
+                                   long   version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        return entity;
+    }
+}
@@ -0,0 +1,164 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+public class TestInMemoryPersistentStore
+{
+    @Test
+    void testRestoreAfterRestart() throws Exception
+    {
+        Path directory = Files.createTempDirectory("inmemory");
+
+        InMemoryOMRSMetadataStore store           = new InMemoryOMRSMetadataStore();
+        InMemoryPersistentStore   persistentStore = getPersistentStore(directory, 3);
+
+        store.setPersistentStore(persistentStore);
+
+        for (int i = 0; i < 10; i++)
+        {
+            store.createEntityInStore(getEntity("guid" + i, 1));
+        }
+
+        store.updateEntityInStore(getEntity("guid0", 2));
+        store.removeReferenceEntityFromStore("guid1");
+        store.addEntityProxyToStore(getEntityProxy("proxy"));
+        store.createRelationshipInStore(getRelationship("relationship"));
+
+        /*
+         * A clean shutdown writes a final snapshot and leaves an empty change log.
+         */
+        persistentStore.close();
+
+        assertEquals(Files.size(directory.resolve(InMemoryPersistentStore.CHANGE_LOG_FILE_NAME)), 0);
+        assertTrue(Files.size(directory.resolve(InMemoryPersistentStore.SNAPSHOT_FILE_NAME)) > 0);
+
+        store = new InMemoryOMRSMetadataStore();
+        store.setPersistentStore(getPersistentStore(directory, 3));
+
+        assertEquals(store.getEntities().size(), 9);
+        assertEquals(store.getEntity("guid0").getVersion(), 2);
+        assertNull(store.getEntity("guid1"));
+        assertEquals(store.getEntityProxy("proxy").getGUID(), "proxy");
+        assertEquals(store.getRelationship("relationship").getGUID(), "relationship");
+        assertEquals(store.getRelationshipsForEntity("guid2").size(), 1);
+
+        store.getPersistentStore().close();
+    }
+
+
+    @Test
+    void testPartlyWrittenRecord() throws Exception
+    {
+        Path directory = Files.createTempDirectory("inmemory");
+
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.setPersistentStore(getPersistentStore(directory, 1000));
+        store.createEntityInStore(getEntity("guid0", 1));
+        store.createEntityInStore(getEntity("guid1", 1));
+
+        /*
+         * Simulate a crash part way through writing a record by leaving the persistent store open
+         * and adding the start of a record to the end of the change log.
+         */
+        Files.write(directory.resolve(InMemoryPersistentStore.CHANGE_LOG_FILE_NAME),
+                    new byte[] { 0, 0, 1, 0, 1, 2, 3, 4, 1, 123 },
+                    StandardOpenOption.APPEND);
+
+        store = new InMemoryOMRSMetadataStore();
+        store.setPersistentStore(getPersistentStore(directory, 1000));
+
+        assertEquals(store.getEntities().size(), 2);
+
+        /*
+         * New changes follow the last complete record.
+         */
+        store.createEntityInStore(getEntity("guid2", 1));
+
+        store = new InMemoryOMRSMetadataStore();
+        store.setPersistentStore(getPersistentStore(directory, 1000));
+
+        assertEquals(store.getEntities().size(), 3);
+    }
+
+
+    /**
+     * Create a persistent store in the test directory.
+     *
+     * @param directory storage directory
+     * @param snapshotInterval number of changes between snapshots
+     * @return persistent store
+     */
+    private InMemoryPersistentStore getPersistentStore(Path directory,
+                                                       long snapshotInterval)
+    {
+        return new InMemoryPersistentStore("TestRepository", directory.toString(), snapshotInterval, Throwable::printStackTrace);
+    }
+
+
+    /**
+     * Create a simple entity.
+     *
+     * @param guid unique identifier
+     * @param version version number
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid,
+                                   long   version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        return entity;
+    }
+
+
+    /**
+     * Create an entity proxy.
+     *
+     * @param guid unique identifier of the entity
+     * @return proxy
+     */
+    private EntityProxy getEntityProxy(String guid)
+    {
+        EntityProxy entityProxy = new EntityProxy();
+
+        entityProxy.setGUID(guid);
+
+        return entityProxy;
+    }
+
+
+    /**
+     * Create a relationship between two of the entities.
+     *
+     * @param guid unique identifier
+     * @return relationship
+     */
+    private Relationship getRelationship(String guid)
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(guid);
+        relationship.setEntityOneProxy(getEntityProxy("guid2"));
+        relationship.setEntityTwoProxy(getEntityProxy("guid3"));
+
+        return relationship;
+    }
+}
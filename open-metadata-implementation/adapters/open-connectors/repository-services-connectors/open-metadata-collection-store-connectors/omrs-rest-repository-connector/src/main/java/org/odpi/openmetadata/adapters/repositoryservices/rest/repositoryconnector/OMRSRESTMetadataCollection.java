@@ -36,6 +36,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
 
     private boolean getHomeClassificationsSupported = false;
     private boolean getHomeClassificationsWithHistorySupported = false;
+    private boolean referenceCopyBatchesSupported = true;
 
 
     /**
@@ -133,6 +134,33 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Determine whether a request failed because the remote server does not have the requested REST operation.
+     * This happens when the remote server is back-level.
+     *
+     * @param error exception returned from the client
+     * @return boolean flag
+     */
+    private boolean isUnknownOperation(Throwable error)
+    {
+        Throwable cause = error;
+
+        while (cause != null)
+        {
+            String message = cause.getMessage();
+
+            if ((message != null) && ((message.startsWith("404")) || (message.startsWith("405"))))
+            {
+                return true;
+            }
+
+            cause = cause.getCause();
+        }
+
+        return false;
+    }
+
+
     /**
      * Validate that the metadata collection id from the remote server matches the one expected
      * locally.
@@ -2846,6 +2874,69 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Save a list of entities as reference copies.  The id of the home metadata collection is already set up in
+     * each entity.  This is the batch version of saveEntityReferenceCopy and allows a repository to store many
+     * reference copies in a single request.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entities details of the entities to save.
+     * @throws InvalidParameterException one of the entities is invalid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this entity's type.
+     * @throws HomeEntityException one of the entities belongs to the local repository so creating a reference
+     *                               copy would be invalid.
+     * @throws EntityConflictException one of the new entities conflicts with an existing entity.
+     * @throws InvalidEntityException one of the new entities has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveEntityReferenceCopies(String             userId,
+                                          List<EntityDetail> entities) throws InvalidParameterException,
+                                                                              RepositoryErrorException,
+                                                                              TypeErrorException,
+                                                                              PropertyErrorException,
+                                                                              HomeEntityException,
+                                                                              EntityConflictException,
+                                                                              InvalidEntityException,
+                                                                              FunctionNotSupportedException,
+                                                                              UserNotAuthorizedException
+    {
+        final String methodName  = "saveEntityReferenceCopies";
+
+        validateClient(methodName);
+
+        if (referenceCopyBatchesSupported)
+        {
+            try
+            {
+                omrsClient.saveEntityReferenceCopies(userId, entities);
+                return;
+            }
+            catch (RepositoryErrorException error)
+            {
+                if (! isUnknownOperation(error))
+                {
+                    throw error;
+                }
+
+                referenceCopyBatchesSupported = false;
+            }
+        }
+
+        /*
+         * The remote repository is back-level and does not have the batch operation so the
+         * entities are saved one at a time.
+         */
+        super.saveEntityReferenceCopies(userId, entities);
+    }
+
+
     /**
      * Retrieve any locally homed classifications assigned to the requested entity.  This method is implemented by repository connectors that are able
      * to store classifications for entities that are homed in another repository.
@@ -3131,6 +3222,69 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Save a list of classifications as reference copies.  The id of the home metadata collection is already set up
+     * in each classification.  The entity may be either a locally homed entity or a reference copy.  This is the
+     * batch version of saveClassificationReferenceCopy.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entity entity that the classifications are attached to.
+     * @param classifications classifications to save.
+     *
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityConflictException the new entity conflicts with an existing entity.
+     * @throws InvalidEntityException the new entity has invalid contents.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                characteristics in the TypeDef for this classification type.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     */
+    @Override
+    public void saveClassificationReferenceCopies(String               userId,
+                                                  EntityDetail         entity,
+                                                  List<Classification> classifications) throws InvalidParameterException,
+                                                                                               RepositoryErrorException,
+                                                                                               TypeErrorException,
+                                                                                               EntityConflictException,
+                                                                                               InvalidEntityException,
+                                                                                               PropertyErrorException,
+                                                                                               UserNotAuthorizedException,
+                                                                                               FunctionNotSupportedException
+    {
+        final String methodName  = "saveClassificationReferenceCopies";
+
+        validateClient(methodName);
+
+        if (referenceCopyBatchesSupported)
+        {
+            try
+            {
+                omrsClient.saveClassificationReferenceCopies(userId, entity, classifications);
+                return;
+            }
+            catch (RepositoryErrorException error)
+            {
+                if (! isUnknownOperation(error))
+                {
+                    throw error;
+                }
+
+                referenceCopyBatchesSupported = false;
+            }
+        }
+
+        /*
+         * The remote repository is back-level and does not have the batch operation so the
+         * classifications are saved one at a time.
+         */
+        super.saveClassificationReferenceCopies(userId, entity, classifications);
+    }
+
+
     /**
      * Remove the reference copy of the classification from the local repository. This method can be used to
      * remove reference copies from the local cohort, repositories that have left the cohort,
@@ -3213,6 +3367,72 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Save a list of relationships as reference copies.  The id of the home metadata collection is already set up
+     * in each relationship.  This is the batch version of saveRelationshipReferenceCopy and allows a repository
+     * to store many reference copies in a single request.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationships relationships to save.
+     * @throws InvalidParameterException one of the relationships is invalid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityNotKnownException one of the entities identified by a relationship is not found in the
+     *                                   metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this relationship's type.
+     * @throws HomeRelationshipException one of the relationships belongs to the local repository so creating a
+     *                                     reference copy would be invalid.
+     * @throws RelationshipConflictException one of the new relationships conflicts with an existing relationship.
+     * @throws InvalidRelationshipException one of the new relationships has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveRelationshipReferenceCopies(String             userId,
+                                                List<Relationship> relationships) throws InvalidParameterException,
+                                                                                         RepositoryErrorException,
+                                                                                         TypeErrorException,
+                                                                                         EntityNotKnownException,
+                                                                                         PropertyErrorException,
+                                                                                         HomeRelationshipException,
+                                                                                         RelationshipConflictException,
+                                                                                         InvalidRelationshipException,
+                                                                                         FunctionNotSupportedException,
+                                                                                         UserNotAuthorizedException
+    {
+        final String methodName  = "saveRelationshipReferenceCopies";
+
+        validateClient(methodName);
+
+        if (referenceCopyBatchesSupported)
+        {
+            try
+            {
+                omrsClient.saveRelationshipReferenceCopies(userId, relationships);
+                return;
+            }
+            catch (RepositoryErrorException error)
+            {
+                if (! isUnknownOperation(error))
+                {
+                    throw error;
+                }
+
+                referenceCopyBatchesSupported = false;
+            }
+        }
+
+        /*
+         * The remote repository is back-level and does not have the batch operation so the
+         * relationships are saved one at a time.
+         */
+        super.saveRelationshipReferenceCopies(userId, relationships);
+    }
+
+
     /**
      * Remove the reference copy of the relationship from the local repository. This method can be used to
      * remove reference copies from the local cohort, repositories that have left the cohort,
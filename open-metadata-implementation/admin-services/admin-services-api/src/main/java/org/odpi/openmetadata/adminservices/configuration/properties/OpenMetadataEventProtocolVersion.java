@@ -12,15 +12,16 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 
 /**
- * OpenMetadataEventProtocolVersion provides the identifier for the version number of the event payload.  There is
- * only one version at the moment which is why it looks a little sad.
+ * OpenMetadataEventProtocolVersion provides the identifier for the version number of the event payload.  V1Compact
+ * sends the V1 event payload in a compressed form once all of the members of the cohort are able to receive it.
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonIgnoreProperties(ignoreUnknown=true)
 public enum OpenMetadataEventProtocolVersion implements Serializable
 {
-    V1 (1, "V1", "Version 1");
+    V1         (1, "V1", "Version 1"),
+    V1_COMPACT (2, "V1Compact", "Version 1 in compact form when every cohort member supports it");
 
     private static final long     serialVersionUID = 1L;
 
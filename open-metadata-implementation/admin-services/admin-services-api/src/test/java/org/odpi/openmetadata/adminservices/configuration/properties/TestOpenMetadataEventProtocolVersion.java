@@ -54,6 +54,12 @@ public class TestOpenMetadataEventProtocolVersion
         assertTrue(isUniqueOrdinal(testValue.getOrdinal()));
         assertTrue(testValue.getName() != null);
         assertTrue(testValue.getDescription() != null);
+
+        testValue = OpenMetadataEventProtocolVersion.V1_COMPACT;
+
+        assertTrue(isUniqueOrdinal(testValue.getOrdinal()));
+        assertTrue(testValue.getName() != null);
+        assertTrue(testValue.getDescription() != null);
     }
 
 
@@ -451,6 +451,30 @@ public class OMAGServerConfigurationClient
     }
 
 
+    /**
+     * Add an audit log destination that appends log records to rolling JSON-lines segment files.  The segments are
+     * indexed so the audit log can be queried.
+     *
+     * @param supportedSeverities list of severities that should be logged to this destination (empty list means all)
+     * @throws OMAGNotAuthorizedException the supplied userId is not authorized to issue this command.
+     * @throws OMAGInvalidParameterException invalid parameter.
+     * @throws OMAGConfigurationErrorException unusual state in the admin server.
+     */
+    public void addRollingFileAuditLogDestination(List<String> supportedSeverities) throws OMAGNotAuthorizedException,
+                                                                                           OMAGInvalidParameterException,
+                                                                                           OMAGConfigurationErrorException
+    {
+        final String methodName  = "addRollingFileAuditLogDestination";
+        final String urlTemplate = "/open-metadata/admin-services/users/{0}/servers/{1}/audit-log-destinations/rolling-files";
+
+        restClient.callVoidPostRESTCall(methodName,
+                                        serverPlatformRootURL + urlTemplate,
+                                        supportedSeverities,
+                                        adminUserId,
+                                        serverName);
+    }
+
+
     /**
      * Add an audit log destination that sends each log record as an event on the supplied event topic.
      *
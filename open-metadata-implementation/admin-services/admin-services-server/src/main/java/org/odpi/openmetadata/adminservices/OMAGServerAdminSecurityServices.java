@@ -90,7 +90,7 @@ public class OMAGServerAdminSecurityServices
             exceptionHandler.capturePlatformRuntimeException(methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -123,7 +123,7 @@ public class OMAGServerAdminSecurityServices
             exceptionHandler.capturePlatformRuntimeException(methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -157,7 +157,7 @@ public class OMAGServerAdminSecurityServices
             exceptionHandler.capturePlatformRuntimeException(methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -217,7 +217,7 @@ public class OMAGServerAdminSecurityServices
             exceptionHandler.capturePlatformRuntimeException(methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -257,7 +257,7 @@ public class OMAGServerAdminSecurityServices
             exceptionHandler.capturePlatformRuntimeException(methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -312,7 +312,7 @@ public class OMAGServerAdminSecurityServices
             exceptionHandler.capturePlatformRuntimeException(methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
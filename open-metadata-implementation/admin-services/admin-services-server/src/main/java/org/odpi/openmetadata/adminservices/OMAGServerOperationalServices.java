@@ -18,6 +18,7 @@ import org.odpi.openmetadata.commonservices.ffdc.RESTCallLogger;
 import org.odpi.openmetadata.commonservices.ffdc.RESTCallToken;
 import org.odpi.openmetadata.commonservices.ffdc.exceptions.PropertyServerException;
 import org.odpi.openmetadata.commonservices.ffdc.rest.VoidResponse;
+import org.odpi.openmetadata.commonservices.generichandlers.UniqueNameGUIDCache;
 import org.odpi.openmetadata.commonservices.multitenant.OMAGServerPlatformInstanceMap;
 import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.admin.OCFMetadataOperationalServices;
 import org.odpi.openmetadata.conformance.server.ConformanceSuiteOperationalServices;
@@ -371,6 +372,12 @@ public class OMAGServerOperationalServices
                  */
                 OMRSTopicConnector        enterpriseTopicConnector = operationalRepositoryServices.getEnterpriseOMRSTopicConnector();
 
+                /*
+                 * The access services' handlers share a cache of the guids found for unique names, such as qualifiedName.
+                 * It is kept consistent by the instance events from the enterprise topic.
+                 */
+                UniqueNameGUIDCache.startCache(serverName, enterpriseTopicConnector);
+
                 initializeAccessServices(instance,
                                          configuration.getAccessServicesConfig(),
                                          operationalRepositoryServices,
@@ -570,7 +577,7 @@ public class OMAGServerOperationalServices
             cleanUpRunningServiceInstances(userId, serverName, methodName, instance);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1245,6 +1252,8 @@ public class OMAGServerOperationalServices
                     instance.getOperationalRepositoryServices().disconnect(permanentDeactivation);
                 }
 
+                UniqueNameGUIDCache.stopCache(serverName);
+
                 instanceHandler.removeServerServiceInstance(serverName);
 
                 if (auditLog != null)
@@ -1346,7 +1355,7 @@ public class OMAGServerOperationalServices
             exceptionHandler.capturePlatformRuntimeException(serverName, methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1412,7 +1421,7 @@ public class OMAGServerOperationalServices
             exceptionHandler.capturePlatformRuntimeException(serverName, methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1470,7 +1479,7 @@ public class OMAGServerOperationalServices
             exceptionHandler.capturePlatformRuntimeException(serverName, methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1530,7 +1539,7 @@ public class OMAGServerOperationalServices
             exceptionHandler.capturePlatformRuntimeException(serverName, methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1587,7 +1596,7 @@ public class OMAGServerOperationalServices
             exceptionHandler.capturePlatformRuntimeException(serverName, methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 }
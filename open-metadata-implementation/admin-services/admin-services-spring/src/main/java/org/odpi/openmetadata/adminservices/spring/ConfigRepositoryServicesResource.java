@@ -120,6 +120,26 @@ public class ConfigRepositoryServicesResource
     }
 
 
+    /**
+     * Add an audit log destination that appends log records to rolling JSON-lines segment files.  The segments are
+     * indexed so the audit log can be queried.
+     *
+     * @param userId  user that is issuing the request.
+     * @param serverName  local server name.
+     * @param supportedSeverities list of severities that should be logged to this destination (empty list means all)
+     * @return void response or
+     * OMAGNotAuthorizedException the supplied userId is not authorized to issue this command or
+     * OMAGInvalidParameterException invalid serverName or localRepositoryMode parameter.
+     */
+    @PostMapping(path = "/audit-log-destinations/rolling-files")
+    public VoidResponse addRollingFileAuditLogDestination(@PathVariable String       userId,
+                                                          @PathVariable String       serverName,
+                                                          @RequestBody  List<String> supportedSeverities)
+    {
+        return adminAPI.addRollingFileAuditLogDestination(userId, serverName, supportedSeverities);
+    }
+
+
     /**
      * Add an audit log destination that sends each log record as an event on the supplied event topic.
      *
@@ -3,14 +3,22 @@
 
 package org.odpi.openmetadata.commonservices.ffdc;
 
+import org.odpi.openmetadata.commonservices.ffdc.rest.FFDCResponse;
 import org.slf4j.Logger;
 
+import java.util.function.Supplier;
+
 /**
  * RESTCallLogger provides standard logging for REST API method invocations.  It logs
  * the start and end of the call and manages a timer so the the elapsed time of a call is logged.
+ * The elapsed time, and whether the call returned an exception, are also recorded in the
+ * RESTCallStatisticsRecorder for the method.  The response is only formatted when debug logging is enabled
+ * because the responses can be large.
  */
 public class RESTCallLogger
 {
+    private static final int HTTP_OK = 200;
+
     private  Logger  log;
     private  String  serviceName;
 
@@ -41,12 +49,33 @@ public class RESTCallLogger
     {
         RESTCallToken token = new RESTCallToken(serviceName, serverName, userId, methodName);
 
-        log.debug(token.getRESTCallStartText());
+        token.setCallThreadName();
+
+        if (log.isDebugEnabled())
+        {
+            log.debug(token.getRESTCallStartText());
+        }
 
         return token;
     }
 
 
+    /**
+     * Log the return of an inbound REST Call.  The response is only converted to a string if it is logged.
+     * Responses that carry an HTTP code other than 200 are recorded as errors.
+     *
+     * @param token REST call token
+     * @param response result of call
+     */
+    public void logRESTCallReturn(RESTCallToken  token,
+                                  Object         response)
+    {
+        boolean isError = (response instanceof FFDCResponse) && (((FFDCResponse) response).getRelatedHTTPCode() != HTTP_OK);
+
+        this.logRESTCallReturn(token, () -> String.valueOf(response), isError);
+    }
+
+
     /**
      * Log the return of an inbound REST Call.
      *
@@ -55,14 +84,38 @@ public class RESTCallLogger
      */
     public void logRESTCallReturn(RESTCallToken  token,
                                   String         response)
+    {
+        this.logRESTCallReturn(token, () -> response, false);
+    }
+
+
+    /**
+     * Log the return of an inbound REST Call.  The response text is only requested from the supplier if it is logged.
+     *
+     * @param token REST call token
+     * @param responseText supplier of the text describing the result of the call
+     * @param isError did the call return an exception
+     */
+    public void logRESTCallReturn(RESTCallToken     token,
+                                  Supplier<String>  responseText,
+                                  boolean           isError)
     {
         if (token != null)
         {
-            log.debug(token.getRESTCallReturnText(response));
+            long elapsedTime = token.getElapsedTime();
+
+            RESTCallStatisticsRecorder.getRecorder(token.getServiceName(), token.getMethodName()).recordCall(elapsedTime, isError);
+
+            token.resetThreadName();
+
+            if (log.isDebugEnabled())
+            {
+                log.debug(token.getRESTCallReturnText(responseText.get(), elapsedTime));
+            }
         }
-        else
+        else if (log.isDebugEnabled())
         {
-            log.debug(serviceName + ":" + " returned with response " + response);
+            log.debug(serviceName + ":" + " returned with response " + responseText.get());
         }
     }
 }
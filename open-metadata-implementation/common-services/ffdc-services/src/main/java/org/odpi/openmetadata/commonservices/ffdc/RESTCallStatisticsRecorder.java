@@ -0,0 +1,224 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.commonservices.ffdc;
+
+import org.odpi.openmetadata.commonservices.ffdc.rest.RESTCallStatistics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RESTCallStatisticsRecorder counts the calls and errors of a single REST API method and keeps a histogram of the
+ * elapsed times of its calls.  The histogram has one bucket for each power of two microseconds, so recording a call
+ * is a handful of atomic increments with no locking and no allocation.  There is one recorder for each combination of
+ * service name and method name on the platform.  They are created by the RESTCallLogger when a call returns.
+ */
+public class RESTCallStatisticsRecorder
+{
+    private static final int BUCKET_COUNT = 64;
+
+    private static final Map<String, RESTCallStatisticsRecorder> recorders = new ConcurrentHashMap<>();
+
+    private final String          serviceName;
+    private final String          methodName;
+    private final LongAdder       callCount   = new LongAdder();
+    private final LongAdder       errorCount  = new LongAdder();
+    private final LongAdder       totalTime   = new LongAdder();
+    private final AtomicLong      maximumTime = new AtomicLong(0L);
+    private final AtomicLongArray buckets     = new AtomicLongArray(BUCKET_COUNT);
+
+
+    /**
+     * Create a recorder for a REST API method.
+     *
+     * @param serviceName name of the service
+     * @param methodName name of the method
+     */
+    RESTCallStatisticsRecorder(String serviceName,
+                               String methodName)
+    {
+        this.serviceName = serviceName;
+        this.methodName  = methodName;
+    }
+
+
+    /**
+     * Return the recorder for a REST API method, creating it on its first call.
+     *
+     * @param serviceName name of the service
+     * @param methodName name of the method
+     * @return recorder
+     */
+    static RESTCallStatisticsRecorder getRecorder(String serviceName,
+                                                  String methodName)
+    {
+        String recorderKey = serviceName + ":" + methodName;
+
+        RESTCallStatisticsRecorder recorder = recorders.get(recorderKey);
+
+        if (recorder == null)
+        {
+            recorder = recorders.computeIfAbsent(recorderKey, newKey -> new RESTCallStatisticsRecorder(serviceName, methodName));
+        }
+
+        return recorder;
+    }
+
+
+    /**
+     * Return the statistics of every REST API method that has been called on this platform, ordered by service
+     * name and method name.
+     *
+     * @return list of statistics or null if no calls have been recorded
+     */
+    public static List<RESTCallStatistics> getAllStatistics()
+    {
+        List<RESTCallStatistics> allStatistics = new ArrayList<>();
+
+        for (RESTCallStatisticsRecorder recorder : recorders.values())
+        {
+            allStatistics.add(recorder.getStatistics());
+        }
+
+        if (allStatistics.isEmpty())
+        {
+            return null;
+        }
+
+        allStatistics.sort(Comparator.comparing(RESTCallStatistics::getServiceName, Comparator.nullsFirst(Comparator.naturalOrder()))
+                                     .thenComparing(RESTCallStatistics::getMethodName, Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        return allStatistics;
+    }
+
+
+    /**
+     * Record the return of a call.
+     *
+     * @param elapsedTime elapsed time of the call in microseconds
+     * @param isError did the call return an exception
+     */
+    void recordCall(long    elapsedTime,
+                    boolean isError)
+    {
+        long time = Math.max(0L, elapsedTime);
+
+        callCount.increment();
+        totalTime.add(time);
+        buckets.incrementAndGet(this.getBucket(time));
+
+        if (isError)
+        {
+            errorCount.increment();
+        }
+
+        long currentMaximum = maximumTime.get();
+
+        while ((time > currentMaximum) && (! maximumTime.compareAndSet(currentMaximum, time)))
+        {
+            currentMaximum = maximumTime.get();
+        }
+    }
+
+
+    /**
+     * Return the histogram bucket for an elapsed time.  Bucket n holds the times from 2^n to 2^(n+1)-1
+     * microseconds, except bucket 0, which also holds the times of zero.
+     *
+     * @param elapsedTime elapsed time in microseconds
+     * @return bucket number
+     */
+    private int getBucket(long elapsedTime)
+    {
+        if (elapsedTime <= 1L)
+        {
+            return 0;
+        }
+
+        return BUCKET_COUNT - 1 - Long.numberOfLeadingZeros(elapsedTime);
+    }
+
+
+    /**
+     * Return the current statistics of the REST API method.  The recorder is not locked so the values may include
+     * some of the calls that return while the statistics are being assembled.
+     *
+     * @return statistics
+     */
+    public RESTCallStatistics getStatistics()
+    {
+        RESTCallStatistics statistics = new RESTCallStatistics();
+
+        long[] bucketCounts = new long[BUCKET_COUNT];
+        long   bucketTotal  = 0L;
+
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++)
+        {
+            bucketCounts[bucket] = buckets.get(bucket);
+            bucketTotal = bucketTotal + bucketCounts[bucket];
+        }
+
+        long calls = callCount.sum();
+
+        statistics.setServiceName(serviceName);
+        statistics.setMethodName(methodName);
+        statistics.setCallCount(calls);
+        statistics.setErrorCount(errorCount.sum());
+        statistics.setMaximumTime(maximumTime.get());
+
+        if (calls > 0)
+        {
+            statistics.setAverageTime(totalTime.sum() / calls);
+        }
+
+        statistics.setMedianTime(this.getPercentileTime(bucketCounts, bucketTotal, 50));
+        statistics.setPercentile90Time(this.getPercentileTime(bucketCounts, bucketTotal, 90));
+        statistics.setPercentile99Time(this.getPercentileTime(bucketCounts, bucketTotal, 99));
+
+        return statistics;
+    }
+
+
+    /**
+     * Return the upper bound of the histogram bucket that holds the requested percentile of the calls.  It is
+     * capped at the maximum time recorded.
+     *
+     * @param bucketCounts number of calls in each bucket
+     * @param bucketTotal total number of calls in the buckets
+     * @param percentile percentage of calls
+     * @return elapsed time in microseconds
+     */
+    private long getPercentileTime(long[] bucketCounts,
+                                   long   bucketTotal,
+                                   int    percentile)
+    {
+        if (bucketTotal == 0)
+        {
+            return 0L;
+        }
+
+        long callsWithinPercentile = (bucketTotal * percentile + 99) / 100;
+        long callsSoFar            = 0L;
+
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++)
+        {
+            callsSoFar = callsSoFar + bucketCounts[bucket];
+
+            if (callsSoFar >= callsWithinPercentile)
+            {
+                long bucketUpperBound = (bucket >= BUCKET_COUNT - 2) ? Long.MAX_VALUE : (2L << bucket) - 1;
+
+                return Math.min(bucketUpperBound, maximumTime.get());
+            }
+        }
+
+        return maximumTime.get();
+    }
+}
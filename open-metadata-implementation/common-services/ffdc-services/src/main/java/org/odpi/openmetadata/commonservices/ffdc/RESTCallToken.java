@@ -3,20 +3,19 @@
 
 package org.odpi.openmetadata.commonservices.ffdc;
 
-import org.apache.commons.lang3.time.StopWatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * RESTCallToken provides a cache of information about a single REST API call invocation.
- * It is used for logging and diagnosis.
+ * It is used for logging, diagnosis and the recording of the call statistics.
  */
 public class RESTCallToken
 {
-    static private long nextCallId = 0;
+    static private final AtomicLong nextCallId = new AtomicLong(0);
     static final String PLATFORM_NAME = "<*>";
 
-    static private synchronized long getNextCallId() { return nextCallId++; }
-
-    private StopWatch watch;
+    private long      startTime;
     private long      callId;
     private String    serviceName;
     private String    serverName;
@@ -39,8 +38,8 @@ public class RESTCallToken
         this.methodName  = methodName;
         this.threadName  = Thread.currentThread().getName();
 
-        this.watch = StopWatch.createStarted();
-        this.callId = getNextCallId();
+        this.startTime = System.nanoTime();
+        this.callId = nextCallId.getAndIncrement();
 
         if (serverName == null)
         {
@@ -53,6 +52,57 @@ public class RESTCallToken
     }
 
 
+    /**
+     * Return the name of the service that was called.
+     *
+     * @return service name
+     */
+    String getServiceName()
+    {
+        return serviceName;
+    }
+
+
+    /**
+     * Return the name of the method that was called.
+     *
+     * @return method name
+     */
+    String getMethodName()
+    {
+        return methodName;
+    }
+
+
+    /**
+     * Return the time since the call started.
+     *
+     * @return elapsed time in microseconds
+     */
+    long getElapsedTime()
+    {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime);
+    }
+
+
+    /**
+     * Rename the current thread after the call so that the log messages it produces identify the call.
+     */
+    void setCallThreadName()
+    {
+        Thread.currentThread().setName("REST:" + serviceName + ":" + methodName);
+    }
+
+
+    /**
+     * Restore the original name of the current thread when the call returns.
+     */
+    void resetThreadName()
+    {
+        Thread.currentThread().setName(threadName);
+    }
+
+
     /**
      * Build the start text.
      *
@@ -60,8 +110,6 @@ public class RESTCallToken
      */
     String getRESTCallStartText()
     {
-        Thread.currentThread().setName("REST:" + serviceName + ":" + methodName);
-
         return callId + ":" + serviceName + ":" + serverName + ":" + methodName + " call invoked by " + userId;
     }
 
@@ -70,12 +118,11 @@ public class RESTCallToken
      * Build the return text with the response
      *
      * @param response what is the response to build into the return text
+     * @param elapsedTime elapsed time of the call in microseconds
      * @return string
      */
-    String getRESTCallReturnText(String response)
+    String getRESTCallReturnText(String response, long elapsedTime)
     {
-        Thread.currentThread().setName(threadName);
-
-        return callId + ":" + serviceName + ":" + serverName + ":" + methodName + " call invoked by " + userId + " returned with response " + response + "; Duration: " + watch.getTime()/1000 + "seconds";
+        return callId + ":" + serviceName + ":" + serverName + ":" + methodName + " call invoked by " + userId + " returned with response " + response + "; Duration: " + TimeUnit.MICROSECONDS.toMillis(elapsedTime) + "ms";
     }
 }
@@ -0,0 +1,330 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ffdc.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * RESTCallStatistics provides an object for returning the number of calls, the number of failed calls and the
+ * elapsed times of the calls made to a single REST API method since the OMAG Server Platform started.
+ * All of the times are in microseconds.  The median and percentile times are taken from a histogram so they
+ * are accurate to within a factor of two.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class RESTCallStatistics implements Serializable
+{
+    private static final long     serialVersionUID    = 1L;
+
+    private String serviceName      = null;
+    private String methodName       = null;
+    private long   callCount        = 0L;
+    private long   errorCount       = 0L;
+    private long   averageTime      = 0L;
+    private long   maximumTime      = 0L;
+    private long   medianTime       = 0L;
+    private long   percentile90Time = 0L;
+    private long   percentile99Time = 0L;
+
+
+    /**
+     * Default constructor
+     */
+    public RESTCallStatistics()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public RESTCallStatistics(RESTCallStatistics template)
+    {
+        if (template != null)
+        {
+            this.serviceName      = template.getServiceName();
+            this.methodName       = template.getMethodName();
+            this.callCount        = template.getCallCount();
+            this.errorCount       = template.getErrorCount();
+            this.averageTime      = template.getAverageTime();
+            this.maximumTime      = template.getMaximumTime();
+            this.medianTime       = template.getMedianTime();
+            this.percentile90Time = template.getPercentile90Time();
+            this.percentile99Time = template.getPercentile99Time();
+        }
+    }
+
+
+    /**
+     * Return the name of the service that supports the REST API method.
+     *
+     * @return service name
+     */
+    public String getServiceName()
+    {
+        return serviceName;
+    }
+
+
+    /**
+     * Set up the name of the service that supports the REST API method.
+     *
+     * @param serviceName service name
+     */
+    public void setServiceName(String serviceName)
+    {
+        this.serviceName = serviceName;
+    }
+
+
+    /**
+     * Return the name of the REST API method.
+     *
+     * @return method name
+     */
+    public String getMethodName()
+    {
+        return methodName;
+    }
+
+
+    /**
+     * Set up the name of the REST API method.
+     *
+     * @param methodName method name
+     */
+    public void setMethodName(String methodName)
+    {
+        this.methodName = methodName;
+    }
+
+
+    /**
+     * Return the number of calls that have returned.
+     *
+     * @return count
+     */
+    public long getCallCount()
+    {
+        return callCount;
+    }
+
+
+    /**
+     * Set up the number of calls that have returned.
+     *
+     * @param callCount count
+     */
+    public void setCallCount(long callCount)
+    {
+        this.callCount = callCount;
+    }
+
+
+    /**
+     * Return the number of calls that returned an exception.
+     *
+     * @return count
+     */
+    public long getErrorCount()
+    {
+        return errorCount;
+    }
+
+
+    /**
+     * Set up the number of calls that returned an exception.
+     *
+     * @param errorCount count
+     */
+    public void setErrorCount(long errorCount)
+    {
+        this.errorCount = errorCount;
+    }
+
+
+    /**
+     * Return the average elapsed time of the calls in microseconds.
+     *
+     * @return time
+     */
+    public long getAverageTime()
+    {
+        return averageTime;
+    }
+
+
+    /**
+     * Set up the average elapsed time of the calls in microseconds.
+     *
+     * @param averageTime time
+     */
+    public void setAverageTime(long averageTime)
+    {
+        this.averageTime = averageTime;
+    }
+
+
+    /**
+     * Return the longest elapsed time of the calls in microseconds.
+     *
+     * @return time
+     */
+    public long getMaximumTime()
+    {
+        return maximumTime;
+    }
+
+
+    /**
+     * Set up the longest elapsed time of the calls in microseconds.
+     *
+     * @param maximumTime time
+     */
+    public void setMaximumTime(long maximumTime)
+    {
+        this.maximumTime = maximumTime;
+    }
+
+
+    /**
+     * Return the elapsed time in microseconds that half of the calls completed within.
+     *
+     * @return time
+     */
+    public long getMedianTime()
+    {
+        return medianTime;
+    }
+
+
+    /**
+     * Set up the elapsed time in microseconds that half of the calls completed within.
+     *
+     * @param medianTime time
+     */
+    public void setMedianTime(long medianTime)
+    {
+        this.medianTime = medianTime;
+    }
+
+
+    /**
+     * Return the elapsed time in microseconds that 90% of the calls completed within.
+     *
+     * @return time
+     */
+    public long getPercentile90Time()
+    {
+        return percentile90Time;
+    }
+
+
+    /**
+     * Set up the elapsed time in microseconds that 90% of the calls completed within.
+     *
+     * @param percentile90Time time
+     */
+    public void setPercentile90Time(long percentile90Time)
+    {
+        this.percentile90Time = percentile90Time;
+    }
+
+
+    /**
+     * Return the elapsed time in microseconds that 99% of the calls completed within.
+     *
+     * @return time
+     */
+    public long getPercentile99Time()
+    {
+        return percentile99Time;
+    }
+
+
+    /**
+     * Set up the elapsed time in microseconds that 99% of the calls completed within.
+     *
+     * @param percentile99Time time
+     */
+    public void setPercentile99Time(long percentile99Time)
+    {
+        this.percentile99Time = percentile99Time;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "RESTCallStatistics{" +
+                       "serviceName='" + serviceName + '\'' +
+                       ", methodName='" + methodName + '\'' +
+                       ", callCount=" + callCount +
+                       ", errorCount=" + errorCount +
+                       ", averageTime=" + averageTime +
+                       ", maximumTime=" + maximumTime +
+                       ", medianTime=" + medianTime +
+                       ", percentile90Time=" + percentile90Time +
+                       ", percentile99Time=" + percentile99Time +
+                       '}';
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        RESTCallStatistics that = (RESTCallStatistics) objectToCompare;
+        return getCallCount() == that.getCallCount() &&
+                       getErrorCount() == that.getErrorCount() &&
+                       getAverageTime() == that.getAverageTime() &&
+                       getMaximumTime() == that.getMaximumTime() &&
+                       getMedianTime() == that.getMedianTime() &&
+                       getPercentile90Time() == that.getPercentile90Time() &&
+                       getPercentile99Time() == that.getPercentile99Time() &&
+                       Objects.equals(getServiceName(), that.getServiceName()) &&
+                       Objects.equals(getMethodName(), that.getMethodName());
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getServiceName(), getMethodName(), getCallCount(), getErrorCount(), getAverageTime(),
+                            getMaximumTime(), getMedianTime(), getPercentile90Time(), getPercentile99Time());
+    }
+}
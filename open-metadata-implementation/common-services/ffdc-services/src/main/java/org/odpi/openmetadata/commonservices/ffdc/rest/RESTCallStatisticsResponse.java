@@ -0,0 +1,148 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ffdc.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * RESTCallStatisticsResponse provides a response object for returning the statistics of the REST API calls
+ * made to an OMAG Server Platform.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class RESTCallStatisticsResponse extends FFDCResponseBase
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<RESTCallStatistics> statistics;
+
+
+    /**
+     * Default constructor
+     */
+    public RESTCallStatisticsResponse()
+    {
+    }
+
+
+    /**
+     * Copy clone constructor
+     *
+     * @param template object to copy
+     */
+    public RESTCallStatisticsResponse(RESTCallStatisticsResponse template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.statistics = template.getStatistics();
+        }
+    }
+
+
+    /**
+     * Return the statistics for each REST API method
+     *
+     * @return call statistics
+     */
+    public List<RESTCallStatistics> getStatistics()
+    {
+        if (statistics == null)
+        {
+            return null;
+        }
+        else if (statistics.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return statistics;
+        }
+    }
+
+
+    /**
+     * Set up the statistics for each REST API method
+     *
+     * @param statistics call statistics
+     */
+    public void setStatistics(List<RESTCallStatistics> statistics)
+    {
+        this.statistics = statistics;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "RESTCallStatisticsResponse{" +
+                "statistics=" + statistics +
+                ", exceptionClassName='" + getExceptionClassName() + '\'' +
+                ", exceptionCausedBy='" + getExceptionCausedBy() + '\'' +
+                ", actionDescription='" + getActionDescription() + '\'' +
+                ", relatedHTTPCode=" + getRelatedHTTPCode() +
+                ", exceptionErrorMessage='" + getExceptionErrorMessage() + '\'' +
+                ", exceptionErrorMessageId='" + getExceptionErrorMessageId() + '\'' +
+                ", exceptionErrorMessageParameters=" + Arrays.toString(getExceptionErrorMessageParameters()) +
+                ", exceptionSystemAction='" + getExceptionSystemAction() + '\'' +
+                ", exceptionUserAction='" + getExceptionUserAction() + '\'' +
+                ", exceptionProperties=" + getExceptionProperties() +
+                '}';
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        RESTCallStatisticsResponse that = (RESTCallStatisticsResponse) objectToCompare;
+        return Objects.equals(getStatistics(), that.getStatistics());
+    }
+
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), getStatistics());
+    }
+}
@@ -0,0 +1,112 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ffdc;
+
+import org.odpi.openmetadata.commonservices.ffdc.rest.RESTCallStatistics;
+import org.odpi.openmetadata.commonservices.ffdc.rest.VoidResponse;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the REST call statistics count the calls and errors and estimate the percentiles from the histogram.
+ */
+public class RESTCallStatisticsRecorderTest
+{
+    /**
+     * Validate the statistics built from a known set of elapsed times.
+     */
+    @Test
+    public void testStatistics()
+    {
+        RESTCallStatisticsRecorder recorder = new RESTCallStatisticsRecorder("TestService", "testMethod");
+
+        for (int call = 0; call < 90; call++)
+        {
+            recorder.recordCall(100, false);
+        }
+
+        for (int call = 0; call < 9; call++)
+        {
+            recorder.recordCall(1000, false);
+        }
+
+        recorder.recordCall(50000, true);
+
+        RESTCallStatistics statistics = recorder.getStatistics();
+
+        assertEquals(statistics.getServiceName(), "TestService");
+        assertEquals(statistics.getMethodName(), "testMethod");
+        assertEquals(statistics.getCallCount(), 100);
+        assertEquals(statistics.getErrorCount(), 1);
+        assertEquals(statistics.getAverageTime(), (90 * 100 + 9 * 1000 + 50000) / 100);
+        assertEquals(statistics.getMaximumTime(), 50000);
+
+        /*
+         * The percentiles are the upper bounds of the power of two buckets holding the times.
+         */
+        assertEquals(statistics.getMedianTime(), 127);
+        assertEquals(statistics.getPercentile90Time(), 127);
+        assertEquals(statistics.getPercentile99Time(), 1023);
+    }
+
+
+    /**
+     * Validate that an empty recorder returns zero times.
+     */
+    @Test
+    public void testNoCalls()
+    {
+        RESTCallStatistics statistics = new RESTCallStatisticsRecorder("TestService", "testMethod").getStatistics();
+
+        assertEquals(statistics.getCallCount(), 0);
+        assertEquals(statistics.getAverageTime(), 0);
+        assertEquals(statistics.getMedianTime(), 0);
+        assertEquals(statistics.getPercentile99Time(), 0);
+    }
+
+
+    /**
+     * Validate that the calls logged by the RESTCallLogger are recorded, and that a response with an
+     * exception is counted as an error.
+     */
+    @Test
+    public void testLoggedCalls()
+    {
+        final String serviceName = "RESTCallStatisticsRecorderTest";
+        final String methodName  = "testLoggedCalls";
+
+        RESTCallLogger restCallLogger = new RESTCallLogger(LoggerFactory.getLogger(RESTCallStatisticsRecorderTest.class), serviceName);
+
+        VoidResponse response = new VoidResponse();
+
+        restCallLogger.logRESTCallReturn(restCallLogger.logRESTCall("testServer", "testUser", methodName), response);
+
+        response.setRelatedHTTPCode(400);
+
+        restCallLogger.logRESTCallReturn(restCallLogger.logRESTCall("testServer", "testUser", methodName), response);
+
+        List<RESTCallStatistics> allStatistics = RESTCallStatisticsRecorder.getAllStatistics();
+
+        assertNotNull(allStatistics);
+
+        boolean found = false;
+
+        for (RESTCallStatistics statistics : allStatistics)
+        {
+            if (serviceName.equals(statistics.getServiceName()) && methodName.equals(statistics.getMethodName()))
+            {
+                assertEquals(statistics.getCallCount(), 2);
+                assertEquals(statistics.getErrorCount(), 1);
+                found = true;
+            }
+        }
+
+        assertTrue(found);
+    }
+}
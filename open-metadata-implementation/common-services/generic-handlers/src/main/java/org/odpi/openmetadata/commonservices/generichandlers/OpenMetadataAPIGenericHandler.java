@@ -7181,6 +7181,24 @@ public class OpenMetadataAPIGenericHandler<B>
         invalidParameterHandler.validateUserId(userId, methodName);
         invalidParameterHandler.validateName(name, nameParameterName, methodName);
 
+        UniqueNameGUIDCache uniqueNameCache = UniqueNameGUIDCache.getCache(serverName);
+
+        if (uniqueNameCache != null)
+        {
+            String cachedGUID = this.getCachedBeanGUIDByUniqueName(userId,
+                                                                   uniqueNameCache,
+                                                                   name,
+                                                                   namePropertyName,
+                                                                   resultTypeName,
+                                                                   serviceSupportedZones,
+                                                                   methodName);
+
+            if (cachedGUID != null)
+            {
+                return cachedGUID;
+            }
+        }
+
         List<String> propertyNames = new ArrayList<>();
         propertyNames.add(namePropertyName);
 
@@ -7241,6 +7259,11 @@ public class OpenMetadataAPIGenericHandler<B>
             }
         }
 
+        if ((uniqueNameCache != null) && (duplicateEntities.size() == 1))
+        {
+            uniqueNameCache.putGUID(resultTypeName, namePropertyName, name, duplicateEntities.get(0));
+        }
+
         if (guid == null)
         {
             return null;
@@ -7262,6 +7285,81 @@ public class OpenMetadataAPIGenericHandler<B>
     }
 
 
+    /**
+     * Return the unique identifier of the entity cached for the supplied unique name.  The entity is retrieved to
+     * check that it still has the requested name and is visible to the calling user.  Entries that are no longer valid
+     * are removed from the cache.
+     *
+     * @param userId the calling user
+     * @param uniqueNameCache cache for this server
+     * @param name  value to search
+     * @param namePropertyName open metadata property name to match on
+     * @param resultTypeName unique value of the type that the results should match with
+     * @param serviceSupportedZones list of supported zones for this service
+     * @param methodName calling method
+     *
+     * @return unique identifier or null if the name needs to be searched for
+     */
+    private String getCachedBeanGUIDByUniqueName(String              userId,
+                                                 UniqueNameGUIDCache uniqueNameCache,
+                                                 String              name,
+                                                 String              namePropertyName,
+                                                 String              resultTypeName,
+                                                 List<String>        serviceSupportedZones,
+                                                 String              methodName)
+    {
+        final String entityParameterName = "Entity cached for value " + name;
+
+        String cachedGUID = uniqueNameCache.getGUID(resultTypeName, namePropertyName, name);
+
+        if (cachedGUID == null)
+        {
+            return null;
+        }
+
+        EntityDetail entity;
+
+        try
+        {
+            entity = repositoryHandler.getEntityByGUID(userId, cachedGUID, entityParameterName, resultTypeName, methodName);
+        }
+        catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException notRetrieved)
+        {
+            entity = null;
+        }
+
+        if ((entity == null) ||
+            (entity.getStatus() == InstanceStatus.DELETED) ||
+            (! name.equals(repositoryHelper.getStringProperty(serviceName, namePropertyName, entity.getProperties(), methodName))))
+        {
+            uniqueNameCache.removeGUID(cachedGUID);
+
+            return null;
+        }
+
+        try
+        {
+            validateAnchorEntity(userId,
+                                 cachedGUID,
+                                 resultTypeName,
+                                 entity,
+                                 entityParameterName,
+                                 false,
+                                 serviceSupportedZones,
+                                 methodName);
+
+            return cachedGUID;
+        }
+        catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException invisibleEntity)
+        {
+            /*
+             * The search decides whether a different entity with this name is visible.
+             */
+            return null;
+        }
+    }
+
+
     /**
      * Return the list of beans of the requested type that match the supplied value.
      *
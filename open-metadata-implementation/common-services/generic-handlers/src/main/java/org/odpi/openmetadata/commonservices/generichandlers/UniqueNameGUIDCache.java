@@ -0,0 +1,386 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UniqueNameGUIDCache remembers the unique identifier (guid) of the entity that was found when searching for a unique
+ * name, such as a qualifiedName, so that repeated lookups of the same name do not need to search the repositories.
+ * There is one cache for each server.  It is shared by the handlers of all of the access services running in the server.
+ *
+ * The cache is kept consistent by the UniqueNameGUIDCacheListener, which removes the cached names of any entity that is
+ * created, updated, deleted, purged, restored, re-identified or re-typed.  Since the events are processed asynchronously,
+ * the handlers still check that the entity returned from the cache has the requested name before using it.
+ */
+public class UniqueNameGUIDCache
+{
+    private static final Logger log = LoggerFactory.getLogger(UniqueNameGUIDCache.class);
+
+    public  static final int    DEFAULT_MAX_SIZE = 10000;
+
+    private static final String listenerServiceName = "Unique Name Cache";
+
+    private static final Map<String, UniqueNameGUIDCache> serverCaches = new ConcurrentHashMap<>();
+
+    private final String serverName;
+    private final int    maxSize;
+
+    /*
+     * The unique name values, in least recently used order, mapped to the guids found for each type and property name.
+     * The guids are also mapped to their unique name values so they can be removed when only the guid is known.
+     */
+    private final LinkedHashMap<String, Map<String, String>> guidsByValue;
+    private final Map<String, Set<String>>                   valuesByGUID = new HashMap<>();
+
+    private final AtomicLong hitCount          = new AtomicLong(0);
+    private final AtomicLong missCount         = new AtomicLong(0);
+    private final AtomicLong invalidationCount = new AtomicLong(0);
+
+
+    /**
+     * Create a cache for a server.
+     *
+     * @param serverName name of the server that the cache is for
+     * @param maxSize maximum number of unique name values to cache
+     */
+    public UniqueNameGUIDCache(String serverName,
+                               int    maxSize)
+    {
+        this.serverName   = serverName;
+        this.maxSize      = maxSize;
+        this.guidsByValue = new LinkedHashMap<String, Map<String, String>>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, String>> eldest)
+            {
+                if (size() > UniqueNameGUIDCache.this.maxSize)
+                {
+                    removeValueFromGUIDs(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+
+    /**
+     * Create the cache for a server and register its listener with the enterprise topic connector.  Without the
+     * enterprise topic connector, the cache could not be kept consistent, so no cache is created.
+     *
+     * @param serverName name of the server
+     * @param enterpriseTopicConnector connector supplying the events from the local repository and the cohorts
+     */
+    public static void startCache(String             serverName,
+                                  OMRSTopicConnector enterpriseTopicConnector)
+    {
+        if ((serverName != null) && (enterpriseTopicConnector != null))
+        {
+            UniqueNameGUIDCache cache = new UniqueNameGUIDCache(serverName, DEFAULT_MAX_SIZE);
+
+            enterpriseTopicConnector.registerListener(new UniqueNameGUIDCacheListener(listenerServiceName, cache), listenerServiceName);
+
+            serverCaches.put(serverName, cache);
+        }
+    }
+
+
+    /**
+     * Remove the cache for a server when it shuts down.
+     *
+     * @param serverName name of the server
+     */
+    public static void stopCache(String serverName)
+    {
+        if (serverName != null)
+        {
+            UniqueNameGUIDCache cache = serverCaches.remove(serverName);
+
+            if (cache != null)
+            {
+                log.debug("Unique name cache for server {} stopped: {}", serverName, cache);
+            }
+        }
+    }
+
+
+    /**
+     * Return the cache for a server.
+     *
+     * @param serverName name of the server
+     * @return cache or null if the server has no cache
+     */
+    public static UniqueNameGUIDCache getCache(String serverName)
+    {
+        if (serverName == null)
+        {
+            return null;
+        }
+
+        return serverCaches.get(serverName);
+    }
+
+
+    /**
+     * Return the guid cached for a unique name.
+     *
+     * @param typeName name of the type that was searched for
+     * @param propertyName name of the property that was searched
+     * @param value unique name
+     * @return guid or null if the name is not cached
+     */
+    public String getGUID(String typeName,
+                          String propertyName,
+                          String value)
+    {
+        String guid = null;
+
+        if (value != null)
+        {
+            synchronized (this)
+            {
+                Map<String, String> guids = guidsByValue.get(value);
+
+                if (guids != null)
+                {
+                    guid = guids.get(this.getTypeKey(typeName, propertyName));
+                }
+            }
+        }
+
+        if (guid == null)
+        {
+            missCount.incrementAndGet();
+        }
+        else
+        {
+            hitCount.incrementAndGet();
+        }
+
+        return guid;
+    }
+
+
+    /**
+     * Save the guid found for a unique name.
+     *
+     * @param typeName name of the type that was searched for
+     * @param propertyName name of the property that was searched
+     * @param value unique name
+     * @param guid unique identifier of the entity with this name
+     */
+    public synchronized void putGUID(String typeName,
+                                     String propertyName,
+                                     String value,
+                                     String guid)
+    {
+        if ((value != null) && (guid != null))
+        {
+            guidsByValue.computeIfAbsent(value, newValue -> new HashMap<>()).put(this.getTypeKey(typeName, propertyName), guid);
+            valuesByGUID.computeIfAbsent(guid, newGUID -> new HashSet<>()).add(value);
+        }
+    }
+
+
+    /**
+     * Remove all of the unique names cached for an entity.
+     *
+     * @param guid unique identifier of the entity
+     */
+    public synchronized void removeGUID(String guid)
+    {
+        if (guid != null)
+        {
+            Set<String> values = valuesByGUID.remove(guid);
+
+            if (values != null)
+            {
+                for (String value : values)
+                {
+                    Map<String, String> guids = guidsByValue.get(value);
+
+                    if (guids != null)
+                    {
+                        guids.values().removeIf(guid::equals);
+
+                        if (guids.isEmpty())
+                        {
+                            guidsByValue.remove(value);
+                        }
+                    }
+                }
+
+                invalidationCount.incrementAndGet();
+            }
+        }
+    }
+
+
+    /**
+     * Remove the cached names of an entity that has changed, and any names that it now shares with other cached
+     * entities.  The names that it shares may no longer be unique.
+     *
+     * @param entity changed entity
+     */
+    public synchronized void removeEntity(EntityDetail entity)
+    {
+        if (entity != null)
+        {
+            this.removeGUID(entity.getGUID());
+
+            if ((entity.getProperties() != null) && (entity.getProperties().getInstanceProperties() != null))
+            {
+                for (InstancePropertyValue propertyValue : entity.getProperties().getInstanceProperties().values())
+                {
+                    if (propertyValue instanceof PrimitivePropertyValue)
+                    {
+                        Object primitiveValue = ((PrimitivePropertyValue) propertyValue).getPrimitiveValue();
+
+                        if (primitiveValue instanceof String)
+                        {
+                            this.removeValue((String) primitiveValue);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of lookups that found a guid in the cache.
+     *
+     * @return count
+     */
+    public long getHitCount()
+    {
+        return hitCount.get();
+    }
+
+
+    /**
+     * Return the number of lookups that did not find a guid in the cache.
+     *
+     * @return count
+     */
+    public long getMissCount()
+    {
+        return missCount.get();
+    }
+
+
+    /**
+     * Return the number of times that cached names have been removed because their entity changed.
+     *
+     * @return count
+     */
+    public long getInvalidationCount()
+    {
+        return invalidationCount.get();
+    }
+
+
+    /**
+     * Return the number of unique name values in the cache.
+     *
+     * @return count
+     */
+    public synchronized int getSize()
+    {
+        return guidsByValue.size();
+    }
+
+
+    /**
+     * Remove a unique name value from the cache.
+     *
+     * @param value unique name
+     */
+    private void removeValue(String value)
+    {
+        Map<String, String> guids = guidsByValue.remove(value);
+
+        if (guids != null)
+        {
+            this.removeValueFromGUIDs(value, guids);
+
+            invalidationCount.incrementAndGet();
+        }
+    }
+
+
+    /**
+     * Remove a unique name value from the names recorded for its guids.
+     *
+     * @param value unique name
+     * @param guids guids cached for the value
+     */
+    private void removeValueFromGUIDs(String              value,
+                                      Map<String, String> guids)
+    {
+        for (String guid : guids.values())
+        {
+            Set<String> values = valuesByGUID.get(guid);
+
+            if (values != null)
+            {
+                values.remove(value);
+
+                if (values.isEmpty())
+                {
+                    valuesByGUID.remove(guid);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the key for the type and property that was searched.
+     *
+     * @param typeName name of the type that was searched for
+     * @param propertyName name of the property that was searched
+     * @return key
+     */
+    private String getTypeKey(String typeName,
+                              String propertyName)
+    {
+        return typeName + "." + propertyName;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "UniqueNameGUIDCache{" +
+                "serverName='" + serverName + '\'' +
+                ", maxSize=" + maxSize +
+                ", size=" + getSize() +
+                ", hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", invalidationCount=" + invalidationCount +
+                '}';
+    }
+}
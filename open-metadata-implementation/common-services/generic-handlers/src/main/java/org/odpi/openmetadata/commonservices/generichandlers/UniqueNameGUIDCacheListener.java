@@ -0,0 +1,270 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
+
+/**
+ * UniqueNameGUIDCacheListener receives the instance events from the enterprise topic and removes the entries in the
+ * unique name cache that may no longer be valid because an entity has changed.
+ */
+public class UniqueNameGUIDCacheListener extends OMRSTopicListenerBase
+{
+    private final UniqueNameGUIDCache cache;
+
+
+    /**
+     * Constructor passes the cache to maintain.
+     *
+     * @param serviceName name of the service that the listener is registered for
+     * @param cache unique name cache for the server
+     */
+    UniqueNameGUIDCacheListener(String              serviceName,
+                                UniqueNameGUIDCache cache)
+    {
+        super(serviceName);
+
+        this.cache = cache;
+    }
+
+
+    /**
+     * A new entity has been created.  Its names may duplicate the names of cached entities.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection that sent the event
+     * @param originatorServerName name of the server that the event came from
+     * @param originatorServerType type of server that the event came from
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param entity details of the new entity
+     */
+    @Override
+    public void processNewEntityEvent(String       sourceName,
+                                      String       originatorMetadataCollectionId,
+                                      String       originatorServerName,
+                                      String       originatorServerType,
+                                      String       originatorOrganizationName,
+                                      EntityDetail entity)
+    {
+        cache.removeEntity(entity);
+    }
+
+
+    /**
+     * An existing entity has been updated.  Both its old and its new names are removed.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection that sent the event
+     * @param originatorServerName name of the server that the event came from
+     * @param originatorServerType type of server that the event came from
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param oldEntity original values for the entity
+     * @param newEntity details of the new version of the entity
+     */
+    @Override
+    public void processUpdatedEntityEvent(String       sourceName,
+                                          String       originatorMetadataCollectionId,
+                                          String       originatorServerName,
+                                          String       originatorServerType,
+                                          String       originatorOrganizationName,
+                                          EntityDetail oldEntity,
+                                          EntityDetail newEntity)
+    {
+        cache.removeEntity(oldEntity);
+        cache.removeEntity(newEntity);
+    }
+
+
+    /**
+     * An update to an entity has been undone.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection that sent the event
+     * @param originatorServerName name of the server that the event came from
+     * @param originatorServerType type of server that the event came from
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param entity details of the version of the entity that has been restored
+     */
+    @Override
+    public void processUndoneEntityEvent(String       sourceName,
+                                         String       originatorMetadataCollectionId,
+                                         String       originatorServerName,
+                                         String       originatorServerType,
+                                         String       originatorOrganizationName,
+                                         EntityDetail entity)
+    {
+        cache.removeEntity(entity);
+    }
+
+
+    /**
+     * An existing entity has been deleted.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection that sent the event
+     * @param originatorServerName name of the server that the event came from
+     * @param originatorServerType type of server that the event came from
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param entity deleted entity
+     */
+    @Override
+    public void processDeletedEntityEvent(String       sourceName,
+                                          String       originatorMetadataCollectionId,
+                                          String       originatorServerName,
+                                          String       originatorServerType,
+                                          String       originatorOrganizationName,
+                                          EntityDetail entity)
+    {
+        cache.removeEntity(entity);
+    }
+
+
+    /**
+     * A deleted entity has been permanently removed from the repository.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection that sent the event
+     * @param originatorServerName name of the server that the event came from
+     * @param originatorServerType type of server that the event came from
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param typeDefGUID unique identifier for this entity's TypeDef
+     * @param typeDefName name of this entity's TypeDef
+     * @param instanceGUID unique identifier for the entity
+     */
+    @Override
+    public void processPurgedEntityEvent(String sourceName,
+                                         String originatorMetadataCollectionId,
+                                         String originatorServerName,
+                                         String originatorServerType,
+                                         String originatorOrganizationName,
+                                         String typeDefGUID,
+                                         String typeDefName,
+                                         String instanceGUID)
+    {
+        cache.removeGUID(instanceGUID);
+    }
+
+
+    /**
+     * An existing entity has been deleted and purged in a single action.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection that sent the event
+     * @param originatorServerName name of the server that the event came from
+     * @param originatorServerType type of server that the event came from
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param entity deleted entity
+     */
+    @Override
+    public void processDeletePurgedEntityEvent(String       sourceName,
+                                               String       originatorMetadataCollectionId,
+                                               String       originatorServerName,
+                                               String       originatorServerType,
+                                               String       originatorOrganizationName,
+                                               EntityDetail entity)
+    {
+        cache.removeEntity(entity);
+    }
+
+
+    /**
+     * A deleted entity has been restored.  Its names may duplicate the names of cached entities.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection that sent the event
+     * @param originatorServerName name of the server that the event came from
+     * @param originatorServerType type of server that the event came from
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param entity details of the version of the entity that has been restored
+     */
+    @Override
+    public void processRestoredEntityEvent(String       sourceName,
+                                           String       originatorMetadataCollectionId,
+                                           String       originatorServerName,
+                                           String       originatorServerType,
+                                           String       originatorOrganizationName,
+                                           EntityDetail entity)
+    {
+        cache.removeEntity(entity);
+    }
+
+
+    /**
+     * The guid of an existing entity has been changed to a new value.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection that sent the event
+     * @param originatorServerName name of the server that the event came from
+     * @param originatorServerType type of server that the event came from
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param originalEntityGUID the existing identifier for the entity
+     * @param entity new values for this entity, including the new guid
+     */
+    @Override
+    public void processReIdentifiedEntityEvent(String       sourceName,
+                                               String       originatorMetadataCollectionId,
+                                               String       originatorServerName,
+                                               String       originatorServerType,
+                                               String       originatorOrganizationName,
+                                               String       originalEntityGUID,
+                                               EntityDetail entity)
+    {
+        cache.removeGUID(originalEntityGUID);
+        cache.removeEntity(entity);
+    }
+
+
+    /**
+     * An existing entity has had its type changed.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection that sent the event
+     * @param originatorServerName name of the server that the event came from
+     * @param originatorServerType type of server that the event came from
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param originalTypeDefSummary original details of this entity's TypeDef
+     * @param entity new values for this entity, including the new type information
+     */
+    @Override
+    public void processReTypedEntityEvent(String         sourceName,
+                                          String         originatorMetadataCollectionId,
+                                          String         originatorServerName,
+                                          String         originatorServerType,
+                                          String         originatorOrganizationName,
+                                          TypeDefSummary originalTypeDefSummary,
+                                          EntityDetail   entity)
+    {
+        cache.removeEntity(entity);
+    }
+
+
+    /**
+     * A collection of entities and relationships has been shared with the cohort.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection that sent the event
+     * @param originatorServerName name of the server that the event came from
+     * @param originatorServerType type of server that the event came from
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param instances multiple entities and relationships for sharing
+     */
+    @Override
+    public void processInstanceBatchEvent(String        sourceName,
+                                          String        originatorMetadataCollectionId,
+                                          String        originatorServerName,
+                                          String        originatorServerType,
+                                          String        originatorOrganizationName,
+                                          InstanceGraph instances)
+    {
+        if ((instances != null) && (instances.getEntities() != null))
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                cache.removeEntity(entity);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+
+/**
+ * Verify that the unique name cache returns the cached guids, removes the names of changed entities and
+ * keeps within its maximum size.
+ */
+public class UniqueNameGUIDCacheTest
+{
+    private static final String typeName     = "Referenceable";
+    private static final String propertyName = "qualifiedName";
+
+
+    @Test
+    public void testCachedGUIDs()
+    {
+        UniqueNameGUIDCache cache = new UniqueNameGUIDCache("testServer", 10);
+
+        assertNull(cache.getGUID(typeName, propertyName, "name1"));
+
+        cache.putGUID(typeName, propertyName, "name1", "guid1");
+        cache.putGUID(typeName, propertyName, "name2", "guid2");
+
+        assertEquals(cache.getGUID(typeName, propertyName, "name1"), "guid1");
+        assertEquals(cache.getGUID(typeName, propertyName, "name2"), "guid2");
+        assertNull(cache.getGUID("Asset", propertyName, "name1"));
+
+        assertEquals(cache.getHitCount(), 2);
+        assertEquals(cache.getMissCount(), 2);
+    }
+
+
+    @Test
+    public void testRemoveChangedEntities()
+    {
+        UniqueNameGUIDCache cache = new UniqueNameGUIDCache("testServer", 10);
+
+        cache.putGUID(typeName, propertyName, "name1", "guid1");
+        cache.putGUID(typeName, propertyName, "name2", "guid2");
+        cache.putGUID(typeName, propertyName, "name3", "guid3");
+
+        cache.removeGUID("guid1");
+        assertNull(cache.getGUID(typeName, propertyName, "name1"));
+
+        /*
+         * A new entity that reuses a cached name removes the name.
+         */
+        cache.removeEntity(getEntity("guid4", "name2"));
+        assertNull(cache.getGUID(typeName, propertyName, "name2"));
+
+        assertEquals(cache.getGUID(typeName, propertyName, "name3"), "guid3");
+        assertEquals(cache.getSize(), 1);
+        assertEquals(cache.getInvalidationCount(), 2);
+    }
+
+
+    @Test
+    public void testMaximumSize()
+    {
+        UniqueNameGUIDCache cache = new UniqueNameGUIDCache("testServer", 2);
+
+        cache.putGUID(typeName, propertyName, "name1", "guid1");
+        cache.putGUID(typeName, propertyName, "name2", "guid2");
+        cache.getGUID(typeName, propertyName, "name1");
+        cache.putGUID(typeName, propertyName, "name3", "guid3");
+
+        assertEquals(cache.getSize(), 2);
+        assertEquals(cache.getGUID(typeName, propertyName, "name1"), "guid1");
+        assertNull(cache.getGUID(typeName, propertyName, "name2"));
+        assertEquals(cache.getGUID(typeName, propertyName, "name3"), "guid3");
+    }
+
+
+    /**
+     * Create an entity with a qualified name.
+     *
+     * @param guid unique identifier
+     * @param qualifiedName unique name
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid,
+                                   String qualifiedName)
+    {
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue(qualifiedName);
+
+        InstanceProperties properties = new InstanceProperties();
+
+        properties.setProperty(propertyName, propertyValue);
+
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setProperties(properties);
+
+        return entity;
+    }
+}
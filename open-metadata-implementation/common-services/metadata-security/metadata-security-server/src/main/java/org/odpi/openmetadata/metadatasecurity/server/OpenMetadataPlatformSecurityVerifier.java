@@ -2,7 +2,6 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.metadatasecurity.server;
 
-import org.odpi.openmetadata.frameworks.connectors.Connector;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
@@ -16,8 +15,8 @@ import org.odpi.openmetadata.metadatasecurity.ffdc.OpenMetadataSecurityErrorCode
  */
 public class OpenMetadataPlatformSecurityVerifier
 {
-    private static Connection                            platformSecurityConnection = null;
-    private static OpenMetadataPlatformSecurityConnector platformSecurityConnector  = null;
+    private static          Connection                            platformSecurityConnection = null;
+    private static volatile OpenMetadataPlatformSecurityConnector platformSecurityConnector  = null;
 
     /**
      * Override the default location of the configuration documents.
@@ -47,13 +46,16 @@ public class OpenMetadataPlatformSecurityVerifier
 
         try
         {
-            ConnectorBroker connectorBroker = new ConnectorBroker();
-            Connector       newConnector    = connectorBroker.getConnector(connection);
+            ConnectorBroker                       connectorBroker = new ConnectorBroker();
+            OpenMetadataPlatformSecurityConnector newConnector    = (OpenMetadataPlatformSecurityConnector)connectorBroker.getConnector(connection);
 
-            platformSecurityConnector = (OpenMetadataPlatformSecurityConnector)newConnector;
+            newConnector.setServerPlatformURL(serverPlatformURL);
+            newConnector.start();
 
-            platformSecurityConnector.setServerPlatformURL(serverPlatformURL);
-            platformSecurityConnector.start();
+            /*
+             * The connector is only published once it is started since the validate methods are not synchronized.
+             */
+            platformSecurityConnector = newConnector;
             platformSecurityConnection = connection;
         }
         catch (Throwable error)
@@ -122,11 +124,13 @@ public class OpenMetadataPlatformSecurityVerifier
      *
      * @throws UserNotAuthorizedException the user is not authorized to access this platform
      */
-    public static synchronized void  validateUserForNewServer(String   userId) throws UserNotAuthorizedException
+    public static void  validateUserForNewServer(String   userId) throws UserNotAuthorizedException
     {
-        if (platformSecurityConnector != null)
+        OpenMetadataPlatformSecurityConnector currentConnector = platformSecurityConnector;
+
+        if (currentConnector != null)
         {
-            platformSecurityConnector.validateUserForNewServer(userId);
+            currentConnector.validateUserForNewServer(userId);
         }
     }
 
@@ -138,11 +142,13 @@ public class OpenMetadataPlatformSecurityVerifier
      *
      * @throws UserNotAuthorizedException the user is not authorized to issue operator commands to this platform
      */
-    public static synchronized void  validateUserAsOperatorForPlatform(String   userId) throws UserNotAuthorizedException
+    public static void  validateUserAsOperatorForPlatform(String   userId) throws UserNotAuthorizedException
     {
-        if (platformSecurityConnector != null)
+        OpenMetadataPlatformSecurityConnector currentConnector = platformSecurityConnector;
+
+        if (currentConnector != null)
         {
-            platformSecurityConnector.validateUserAsOperatorForPlatform(userId);
+            currentConnector.validateUserAsOperatorForPlatform(userId);
         }
     }
 
@@ -154,11 +160,13 @@ public class OpenMetadataPlatformSecurityVerifier
      *
      * @throws UserNotAuthorizedException the user is not authorized to issue diagnostic commands to this platform
      */
-    public static synchronized void  validateUserAsInvestigatorForPlatform(String   userId) throws UserNotAuthorizedException
+    public static void  validateUserAsInvestigatorForPlatform(String   userId) throws UserNotAuthorizedException
     {
-        if (platformSecurityConnector != null)
+        OpenMetadataPlatformSecurityConnector currentConnector = platformSecurityConnector;
+
+        if (currentConnector != null)
         {
-            platformSecurityConnector.validateUserAsInvestigatorForPlatform(userId);
+            currentConnector.validateUserAsInvestigatorForPlatform(userId);
         }
     }
 }
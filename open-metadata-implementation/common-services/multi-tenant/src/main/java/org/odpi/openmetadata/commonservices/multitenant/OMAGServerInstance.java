@@ -16,14 +16,17 @@ import java.util.*;
 /**
  * OMAGServerInstance represents an instance of a service in an OMAG Server.
  * It is also responsible for registering itself in the instance map.
+ *
+ * The service instance map is replaced rather than updated when services are registered and unregistered
+ * so that the inbound requests can retrieve their service instance without locking.
  */
 class OMAGServerInstance
 {
-    private String                                 serverName;
-    private List<OMAGServerInstanceHistory>        serverHistory      = new ArrayList<>();
-    private Map<String, OMAGServerServiceInstance> serviceInstanceMap = new HashMap<>();
-    private Date                                   serverStartTime    = new Date();
-    private OpenMetadataServerSecurityVerifier     securityVerifier   = new OpenMetadataServerSecurityVerifier();
+    private          String                                 serverName;
+    private          List<OMAGServerInstanceHistory>        serverHistory      = new ArrayList<>();
+    private volatile Map<String, OMAGServerServiceInstance> serviceInstanceMap = Collections.emptyMap();
+    private volatile Date                                   serverStartTime    = new Date();
+    private final    OpenMetadataServerSecurityVerifier     securityVerifier   = new OpenMetadataServerSecurityVerifier();
 
 
     /**
@@ -158,7 +161,7 @@ class OMAGServerInstance
      *
      * @return connector
      */
-    synchronized OpenMetadataServerSecurityVerifier  getSecurityVerifier()
+    OpenMetadataServerSecurityVerifier  getSecurityVerifier()
     {
         return securityVerifier;
     }
@@ -175,8 +178,11 @@ class OMAGServerInstance
     {
         if (serviceInstance != null)
         {
-            serviceInstanceMap.put(serviceName, serviceInstance);
+            Map<String, OMAGServerServiceInstance> newServiceInstanceMap = new HashMap<>(serviceInstanceMap);
+
             serviceInstance.setSecurityVerifier(securityVerifier);
+            newServiceInstanceMap.put(serviceName, serviceInstance);
+            serviceInstanceMap = Collections.unmodifiableMap(newServiceInstanceMap);
         }
     }
 
@@ -192,10 +198,10 @@ class OMAGServerInstance
      * @throws UserNotAuthorizedException calling user not authorized to call the request
      * @throws PropertyServerException service is not running in this server
      */
-    synchronized OMAGServerServiceInstance getRegisteredService(String    userId,
-                                                                String    serviceName,
-                                                                String    serviceOperationName) throws UserNotAuthorizedException,
-                                                                                                       PropertyServerException
+    OMAGServerServiceInstance getRegisteredService(String    userId,
+                                                   String    serviceName,
+                                                   String    serviceOperationName) throws UserNotAuthorizedException,
+                                                                                          PropertyServerException
     {
         try
         {
@@ -229,7 +235,13 @@ class OMAGServerInstance
      */
     synchronized  void unRegisterService(String   serviceName)
     {
-        serviceInstanceMap.remove(serviceName);
+        if (serviceInstanceMap.containsKey(serviceName))
+        {
+            Map<String, OMAGServerServiceInstance> newServiceInstanceMap = new HashMap<>(serviceInstanceMap);
+
+            newServiceInstanceMap.remove(serviceName);
+            serviceInstanceMap = Collections.unmodifiableMap(newServiceInstanceMap);
+        }
     }
 
 
@@ -244,11 +256,13 @@ class OMAGServerInstance
         this.serverHistory.add(new OMAGServerInstanceHistory(this.serverStartTime, new Date()));
         this.serverStartTime = null;
 
-        if (!serviceInstanceMap.isEmpty())
+        Map<String, OMAGServerServiceInstance> residualServiceInstanceMap = serviceInstanceMap;
+
+        if (!residualServiceInstanceMap.isEmpty())
         {
-            this.serviceInstanceMap = new HashMap<>();
+            this.serviceInstanceMap = Collections.emptyMap();
             throw new PropertyServerException(OMAGServerInstanceErrorCode.SERVICES_NOT_SHUTDOWN.getMessageDefinition(serverName,
-                                                                                                                     serviceInstanceMap.keySet().toString()),
+                                                                                                                     residualServiceInstanceMap.keySet().toString()),
                                               this.getClass().getName(),
                                               methodName);
         }
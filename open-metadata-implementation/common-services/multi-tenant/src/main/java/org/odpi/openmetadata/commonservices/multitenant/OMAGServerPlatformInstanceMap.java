@@ -5,9 +5,11 @@ package org.odpi.openmetadata.commonservices.multitenant;
 import org.odpi.openmetadata.adminservices.configuration.OMAGAccessServiceRegistration;
 import org.odpi.openmetadata.adminservices.configuration.OMAGViewServiceRegistration;
 import org.odpi.openmetadata.adminservices.configuration.registration.*;
+import org.odpi.openmetadata.commonservices.ffdc.RESTCallStatisticsRecorder;
 import org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException;
 import org.odpi.openmetadata.commonservices.ffdc.exceptions.PropertyServerException;
 import org.odpi.openmetadata.commonservices.ffdc.exceptions.UserNotAuthorizedException;
+import org.odpi.openmetadata.commonservices.ffdc.rest.RESTCallStatistics;
 import org.odpi.openmetadata.commonservices.ffdc.rest.RegisteredOMAGService;
 import org.odpi.openmetadata.commonservices.multitenant.ffdc.OMAGServerInstanceErrorCode;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -25,12 +27,69 @@ import java.util.*;
  * service instances for the requested server.  It manages the server name to server instance mapping.
  * The map is maintained in a static so it is scoped to the class loader.
  *
- * Instances of this class call the synchronized static methods to work with the map.
+ * Instances of this class call the static methods to work with the map.  The map is held in an immutable
+ * snapshot so that the inbound requests can look up their server instance without locking.  Starting and
+ * stopping a server are synchronized and replace the snapshot with a new one.
  */
 public class OMAGServerPlatformInstanceMap
 {
-    private static Map<String, OMAGServerInstance> activeServerInstanceMap   = new HashMap<>();
-    private static Map<String, OMAGServerInstance> inActiveServerInstanceMap = new HashMap<>();
+    private static volatile ServerInstanceSnapshot serverInstances = new ServerInstanceSnapshot(new HashMap<>(), new HashMap<>());
+
+
+    /**
+     * ServerInstanceSnapshot holds the active and inactive server instances at a point in time.  It is never changed
+     * once it has been published.
+     */
+    private static class ServerInstanceSnapshot
+    {
+        private final Map<String, OMAGServerInstance> activeServerInstanceMap;
+        private final Map<String, OMAGServerInstance> inActiveServerInstanceMap;
+
+
+        /**
+         * Constructor takes copies of the maps.
+         *
+         * @param activeServerInstanceMap running servers
+         * @param inActiveServerInstanceMap servers that have run since the platform started
+         */
+        ServerInstanceSnapshot(Map<String, OMAGServerInstance> activeServerInstanceMap,
+                               Map<String, OMAGServerInstance> inActiveServerInstanceMap)
+        {
+            this.activeServerInstanceMap   = Collections.unmodifiableMap(new HashMap<>(activeServerInstanceMap));
+            this.inActiveServerInstanceMap = Collections.unmodifiableMap(new HashMap<>(inActiveServerInstanceMap));
+        }
+
+
+        /**
+         * Return the instance of a running server.
+         *
+         * @param serverName name of the server
+         * @return instance or null
+         */
+        OMAGServerInstance getActiveServerInstance(String serverName)
+        {
+            return activeServerInstanceMap.get(serverName);
+        }
+
+
+        /**
+         * Return the instance of a running server, or of a server that has run since the platform started.
+         *
+         * @param serverName name of the server
+         * @return instance or null
+         */
+        OMAGServerInstance getKnownServerInstance(String serverName)
+        {
+            OMAGServerInstance serverInstance = activeServerInstanceMap.get(serverName);
+
+            if (serverInstance == null)
+            {
+                serverInstance = inActiveServerInstanceMap.get(serverName);
+            }
+
+            return serverInstance;
+        }
+    }
 
 
     /**
@@ -389,13 +448,18 @@ public class OMAGServerPlatformInstanceMap
      */
     private static synchronized OMAGServerInstance getActiveServerInstance(String serverName)
     {
+        ServerInstanceSnapshot currentServerInstances = serverInstances;
+
         /*
          * Is this a server that is currently running?
          */
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = currentServerInstances.activeServerInstanceMap.get(serverName);
 
         if (serverInstance == null)
         {
+            Map<String, OMAGServerInstance> activeServerInstanceMap   = new HashMap<>(currentServerInstances.activeServerInstanceMap);
+            Map<String, OMAGServerInstance> inActiveServerInstanceMap = new HashMap<>(currentServerInstances.inActiveServerInstanceMap);
+
             /*
              * Is this a known server that is currently inactive?
              */
@@ -417,6 +481,8 @@ public class OMAGServerPlatformInstanceMap
                 activeServerInstanceMap.put(serverName, serverInstance);
                 inActiveServerInstanceMap.remove(serverName);
             }
+
+            serverInstances = new ServerInstanceSnapshot(activeServerInstanceMap, inActiveServerInstanceMap);
         }
 
         return serverInstance;
@@ -472,12 +538,12 @@ public class OMAGServerPlatformInstanceMap
      * @return boolean
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized boolean isServerInstanceActive(String  userId,
-                                                               String  serverName) throws UserNotAuthorizedException
+    private static boolean isServerInstanceActive(String  userId,
+                                                  String  serverName) throws UserNotAuthorizedException
     {
         validateUserAsInvestigatorForPlatform(userId);
 
-        return (activeServerInstanceMap.get(serverName) != null);
+        return (serverInstances.getActiveServerInstance(serverName) != null);
     }
 
 
@@ -492,13 +558,12 @@ public class OMAGServerPlatformInstanceMap
      * @return boolean
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized boolean isServerInstanceKnown(String  userId,
-                                                              String  serverName) throws UserNotAuthorizedException
+    private static boolean isServerInstanceKnown(String  userId,
+                                                 String  serverName) throws UserNotAuthorizedException
     {
         validateUserAsInvestigatorForPlatform(userId);
 
-        return ((activeServerInstanceMap.get(serverName) != null) ||
-                (inActiveServerInstanceMap.get(serverName) != null));
+        return (serverInstances.getKnownServerInstance(serverName) != null);
     }
 
 
@@ -515,14 +580,14 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      * @throws PropertyServerException the service name is not know - indicating a logic error
      */
-    private static synchronized OMAGServerServiceInstance getInstanceForPlatform(String  userId,
-                                                                                 String  serverName,
-                                                                                 String  serviceName,
-                                                                                 String  serviceOperationName) throws InvalidParameterException,
-                                                                                                                      UserNotAuthorizedException,
-                                                                                                                      PropertyServerException
+    private static OMAGServerServiceInstance getInstanceForPlatform(String  userId,
+                                                                    String  serverName,
+                                                                    String  serviceName,
+                                                                    String  serviceOperationName) throws InvalidParameterException,
+                                                                                                         UserNotAuthorizedException,
+                                                                                                         PropertyServerException
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = serverInstances.getActiveServerInstance(serverName);
 
         if (serverInstance != null)
         {
@@ -560,7 +625,7 @@ public class OMAGServerPlatformInstanceMap
      * @return list of OMAG server names
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String> getActiveServerListForPlatform(String userId) throws UserNotAuthorizedException
+    private static List<String> getActiveServerListForPlatform(String userId) throws UserNotAuthorizedException
     {
         try
         {
@@ -571,7 +636,7 @@ public class OMAGServerPlatformInstanceMap
             throw new UserNotAuthorizedException(error);
         }
 
-        Set<String>  activeServerSet = activeServerInstanceMap.keySet();
+        Set<String>  activeServerSet = serverInstances.activeServerInstanceMap.keySet();
 
         if (activeServerSet.isEmpty())
         {
@@ -591,7 +656,7 @@ public class OMAGServerPlatformInstanceMap
      * @return list of OMAG server names
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String> getKnownServerListForPlatform(String userId) throws UserNotAuthorizedException
+    private static List<String> getKnownServerListForPlatform(String userId) throws UserNotAuthorizedException
     {
         try
         {
@@ -602,8 +667,10 @@ public class OMAGServerPlatformInstanceMap
             throw new UserNotAuthorizedException(error);
         }
 
-        List<String> knownServerList = new ArrayList<>(activeServerInstanceMap.keySet());
-        knownServerList.addAll(inActiveServerInstanceMap.keySet());
+        ServerInstanceSnapshot currentServerInstances = serverInstances;
+
+        List<String> knownServerList = new ArrayList<>(currentServerInstances.activeServerInstanceMap.keySet());
+        knownServerList.addAll(currentServerInstances.inActiveServerInstanceMap.keySet());
 
         if (knownServerList.isEmpty())
         {
@@ -616,6 +683,21 @@ public class OMAGServerPlatformInstanceMap
     }
 
 
+    /**
+     * Return the statistics of the REST API calls made to this OMAG Server Platform.
+     *
+     * @param userId calling user
+     * @return list of statistics for each REST API method that has been called
+     * @throws UserNotAuthorizedException the user is not authorized to issue the request.
+     */
+    private static List<RESTCallStatistics> getRESTCallStatisticsForPlatform(String userId) throws UserNotAuthorizedException
+    {
+        validateUserAsInvestigatorForPlatform(userId);
+
+        return RESTCallStatisticsRecorder.getAllStatistics();
+    }
+
+
     /**
      * Check that the user is allowed to query the active services.
      *
@@ -623,8 +705,8 @@ public class OMAGServerPlatformInstanceMap
      * @param serverInstance instance for the server
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized void validateUserAsServerInvestigator(String              userId,
-                                                                      OMAGServerInstance  serverInstance) throws UserNotAuthorizedException
+    private static void validateUserAsServerInvestigator(String              userId,
+                                                         OMAGServerInstance  serverInstance) throws UserNotAuthorizedException
     {
         if (serverInstance != null)
         {
@@ -652,18 +734,13 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  Date getServerStartTimeFromPlatform(String  userId,
-                                                                     String  serverName) throws InvalidParameterException,
-                                                                                                UserNotAuthorizedException
+    private static Date getServerStartTimeFromPlatform(String  userId,
+                                                       String  serverName) throws InvalidParameterException,
+                                                                                  UserNotAuthorizedException
     {
         final String  methodName = "getServerStartTimeFromPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
-
-        if (serverInstance == null)
-        {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
-        }
+        OMAGServerInstance  serverInstance = serverInstances.getKnownServerInstance(serverName);
 
         if (serverInstance != null)
         {
@@ -689,18 +766,13 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  Date getServerEndTimeFromPlatform(String  userId,
-                                                                   String  serverName) throws InvalidParameterException,
-                                                                                              UserNotAuthorizedException
+    private static Date getServerEndTimeFromPlatform(String  userId,
+                                                     String  serverName) throws InvalidParameterException,
+                                                                                UserNotAuthorizedException
     {
         final String  methodName = "getServerEndTimeFromPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
-
-        if (serverInstance == null)
-        {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
-        }
+        OMAGServerInstance  serverInstance = serverInstances.getKnownServerInstance(serverName);
 
         if (serverInstance != null)
         {
@@ -726,18 +798,13 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  List<OMAGServerInstanceHistory> getServerHistoryFromPlatform(String  userId,
-                                                                                              String  serverName) throws InvalidParameterException,
-                                                                                                                         UserNotAuthorizedException
+    private static List<OMAGServerInstanceHistory> getServerHistoryFromPlatform(String  userId,
+                                                                                String  serverName) throws InvalidParameterException,
+                                                                                                           UserNotAuthorizedException
     {
         final String  methodName = "getServerHistoryFromPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
-
-        if (serverInstance == null)
-        {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
-        }
+        OMAGServerInstance  serverInstance = serverInstances.getKnownServerInstance(serverName);
 
         if (serverInstance != null)
         {
@@ -762,13 +829,14 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the server name is not known
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String>   getActiveServiceListForServerOnPlatform(String userId,
-                                                                                       String serverName) throws InvalidParameterException,
-                                                                                                                 UserNotAuthorizedException
+    private static List<String>   getActiveServiceListForServerOnPlatform(String userId,
+                                                                          String serverName) throws InvalidParameterException,
+                                                                                                    UserNotAuthorizedException
     {
         final String  methodName = "getActiveServiceListForServerOnPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        ServerInstanceSnapshot currentServerInstances = serverInstances;
+        OMAGServerInstance     serverInstance         = currentServerInstances.getActiveServerInstance(serverName);
 
         if (serverInstance != null)
         {
@@ -778,7 +846,7 @@ public class OMAGServerPlatformInstanceMap
         }
         else /* server is not active */
         {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
+            serverInstance = currentServerInstances.inActiveServerInstanceMap.get(serverName);
 
             if (serverInstance != null)
             {
@@ -803,7 +871,7 @@ public class OMAGServerPlatformInstanceMap
     private static synchronized void removeInstanceForPlatform(String   serverName,
                                                                String   serviceName)
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = serverInstances.getActiveServerInstance(serverName);
 
         if (serverInstance != null)
         {
@@ -826,7 +894,8 @@ public class OMAGServerPlatformInstanceMap
                                                        String   methodName) throws InvalidParameterException,
                                                                                    PropertyServerException
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        ServerInstanceSnapshot currentServerInstances = serverInstances;
+        OMAGServerInstance     serverInstance         = currentServerInstances.getActiveServerInstance(serverName);
 
         if (serverInstance == null)
         {
@@ -838,14 +907,15 @@ public class OMAGServerPlatformInstanceMap
             {
                 serverInstance.shutdown(methodName);
             }
-            catch (Throwable t)
-            {
-                throw t;
-            }
             finally
             {
+                Map<String, OMAGServerInstance> activeServerInstanceMap   = new HashMap<>(currentServerInstances.activeServerInstanceMap);
+                Map<String, OMAGServerInstance> inActiveServerInstanceMap = new HashMap<>(currentServerInstances.inActiveServerInstanceMap);
+
                 inActiveServerInstanceMap.put(serverName, serverInstance);
                 activeServerInstanceMap.remove(serverName);
+
+                serverInstances = new ServerInstanceSnapshot(activeServerInstanceMap, inActiveServerInstanceMap);
             }
         }
     }
@@ -860,12 +930,12 @@ public class OMAGServerPlatformInstanceMap
      * @return OpenMetadataServerSecurityVerifier object - never null
      * @throws InvalidParameterException the server name is not known
      */
-    private static synchronized OpenMetadataServerSecurityVerifier getServerSecurityVerifierForPlatform(String    userId,
-                                                                                                        String    serverName) throws InvalidParameterException
+    private static OpenMetadataServerSecurityVerifier getServerSecurityVerifierForPlatform(String    userId,
+                                                                                           String    serverName) throws InvalidParameterException
     {
         final String  methodName = "getServerSecurityVerifierForPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = serverInstances.getActiveServerInstance(serverName);
 
         if (serverInstance != null)
         {
@@ -1130,6 +1200,20 @@ public class OMAGServerPlatformInstanceMap
     }
 
 
+    /**
+     * Return the number of calls, the number of errors and the elapsed times of each REST API method that
+     * has been called on this OMAG Server Platform.
+     *
+     * @param userId calling user
+     * @return list of statistics
+     * @throws UserNotAuthorizedException the user is not authorized to issue the request.
+     */
+    public List<RESTCallStatistics>   getRESTCallStatistics(String userId) throws UserNotAuthorizedException
+    {
+        return OMAGServerPlatformInstanceMap.getRESTCallStatisticsForPlatform(userId);
+    }
+
+
     /**
      * Return the list of services running in an OMAG Server that is running on this OMAG Server Platform.
      *
@@ -0,0 +1,158 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.multitenant;
+
+import org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException;
+import org.odpi.openmetadata.commonservices.ffdc.exceptions.PropertyServerException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * OMAGServerPlatformInstanceMapTest starts and stops servers and registers their services while other threads
+ * look up the server instances.  The lookups must always see a consistent view of the platform.
+ */
+public class OMAGServerPlatformInstanceMapTest
+{
+    private static final String userId           = "testUser";
+    private static final String testServiceName  = "testService";
+    private static final String methodName       = "testLookUp";
+    private static final String stableServerName = "stableTestServer";
+    private static final String serverNamePrefix = "churningTestServer";
+
+    private static final int    writerCount      = 4;
+    private static final int    readerCount      = 8;
+    private static final int    iterationCount   = 200;
+    private static final int    testMaxPageSize  = 100;
+
+
+    /**
+     * TestServiceInstance registers itself with the platform instance map for the named server.
+     */
+    private static class TestServiceInstance extends OMAGServerServiceInstance
+    {
+        TestServiceInstance(String serverName)
+        {
+            super(serverName, testServiceName, testMaxPageSize);
+        }
+    }
+
+
+    /**
+     * A server that stays active is always found while other servers start, register services and stop.
+     * A server that is starting or stopping is either found with its service or reported as unavailable.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testConcurrentRegistrationAndLookUp() throws Exception
+    {
+        OMAGServerPlatformInstanceMap platformInstanceMap = new OMAGServerPlatformInstanceMap();
+
+        platformInstanceMap.startUpServerInstance(userId, stableServerName, null, null);
+        OMAGServerServiceInstance stableServiceInstance = new TestServiceInstance(stableServerName);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(writerCount + readerCount);
+        CountDownLatch  startLatch      = new CountDownLatch(1);
+        List<Future<?>> results         = new ArrayList<>();
+
+        try
+        {
+            for (int writer = 0; writer < writerCount; writer++)
+            {
+                final String serverName = serverNamePrefix + writer;
+
+                results.add(executorService.submit((Callable<Void>) () ->
+                {
+                    startLatch.await();
+
+                    for (int iteration = 0; iteration < iterationCount; iteration++)
+                    {
+                        platformInstanceMap.startUpServerInstance(userId, serverName, null, null);
+                        OMAGServerServiceInstance serviceInstance = new TestServiceInstance(serverName);
+
+                        assertSame(platformInstanceMap.getServiceInstance(userId, serverName, testServiceName, methodName), serviceInstance);
+
+                        serviceInstance.shutdown();
+                        platformInstanceMap.shutdownServerInstance(userId, serverName, methodName);
+                    }
+
+                    return null;
+                }));
+            }
+
+            for (int reader = 0; reader < readerCount; reader++)
+            {
+                final String serverName = serverNamePrefix + (reader % writerCount);
+
+                results.add(executorService.submit((Callable<Void>) () ->
+                {
+                    startLatch.await();
+
+                    for (int iteration = 0; iteration < iterationCount; iteration++)
+                    {
+                        assertSame(platformInstanceMap.getServiceInstance(userId, stableServerName, testServiceName, methodName),
+                                   stableServiceInstance);
+                        assertTrue(platformInstanceMap.isServerActive(userId, stableServerName));
+                        assertTrue(platformInstanceMap.getActiveServerList(userId).contains(stableServerName));
+
+                        try
+                        {
+                            platformInstanceMap.getServiceInstance(userId, serverName, testServiceName, methodName);
+                        }
+                        catch (InvalidParameterException | PropertyServerException notAvailable)
+                        {
+                            /*
+                             * The server is stopped or has not registered its service yet.
+                             */
+                        }
+
+                        platformInstanceMap.isServerActive(userId, serverName);
+                        platformInstanceMap.getKnownServerList(userId);
+                    }
+
+                    return null;
+                }));
+            }
+
+            startLatch.countDown();
+
+            for (Future<?> result : results)
+            {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+
+        for (int writer = 0; writer < writerCount; writer++)
+        {
+            String serverName = serverNamePrefix + writer;
+
+            assertFalse(platformInstanceMap.isServerActive(userId, serverName));
+            assertTrue(platformInstanceMap.isServerKnown(userId, serverName));
+            assertEquals(platformInstanceMap.getServerHistory(userId, serverName).size(), iterationCount);
+        }
+
+        assertEquals(platformInstanceMap.getActiveServiceListForServer(userId, stableServerName).size(), 1);
+
+        stableServiceInstance.shutdown();
+        platformInstanceMap.shutdownServerInstance(userId, stableServerName, methodName);
+
+        assertFalse(platformInstanceMap.isServerActive(userId, stableServerName));
+    }
+}
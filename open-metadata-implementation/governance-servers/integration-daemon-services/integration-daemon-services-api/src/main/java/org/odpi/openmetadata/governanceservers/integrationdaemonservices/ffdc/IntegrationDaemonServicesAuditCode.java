@@ -266,6 +266,18 @@ public enum IntegrationDaemonServicesAuditCode implements AuditLogMessageSet
                            "The thread will stop calling refresh() on the integration connectors hosted in this daemon and stop running.",
                            "Ensure that the thread terminates without errors."),
 
+    DAEMON_REFRESH_BACKLOG("INTEGRATION-DAEMON-SERVICES-0044",
+                           OMRSAuditLogRecordSeverity.INFO,
+                           "The integration daemon {0} has {1} integration connector refreshes waiting for one of its {2} refresh " +
+                                   "threads; the longest has been waiting for {3} milliseconds",
+                           "The integration daemon calls refresh() on its integration connectors using a fixed number of threads.  " +
+                                   "The refreshes that are due while all of these threads are busy wait in a queue.",
+                           "If this message is repeated, the integration connectors are taking longer to refresh than their configured " +
+                                   "refresh intervals allow.  Review the refresh duration of each connector in the integration daemon " +
+                                   "status.  Then either lengthen the refresh intervals of the slow connectors, increase the " +
+                                   "maxRefreshThreads option of the integration services or move some of the connectors to another " +
+                                   "integration daemon."),
+
     SERVER_NOT_AUTHORIZED("INTEGRATION-DAEMON-SERVICES-0050",
                           OMRSAuditLogRecordSeverity.SECURITY,
                           "Integration service {0} is not authorized to call its partner " +
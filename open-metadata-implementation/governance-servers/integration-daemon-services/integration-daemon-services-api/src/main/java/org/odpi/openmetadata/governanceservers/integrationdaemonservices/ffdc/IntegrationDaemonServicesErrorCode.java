@@ -120,6 +120,14 @@ public enum IntegrationDaemonServicesErrorCode implements ExceptionMessageSet
                                  "The integration daemon shuts down, this error is reported to the caller and a similar message is written to the audit log.",
                                   "Update the configuration for the integration service to include a value for the default permitted synchronization."),
 
+    INVALID_MAX_REFRESH_THREADS(400, "INTEGRATION-DAEMON-SERVICES-400-013",
+                                "The maxRefreshThreads option value of {0} for integration service {1} in integration daemon {2} is not " +
+                                        "a positive whole number",
+                                "The integration daemon fails to start because it can not size the pool of threads that refresh its " +
+                                        "integration connectors.",
+                                "Correct the maxRefreshThreads value in the integration service options, or remove it to use the default " +
+                                        "of five refresh threads, and then restart the integration daemon."),
+
 
     /*
      * Invalid use of statistics methods.
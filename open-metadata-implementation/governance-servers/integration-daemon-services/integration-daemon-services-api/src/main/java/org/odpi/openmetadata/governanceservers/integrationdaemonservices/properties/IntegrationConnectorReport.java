@@ -31,6 +31,7 @@ public class IntegrationConnectorReport implements Serializable
     private IntegrationConnectorStatus connectorStatus          = null;
     private Date                       lastStatusChange         = null;
     private Date                       lastRefreshTime          = null;
+    private long                       lastRefreshDuration      = 0L;
     private long                       minSecondsBetweenRefresh = 0L;
     private String                     failingExceptionMessage  = null;
     private Map<String, Object>        statistics               = null;
@@ -55,6 +56,7 @@ public class IntegrationConnectorReport implements Serializable
         {
             connectorName           = template.getConnectorName();
             connectorStatus         = template.getConnectorStatus();
+            lastRefreshDuration     = template.getLastRefreshDuration();
             failingExceptionMessage = template.getFailingExceptionMessage();
             statistics              = template.getStatistics();
         }
@@ -151,6 +153,28 @@ public class IntegrationConnectorReport implements Serializable
     }
 
 
+    /**
+     * Return the number of milliseconds that the last call to refresh took.  Zero means it has never been refreshed.
+     *
+     * @return duration in milliseconds
+     */
+    public long getLastRefreshDuration()
+    {
+        return lastRefreshDuration;
+    }
+
+
+    /**
+     * Set up the number of milliseconds that the last call to refresh took.  Zero means it has never been refreshed.
+     *
+     * @param lastRefreshDuration duration in milliseconds
+     */
+    public void setLastRefreshDuration(long lastRefreshDuration)
+    {
+        this.lastRefreshDuration = lastRefreshDuration;
+    }
+
+
     /**
      * Return the configured minimum time between calls to refresh.  This gives an indication of when the
      * next refresh is due.  Null means refresh is only called in response to an API request.
@@ -234,6 +258,7 @@ public class IntegrationConnectorReport implements Serializable
                 ", connectorStatus=" + connectorStatus +
                 ", lastStatusChange=" + lastStatusChange +
                 ", lastRefreshTime=" + lastRefreshTime +
+                ", lastRefreshDuration=" + lastRefreshDuration +
                 ", minSecondsBetweenRefresh=" + minSecondsBetweenRefresh +
                 ", failingExceptionMessage='" + failingExceptionMessage + '\'' +
                 ", statistics=" + statistics +
@@ -260,6 +285,7 @@ public class IntegrationConnectorReport implements Serializable
         }
         IntegrationConnectorReport that = (IntegrationConnectorReport) objectToCompare;
         return minSecondsBetweenRefresh == that.minSecondsBetweenRefresh &&
+                lastRefreshDuration == that.lastRefreshDuration &&
                 Objects.equals(connectorName, that.connectorName) &&
                 connectorStatus == that.connectorStatus &&
                 Objects.equals(lastStatusChange, that.lastStatusChange) &&
@@ -277,6 +303,6 @@ public class IntegrationConnectorReport implements Serializable
     @Override
     public int hashCode()
     {
-        return Objects.hash(connectorName, connectorStatus, lastStatusChange, lastRefreshTime, minSecondsBetweenRefresh, failingExceptionMessage, statistics);
+        return Objects.hash(connectorName, connectorStatus, lastStatusChange, lastRefreshTime, lastRefreshDuration, minSecondsBetweenRefresh, failingExceptionMessage, statistics);
     }
 }
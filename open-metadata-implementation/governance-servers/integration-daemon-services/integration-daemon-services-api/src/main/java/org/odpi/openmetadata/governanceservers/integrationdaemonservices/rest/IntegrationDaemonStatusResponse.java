@@ -27,6 +27,9 @@ public class IntegrationDaemonStatusResponse extends FFDCResponseBase
     private static final long    serialVersionUID = 1L;
 
     private List<IntegrationServiceSummary> integrationServiceSummaries = null;
+    private int                             refreshThreadCount          = 0;
+    private int                             activeRefreshCount          = 0;
+    private int                             refreshBacklog              = 0;
 
 
     /**
@@ -47,6 +50,9 @@ public class IntegrationDaemonStatusResponse extends FFDCResponseBase
         if (template != null)
         {
             integrationServiceSummaries = template.getIntegrationServiceSummaries();
+            refreshThreadCount          = template.getRefreshThreadCount();
+            activeRefreshCount          = template.getActiveRefreshCount();
+            refreshBacklog              = template.getRefreshBacklog();
         }
     }
 
@@ -82,6 +88,72 @@ public class IntegrationDaemonStatusResponse extends FFDCResponseBase
     }
 
 
+    /**
+     * Return the number of threads that the integration daemon uses to refresh its integration connectors.
+     *
+     * @return count
+     */
+    public int getRefreshThreadCount()
+    {
+        return refreshThreadCount;
+    }
+
+
+    /**
+     * Set up the number of threads that the integration daemon uses to refresh its integration connectors.
+     *
+     * @param refreshThreadCount count
+     */
+    public void setRefreshThreadCount(int refreshThreadCount)
+    {
+        this.refreshThreadCount = refreshThreadCount;
+    }
+
+
+    /**
+     * Return the number of integration connectors that are being refreshed.
+     *
+     * @return count
+     */
+    public int getActiveRefreshCount()
+    {
+        return activeRefreshCount;
+    }
+
+
+    /**
+     * Set up the number of integration connectors that are being refreshed.
+     *
+     * @param activeRefreshCount count
+     */
+    public void setActiveRefreshCount(int activeRefreshCount)
+    {
+        this.activeRefreshCount = activeRefreshCount;
+    }
+
+
+    /**
+     * Return the number of integration connectors whose refresh is waiting for a free refresh thread.
+     *
+     * @return count
+     */
+    public int getRefreshBacklog()
+    {
+        return refreshBacklog;
+    }
+
+
+    /**
+     * Set up the number of integration connectors whose refresh is waiting for a free refresh thread.
+     *
+     * @param refreshBacklog count
+     */
+    public void setRefreshBacklog(int refreshBacklog)
+    {
+        this.refreshBacklog = refreshBacklog;
+    }
+
+
     /**
      * JSON-style toString
      *
@@ -92,6 +164,9 @@ public class IntegrationDaemonStatusResponse extends FFDCResponseBase
     {
         return "IntegrationDaemonStatusResponse{" +
                 "integrationServiceSummaries=" + integrationServiceSummaries +
+                ", refreshThreadCount=" + refreshThreadCount +
+                ", activeRefreshCount=" + activeRefreshCount +
+                ", refreshBacklog=" + refreshBacklog +
                 ", exceptionClassName='" + getExceptionClassName() + '\'' +
                 ", exceptionCausedBy='" + getExceptionCausedBy() + '\'' +
                 ", actionDescription='" + getActionDescription() + '\'' +
@@ -128,7 +203,10 @@ public class IntegrationDaemonStatusResponse extends FFDCResponseBase
             return false;
         }
         IntegrationDaemonStatusResponse that = (IntegrationDaemonStatusResponse) objectToCompare;
-        return Objects.equals(integrationServiceSummaries, that.integrationServiceSummaries);
+        return refreshThreadCount == that.refreshThreadCount &&
+                       activeRefreshCount == that.activeRefreshCount &&
+                       refreshBacklog == that.refreshBacklog &&
+                       Objects.equals(integrationServiceSummaries, that.integrationServiceSummaries);
     }
 
 
@@ -140,6 +218,6 @@ public class IntegrationDaemonStatusResponse extends FFDCResponseBase
     @Override
     public int hashCode()
     {
-        return Objects.hash(super.hashCode(), integrationServiceSummaries);
+        return Objects.hash(super.hashCode(), integrationServiceSummaries, refreshThreadCount, activeRefreshCount, refreshBacklog);
     }
 }
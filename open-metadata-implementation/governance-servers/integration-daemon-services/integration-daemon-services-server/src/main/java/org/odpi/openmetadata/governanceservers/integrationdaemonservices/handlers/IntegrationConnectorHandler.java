@@ -58,6 +58,8 @@ public class IntegrationConnectorHandler implements Serializable
     private String                              failingExceptionMessage             = null;
     private Map<String, Object>                 statistics                          = null;
     private Date                                lastRefreshTime                     = null;
+    private long                                lastRefreshDuration                 = 0L;
+    private volatile long                       lastRefreshEndTime                  = 0L;
 
 
     /**
@@ -164,6 +166,29 @@ public class IntegrationConnectorHandler implements Serializable
     }
 
 
+    /**
+     * Return the number of milliseconds that the last call to refresh took.  Zero means it has never been refreshed.
+     *
+     * @return duration in milliseconds
+     */
+    long getLastRefreshDuration()
+    {
+        return lastRefreshDuration;
+    }
+
+
+    /**
+     * Return the time, in milliseconds, that the last call to refresh completed.  Zero means it has never been refreshed.
+     * This value can be read while a refresh is running.
+     *
+     * @return time in milliseconds
+     */
+    public long getLastRefreshEndTime()
+    {
+        return lastRefreshEndTime;
+    }
+
+
     /**
      * Return the configured minimum time between calls to refresh.  This gives an indication of when the
      * next refresh is due.  Null means refresh is only called in response to an API request.
@@ -318,7 +343,18 @@ public class IntegrationConnectorHandler implements Serializable
             }
             if (integrationConnectorStatus == IntegrationConnectorStatus.RUNNING)
             {
-                integrationConnector.refresh();
+                Date refreshStartTime = new Date();
+
+                try
+                {
+                    integrationConnector.refresh();
+                }
+                finally
+                {
+                    lastRefreshTime = refreshStartTime;
+                    lastRefreshEndTime = System.currentTimeMillis();
+                    lastRefreshDuration = lastRefreshEndTime - refreshStartTime.getTime();
+                }
             }
         }
         catch (Exception error)
@@ -405,6 +441,8 @@ public class IntegrationConnectorHandler implements Serializable
         this.failingExceptionMessage             = null;
         this.statistics                          = null;
         this.lastRefreshTime                     = null;
+        this.lastRefreshDuration                 = 0L;
+        this.lastRefreshEndTime                  = 0L;
     }
 
 
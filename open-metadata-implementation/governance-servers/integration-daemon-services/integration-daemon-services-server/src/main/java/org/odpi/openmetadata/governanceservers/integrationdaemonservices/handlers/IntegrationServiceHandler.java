@@ -138,6 +138,7 @@ public class IntegrationServiceHandler
                     connectorReport.setStatistics(connectorHandler.getStatistics());
                     connectorReport.setLastStatusChange(connectorHandler.getLastStatusChange());
                     connectorReport.setLastRefreshTime(connectorHandler.getLastRefreshTime());
+                    connectorReport.setLastRefreshDuration(connectorHandler.getLastRefreshDuration());
                     connectorReport.setMinSecondsBetweenRefresh(connectorHandler.getMinSecondsBetweenRefresh());
 
                     connectorReports.add(connectorReport);
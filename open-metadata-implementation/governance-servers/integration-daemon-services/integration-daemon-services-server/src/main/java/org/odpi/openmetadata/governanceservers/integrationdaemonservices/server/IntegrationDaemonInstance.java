@@ -98,6 +98,17 @@ public class IntegrationDaemonInstance extends GovernanceServerServiceInstance
     }
 
 
+    /**
+     * Return the thread that refreshes the integration connectors in this integration daemon.
+     *
+     * @return integration daemon thread
+     */
+    IntegrationDaemonThread getIntegrationDaemonThread()
+    {
+        return integrationDaemonThread;
+    }
+
+
     /**
      * Shutdown the integration services
      */
@@ -10,6 +10,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers.IntegrationServiceHandler;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.registration.IntegrationServiceDescription;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.registration.IntegrationServiceRegistry;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads.IntegrationDaemonThread;
 import org.odpi.openmetadata.integrationservices.catalogintegrator.contextmanager.CatalogIntegratorContextManager;
 import org.odpi.openmetadata.integrationservices.database.contextmanager.DatabaseIntegratorContextManager;
 import org.odpi.openmetadata.integrationservices.files.contextmanager.FilesIntegratorContextManager;
@@ -103,4 +104,32 @@ class IntegrationDaemonInstanceHandler extends GovernanceServerServiceInstanceHa
 
         return null;
     }
+
+
+    /**
+     * Retrieve the thread that refreshes the integration connectors in the requested integration daemon.
+     *
+     * @param userId calling user
+     * @param serverName name of the server tied to the request
+     * @param serviceOperationName name of the REST API call (typically the top-level methodName)
+     * @return integration daemon thread
+     * @throws InvalidParameterException no available instance for the requested server
+     * @throws UserNotAuthorizedException user does not have access to the requested server
+     * @throws PropertyServerException the service name is not known - indicating a logic error
+     */
+    IntegrationDaemonThread getIntegrationDaemonThread(String userId,
+                                                       String serverName,
+                                                       String serviceOperationName) throws InvalidParameterException,
+                                                                                           UserNotAuthorizedException,
+                                                                                           PropertyServerException
+    {
+        IntegrationDaemonInstance instance = (IntegrationDaemonInstance)super.getServerServiceInstance(userId, serverName, serviceOperationName);
+
+        if (instance != null)
+        {
+            return instance.getIntegrationDaemonThread();
+        }
+
+        return null;
+    }
 }
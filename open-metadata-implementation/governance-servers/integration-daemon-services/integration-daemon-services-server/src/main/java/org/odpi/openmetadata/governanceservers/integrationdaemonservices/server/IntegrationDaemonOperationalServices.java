@@ -35,6 +35,12 @@ public class IntegrationDaemonOperationalServices
     private AuditLog                       auditLog     = null;
     private IntegrationDaemonInstance      integrationDaemonInstance = null;
 
+    /*
+     * Integration service option that sets the number of threads refreshing the integration connectors.
+     * The largest value across the integration services in the integration daemon is used.
+     */
+    private static final String            MAX_REFRESH_THREADS_OPTION = "maxRefreshThreads";
+
     /**
      * Constructor used at server startup.
      *
@@ -150,7 +156,8 @@ public class IntegrationDaemonOperationalServices
              */
             IntegrationDaemonThread integrationDaemonThread = new IntegrationDaemonThread(localServerName,
                                                                                           daemonConnectorHandlers,
-                                                                                          auditLog);
+                                                                                          auditLog,
+                                                                                          this.getMaxRefreshThreads(configuration));
 
             integrationDaemonThread.start();
 
@@ -196,6 +203,71 @@ public class IntegrationDaemonOperationalServices
     }
 
 
+    /**
+     * Return the number of threads to use to refresh the integration connectors.  This is the largest
+     * maxRefreshThreads option set in the integration services' options, or the default if none of the
+     * integration services sets it.  The value may be a number or a string.
+     *
+     * @param configuration configuration for the integration services
+     * @return maximum number of refresh threads
+     * @throws OMAGConfigurationErrorException the option is not a positive whole number
+     */
+    private int getMaxRefreshThreads(List<IntegrationServiceConfig> configuration) throws OMAGConfigurationErrorException
+    {
+        final String methodName = "getMaxRefreshThreads";
+
+        int maxRefreshThreads = 0;
+
+        for (IntegrationServiceConfig integrationServiceConfig : configuration)
+        {
+            if ((integrationServiceConfig != null) && (integrationServiceConfig.getIntegrationServiceOptions() != null))
+            {
+                Object optionValue = integrationServiceConfig.getIntegrationServiceOptions().get(MAX_REFRESH_THREADS_OPTION);
+
+                if (optionValue != null)
+                {
+                    int serviceMaxRefreshThreads = 0;
+
+                    try
+                    {
+                        if (optionValue instanceof Number)
+                        {
+                            serviceMaxRefreshThreads = ((Number) optionValue).intValue();
+                        }
+                        else if (optionValue instanceof String)
+                        {
+                            serviceMaxRefreshThreads = Integer.parseInt(((String) optionValue).trim());
+                        }
+                    }
+                    catch (NumberFormatException error)
+                    {
+                        serviceMaxRefreshThreads = 0;
+                    }
+
+                    if (serviceMaxRefreshThreads <= 0)
+                    {
+                        throw new OMAGConfigurationErrorException(IntegrationDaemonServicesErrorCode.INVALID_MAX_REFRESH_THREADS.
+                                                                          getMessageDefinition(optionValue.toString(),
+                                                                                               integrationServiceConfig.getIntegrationServiceFullName(),
+                                                                                               localServerName),
+                                                                  this.getClass().getName(),
+                                                                  methodName);
+                    }
+
+                    maxRefreshThreads = Math.max(maxRefreshThreads, serviceMaxRefreshThreads);
+                }
+            }
+        }
+
+        if (maxRefreshThreads == 0)
+        {
+            return IntegrationDaemonThread.DEFAULT_MAX_REFRESH_THREADS;
+        }
+
+        return maxRefreshThreads;
+    }
+
+
     /**
      * Return the open metadata server's root URL from the configuration.
      *
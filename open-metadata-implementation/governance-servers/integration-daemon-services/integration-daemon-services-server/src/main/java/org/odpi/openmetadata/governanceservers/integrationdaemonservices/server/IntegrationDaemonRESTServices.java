@@ -14,6 +14,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers.IntegrationServiceHandler;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.properties.IntegrationServiceSummary;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.rest.IntegrationDaemonStatusResponse;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads.IntegrationDaemonThread;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
@@ -94,7 +95,7 @@ public class IntegrationDaemonRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -153,7 +154,7 @@ public class IntegrationDaemonRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -209,7 +210,7 @@ public class IntegrationDaemonRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -259,6 +260,15 @@ public class IntegrationDaemonRESTServices
             {
                 response.setIntegrationServiceSummaries(integrationServiceSummaries);
             }
+
+            IntegrationDaemonThread integrationDaemonThread = instanceHandler.getIntegrationDaemonThread(userId, serverName, methodName);
+
+            if (integrationDaemonThread != null)
+            {
+                response.setRefreshThreadCount(integrationDaemonThread.getRefreshThreadCount());
+                response.setActiveRefreshCount(integrationDaemonThread.getActiveRefreshCount());
+                response.setRefreshBacklog(integrationDaemonThread.getRefreshBacklog());
+            }
         }
         catch (InvalidParameterException error)
         {
@@ -277,7 +287,7 @@ public class IntegrationDaemonRESTServices
             restExceptionHandler.captureThrowable(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
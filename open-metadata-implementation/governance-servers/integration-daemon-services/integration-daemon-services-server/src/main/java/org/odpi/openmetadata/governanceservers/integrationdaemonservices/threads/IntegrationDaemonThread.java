@@ -4,34 +4,75 @@
 package org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.messagesets.AuditLogMessageDefinition;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.ffdc.IntegrationDaemonServicesAuditCode;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers.IntegrationConnectorHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * IntegrationDaemonThread is the class responsible for managing executing integration connectors
  * within an integration daemon.  It manages the automated refresh of the connectors.
  * The connectors are also being refreshed through the REST API.
+ *
+ * The refresh calls are made on a fixed size pool of threads so that a connector with a long-running refresh
+ * does not delay the refresh of the other connectors.  A connector is not refreshed again until its previous
+ * refresh has completed.  The next refresh is scheduled from the end of the previous one, with a small random
+ * delay added so that connectors with the same refresh interval do not all refresh at the same time.
+ * A refresh requested through the REST API also moves the next refresh of the connector.
  */
 public class IntegrationDaemonThread implements Runnable
 {
     private static final Logger log = LoggerFactory.getLogger(IntegrationDaemonThread.class);
 
+    public  static final int  DEFAULT_MAX_REFRESH_THREADS = 5;
+
+    private static final int  REFRESH_JITTER_PERCENTAGE = 10;
+    private static final long BACKLOG_REPORT_THRESHOLD  = 60000;
+
     private String                            integrationDaemonName;
     private List<IntegrationConnectorHandler> connectorHandlers;
     private AuditLog                          auditLog;
+    private int                               refreshThreadCount;
+
+    /*
+     * The time that each connector is next due to be refreshed.  A connector with no entry is refreshed
+     * straight away.
+     */
+    private final Map<IntegrationConnectorHandler, Long> nextRefreshTimes    = new ConcurrentHashMap<>();
+
+    /*
+     * The end time of the refresh that each connector's next refresh time was calculated from.  A later refresh
+     * end time in the connector handler shows that the connector was refreshed through the REST API.
+     */
+    private final Map<IntegrationConnectorHandler, Long> lastRefreshEndTimes = new ConcurrentHashMap<>();
+
+    /*
+     * The connectors that are waiting for a refresh thread, mapped to the time that their refresh was queued,
+     * and the connectors that are being refreshed, mapped to the time that their refresh started.
+     */
+    private final Map<IntegrationConnectorHandler, Long> queuedRefreshTimes  = new ConcurrentHashMap<>();
+    private final Map<IntegrationConnectorHandler, Long> activeRefreshTimes  = new ConcurrentHashMap<>();
 
+    private long lastBacklogReportTime = 0L;
 
     private final AtomicBoolean running = new AtomicBoolean(false);
 
 
     /**
-     * Constructor provides access to the variables needed to run the connector.
+     * Constructor provides access to the variables needed to run the connector.  The connectors are refreshed
+     * on up to the default number of refresh threads.
      *
      * @param integrationDaemonName name of this integration daemon server
      * @param connectorHandlers wrapper for the connector.
@@ -40,10 +81,28 @@ public class IntegrationDaemonThread implements Runnable
     public IntegrationDaemonThread(String                            integrationDaemonName,
                                    List<IntegrationConnectorHandler> connectorHandlers,
                                    AuditLog                          auditLog)
+    {
+        this(integrationDaemonName, connectorHandlers, auditLog, DEFAULT_MAX_REFRESH_THREADS);
+    }
+
+
+    /**
+     * Constructor provides access to the variables needed to run the connector.
+     *
+     * @param integrationDaemonName name of this integration daemon server
+     * @param connectorHandlers wrapper for the connector.
+     * @param auditLog logging destination
+     * @param maxRefreshThreads maximum number of threads refreshing the connectors at the same time
+     */
+    public IntegrationDaemonThread(String                            integrationDaemonName,
+                                   List<IntegrationConnectorHandler> connectorHandlers,
+                                   AuditLog                          auditLog,
+                                   int                               maxRefreshThreads)
     {
         this.integrationDaemonName = integrationDaemonName;
         this.connectorHandlers     = connectorHandlers;
         this.auditLog              = auditLog;
+        this.refreshThreadCount    = Math.max(1, Math.min(connectorHandlers.size(), maxRefreshThreads));
     }
 
 
@@ -68,6 +127,39 @@ public class IntegrationDaemonThread implements Runnable
     }
 
 
+    /**
+     * Return the number of connector refreshes that are waiting for a refresh thread.
+     *
+     * @return count
+     */
+    public int getRefreshBacklog()
+    {
+        return queuedRefreshTimes.size();
+    }
+
+
+    /**
+     * Return the number of connector refreshes that are running.
+     *
+     * @return count
+     */
+    public int getActiveRefreshCount()
+    {
+        return activeRefreshTimes.size();
+    }
+
+
+    /**
+     * Return the number of threads that refresh the connectors.
+     *
+     * @return count
+     */
+    public int getRefreshThreadCount()
+    {
+        return refreshThreadCount;
+    }
+
+
     /**
      * This is the method that runs in the new thread when it is started.
      */
@@ -81,51 +173,221 @@ public class IntegrationDaemonThread implements Runnable
         auditLog.logMessage(actionDescription,
                             IntegrationDaemonServicesAuditCode.DAEMON_THREAD_STARTING.getMessageDefinition(integrationDaemonName));
 
+        ExecutorService refreshThreads = this.getRefreshThreads();
+
         while (running.get())
         {
-            Date now = new Date();
+            long now = System.currentTimeMillis();
 
             for (IntegrationConnectorHandler connectorHandler : connectorHandlers)
             {
-                if (connectorHandler != null)
+                if ((connectorHandler != null) &&
+                    (! queuedRefreshTimes.containsKey(connectorHandler)) &&
+                    (! activeRefreshTimes.containsKey(connectorHandler)))
                 {
-                    if (connectorHandler.getLastRefreshTime() == null)
+                    Long nextRefreshTime       = nextRefreshTimes.get(connectorHandler);
+                    Long lastRefreshEndTime    = lastRefreshEndTimes.get(connectorHandler);
+                    long handlerRefreshEndTime = connectorHandler.getLastRefreshEndTime();
+
+                    if ((handlerRefreshEndTime > 0L) &&
+                        ((lastRefreshEndTime == null) || (handlerRefreshEndTime > lastRefreshEndTime)))
                     {
-                        auditLog.logMessage(actionDescription,
-                                            IntegrationDaemonServicesAuditCode.DAEMON_CONNECTOR_FIRST_REFRESH.
-                                                    getMessageDefinition(connectorHandler.getIntegrationConnectorName(),
-                                                                         integrationDaemonName));
+                        /*
+                         * The connector has been refreshed through the REST API since its next refresh was scheduled.
+                         */
+                        nextRefreshTime = this.scheduleNextRefresh(connectorHandler, handlerRefreshEndTime);
+                    }
 
-                        connectorHandler.refreshConnector(actionDescription);
+                    if (nextRefreshTime == null)
+                    {
+                        this.queueRefresh(refreshThreads,
+                                          connectorHandler,
+                                          IntegrationDaemonServicesAuditCode.DAEMON_CONNECTOR_FIRST_REFRESH.
+                                                  getMessageDefinition(connectorHandler.getIntegrationConnectorName(),
+                                                                       integrationDaemonName),
+                                          actionDescription,
+                                          now);
                     }
-                    else if (connectorHandler.getMinSecondsBetweenRefresh() > 0)
+                    else if (nextRefreshTime <= now)
                     {
-                        long nextRefreshTime =
-                                connectorHandler.getLastRefreshTime().getTime() +
-                                        (connectorHandler.getMinSecondsBetweenRefresh() * 1000);
-
-                        if (nextRefreshTime < now.getTime())
-                        {
-                            auditLog.logMessage(actionDescription,
-                                                IntegrationDaemonServicesAuditCode.DAEMON_CONNECTOR_REFRESH.
-                                                        getMessageDefinition(connectorHandler.getIntegrationConnectorName(),
-                                                                             integrationDaemonName));
-
-                            connectorHandler.refreshConnector(actionDescription);
-                        }
+                        this.queueRefresh(refreshThreads,
+                                          connectorHandler,
+                                          IntegrationDaemonServicesAuditCode.DAEMON_CONNECTOR_REFRESH.
+                                                  getMessageDefinition(connectorHandler.getIntegrationConnectorName(),
+                                                                       integrationDaemonName),
+                                          actionDescription,
+                                          now);
                     }
                 }
             }
 
+            reportBacklog(actionDescription, now);
+
             waitToRetry();
         }
 
+        refreshThreads.shutdown();
+
         auditLog.logMessage(actionDescription,
                             IntegrationDaemonServicesAuditCode.DAEMON_THREAD_TERMINATING.getMessageDefinition(integrationDaemonName));
 
     }
 
 
+    /**
+     * Create the pool of threads that call refresh on the connectors.
+     *
+     * @return executor service
+     */
+    private ExecutorService getRefreshThreads()
+    {
+        final String        threadName   = "::IntegrationConnectorRefresh-";
+        final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        return new ThreadPoolExecutor(refreshThreadCount,
+                                      refreshThreadCount,
+                                      0L,
+                                      TimeUnit.MILLISECONDS,
+                                      new LinkedBlockingQueue<>(),
+                                      runnable ->
+                                      {
+                                          Thread refreshThread = new Thread(runnable, integrationDaemonName + threadName + threadNumber.getAndIncrement());
+
+                                          refreshThread.setDaemon(true);
+                                          return refreshThread;
+                                      });
+    }
+
+
+    /**
+     * Queue the refresh of a connector on the refresh threads.  When the refresh completes, the next refresh is
+     * scheduled using the connector's refresh interval.
+     *
+     * @param refreshThreads threads that run the refresh
+     * @param connectorHandler connector to refresh
+     * @param messageDefinition message to log when the refresh starts
+     * @param actionDescription external caller's activity
+     * @param now current time
+     */
+    private void queueRefresh(ExecutorService             refreshThreads,
+                              IntegrationConnectorHandler connectorHandler,
+                              AuditLogMessageDefinition   messageDefinition,
+                              String                      actionDescription,
+                              long                        now)
+    {
+        queuedRefreshTimes.put(connectorHandler, now);
+
+        refreshThreads.execute(() ->
+        {
+            long startTime = System.currentTimeMillis();
+
+            activeRefreshTimes.put(connectorHandler, startTime);
+            queuedRefreshTimes.remove(connectorHandler);
+
+            try
+            {
+                auditLog.logMessage(actionDescription, messageDefinition);
+
+                connectorHandler.refreshConnector(actionDescription);
+            }
+            catch (Exception error)
+            {
+                log.error("Unexpected exception from refresh of " + connectorHandler.getIntegrationConnectorName(), error);
+            }
+            finally
+            {
+                long endTime = System.currentTimeMillis();
+
+                log.debug("Refresh of {} waited {} ms and took {} ms",
+                          connectorHandler.getIntegrationConnectorName(), startTime - now, endTime - startTime);
+
+                this.scheduleNextRefresh(connectorHandler, Math.max(endTime, connectorHandler.getLastRefreshEndTime()));
+                activeRefreshTimes.remove(connectorHandler);
+            }
+        });
+    }
+
+
+    /**
+     * Record the time that a connector is next due to be refreshed.
+     *
+     * @param connectorHandler connector that has been refreshed
+     * @param lastRefreshEndTime time that the last refresh completed
+     * @return time of next refresh
+     */
+    private long scheduleNextRefresh(IntegrationConnectorHandler connectorHandler,
+                                     long                        lastRefreshEndTime)
+    {
+        long nextRefreshTime = this.getNextRefreshTime(connectorHandler, lastRefreshEndTime);
+
+        lastRefreshEndTimes.put(connectorHandler, lastRefreshEndTime);
+        nextRefreshTimes.put(connectorHandler, nextRefreshTime);
+
+        return nextRefreshTime;
+    }
+
+
+    /**
+     * Return the time that a connector is next due to be refreshed.  Connectors without a refresh interval
+     * are only refreshed once by the integration daemon thread.
+     *
+     * @param connectorHandler connector that has been refreshed
+     * @param lastRefreshEndTime time that the last refresh completed
+     * @return time of next refresh
+     */
+    long getNextRefreshTime(IntegrationConnectorHandler connectorHandler,
+                                    long                        lastRefreshEndTime)
+    {
+        long refreshInterval = connectorHandler.getMinSecondsBetweenRefresh() * 1000;
+
+        if (refreshInterval <= 0)
+        {
+            return Long.MAX_VALUE;
+        }
+
+        long jitter = ThreadLocalRandom.current().nextLong(refreshInterval * REFRESH_JITTER_PERCENTAGE / 100 + 1);
+
+        return lastRefreshEndTime + refreshInterval + jitter;
+    }
+
+
+    /**
+     * Log a message if the refreshes have been waiting too long for a refresh thread.  This is repeated at most
+     * once in each reporting interval.
+     *
+     * @param actionDescription external caller's activity
+     * @param now current time
+     */
+    private void reportBacklog(String actionDescription,
+                               long   now)
+    {
+        if (now - lastBacklogReportTime < BACKLOG_REPORT_THRESHOLD)
+        {
+            return;
+        }
+
+        long longestWait = 0L;
+        int  backlog     = 0;
+
+        for (Long queuedTime : queuedRefreshTimes.values())
+        {
+            longestWait = Math.max(longestWait, now - queuedTime);
+            backlog++;
+        }
+
+        if (longestWait >= BACKLOG_REPORT_THRESHOLD)
+        {
+            lastBacklogReportTime = now;
+
+            auditLog.logMessage(actionDescription,
+                                IntegrationDaemonServicesAuditCode.DAEMON_REFRESH_BACKLOG.getMessageDefinition(integrationDaemonName,
+                                                                                                               Integer.toString(backlog),
+                                                                                                               Integer.toString(refreshThreadCount),
+                                                                                                               Long.toString(longestWait)));
+        }
+    }
+
+
     /**
      * Wait before retrying ...
      */
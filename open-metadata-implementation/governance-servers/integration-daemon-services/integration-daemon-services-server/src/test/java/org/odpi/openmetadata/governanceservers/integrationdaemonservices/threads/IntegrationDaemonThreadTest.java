@@ -0,0 +1,174 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers.IntegrationConnectorHandler;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test the scheduling of connector refreshes by the integration daemon thread.
+ */
+public class IntegrationDaemonThreadTest
+{
+    private static final String DAEMON_NAME = "TestDaemon";
+
+
+    /**
+     * A connector whose refresh takes longer than its refresh interval is not refreshed again until its
+     * previous refresh has completed.  The other connectors are refreshed at the same time on other threads.
+     *
+     * @throws InterruptedException interrupted while waiting for the refreshes
+     */
+    @Test
+    public void testRefreshesOfAConnectorDoNotOverlap() throws InterruptedException
+    {
+        AtomicInteger activeRefreshes   = new AtomicInteger();
+        AtomicInteger maxActiveRefreshes = new AtomicInteger();
+
+        SlowConnector slowConnector  = new SlowConnector("slow", 1, 1500, activeRefreshes, maxActiveRefreshes);
+        SlowConnector otherConnector = new SlowConnector("other", 1, 1500, activeRefreshes, maxActiveRefreshes);
+
+        IntegrationDaemonThread daemonThread = new IntegrationDaemonThread(DAEMON_NAME,
+                                                                           Arrays.asList(slowConnector.handler, otherConnector.handler),
+                                                                           mock(AuditLog.class),
+                                                                           2);
+        daemonThread.start();
+        Thread.sleep(5000);
+        daemonThread.stop();
+
+        assertEquals(daemonThread.getRefreshThreadCount(), 2);
+        assertEquals(slowConnector.maxOverlap.get(), 1);
+        assertEquals(otherConnector.maxOverlap.get(), 1);
+        assertEquals(maxActiveRefreshes.get(), 2);
+        assertTrue(slowConnector.refreshCount.get() >= 2);
+    }
+
+
+    /**
+     * A refresh through the REST API moves the next refresh made by the integration daemon thread.
+     *
+     * @throws InterruptedException interrupted while waiting for the refreshes
+     */
+    @Test
+    public void testRestRefreshMovesNextRefresh() throws InterruptedException
+    {
+        final long refreshInterval = 2000;
+
+        SlowConnector connector = new SlowConnector("rest", refreshInterval / 1000, 0, new AtomicInteger(), new AtomicInteger());
+
+        IntegrationDaemonThread daemonThread = new IntegrationDaemonThread(DAEMON_NAME,
+                                                                           Arrays.asList(connector.handler),
+                                                                           mock(AuditLog.class));
+        daemonThread.start();
+        Thread.sleep(1500);
+
+        long restRefreshEndTime = System.currentTimeMillis();
+        connector.lastRefreshEndTime.set(restRefreshEndTime);
+
+        Thread.sleep(4000);
+        daemonThread.stop();
+
+        assertEquals(connector.refreshTimes.size(), 2);
+        assertTrue(connector.refreshTimes.get(1) >= restRefreshEndTime + refreshInterval);
+    }
+
+
+    /**
+     * The next refresh is scheduled after the refresh interval plus up to 10% of random jitter.
+     */
+    @Test
+    public void testJitterIsAddedToRefreshInterval()
+    {
+        final long refreshInterval = 100000;
+        final long lastRefreshEndTime = 1000000;
+
+        SlowConnector connector = new SlowConnector("jitter", refreshInterval / 1000, 0, new AtomicInteger(), new AtomicInteger());
+
+        IntegrationDaemonThread daemonThread = new IntegrationDaemonThread(DAEMON_NAME,
+                                                                           Arrays.asList(connector.handler),
+                                                                           mock(AuditLog.class));
+        Set<Long> nextRefreshTimes = new HashSet<>();
+
+        for (int i = 0; i < 100; i++)
+        {
+            long nextRefreshTime = daemonThread.getNextRefreshTime(connector.handler, lastRefreshEndTime);
+
+            assertTrue(nextRefreshTime >= lastRefreshEndTime + refreshInterval);
+            assertTrue(nextRefreshTime <= lastRefreshEndTime + refreshInterval + refreshInterval / 10);
+            nextRefreshTimes.add(nextRefreshTime);
+        }
+
+        assertTrue(nextRefreshTimes.size() > 1);
+    }
+
+
+    /**
+     * A connector without a refresh interval is only refreshed once.
+     */
+    @Test
+    public void testConnectorWithoutRefreshIntervalIsNotRescheduled()
+    {
+        SlowConnector connector = new SlowConnector("once", 0, 0, new AtomicInteger(), new AtomicInteger());
+
+        IntegrationDaemonThread daemonThread = new IntegrationDaemonThread(DAEMON_NAME,
+                                                                           Arrays.asList(connector.handler),
+                                                                           mock(AuditLog.class));
+
+        assertEquals(daemonThread.getNextRefreshTime(connector.handler, 1000000), Long.MAX_VALUE);
+    }
+
+
+    /**
+     * Mock connector handler that records its refreshes.
+     */
+    private static class SlowConnector
+    {
+        final IntegrationConnectorHandler handler      = mock(IntegrationConnectorHandler.class);
+        final AtomicInteger               overlap      = new AtomicInteger();
+        final AtomicInteger               maxOverlap   = new AtomicInteger();
+        final AtomicInteger               refreshCount = new AtomicInteger();
+        final AtomicLong                  lastRefreshEndTime = new AtomicLong();
+        final List<Long>                  refreshTimes = new CopyOnWriteArrayList<>();
+
+        SlowConnector(String        connectorName,
+                      long          minSecondsBetweenRefresh,
+                      long          refreshDuration,
+                      AtomicInteger activeRefreshes,
+                      AtomicInteger maxActiveRefreshes)
+        {
+            when(handler.getIntegrationConnectorName()).thenReturn(connectorName);
+            when(handler.getMinSecondsBetweenRefresh()).thenReturn(minSecondsBetweenRefresh);
+            when(handler.getLastRefreshEndTime()).thenAnswer(invocation -> lastRefreshEndTime.get());
+
+            doAnswer(invocation ->
+            {
+                refreshTimes.add(System.currentTimeMillis());
+                refreshCount.incrementAndGet();
+                maxOverlap.accumulateAndGet(overlap.incrementAndGet(), Math::max);
+                maxActiveRefreshes.accumulateAndGet(activeRefreshes.incrementAndGet(), Math::max);
+
+                Thread.sleep(refreshDuration);
+
+                activeRefreshes.decrementAndGet();
+                overlap.decrementAndGet();
+                return null;
+            }).when(handler).refreshConnector(anyString());
+        }
+    }
+}
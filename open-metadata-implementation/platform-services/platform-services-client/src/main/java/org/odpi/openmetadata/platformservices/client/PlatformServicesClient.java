@@ -5,6 +5,8 @@ package org.odpi.openmetadata.platformservices.client;
 
 
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.odpi.openmetadata.commonservices.ffdc.rest.RESTCallStatistics;
+import org.odpi.openmetadata.commonservices.ffdc.rest.RESTCallStatisticsResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.RegisteredOMAGService;
 import org.odpi.openmetadata.commonservices.ffdc.rest.RegisteredOMAGServicesResponse;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -257,6 +259,34 @@ public class PlatformServicesClient
     }
 
 
+    /**
+     * Retrieve the number of calls, the number of errors and the elapsed times of each REST API method that
+     * has been called on the platform.
+     *
+     * @param userId calling user
+     *
+     * @return List of statistics
+     *
+     * @throws InvalidParameterException  one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user is not authorized to issue this request
+     * @throws PropertyServerException    there is a problem reported in the open metadata server(s)
+     */
+    public List<RESTCallStatistics> getRESTCallStatistics(String   userId) throws InvalidParameterException,
+                                                                                  UserNotAuthorizedException,
+                                                                                  PropertyServerException
+    {
+        final String methodName = "getRESTCallStatistics";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+
+        final String urlTemplate = platformRootURL + retrieveURLTemplatePrefix + "/rest-call-statistics";
+
+        RESTCallStatisticsResponse restResult = restClient.callRESTCallStatisticsGetRESTCall(methodName, urlTemplate, userId);
+
+        return restResult.getStatistics();
+    }
+
+
     /**
      * Retrieve a list of the access services registered on the platform
      *
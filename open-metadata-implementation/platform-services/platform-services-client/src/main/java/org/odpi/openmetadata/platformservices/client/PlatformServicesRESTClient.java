@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.platformservices.client;
 
 
+import org.odpi.openmetadata.commonservices.ffdc.rest.RESTCallStatisticsResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.RegisteredOMAGServicesResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.StringResponse;
 import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.client.OCFRESTClient;
@@ -226,6 +227,32 @@ class PlatformServicesRESTClient extends OCFRESTClient
     }
 
 
+    /**
+     * Issue a GET REST call that returns a RESTCallStatisticsResponse object.
+     *
+     * @param methodName  name of the method being called.
+     * @param urlTemplate template of the URL for the REST API call with place-holders for the parameters.
+     * @param params      a list of parameters that are slotted into the url template.
+     *
+     * @return response object
+     * @throws InvalidParameterException one of the parameters is invalid.
+     * @throws UserNotAuthorizedException the user is not authorized to make this request.
+     * @throws PropertyServerException the repository is not available or not working properly.
+     */
+    RESTCallStatisticsResponse callRESTCallStatisticsGetRESTCall(String    methodName,
+                                                                 String    urlTemplate,
+                                                                 Object... params) throws InvalidParameterException,
+                                                                                          UserNotAuthorizedException,
+                                                                                          PropertyServerException
+    {
+        RESTCallStatisticsResponse restResult = this.callGetRESTCall(methodName, RESTCallStatisticsResponse.class, urlTemplate, params);
+
+        exceptionHandler.detectAndThrowStandardExceptions(methodName, restResult);
+
+        return restResult;
+    }
+
+
 
 
 
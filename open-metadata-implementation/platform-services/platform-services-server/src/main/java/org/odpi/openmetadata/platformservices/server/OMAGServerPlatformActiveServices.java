@@ -6,6 +6,7 @@ package org.odpi.openmetadata.platformservices.server;
 import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
 import org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException;
 import org.odpi.openmetadata.commonservices.ffdc.rest.BooleanResponse;
+import org.odpi.openmetadata.commonservices.ffdc.rest.RESTCallStatisticsResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.RegisteredOMAGServicesResponse;
 import org.odpi.openmetadata.commonservices.multitenant.OMAGServerPlatformInstanceMap;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
@@ -448,4 +449,38 @@ public class OMAGServerPlatformActiveServices
 
         return response;
     }
+
+
+    /**
+     * Return the number of calls, the number of errors and the elapsed times of each REST API method that
+     * has been called on this OMAG Server Platform.
+     *
+     * @param userId calling user
+     * @return list of statistics
+     */
+    public RESTCallStatisticsResponse getRESTCallStatistics(String userId)
+    {
+        final String   methodName = "getRESTCallStatistics";
+
+        log.debug("Calling method: " + methodName);
+
+        RESTCallStatisticsResponse response = new RESTCallStatisticsResponse();
+
+        try
+        {
+            response.setStatistics(serverInstanceMap.getRESTCallStatistics(userId));
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            exceptionHandler.captureUserNotAuthorizedException(response, error);
+        }
+        catch (Throwable error)
+        {
+            exceptionHandler.captureThrowable(response, error, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
 }
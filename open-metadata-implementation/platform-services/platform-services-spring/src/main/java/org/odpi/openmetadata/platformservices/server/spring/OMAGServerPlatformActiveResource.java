@@ -11,6 +11,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.odpi.openmetadata.commonservices.ffdc.rest.BooleanResponse;
+import org.odpi.openmetadata.commonservices.ffdc.rest.RESTCallStatisticsResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.RegisteredOMAGServicesResponse;
 import org.odpi.openmetadata.platformservices.rest.ServerListResponse;
 import org.odpi.openmetadata.platformservices.rest.ServerServicesListResponse;
@@ -341,4 +342,30 @@ public class OMAGServerPlatformActiveResource
     {
         return platformAPI.getActiveServiceListForServer(userId, serverName);
     }
+
+
+    /**
+     * Return the number of calls, the number of errors and the elapsed times of each REST API method that
+     * has been called on this OMAG Server Platform.
+     *
+     * @param userId calling user
+     * @return list of statistics
+     */
+    @GetMapping(path = "/rest-call-statistics")
+    @Operation( summary = "Get REST call statistics",
+            description="Return the number of calls, the number of errors and the elapsed times in microseconds of each REST API " +
+                    "method that has been called on this platform",
+            responses = {
+                    @ApiResponse(responseCode = "200",description="list of statistics",
+                            content = @Content(
+                                    mediaType ="application/json",
+                                    schema = @Schema(implementation=RESTCallStatisticsResponse.class)
+                            )
+
+                    )
+            })
+    public RESTCallStatisticsResponse getRESTCallStatistics(@Parameter(description="calling user") @PathVariable String userId)
+    {
+        return platformAPI.getRESTCallStatistics(userId);
+    }
 }
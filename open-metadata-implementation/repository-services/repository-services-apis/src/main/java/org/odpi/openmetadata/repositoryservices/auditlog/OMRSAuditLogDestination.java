@@ -25,7 +25,7 @@ import java.util.List;
 public class OMRSAuditLogDestination extends AuditLogDestination
 {
     private final OMRSAuditLogRecordOriginator omrsOriginator = new OMRSAuditLogRecordOriginator();
-    private       List<OMRSAuditLogStore>      auditLogStores = null;
+    private       List<OMRSAuditLogStoreDispatcher> auditLogStores = null;
 
     private static final Logger log = LoggerFactory.getLogger(OMRSAuditLogDestination.class);
 
@@ -66,7 +66,15 @@ public class OMRSAuditLogDestination extends AuditLogDestination
 
         if (auditLogStores != null)
         {
-            this.auditLogStores = new ArrayList<>(auditLogStores);
+            this.auditLogStores = new ArrayList<>();
+
+            for (OMRSAuditLogStore auditLogStore : auditLogStores)
+            {
+                if (auditLogStore != null)
+                {
+                    this.auditLogStores.add(new OMRSAuditLogStoreDispatcher(auditLogStore));
+                }
+            }
         }
     }
 
@@ -116,19 +124,25 @@ public class OMRSAuditLogDestination extends AuditLogDestination
     {
         if (auditLogStores != null)
         {
-            for (OMRSAuditLogStore auditLogStore : auditLogStores)
+            for (OMRSAuditLogStoreDispatcher auditLogStore : auditLogStores)
             {
-                if (auditLogStore != null)
-                {
-                    try
-                    {
-                        auditLogStore.storeLogRecord(new OMRSAuditLogRecord(logRecord));
-                    }
-                    catch (Throwable error)
-                    {
-                        log.error("Error: " + error + " writing audit log: " + logRecord + " to destination " + auditLogStore.getClass().getName());
-                    }
-                }
+                auditLogStore.addLogRecord(new OMRSAuditLogRecord(logRecord));
+            }
+        }
+    }
+
+
+    /**
+     * Write out any queued log records and stop the threads writing to the audit log stores.  This is called
+     * when the server is shutting down.  Log records added after this are written directly to the stores.
+     */
+    public void disconnect()
+    {
+        if (auditLogStores != null)
+        {
+            for (OMRSAuditLogStoreDispatcher auditLogStore : auditLogStores)
+            {
+                auditLogStore.shutdown();
             }
         }
     }
@@ -149,18 +163,16 @@ public class OMRSAuditLogDestination extends AuditLogDestination
 
             List<OMRSAuditLogStoreReport>  storeReportList = new ArrayList<>();
 
-            for (OMRSAuditLogStore auditLogStore : auditLogStores)
+            for (OMRSAuditLogStoreDispatcher auditLogStoreDispatcher : auditLogStores)
             {
-                if (auditLogStore != null)
-                {
-                    OMRSAuditLogStoreReport auditLogStoreReport = new OMRSAuditLogStoreReport();
+                OMRSAuditLogStore       auditLogStore       = auditLogStoreDispatcher.getAuditLogStore();
+                OMRSAuditLogStoreReport auditLogStoreReport = new OMRSAuditLogStoreReport();
 
-                    auditLogStoreReport.setDestinationName(auditLogStore.getDestinationName());
-                    auditLogStoreReport.setSupportedSeverities((auditLogStore.getSupportedSeverities()));
-                    auditLogStoreReport.setImplementationClass(auditLogStore.getClass().getName());
+                auditLogStoreReport.setDestinationName(auditLogStore.getDestinationName());
+                auditLogStoreReport.setSupportedSeverities((auditLogStore.getSupportedSeverities()));
+                auditLogStoreReport.setImplementationClass(auditLogStore.getClass().getName());
 
-                    storeReportList.add(auditLogStoreReport);
-                }
+                storeReportList.add(auditLogStoreReport);
             }
 
             if (! storeReportList.isEmpty())
@@ -0,0 +1,217 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OMRSAuditLogStoreDispatcher passes log records to one of the audit log stores.  If the store has a record
+ * queue, the log records are added to the queue and written to the store in batches by a separate thread.
+ * This means a slow store does not hold up the thread that is logging.  When the queue is full, log records
+ * with one of the store's droppable severities are discarded and the others wait for space.
+ * If the store has no record queue, the log records are written on the thread that logs them.
+ */
+class OMRSAuditLogStoreDispatcher implements Runnable
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSAuditLogStoreDispatcher.class);
+
+    private static final int  maxBatchSize     = 500;
+    private static final long pollTimeout      = 1000;
+    private static final long shutdownTimeout  = 30000;
+
+    private final OMRSAuditLogStore                 auditLogStore;
+    private final BlockingQueue<OMRSAuditLogRecord> logRecords;
+    private final Set<String>                       droppableSeverities = new HashSet<>();
+    private final AtomicLong                        droppedRecordCount  = new AtomicLong(0);
+    private       Thread                            writerThread        = null;
+    private volatile boolean                        keepRunning         = true;
+
+
+    /**
+     * Set up the record queue for the audit log store and start the thread that writes to it.
+     *
+     * @param auditLogStore audit log store
+     */
+    OMRSAuditLogStoreDispatcher(OMRSAuditLogStore auditLogStore)
+    {
+        this.auditLogStore = auditLogStore;
+
+        int recordQueueSize = auditLogStore.getRecordQueueSize();
+
+        if (recordQueueSize > 0)
+        {
+            this.logRecords = new ArrayBlockingQueue<>(recordQueueSize);
+
+            if (auditLogStore.getDroppableSeverities() != null)
+            {
+                this.droppableSeverities.addAll(auditLogStore.getDroppableSeverities());
+            }
+
+            writerThread = new Thread(this, auditLogStore.getDestinationName() + " audit log writer");
+            writerThread.setDaemon(true);
+            writerThread.start();
+        }
+        else
+        {
+            this.logRecords = null;
+        }
+    }
+
+
+    /**
+     * Return the audit log store that this dispatcher writes to.
+     *
+     * @return audit log store
+     */
+    OMRSAuditLogStore getAuditLogStore()
+    {
+        return auditLogStore;
+    }
+
+
+    /**
+     * Return the number of log records that have been discarded because the record queue was full.
+     *
+     * @return count
+     */
+    long getDroppedRecordCount()
+    {
+        return droppedRecordCount.get();
+    }
+
+
+    /**
+     * Pass a log record to the audit log store.
+     *
+     * @param logRecord log record
+     */
+    void addLogRecord(OMRSAuditLogRecord logRecord)
+    {
+        if ((logRecords == null) || (! keepRunning))
+        {
+            this.storeLogRecords(Collections.singletonList(logRecord));
+        }
+        else if (droppableSeverities.contains(logRecord.getSeverity()))
+        {
+            if (! logRecords.offer(logRecord))
+            {
+                long droppedRecords = droppedRecordCount.incrementAndGet();
+
+                if ((droppedRecords == 1) || (droppedRecords % 1000 == 0))
+                {
+                    log.warn("Audit log destination " + auditLogStore.getDestinationName() + " has discarded " + droppedRecords +
+                                     " log records because its record queue is full");
+                }
+            }
+        }
+        else
+        {
+            try
+            {
+                logRecords.put(logRecord);
+            }
+            catch (InterruptedException wakeUp)
+            {
+                Thread.currentThread().interrupt();
+                this.storeLogRecords(Collections.singletonList(logRecord));
+            }
+        }
+    }
+
+
+    /**
+     * Write the queued log records to the audit log store in batches until the dispatcher is shut down
+     * and the queue is empty.
+     */
+    @Override
+    public void run()
+    {
+        List<OMRSAuditLogRecord> batch = new ArrayList<>(maxBatchSize);
+
+        while (keepRunning || (! logRecords.isEmpty()))
+        {
+            try
+            {
+                OMRSAuditLogRecord logRecord = logRecords.poll(pollTimeout, TimeUnit.MILLISECONDS);
+
+                if (logRecord != null)
+                {
+                    batch.add(logRecord);
+                    logRecords.drainTo(batch, maxBatchSize - 1);
+
+                    this.storeLogRecords(batch);
+                    batch.clear();
+                }
+            }
+            catch (InterruptedException wakeUp)
+            {
+                log.debug("Audit log writer woken up");
+            }
+        }
+    }
+
+
+    /**
+     * Write a batch of log records to the audit log store.
+     *
+     * @param batch log records
+     */
+    private void storeLogRecords(List<OMRSAuditLogRecord> batch)
+    {
+        try
+        {
+            auditLogStore.storeLogRecords(batch);
+        }
+        catch (Throwable error)
+        {
+            log.error("Error: " + error + " writing " + batch.size() + " audit log records to destination " + auditLogStore.getClass().getName());
+        }
+    }
+
+
+    /**
+     * Write out the log records that are still queued and stop the writer thread.  Any log records added
+     * after this are written on the thread that logs them.
+     */
+    void shutdown()
+    {
+        keepRunning = false;
+
+        if (writerThread != null)
+        {
+            try
+            {
+                writerThread.join(shutdownTimeout);
+            }
+            catch (InterruptedException wakeUp)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            /*
+             * Catch any log records added as the writer thread was stopping.
+             */
+            List<OMRSAuditLogRecord> remainingRecords = new ArrayList<>();
+
+            logRecords.drainTo(remainingRecords);
+
+            if (! remainingRecords.isEmpty())
+            {
+                this.storeLogRecords(remainingRecords);
+            }
+        }
+    }
+}
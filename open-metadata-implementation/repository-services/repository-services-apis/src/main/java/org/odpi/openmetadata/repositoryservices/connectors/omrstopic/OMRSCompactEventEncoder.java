@@ -0,0 +1,244 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * OMRSCompactEventEncoder converts the JSON form of an OMRS event into the compact form used by the
+ * V1_COMPACT event protocol, and back again.  The JSON is compressed using a preset dictionary of the
+ * property names and values that appear in most OMRS events.  This means even a small event compresses
+ * well since these strings (and the type GUIDs that are repeated in each instance's header) are replaced by
+ * short references.  The compressed bytes are Base64 encoded and wrapped in a small JSON object so that the
+ * event can be sent over the string-based event bus connectors.  The wrapper also carries the first guid from
+ * the event so the event bus connector can keep the events for each instance in order.
+ * <p>
+ * The compactEvent value identifies the version of the dictionary.  It must be changed if the dictionary is
+ * changed, otherwise existing cohort members will not be able to decode the events.
+ * </p>
+ */
+public class OMRSCompactEventEncoder
+{
+    private static final String compactEventPrefix = "{\"compactEvent\":\"OMRSZ1\"";
+    private static final String guidProperty       = "\"guid\":\"";
+    private static final String eventProperty      = "\"event\":\"";
+
+    /*
+     * The largest event that a compact event may inflate to.  This stops a small, malformed or hostile event from
+     * using up the memory of the receiving server.
+     */
+    static final int DEFAULT_MAX_EVENT_SIZE = 16 * 1024 * 1024;
+
+    /*
+     * Strings near the end of the dictionary are encoded in fewer bits so the most common values go last.
+     */
+    private static final byte[] dictionary = (
+            "\"relationshipProperties\"\"typeDefEventSection\"\"typeDef\"\"attributeTypeDef\"\"originalTypeDefSummary\"" +
+            "\"registryEventSection\"\"registryEventType\"\"registrationTimestamp\"\"remoteConnection\"" +
+            "\"errorSection\"\"errorCode\"\"errorMessage\"\"targetMetadataCollectionId\"" +
+            "\"originalEntity\"\"originalRelationship\"\"originalClassification\"\"originalHomeMetadataCollectionId\"" +
+            "\"instanceBatch\"\"reIdentifiedGUID\"\"instanceURL\"\"instanceLicense\"\"effectiveFromTime\"\"effectiveToTime\"" +
+            "\"class\":\"EnumPropertyValue\",\"instancePropertyCategory\":\"ENUM\",\"ordinal\":" +
+            "\"class\":\"MapPropertyValue\",\"instancePropertyCategory\":\"MAP\",\"mapValues\":" +
+            "\"class\":\"ArrayPropertyValue\",\"instancePropertyCategory\":\"ARRAY\",\"arrayCount\":\"arrayValues\":" +
+            "\"class\":\"Classification\",\"name\":\"classificationOrigin\":\"ASSIGNED\"\"classifications\":[" +
+            "\"relationship\":{\"class\":\"Relationship\"\"entityOneProxy\":{\"entityTwoProxy\":{\"class\":\"EntityProxy\"" +
+            "\"uniqueProperties\":\"qualifiedName\"\"displayName\"\"description\"" +
+            "\"typeDefDescriptionGUID\"\"typeDefDescription\":\"typeDefSuperTypes\":[\"validStatusList\":[\"ACTIVE\"]" +
+            "\"validInstanceProperties\":[\"typeDefCategory\":\"ENTITY_DEF\"\"RELATIONSHIP_DEF\"\"CLASSIFICATION_DEF\"" +
+            "\"typeDefVersion\":1\"typeDefName\":\"typeDefGUID\":\"" +
+            "\"primitiveDefCategory\":\"OM_PRIMITIVE_TYPE_DATE\"\"OM_PRIMITIVE_TYPE_INT\"\"OM_PRIMITIVE_TYPE_BOOLEAN\"" +
+            "{\"class\":\"PrimitivePropertyValue\",\"instancePropertyCategory\":\"PRIMITIVE\",\"typeName\":\"string\"," +
+            "\"typeGUID\":\"b34a64b9-554a-42b1-8f8a-7d5c2339f9c4\",\"primitiveDefCategory\":\"OM_PRIMITIVE_TYPE_STRING\"," +
+            "\"primitiveValue\":\"" +
+            "\"properties\":{\"class\":\"InstanceProperties\",\"instanceProperties\":{\"propertyNames\":[\"propertyCount\":" +
+            "\"createdBy\":\"updatedBy\":\"maintainedBy\":\"createTime\":\"updateTime\":\"version\":" +
+            "\"currentStatus\":\"ACTIVE\",\"statusOnDelete\":\"DELETED\"\"replicatedBy\":\"mappingProperties\":" +
+            "\"headerVersion\":1,\"type\":{\"class\":\"InstanceType\",\"typeDefCategory\":\"ENTITY_DEF\",\"typeDefGUID\":\"" +
+            "\"instanceProvenanceType\":\"LOCAL_COHORT\",\"metadataCollectionId\":\"\"metadataCollectionName\":\"" +
+            "\"entity\":{\"class\":\"EntityDetail\",\"guid\":\"" +
+            "\"instanceEventSection\":{\"eventType\":\"NEW_ENTITY_EVENT\"\"UPDATED_ENTITY_EVENT\"\"NEW_RELATIONSHIP_EVENT\"" +
+            "\"typeDefGUID\":\"\"typeDefName\":\"\"instanceGUID\":\"\"homeMetadataCollectionId\":\"" +
+            "\"eventCategory\":\"INSTANCE\"\"TYPEDEF\"\"REGISTRY\"" +
+            "\"originator\":{\"metadataCollectionId\":\"\",\"serverName\":\"\",\"serverType\":\"\",\"organizationName\":\"" +
+            "{\"class\":\"OMRSEventV1\",\"protocolVersionId\":\"OMRS V1.0\",\"timestamp\":"
+            ).getBytes(StandardCharsets.UTF_8);
+
+
+    /**
+     * Private constructor since all of the methods are static.
+     */
+    private OMRSCompactEventEncoder()
+    {
+    }
+
+
+    /**
+     * Test whether an event is in the compact form.
+     *
+     * @param event event received from the event bus
+     * @return boolean
+     */
+    public static boolean isCompactEvent(String event)
+    {
+        return (event != null) && (event.startsWith(compactEventPrefix));
+    }
+
+
+    /**
+     * Convert the JSON form of an event into its compact form.
+     *
+     * @param jsonEvent event as JSON
+     * @return compact event
+     */
+    public static String encode(String jsonEvent)
+    {
+        byte[]                input    = jsonEvent.getBytes(StandardCharsets.UTF_8);
+        byte[]                buffer   = new byte[Math.max(256, input.length / 2)];
+        ByteArrayOutputStream output   = new ByteArrayOutputStream(buffer.length);
+        Deflater              deflater = new Deflater(Deflater.BEST_SPEED);
+
+        try
+        {
+            deflater.setDictionary(dictionary);
+            deflater.setInput(input);
+            deflater.finish();
+
+            while (! deflater.finished())
+            {
+                int count = deflater.deflate(buffer);
+
+                output.write(buffer, 0, count);
+            }
+        }
+        finally
+        {
+            deflater.end();
+        }
+
+        StringBuilder compactEvent = new StringBuilder(compactEventPrefix);
+        int           guidStart    = jsonEvent.indexOf(guidProperty);
+
+        if (guidStart >= 0)
+        {
+            int guidEnd = jsonEvent.indexOf('"', guidStart + guidProperty.length());
+
+            if (guidEnd > 0)
+            {
+                compactEvent.append(',').append(jsonEvent, guidStart, guidEnd + 1);
+            }
+        }
+
+        compactEvent.append(',').append(eventProperty);
+        compactEvent.append(Base64.getEncoder().encodeToString(output.toByteArray()));
+        compactEvent.append("\"}");
+
+        return compactEvent.toString();
+    }
+
+
+    /**
+     * Convert the compact form of an event back into JSON.  The JSON may be no larger than DEFAULT_MAX_EVENT_SIZE bytes.
+     *
+     * @param compactEvent event in compact form
+     * @return event as JSON
+     * @throws DataFormatException the event is not a valid compact event
+     */
+    public static String decode(String compactEvent) throws DataFormatException
+    {
+        return decode(compactEvent, DEFAULT_MAX_EVENT_SIZE);
+    }
+
+
+    /**
+     * Convert the compact form of an event back into JSON.
+     *
+     * @param compactEvent event in compact form
+     * @param maxEventSize largest number of bytes the JSON may inflate to
+     * @return event as JSON
+     * @throws DataFormatException the event is not a valid compact event or inflates to more than maxEventSize bytes
+     */
+    public static String decode(String compactEvent,
+                                int    maxEventSize) throws DataFormatException
+    {
+        int eventStart = compactEvent.indexOf(eventProperty);
+        int eventEnd   = compactEvent.lastIndexOf('"');
+
+        if ((eventStart < 0) || (eventEnd < eventStart + eventProperty.length()))
+        {
+            throw new DataFormatException("Compact event has no event property");
+        }
+
+        byte[] input;
+
+        try
+        {
+            input = Base64.getDecoder().decode(compactEvent.substring(eventStart + eventProperty.length(), eventEnd));
+        }
+        catch (IllegalArgumentException error)
+        {
+            throw new DataFormatException("Compact event is not Base64 encoded");
+        }
+
+        byte[]                buffer        = new byte[(int) Math.min(maxEventSize + 1L, Math.max(256L, input.length * 4L))];
+        ByteArrayOutputStream output        = new ByteArrayOutputStream(buffer.length);
+        Inflater              inflater      = new Inflater();
+        boolean               dictionarySet = false;
+
+        try
+        {
+            inflater.setInput(input);
+
+            while (! inflater.finished())
+            {
+                int count = inflater.inflate(buffer);
+
+                if (count == 0)
+                {
+                    /*
+                     * The inflater has made no progress.  It is given the dictionary once, and all of the input is
+                     * supplied up front, so any other reason for stopping means the event is malformed.
+                     */
+                    if ((inflater.needsDictionary()) && (! dictionarySet))
+                    {
+                        try
+                        {
+                            inflater.setDictionary(dictionary);
+                        }
+                        catch (IllegalArgumentException error)
+                        {
+                            throw new DataFormatException("Compact event uses an unknown dictionary");
+                        }
+
+                        dictionarySet = true;
+                    }
+                    else if (inflater.needsInput())
+                    {
+                        throw new DataFormatException("Compact event is truncated");
+                    }
+                    else if (! inflater.finished())
+                    {
+                        throw new DataFormatException("Compact event cannot be inflated");
+                    }
+                }
+                else if (output.size() + count > maxEventSize)
+                {
+                    throw new DataFormatException("Compact event inflates to more than " + maxEventSize + " bytes");
+                }
+
+                output.write(buffer, 0, count);
+            }
+        }
+        finally
+        {
+            inflater.end();
+        }
+
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
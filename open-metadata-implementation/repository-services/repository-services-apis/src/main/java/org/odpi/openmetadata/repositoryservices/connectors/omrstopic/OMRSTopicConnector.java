@@ -2,30 +2,41 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLoggingComponent;
 import org.odpi.openmetadata.frameworks.connectors.Connector;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
 import org.odpi.openmetadata.frameworks.connectors.VirtualConnectorExtension;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicListener;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
 import org.odpi.openmetadata.repositoryservices.events.OMRSEventProtocolVersion;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEventType;
 import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
 import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
 import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1InstanceSection;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1RegistrySection;
+import org.odpi.openmetadata.repositoryservices.events.future.OMRSFuture;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSJSONMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 /**
@@ -63,13 +74,35 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
     private List<Connector> embeddedConnectors = null;
 
-    private List<OMRSTopicListener>          internalTopicListeners = new ArrayList<>();
     private List<OpenMetadataTopicConnector> eventBusConnectors     = new ArrayList<>();
 
+    /*
+     * Each registered listener receives its events through its own dispatcher so a slow listener
+     * does not hold up the others.
+     */
+    private final List<OMRSTopicListenerDispatcher> listenerDispatchers = new CopyOnWriteArrayList<>();
+    private int                                     listenerThreads     = 1;
+    private int                                     listenerQueueSize   = 1000;
+
     private String                    connectionName       = OMRSAuditingComponent.OMRS_TOPIC_CONNECTOR.getComponentName();
     private String                    topicName = "<Unknown>";
     private OMRSEventProtocolVersion  eventProtocolVersion = OMRSEventProtocolVersion.V1;
 
+    /*
+     * The event protocols this server is able to receive.  They are advertised to the other members of
+     * the cohort in the registry events.
+     */
+    private static final List<String> receivableEventProtocols
+            = Collections.unmodifiableList(Arrays.asList(OMRSEventProtocolVersion.V1.getName(),
+                                                         OMRSEventProtocolVersion.V1_COMPACT.getName()));
+
+    /*
+     * When the V1_COMPACT protocol is configured, this map records whether each member of the cohort that has
+     * been heard from is able to receive compact events.  Compact events are only sent when they all can.
+     */
+    private final Map<String, Boolean> memberSupportsCompactEvents = new ConcurrentHashMap<>();
+    private volatile boolean           sendCompactEvents           = false;
+
     protected AuditLog auditLog = null;
 
 
@@ -82,6 +115,39 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Call made by the ConnectorProvider to initialize the Connector with the base services.  The
+     * configuration properties control how events are passed to the registered listeners.
+     *
+     * @param connectorInstanceId   unique id for the connector instance   useful for messages etc
+     * @param connectionProperties   POJO for the configuration used to create the connector.
+     */
+    @Override
+    public void initialize(String               connectorInstanceId,
+                           ConnectionProperties connectionProperties)
+    {
+        super.initialize(connectorInstanceId, connectionProperties);
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
+        {
+            Object listenerThreads   = configurationProperties.get(OMRSTopicProvider.listenerThreadsProperty);
+            Object listenerQueueSize = configurationProperties.get(OMRSTopicProvider.listenerQueueSizeProperty);
+
+            if ((listenerThreads instanceof Integer) && ((Integer)listenerThreads > 0))
+            {
+                this.listenerThreads = (Integer)listenerThreads;
+            }
+
+            if ((listenerQueueSize instanceof Integer) && ((Integer)listenerQueueSize > 0))
+            {
+                this.listenerQueueSize = (Integer)listenerQueueSize;
+            }
+        }
+    }
+
+
     /**
      * Registers itself as a listener of any OpenMetadataTopicConnectors that are passed as
      * embedded connectors.
@@ -135,7 +201,9 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     {
         if (topicListener != null)
         {
-            internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener, auditLog));
+            listenerDispatchers.add(new OMRSTopicListenerDispatcher(new OMRSTopicListenerWrapper(topicListener, auditLog),
+                                                                    listenerThreads,
+                                                                    listenerQueueSize));
         }
         else
         {
@@ -161,9 +229,11 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     {
         if (topicListener != null)
         {
-            internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener,
-                                                                    serviceName,
-                                                                    auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER)));
+            OMRSTopicListenerWrapper listenerWrapper = new OMRSTopicListenerWrapper(topicListener,
+                                                                                    serviceName,
+                                                                                    auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER));
+
+            listenerDispatchers.add(new OMRSTopicListenerDispatcher(listenerWrapper, listenerThreads, listenerQueueSize));
         }
         else
         {
@@ -176,6 +246,25 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Return the statistics for each of the registered listeners.  A listener that is not keeping up
+     * with the cohort has a growing queue depth.
+     *
+     * @return list of metrics, one for each listener
+     */
+    public List<OMRSTopicListenerMetrics> getListenerMetrics()
+    {
+        List<OMRSTopicListenerMetrics> listenerMetrics = new ArrayList<>();
+
+        for (OMRSTopicListenerDispatcher listenerDispatcher : listenerDispatchers)
+        {
+            listenerMetrics.add(listenerDispatcher.getMetrics());
+        }
+
+        return listenerMetrics;
+    }
+
+
     /**
      * Indicates that the connector is completely configured and can begin processing.
      * OMRSTopicConnector needs to pass on the start() to its embedded connectors.
@@ -297,9 +386,17 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     {
         final String methodName = "sendRegistryEvent";
 
-        if (eventProtocolVersion == OMRSEventProtocolVersion.V1)
+        if ((eventProtocolVersion == OMRSEventProtocolVersion.V1) || (eventProtocolVersion == OMRSEventProtocolVersion.V1_COMPACT))
         {
-            this.sendEvent(registryEvent.getOMRSEventV1());
+            OMRSEventV1                registryEventBean = registryEvent.getOMRSEventV1();
+            OMRSEventV1RegistrySection registrySection   = registryEventBean.getRegistryEventSection();
+
+            if (registrySection != null)
+            {
+                registrySection.setEventProtocolVersions(receivableEventProtocols);
+            }
+
+            this.sendEvent(registryEventBean);
         }
         else
         {
@@ -319,7 +416,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     {
         final String methodName = "sendTypeDefEvent";
 
-        if (eventProtocolVersion == OMRSEventProtocolVersion.V1)
+        if ((eventProtocolVersion == OMRSEventProtocolVersion.V1) || (eventProtocolVersion == OMRSEventProtocolVersion.V1_COMPACT))
         {
             this.sendEvent(typeDefEvent.getOMRSEventV1());
         }
@@ -342,7 +439,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     {
         final String methodName = "sendInstanceEvent";
 
-        if (eventProtocolVersion == OMRSEventProtocolVersion.V1)
+        if ((eventProtocolVersion == OMRSEventProtocolVersion.V1) || (eventProtocolVersion == OMRSEventProtocolVersion.V1_COMPACT))
         {
             this.sendEvent(instanceEvent.getOMRSEventV1());
         }
@@ -367,13 +464,22 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
         {
             try
             {
-                ObjectMapper objectMapper = new ObjectMapper();
+                String jsonEvent = OMRSJSONMapper.writeEvent(event);
+
+                /*
+                 * Registry events are always sent as JSON so that members joining the cohort at an earlier
+                 * level can read them.
+                 */
+                if ((sendCompactEvents) && (event.getRegistryEventSection() == null))
+                {
+                    jsonEvent = OMRSCompactEventEncoder.encode(jsonEvent);
+                }
 
                 for (OpenMetadataTopicConnector eventBusConnector : eventBusConnectors)
                 {
                     if (eventBusConnector != null)
                     {
-                        eventBusConnector.sendEvent(objectMapper.writeValueAsString(event));
+                        eventBusConnector.sendEvent(jsonEvent);
                     }
                 }
             }
@@ -406,6 +512,73 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Record whether the member of the cohort that sent an event is able to receive compact events.
+     * Registry events advertise the event protocols the sender can receive.  Any other event from a member
+     * that has not sent a registry event is assumed to come from a server at an earlier level.
+     * Compact events are sent once all of the known members have advertised support for them.
+     *
+     * @param event inbound event
+     */
+    private synchronized void updateMemberEventProtocols(OMRSEventV1 event)
+    {
+        final String actionDescription = "Update member event protocols";
+
+        OMRSEventOriginator originator = event.getOriginator();
+
+        if ((eventProtocolVersion != OMRSEventProtocolVersion.V1_COMPACT) || (originator == null))
+        {
+            return;
+        }
+
+        String memberName = originator.getServerName();
+
+        if (memberName == null)
+        {
+            memberName = originator.getMetadataCollectionId();
+        }
+
+        if (memberName == null)
+        {
+            return;
+        }
+
+        OMRSEventV1RegistrySection registrySection = event.getRegistryEventSection();
+
+        if (registrySection == null)
+        {
+            memberSupportsCompactEvents.putIfAbsent(memberName, false);
+        }
+        else if (registrySection.getRegistryEventType() == OMRSRegistryEventType.UN_REGISTRATION_EVENT)
+        {
+            memberSupportsCompactEvents.remove(memberName);
+        }
+        else
+        {
+            List<String> eventProtocolVersions = registrySection.getEventProtocolVersions();
+
+            memberSupportsCompactEvents.put(memberName,
+                                            (eventProtocolVersions != null) &&
+                                                    (eventProtocolVersions.contains(OMRSEventProtocolVersion.V1_COMPACT.getName())));
+        }
+
+        boolean compact = (! memberSupportsCompactEvents.isEmpty()) && (! memberSupportsCompactEvents.containsValue(false));
+
+        if (compact != sendCompactEvents)
+        {
+            sendCompactEvents = compact;
+
+            if (auditLog != null)
+            {
+                OMRSEventProtocolVersion protocolInUse = compact ? OMRSEventProtocolVersion.V1_COMPACT : OMRSEventProtocolVersion.V1;
+
+                auditLog.logMessage(actionDescription,
+                                    OMRSAuditCode.COHORT_EVENT_PROTOCOL_CHANGED.getMessageDefinition(topicName, protocolInUse.getName()));
+            }
+        }
+    }
+
+
     /**
      * Receives events from the real topic, parses them into event objects and passes them on to
      * the OMRSTopicListeners registered with this connector.
@@ -427,9 +600,14 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
              */
             try
             {
-                ObjectMapper objectMapper = new ObjectMapper();
-
-                eventBean = objectMapper.readValue(event, OMRSEventBean.class);
+                if (OMRSCompactEventEncoder.isCompactEvent(event))
+                {
+                    eventBean = OMRSJSONMapper.readEvent(OMRSCompactEventEncoder.decode(event));
+                }
+                else
+                {
+                    eventBean = OMRSJSONMapper.readEvent(event);
+                }
             }
             catch (Throwable   exception)
             {
@@ -447,28 +625,44 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
              */
             if (eventBean instanceof OMRSEventV1)
             {
-                OMRSEventBean finalEventBean = eventBean;
-                internalTopicListeners.parallelStream().forEach((topicListener) ->
+                this.updateMemberEventProtocols((OMRSEventV1) eventBean);
+
+                OMRSEventV1 omrsEvent   = (OMRSEventV1) eventBean;
+                String      orderingKey = this.getOrderingKey(omrsEvent);
+
+                /*
+                 * Each listener's dispatcher processes the event on its own thread.  The event bus connector
+                 * is told about this processing so it only records the event as consumed once all of
+                 * the listeners have finished with it.
+                 */
+                for (OMRSTopicListenerDispatcher listenerDispatcher : listenerDispatchers)
                 {
-                    try
-                    {
-                        this.processOMRSEvent((OMRSEventV1) finalEventBean, topicListener);
-                    }
-                    catch (Throwable  error)
-                    {
-                        log.debug("Unable to pass event to one of the topic listeners");
+                    OMRSTopicListener topicListener = listenerDispatcher.getTopicListener();
 
-                        if (auditLog != null)
+                    OMRSFuture processingResult = listenerDispatcher.dispatch(orderingKey, () ->
+                    {
+                        try
                         {
-                            auditLog.logException(methodName,
-                                                  OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(event,
-                                                                                                            error.toString(),
-                                                                                                            topicListener.toString()),
-                                                  event,
-                                                  error);
+                            this.processOMRSEvent(omrsEvent, topicListener);
                         }
-                    }
-                });
+                        catch (Throwable  error)
+                        {
+                            log.debug("Unable to pass event to one of the topic listeners");
+
+                            if (auditLog != null)
+                            {
+                                auditLog.logException(methodName,
+                                                      OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(event,
+                                                                                                                error.toString(),
+                                                                                                                topicListener.toString()),
+                                                      event,
+                                                      error);
+                            }
+                        }
+                    });
+
+                    InternalOMRSEventProcessingContext.getInstance().addAsyncProcessingResult(processingResult);
+                }
             }
         }
         else
@@ -483,6 +677,37 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Return the unique identifier of the instance that an event is about.  The events for an instance are
+     * passed to each listener in the order they were received.
+     *
+     * @param event inbound event
+     * @return instance guid or null if the event is not about a single instance
+     */
+    private String getOrderingKey(OMRSEventV1 event)
+    {
+        OMRSEventV1InstanceSection instanceSection = event.getInstanceEventSection();
+
+        if (instanceSection != null)
+        {
+            if (instanceSection.getInstanceGUID() != null)
+            {
+                return instanceSection.getInstanceGUID();
+            }
+            else if (instanceSection.getEntity() != null)
+            {
+                return instanceSection.getEntity().getGUID();
+            }
+            else if (instanceSection.getRelationship() != null)
+            {
+                return instanceSection.getRelationship().getGUID();
+            }
+        }
+
+        return null;
+    }
+
+
     /**
      * Process the OMRS Event bean.  The processing is careful of nulls and ignores an event
      * that is incorrectly formatted.  The assumption is that the unformatted part of the message
@@ -565,6 +790,11 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
             eventBusConnector.disconnect();
         }
 
+        for (OMRSTopicListenerDispatcher listenerDispatcher : listenerDispatchers)
+        {
+            listenerDispatcher.shutdown();
+        }
+
         if (auditLog != null)
         {
             auditLog.logMessage(actionDescription,
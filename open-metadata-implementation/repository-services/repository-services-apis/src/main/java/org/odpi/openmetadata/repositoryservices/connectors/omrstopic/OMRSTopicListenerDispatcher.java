@@ -0,0 +1,263 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.events.future.OMRSFuture;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+
+/**
+ * OMRSTopicListenerDispatcher passes the events received by the OMRSTopicConnector to one of its registered
+ * listeners.  Each listener has its own dispatcher so a slow listener does not hold up the others.
+ * <p>
+ *     The dispatcher has one or more lanes.  Each lane is a single thread with a bounded queue.  Events
+ *     for an instance always go to the same lane so they are processed in the order they were received.
+ *     Events that are not about an instance (registry and type events for example) are processed once all of
+ *     the earlier events have been processed, and before any of the later ones.  When a lane's queue is full,
+ *     the thread passing the event waits for space so the event bus connector is held back rather than
+ *     events being lost.
+ * </p>
+ */
+class OMRSTopicListenerDispatcher
+{
+    private final OMRSTopicListenerWrapper topicListener;
+    private final ThreadPoolExecutor[]     lanes;
+
+    private final AtomicLong      eventCount        = new AtomicLong(0);
+    private final AtomicLong      totalLatencyNanos = new AtomicLong(0);
+    private final LongAccumulator maxLatencyNanos   = new LongAccumulator(Math::max, 0);
+
+
+    /**
+     * Create the lanes for a listener.
+     *
+     * @param topicListener wrapped listener
+     * @param laneCount number of threads passing events to the listener
+     * @param queueSize maximum number of events waiting for each thread
+     */
+    OMRSTopicListenerDispatcher(OMRSTopicListenerWrapper topicListener,
+                                int                      laneCount,
+                                int                      queueSize)
+    {
+        this.topicListener = topicListener;
+        this.lanes         = new ThreadPoolExecutor[laneCount];
+
+        for (int i = 0; i < laneCount; i++)
+        {
+            final String threadName = topicListener.getServiceName() + " OMRSTopicListener dispatcher " + i;
+
+            lanes[i] = new ThreadPoolExecutor(1,
+                                              1,
+                                              0L,
+                                              TimeUnit.MILLISECONDS,
+                                              new ArrayBlockingQueue<>(queueSize),
+                                              runnable -> new Thread(runnable, threadName),
+                                              (runnable, lane) ->
+                                              {
+                                                  if (! lane.isShutdown())
+                                                  {
+                                                      try
+                                                      {
+                                                          lane.getQueue().put(runnable);
+                                                      }
+                                                      catch (InterruptedException wakeUp)
+                                                      {
+                                                          Thread.currentThread().interrupt();
+                                                      }
+                                                  }
+                                              });
+        }
+    }
+
+
+    /**
+     * Return the listener that this dispatcher passes events to.
+     *
+     * @return wrapped listener
+     */
+    OMRSTopicListenerWrapper getTopicListener()
+    {
+        return topicListener;
+    }
+
+
+    /**
+     * Queue the processing of an event.  The returned future completes once the listener has processed the
+     * event, including any asynchronous processing it registered with the InternalOMRSEventProcessingContext.
+     *
+     * @param orderingKey unique identifier of the instance that the event is about, or null if there is none
+     * @param processing call to the listener
+     * @return future for the processing of the event
+     */
+    OMRSFuture dispatch(String   orderingKey,
+                        Runnable processing)
+    {
+        DispatchedEvent dispatchedEvent = new DispatchedEvent(processing,
+                                                              InternalOMRSEventProcessingContext.getInstance().getCurrentMessageId());
+
+        if ((orderingKey != null) || (lanes.length == 1))
+        {
+            int lane = (orderingKey == null) ? 0 : (orderingKey.hashCode() & Integer.MAX_VALUE) % lanes.length;
+
+            lanes[lane].execute(dispatchedEvent);
+        }
+        else
+        {
+            /*
+             * The first lane processes the event once the other lanes have caught up with it.  They then wait
+             * for it to finish so the events queued behind it stay behind it.
+             */
+            CountDownLatch lanesWaiting   = new CountDownLatch(lanes.length - 1);
+            CountDownLatch eventProcessed = new CountDownLatch(1);
+
+            lanes[0].execute(() ->
+                             {
+                                 try
+                                 {
+                                     lanesWaiting.await();
+                                     dispatchedEvent.run();
+                                 }
+                                 catch (InterruptedException wakeUp)
+                                 {
+                                     Thread.currentThread().interrupt();
+                                 }
+                                 finally
+                                 {
+                                     eventProcessed.countDown();
+                                 }
+                             });
+
+            for (int i = 1; i < lanes.length; i++)
+            {
+                lanes[i].execute(() ->
+                                 {
+                                     lanesWaiting.countDown();
+
+                                     try
+                                     {
+                                         eventProcessed.await();
+                                     }
+                                     catch (InterruptedException wakeUp)
+                                     {
+                                         Thread.currentThread().interrupt();
+                                     }
+                                 });
+            }
+        }
+
+        return dispatchedEvent;
+    }
+
+
+    /**
+     * Return the current statistics for the listener.
+     *
+     * @return metrics
+     */
+    OMRSTopicListenerMetrics getMetrics()
+    {
+        int queueDepth = 0;
+
+        for (ThreadPoolExecutor lane : lanes)
+        {
+            queueDepth = queueDepth + lane.getQueue().size();
+        }
+
+        long eventCount        = this.eventCount.get();
+        long totalLatencyNanos = this.totalLatencyNanos.get();
+
+        return new OMRSTopicListenerMetrics(topicListener.getServiceName(),
+                                            queueDepth,
+                                            eventCount,
+                                            (eventCount == 0) ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatencyNanos / eventCount),
+                                            TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get()));
+    }
+
+
+    /**
+     * Stop the lanes.  Events still waiting are discarded - their futures never complete so the event bus
+     * connector does not record them as processed.
+     */
+    void shutdown()
+    {
+        for (ThreadPoolExecutor lane : lanes)
+        {
+            lane.shutdownNow();
+        }
+    }
+
+
+    /**
+     * DispatchedEvent is an event waiting in, or being processed by, one of the lanes.
+     */
+    private class DispatchedEvent implements Runnable, OMRSFuture
+    {
+        private final Runnable   processing;
+        private final String     messageId;
+        private final long       queuedTime = System.nanoTime();
+
+        private volatile boolean    processed       = false;
+        private volatile OMRSFuture asyncProcessing = null;
+
+
+        /**
+         * Save the call to the listener.
+         *
+         * @param processing call to the listener
+         * @param messageId unique identifier of the message that the event came from
+         */
+        DispatchedEvent(Runnable processing,
+                        String   messageId)
+        {
+            this.processing = processing;
+            this.messageId  = messageId;
+        }
+
+
+        /**
+         * Call the listener on the lane's thread, capturing any asynchronous processing it starts.
+         */
+        @Override
+        public void run()
+        {
+            InternalOMRSEventProcessingContext.clear();
+            InternalOMRSEventProcessingContext.getInstance().setCurrentMessageId(messageId);
+
+            try
+            {
+                processing.run();
+            }
+            finally
+            {
+                asyncProcessing = InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult();
+                processed = true;
+
+                InternalOMRSEventProcessingContext.clear();
+
+                long latency = System.nanoTime() - queuedTime;
+
+                eventCount.incrementAndGet();
+                totalLatencyNanos.addAndGet(latency);
+                maxLatencyNanos.accumulate(latency);
+            }
+        }
+
+
+        /**
+         * Return whether the listener has finished with the event.
+         *
+         * @return boolean
+         */
+        @Override
+        public boolean isDone()
+        {
+            return processed && asyncProcessing.isDone();
+        }
+    }
+}
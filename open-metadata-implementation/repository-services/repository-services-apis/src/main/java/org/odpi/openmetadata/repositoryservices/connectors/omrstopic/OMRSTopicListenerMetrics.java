@@ -0,0 +1,114 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+
+/**
+ * OMRSTopicListenerMetrics describes how well one of the listeners registered with the OMRSTopicConnector
+ * is keeping up with the events received from the cohort.  The latency is measured from the time the
+ * event is queued for the listener to the time the listener returns.
+ */
+public class OMRSTopicListenerMetrics
+{
+    private final String serviceName;
+    private final int    queueDepth;
+    private final long   eventCount;
+    private final long   averageLatencyMillis;
+    private final long   maxLatencyMillis;
+
+
+    /**
+     * Constructor
+     *
+     * @param serviceName name of the service that owns the listener
+     * @param queueDepth number of events waiting for the listener
+     * @param eventCount number of events processed by the listener
+     * @param averageLatencyMillis average time from queuing an event to its processing completing
+     * @param maxLatencyMillis longest time from queuing an event to its processing completing
+     */
+    public OMRSTopicListenerMetrics(String serviceName,
+                                    int    queueDepth,
+                                    long   eventCount,
+                                    long   averageLatencyMillis,
+                                    long   maxLatencyMillis)
+    {
+        this.serviceName = serviceName;
+        this.queueDepth = queueDepth;
+        this.eventCount = eventCount;
+        this.averageLatencyMillis = averageLatencyMillis;
+        this.maxLatencyMillis = maxLatencyMillis;
+    }
+
+
+    /**
+     * Return the name of the service that owns the listener.
+     *
+     * @return name
+     */
+    public String getServiceName()
+    {
+        return serviceName;
+    }
+
+
+    /**
+     * Return the number of events waiting for the listener.
+     *
+     * @return count
+     */
+    public int getQueueDepth()
+    {
+        return queueDepth;
+    }
+
+
+    /**
+     * Return the number of events processed by the listener.
+     *
+     * @return count
+     */
+    public long getEventCount()
+    {
+        return eventCount;
+    }
+
+
+    /**
+     * Return the average time from queuing an event to its processing completing.
+     *
+     * @return milliseconds
+     */
+    public long getAverageLatencyMillis()
+    {
+        return averageLatencyMillis;
+    }
+
+
+    /**
+     * Return the longest time from queuing an event to its processing completing.
+     *
+     * @return milliseconds
+     */
+    public long getMaxLatencyMillis()
+    {
+        return maxLatencyMillis;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSTopicListenerMetrics{" +
+                "serviceName='" + serviceName + '\'' +
+                ", queueDepth=" + queueDepth +
+                ", eventCount=" + eventCount +
+                ", averageLatencyMillis=" + averageLatencyMillis +
+                ", maxLatencyMillis=" + maxLatencyMillis +
+                '}';
+    }
+}
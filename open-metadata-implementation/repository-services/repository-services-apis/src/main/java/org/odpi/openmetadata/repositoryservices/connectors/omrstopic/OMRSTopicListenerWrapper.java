@@ -58,6 +58,17 @@ public class OMRSTopicListenerWrapper implements OMRSTopicListener
     }
 
 
+    /**
+     * Return the name of the service that owns the topic listener.
+     *
+     * @return name
+     */
+    String getServiceName()
+    {
+        return serviceName;
+    }
+
+
     /**
      * Log an audit log message to record an unexpected exception.  We should never see this message.
      * It indicates a logic error in the service that threw the exception.
@@ -11,6 +11,13 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
  */
 public class OMRSTopicProvider extends ConnectorProviderBase
 {
+    /*
+     * The number of threads passing events to each registered listener, and the number of events that can wait
+     * for each of these threads.
+     */
+    static final String listenerThreadsProperty   = "listenerThreads";
+    static final String listenerQueueSizeProperty = "listenerQueueSize";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * OMRS Connector implementation.
@@ -6,6 +6,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLoggingComponent;
@@ -25,7 +29,11 @@ import org.slf4j.LoggerFactory;
  * extend this class to include the interaction with the eventing/messaging layer.
  * <ul>
  *     <li>
- *         For inbound events it should call the protected distributeEvents() method.
+ *         For inbound events it should call the protected addIncomingEvent() method.  The event is passed to the
+ *         listener thread straight away.  The incoming event queue is bounded so addIncomingEvent() blocks when
+ *         the listeners are not keeping up, which holds back the event bus connector.  A connector whose events
+ *         may be sent by the threads that process them (such as an in-memory topic) calls queueIncomingEvent()
+ *         instead, which never waits.
  *     </li>
  *     <li>
  *         For outbound events, callers will invoke the sendEvent() method.
@@ -34,6 +42,8 @@ import org.slf4j.LoggerFactory;
  *         When the server no longer needs the topic, it will call disconnect().
  *     </li>
  * </ul>
+ * The listener thread passes each event to the listeners in the order it was received.  Listeners that need to
+ * process events in parallel (such as the OMRSTopicConnector) hand them on to their own dispatch threads.
  */
 public abstract class OpenMetadataTopicConnector extends ConnectorBase implements OpenMetadataTopic,
                                                                                   Runnable,
@@ -46,10 +56,14 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
 
     private volatile boolean keepRunning = false;
 
-    private List<OpenMetadataTopicListener> topicListeners     = new ArrayList<>();
-    private String                          listenerThreadName = defaultThreadName;
-    private String                          topicName          = defaultTopicName;
-    private int                             sleepTime          = 100;
+    private List<OpenMetadataTopicListener> topicListeners         = new CopyOnWriteArrayList<>();
+    private String                          listenerThreadName     = defaultThreadName;
+    private String                          topicName              = defaultTopicName;
+    private int                             sleepTime              = 100;
+    private volatile int                    incomingEventQueueSize = 1000;
+
+    private final BlockingQueue<IncomingEvent> incomingEvents     = new LinkedBlockingQueue<>();
+    private final Object                       incomingEventSpace = new Object();
 
     protected AuditLog auditLog = null;
 
@@ -74,7 +88,9 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
     }
 
     /**
-     * This is the method called by the listener thread when it starts.
+     * This is the method called by the listener thread when it starts.  It waits for events to be added
+     * to the incoming event queue and dispatches them as soon as they arrive.  Implementations that still
+     * override checkForIncomingEvents() are checked each time the queue is empty for sleepTime milliseconds.
      */
     public void run()
     {
@@ -106,7 +122,19 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
                     log.error("Bad exception from checkForEvents", error);
                 }
 
-                Thread.sleep(sleepTime);
+                IncomingEvent event = incomingEvents.poll(sleepTime, TimeUnit.MILLISECONDS);
+
+                while (event != null)
+                {
+                    synchronized (incomingEventSpace)
+                    {
+                        incomingEventSpace.notifyAll();
+                    }
+
+                    this.distributeEvent(event);
+
+                    event = incomingEvents.poll();
+                }
             }
             catch (InterruptedException   wakeUp)
             {
@@ -120,6 +148,63 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
     }
 
 
+    /**
+     * Add an event received from the event bus to the incoming event queue.  This blocks while the
+     * queue holds incomingEventQueueSize events.
+     *
+     * @param event event to distribute to the listeners
+     * @return true if the event was queued; false if the calling thread was interrupted while waiting
+     */
+    protected boolean addIncomingEvent(IncomingEvent event)
+    {
+        try
+        {
+            synchronized (incomingEventSpace)
+            {
+                while (keepRunning && (incomingEvents.size() >= incomingEventQueueSize))
+                {
+                    incomingEventSpace.wait(sleepTime);
+                }
+            }
+
+            incomingEvents.add(event);
+
+            return true;
+        }
+        catch (InterruptedException   wakeUp)
+        {
+            Thread.currentThread().interrupt();
+
+            return false;
+        }
+    }
+
+
+    /**
+     * Add an event to the incoming event queue without waiting for space.  This is for connectors whose events
+     * may be sent from the threads that process the events on the topic, which would deadlock if they waited
+     * for the listener thread.
+     *
+     * @param event event to distribute to the listeners
+     */
+    protected void queueIncomingEvent(IncomingEvent event)
+    {
+        incomingEvents.add(event);
+    }
+
+
+    /**
+     * Return the number of events waiting in the incoming event queue.  Event bus connectors can use
+     * this to stop reading from the event bus while the listeners catch up.
+     *
+     * @return count of events
+     */
+    protected int getIncomingEventCount()
+    {
+        return incomingEvents.size();
+    }
+
+
     /**
      * Pass an event that has been received on the topic to each of the registered listeners.
      *
@@ -250,11 +335,17 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
             if (configurationProperties != null)
             {
                 Object   sleepTime = configurationProperties.get("sleepTime");
+                Object   incomingEventQueueSize = configurationProperties.get(OpenMetadataTopicProvider.incomingEventQueueSizeProperty);
 
                 if (sleepTime instanceof Integer)
                 {
                     this.sleepTime = (Integer)sleepTime;
                 }
+
+                if ((incomingEventQueueSize instanceof Integer) && ((Integer)incomingEventQueueSize > 0))
+                {
+                    this.incomingEventQueueSize = (Integer)incomingEventQueueSize;
+                }
             }
         }
 
@@ -11,7 +11,8 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
  */
 public abstract class OpenMetadataTopicProvider extends ConnectorProviderBase
 {
-    protected static final String  sleepTimeProperty = "sleepTime";
+    protected static final String  sleepTimeProperty              = "sleepTime";
+    protected static final String  incomingEventQueueSizeProperty = "incomingEventQueueSize";
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
@@ -0,0 +1,188 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+
+/**
+ * <p>
+ * OpenMetadataArchiveContentProcessor receives the content of an open metadata archive one element at a time.
+ * This allows an archive store to pass on its content as it is read rather than building the whole
+ * archive in memory first.
+ * </p>
+ * <p>
+ * The elements are passed in the order that they need to be loaded into a repository:
+ * </p>
+ * <ul>
+ *     <li>
+ *         The archive properties are always passed first, even if they are null.
+ *     </li>
+ *     <li>
+ *         The attribute type definitions, followed by the new type definitions and then the patches to type definitions.
+ *     </li>
+ *     <li>
+ *         The entities, relationships and classifications.  They are passed in the order they are stored in the archive.
+ *         This is entities, then relationships, then classifications for archives built by the open metadata archive
+ *         writers.
+ *     </li>
+ * </ul>
+ */
+public interface OpenMetadataArchiveContentProcessor
+{
+    /**
+     * Receive the properties that describe the archive.
+     *
+     * @param archiveProperties properties of the archive or null if the archive has no header
+     * @return boolean indicating whether the rest of the archive should be passed to the processor
+     */
+    boolean processArchiveProperties(OpenMetadataArchiveProperties archiveProperties);
+
+
+    /**
+     * Receive an attribute type definition from the archive.
+     *
+     * @param attributeTypeDef attribute type definition
+     */
+    void processAttributeTypeDef(AttributeTypeDef attributeTypeDef);
+
+
+    /**
+     * Receive a new type definition from the archive.
+     *
+     * @param typeDef type definition
+     */
+    void processNewTypeDef(TypeDef typeDef);
+
+
+    /**
+     * Receive a patch to a type definition from the archive.
+     *
+     * @param typeDefPatch patch to a type definition
+     */
+    void processTypeDefPatch(TypeDefPatch typeDefPatch);
+
+
+    /**
+     * Receive the number of instances in the archive's instance store.  This is called before the first instance
+     * is passed so the processor can report its progress.  Archive stores that can not count the instances
+     * without reading them into memory do not call it.
+     *
+     * @param entityCount number of entities
+     * @param relationshipCount number of relationships
+     * @param classificationCount number of classifications
+     */
+    default void processInstanceStoreSize(long entityCount,
+                                          long relationshipCount,
+                                          long classificationCount)
+    {
+    }
+
+
+    /**
+     * Receive an entity from the archive.
+     *
+     * @param entity entity
+     */
+    void processEntity(EntityDetail entity);
+
+
+    /**
+     * Receive a relationship from the archive.
+     *
+     * @param relationship relationship
+     */
+    void processRelationship(Relationship relationship);
+
+
+    /**
+     * Receive a classification from the archive.
+     *
+     * @param classification classification and the entity it belongs to
+     */
+    void processClassification(ClassificationEntityExtension classification);
+
+
+    /**
+     * Pass the content of an archive that is held in memory to this processor in the order described above.
+     *
+     * @param archiveContents open metadata archive
+     */
+    default void processArchiveContents(OpenMetadataArchive archiveContents)
+    {
+        if (! this.processArchiveProperties(archiveContents.getArchiveProperties()))
+        {
+            return;
+        }
+
+        OpenMetadataArchiveTypeStore archiveTypeStore = archiveContents.getArchiveTypeStore();
+
+        if (archiveTypeStore != null)
+        {
+            if (archiveTypeStore.getAttributeTypeDefs() != null)
+            {
+                for (AttributeTypeDef attributeTypeDef : archiveTypeStore.getAttributeTypeDefs())
+                {
+                    this.processAttributeTypeDef(attributeTypeDef);
+                }
+            }
+
+            if (archiveTypeStore.getNewTypeDefs() != null)
+            {
+                for (TypeDef typeDef : archiveTypeStore.getNewTypeDefs())
+                {
+                    this.processNewTypeDef(typeDef);
+                }
+            }
+
+            if (archiveTypeStore.getTypeDefPatches() != null)
+            {
+                for (TypeDefPatch typeDefPatch : archiveTypeStore.getTypeDefPatches())
+                {
+                    this.processTypeDefPatch(typeDefPatch);
+                }
+            }
+        }
+
+        OpenMetadataArchiveInstanceStore archiveInstanceStore = archiveContents.getArchiveInstanceStore();
+
+        if (archiveInstanceStore != null)
+        {
+            this.processInstanceStoreSize((archiveInstanceStore.getEntities() == null) ? 0 : archiveInstanceStore.getEntities().size(),
+                                          (archiveInstanceStore.getRelationships() == null) ? 0 : archiveInstanceStore.getRelationships().size(),
+                                          (archiveInstanceStore.getClassifications() == null) ? 0 : archiveInstanceStore.getClassifications().size());
+
+            if (archiveInstanceStore.getEntities() != null)
+            {
+                for (EntityDetail entity : archiveInstanceStore.getEntities())
+                {
+                    this.processEntity(entity);
+                }
+            }
+
+            if (archiveInstanceStore.getRelationships() != null)
+            {
+                for (Relationship relationship : archiveInstanceStore.getRelationships())
+                {
+                    this.processRelationship(relationship);
+                }
+            }
+
+            if (archiveInstanceStore.getClassifications() != null)
+            {
+                for (ClassificationEntityExtension classification : archiveInstanceStore.getClassifications())
+                {
+                    this.processClassification(classification);
+                }
+            }
+        }
+    }
+}
@@ -42,4 +42,26 @@ public interface OpenMetadataArchiveStore
      * @param archiveContents  OpenMetadataArchive object
      */
     void setArchiveContents(OpenMetadataArchive archiveContents);
+
+
+    /**
+     * Pass the contents of the archive to a processor one element at a time.  Archive stores that can read
+     * their content incrementally should override this method so the whole archive is never held in memory.
+     *
+     * @param contentProcessor receiver of the archive's content
+     * @return boolean indicating whether the archive has any content
+     */
+    default boolean processArchiveContents(OpenMetadataArchiveContentProcessor contentProcessor)
+    {
+        OpenMetadataArchive archiveContents = this.getArchiveContents();
+
+        if (archiveContents == null)
+        {
+            return false;
+        }
+
+        contentProcessor.processArchiveContents(archiveContents);
+
+        return true;
+    }
 }
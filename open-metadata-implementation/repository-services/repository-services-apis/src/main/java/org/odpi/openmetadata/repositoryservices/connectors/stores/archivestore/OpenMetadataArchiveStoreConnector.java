@@ -5,6 +5,9 @@ package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLoggingComponent;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+
+import java.util.Map;
 
 
 /**
@@ -15,6 +18,66 @@ public abstract class OpenMetadataArchiveStoreConnector extends ConnectorBase im
 {
     protected AuditLog auditLog = null;
 
+    private int ingestionThreads   = 1;
+    private int ingestionBatchSize = 1;
+
+
+    /**
+     * Call made by the ConnectorProvider to initialize the Connector with the base services.  The
+     * configuration properties control how the archive's instances are loaded into the local repository.
+     *
+     * @param connectorInstanceId   unique id for the connector instance   useful for messages etc
+     * @param connectionProperties   POJO for the configuration used to create the connector.
+     */
+    @Override
+    public void initialize(String               connectorInstanceId,
+                           ConnectionProperties connectionProperties)
+    {
+        super.initialize(connectorInstanceId, connectionProperties);
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
+        {
+            Object ingestionThreads   = configurationProperties.get(OpenMetadataArchiveStoreProviderBase.ingestionThreadsProperty);
+            Object ingestionBatchSize = configurationProperties.get(OpenMetadataArchiveStoreProviderBase.ingestionBatchSizeProperty);
+
+            if ((ingestionThreads instanceof Integer) && ((Integer)ingestionThreads > 0))
+            {
+                this.ingestionThreads = (Integer)ingestionThreads;
+            }
+
+            if ((ingestionBatchSize instanceof Integer) && ((Integer)ingestionBatchSize > 0))
+            {
+                this.ingestionBatchSize = (Integer)ingestionBatchSize;
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of threads that load the archive's instances into the local repository.
+     * One thread means the instances are loaded by the thread that reads the archive.
+     *
+     * @return thread count
+     */
+    public int getIngestionThreads()
+    {
+        return ingestionThreads;
+    }
+
+
+    /**
+     * Return the maximum number of instances passed to the local repository in each call.
+     * A batch size of one means the instances are passed one at a time.
+     *
+     * @return batch size
+     */
+    public int getIngestionBatchSize()
+    {
+        return ingestionBatchSize;
+    }
+
 
     /**
      * Receive an audit log object that can be used to record audit log messages.  The caller has initialized it
@@ -14,6 +14,13 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
  */
 public abstract class OpenMetadataArchiveStoreProviderBase extends ConnectorProviderBase
 {
+    /*
+     * The number of threads loading the instances from the archive into the local repository, and the number
+     * of instances passed to the repository in each call.
+     */
+    static final String ingestionThreadsProperty   = "ingestionThreads";
+    static final String ingestionBatchSizeProperty = "ingestionBatchSize";
+
     /**
      * Default Constructor
      */
@@ -44,6 +44,48 @@ public interface OMRSAuditLogStore
                                                                RepositoryErrorException;
 
 
+    /**
+     * Store a batch of audit log records in the audit log store.  The default implementation stores
+     * them one at a time.  Stores that can write a batch more efficiently than this should override it.
+     *
+     * @param logRecords  log records to store
+     * @throws InvalidParameterException indicates that one of the log records is invalid.
+     * @throws RepositoryErrorException indicates that the audit log store is not available or has an error.
+     */
+    default void storeLogRecords(List<OMRSAuditLogRecord> logRecords) throws InvalidParameterException,
+                                                                             RepositoryErrorException
+    {
+        for (OMRSAuditLogRecord logRecord : logRecords)
+        {
+            this.storeLogRecord(logRecord);
+        }
+    }
+
+
+    /**
+     * Return the number of log records that may be waiting to be written to this audit log store.
+     * Zero means that the log records are written on the thread that logs them.
+     *
+     * @return queue size
+     */
+    default int getRecordQueueSize()
+    {
+        return 0;
+    }
+
+
+    /**
+     * Return the severities of the log records that are discarded rather than waiting for space
+     * when the queue of log records for this audit log store is full.
+     *
+     * @return list of severity names (see OMRSAuditLogRecordSeverity)
+     */
+    default List<String> getDroppableSeverities()
+    {
+        return null;
+    }
+
+
     /**
      * Retrieve a specific audit log record.
      *
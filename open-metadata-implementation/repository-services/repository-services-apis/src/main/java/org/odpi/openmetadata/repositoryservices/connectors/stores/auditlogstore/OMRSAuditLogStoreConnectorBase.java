@@ -2,19 +2,22 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectorTypeProperties;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogRecordSeverity;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSJSONMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +36,15 @@ public abstract class OMRSAuditLogStoreConnectorBase extends ConnectorBase imple
     private String        destinationName = "<Unknown";
     private List<String>  supportedSeverities = null;
 
+    /*
+     * By default, the log records are queued and written to the store on a separate thread.  When the queue
+     * is full, the low value log records are discarded and the others wait for space.
+     */
+    private int           recordQueueSize     = 10000;
+    private List<String>  droppableSeverities = Arrays.asList(OMRSAuditLogRecordSeverity.TRACE.getName(),
+                                                              OMRSAuditLogRecordSeverity.PERFMON.getName(),
+                                                              OMRSAuditLogRecordSeverity.EVENT.getName());
+
 
     /**
      * Default constructor
@@ -64,6 +76,32 @@ public abstract class OMRSAuditLogStoreConnectorBase extends ConnectorBase imple
     }
 
 
+    /**
+     * Return the number of log records that may be waiting to be written to this audit log store.
+     * Zero means that the log records are written on the thread that logs them.
+     *
+     * @return queue size
+     */
+    @Override
+    public int getRecordQueueSize()
+    {
+        return recordQueueSize;
+    }
+
+
+    /**
+     * Return the severities of the log records that are discarded rather than waiting for space
+     * when the queue of log records for this audit log store is full.
+     *
+     * @return list of severity names (see OMRSAuditLogRecordSeverity)
+     */
+    @Override
+    public List<String> getDroppableSeverities()
+    {
+        return droppableSeverities;
+    }
+
+
     /**
      * Store the audit log record in the audit log store.
      *
@@ -288,11 +326,9 @@ public abstract class OMRSAuditLogStoreConnectorBase extends ConnectorBase imple
     {
         final String parameterName = "logRecord";
 
-        ObjectMapper objectMapper = new ObjectMapper();
-
         try
         {
-            return objectMapper.writeValueAsString(logRecord);
+            return OMRSJSONMapper.writeValue(logRecord);
         }
         catch (Throwable  exc)
         {
@@ -373,7 +409,48 @@ public abstract class OMRSAuditLogStoreConnectorBase extends ConnectorBase imple
                         }
                     }
                 }
+
+                Object recordQueueSizeProperty = configurationProperties.get(OMRSAuditLogStoreProviderBase.recordQueueSizeProperty);
+
+                if ((recordQueueSizeProperty instanceof Integer) && ((Integer)recordQueueSizeProperty >= 0))
+                {
+                    recordQueueSize = (Integer)recordQueueSizeProperty;
+                }
+
+                Object droppableSeveritiesProperty = configurationProperties.get(OMRSAuditLogStoreProviderBase.droppableSeveritiesProperty);
+
+                if (droppableSeveritiesProperty instanceof List)
+                {
+                    droppableSeverities = getStringList((List<?>)droppableSeveritiesProperty);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Copy the string values out of a list supplied in the configuration properties.  Values of other types
+     * are ignored.
+     *
+     * @param propertyValues list from the configuration properties
+     * @return list of strings
+     */
+    private List<String> getStringList(List<?> propertyValues)
+    {
+        List<String> strings = new ArrayList<>();
+
+        for (Object propertyValue : propertyValues)
+        {
+            if (propertyValue instanceof String)
+            {
+                strings.add((String)propertyValue);
+            }
+            else
+            {
+                log.debug("Ignored configuration property value: {}", propertyValue);
             }
         }
+
+        return strings;
     }
 }
@@ -4,6 +4,7 @@ package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacolle
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Future;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -771,6 +772,36 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                        UserNotAuthorizedException;
 
 
+    /**
+     * Returns the entities from a list of GUIDs that are stored in the metadata collection.  This is the batch
+     * version of isEntityKnown and allows a repository to check many entities in a single request.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities
+     * @return map from GUID to entity details for each entity found in the metadata collection; the GUIDs of
+     * entities that are not found (or are only proxies) are not in the map
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support checking a list of entities.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public Map<String, EntityDetail> areEntitiesKnown(String       userId,
+                                                      List<String> guids) throws InvalidParameterException,
+                                                                                 RepositoryErrorException,
+                                                                                 FunctionNotSupportedException,
+                                                                                 UserNotAuthorizedException
+    {
+        final String  methodName = "areEntitiesKnown";
+
+        throw new FunctionNotSupportedException(OMRSErrorCode.METHOD_NOT_IMPLEMENTED.getMessageDefinition(methodName,
+                                                                                                          this.getClass().getName(),
+                                                                                                          repositoryName),
+                                                this.getClass().getName(),
+                                                methodName);
+    }
+
+
     /**
      * Return the header and classifications for a specific entity.  The returned entity summary may be from
      * a full entity object or an entity proxy.
@@ -3006,6 +3037,137 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                                                     FunctionNotSupportedException,
                                                                                                     UserNotAuthorizedException;
 
+    /**
+     * Save a list of entities as reference copies.  The id of the home metadata collection is already set up in
+     * each entity.  This is the batch version of saveEntityReferenceCopy and allows a repository to store many
+     * reference copies in a single request.  The whole list is validated first, so if one of the entities is
+     * invalid then none of them are saved.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entities details of the entities to save.
+     * @throws InvalidParameterException one of the entities is invalid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this entity's type.
+     * @throws HomeEntityException one of the entities belongs to the local repository so creating a reference
+     *                               copy would be invalid.
+     * @throws EntityConflictException one of the new entities conflicts with an existing entity.
+     * @throws InvalidEntityException one of the new entities has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void saveEntityReferenceCopies(String             userId,
+                                          List<EntityDetail> entities) throws InvalidParameterException,
+                                                                              RepositoryErrorException,
+                                                                              TypeErrorException,
+                                                                              PropertyErrorException,
+                                                                              HomeEntityException,
+                                                                              EntityConflictException,
+                                                                              InvalidEntityException,
+                                                                              FunctionNotSupportedException,
+                                                                              UserNotAuthorizedException
+    {
+        final String  methodName = "saveEntityReferenceCopies";
+
+        throw new FunctionNotSupportedException(OMRSErrorCode.METHOD_NOT_IMPLEMENTED.getMessageDefinition(methodName,
+                                                                                                          this.getClass().getName(),
+                                                                                                          repositoryName),
+                                                this.getClass().getName(),
+                                                methodName);
+    }
+
+
+    /**
+     * Save a list of classifications as reference copies.  The id of the home metadata collection is already set up
+     * in each classification.  The entity may be either a locally homed entity or a reference copy.  This is the
+     * batch version of saveClassificationReferenceCopy.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entity entity that the classifications are attached to.
+     * @param classifications classifications to save.
+     *
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityConflictException the new entity conflicts with an existing entity.
+     * @throws InvalidEntityException the new entity has invalid contents.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                characteristics in the TypeDef for this classification type.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     */
+    public void saveClassificationReferenceCopies(String               userId,
+                                                  EntityDetail         entity,
+                                                  List<Classification> classifications) throws InvalidParameterException,
+                                                                                               RepositoryErrorException,
+                                                                                               TypeErrorException,
+                                                                                               EntityConflictException,
+                                                                                               InvalidEntityException,
+                                                                                               PropertyErrorException,
+                                                                                               UserNotAuthorizedException,
+                                                                                               FunctionNotSupportedException
+    {
+        final String  methodName = "saveClassificationReferenceCopies";
+
+        throw new FunctionNotSupportedException(OMRSErrorCode.METHOD_NOT_IMPLEMENTED.getMessageDefinition(methodName,
+                                                                                                          this.getClass().getName(),
+                                                                                                          repositoryName),
+                                                this.getClass().getName(),
+                                                methodName);
+    }
+
+
+    /**
+     * Save a list of relationships as reference copies.  The id of the home metadata collection is already set up
+     * in each relationship.  This is the batch version of saveRelationshipReferenceCopy and allows a repository
+     * to store many reference copies in a single request.  The whole list is validated first, so if one of the
+     * relationships is invalid then none of them are saved.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationships relationships to save.
+     * @throws InvalidParameterException one of the relationships is invalid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityNotKnownException one of the entities identified by a relationship is not found in the
+     *                                   metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this relationship's type.
+     * @throws HomeRelationshipException one of the relationships belongs to the local repository so creating a
+     *                                     reference copy would be invalid.
+     * @throws RelationshipConflictException one of the new relationships conflicts with an existing relationship.
+     * @throws InvalidRelationshipException one of the new relationships has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void saveRelationshipReferenceCopies(String             userId,
+                                                List<Relationship> relationships) throws InvalidParameterException,
+                                                                                         RepositoryErrorException,
+                                                                                         TypeErrorException,
+                                                                                         EntityNotKnownException,
+                                                                                         PropertyErrorException,
+                                                                                         HomeRelationshipException,
+                                                                                         RelationshipConflictException,
+                                                                                         InvalidRelationshipException,
+                                                                                         FunctionNotSupportedException,
+                                                                                         UserNotAuthorizedException
+    {
+        final String  methodName = "saveRelationshipReferenceCopies";
+
+        throw new FunctionNotSupportedException(OMRSErrorCode.METHOD_NOT_IMPLEMENTED.getMessageDefinition(methodName,
+                                                                                                          this.getClass().getName(),
+                                                                                                          repositoryName),
+                                                this.getClass().getName(),
+                                                methodName);
+    }
+
+
     /**
      * Save the entities and relationships supplied in the instance graph as a reference copies.
      * The id of the home metadata collection is already set up in the instances.
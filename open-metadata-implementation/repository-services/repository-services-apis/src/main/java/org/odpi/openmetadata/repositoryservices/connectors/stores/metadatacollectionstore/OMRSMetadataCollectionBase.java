@@ -11,6 +11,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
@@ -1813,6 +1814,38 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Validate the parameters for a retrieve of a list of instances.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the instances.
+     * @param methodName name of calling method.
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     */
+    protected  void getInstanceListParameterValidation(String       userId,
+                                                       List<String> guids,
+                                                       String       methodName) throws InvalidParameterException,
+                                                                                       RepositoryErrorException
+    {
+        final String  guidParameterName = "guids";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+
+        if (guids != null)
+        {
+            for (String guid : guids)
+            {
+                repositoryValidator.validateGUID(repositoryName, guidParameterName, guid, methodName);
+            }
+        }
+    }
+
+
     /**
      * Validate the parameters for a retrieve of a historical version of an instance.
      *
@@ -2616,6 +2649,56 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Returns the entities from a list of GUIDs that are stored in the metadata collection.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities
+     * @return map from GUID to entity details for each entity found in the metadata collection; the GUIDs of
+     * entities that are not found (or are only proxies) are not in the map
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support checking a list of entities.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public Map<String, EntityDetail> areEntitiesKnown(String       userId,
+                                                      List<String> guids) throws InvalidParameterException,
+                                                                                 RepositoryErrorException,
+                                                                                 FunctionNotSupportedException,
+                                                                                 UserNotAuthorizedException
+    {
+        final String  methodName = "areEntitiesKnown";
+
+        /*
+         * Validate parameters
+         */
+        this.getInstanceListParameterValidation(userId, guids, methodName);
+
+        /*
+         * This is a new method - if this method is not overridden in the implementing repository connector,
+         * each entity is checked in turn.
+         */
+        Map<String, EntityDetail> knownEntities = new HashMap<>();
+
+        if (guids != null)
+        {
+            for (String guid : guids)
+            {
+                EntityDetail entity = this.isEntityKnown(userId, guid);
+
+                if (entity != null)
+                {
+                    knownEntities.put(guid, entity);
+                }
+            }
+        }
+
+        return knownEntities;
+    }
+
+
     /**
      * Return the header and classifications for a specific entity.
      *
@@ -5899,6 +5982,42 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Validate the list of instances passed to one of the batch reference copy methods.  Each instance
+     * is validated in turn so that the whole batch is rejected before any of it is stored.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances list of instances to validate.
+     * @param instanceParameterName name of parameter for the list of instances
+     * @param methodName calling method
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    protected void referenceInstanceListParameterValidation(String                         userId,
+                                                            List<? extends InstanceHeader> instances,
+                                                            String                         instanceParameterName,
+                                                            String                         methodName) throws InvalidParameterException,
+                                                                                                              RepositoryErrorException,
+                                                                                                              UserNotAuthorizedException
+    {
+        this.basicRequestValidation(userId, methodName);
+
+        if (instances != null)
+        {
+            for (InstanceHeader instanceHeader : instances)
+            {
+                repositoryValidator.validateReferenceInstanceHeader(repositoryName,
+                                                                    metadataCollectionId,
+                                                                    instanceParameterName,
+                                                                    instanceHeader,
+                                                                    methodName);
+            }
+        }
+    }
+
+
     /**
      * Save the entity as a reference copy.  The id of the home metadata collection is already set up in the
      * entity.
@@ -6553,6 +6672,286 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
         reportUnsupportedOptionalFunction(methodName);
     }
 
+    /**
+     * Save a list of entities as reference copies.  The id of the home metadata collection is already set up in
+     * each entity.  The whole list is validated first, so if one of the entities is invalid then none of them
+     * are saved.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entities details of the entities to save.
+     * @throws InvalidParameterException one of the entities is invalid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this entity's type.
+     * @throws HomeEntityException one of the entities belongs to the local repository so creating a reference
+     *                               copy would be invalid.
+     * @throws EntityConflictException one of the new entities conflicts with an existing entity.
+     * @throws InvalidEntityException one of the new entities has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveEntityReferenceCopies(String             userId,
+                                          List<EntityDetail> entities) throws InvalidParameterException,
+                                                                              RepositoryErrorException,
+                                                                              TypeErrorException,
+                                                                              PropertyErrorException,
+                                                                              HomeEntityException,
+                                                                              EntityConflictException,
+                                                                              InvalidEntityException,
+                                                                              FunctionNotSupportedException,
+                                                                              UserNotAuthorizedException
+    {
+        final String  methodName = "saveEntityReferenceCopies";
+        final String  instanceParameterName = "entities";
+
+        /*
+         * Validate parameters
+         */
+        this.referenceInstanceListParameterValidation(userId, entities, instanceParameterName, methodName);
+
+        /*
+         * This is a new method - if this method is not overridden in the implementing repository connector,
+         * each entity is saved in turn.
+         */
+        if (entities != null)
+        {
+            for (EntityDetail entity : entities)
+            {
+                this.saveEntityReferenceCopy(userId, entity);
+            }
+        }
+    }
+
+
+    /**
+     * Save a list of classifications as reference copies.  The id of the home metadata collection is already set up
+     * in each classification.  The entity may be either a locally homed entity or a reference copy.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entity entity that the classifications are attached to.
+     * @param classifications classifications to save.
+     *
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityConflictException the new entity conflicts with an existing entity.
+     * @throws InvalidEntityException the new entity has invalid contents.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                characteristics in the TypeDef for this classification type.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     */
+    @Override
+    public void saveClassificationReferenceCopies(String               userId,
+                                                  EntityDetail         entity,
+                                                  List<Classification> classifications) throws InvalidParameterException,
+                                                                                               RepositoryErrorException,
+                                                                                               TypeErrorException,
+                                                                                               EntityConflictException,
+                                                                                               InvalidEntityException,
+                                                                                               PropertyErrorException,
+                                                                                               UserNotAuthorizedException,
+                                                                                               FunctionNotSupportedException
+    {
+        final String  methodName = "saveClassificationReferenceCopies";
+
+        /*
+         * Validate parameters
+         */
+        this.basicRequestValidation(userId, methodName);
+
+        /*
+         * This is a new method - if this method is not overridden in the implementing repository connector,
+         * each classification is saved in turn.
+         */
+        if (classifications != null)
+        {
+            for (Classification classification : classifications)
+            {
+                if (classification != null)
+                {
+                    this.saveClassificationReferenceCopy(userId, entity, classification);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Save a list of relationships as reference copies.  The id of the home metadata collection is already set up
+     * in each relationship.  The whole list is validated first, so if one of the relationships is invalid then
+     * none of them are saved.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationships relationships to save.
+     * @throws InvalidParameterException one of the relationships is invalid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityNotKnownException one of the entities identified by a relationship is not found in the
+     *                                   metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this relationship's type.
+     * @throws HomeRelationshipException one of the relationships belongs to the local repository so creating a
+     *                                     reference copy would be invalid.
+     * @throws RelationshipConflictException one of the new relationships conflicts with an existing relationship.
+     * @throws InvalidRelationshipException one of the new relationships has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveRelationshipReferenceCopies(String             userId,
+                                                List<Relationship> relationships) throws InvalidParameterException,
+                                                                                         RepositoryErrorException,
+                                                                                         TypeErrorException,
+                                                                                         EntityNotKnownException,
+                                                                                         PropertyErrorException,
+                                                                                         HomeRelationshipException,
+                                                                                         RelationshipConflictException,
+                                                                                         InvalidRelationshipException,
+                                                                                         FunctionNotSupportedException,
+                                                                                         UserNotAuthorizedException
+    {
+        final String  methodName = "saveRelationshipReferenceCopies";
+        final String  instanceParameterName = "relationships";
+
+        /*
+         * Validate parameters
+         */
+        this.referenceInstanceListParameterValidation(userId, relationships, instanceParameterName, methodName);
+
+        /*
+         * This is a new method - if this method is not overridden in the implementing repository connector,
+         * each relationship is saved in turn.
+         */
+        if (relationships != null)
+        {
+            for (Relationship relationship : relationships)
+            {
+                this.saveRelationshipReferenceCopy(userId, relationship);
+            }
+        }
+    }
+
+
+    /**
+     * Save the entities and relationships supplied in the instance graph as a reference copies.
+     * The id of the home metadata collection is already set up in the instances.
+     * Any instances from the home metadata collection are ignored.  The entities and then the
+     * relationships are passed to the batch reference copy methods.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances instances to save.
+     * @throws InvalidParameterException the relationship is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityNotKnownException one of the entities identified by the relationship is not found in the
+     *                                   metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this relationship's type.
+     * @throws EntityConflictException the new entity conflicts with an existing entity.
+     * @throws InvalidEntityException the new entity has invalid contents.
+     * @throws RelationshipConflictException the new relationship conflicts with an existing relationship.
+     * @throws InvalidRelationshipException the new relationship has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveInstanceReferenceCopies(String          userId,
+                                            InstanceGraph   instances) throws InvalidParameterException,
+                                                                              RepositoryErrorException,
+                                                                              TypeErrorException,
+                                                                              EntityNotKnownException,
+                                                                              PropertyErrorException,
+                                                                              EntityConflictException,
+                                                                              RelationshipConflictException,
+                                                                              InvalidEntityException,
+                                                                              InvalidRelationshipException,
+                                                                              FunctionNotSupportedException,
+                                                                              UserNotAuthorizedException
+    {
+        final String methodName = "saveInstanceReferenceCopies";
+
+        if (instances != null)
+        {
+            try
+            {
+                if (instances.getEntities() != null)
+                {
+                    List<EntityDetail> entities = new ArrayList<>();
+
+                    for (EntityDetail entity : instances.getEntities())
+                    {
+                        if ((entity != null) && (! metadataCollectionId.equals(entity.getMetadataCollectionId())))
+                        {
+                            entities.add(entity);
+                        }
+                    }
+
+                    if (! entities.isEmpty())
+                    {
+                        this.saveEntityReferenceCopies(userId, entities);
+                    }
+                }
+
+                if (instances.getRelationships() != null)
+                {
+                    List<Relationship> relationships = new ArrayList<>();
+
+                    for (Relationship relationship : instances.getRelationships())
+                    {
+                        if ((relationship != null) && (! metadataCollectionId.equals(relationship.getMetadataCollectionId())))
+                        {
+                            relationships.add(relationship);
+                        }
+                    }
+
+                    if (! relationships.isEmpty())
+                    {
+                        this.saveRelationshipReferenceCopies(userId, relationships);
+                    }
+                }
+            }
+            catch (HomeEntityException exception)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logException(methodName, OMRSAuditCode.INVALID_INSTANCES.getMessageDefinition(exception.getClass().getName(),
+                                                                                                           exception.getReportedErrorMessage()),
+                                          exception);
+                }
+
+                throw new InvalidEntityException(OMRSErrorCode.INVALID_INSTANCES.getMessageDefinition(exception.getClass().getName(),
+                                                                                                      exception.getReportedErrorMessage()),
+                                                 this.getClass().getName(),
+                                                 methodName);
+            }
+            catch (HomeRelationshipException exception)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logException(methodName, OMRSAuditCode.INVALID_INSTANCES.getMessageDefinition(exception.getClass().getName(),
+                                                                                                           exception.getReportedErrorMessage()),
+                                          exception);
+                }
+
+                throw new InvalidRelationshipException(OMRSErrorCode.INVALID_INSTANCES.getMessageDefinition(exception.getClass().getName(),
+                                                                                                            exception.getReportedErrorMessage()),
+                                                       this.getClass().getName(),
+                                                       methodName);
+            }
+        }
+    }
+
 
     /**
      * Extract the typeDef for an instance
@@ -0,0 +1,178 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OMRSJSONMapper provides the JSON serialization used on the event and repository store paths.  Creating an
+ * ObjectMapper is expensive because Jackson builds up its knowledge of each class the first time it is used.
+ * This class holds a single ObjectMapper and the readers and writers for the most commonly used beans
+ * so that this work is only done once.  The ObjectReader and ObjectWriter objects are immutable and so they
+ * can be used by many threads at the same time.
+ */
+public class OMRSJSONMapper
+{
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final ObjectReader eventReader              = objectMapper.readerFor(OMRSEventBean.class);
+    private static final ObjectWriter eventWriter              = objectMapper.writerFor(OMRSEventV1.class);
+    private static final ObjectReader instancePropertiesReader = objectMapper.readerFor(InstanceProperties.class);
+    private static final ObjectWriter instancePropertiesWriter = objectMapper.writerFor(InstanceProperties.class);
+    private static final ObjectReader stringListReader         = objectMapper.readerFor(new TypeReference<List<String>>() {});
+    private static final ObjectReader serializableMapReader    = objectMapper.readerFor(new TypeReference<Map<String, Serializable>>() {});
+    private static final ObjectWriter defaultWriter            = objectMapper.writer();
+
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+
+    /**
+     * Private constructor since all of the methods are static.
+     */
+    private OMRSJSONMapper()
+    {
+    }
+
+
+    /**
+     * Return the shared object mapper.  It must not be reconfigured by the caller since it is used throughout
+     * the server.
+     *
+     * @return object mapper
+     */
+    public static ObjectMapper getObjectMapper()
+    {
+        return objectMapper;
+    }
+
+
+    /**
+     * Return a reader for the requested class.  The readers are cached.
+     *
+     * @param beanClass class of the Java bean.
+     * @return object reader
+     */
+    public static ObjectReader getReader(Class<?> beanClass)
+    {
+        return readers.computeIfAbsent(beanClass, objectMapper::readerFor);
+    }
+
+
+    /**
+     * Parse a JSON string into a Java bean.
+     *
+     * @param json JSON string
+     * @param beanClass class of the Java bean.
+     * @param <T> the name of the class
+     * @return Java bean
+     * @throws JsonProcessingException the string could not be parsed
+     */
+    public static <T> T readValue(String   json,
+                                  Class<T> beanClass) throws JsonProcessingException
+    {
+        return getReader(beanClass).readValue(json);
+    }
+
+
+    /**
+     * Convert an object into a JSON string.
+     *
+     * @param value object to convert
+     * @return JSON string
+     * @throws JsonProcessingException the object could not be converted
+     */
+    public static String writeValue(Object value) throws JsonProcessingException
+    {
+        return defaultWriter.writeValueAsString(value);
+    }
+
+
+    /**
+     * Parse an OMRS event.
+     *
+     * @param event event as a JSON string
+     * @return event bean
+     * @throws JsonProcessingException the string could not be parsed
+     */
+    public static OMRSEventBean readEvent(String event) throws JsonProcessingException
+    {
+        return eventReader.readValue(event);
+    }
+
+
+    /**
+     * Convert an OMRS event into a JSON string.
+     *
+     * @param event event bean
+     * @return JSON string
+     * @throws JsonProcessingException the event could not be converted
+     */
+    public static String writeEvent(OMRSEventV1 event) throws JsonProcessingException
+    {
+        return eventWriter.writeValueAsString(event);
+    }
+
+
+    /**
+     * Parse the properties of an instance.
+     *
+     * @param properties properties as a JSON string
+     * @return instance properties
+     * @throws JsonProcessingException the string could not be parsed
+     */
+    public static InstanceProperties readInstanceProperties(String properties) throws JsonProcessingException
+    {
+        return instancePropertiesReader.readValue(properties);
+    }
+
+
+    /**
+     * Convert the properties of an instance into a JSON string.
+     *
+     * @param properties instance properties
+     * @return JSON string
+     * @throws JsonProcessingException the properties could not be converted
+     */
+    public static String writeInstanceProperties(InstanceProperties properties) throws JsonProcessingException
+    {
+        return instancePropertiesWriter.writeValueAsString(properties);
+    }
+
+
+    /**
+     * Parse a list of strings, such as the maintainedBy list of an instance.
+     *
+     * @param list list as a JSON string
+     * @return list of strings
+     * @throws JsonProcessingException the string could not be parsed
+     */
+    public static List<String> readStringList(String list) throws JsonProcessingException
+    {
+        return stringListReader.readValue(list);
+    }
+
+
+    /**
+     * Parse a map of serializable values, such as the mapping properties of an instance.
+     *
+     * @param map map as a JSON string
+     * @return map of property names to values
+     * @throws JsonProcessingException the string could not be parsed
+     */
+    public static Map<String, Serializable> readSerializableMap(String map) throws JsonProcessingException
+    {
+        return serializableMapReader.readValue(map);
+    }
+}
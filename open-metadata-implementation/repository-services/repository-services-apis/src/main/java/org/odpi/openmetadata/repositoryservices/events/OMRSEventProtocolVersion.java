@@ -12,15 +12,17 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 
 /**
- * OMRSEventProtocolVersion provides the identifier for the version number of the event payload.  There is
- * only one version at the moment which is why it looks a little sad.
+ * OMRSEventProtocolVersion provides the identifier for the version number of the event payload.  V1_COMPACT
+ * sends the same V1 event payload in a compressed form.  It is only used when all of the members of the
+ * cohort have advertised that they can receive it.  Otherwise V1 events are sent.
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonIgnoreProperties(ignoreUnknown=true)
 public enum OMRSEventProtocolVersion implements Serializable
 {
-    V1 (1, "OMRS V1.0", "OMRS Version 1");
+    V1         (1, "OMRS V1.0", "OMRS Version 1"),
+    V1_COMPACT (2, "OMRS V1.0 Compact", "OMRS Version 1 in compact form when every cohort member supports it");
 
     private static final long     serialVersionUID = 1L;
 
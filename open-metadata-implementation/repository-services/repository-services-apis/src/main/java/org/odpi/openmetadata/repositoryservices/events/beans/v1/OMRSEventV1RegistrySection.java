@@ -10,6 +10,7 @@ import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEventType;
 
 import java.io.Serializable;
 import java.util.Date;
+import java.util.List;
 
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
@@ -28,6 +29,7 @@ public class OMRSEventV1RegistrySection implements Serializable
     private Date                  registrationTimestamp  = null;
     private String                metadataCollectionName = null;
     private Connection            remoteConnection       = null;
+    private List<String>          eventProtocolVersions  = null;
 
 
     public OMRSEventV1RegistrySection()
@@ -83,6 +85,29 @@ public class OMRSEventV1RegistrySection implements Serializable
     }
 
 
+    /**
+     * Return the names of the event protocol versions that the sending server is able to receive.
+     * This is null for servers that only support V1 events.
+     *
+     * @return list of OMRSEventProtocolVersion names
+     */
+    public List<String> getEventProtocolVersions()
+    {
+        return eventProtocolVersions;
+    }
+
+
+    /**
+     * Set up the names of the event protocol versions that the sending server is able to receive.
+     *
+     * @param eventProtocolVersions list of OMRSEventProtocolVersion names
+     */
+    public void setEventProtocolVersions(List<String> eventProtocolVersions)
+    {
+        this.eventProtocolVersions = eventProtocolVersions;
+    }
+
+
     /**
      * JSON-style toString.
      *
@@ -96,6 +121,7 @@ public class OMRSEventV1RegistrySection implements Serializable
                        ", registrationTimestamp=" + registrationTimestamp +
                        ", metadataCollectionName='" + metadataCollectionName + '\'' +
                        ", remoteConnection=" + remoteConnection +
+                       ", eventProtocolVersions=" + eventProtocolVersions +
                        '}';
     }
 }
@@ -341,6 +341,14 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                       "The connector will not be able to support access to the open metadata repositories connected via the cohort.",
                       "Review the message to discover why the connector failed to start."),
 
+    FEDERATED_REQUEST_TIMEOUT("OMRS-AUDIT-0044",
+                      OMRSAuditLogRecordSeverity.ERROR,
+                      "The {0} request to the open metadata repository with metadata collection {1} did not complete within {2} milliseconds",
+                      "The enterprise OMRS connector cancelled the request to this repository and returned the results from the " +
+                                      "other members of the cohort.  The results of the federated query may be incomplete.",
+                      "Validate that the repository is running and is not overloaded.  If it is routinely slow then " +
+                                      "increase the federationTimeout configuration property of the enterprise connector."),
+
     PROCESSING_ARCHIVE("OMRS-AUDIT-0050",
                        OMRSAuditLogRecordSeverity.INFO,
                        "The Open Metadata Repository Services (OMRS) is about to process open metadata archive {0}",
@@ -370,6 +378,34 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                        "The local server has completed the processing of the open metadata archive.",
                        "Verify that the expected content has loaded into the local repository."),
 
+    ARCHIVE_LOAD_PROGRESS("OMRS-AUDIT-0054",
+                       OMRSAuditLogRecordSeverity.INFO,
+                       "The Open Metadata Repository Services (OMRS) has loaded {0} instances from open metadata archive {1} at {2} instances per second",
+                       "The local server is loading the instances from an open metadata archive into the local repository.  " +
+                               "The number of instances in the archive is not known so the time to complete the load can not be estimated.",
+                       "No action is required.  The load rate can be compared with earlier loads of the archive to detect " +
+                               "a slow local repository."),
+
+    ARCHIVE_LOAD_ESTIMATE("OMRS-AUDIT-0055",
+                       OMRSAuditLogRecordSeverity.INFO,
+                       "The Open Metadata Repository Services (OMRS) has loaded {0} of the {1} instances from open metadata archive {2} at {3} " +
+                               "instances per second and expects to complete the load in {4} seconds",
+                       "The local server is loading the instances from an open metadata archive into the local repository.  " +
+                               "The expected completion time is based on the load rate so far.",
+                       "No action is required unless the load is taking too long.  In that case, consider increasing the " +
+                               "ingestionThreads and ingestionBatchSize configuration properties of the archive's connection."),
+
+    PARALLEL_ARCHIVE_LOAD("OMRS-AUDIT-0056",
+                       OMRSAuditLogRecordSeverity.INFO,
+                       "The Open Metadata Repository Services (OMRS) is loading the instances from open metadata archive {0} using {1} " +
+                               "threads with up to {2} instances passed to the local repository in each call",
+                       "The local server is loading the instances from an open metadata archive in parallel.  Entities are " +
+                               "loaded before the relationships that follow them in the archive and each instance is always " +
+                               "loaded by the same thread.",
+                       "Validate that the local repository supports this number of concurrent requests.  The number of threads " +
+                               "and the batch size are set in the ingestionThreads and ingestionBatchSize configuration properties " +
+                               "of the archive's connection."),
+
     REGISTERED_WITH_COHORT("OMRS-AUDIT-0060",
                            OMRSAuditLogRecordSeverity.COHORT,
                            "Registering with open metadata repository cohort {0} using metadata collection id {1}",
@@ -407,6 +443,15 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                          "The local server has started up the logging destinations defined in the configuration document.",
                          "Validate that all of the logging destinations are working."),
 
+    COHORT_EVENT_PROTOCOL_CHANGED("OMRS-AUDIT-0065",
+                         OMRSAuditLogRecordSeverity.COHORT,
+                         "The OMRS Topic Connector for cohort topic {0} is now sending events using event protocol {1}",
+                         "The local server has been configured to send compact events and has checked which event " +
+                                 "protocols the known members of the cohort are able to receive.  Compact events are only sent " +
+                                 "when all of these members have advertised that they can receive them.",
+                         "No action is required.  This is part of the normal operation of the server.  If events are not being " +
+                                 "sent in compact form, check for cohort members that are running at an earlier level."),
+
     EVENT_PARSING_ERROR("OMRS-AUDIT-0100",
                       OMRSAuditLogRecordSeverity.EXCEPTION,
                       "Unable parse an incoming event {0} due to exception {1}",
@@ -913,6 +958,15 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                              "First check the caller to ensure it is working as expected.  " +
                              "Then investigate the source of the type and any other errors."),
 
+    LOCAL_INSTANCES_IN_BATCH("OMRS-AUDIT-0318",
+                     OMRSAuditLogRecordSeverity.ACTION,
+                     "The local server method {0} has skipped {1} instances from {2} ({3}) because they are homed in the local repository: {4}",
+                     "The instances in a batch that belong to the local repository are not saved as reference copies.  The other " +
+                             "instances in the batch are processed as normal.",
+                     "Check whether the sender should be sharing copies of instances that are homed in this server's repository.  " +
+                             "This can occur when an archive is loaded into the server that created it or when another server " +
+                             "returns instances it received from this server."),
+
     PROCESS_UNKNOWN_EVENT("OMRS-AUDIT-8001",
                       OMRSAuditLogRecordSeverity.ERROR,
                       "Received unknown event: {0}",
@@ -1083,7 +1137,36 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                       OMRSAuditLogRecordSeverity.EXCEPTION,
                       "The type definition event processor for the {0} service caught an unexpected exception {1} with message {2}",
                      "The contents of the type were not accepted by the topic listener.",
-                      "Review the exception and resolve the issue with the type that it documents.")
+                      "Review the exception and resolve the issue with the type that it documents."),
+
+    IN_MEMORY_SNAPSHOT_FAILED("OMRS-AUDIT-9020",
+                      OMRSAuditLogRecordSeverity.EXCEPTION,
+                      "The in-memory repository {0} was unable to write a snapshot of its instances to directory {1}.  The exception was {2} with message {3}",
+                      "The change log is kept so no changes are lost.  The snapshot is retried after the next batch of changes.",
+                      "Review the exception and check that the directory is writable and has free space.  " +
+                              "The change log grows, and so does the time to restart the server, until a snapshot succeeds."),
+
+    BATCH_SAVE_FAILED("OMRS-AUDIT-9021",
+                      OMRSAuditLogRecordSeverity.EXCEPTION,
+                      "The local repository was unable to save a batch of {0} reference copies received by {1} from {2} ({3}).  " +
+                              "The exception was {4} with message {5}",
+                      "The instances in the batch are saved one at a time so only the instances that cause the problem are rejected.",
+                      "Review the exception and the errors reported for the individual instances that follow it."),
+
+    ARCHIVE_BATCH_LOAD_FAILED("OMRS-AUDIT-9022",
+                      OMRSAuditLogRecordSeverity.EXCEPTION,
+                      "A batch of {0} instances from open metadata archive {1} could not be loaded.  The exception was {2} with message {3}",
+                      "The instances in the batch are passed to the local repository one at a time so only the instances that " +
+                              "cause the problem are rejected.  The rest of the archive continues to load.",
+                      "Review the exception and any errors reported for the individual instances.  Once the cause is fixed, " +
+                              "reload the archive to add the missing instances."),
+
+    ARCHIVE_INSTANCE_LOAD_FAILED("OMRS-AUDIT-9023",
+                      OMRSAuditLogRecordSeverity.EXCEPTION,
+                      "Instance {0} from open metadata archive {1} could not be loaded.  The exception was {2} with message {3}",
+                      "The instance is not added to the local repository.  The rest of the archive continues to load.",
+                      "Review the exception and correct the instance in the archive or the problem in the local repository.  " +
+                              "Then reload the archive to add the missing instance.")
 
 
     ;
@@ -562,6 +562,10 @@ public enum OMRSErrorCode implements ExceptionMessageSet
             "The system is unable to store the log record to this destination because it is not able to" +
                                               " convert its contents into a suitable format.",
             "Investigate and correct the cause of the conversion failure."),
+    INVALID_AUDIT_LOG_PAGING(400, "OMRS-AUDIT-LOG-400-009",
+            "The Audit Log destination {0} has been passed an offset of {1} and a maximum number of records of {2} on the {3} request",
+            "The system is unable to process the query request because neither value may be negative.",
+            "Change the offset and maximum number of records on the audit log query to zero or positive values and retry the request."),
     REPOSITORY_NOT_AVAILABLE(404, "OMRS-REPOSITORY-404-001",
             "The open metadata repository connector for server {0} is not active and is unable to service the {1} request",
             "The system is unable to retrieve any metadata properties from this repository.",
@@ -807,6 +811,10 @@ public enum OMRSErrorCode implements ExceptionMessageSet
              "Connector {0} is unable to send a null event",
              "There is an internal problem in the open metadata repository code logic.",
              "Report this to the Egeria team via a GitHub issue so that it can be checked and fixed."),
+    IN_MEMORY_STORE_IO_ERROR(500, "OMRS-IN-MEMORY-REPOSITORY-500-001",
+             "The in-memory repository {0} is unable to {1} its persistent store in directory {2}.  The exception message was: {3}",
+             "The repository can not keep its stored instances consistent with the files in the storage directory.",
+             "Check that the directory exists, is writable by the server and has free space.  Then restart the server."),
     METHOD_NOT_IMPLEMENTED(501, "OMRS-METADATA-COLLECTION-501-001",
             "OMRSMetadataInstanceStore method {0} for OMRS Connector {1} to repository type {2} is not implemented",
             "A method in MetadataCollectionBase was called which means that the connector's OMRSMetadataInstanceStore " +
@@ -0,0 +1,162 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.rest.properties;
+
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * ClassificationListWithEntityRequest carries a list of classifications that have changed along with their entity.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class ClassificationListWithEntityRequest extends OMRSAPIRequest
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<Classification> classifications = null;
+    private EntityDetail         entity          = null;
+
+
+    /**
+     * Default constructor
+     */
+    public ClassificationListWithEntityRequest()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public ClassificationListWithEntityRequest(ClassificationListWithEntityRequest template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.classifications          = template.getClassifications();
+            this.entity                   = template.getEntity();
+        }
+    }
+
+
+    /**
+     * Return the list of classifications.
+     *
+     * @return list of Classification objects
+     */
+    public List<Classification> getClassifications()
+    {
+        if (classifications == null)
+        {
+            return null;
+        }
+        else if (classifications.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(classifications);
+        }
+    }
+
+
+    /**
+     * Set up the list of classifications.
+     *
+     * @param classifications list of Classification objects
+     */
+    public void setClassifications(List<Classification> classifications)
+    {
+        this.classifications = classifications;
+    }
+
+
+    /**
+     * Return the entity where the classifications belong.
+     *
+     * @return full entity
+     */
+    public EntityDetail getEntity()
+    {
+        return entity;
+    }
+
+
+    /**
+     * Set up the entity where the classifications belong.
+     *
+     * @param entity full entity
+     */
+    public void setEntity(EntityDetail entity)
+    {
+        this.entity = entity;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "ClassificationListWithEntityRequest{" +
+                "classifications=" + classifications +
+                ", entity=" + entity +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        ClassificationListWithEntityRequest that = (ClassificationListWithEntityRequest) objectToCompare;
+        return Objects.equals(classifications, that.classifications) &&
+                Objects.equals(entity, that.entity);
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getClassifications(), getEntity());
+    }
+}
@@ -0,0 +1,155 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreConnectorBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreProviderBase;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Validate that the dispatcher writes log records in batches, discards droppable log records when its
+ * queue is full and writes out the queued log records when it is shut down.
+ */
+public class TestOMRSAuditLogStoreDispatcher
+{
+    @Test
+    void testQueueFull() throws Exception
+    {
+        TestAuditLogStore           auditLogStore = new TestAuditLogStore(2);
+        OMRSAuditLogStoreDispatcher dispatcher    = new OMRSAuditLogStoreDispatcher(auditLogStore);
+
+        /*
+         * The first log record holds up the writer thread so the next two fill the queue.
+         */
+        dispatcher.addLogRecord(getLogRecord("guid0", "Information"));
+        assertTrue(auditLogStore.writing.await(10, TimeUnit.SECONDS));
+
+        dispatcher.addLogRecord(getLogRecord("guid1", "Information"));
+        dispatcher.addLogRecord(getLogRecord("guid2", "Error"));
+        dispatcher.addLogRecord(getLogRecord("guid3", "Trace"));
+        dispatcher.addLogRecord(getLogRecord("guid4", "Event"));
+
+        assertEquals(dispatcher.getDroppedRecordCount(), 2);
+
+        auditLogStore.release.countDown();
+        dispatcher.shutdown();
+
+        assertEquals(auditLogStore.batches.size(), 2);
+        assertEquals(auditLogStore.batches.get(0), Collections.singletonList("guid0"));
+        assertEquals(auditLogStore.batches.get(1), Arrays.asList("guid1", "guid2"));
+
+        /*
+         * Once the dispatcher is shut down, log records are written straight away.
+         */
+        dispatcher.addLogRecord(getLogRecord("guid5", "Trace"));
+
+        assertEquals(auditLogStore.batches.size(), 3);
+        assertEquals(auditLogStore.batches.get(2), Collections.singletonList("guid5"));
+    }
+
+
+    @Test
+    void testNoQueue()
+    {
+        TestAuditLogStore           auditLogStore = new TestAuditLogStore(0);
+        OMRSAuditLogStoreDispatcher dispatcher    = new OMRSAuditLogStoreDispatcher(auditLogStore);
+
+        auditLogStore.release.countDown();
+        dispatcher.addLogRecord(getLogRecord("guid0", "Trace"));
+
+        assertEquals(auditLogStore.batches.size(), 1);
+
+        dispatcher.shutdown();
+    }
+
+
+    /**
+     * Create a log record.
+     *
+     * @param guid unique identifier of the log record
+     * @param severity severity of the log record
+     * @return log record
+     */
+    private OMRSAuditLogRecord getLogRecord(String guid,
+                                            String severity)
+    {
+        OMRSAuditLogRecord logRecord = new OMRSAuditLogRecord();
+
+        logRecord.setGUID(guid);
+        logRecord.setSeverity(severity);
+
+        return logRecord;
+    }
+
+
+    /**
+     * TestAuditLogStore remembers the unique identifiers of each batch of log records.  It waits to be
+     * released before storing any log records.
+     */
+    private static class TestAuditLogStore extends OMRSAuditLogStoreConnectorBase
+    {
+        final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch     writing = new CountDownLatch(1);
+        final CountDownLatch     release = new CountDownLatch(1);
+
+        TestAuditLogStore(int recordQueueSize)
+        {
+            Connection          connection = new Connection();
+            Map<String, Object> properties = new HashMap<>();
+
+            properties.put(OMRSAuditLogStoreProviderBase.recordQueueSizeProperty, recordQueueSize);
+            connection.setDisplayName("Test");
+            connection.setConfigurationProperties(properties);
+
+            super.initialize("TestConnector", new ConnectionProperties(connection));
+        }
+
+        @Override
+        public String storeLogRecord(OMRSAuditLogRecord logRecord)
+        {
+            this.storeLogRecords(Collections.singletonList(logRecord));
+
+            return logRecord.getGUID();
+        }
+
+        @Override
+        public void storeLogRecords(List<OMRSAuditLogRecord> logRecords)
+        {
+            writing.countDown();
+
+            try
+            {
+                release.await();
+            }
+            catch (InterruptedException wakeUp)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            List<String> batch = new ArrayList<>();
+
+            for (OMRSAuditLogRecord logRecord : logRecords)
+            {
+                batch.add(logRecord.getGUID());
+            }
+
+            batches.add(batch);
+        }
+    }
+}
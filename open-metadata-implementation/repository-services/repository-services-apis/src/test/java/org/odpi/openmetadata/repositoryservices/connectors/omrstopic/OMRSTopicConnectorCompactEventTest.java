@@ -0,0 +1,322 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSJSONMapper;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventProtocolVersion;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEventType;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1InstanceSection;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1RegistrySection;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Validate the compact event encoding and that the OMRSTopicConnector only sends compact events when all of the
+ * known members of the cohort have advertised that they can receive them.
+ */
+public class OMRSTopicConnectorCompactEventTest
+{
+    private static final String entityGUID = "6a0e5c31-5ddd-4e4e-a7f8-3e7c66b2e8d1";
+
+
+    @Test
+    public void testEncoding() throws Exception
+    {
+        String jsonEvent    = OMRSJSONMapper.writeEvent(getInstanceEvent("server1"));
+        String compactEvent = OMRSCompactEventEncoder.encode(jsonEvent);
+
+        assertTrue(OMRSCompactEventEncoder.isCompactEvent(compactEvent));
+        assertFalse(OMRSCompactEventEncoder.isCompactEvent(jsonEvent));
+        assertEquals(OMRSCompactEventEncoder.decode(compactEvent), jsonEvent);
+
+        /*
+         * The guid is visible so the event bus connector can keep the events for the instance in order.
+         */
+        assertTrue(compactEvent.contains("\"guid\":\"" + entityGUID + "\""));
+        assertTrue(compactEvent.length() * 3 < jsonEvent.length(), compactEvent.length() + " " + jsonEvent.length());
+    }
+
+
+    @Test
+    public void testOversizedEvent() throws Exception
+    {
+        char[] padding = new char[OMRSCompactEventEncoder.DEFAULT_MAX_EVENT_SIZE];
+        Arrays.fill(padding, ' ');
+
+        String jsonEvent = OMRSJSONMapper.writeEvent(getInstanceEvent("server1"));
+
+        assertDecodeFails(OMRSCompactEventEncoder.encode(jsonEvent + new String(padding)));
+
+        try
+        {
+            OMRSCompactEventEncoder.decode(OMRSCompactEventEncoder.encode(jsonEvent), jsonEvent.length() - 1);
+
+            fail("Event larger than the maximum should have been rejected");
+        }
+        catch (DataFormatException error)
+        {
+            assertTrue(error.getMessage().contains("inflates to more than"), error.getMessage());
+        }
+    }
+
+
+    @Test(timeOut = 10000)
+    public void testMalformedEvents() throws Exception
+    {
+        String compactEvent = OMRSCompactEventEncoder.encode(OMRSJSONMapper.writeEvent(getInstanceEvent("server1")));
+        int    eventStart   = compactEvent.indexOf("\"event\":\"") + "\"event\":\"".length();
+        byte[] deflated     = Base64.getDecoder().decode(compactEvent.substring(eventStart, compactEvent.length() - 2));
+
+        assertDecodeFails(compactEvent.substring(0, eventStart) + "not*base64\"}");
+        assertDecodeFails(compactEvent.substring(0, eventStart) +
+                                  Base64.getEncoder().encodeToString(Arrays.copyOf(deflated, deflated.length / 2)) + "\"}");
+
+        byte[] corrupted = Arrays.copyOf(deflated, deflated.length);
+        for (int i = 6; i < corrupted.length; i++)
+        {
+            corrupted[i] = (byte) 0xff;
+        }
+        assertDecodeFails(compactEvent.substring(0, eventStart) + Base64.getEncoder().encodeToString(corrupted) + "\"}");
+
+        Deflater deflater = new Deflater();
+        deflater.setDictionary("a different dictionary".getBytes(StandardCharsets.UTF_8));
+        deflater.setInput("{}".getBytes(StandardCharsets.UTF_8));
+        deflater.finish();
+        byte[] otherDictionary = new byte[256];
+        int    length          = deflater.deflate(otherDictionary);
+        deflater.end();
+        assertDecodeFails(compactEvent.substring(0, eventStart) +
+                                  Base64.getEncoder().encodeToString(Arrays.copyOf(otherDictionary, length)) + "\"}");
+    }
+
+
+    private void assertDecodeFails(String compactEvent)
+    {
+        try
+        {
+            OMRSCompactEventEncoder.decode(compactEvent);
+
+            fail("Malformed compact event should have been rejected");
+        }
+        catch (DataFormatException error)
+        {
+            // expected
+        }
+    }
+
+
+    @Test
+    public void testNegotiation() throws Exception
+    {
+        TestTopicConnector eventBus       = new TestTopicConnector();
+        OMRSTopicConnector topicConnector = new OMRSTopicConnector();
+
+        topicConnector.setEventProtocolLevel(OMRSEventProtocolVersion.V1_COMPACT);
+        topicConnector.initializeEmbeddedConnectors(Collections.singletonList(eventBus));
+        topicConnector.start();
+
+        /*
+         * No members are known so JSON is used.
+         */
+        topicConnector.sendInstanceEvent(new OMRSInstanceEvent(getInstanceEvent("local")));
+        assertFalse(OMRSCompactEventEncoder.isCompactEvent(eventBus.getLastEvent()));
+
+        /*
+         * All of the known members support compact events.
+         */
+        topicConnector.processEvent(OMRSJSONMapper.writeEvent(getRegistryEvent("local", OMRSEventProtocolVersion.V1.getName(),
+                                                                               OMRSEventProtocolVersion.V1_COMPACT.getName())));
+        topicConnector.processEvent(OMRSJSONMapper.writeEvent(getRegistryEvent("remote", OMRSEventProtocolVersion.V1.getName(),
+                                                                               OMRSEventProtocolVersion.V1_COMPACT.getName())));
+        topicConnector.sendInstanceEvent(new OMRSInstanceEvent(getInstanceEvent("local")));
+        assertTrue(OMRSCompactEventEncoder.isCompactEvent(eventBus.getLastEvent()));
+
+        /*
+         * Compact events are received as normal.
+         */
+        topicConnector.processEvent(eventBus.getLastEvent());
+        topicConnector.sendInstanceEvent(new OMRSInstanceEvent(getInstanceEvent("local")));
+        assertTrue(OMRSCompactEventEncoder.isCompactEvent(eventBus.getLastEvent()));
+
+        /*
+         * Registry events are always sent as JSON and advertise compact support.
+         */
+        topicConnector.sendRegistryEvent(new OMRSRegistryEvent(OMRSRegistryEventType.RE_REGISTRATION_EVENT));
+        assertFalse(OMRSCompactEventEncoder.isCompactEvent(eventBus.getLastEvent()));
+        assertTrue(eventBus.getLastEvent().contains(OMRSEventProtocolVersion.V1_COMPACT.getName()));
+
+        /*
+         * A member at an earlier level is heard from.
+         */
+        topicConnector.processEvent(OMRSJSONMapper.writeEvent(getInstanceEvent("backLevel")));
+        topicConnector.sendInstanceEvent(new OMRSInstanceEvent(getInstanceEvent("local")));
+        assertFalse(OMRSCompactEventEncoder.isCompactEvent(eventBus.getLastEvent()));
+
+        /*
+         * Once it leaves the cohort, compact events are used again.
+         */
+        OMRSEventV1 unRegistrationEvent = getRegistryEvent("backLevel");
+
+        unRegistrationEvent.getRegistryEventSection().setRegistryEventType(OMRSRegistryEventType.UN_REGISTRATION_EVENT);
+        topicConnector.processEvent(OMRSJSONMapper.writeEvent(unRegistrationEvent));
+        topicConnector.sendInstanceEvent(new OMRSInstanceEvent(getInstanceEvent("local")));
+        assertTrue(OMRSCompactEventEncoder.isCompactEvent(eventBus.getLastEvent()));
+
+        topicConnector.disconnect();
+        eventBus.disconnect();
+    }
+
+
+    /**
+     * Create a registry event.
+     *
+     * @param serverName name of the sending server
+     * @param eventProtocolVersions advertised event protocols
+     * @return event
+     */
+    private OMRSEventV1 getRegistryEvent(String    serverName,
+                                         String... eventProtocolVersions)
+    {
+        OMRSEventV1                event           = new OMRSEventV1();
+        OMRSEventV1RegistrySection registrySection = new OMRSEventV1RegistrySection();
+
+        registrySection.setRegistryEventType(OMRSRegistryEventType.RE_REGISTRATION_EVENT);
+
+        if (eventProtocolVersions.length > 0)
+        {
+            registrySection.setEventProtocolVersions(Arrays.asList(eventProtocolVersions));
+        }
+
+        event.setEventCategory(OMRSEventCategory.REGISTRY);
+        event.setOriginator(getOriginator(serverName));
+        event.setRegistryEventSection(registrySection);
+
+        return event;
+    }
+
+
+    /**
+     * Create a new entity event with a typical entity.
+     *
+     * @param serverName name of the sending server
+     * @return event
+     */
+    private OMRSEventV1 getInstanceEvent(String serverName)
+    {
+        OMRSEventV1                event           = new OMRSEventV1();
+        OMRSEventV1InstanceSection instanceSection = new OMRSEventV1InstanceSection();
+        EntityDetail               entity          = new EntityDetail();
+        InstanceProperties         properties      = new InstanceProperties();
+
+        for (String propertyName : new String[] { "qualifiedName", "displayName", "description", "owner" })
+        {
+            PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+            propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+            propertyValue.setTypeName(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING.getName());
+            propertyValue.setTypeGUID(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING.getGUID());
+            propertyValue.setPrimitiveValue("Value of " + propertyName + " for " + entityGUID);
+            properties.setProperty(propertyName, propertyValue);
+        }
+
+        entity.setGUID(entityGUID);
+        entity.setType(new InstanceType(TypeDefCategory.ENTITY_DEF,
+                                        "896d14c2-7522-4f6c-8519-757711943fe6",
+                                        "Asset",
+                                        1,
+                                        "The description of an asset.",
+                                        null,
+                                        null,
+                                        Collections.singletonList(InstanceStatus.ACTIVE),
+                                        new ArrayList<>(properties.getInstanceProperties().keySet())));
+        entity.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+        entity.setMetadataCollectionId("a5fa5d8c-4c7a-4b47-8c94-0fa8d1b1bd8e");
+        entity.setMetadataCollectionName("TestCollection");
+        entity.setCreatedBy("testUser");
+        entity.setCreateTime(new Date(0));
+        entity.setVersion(1);
+        entity.setStatus(InstanceStatus.ACTIVE);
+        entity.setProperties(properties);
+
+        instanceSection.setEventType(OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        instanceSection.setTypeDefGUID(entity.getType().getTypeDefGUID());
+        instanceSection.setTypeDefName(entity.getType().getTypeDefName());
+        instanceSection.setInstanceGUID(entityGUID);
+        instanceSection.setHomeMetadataCollectionId(entity.getMetadataCollectionId());
+        instanceSection.setEntity(entity);
+
+        event.setTimestamp(new Date(0));
+        event.setEventCategory(OMRSEventCategory.INSTANCE);
+        event.setOriginator(getOriginator(serverName));
+        event.setInstanceEventSection(instanceSection);
+
+        return event;
+    }
+
+
+    /**
+     * Create the originator of an event.
+     *
+     * @param serverName name of the sending server
+     * @return originator
+     */
+    private OMRSEventOriginator getOriginator(String serverName)
+    {
+        OMRSEventOriginator originator = new OMRSEventOriginator();
+
+        originator.setServerName(serverName);
+        originator.setServerType("Metadata Access Store");
+        originator.setOrganizationName("Test Organization");
+
+        return originator;
+    }
+
+
+    /**
+     * TestTopicConnector records the events that are sent.
+     */
+    private static class TestTopicConnector extends OpenMetadataTopicConnector
+    {
+        private final List<String> sentEvents = new ArrayList<>();
+
+        @Override
+        public void sendEvent(String event)
+        {
+            sentEvents.add(event);
+        }
+
+        String getLastEvent()
+        {
+            return sentEvents.get(sentEvents.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,293 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSJSONMapper;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1InstanceSection;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1TypeDefSection;
+import org.odpi.openmetadata.repositoryservices.events.future.OMRSFuture;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * OMRSTopicConnectorDispatchTest checks that each listener receives the events for an instance in order,
+ * that the events with no instance are processed between the events around them, and that a slow listener
+ * does not hold up the other listeners.
+ */
+public class OMRSTopicConnectorDispatchTest
+{
+    private static final int INSTANCES = 8;
+    private static final int EVENTS    = 100;
+
+
+    @Test
+    public void testOrderedDispatch() throws Exception
+    {
+        OMRSTopicConnector            topicConnector = getTopicConnector(4, 5);
+        Map<String, List<Long>>       receivedEvents = new ConcurrentHashMap<>();
+        List<Integer>                 barrierCounts  = Collections.synchronizedList(new ArrayList<>());
+
+        topicConnector.registerListener(new OMRSTopicListenerBase("Test")
+        {
+            @Override
+            public void processTypeDefEvent(OMRSTypeDefEvent event)
+            {
+                barrierCounts.add(countEvents(receivedEvents));
+            }
+
+            @Override
+            public void processInstanceEvent(OMRSInstanceEvent event)
+            {
+                receivedEvents.computeIfAbsent(event.getInstanceGUID(),
+                                               key -> Collections.synchronizedList(new ArrayList<>())).add(event.getEntity().getVersion());
+            }
+        }, "TestService");
+
+        for (int sequence = 0; sequence < EVENTS; sequence++)
+        {
+            for (int instance = 0; instance < INSTANCES; instance++)
+            {
+                topicConnector.processEvent(OMRSJSONMapper.writeEvent(getInstanceEvent("guid" + instance, sequence)));
+            }
+
+            if (sequence % 25 == 0)
+            {
+                topicConnector.processEvent(OMRSJSONMapper.writeEvent(getTypeDefEvent()));
+            }
+        }
+
+        OMRSFuture processingResult = InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult();
+        long       timeout          = System.currentTimeMillis() + 20000;
+
+        while ((! processingResult.isDone()) && (System.currentTimeMillis() < timeout))
+        {
+            Thread.sleep(10);
+        }
+
+        InternalOMRSEventProcessingContext.clear();
+
+        assertTrue(processingResult.isDone());
+        assertEquals(countEvents(receivedEvents), INSTANCES * EVENTS);
+
+        for (List<Long> versions : receivedEvents.values())
+        {
+            for (int i = 1; i < versions.size(); i++)
+            {
+                assertTrue(versions.get(i - 1) < versions.get(i));
+            }
+        }
+
+        /*
+         * Each type event sees all of the instance events sent before it and none of the ones sent after it.
+         */
+        assertEquals(barrierCounts.size(), 4);
+
+        for (int i = 0; i < barrierCounts.size(); i++)
+        {
+            assertEquals((int)barrierCounts.get(i), (i * 25 + 1) * INSTANCES);
+        }
+
+        OMRSTopicListenerMetrics metrics = topicConnector.getListenerMetrics().get(0);
+
+        assertEquals(metrics.getServiceName(), "TestService");
+        assertEquals(metrics.getQueueDepth(), 0);
+        assertEquals(metrics.getEventCount(), INSTANCES * EVENTS + 4);
+
+        topicConnector.disconnect();
+    }
+
+
+    @Test
+    public void testSlowListener() throws Exception
+    {
+        OMRSTopicConnector topicConnector = getTopicConnector(1, 100);
+        CountDownLatch     releaseSlow    = new CountDownLatch(1);
+        CountDownLatch     fastDone       = new CountDownLatch(10);
+
+        topicConnector.registerListener(new OMRSTopicListenerBase("Slow")
+        {
+            @Override
+            public void processInstanceEvent(OMRSInstanceEvent event)
+            {
+                try
+                {
+                    releaseSlow.await();
+                }
+                catch (InterruptedException wakeUp)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, "SlowService");
+
+        topicConnector.registerListener(new OMRSTopicListenerBase("Fast")
+        {
+            @Override
+            public void processInstanceEvent(OMRSInstanceEvent event)
+            {
+                fastDone.countDown();
+            }
+        }, "FastService");
+
+        for (int sequence = 0; sequence < 10; sequence++)
+        {
+            topicConnector.processEvent(OMRSJSONMapper.writeEvent(getInstanceEvent("guid", sequence)));
+        }
+
+        /*
+         * The fast listener receives all of its events while the slow listener is stuck on its first one.
+         */
+        assertTrue(fastDone.await(10, TimeUnit.SECONDS));
+
+        OMRSFuture processingResult = InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult();
+
+        assertFalse(processingResult.isDone());
+
+        List<OMRSTopicListenerMetrics> metrics = topicConnector.getListenerMetrics();
+
+        assertEquals(metrics.get(0).getServiceName(), "SlowService");
+        assertEquals(metrics.get(0).getQueueDepth(), 9);
+        assertEquals(metrics.get(1).getServiceName(), "FastService");
+        assertEquals(metrics.get(1).getQueueDepth(), 0);
+
+        releaseSlow.countDown();
+
+        long timeout = System.currentTimeMillis() + 20000;
+
+        while ((! processingResult.isDone()) && (System.currentTimeMillis() < timeout))
+        {
+            Thread.sleep(10);
+        }
+
+        InternalOMRSEventProcessingContext.clear();
+
+        assertTrue(processingResult.isDone());
+
+        topicConnector.disconnect();
+    }
+
+
+    /**
+     * Create a topic connector with no event bus connectors that passes events to its listeners.
+     *
+     * @param listenerThreads number of threads for each listener
+     * @param listenerQueueSize number of events that can wait for each thread
+     * @return connector
+     */
+    private OMRSTopicConnector getTopicConnector(int listenerThreads,
+                                                 int listenerQueueSize)
+    {
+        OMRSTopicConnector  topicConnector = new OMRSTopicConnector();
+        Connection          connection     = new Connection();
+        Map<String, Object> properties     = new HashMap<>();
+
+        InternalOMRSEventProcessingContext.clear();
+
+        properties.put(OMRSTopicProvider.listenerThreadsProperty, listenerThreads);
+        properties.put(OMRSTopicProvider.listenerQueueSizeProperty, listenerQueueSize);
+        connection.setConfigurationProperties(properties);
+
+        topicConnector.initialize("TestConnector", new ConnectionProperties(connection));
+        topicConnector.setAuditLog(new AuditLog(new TestAuditLogDestination(), 0, "Test", "Test", null));
+
+        return topicConnector;
+    }
+
+
+    /**
+     * Count the instance events received.
+     *
+     * @param receivedEvents events received for each instance
+     * @return count
+     */
+    private int countEvents(Map<String, List<Long>> receivedEvents)
+    {
+        int count = 0;
+
+        for (List<Long> versions : receivedEvents.values())
+        {
+            count = count + versions.size();
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Create an entity event.  The version of the entity is used as the sequence number.
+     *
+     * @param guid unique identifier of the entity
+     * @param sequence sequence number
+     * @return event
+     */
+    private OMRSEventV1 getInstanceEvent(String guid,
+                                         long   sequence)
+    {
+        OMRSEventV1                event           = new OMRSEventV1();
+        OMRSEventV1InstanceSection instanceSection = new OMRSEventV1InstanceSection();
+        EntityDetail               entity          = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(sequence);
+
+        instanceSection.setEventType(OMRSInstanceEventType.UPDATED_ENTITY_EVENT);
+        instanceSection.setInstanceGUID(guid);
+        instanceSection.setEntity(entity);
+
+        event.setEventCategory(OMRSEventCategory.INSTANCE);
+        event.setInstanceEventSection(instanceSection);
+
+        return event;
+    }
+
+
+    /**
+     * Create a type event.  It is not about an instance so it has no ordering key.
+     *
+     * @return event
+     */
+    private OMRSEventV1 getTypeDefEvent()
+    {
+        OMRSEventV1 event = new OMRSEventV1();
+
+        event.setEventCategory(OMRSEventCategory.TYPEDEF);
+        event.setTypeDefEventSection(new OMRSEventV1TypeDefSection());
+
+        return event;
+    }
+
+
+    /**
+     * TestAuditLogDestination ignores the audit log records.
+     */
+    private static class TestAuditLogDestination extends AuditLogDestination
+    {
+        @Override
+        public void addLogRecord(AuditLogRecord logRecord)
+        {
+        }
+    }
+}
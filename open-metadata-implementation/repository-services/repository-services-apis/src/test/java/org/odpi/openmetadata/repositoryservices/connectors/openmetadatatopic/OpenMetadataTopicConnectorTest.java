@@ -0,0 +1,199 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.testng.annotations.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * OpenMetadataTopicConnectorTest checks that incoming events are passed to the listeners in order without waiting
+ * for the sleep time, and that a listener can send events to its own topic when the incoming event queue is full.
+ */
+public class OpenMetadataTopicConnectorTest
+{
+    private static final int INSTANCES = 8;
+    private static final int EVENTS    = 200;
+
+
+    @Test
+    public void testOrderedDispatch() throws Exception
+    {
+        Map<String, List<Integer>> receivedEvents = new ConcurrentHashMap<>();
+        Map<String, Object>        properties     = new HashMap<>();
+        Connection                 connection     = new Connection();
+        TestTopicConnector         connector      = new TestTopicConnector(false);
+
+        /*
+         * The sleep time is far longer than the test allows so the events must be delivered as they arrive.
+         */
+        properties.put(OpenMetadataTopicProvider.sleepTimeProperty, 60000);
+        properties.put(OpenMetadataTopicProvider.incomingEventQueueSizeProperty, 10);
+        connection.setConfigurationProperties(properties);
+
+        connector.initialize("TestConnector", new ConnectionProperties(connection));
+        connector.setAuditLog(new AuditLog(new TestAuditLogDestination(), 0, "Test", "Test", null));
+        connector.registerListener(event ->
+        {
+            String guid     = event.substring(event.indexOf(":\"") + 2, event.indexOf("\","));
+            int    sequence = Integer.parseInt(event.substring(event.lastIndexOf(':') + 1, event.length() - 1));
+
+            receivedEvents.computeIfAbsent(guid, key -> Collections.synchronizedList(new ArrayList<>())).add(sequence);
+        });
+        connector.start();
+
+        for (int sequence = 0; sequence < EVENTS; sequence++)
+        {
+            for (int instance = 0; instance < INSTANCES; instance++)
+            {
+                connector.sendEvent("{\"guid\":\"guid" + instance + "\",\"sequence\":" + sequence + "}");
+            }
+
+            if (sequence % 50 == 0)
+            {
+                connector.sendEvent("{\"typeName\":\"untyped\",\"sequence\":" + sequence + "}");
+            }
+        }
+
+        long timeout = System.currentTimeMillis() + 20000;
+
+        while ((countEvents(receivedEvents) < INSTANCES * EVENTS) && (System.currentTimeMillis() < timeout))
+        {
+            Thread.sleep(10);
+        }
+
+        connector.disconnect();
+
+        assertEquals(countEvents(receivedEvents), INSTANCES * EVENTS);
+
+        for (List<Integer> sequences : receivedEvents.values())
+        {
+            for (int i = 1; i < sequences.size(); i++)
+            {
+                assertTrue(sequences.get(i - 1) < sequences.get(i));
+            }
+        }
+    }
+
+
+    @Test
+    public void testSendFromListener() throws Exception
+    {
+        List<String>        receivedEvents = Collections.synchronizedList(new ArrayList<>());
+        Map<String, Object> properties     = new HashMap<>();
+        Connection          connection     = new Connection();
+        TestTopicConnector  connector      = new TestTopicConnector(true);
+
+        properties.put(OpenMetadataTopicProvider.sleepTimeProperty, 60000);
+        properties.put(OpenMetadataTopicProvider.incomingEventQueueSizeProperty, 1);
+        connection.setConfigurationProperties(properties);
+
+        connector.initialize("TestConnector", new ConnectionProperties(connection));
+        connector.setAuditLog(new AuditLog(new TestAuditLogDestination(), 0, "Test", "Test", null));
+        connector.registerListener(event ->
+        {
+            receivedEvents.add(event);
+
+            /*
+             * Each event is answered with more events than the queue can hold.
+             */
+            if (event.startsWith("request"))
+            {
+                for (int i = 0; i < 3; i++)
+                {
+                    connector.sendEvent("reply" + i + " to " + event);
+                }
+            }
+        });
+        connector.start();
+
+        for (int i = 0; i < EVENTS; i++)
+        {
+            connector.sendEvent("request" + i);
+        }
+
+        long timeout = System.currentTimeMillis() + 20000;
+
+        while ((receivedEvents.size() < EVENTS * 4) && (System.currentTimeMillis() < timeout))
+        {
+            Thread.sleep(10);
+        }
+
+        connector.disconnect();
+
+        assertEquals(receivedEvents.size(), EVENTS * 4);
+    }
+
+
+    /**
+     * Count the events received for the instances.
+     *
+     * @param receivedEvents events received for each instance
+     * @return count
+     */
+    private int countEvents(Map<String, List<Integer>> receivedEvents)
+    {
+        int count = 0;
+
+        for (Map.Entry<String, List<Integer>> entry : receivedEvents.entrySet())
+        {
+            if (entry.getKey().startsWith("guid"))
+            {
+                count = count + entry.getValue().size();
+            }
+        }
+
+        return count;
+    }
+
+
+    /**
+     * TestTopicConnector passes each event it sends straight back to its listeners, either as an event bus
+     * connector would or as the in-memory topic connector does.
+     */
+    private static class TestTopicConnector extends OpenMetadataTopicConnector
+    {
+        private final boolean inMemory;
+
+        TestTopicConnector(boolean inMemory)
+        {
+            this.inMemory = inMemory;
+        }
+
+        @Override
+        public void sendEvent(String event)
+        {
+            IncomingEvent incomingEvent = new IncomingEvent(event, String.valueOf(event.hashCode()));
+
+            if (inMemory)
+            {
+                queueIncomingEvent(incomingEvent);
+            }
+            else
+            {
+                addIncomingEvent(incomingEvent);
+            }
+        }
+    }
+
+
+    /**
+     * TestAuditLogDestination ignores the audit log records.
+     */
+    private static class TestAuditLogDestination extends AuditLogDestination
+    {
+        @Override
+        public void addLogRecord(AuditLogRecord logRecord)
+        {
+        }
+    }
+}
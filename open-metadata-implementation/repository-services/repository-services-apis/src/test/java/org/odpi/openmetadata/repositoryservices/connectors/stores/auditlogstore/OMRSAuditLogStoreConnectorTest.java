@@ -2,10 +2,19 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore;
 
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+
 /**
- * OMRSAuditLogStoreConnectorTest just tests the null constructor.
+ * OMRSAuditLogStoreConnectorTest tests the null constructor and the configuration properties.
  */
 public class OMRSAuditLogStoreConnectorTest
 {
@@ -13,4 +22,19 @@ public class OMRSAuditLogStoreConnectorTest
    {
        new MockOMRSAuditLogStoreConnectorBase();
    }
+
+
+   @Test public void testDroppableSeveritiesIgnoresValuesThatAreNotStrings()
+   {
+       Map<String, Object> configurationProperties = new HashMap<>();
+       configurationProperties.put(OMRSAuditLogStoreProviderBase.droppableSeveritiesProperty, Arrays.asList("Trace", 3, null));
+
+       Connection connection = new Connection();
+       connection.setConfigurationProperties(configurationProperties);
+
+       MockOMRSAuditLogStoreConnectorBase connector = new MockOMRSAuditLogStoreConnectorBase();
+       connector.initialize("TestConnector", new ConnectionProperties(connection));
+
+       assertEquals(connector.getDroppableSeverities(), Collections.singletonList("Trace"));
+   }
 }
@@ -0,0 +1,84 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1InstanceSection;
+import org.testng.annotations.Test;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that the shared readers and writers of OMRSJSONMapper convert the beans to JSON and back.
+ */
+public class OMRSJSONMapperTest
+{
+    @Test
+    public void testEvent() throws Exception
+    {
+        OMRSEventV1                event           = new OMRSEventV1();
+        OMRSEventV1InstanceSection instanceSection = new OMRSEventV1InstanceSection();
+
+        instanceSection.setEventType(OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        instanceSection.setTypeDefName("TestType");
+        event.setEventCategory(OMRSEventCategory.INSTANCE);
+        event.setInstanceEventSection(instanceSection);
+
+        String json = OMRSJSONMapper.writeEvent(event);
+
+        assertTrue(json.contains("\"class\":\"OMRSEventV1\""));
+
+        OMRSEventBean eventBean = OMRSJSONMapper.readEvent(json);
+
+        assertTrue(eventBean instanceof OMRSEventV1);
+        assertEquals(((OMRSEventV1) eventBean).getEventCategory(), OMRSEventCategory.INSTANCE);
+        assertEquals(((OMRSEventV1) eventBean).getInstanceEventSection().getTypeDefName(), "TestType");
+        assertEquals(OMRSJSONMapper.writeEvent((OMRSEventV1) OMRSJSONMapper.readValue(json, OMRSEventBean.class)), json);
+    }
+
+
+    @Test
+    public void testInstanceProperties() throws Exception
+    {
+        InstanceProperties     properties    = new InstanceProperties();
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+        propertyValue.setPrimitiveValue("TestValue");
+        properties.setProperty("name", propertyValue);
+
+        InstanceProperties result = OMRSJSONMapper.readInstanceProperties(OMRSJSONMapper.writeInstanceProperties(properties));
+
+        assertEquals(result, properties);
+    }
+
+
+    @Test
+    public void testCollections() throws Exception
+    {
+        List<String>              list = Arrays.asList("one", "two");
+        Map<String, Serializable> map  = Collections.singletonMap("key", "value");
+
+        assertEquals(OMRSJSONMapper.readStringList(OMRSJSONMapper.writeValue(list)), list);
+        assertEquals(OMRSJSONMapper.readSerializableMap(OMRSJSONMapper.writeValue(map)), map);
+    }
+
+
+    @Test
+    public void testReaderCache()
+    {
+        assertSame(OMRSJSONMapper.getReader(InstanceProperties.class), OMRSJSONMapper.getReader(InstanceProperties.class));
+    }
+}
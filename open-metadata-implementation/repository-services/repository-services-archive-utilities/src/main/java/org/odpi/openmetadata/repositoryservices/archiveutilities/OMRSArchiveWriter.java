@@ -4,6 +4,7 @@ package org.odpi.openmetadata.repositoryservices.archiveutilities;
 
 
 import org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file.FileBasedOpenMetadataArchiveStoreProvider;
+import org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file.OpenMetadataArchiveStreamWriter;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorProvider;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.*;
 import org.slf4j.Logger;
@@ -13,12 +14,15 @@ import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStore;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.UUID;
 
 /**
  * OMRSArchiveWriter creates physical open metadata archive files for the supplied open metadata archives
  * encoded using Open Metadata Repository Services (OMRS) formats.  To use it, create a subclass that builds
- * the archive content in memory and then writes it out.
+ * the archive content in memory and then writes it out.  Subclasses that generate very large archives can
+ * use the stream writer instead to write each element as it is created.
  */
 public class OMRSArchiveWriter
 {
@@ -187,4 +191,18 @@ public class OMRSArchiveWriter
 
         openMetadataArchiveStore.setArchiveContents(openMetadataArchive);
     }
+
+
+    /**
+     * Create the archive file and return a writer that adds elements to it one at a time.  The caller must
+     * close the writer to complete the archive.
+     *
+     * @param outputFileName name of file to write archive to
+     * @return stream writer for the archive file
+     * @throws IOException the file can not be created
+     */
+    protected OpenMetadataArchiveStreamWriter getOpenMetadataArchiveStreamWriter(String outputFileName) throws IOException
+    {
+        return new OpenMetadataArchiveStreamWriter(new File(outputFileName));
+    }
 }
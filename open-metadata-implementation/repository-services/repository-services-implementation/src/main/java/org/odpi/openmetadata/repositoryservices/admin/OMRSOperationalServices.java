@@ -911,6 +911,11 @@ public class OMRSOperationalServices
 
         auditLog.logMessage(actionDescription, OMRSAuditCode.OMRS_DISCONNECTED.getMessageDefinition());
 
+        if (auditLogDestination != null)
+        {
+            auditLogDestination.disconnect();
+        }
+
         return true;
     }
 
@@ -0,0 +1,490 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.archivemanager;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessorInterface;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * ArchiveInstanceIngester passes the instances from an open metadata archive to the local repository's
+ * instance event processor.
+ * <p>
+ *     The instances are gathered into batches that are passed to the event processor in a single instance batch
+ *     event.  When more than one thread is configured, each thread is a lane with a bounded queue of batches and
+ *     an instance always goes to the lane picked from its GUID.  The entities that come before a relationship
+ *     in the archive are all loaded before the relationship is loaded, and the same is true for relationships that
+ *     come before an entity.  When a lane's queue is full, the thread reading the archive waits for space so only
+ *     a small part of the archive is held in memory.  The lane threads are daemon threads so they do not
+ *     hold up the shutdown of the server.
+ * </p>
+ * <p>
+ *     If the instance processor fails on a batch, the instances in the batch are passed to it one at a time.
+ *     An instance that still fails is reported on the audit log and the rest of the archive continues to load.
+ * </p>
+ * <p>
+ *     The number of instances loaded and the load rate are regularly reported on the audit log, along with the
+ *     expected time to complete when the number of instances in the archive is known.
+ * </p>
+ */
+class ArchiveInstanceIngester
+{
+    private static final String actionDescription      = "Process Open Metadata Archive";
+    private static final int    laneQueueSize          = 10;
+    private static final long   progressReportInterval = TimeUnit.SECONDS.toNanos(30);
+
+    private final String                              archiveName;
+    private final String                              sourceName;
+    private final String                              originatorMetadataCollectionId;
+    private final String                              originatorServerType;
+    private final String                              originatorOrganizationName;
+    private final OMRSInstanceEventProcessorInterface instanceProcessor;
+    private final AuditLog                            auditLog;
+    private final int                                 batchSize;
+    private final ThreadPoolExecutor[]                lanes;
+
+    private final List<List<EntityDetail>> pendingEntities      = new ArrayList<>();
+    private final List<List<Relationship>> pendingRelationships = new ArrayList<>();
+
+    private final long       startTime      = System.nanoTime();
+    private final AtomicLong lastReportTime = new AtomicLong(startTime);
+    private final AtomicLong loadedCount    = new AtomicLong(0);
+
+    private volatile long    expectedCount        = 0;
+    private          boolean loadingRelationships = false;
+
+
+    /**
+     * Constructor sets up the lanes for loading the instances.  The event header values are the same for every
+     * instance from the archive.
+     *
+     * @param archiveName name of the archive
+     * @param sourceName name of the source of the events
+     * @param originatorMetadataCollectionId unique identifier of the archive
+     * @param originatorServerType type of the archive
+     * @param originatorOrganizationName organization that created the archive
+     * @param instanceProcessor the processor to add the instances to the local repository
+     * @param auditLog audit log for the archive manager
+     * @param threadCount number of threads loading instances - one means they are loaded by the calling thread
+     * @param batchSize maximum number of instances passed to the instance processor in each call
+     */
+    ArchiveInstanceIngester(String                              archiveName,
+                            String                              sourceName,
+                            String                              originatorMetadataCollectionId,
+                            String                              originatorServerType,
+                            String                              originatorOrganizationName,
+                            OMRSInstanceEventProcessorInterface instanceProcessor,
+                            AuditLog                            auditLog,
+                            int                                 threadCount,
+                            int                                 batchSize)
+    {
+        this.archiveName                    = archiveName;
+        this.sourceName                     = sourceName;
+        this.originatorMetadataCollectionId = originatorMetadataCollectionId;
+        this.originatorServerType           = originatorServerType;
+        this.originatorOrganizationName     = originatorOrganizationName;
+        this.instanceProcessor              = instanceProcessor;
+        this.auditLog                       = auditLog;
+        this.batchSize                      = Math.max(batchSize, 1);
+        this.lanes                          = new ThreadPoolExecutor[(threadCount > 1) ? threadCount : 0];
+
+        for (int i = 0; i < lanes.length; i++)
+        {
+            final String threadName = archiveName + " archive loader " + i;
+
+            lanes[i] = new ThreadPoolExecutor(1,
+                                              1,
+                                              0L,
+                                              TimeUnit.MILLISECONDS,
+                                              new ArrayBlockingQueue<>(laneQueueSize),
+                                              runnable ->
+                                              {
+                                                  Thread laneThread = new Thread(runnable, threadName);
+
+                                                  laneThread.setDaemon(true);
+                                                  return laneThread;
+                                              },
+                                              (runnable, lane) ->
+                                              {
+                                                  if (! lane.isShutdown())
+                                                  {
+                                                      try
+                                                      {
+                                                          lane.getQueue().put(runnable);
+                                                      }
+                                                      catch (InterruptedException wakeUp)
+                                                      {
+                                                          Thread.currentThread().interrupt();
+                                                      }
+                                                  }
+                                              });
+        }
+
+        for (int i = 0; i < Math.max(lanes.length, 1); i++)
+        {
+            pendingEntities.add(new ArrayList<>());
+            pendingRelationships.add(new ArrayList<>());
+        }
+
+        if ((lanes.length > 0) && (auditLog != null))
+        {
+            auditLog.logMessage(actionDescription,
+                                OMRSAuditCode.PARALLEL_ARCHIVE_LOAD.getMessageDefinition(archiveName,
+                                                                                         Integer.toString(lanes.length),
+                                                                                         Integer.toString(this.batchSize)));
+        }
+    }
+
+
+    /**
+     * Set the number of instances that are expected to be loaded.  This is used to estimate the time
+     * to complete the load.
+     *
+     * @param expectedCount number of instances
+     */
+    void setExpectedCount(long expectedCount)
+    {
+        this.expectedCount = expectedCount;
+    }
+
+
+    /**
+     * Add an entity to the batch for its lane.  Any relationships received before it are loaded first.
+     *
+     * @param entity entity from the archive
+     */
+    void addEntity(EntityDetail entity)
+    {
+        if (loadingRelationships)
+        {
+            this.waitForLanes();
+            loadingRelationships = false;
+        }
+
+        int                lane  = this.getLane(entity.getGUID());
+        List<EntityDetail> batch = pendingEntities.get(lane);
+
+        batch.add(entity);
+
+        if (batch.size() >= batchSize)
+        {
+            pendingEntities.set(lane, new ArrayList<>());
+            this.execute(lane, () -> loadEntities(batch));
+        }
+    }
+
+
+    /**
+     * Add a relationship to the batch for its lane.  Any entities received before it are loaded first.
+     *
+     * @param relationship relationship from the archive
+     */
+    void addRelationship(Relationship relationship)
+    {
+        if (! loadingRelationships)
+        {
+            this.waitForLanes();
+            loadingRelationships = true;
+        }
+
+        int                lane  = this.getLane(relationship.getGUID());
+        List<Relationship> batch = pendingRelationships.get(lane);
+
+        batch.add(relationship);
+
+        if (batch.size() >= batchSize)
+        {
+            pendingRelationships.set(lane, new ArrayList<>());
+            this.execute(lane, () -> loadRelationships(batch));
+        }
+    }
+
+
+    /**
+     * Load any instances still waiting and stop the lanes.
+     *
+     * @return number of instances passed to the instance processor
+     */
+    long complete()
+    {
+        this.waitForLanes();
+
+        for (ThreadPoolExecutor lane : lanes)
+        {
+            lane.shutdown();
+        }
+
+        return loadedCount.get();
+    }
+
+
+    /**
+     * Pick the lane for an instance from its GUID so the same instance is always loaded by the same thread.
+     *
+     * @param guid unique identifier of the instance
+     * @return lane number
+     */
+    private int getLane(String guid)
+    {
+        if ((guid == null) || (lanes.length == 0))
+        {
+            return 0;
+        }
+
+        return (guid.hashCode() & Integer.MAX_VALUE) % lanes.length;
+    }
+
+
+    /**
+     * Run the loading of a batch on its lane, or on the calling thread if there are no lanes.
+     *
+     * @param lane lane number
+     * @param loading call to the instance processor
+     */
+    private void execute(int      lane,
+                         Runnable loading)
+    {
+        if (lanes.length == 0)
+        {
+            loading.run();
+        }
+        else
+        {
+            lanes[lane].execute(loading);
+        }
+    }
+
+
+    /**
+     * Pass the partly filled batches to their lanes and wait for the lanes to load everything queued on them.
+     */
+    private void waitForLanes()
+    {
+        for (int i = 0; i < pendingEntities.size(); i++)
+        {
+            List<EntityDetail> entityBatch = pendingEntities.get(i);
+
+            if (! entityBatch.isEmpty())
+            {
+                pendingEntities.set(i, new ArrayList<>());
+                this.execute(i, () -> loadEntities(entityBatch));
+            }
+
+            List<Relationship> relationshipBatch = pendingRelationships.get(i);
+
+            if (! relationshipBatch.isEmpty())
+            {
+                pendingRelationships.set(i, new ArrayList<>());
+                this.execute(i, () -> loadRelationships(relationshipBatch));
+            }
+        }
+
+        if (lanes.length > 0)
+        {
+            CountDownLatch lanesLoaded = new CountDownLatch(lanes.length);
+
+            for (ThreadPoolExecutor lane : lanes)
+            {
+                lane.execute(lanesLoaded::countDown);
+            }
+
+            try
+            {
+                lanesLoaded.await();
+            }
+            catch (InterruptedException wakeUp)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+
+    /**
+     * Pass a batch of entities to the instance processor.  If the batch fails, each entity is passed on its own
+     * so only the entities with a problem are lost.
+     *
+     * @param entities entities from the archive
+     */
+    private void loadEntities(List<EntityDetail> entities)
+    {
+        if (entities.size() > 1)
+        {
+            try
+            {
+                instanceProcessor.processInstanceBatchEvent(sourceName,
+                                                            originatorMetadataCollectionId,
+                                                            archiveName,
+                                                            originatorServerType,
+                                                            originatorOrganizationName,
+                                                            new InstanceGraph(entities, null));
+                this.instancesLoaded(entities.size());
+                return;
+            }
+            catch (RuntimeException error)
+            {
+                this.logBatchFailure(entities.size(), error);
+            }
+        }
+
+        for (EntityDetail entity : entities)
+        {
+            try
+            {
+                instanceProcessor.processNewEntityEvent(sourceName,
+                                                        originatorMetadataCollectionId,
+                                                        archiveName,
+                                                        originatorServerType,
+                                                        originatorOrganizationName,
+                                                        entity);
+            }
+            catch (RuntimeException error)
+            {
+                this.logInstanceFailure(entity.getGUID(), error);
+            }
+        }
+
+        this.instancesLoaded(entities.size());
+    }
+
+
+    /**
+     * Pass a batch of relationships to the instance processor.  If the batch fails, each relationship is passed on
+     * its own so only the relationships with a problem are lost.
+     *
+     * @param relationships relationships from the archive
+     */
+    private void loadRelationships(List<Relationship> relationships)
+    {
+        if (relationships.size() > 1)
+        {
+            try
+            {
+                instanceProcessor.processInstanceBatchEvent(sourceName,
+                                                            originatorMetadataCollectionId,
+                                                            archiveName,
+                                                            originatorServerType,
+                                                            originatorOrganizationName,
+                                                            new InstanceGraph(null, relationships));
+                this.instancesLoaded(relationships.size());
+                return;
+            }
+            catch (RuntimeException error)
+            {
+                this.logBatchFailure(relationships.size(), error);
+            }
+        }
+
+        for (Relationship relationship : relationships)
+        {
+            try
+            {
+                instanceProcessor.processNewRelationshipEvent(sourceName,
+                                                              originatorMetadataCollectionId,
+                                                              archiveName,
+                                                              originatorServerType,
+                                                              originatorOrganizationName,
+                                                              relationship);
+            }
+            catch (RuntimeException error)
+            {
+                this.logInstanceFailure(relationship.getGUID(), error);
+            }
+        }
+
+        this.instancesLoaded(relationships.size());
+    }
+
+
+    /**
+     * Report that a batch could not be loaded and is about to be loaded one instance at a time.
+     *
+     * @param instanceCount number of instances in the batch
+     * @param error exception from the instance processor
+     */
+    private void logBatchFailure(int              instanceCount,
+                                 RuntimeException error)
+    {
+        if (auditLog != null)
+        {
+            auditLog.logException(actionDescription,
+                                  OMRSAuditCode.ARCHIVE_BATCH_LOAD_FAILED.getMessageDefinition(Integer.toString(instanceCount),
+                                                                                               archiveName,
+                                                                                               error.getClass().getName(),
+                                                                                               error.getMessage()),
+                                  error);
+        }
+    }
+
+
+    /**
+     * Report that an instance could not be loaded.  The rest of the archive continues to load.
+     *
+     * @param guid unique identifier of the instance
+     * @param error exception from the instance processor
+     */
+    private void logInstanceFailure(String           guid,
+                                    RuntimeException error)
+    {
+        if (auditLog != null)
+        {
+            auditLog.logException(actionDescription,
+                                  OMRSAuditCode.ARCHIVE_INSTANCE_LOAD_FAILED.getMessageDefinition(guid,
+                                                                                                  archiveName,
+                                                                                                  error.getClass().getName(),
+                                                                                                  error.getMessage()),
+                                  error);
+        }
+    }
+
+
+    /**
+     * Count the instances that have been loaded and report progress on the audit log if it is time to.
+     * Only one of the lanes reports each time.
+     *
+     * @param instanceCount number of instances just loaded
+     */
+    private void instancesLoaded(int instanceCount)
+    {
+        long loaded     = loadedCount.addAndGet(instanceCount);
+        long now        = System.nanoTime();
+        long lastReport = lastReportTime.get();
+
+        if ((now - lastReport >= progressReportInterval) && (lastReportTime.compareAndSet(lastReport, now)) && (auditLog != null))
+        {
+            double elapsedSeconds = (double)(now - startTime) / TimeUnit.SECONDS.toNanos(1);
+            long   loadRate       = Math.round(loaded / elapsedSeconds);
+
+            if (expectedCount > loaded)
+            {
+                long remainingSeconds = (loadRate == 0) ? 0 : (expectedCount - loaded) / loadRate;
+
+                auditLog.logMessage(actionDescription,
+                                    OMRSAuditCode.ARCHIVE_LOAD_ESTIMATE.getMessageDefinition(Long.toString(loaded),
+                                                                                             Long.toString(expectedCount),
+                                                                                             archiveName,
+                                                                                             Long.toString(loadRate),
+                                                                                             Long.toString(remainingSeconds)));
+            }
+            else
+            {
+                auditLog.logMessage(actionDescription,
+                                    OMRSAuditCode.ARCHIVE_LOAD_PROGRESS.getMessageDefinition(Long.toString(loaded),
+                                                                                             archiveName,
+                                                                                             Long.toString(loadRate)));
+            }
+        }
+    }
+}
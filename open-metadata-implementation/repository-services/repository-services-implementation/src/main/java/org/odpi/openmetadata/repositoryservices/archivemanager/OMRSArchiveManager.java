@@ -11,6 +11,7 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessorInterface;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentProcessor;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
@@ -136,13 +137,29 @@ public class OMRSArchiveManager
         OpenMetadataArchive      openMetadataTypes        = openMetadataTypesArchive.getOpenMetadataArchive();
 
         repositoryContentManager.setOpenMetadataTypesOriginGUID(openMetadataTypesArchive.getArchiveGUID());
-        processOpenMetadataArchive(openMetadataTypes, "Open Metadata Types", repositoryContentManager, localInstanceEventProcessor);
+
+        ArchiveContentLoader archiveLoader = new ArchiveContentLoader("Open Metadata Types",
+                                                                      repositoryContentManager,
+                                                                      localInstanceEventProcessor,
+                                                                      1,
+                                                                      1);
+
+        try
+        {
+            archiveLoader.processArchiveContents(openMetadataTypes);
+        }
+        finally
+        {
+            archiveLoader.completeArchive();
+        }
     }
 
 
     /**
      * Unpack and process the contents an open metadata archive , passing its contents to the local
-     * repository (if it exists).
+     * repository (if it exists).  The archive store passes its content to the loader one element at a time
+     * so the whole archive does not need to be held in memory.  The archive store's connection controls
+     * whether the instances are loaded in parallel and in batches.
      *
      * @param archiveStore open metadata archive  to process
      * @param archiveSource source of the archive - such as file name
@@ -160,372 +177,391 @@ public class OMRSArchiveManager
              * Each archive store has a header, a section of new type definitions (TypeDefs) and a section of
              * metadata instances.
              */
-            OpenMetadataArchive archiveContent = archiveStore.getArchiveContents();
+            ArchiveContentLoader archiveLoader = new ArchiveContentLoader(archiveSource,
+                                                                          typeDefProcessor,
+                                                                          instanceProcessor,
+                                                                          archiveStore.getIngestionThreads(),
+                                                                          archiveStore.getIngestionBatchSize());
 
-            if (archiveContent == null)
+            try
             {
-                final String     actionDescription = "Process Open Metadata Archive";
+                if (! archiveStore.processArchiveContents(archiveLoader))
+                {
+                    final String     actionDescription = "Process Open Metadata Archive";
 
-                auditLog.logMessage(actionDescription, OMRSAuditCode.EMPTY_ARCHIVE.getMessageDefinition(archiveSource));
+                    auditLog.logMessage(actionDescription, OMRSAuditCode.EMPTY_ARCHIVE.getMessageDefinition(archiveSource));
+                }
             }
-            else
+            finally
             {
-                processOpenMetadataArchive(archiveContent, archiveSource, typeDefProcessor, instanceProcessor);
+                archiveLoader.completeArchive();
             }
         }
     }
 
 
     /**
-     * Step through the content of an open metadata archive, passing its contents to the local repository (if it
-     * exists).
+     * Set up the header of an archive instance.
      *
-     * @param archiveContent open metadata archive to process
-     * @param archiveSource source of the archive - such as file name
-     * @param typeDefProcessor processor of type definitions found in the archive
-     * @param instanceProcessor processor of instances found in the archive
+     * @param metadataCollectionId home metadata collection id
+     * @param metadataConnectionName name of the metadata collection
+     * @param originatorName originator name
+     * @param creationTime creation time of archive
+     * @param provenanceType type of archive
+     * @param originatorLicense any license info
+     * @param instance instance to fill in
      */
-    private void processOpenMetadataArchive(OpenMetadataArchive                   archiveContent,
-                                            String                                archiveSource,
-                                            OMRSTypeDefEventProcessorInterface    typeDefProcessor,
-                                            OMRSInstanceEventProcessorInterface   instanceProcessor)
+    private void setInstanceAuditHeader(String                 metadataCollectionId,
+                                        String                 metadataConnectionName,
+                                        String                 originatorName,
+                                        Date                   creationTime,
+                                        InstanceProvenanceType provenanceType,
+                                        String                 originatorLicense,
+                                        InstanceAuditHeader    instance)
     {
-        final String     actionDescription = "Process Open Metadata Archive";
-
-        OpenMetadataArchiveProperties archiveProperties = archiveContent.getArchiveProperties();
-
-        if (archiveProperties != null)
+        if (provenanceType == InstanceProvenanceType.EXPORT_ARCHIVE)
         {
-            auditLog.logMessage(actionDescription, OMRSAuditCode.PROCESSING_ARCHIVE.getMessageDefinition(archiveProperties.getArchiveName()));
-
-
-            OpenMetadataArchiveTypeStore     archiveTypeStore     = archiveContent.getArchiveTypeStore();
-            OpenMetadataArchiveInstanceStore archiveInstanceStore = archiveContent.getArchiveInstanceStore();
+            if (instance.getMetadataCollectionId() == null)
+            {
+                instance.setMetadataCollectionId(metadataCollectionId);
+            }
 
-            int                              typeCount            = 0;
-            int                              instanceCount        = 0;
+            if (instance.getMetadataCollectionName() == null)
+            {
+                instance.setMetadataCollectionName(metadataConnectionName);
+            }
 
+            if (instance.getCreatedBy() == null)
+            {
+                instance.setCreatedBy(originatorName);
+            }
 
-            if (archiveTypeStore != null)
+            if (instance.getCreateTime() == null)
             {
-                typeCount = this.processTypeDefStore(archiveProperties, archiveTypeStore, typeDefProcessor);
+                instance.setCreateTime(creationTime);
             }
 
-            if (archiveInstanceStore != null)
+            if (instance.getInstanceProvenanceType() == null)
             {
-                instanceCount = this.processInstanceStore(archiveProperties, archiveInstanceStore, instanceProcessor);
+                instance.setInstanceProvenanceType(provenanceType);
             }
 
-            auditLog.logMessage(actionDescription,
-                                OMRSAuditCode.COMPLETED_ARCHIVE.getMessageDefinition(Integer.toString(typeCount),
-                                                                                     Integer.toString(instanceCount),
-                                                                                     archiveProperties.getArchiveName()));
+            if (instance.getInstanceLicense() == null)
+            {
+                instance.setInstanceLicense(originatorLicense);
+            }
         }
-        else
+        else /* assume this is a content pack and set up instances consistently */
         {
-            auditLog.logMessage(actionDescription, OMRSAuditCode.NULL_PROPERTIES_IN_ARCHIVE.getMessageDefinition(archiveSource));
+            instance.setMetadataCollectionId(metadataCollectionId);
+            instance.setMetadataCollectionName(metadataConnectionName);
+            instance.setCreatedBy(originatorName);
+            instance.setCreateTime(creationTime);
+            instance.setInstanceProvenanceType(InstanceProvenanceType.CONTENT_PACK);
+            instance.setInstanceLicense(originatorLicense);
         }
     }
 
 
     /**
-     * The TypeStore is in two parts.  First there is an optional list of patches to existing TypeDefs.
-     * Then an optional list of new TypeDefs.  It is possible that this archive has been processed before
-     * and so any duplicates detected are ignored.  However, conflicting TypeDefs are detected.
+     * ArchiveContentLoader receives the content of an open metadata archive one element at a time and passes it
+     * to the local repository (if it exists).  The TypeStore is processed first: the attribute TypeDefs, then the
+     * new TypeDefs and then the patches to existing TypeDefs.  This is followed by the InstanceStore: the entities,
+     * then the relationships and then the classifications.  The instances are passed on through an ArchiveInstanceIngester
+     * which may load them in parallel and in batches.  It is possible that this archive has been processed before
+     * and so any duplicates detected are ignored.  However, conflicting types and instances are detected.
      * Any problems found in applying the archive contents are recorded on the audit log.
-     *
-     * @param archiveProperties properties of the archive used for logging
-     * @param archiveTypeStore TypeStore from the archive
-     * @param typeDefProcessor processor of type definitions found in the archive
-     * @return type count
      */
-    private int  processTypeDefStore(OpenMetadataArchiveProperties          archiveProperties,
-                                     OpenMetadataArchiveTypeStore           archiveTypeStore,
-                                     OMRSTypeDefEventProcessorInterface     typeDefProcessor)
+    private class ArchiveContentLoader implements OpenMetadataArchiveContentProcessor
     {
-        List<TypeDefPatch>     typeDefPatches       = archiveTypeStore.getTypeDefPatches();
-        List<AttributeTypeDef> newAttributeTypeDefs = archiveTypeStore.getAttributeTypeDefs();
-        List<TypeDef>          newTypeDefs          = archiveTypeStore.getNewTypeDefs();
-        int                    typeCount            = 0;
+        private static final String actionDescription = "Process Open Metadata Archive";
+
+        private final String                              archiveSource;
+        private final OMRSTypeDefEventProcessorInterface  typeDefProcessor;
+        private final OMRSInstanceEventProcessorInterface instanceProcessor;
+        private final int                                 ingestionThreads;
+        private final int                                 ingestionBatchSize;
+
+        private OpenMetadataArchiveProperties archiveProperties     = null;
+        private String                        typeArchiveId         = null;
+        private String                        typeOriginatorName    = null;
+        private String                        typeServerType        = null;
+        private String                        instanceArchiveId     = null;
+        private String                        instanceServerType    = OpenMetadataArchiveType.CONTENT_PACK.getName();
+        private InstanceProvenanceType        provenanceType        = InstanceProvenanceType.CONTENT_PACK;
+        private ArchiveInstanceIngester       instanceIngester      = null;
+        private int                           typeCount             = 0;
+        private long                          instanceCount         = 0;
+
+
+        /**
+         * Constructor sets up the destinations for the archive content.
+         *
+         * @param archiveSource source of the archive - such as file name
+         * @param typeDefProcessor processor of type definitions found in the archive
+         * @param instanceProcessor the processor to add the instances to the local repository.  It may be null
+         *                          if there is no local repository configured for this server.
+         * @param ingestionThreads number of threads loading the instances
+         * @param ingestionBatchSize maximum number of instances passed to the instance processor in each call
+         */
+        ArchiveContentLoader(String                              archiveSource,
+                             OMRSTypeDefEventProcessorInterface  typeDefProcessor,
+                             OMRSInstanceEventProcessorInterface instanceProcessor,
+                             int                                 ingestionThreads,
+                             int                                 ingestionBatchSize)
+        {
+            this.archiveSource = archiveSource;
+            this.typeDefProcessor = typeDefProcessor;
+            this.instanceProcessor = instanceProcessor;
+            this.ingestionThreads = ingestionThreads;
+            this.ingestionBatchSize = ingestionBatchSize;
+        }
+
 
-        if (typeDefProcessor != null)
+        /**
+         * Save the archive properties for use in the events passed to the local repository.
+         *
+         * @param archiveProperties properties of the archive or null if the archive has no header
+         * @return boolean indicating whether the rest of the archive should be processed
+         */
+        @Override
+        public boolean processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
         {
-            String       sourceName = OMRSAuditingComponent.ARCHIVE_MANAGER.getComponentName();
-            String       originatorMetadataCollectionId = archiveProperties.getArchiveGUID();
-            String       originatorServerName = archiveProperties.getArchiveName();
-            String       originatorServerType = null;
-            String       originatorName = archiveProperties.getOriginatorName();
-            String       archiveVersion = archiveProperties.getArchiveVersion();
-            String       originatorOrganizationName = archiveProperties.getOriginatorOrganization();
+            if (archiveProperties == null)
+            {
+                auditLog.logMessage(actionDescription, OMRSAuditCode.NULL_PROPERTIES_IN_ARCHIVE.getMessageDefinition(archiveSource));
+
+                return false;
+            }
+
+            auditLog.logMessage(actionDescription, OMRSAuditCode.PROCESSING_ARCHIVE.getMessageDefinition(archiveProperties.getArchiveName()));
+
+            this.archiveProperties = archiveProperties;
 
             /*
-             * Originator name can not be null since it is used as the userId for calls to the repository
+             * Originator name can not be null for types since it is used as the userId for calls to the repository
              */
-            if (originatorName == null)
+            typeOriginatorName = archiveProperties.getOriginatorName();
+
+            if (typeOriginatorName == null)
             {
-                originatorName = sourceName;
+                typeOriginatorName = OMRSAuditingComponent.ARCHIVE_MANAGER.getComponentName();
             }
 
-            String archiveId = originatorName + " (" + archiveVersion + ")";
+            typeArchiveId = typeOriginatorName + " (" + archiveProperties.getArchiveVersion() + ")";
+            instanceArchiveId = archiveProperties.getOriginatorName() + " (" + archiveProperties.getArchiveVersion() + ")";
 
             if (archiveProperties.getArchiveType() != null)
             {
-                originatorServerType = archiveProperties.getArchiveType().getName();
+                typeServerType = archiveProperties.getArchiveType().getName();
             }
 
-            if (newAttributeTypeDefs != null)
+            if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.METADATA_EXPORT)
             {
-                for (AttributeTypeDef newAttributeTypeDef : newAttributeTypeDefs)
-                {
-                    if (newAttributeTypeDef != null)
-                    {
-                        typeDefProcessor.processNewAttributeTypeDefEvent(archiveId,
-                                                                         originatorMetadataCollectionId,
-                                                                         originatorServerName,
-                                                                         originatorServerType,
-                                                                         originatorOrganizationName,
-                                                                         newAttributeTypeDef);
-
-                        typeCount ++;
-                    }
-                }
+                provenanceType = InstanceProvenanceType.EXPORT_ARCHIVE;
+                instanceServerType = OpenMetadataArchiveType.METADATA_EXPORT.getName();
             }
 
-            if (newTypeDefs != null)
+            if (instanceProcessor != null)
             {
-                for (TypeDef newTypeDef : newTypeDefs)
-                {
-                    if (newTypeDef != null)
-                    {
-                        typeDefProcessor.processNewTypeDefEvent(archiveId,
-                                                                originatorMetadataCollectionId,
-                                                                originatorServerName,
-                                                                originatorServerType,
-                                                                originatorOrganizationName,
-                                                                newTypeDef);
-                        typeCount ++;
-                    }
-                }
+                instanceIngester = new ArchiveInstanceIngester(archiveProperties.getArchiveName(),
+                                                               instanceArchiveId,
+                                                               archiveProperties.getArchiveGUID(),
+                                                               instanceServerType,
+                                                               archiveProperties.getOriginatorOrganization(),
+                                                               instanceProcessor,
+                                                               auditLog,
+                                                               ingestionThreads,
+                                                               ingestionBatchSize);
             }
 
-            if (typeDefPatches != null)
-            {
-                for (TypeDefPatch typeDefPatch : typeDefPatches)
-                {
-                    if (typeDefPatch != null)
-                    {
-                        typeDefProcessor.processUpdatedTypeDefEvent(archiveId,
-                                                                    originatorMetadataCollectionId,
-                                                                    originatorServerName,
-                                                                    originatorServerType,
-                                                                    originatorOrganizationName,
-                                                                    typeDefPatch);
-                        typeCount ++;
-                    }
-                }
-            }
+            return true;
         }
 
-        return typeCount;
-    }
-
-
-    /**
-     * The InstanceStore is in three parts: an optional list of entities followed by an optional list
-     * of relationships followed by an optional list of classifications.
-     *
-     * It is possible that this archive has been processed before
-     * and so any duplicates detected are ignored.  However, conflicting instances are detected.
-     * Any problems found in applying the archive contents are recorded on the audit log.
-     *
-     * @param archiveProperties properties describing the archive used in logging
-     * @param archiveInstanceStore the instance store to process
-     * @param instanceProcessor the processor to add the instances to the local repository.  It may be null
-     *                          if there is no local repository configured for this server.
-     * @return instance count
-     */
-    private int  processInstanceStore(OpenMetadataArchiveProperties             archiveProperties,
-                                      OpenMetadataArchiveInstanceStore          archiveInstanceStore,
-                                      OMRSInstanceEventProcessorInterface       instanceProcessor)
-    {
-        List<EntityDetail>                  entities        = archiveInstanceStore.getEntities();
-        List<Relationship>                  relationships   = archiveInstanceStore.getRelationships();
-        List<ClassificationEntityExtension> classifications = archiveInstanceStore.getClassifications();
-        int                                 instanceCount   = 0;
 
-        if (instanceProcessor != null)
+        /**
+         * Pass an attribute TypeDef to the local repository.
+         *
+         * @param attributeTypeDef attribute type definition
+         */
+        @Override
+        public void processAttributeTypeDef(AttributeTypeDef attributeTypeDef)
         {
-            String                 sourceName                 = OMRSAuditingComponent.ARCHIVE_MANAGER.getComponentName();
-            String                 homeMetadataCollectionId   = archiveProperties.getArchiveGUID();
-            String                 archiveName                = archiveProperties.getArchiveName();
-            String                 originatorServerType       = OpenMetadataArchiveType.CONTENT_PACK.getName();
-            InstanceProvenanceType provenanceType             = InstanceProvenanceType.CONTENT_PACK;
-            Date                   archiveCreationTime        = archiveProperties.getCreationDate();
-            String                 originatorName             = archiveProperties.getOriginatorName();
-            String                 archiveVersion             = archiveProperties.getArchiveVersion();
-            String                 originatorOrganizationName = archiveProperties.getOriginatorOrganization();
-            String                 originatorLicense          = archiveProperties.getOriginatorLicense();
-
-            String archiveId = originatorName + " (" + archiveVersion + ")";
-
-            if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.METADATA_EXPORT)
+            if ((typeDefProcessor != null) && (attributeTypeDef != null))
             {
-                provenanceType       = InstanceProvenanceType.EXPORT_ARCHIVE;
-                originatorServerType = OpenMetadataArchiveType.METADATA_EXPORT.getName();
+                typeDefProcessor.processNewAttributeTypeDefEvent(typeArchiveId,
+                                                                 archiveProperties.getArchiveGUID(),
+                                                                 archiveProperties.getArchiveName(),
+                                                                 typeServerType,
+                                                                 archiveProperties.getOriginatorOrganization(),
+                                                                 attributeTypeDef);
+                typeCount ++;
             }
+        }
 
 
-            if (entities != null)
+        /**
+         * Pass a new TypeDef to the local repository.
+         *
+         * @param typeDef type definition
+         */
+        @Override
+        public void processNewTypeDef(TypeDef typeDef)
+        {
+            if ((typeDefProcessor != null) && (typeDef != null))
             {
-                for (EntityDetail entity : entities)
-                {
-                    if (entity != null)
-                    {
-                        this.setInstanceAuditHeader(homeMetadataCollectionId,
-                                                    archiveName,
-                                                    originatorName,
-                                                    archiveCreationTime,
-                                                    provenanceType,
-                                                    originatorLicense,
-                                                    entity);
-
-                        instanceProcessor.processNewEntityEvent(archiveId,
-                                                                homeMetadataCollectionId,
-                                                                archiveName,
-                                                                originatorServerType,
-                                                                originatorOrganizationName,
-                                                                entity);
-
-                        instanceCount++;
-                    }
-                }
+                typeDefProcessor.processNewTypeDefEvent(typeArchiveId,
+                                                        archiveProperties.getArchiveGUID(),
+                                                        archiveProperties.getArchiveName(),
+                                                        typeServerType,
+                                                        archiveProperties.getOriginatorOrganization(),
+                                                        typeDef);
+                typeCount ++;
             }
+        }
 
 
-            if (relationships != null)
+        /**
+         * Pass a patch to an existing TypeDef to the local repository.
+         *
+         * @param typeDefPatch patch to a type definition
+         */
+        @Override
+        public void processTypeDefPatch(TypeDefPatch typeDefPatch)
+        {
+            if ((typeDefProcessor != null) && (typeDefPatch != null))
             {
-                for (Relationship relationship : relationships)
-                {
-                    if (relationship != null)
-                    {
-                        this.setInstanceAuditHeader(homeMetadataCollectionId,
-                                                    archiveName,
-                                                    originatorName,
-                                                    archiveCreationTime,
-                                                    provenanceType,
-                                                    originatorLicense,
-                                                    relationship);
-
-                        instanceProcessor.processNewRelationshipEvent(archiveId,
-                                                                      homeMetadataCollectionId,
-                                                                      archiveName,
-                                                                      originatorServerType,
-                                                                      originatorOrganizationName,
-                                                                      relationship);
-
-                        instanceCount ++;
-                    }
-                }
+                typeDefProcessor.processUpdatedTypeDefEvent(typeArchiveId,
+                                                            archiveProperties.getArchiveGUID(),
+                                                            archiveProperties.getArchiveName(),
+                                                            typeServerType,
+                                                            archiveProperties.getOriginatorOrganization(),
+                                                            typeDefPatch);
+                typeCount ++;
             }
+        }
 
 
-            if (classifications != null)
+        /**
+         * Save the number of instances that will be loaded so the ingester can estimate the time to complete.
+         * Classifications are not counted because they are not loaded.
+         *
+         * @param entityCount number of entities
+         * @param relationshipCount number of relationships
+         * @param classificationCount number of classifications
+         */
+        @Override
+        public void processInstanceStoreSize(long entityCount,
+                                             long relationshipCount,
+                                             long classificationCount)
+        {
+            if (instanceIngester != null)
             {
-                for (ClassificationEntityExtension classificationEntityExtension : classifications)
-                {
-                    if (classificationEntityExtension != null)
-                    {
-                        Classification classification = classificationEntityExtension.getClassification();
-
-                        this.setInstanceAuditHeader(homeMetadataCollectionId,
-                                                    archiveName,
-                                                    originatorName,
-                                                    archiveCreationTime,
-                                                    provenanceType,
-                                                    originatorLicense,
-                                                    classification);
-
-                        classificationEntityExtension.setClassification(classification);
-
-                        // Todo
-                        /* new method required
-                        instanceProcessor.processNewClassificationEvent(archiveId,
-                                                                        homeMetadataCollectionId,
-                                                                        originatorServerName,
-                                                                        originatorServerType,
-                                                                        originatorOrganizationName,
-                                                                        classificationEntityExtension);
-
-                        instanceCount ++;
-                        */
-                    }
-                }
+                instanceIngester.setExpectedCount(entityCount + relationshipCount);
             }
         }
 
-        return instanceCount;
-    }
-
 
-    /**
-     * Set up the header of an archive instance.
-     *
-     * @param metadataCollectionId home metadata collection id
-     * @param metadataConnectionName name of the metadata collection
-     * @param originatorName originator name
-     * @param creationTime creation time of archive
-     * @param provenanceType type of archive
-     * @param originatorLicense any license info
-     * @param instance instance to fill in
-     */
-    private void setInstanceAuditHeader(String                 metadataCollectionId,
-                                        String                 metadataConnectionName,
-                                        String                 originatorName,
-                                        Date                   creationTime,
-                                        InstanceProvenanceType provenanceType,
-                                        String                 originatorLicense,
-                                        InstanceAuditHeader    instance)
-    {
-        if (provenanceType == InstanceProvenanceType.EXPORT_ARCHIVE)
+        /**
+         * Pass an entity to the local repository.
+         *
+         * @param entity entity
+         */
+        @Override
+        public void processEntity(EntityDetail entity)
         {
-            if (instance.getMetadataCollectionId() == null)
+            if ((instanceIngester != null) && (entity != null))
             {
-                instance.setMetadataCollectionId(metadataCollectionId);
-            }
+                this.setInstanceAuditHeader(entity);
 
-            if (instance.getMetadataCollectionName() == null)
-            {
-                instance.setMetadataCollectionName(metadataConnectionName);
+                instanceIngester.addEntity(entity);
             }
+        }
 
-            if (instance.getCreatedBy() == null)
+
+        /**
+         * Pass a relationship to the local repository.
+         *
+         * @param relationship relationship
+         */
+        @Override
+        public void processRelationship(Relationship relationship)
+        {
+            if ((instanceIngester != null) && (relationship != null))
             {
-                instance.setCreatedBy(originatorName);
+                this.setInstanceAuditHeader(relationship);
+
+                instanceIngester.addRelationship(relationship);
             }
+        }
 
-            if (instance.getCreateTime() == null)
+
+        /**
+         * Set up the header of a classification from the archive.
+         *
+         * @param classificationEntityExtension classification and the entity it belongs to
+         */
+        @Override
+        public void processClassification(ClassificationEntityExtension classificationEntityExtension)
+        {
+            if ((instanceProcessor != null) && (classificationEntityExtension != null))
             {
-                instance.setCreateTime(creationTime);
+                Classification classification = classificationEntityExtension.getClassification();
+
+                this.setInstanceAuditHeader(classification);
+
+                classificationEntityExtension.setClassification(classification);
+
+                // Todo
+                /* new method required
+                instanceProcessor.processNewClassificationEvent(archiveId,
+                                                                homeMetadataCollectionId,
+                                                                originatorServerName,
+                                                                originatorServerType,
+                                                                originatorOrganizationName,
+                                                                classificationEntityExtension);
+
+                instanceCount ++;
+                */
             }
+        }
 
-            if (instance.getInstanceProvenanceType() == null)
+
+        /**
+         * Wait for the instances to load and record that the archive has been processed.
+         */
+        void completeArchive()
+        {
+            if (instanceIngester != null)
             {
-                instance.setInstanceProvenanceType(provenanceType);
+                instanceCount = instanceIngester.complete();
+                instanceIngester = null;
             }
 
-            if (instance.getInstanceLicense() == null)
+            if (archiveProperties != null)
             {
-                instance.setInstanceLicense(originatorLicense);
+                auditLog.logMessage(actionDescription,
+                                    OMRSAuditCode.COMPLETED_ARCHIVE.getMessageDefinition(Integer.toString(typeCount),
+                                                                                         Long.toString(instanceCount),
+                                                                                         archiveProperties.getArchiveName()));
             }
         }
-        else /* assume this is a content pack and set up instances consistently */
+
+
+        /**
+         * Set up the header of an instance from the archive.
+         *
+         * @param instance instance to fill in
+         */
+        private void setInstanceAuditHeader(InstanceAuditHeader instance)
         {
-            instance.setMetadataCollectionId(metadataCollectionId);
-            instance.setMetadataCollectionName(metadataConnectionName);
-            instance.setCreatedBy(originatorName);
-            instance.setCreateTime(creationTime);
-            instance.setInstanceProvenanceType(InstanceProvenanceType.CONTENT_PACK);
-            instance.setInstanceLicense(originatorLicense);
+            OMRSArchiveManager.this.setInstanceAuditHeader(archiveProperties.getArchiveGUID(),
+                                                           archiveProperties.getArchiveName(),
+                                                           archiveProperties.getOriginatorName(),
+                                                           archiveProperties.getCreationDate(),
+                                                           provenanceType,
+                                                           archiveProperties.getOriginatorLicense(),
+                                                           instance);
         }
     }
 }
@@ -101,6 +101,27 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Create the federation control for a request that can be issued to all of the cohort members in parallel.
+     *
+     * @param userId calling user
+     * @param cohortConnectors list of connectors to call
+     * @param methodName calling method
+     * @return federation control
+     */
+    private FederationControl getParallelFederationControl(String                        userId,
+                                                           List<OMRSRepositoryConnector> cohortConnectors,
+                                                           String                        methodName)
+    {
+        return new ParallelFederationControl(userId,
+                                             cohortConnectors,
+                                             enterpriseParentConnector.getFederationWorkers(),
+                                             enterpriseParentConnector.getFederationTimeout(),
+                                             auditLog,
+                                             methodName);
+    }
+
+
     /* ==============================
      * Group 2: Working with typedefs
      */
@@ -136,7 +157,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         GetAllTypesExecutor executor = new GetAllTypesExecutor(userId,
                                                                methodName,
                                                                localMetadataCollectionId,
@@ -1111,7 +1132,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                 federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                 federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         GetRelationshipsForEntityExecutor executor          = new GetRelationshipsForEntityExecutor(userId,
                                                                                                     entityGUID,
                                                                                                     relationshipTypeGUID,
@@ -1126,6 +1147,10 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                     repositoryValidator,
                                                                                                     methodName);
 
+        executor.enableStreamingMerge(enterpriseParentConnector.getPageCursorCache(),
+                                      enterpriseParentConnector.getFederationWorkers(),
+                                      enterpriseParentConnector.getFederationTimeout());
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -1229,7 +1254,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                 federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                 federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         FindEntitiesByPropertyExecutor    executor          = new FindEntitiesByPropertyExecutor(userId,
                                                                                                  entityTypeGUID,
                                                                                                  matchProperties,
@@ -1246,6 +1271,10 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                  repositoryValidator,
                                                                                                  methodName);
 
+        executor.enableStreamingMerge(enterpriseParentConnector.getPageCursorCache(),
+                                      enterpriseParentConnector.getFederationWorkers(),
+                                      enterpriseParentConnector.getFederationTimeout());
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -1335,7 +1364,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         FindEntitiesExecutor executor       = new FindEntitiesExecutor(userId,
                                                                        entityTypeGUID,
                                                                        entitySubtypeGUIDs,
@@ -1352,6 +1381,10 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                        repositoryValidator,
                                                                        methodName);
 
+        executor.enableStreamingMerge(enterpriseParentConnector.getPageCursorCache(),
+                                      enterpriseParentConnector.getFederationWorkers(),
+                                      enterpriseParentConnector.getFederationTimeout());
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -1447,7 +1480,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                       federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                       federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         FindEntitiesByClassificationExecutor    executor          = new FindEntitiesByClassificationExecutor(userId,
                                                                                                              entityTypeGUID,
                                                                                                              classificationName,
@@ -1464,6 +1497,10 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                              repositoryValidator,
                                                                                                              methodName);
 
+        executor.enableStreamingMerge(enterpriseParentConnector.getPageCursorCache(),
+                                      enterpriseParentConnector.getFederationWorkers(),
+                                      enterpriseParentConnector.getFederationTimeout());
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -1554,7 +1591,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                   federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         FindEntitiesByPropertyValueExecutor executor          = new FindEntitiesByPropertyValueExecutor(userId,
                                                                                                         entityTypeGUID,
                                                                                                         searchCriteria,
@@ -1570,6 +1607,10 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         repositoryValidator,
                                                                                                         methodName);
 
+        executor.enableStreamingMerge(enterpriseParentConnector.getPageCursorCache(),
+                                      enterpriseParentConnector.getFederationWorkers(),
+                                      enterpriseParentConnector.getFederationTimeout());
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -1804,7 +1845,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl         federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl         federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         FindRelationshipsExecutor executor          = new FindRelationshipsExecutor(userId,
                                                                                     relationshipTypeGUID,
                                                                                     relationshipSubtypeGUIDs,
@@ -1820,6 +1861,10 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                     repositoryValidator,
                                                                                     methodName);
 
+        executor.enableStreamingMerge(enterpriseParentConnector.getPageCursorCache(),
+                                      enterpriseParentConnector.getFederationWorkers(),
+                                      enterpriseParentConnector.getFederationTimeout());
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -1908,7 +1953,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                   federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         FindRelationshipsByPropertyExecutor executor          = new FindRelationshipsByPropertyExecutor(userId,
                                                                                                         relationshipTypeGUID,
                                                                                                         matchProperties,
@@ -1924,6 +1969,10 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         repositoryValidator,
                                                                                                         methodName);
 
+        executor.enableStreamingMerge(enterpriseParentConnector.getPageCursorCache(),
+                                      enterpriseParentConnector.getFederationWorkers(),
+                                      enterpriseParentConnector.getFederationTimeout());
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -2011,7 +2060,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                        federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                        federationControl = this.getParallelFederationControl(userId, cohortConnectors, methodName);
         FindRelationshipsByPropertyValueExecutor executor          = new FindRelationshipsByPropertyValueExecutor(userId,
                                                                                                                   relationshipTypeGUID,
                                                                                                                   searchCriteria,
@@ -2026,6 +2075,10 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                                   repositoryValidator,
                                                                                                                   methodName);
 
+        executor.enableStreamingMerge(enterpriseParentConnector.getPageCursorCache(),
+                                      enterpriseParentConnector.getFederationWorkers(),
+                                      enterpriseParentConnector.getFederationTimeout());
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -2095,6 +2148,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         Map<String, EntityDetail>      combinedEntityResults       = new HashMap<>();
         Map<String, Relationship>      combinedRelationshipResults = new HashMap<>();
+        boolean                        truncated                   = false;
 
         EntityNotKnownException        entityNotKnownException         = null;
         FunctionNotSupportedException  functionNotSupportedException   = null;
@@ -2130,6 +2184,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                      */
                     if (results != null)
                     {
+                        truncated = truncated || results.isTruncated();
                         combinedRelationshipResults = this.addUniqueRelationships(combinedRelationshipResults,
                                                                                   results.getRelationships(),
                                                                                   cohortConnector.getServerName(),
@@ -2172,6 +2227,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
         return validatedInstanceGraphResults(repositoryName,
                                              combinedEntityResults,
                                              combinedRelationshipResults,
+                                             truncated,
                                              userNotAuthorizedException,
                                              propertyErrorException,
                                              functionNotSupportedException,
@@ -2254,6 +2310,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         Map<String, EntityDetail>      combinedEntityResults       = new HashMap<>();
         Map<String, Relationship>      combinedRelationshipResults = new HashMap<>();
+        boolean                        truncated                   = false;
 
         EntityNotKnownException        entityNotKnownException         = null;
         FunctionNotSupportedException  functionNotSupportedException   = null;
@@ -2292,6 +2349,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                      */
                     if (results != null)
                     {
+                        truncated = truncated || results.isTruncated();
                         combinedRelationshipResults = this.addUniqueRelationships(combinedRelationshipResults,
                                                                                   results.getRelationships(),
                                                                                   cohortConnector.getServerName(),
@@ -2334,6 +2392,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
         return validatedInstanceGraphResults(repositoryName,
                                              combinedEntityResults,
                                              combinedRelationshipResults,
+                                             truncated,
                                              userNotAuthorizedException,
                                              propertyErrorException,
                                              functionNotSupportedException,
@@ -4635,6 +4694,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
      * @param repositoryName name of this repository
      * @param accumulatedEntityResults list of returned entities
      * @param accumulatedRelationshipResults list of returned relationships
+     * @param truncated at least one of the repositories returned part of its graph
      * @param userNotAuthorizedException captured exception
      * @param propertyErrorException captured exception
      * @param functionNotSupportedException captured exception
@@ -4653,6 +4713,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     private InstanceGraph validatedInstanceGraphResults(String                        repositoryName,
                                                         Map<String, EntityDetail>     accumulatedEntityResults,
                                                         Map<String, Relationship>     accumulatedRelationshipResults,
+                                                        boolean                       truncated,
                                                         UserNotAuthorizedException    userNotAuthorizedException,
                                                         PropertyErrorException        propertyErrorException,
                                                         FunctionNotSupportedException functionNotSupportedException,
@@ -4680,6 +4741,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
 
             instanceGraph.setEntities(entityDetails);
             instanceGraph.setRelationships(relationships);
+            instanceGraph.setTruncated(truncated);
 
             return instanceGraph;
         }
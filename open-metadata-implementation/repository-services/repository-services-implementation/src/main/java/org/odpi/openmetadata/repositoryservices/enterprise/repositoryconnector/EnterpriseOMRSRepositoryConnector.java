@@ -4,6 +4,7 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.InstancePageCursorCache;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.OMRSInstanceRetrievalEventProcessor;
 import org.slf4j.Logger;
@@ -22,6 +23,12 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeExcept
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * EnterpriseOMRSRepositoryConnector supports federating calls to multiple metadata repositories.  As a result,
@@ -36,6 +43,16 @@ import java.util.List;
  *     repositories in the connected open metadata repository cohort(s).  It does by registering as an OMRSConnectorConsumer
  *     with the OMRSConnectorManager to be notified when connectors to new open metadata repositories are available.
  * </p>
+ * <p>
+ *     Federated queries are issued to the members of the cohort(s) in parallel using a pool of worker threads
+ *     owned by the connector.  The size of the pool and the time to wait for each member are set through the
+ *     federationThreads and federationTimeout (milliseconds) configuration properties of the connection.
+ * </p>
+ * <p>
+ *     Paged queries merge the sequenced results from each member and keep a cursor for each query in progress
+ *     so the next page continues where the last one stopped.  The number of cursors kept is set through the
+ *     pageCursorCacheSize configuration property.
+ * </p>
  */
 public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector implements OMRSConnectorConsumer
 {
@@ -49,6 +66,20 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
 
     private String callingServiceName = null;
 
+    private static final String federationThreadsProperty   = "federationThreads";
+    private static final String federationTimeoutProperty   = "federationTimeout";
+    private static final String pageCursorCacheSizeProperty = "pageCursorCacheSize";
+    private static final int    defaultFederationThreads    = 16;
+    private static final long   defaultFederationTimeout    = 30000;
+    private static final int    defaultPageCursorCacheSize  = 100;
+    private static final long   pageCursorLifetime          = 300000;
+
+    private int                     federationThreads   = defaultFederationThreads;
+    private long                    federationTimeout   = defaultFederationTimeout;
+    private int                     pageCursorCacheSize = defaultPageCursorCacheSize;
+    private ExecutorService         federationWorkers   = null;
+    private InstancePageCursorCache pageCursorCache     = null;
+
     private static final Logger log = LoggerFactory.getLogger(EnterpriseOMRSRepositoryConnector.class);
 
     /**
@@ -125,6 +156,25 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
             auditLog.logMessage(actionDescription, OMRSAuditCode.STARTING_ENTERPRISE_CONNECTOR.getMessageDefinition(callingServiceName));
         }
 
+        if (connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                this.federationThreads   = (int)this.getNumericProperty(configurationProperties, federationThreadsProperty, federationThreads);
+                this.federationTimeout   = this.getNumericProperty(configurationProperties, federationTimeoutProperty, federationTimeout);
+                this.pageCursorCacheSize = (int)this.getNumericProperty(configurationProperties, pageCursorCacheSizeProperty, pageCursorCacheSize);
+            }
+        }
+
+        this.pageCursorCache = new InstancePageCursorCache(pageCursorCacheSize, pageCursorLifetime);
+
+        if (federationThreads > 0)
+        {
+            this.federationWorkers = this.createFederationWorkers();
+        }
+
         if (connectorManager != null)
         {
             this.connectorConsumerId = connectorManager.registerConnectorConsumer(this);
@@ -162,11 +212,115 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
             connectorManager.unregisterConnectorConsumer(connectorConsumerId);
         }
 
+        if (federationWorkers != null)
+        {
+            federationWorkers.shutdownNow();
+            federationWorkers = null;
+        }
+
         localConnector = null;
         remoteCohortConnectors = new ArrayList<>();
     }
 
 
+    /**
+     * Create the pool of worker threads used to issue federated queries in parallel.  The threads are
+     * created on demand and are released again when the connector is idle.
+     *
+     * @return executor service
+     */
+    private ExecutorService createFederationWorkers()
+    {
+        final String        threadNamePrefix = "EnterpriseOMRSConnector:" + callingServiceName + ":";
+        final AtomicInteger threadNumber     = new AtomicInteger(0);
+
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(federationThreads,
+                                                            federationThreads,
+                                                            60,
+                                                            TimeUnit.SECONDS,
+                                                            new LinkedBlockingQueue<>(),
+                                                            (runnable) ->
+                                                            {
+                                                                Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+
+                                                                thread.setDaemon(true);
+                                                                return thread;
+                                                            });
+
+        workers.allowCoreThreadTimeOut(true);
+
+        return workers;
+    }
+
+
+    /**
+     * Return the value of a numeric configuration property.  The value may be supplied as a number or as a string,
+     * depending on how the configuration was created.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set or is not a number
+     * @return property value
+     */
+    private long getNumericProperty(Map<String, Object> configurationProperties,
+                                    String              propertyName,
+                                    long                defaultValue)
+    {
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if (propertyValue instanceof Number)
+        {
+            return ((Number)propertyValue).longValue();
+        }
+        else if (propertyValue instanceof String)
+        {
+            try
+            {
+                return Long.parseLong(((String)propertyValue).trim());
+            }
+            catch (NumberFormatException error)
+            {
+                log.error("Ignoring invalid value " + propertyValue + " for configuration property " + propertyName);
+            }
+        }
+
+        return defaultValue;
+    }
+
+
+    /**
+     * Return the pool of worker threads used to issue federated queries in parallel.
+     *
+     * @return executor service or null if federated queries are issued sequentially
+     */
+    ExecutorService getFederationWorkers()
+    {
+        return federationWorkers;
+    }
+
+
+    /**
+     * Return the maximum time to wait for a cohort member to respond to a federated query.
+     *
+     * @return time in milliseconds - zero means wait forever
+     */
+    long getFederationTimeout()
+    {
+        return federationTimeout;
+    }
+
+
+    /**
+     * Return the cache of cursors for the paged queries that are in progress.
+     *
+     * @return cursor cache or null if the connector is not started
+     */
+    InstancePageCursorCache getPageCursorCache()
+    {
+        return pageCursorCache;
+    }
+
+
     /**
      * Returns the metadata collection to the repository where the supplied instance can be updated, ie its home repository.
      *
@@ -9,19 +9,20 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * EntityAccumulator accumulates and validates entities received from a collection of open metadata
  * repositories.  It removes duplicates from the list by choosing the latest entity details object.
+ * The instances are returned in the order they were first received so the sequence of a merged page is kept.
  *
  * This class may be called simultaneously from many different threads so it must be thread-safe.
  */
 public class EntityAccumulator extends QueryInstanceAccumulatorBase
 {
-    private volatile Map<String, EntityDetail> accumulatedEntities = new HashMap<>();
+    private volatile Map<String, EntityDetail> accumulatedEntities = new LinkedHashMap<>();
 
 
     /**
@@ -86,25 +87,28 @@ public class EntityAccumulator extends QueryInstanceAccumulatorBase
     public synchronized void addEntities(List<EntityDetail>   entities,
                                          String               metadataCollectionId)
     {
-        if (entities != null)
+        super.addContribution(metadataCollectionId, () ->
         {
-            for (EntityDetail entity : entities)
+            if (entities != null)
             {
-                this.addEntity(entity, metadataCollectionId);
-            }
+                for (EntityDetail entity : entities)
+                {
+                    this.addEntity(entity, metadataCollectionId);
+                }
 
-            /*
-             * Record that this repository has returned results from the request.
-             */
-            super.setResultsReturned(metadataCollectionId, entities.size());
-        }
-        else
-        {
-            /*
-             * Even though results were not found it was still a successful request.
-             */
-            super.setResultsReturned(metadataCollectionId, 0);
-        }
+                /*
+                 * Record that this repository has returned results from the request.
+                 */
+                super.setResultsReturned(metadataCollectionId, entities.size());
+            }
+            else
+            {
+                /*
+                 * Even though results were not found it was still a successful request.
+                 */
+                super.setResultsReturned(metadataCollectionId, 0);
+            }
+        });
     }
 
 
@@ -0,0 +1,168 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * InstancePageCursor records how far a federated paging query has progressed through the results of each
+ * member of the cohort.  It allows the next page of the query to continue from where the last one stopped
+ * rather than re-reading all of the earlier pages from every member.
+ *
+ * The members' results are merged in sequence, so an instance that sorts before the last one merged cannot
+ * reappear.  The cursor only needs to remember the GUIDs of the instances that have the same sort key as the last
+ * one, so that their copies in the other members are not returned again.  This list is limited to
+ * MAX_RETURNED_GUIDS, which is only reached when a very large number of instances sort equally.
+ */
+public class InstancePageCursor
+{
+    private static final int MAX_RETURNED_GUIDS = 1000;
+
+    private int                  position;
+    private long                 lastUsedTime  = System.currentTimeMillis();
+    private Map<String, Integer> memberOffsets = new HashMap<>();
+    private InstanceHeader       lastInstance  = null;
+    private Set<String>          returnedGUIDs = new LinkedHashSet<>();
+
+
+    /**
+     * Create a cursor for the start of a query.
+     */
+    InstancePageCursor()
+    {
+        this.position = 0;
+    }
+
+
+    /**
+     * Return the position in the merged results that this cursor points to.
+     *
+     * @return element number
+     */
+    int getPosition()
+    {
+        return position;
+    }
+
+
+    /**
+     * Set up the position in the merged results that this cursor points to.
+     *
+     * @param position element number
+     */
+    void setPosition(int position)
+    {
+        this.position = position;
+        this.lastUsedTime = System.currentTimeMillis();
+    }
+
+
+    /**
+     * Return the time that this cursor was last moved.
+     *
+     * @return time in milliseconds
+     */
+    long getLastUsedTime()
+    {
+        return lastUsedTime;
+    }
+
+
+    /**
+     * Return the number of elements already consumed from a cohort member's results.
+     *
+     * @param metadataCollectionId unique identifier of the cohort member's metadata collection
+     * @return element number to request next
+     */
+    int getMemberOffset(String metadataCollectionId)
+    {
+        Integer offset = memberOffsets.get(metadataCollectionId);
+
+        if (offset == null)
+        {
+            return 0;
+        }
+
+        return offset;
+    }
+
+
+    /**
+     * Record the number of elements consumed from a cohort member's results.
+     *
+     * @param metadataCollectionId unique identifier of the cohort member's metadata collection
+     * @param offset element number to request next
+     */
+    void setMemberOffset(String metadataCollectionId,
+                         int    offset)
+    {
+        memberOffsets.put(metadataCollectionId, offset);
+    }
+
+
+    /**
+     * Return the last instance merged.
+     *
+     * @return instance or null if no instances have been merged
+     */
+    InstanceHeader getLastInstance()
+    {
+        return lastInstance;
+    }
+
+
+    /**
+     * Record the last instance merged.
+     *
+     * @param lastInstance instance
+     */
+    void setLastInstance(InstanceHeader lastInstance)
+    {
+        this.lastInstance = lastInstance;
+    }
+
+
+    /**
+     * Record that an instance with the same sort key as the last instance has been merged.  The oldest GUID is
+     * removed if the list is full.
+     *
+     * @param instanceGUID unique identifier of the instance
+     */
+    void markReturned(String instanceGUID)
+    {
+        if ((returnedGUIDs.add(instanceGUID)) && (returnedGUIDs.size() > MAX_RETURNED_GUIDS))
+        {
+            Iterator<String> iterator = returnedGUIDs.iterator();
+
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+
+    /**
+     * Return whether an instance with the same sort key as the last instance has been merged.
+     *
+     * @param instanceGUID unique identifier of the instance
+     * @return boolean flag
+     */
+    boolean wasReturned(String instanceGUID)
+    {
+        return returnedGUIDs.contains(instanceGUID);
+    }
+
+
+    /**
+     * Forget the instances that have been merged because the sort key has moved on.
+     */
+    void clearReturnedGUIDs()
+    {
+        returnedGUIDs.clear();
+    }
+}
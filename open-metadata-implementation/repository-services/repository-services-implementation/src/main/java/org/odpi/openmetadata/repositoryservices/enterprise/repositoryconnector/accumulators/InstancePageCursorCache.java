@@ -0,0 +1,93 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * InstancePageCursorCache holds the cursors of the federated paging queries that are in progress.  A cursor is
+ * saved at the end of each page and is taken by the request for the following page.  The cache is bounded both in
+ * size and the time that a cursor is kept for.  A request that does not find a cursor starts again from the
+ * beginning of each cohort member's results, which returns the same page but at a higher cost.
+ */
+public class InstancePageCursorCache
+{
+    private int                             maxCursors;
+    private long                            cursorLifetime;
+    private Map<String, InstancePageCursor> cursors;
+
+
+    /**
+     * Create the cache.
+     *
+     * @param maxCursors maximum number of cursors to keep
+     * @param cursorLifetime number of milliseconds that an unused cursor is kept for
+     */
+    public InstancePageCursorCache(int  maxCursors,
+                                   long cursorLifetime)
+    {
+        this.maxCursors = maxCursors;
+        this.cursorLifetime = cursorLifetime;
+
+        this.cursors = new LinkedHashMap<String, InstancePageCursor>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, InstancePageCursor> eldest)
+            {
+                return size() > InstancePageCursorCache.this.maxCursors;
+            }
+        };
+    }
+
+
+    /**
+     * Remove and return the cursor for the requested page of a query.  The cursor is removed so that it is only
+     * used by one request.
+     *
+     * @param queryKey identifier of the query (excluding the paging position)
+     * @param position element number that the page starts at
+     * @return cursor or null if no current cursor is available
+     */
+    synchronized InstancePageCursor takeCursor(String queryKey,
+                                               int    position)
+    {
+        InstancePageCursor cursor = cursors.remove(getCursorKey(queryKey, position));
+
+        if ((cursor != null) && (System.currentTimeMillis() - cursor.getLastUsedTime() > cursorLifetime))
+        {
+            return null;
+        }
+
+        return cursor;
+    }
+
+
+    /**
+     * Save the cursor at the end of a page so it can be used by the request for the next page.
+     *
+     * @param queryKey identifier of the query (excluding the paging position)
+     * @param cursor cursor positioned at the start of the next page
+     */
+    synchronized void saveCursor(String             queryKey,
+                                 InstancePageCursor cursor)
+    {
+        cursors.put(getCursorKey(queryKey, cursor.getPosition()), cursor);
+    }
+
+
+    /**
+     * Build the key for a cursor.
+     *
+     * @param queryKey identifier of the query
+     * @param position element number that the page starts at
+     * @return key
+     */
+    private String getCursorKey(String queryKey,
+                                int    position)
+    {
+        return queryKey + "@" + position;
+    }
+}
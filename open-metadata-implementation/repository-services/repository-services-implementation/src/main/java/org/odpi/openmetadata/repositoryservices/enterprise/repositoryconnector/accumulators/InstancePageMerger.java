@@ -0,0 +1,692 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * InstancePageMerger assembles a single page of results for a federated paging query.  Each member of the cohort
+ * returns its results in the requested sequence.  These streams are merged using a heap so the page is made up
+ * of the first instances across all members.  More results are only requested from a member when its buffered
+ * results are used up.
+ *
+ * Instances that sort equally are ordered by GUID, so the copies of an instance that are stored in more than one
+ * member are merged one after another.  Every copy is passed to the accumulator, which keeps the latest version,
+ * and the instance takes a single place in the page.  Copies of an instance that sort differently (because they
+ * are different versions and the sequence is by update time or a property value) are also resolved by the
+ * accumulator when they fall in the same page, but may be returned again on a later page.
+ *
+ * The position reached in each member's results and the sort key of the last instance merged are saved in a
+ * cursor at the end of the page so the request for the next page continues from there.  This means deep paging
+ * costs O(pageSize x members) rather than O(startingFrom x members).
+ *
+ * Only queries with a defined sequence can be merged (see isMergeable).  If a member needs to be asked for more
+ * results while the page is merged, the request runs on the federation workers and is abandoned if it does not
+ * complete within the federation timeout.  The page then has no contribution from that member's later results,
+ * and its cursor is not saved.
+ *
+ * @param <T> type of instance being returned
+ */
+public class InstancePageMerger<T extends InstanceHeader>
+{
+    /**
+     * PageRetriever is implemented by the executor to request a page of results from a single cohort member.
+     *
+     * @param <T> type of instance being returned
+     */
+    public interface PageRetriever<T>
+    {
+        /**
+         * Retrieve a page of results.  Any exceptions are captured in the accumulator.
+         *
+         * @param metadataCollectionId unique identifier for the metadata collection for the repository
+         * @param metadataCollection metadata collection object for the repository
+         * @param fromElement starting element
+         * @param pageSize maximum number of elements to return
+         * @return list of results (may be empty) or null if the request failed
+         */
+        List<T> retrievePage(String                 metadataCollectionId,
+                             OMRSMetadataCollection metadataCollection,
+                             int                    fromElement,
+                             int                    pageSize);
+    }
+
+
+    /**
+     * ResultsCollector is the accumulator method that receives the merged results.
+     *
+     * @param <T> type of instance being returned
+     */
+    public interface ResultsCollector<T>
+    {
+        /**
+         * Add results from a cohort member.
+         *
+         * @param results list of instances
+         * @param metadataCollectionId unique identifier for the metadata collection that returned them
+         */
+        void addResults(List<T> results,
+                        String  metadataCollectionId);
+    }
+
+
+    private InstancePageCursorCache cursorCache;
+    private String                  queryKey;
+    private int                     fromElement;
+    private int                     pageSize;
+    private Comparator<T>           comparator;
+    private Comparator<T>           sequenceComparator;
+    private InstancePageCursor      cursor;
+    private ExecutorService         federationWorkers;
+    private long                    federationTimeout;
+    private long                    mergeDeadline   = 0;
+    private boolean                 mergeIncomplete = false;
+    private List<MemberResults>     memberResults   = new ArrayList<>();
+    private Set<String>             rejectedMembers = new HashSet<>();
+
+
+    /**
+     * Return whether the results of a query can be merged in sequence.  The members of the cohort must return
+     * their results in a defined order for the merge to work.  Results in any order (or ordered by a property
+     * that is not named) are not merged, because each member may return them in a different order.
+     *
+     * @param sequencingProperty name of the property used to sequence the results
+     * @param sequencingOrder order of the results
+     * @return boolean flag
+     */
+    public static boolean isMergeable(String          sequencingProperty,
+                                      SequencingOrder sequencingOrder)
+    {
+        if ((sequencingOrder == null) || (sequencingOrder == SequencingOrder.ANY))
+        {
+            return false;
+        }
+
+        if ((sequencingOrder == SequencingOrder.PROPERTY_ASCENDING) || (sequencingOrder == SequencingOrder.PROPERTY_DESCENDING))
+        {
+            return (sequencingProperty != null);
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Create a merger for a single page request that asks the cohort members for more results on the
+     * caller's thread.
+     *
+     * @param cursorCache cache of cursors for queries that are in progress
+     * @param queryKey identifier of the query (excluding the paging position)
+     * @param fromElement starting element of the page
+     * @param pageSize number of elements in the page
+     * @param sequencingProperty name of the property used to sequence the results
+     * @param sequencingOrder order of the results
+     * @param propertiesGetter function to extract the properties from an instance
+     */
+    public InstancePageMerger(InstancePageCursorCache         cursorCache,
+                              String                          queryKey,
+                              int                             fromElement,
+                              int                             pageSize,
+                              String                          sequencingProperty,
+                              SequencingOrder                 sequencingOrder,
+                              Function<T, InstanceProperties> propertiesGetter)
+    {
+        this(cursorCache, queryKey, fromElement, pageSize, sequencingProperty, sequencingOrder, propertiesGetter, null, 0);
+    }
+
+
+    /**
+     * Create a merger for a single page request.
+     *
+     * @param cursorCache cache of cursors for queries that are in progress
+     * @param queryKey identifier of the query (excluding the paging position)
+     * @param fromElement starting element of the page
+     * @param pageSize number of elements in the page
+     * @param sequencingProperty name of the property used to sequence the results
+     * @param sequencingOrder order of the results
+     * @param propertiesGetter function to extract the properties from an instance
+     * @param federationWorkers pool of worker threads used to ask the cohort members for more results while the
+     *                          page is merged (null means ask on the caller's thread)
+     * @param federationTimeout maximum number of milliseconds to spend asking the cohort members for more results
+     *                          while the page is merged (zero means wait forever)
+     */
+    public InstancePageMerger(InstancePageCursorCache         cursorCache,
+                              String                          queryKey,
+                              int                             fromElement,
+                              int                             pageSize,
+                              String                          sequencingProperty,
+                              SequencingOrder                 sequencingOrder,
+                              Function<T, InstanceProperties> propertiesGetter,
+                              ExecutorService                 federationWorkers,
+                              long                            federationTimeout)
+    {
+        this.cursorCache = cursorCache;
+        this.queryKey    = queryKey;
+        this.fromElement = fromElement;
+        this.pageSize    = pageSize;
+        this.comparator  = getComparator(sequencingProperty, sequencingOrder, propertiesGetter);
+        this.sequenceComparator = comparator.thenComparing(InstanceHeader::getGUID, Comparator.nullsLast(Comparator.naturalOrder()));
+        this.cursor      = cursorCache.takeCursor(queryKey, fromElement);
+        this.federationWorkers = federationWorkers;
+        this.federationTimeout = federationTimeout;
+
+        if (cursor == null)
+        {
+            cursor = new InstancePageCursor();
+        }
+    }
+
+
+    /**
+     * Request the first batch of results from a member of the cohort.  This may be called on many threads at once.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @param retriever executor method that issues the request
+     * @param collector accumulator method that records a successful response
+     */
+    public void addCohortMember(String                 metadataCollectionId,
+                                OMRSMetadataCollection metadataCollection,
+                                PageRetriever<T>       retriever,
+                                ResultsCollector<T>    collector)
+    {
+        int startingOffset;
+
+        synchronized (this)
+        {
+            startingOffset = cursor.getMemberOffset(metadataCollectionId);
+        }
+
+        MemberResults member = new MemberResults(metadataCollectionId, metadataCollection, retriever, startingOffset);
+
+        /*
+         * If the page starts beyond the cursor, the elements to skip are requested in the first batch.
+         */
+        if (member.requestMore(fromElement - cursor.getPosition() + pageSize))
+        {
+            /*
+             * Record that this repository responded, even though its results are not yet passed to the accumulator.
+             */
+            collector.addResults(new ArrayList<>(), metadataCollectionId);
+
+            synchronized (this)
+            {
+                if (! rejectedMembers.contains(metadataCollectionId))
+                {
+                    memberResults.add(member);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Remove a member of the cohort that did not respond in time.  Its results are not merged, even if they
+     * arrive later.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     */
+    public synchronized void rejectCohortMember(String metadataCollectionId)
+    {
+        rejectedMembers.add(metadataCollectionId);
+        memberResults.removeIf(member -> metadataCollectionId.equals(member.metadataCollectionId));
+    }
+
+
+    /**
+     * Merge the results from each of the cohort members and pass the page to the accumulator in sequence.
+     * This is called once all cohort members have been added.
+     *
+     * @param collector accumulator method that receives the results
+     */
+    public synchronized void mergeResults(ResultsCollector<T> collector)
+    {
+        mergeDeadline = System.currentTimeMillis() + federationTimeout;
+
+        PriorityQueue<MemberResults> heap = new PriorityQueue<>(Math.max(memberResults.size(), 1),
+                                                                (member1, member2) ->
+                                                                {
+                                                                    int result = sequenceComparator.compare(member1.peek(), member2.peek());
+
+                                                                    if (result == 0)
+                                                                    {
+                                                                        result = member1.metadataCollectionId.compareTo(member2.metadataCollectionId);
+                                                                    }
+
+                                                                    return result;
+                                                                });
+
+        for (MemberResults member : memberResults)
+        {
+            if (member.hasNext())
+            {
+                heap.add(member);
+            }
+        }
+
+        int         elementsToSkip = fromElement - cursor.getPosition();
+        Set<String> pageGUIDs      = new HashSet<>();
+        T           lastInstance   = this.getLastInstance();
+
+        /*
+         * The page is complete once it has pageSize instances and the copies of its instances that are at the
+         * head of the members' results have been merged.
+         */
+        while ((! heap.isEmpty()) && ((pageGUIDs.size() < pageSize) || (this.isCopy(heap.peek().peek(), pageGUIDs, lastInstance))))
+        {
+            MemberResults member   = heap.poll();
+            T             instance = member.next();
+
+            if (instance != null)
+            {
+                if (pageGUIDs.contains(instance.getGUID()))
+                {
+                    /*
+                     * Another copy of an instance in this page - the accumulator keeps the latest version.
+                     */
+                    collector.addResults(Collections.singletonList(instance), member.metadataCollectionId);
+                }
+                else if (! this.isCopy(instance, pageGUIDs, lastInstance))
+                {
+                    if ((lastInstance == null) || (comparator.compare(instance, lastInstance) != 0))
+                    {
+                        cursor.clearReturnedGUIDs();
+                    }
+
+                    cursor.markReturned(instance.getGUID());
+                    lastInstance = instance;
+
+                    if (elementsToSkip > 0)
+                    {
+                        elementsToSkip--;
+                    }
+                    else
+                    {
+                        pageGUIDs.add(instance.getGUID());
+                        collector.addResults(Collections.singletonList(instance), member.metadataCollectionId);
+                    }
+                }
+            }
+
+            if (member.hasNext())
+            {
+                heap.add(member);
+            }
+        }
+
+        /*
+         * A full page means there may be more results so the cursor is saved for the next page.  If a member
+         * did not respond in time, its position is not known, so the next page starts without a cursor.
+         */
+        if ((pageGUIDs.size() == pageSize) && (! mergeIncomplete))
+        {
+            for (MemberResults member : memberResults)
+            {
+                cursor.setMemberOffset(member.metadataCollectionId, member.nextOffset);
+            }
+
+            cursor.setLastInstance(lastInstance);
+            cursor.setPosition(fromElement + pageSize);
+            cursorCache.saveCursor(queryKey, cursor);
+        }
+    }
+
+
+    /**
+     * Return whether an instance is a copy of one that has already been merged.  This is either an instance in
+     * the current page, or an instance with the same sort key as the last one merged that has already been
+     * returned or skipped.  Instances with earlier sort keys cannot reappear because the results are merged in
+     * sequence.
+     *
+     * @param instance instance from a member's results
+     * @param pageGUIDs GUIDs of the instances in the current page
+     * @param lastInstance last instance merged
+     * @return boolean flag
+     */
+    private boolean isCopy(T           instance,
+                           Set<String> pageGUIDs,
+                           T           lastInstance)
+    {
+        if (pageGUIDs.contains(instance.getGUID()))
+        {
+            return true;
+        }
+
+        return ((lastInstance != null) && (comparator.compare(instance, lastInstance) == 0) && (cursor.wasReturned(instance.getGUID())));
+    }
+
+
+    /**
+     * Return the last instance merged by the previous page.
+     *
+     * @return instance or null if this is the first page or there is no cursor
+     */
+    @SuppressWarnings(value = "unchecked")
+    private T getLastInstance()
+    {
+        return (T) cursor.getLastInstance();
+    }
+
+
+    /**
+     * Build the comparator for the requested sequencing order.  The cohort members are expected to return
+     * their results in this order.  Instances that sort equally are then ordered by GUID.
+     *
+     * @param sequencingProperty name of the property used to sequence the results
+     * @param sequencingOrder order of the results
+     * @param propertiesGetter function to extract the properties from an instance
+     * @return comparator
+     */
+    private Comparator<T> getComparator(String                          sequencingProperty,
+                                        SequencingOrder                 sequencingOrder,
+                                        Function<T, InstanceProperties> propertiesGetter)
+    {
+        if (sequencingOrder == null)
+        {
+            return (instance1, instance2) -> 0;
+        }
+
+        switch (sequencingOrder)
+        {
+            case GUID:
+                return Comparator.comparing(InstanceHeader::getGUID, Comparator.nullsLast(Comparator.naturalOrder()));
+
+            case CREATION_DATE_OLDEST:
+                return Comparator.comparing(InstanceHeader::getCreateTime, Comparator.nullsLast(Comparator.<Date>naturalOrder()));
+
+            case CREATION_DATE_RECENT:
+                return Comparator.comparing(InstanceHeader::getCreateTime, Comparator.nullsLast(Comparator.<Date>reverseOrder()));
+
+            case LAST_UPDATE_OLDEST:
+                return Comparator.comparing(this::getLastUpdateTime, Comparator.nullsLast(Comparator.<Date>naturalOrder()));
+
+            case LAST_UPDATE_RECENT:
+                return Comparator.comparing(this::getLastUpdateTime, Comparator.nullsLast(Comparator.<Date>reverseOrder()));
+
+            case PROPERTY_ASCENDING:
+                return (instance1, instance2) -> compareProperty(propertiesGetter.apply(instance1),
+                                                                 propertiesGetter.apply(instance2),
+                                                                 sequencingProperty);
+
+            case PROPERTY_DESCENDING:
+                return (instance1, instance2) -> compareProperty(propertiesGetter.apply(instance2),
+                                                                 propertiesGetter.apply(instance1),
+                                                                 sequencingProperty);
+
+            default:
+                return (instance1, instance2) -> 0;
+        }
+    }
+
+
+    /**
+     * Return the time that the instance was last changed.
+     *
+     * @param instance instance
+     * @return update time, or creation time if it has never been updated
+     */
+    private Date getLastUpdateTime(T instance)
+    {
+        if (instance.getUpdateTime() != null)
+        {
+            return instance.getUpdateTime();
+        }
+
+        return instance.getCreateTime();
+    }
+
+
+    /**
+     * Compare the value of a primitive property in two instances.  Instances with the property sort after
+     * those without it (in line with the local repository's sorting).  Values of different types are
+     * treated as equal.
+     *
+     * @param properties1 properties of the first instance
+     * @param properties2 properties of the second instance
+     * @param propertyName name of the property to compare
+     * @return sort result
+     */
+    @SuppressWarnings(value = "unchecked")
+    private int compareProperty(InstanceProperties properties1,
+                                InstanceProperties properties2,
+                                String             propertyName)
+    {
+        Object value1 = getPrimitiveValue(properties1, propertyName);
+        Object value2 = getPrimitiveValue(properties2, propertyName);
+
+        if ((value1 == null) && (value2 == null))
+        {
+            return 0;
+        }
+        else if (value2 == null)
+        {
+            return 1;
+        }
+        else if (value1 == null)
+        {
+            return -1;
+        }
+        else if ((value1 instanceof Comparable) && (value1.getClass().equals(value2.getClass())))
+        {
+            return ((Comparable<Object>) value1).compareTo(value2);
+        }
+
+        return 0;
+    }
+
+
+    /**
+     * Extract the value of a primitive property.
+     *
+     * @param properties properties of an instance
+     * @param propertyName name of the property
+     * @return value or null
+     */
+    private Object getPrimitiveValue(InstanceProperties properties,
+                                     String             propertyName)
+    {
+        if ((properties != null) && (propertyName != null))
+        {
+            InstancePropertyValue propertyValue = properties.getPropertyValue(propertyName);
+
+            if (propertyValue instanceof PrimitivePropertyValue)
+            {
+                return ((PrimitivePropertyValue) propertyValue).getPrimitiveValue();
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * MemberResults buffers the results from a single cohort member and requests more when needed.
+     */
+    private class MemberResults
+    {
+        private String                 metadataCollectionId;
+        private OMRSMetadataCollection metadataCollection;
+        private PageRetriever<T>       retriever;
+        private int                    nextOffset;
+        private Deque<T>               buffer    = new ArrayDeque<>();
+        private boolean                exhausted = false;
+
+
+        /**
+         * Constructor
+         *
+         * @param metadataCollectionId unique identifier for the metadata collection for the repository
+         * @param metadataCollection metadata collection object for the repository
+         * @param retriever executor method that issues the request
+         * @param startingOffset element number to start from
+         */
+        MemberResults(String                 metadataCollectionId,
+                      OMRSMetadataCollection metadataCollection,
+                      PageRetriever<T>       retriever,
+                      int                    startingOffset)
+        {
+            this.metadataCollectionId = metadataCollectionId;
+            this.metadataCollection   = metadataCollection;
+            this.retriever            = retriever;
+            this.nextOffset           = startingOffset;
+        }
+
+
+        /**
+         * Request the next batch of results from the cohort member.
+         *
+         * @param batchSize number of elements to request
+         * @return boolean flag - false means the request failed
+         */
+        boolean requestMore(int batchSize)
+        {
+            List<T> results = retriever.retrievePage(metadataCollectionId,
+                                                     metadataCollection,
+                                                     nextOffset + buffer.size(),
+                                                     batchSize);
+
+            if (results == null)
+            {
+                exhausted = true;
+                return false;
+            }
+
+            buffer.addAll(results);
+            exhausted = (results.size() < batchSize);
+
+            return true;
+        }
+
+
+        /**
+         * Request the next batch of results from the cohort member while the page is being merged.  The request
+         * runs on a federation worker so that it can be abandoned when the federation timeout expires.  No more
+         * results are requested from a member that does not respond in time.
+         *
+         * @param batchSize number of elements to request
+         */
+        void requestMoreBeforeDeadline(int batchSize)
+        {
+            if (federationWorkers == null)
+            {
+                requestMore(batchSize);
+                return;
+            }
+
+            final int       nextElement = nextOffset + buffer.size();
+            Future<List<T>> request;
+
+            try
+            {
+                request = federationWorkers.submit(() -> retriever.retrievePage(metadataCollectionId,
+                                                                                metadataCollection,
+                                                                                nextElement,
+                                                                                batchSize));
+            }
+            catch (RejectedExecutionException error)
+            {
+                /*
+                 * The worker pool is shutting down - the request is run on the caller's thread.
+                 */
+                requestMore(batchSize);
+                return;
+            }
+
+            List<T> results = null;
+
+            try
+            {
+                if (federationTimeout > 0)
+                {
+                    results = request.get(Math.max(mergeDeadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+                }
+                else
+                {
+                    results = request.get();
+                }
+            }
+            catch (TimeoutException | ExecutionException error)
+            {
+                request.cancel(true);
+                mergeIncomplete = true;
+            }
+            catch (InterruptedException error)
+            {
+                request.cancel(true);
+                mergeIncomplete = true;
+                Thread.currentThread().interrupt();
+            }
+
+            if (results == null)
+            {
+                exhausted = true;
+                return;
+            }
+
+            buffer.addAll(results);
+            exhausted = (results.size() < batchSize);
+        }
+
+
+        /**
+         * Return whether there are more results from this member, requesting them if needed.
+         *
+         * @return boolean flag
+         */
+        boolean hasNext()
+        {
+            if ((buffer.isEmpty()) && (! exhausted))
+            {
+                requestMoreBeforeDeadline(pageSize);
+            }
+
+            return (! buffer.isEmpty());
+        }
+
+
+        /**
+         * Return the next instance without consuming it.
+         *
+         * @return instance
+         */
+        T peek()
+        {
+            return buffer.peekFirst();
+        }
+
+
+        /**
+         * Consume the next instance.
+         *
+         * @return instance
+         */
+        T next()
+        {
+            nextOffset++;
+            return buffer.pollFirst();
+        }
+    }
+}
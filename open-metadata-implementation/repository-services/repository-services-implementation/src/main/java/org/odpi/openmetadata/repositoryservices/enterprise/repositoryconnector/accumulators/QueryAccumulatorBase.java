@@ -7,8 +7,12 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * QueryAccumulatorBase acts as a base class to the accumulators that need to visit each repository and
@@ -24,6 +28,13 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     private Map<String, Integer> resultsContributed = new HashMap<>();
     private boolean              resultsReturned = false;
 
+    /*
+     * The contributions from cohort members that are held until the federation control accepts them, and the
+     * cohort members whose contributions are rejected because they did not respond in time.
+     */
+    private Map<String, List<Runnable>> heldContributions = new HashMap<>();
+    private Set<String>                 rejectedMembers   = new HashSet<>();
+
 
     /**
      * Construct a query accumulator.  This base class manages the common variables needed to
@@ -63,7 +74,7 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
      *
      * @return true if a request succeeded.
      */
-    public boolean resultsReturned()
+    public synchronized boolean resultsReturned()
     {
         return (resultsReturned);
     }
@@ -79,6 +90,77 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     }
 
 
+    /**
+     * Hold the contributions from a cohort member separately from the results until they are accepted.
+     * This is used when the cohort member is called on another thread and may not respond in time.
+     *
+     * @param metadataCollectionId identifier of repository's metadata collection
+     */
+    public synchronized void holdResults(String metadataCollectionId)
+    {
+        heldContributions.putIfAbsent(metadataCollectionId, new ArrayList<>());
+    }
+
+
+    /**
+     * Add the held contributions from a cohort member to the results.  Any later contributions are added straight away.
+     *
+     * @param metadataCollectionId identifier of repository's metadata collection
+     */
+    public synchronized void acceptResults(String metadataCollectionId)
+    {
+        List<Runnable> contributions = heldContributions.remove(metadataCollectionId);
+
+        if (contributions != null)
+        {
+            for (Runnable contribution : contributions)
+            {
+                contribution.run();
+            }
+        }
+    }
+
+
+    /**
+     * Discard the held contributions from a cohort member, along with any that arrive later.
+     *
+     * @param metadataCollectionId identifier of repository's metadata collection
+     */
+    public synchronized void rejectResults(String metadataCollectionId)
+    {
+        heldContributions.remove(metadataCollectionId);
+        rejectedMembers.add(metadataCollectionId);
+    }
+
+
+    /**
+     * Add a contribution from a cohort member to the results, or hold it if the cohort member's results have not
+     * been accepted yet.  The contribution runs while this accumulator is locked.
+     *
+     * @param metadataCollectionId identifier of repository's metadata collection
+     * @param contribution update to the results
+     */
+    synchronized void addContribution(String   metadataCollectionId,
+                                      Runnable contribution)
+    {
+        if (rejectedMembers.contains(metadataCollectionId))
+        {
+            return;
+        }
+
+        List<Runnable> contributions = heldContributions.get(metadataCollectionId);
+
+        if (contributions != null)
+        {
+            contributions.add(contribution);
+        }
+        else
+        {
+            contribution.run();
+        }
+    }
+
+
     /**
      * This records the completion of the request to a single repository.
      *
@@ -118,8 +200,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                          metadataCollectionId,
                                               ClassificationErrorException    exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        classificationErrorException = exception;
+        addContribution(metadataCollectionId, () ->
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            classificationErrorException = exception;
+        });
     }
 
 
@@ -132,8 +217,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               EntityNotKnownException    exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        entityNotKnownException = exception;
+        addContribution(metadataCollectionId, () ->
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            entityNotKnownException = exception;
+        });
     }
 
 
@@ -147,8 +235,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                           metadataCollectionId,
                                               FunctionNotSupportedException    exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        functionNotSupportedException = exception;
+        addContribution(metadataCollectionId, () ->
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            functionNotSupportedException = exception;
+        });
     }
 
 
@@ -161,8 +252,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               InvalidParameterException  exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        invalidParameterException = exception;
+        addContribution(metadataCollectionId, () ->
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            invalidParameterException = exception;
+        });
     }
 
 
@@ -175,8 +269,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               PagingErrorException     exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        pagingErrorException = exception;
+        addContribution(metadataCollectionId, () ->
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            pagingErrorException = exception;
+        });
     }
 
 
@@ -189,8 +286,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               PropertyErrorException     exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        propertyErrorException = exception;
+        addContribution(metadataCollectionId, () ->
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            propertyErrorException = exception;
+        });
     }
 
 
@@ -203,8 +303,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                        metadataCollectionId,
                                               RelationshipNotKnownException exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        relationshipNotKnownException = exception;
+        addContribution(metadataCollectionId, () ->
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            relationshipNotKnownException = exception;
+        });
     }
 
 
@@ -217,8 +320,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               RepositoryErrorException   exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        repositoryErrorException = exception;
+        addContribution(metadataCollectionId, () ->
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            repositoryErrorException = exception;
+        });
     }
 
 
@@ -231,8 +337,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String               metadataCollectionId,
                                               TypeErrorException   exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        typeErrorException = exception;
+        addContribution(metadataCollectionId, () ->
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            typeErrorException = exception;
+        });
     }
 
 
@@ -245,8 +354,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               UserNotAuthorizedException exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        userNotAuthorizedException = exception;
+        addContribution(metadataCollectionId, () ->
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            userNotAuthorizedException = exception;
+        });
     }
 
 
@@ -259,7 +371,10 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureGenericException(String     metadataCollectionId,
                                                      Throwable  exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        anotherException = exception;
+        addContribution(metadataCollectionId, () ->
+        {
+            setRequestReturned(metadataCollectionId, 0);
+            anotherException = exception;
+        });
     }
 }
@@ -8,19 +8,20 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * RelationshipAccumulator accumulates and validates relationships received from a collection of open metadata
  * repositories.  It removes duplicates from the list by choosing the latest version.
+ * The instances are returned in the order they were first received so the sequence of a merged page is kept.
  *
  * This class may be called simultaneously from many different threads so it must be thread-safe.
  */
 public class RelationshipAccumulator extends QueryInstanceAccumulatorBase
 {
-    private volatile Map<String, Relationship> accumulatedRelationships   = new HashMap<>();
+    private volatile Map<String, Relationship> accumulatedRelationships   = new LinkedHashMap<>();
 
 
     /**
@@ -85,25 +86,28 @@ public class RelationshipAccumulator extends QueryInstanceAccumulatorBase
     public synchronized void addRelationships(List<Relationship>   relationships,
                                               String               metadataCollectionId)
     {
-        if (relationships != null)
+        super.addContribution(metadataCollectionId, () ->
         {
-            for (Relationship relationship : relationships)
+            if (relationships != null)
             {
-                this.addRelationship(relationship, metadataCollectionId);
-            }
+                for (Relationship relationship : relationships)
+                {
+                    this.addRelationship(relationship, metadataCollectionId);
+                }
 
-            /*
-             * Record that this repository has returned results from the request.
-             */
-            super.setResultsReturned(metadataCollectionId, relationships.size());
-        }
-        else
-        {
-            /*
-             * Even though results were not found it was still a successful request.
-             */
-            super.setResultsReturned(metadataCollectionId, 0);
-        }
+                /*
+                 * Record that this repository has returned results from the request.
+                 */
+                super.setResultsReturned(metadataCollectionId, relationships.size());
+            }
+            else
+            {
+                /*
+                 * Even though results were not found it was still a successful request.
+                 */
+                super.setResultsReturned(metadataCollectionId, 0);
+            }
+        });
     }
 
 
@@ -104,31 +104,34 @@ public class TypesAccumulator extends QueryAccumulatorBase
     public synchronized void addTypeDefGallery(TypeDefGallery types,
                                                String         metadataCollectionId)
     {
-        int numberOrAttributeTypeDefs = 0;
-        int numberOfTypeDefs = 0;
-
-        if (types != null)
+        super.addContribution(metadataCollectionId, () ->
         {
-            List<AttributeTypeDef> attributeTypeDefs = types.getAttributeTypeDefs();
-            if (attributeTypeDefs != null)
+            int numberOrAttributeTypeDefs = 0;
+            int numberOfTypeDefs = 0;
+
+            if (types != null)
             {
-                for (AttributeTypeDef type : attributeTypeDefs)
+                List<AttributeTypeDef> attributeTypeDefs = types.getAttributeTypeDefs();
+                if (attributeTypeDefs != null)
                 {
-                    this.addAttributeTypeDef(type, metadataCollectionId);
+                    for (AttributeTypeDef type : attributeTypeDefs)
+                    {
+                        this.addAttributeTypeDef(type, metadataCollectionId);
+                    }
                 }
-            }
 
-            List<TypeDef> typeDefs = types.getTypeDefs();
-            if (typeDefs != null)
-            {
-                for (TypeDef type : typeDefs)
+                List<TypeDef> typeDefs = types.getTypeDefs();
+                if (typeDefs != null)
                 {
-                    this.addTypeDef(type, metadataCollectionId);
+                    for (TypeDef type : typeDefs)
+                    {
+                        this.addTypeDef(type, metadataCollectionId);
+                    }
                 }
             }
-        }
 
-        super.setResultsReturned(metadataCollectionId, numberOrAttributeTypeDefs + numberOfTypeDefs);
+            super.setResultsReturned(metadataCollectionId, numberOrAttributeTypeDefs + numberOfTypeDefs);
+        });
     }
 
 
@@ -2,24 +2,45 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
 
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.CloneableRepositoryExecutor;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.RepositoryExecutor;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * ParallelFederationControl uses multiple worker threads to perform the calls to different systems in parallel.
+ * Each cohort member is called from its own worker thread using a clone of the supplied executor.  The clones share
+ * the executor's accumulator, which is thread-safe, but each cohort member's results are held apart from the
+ * combined results until the caller accepts them.
+ *
+ * The caller waits for all of the requests to complete, or for the federation timeout to expire.  The results of
+ * the requests that complete in time are added to the combined results.  Requests that are still running when the
+ * timeout expires are cancelled and their repository makes no contribution to the results, even if it responds later.
+ *
+ * If no worker threads are supplied, the cohort members are called one after another on the caller's thread.
  */
 public class ParallelFederationControl extends FederationControlBase
 {
-    // todo at this point the parallel federation control uses a sequential since the
-    // todo worker threads are not implemented.
+    private ExecutorService federationWorkers;
+    private long            federationTimeout;
+    private AuditLog        auditLog;
 
 
     /**
-     * Constructor for a federated query
+     * Constructor for a federated query that runs on the caller's thread.
      *
      * @param userId calling user
      * @param cohortConnectors list of connectors to call
@@ -28,9 +49,33 @@ public class ParallelFederationControl extends FederationControlBase
     public ParallelFederationControl(String                        userId,
                                      List<OMRSRepositoryConnector> cohortConnectors,
                                      String                        methodName)
+    {
+        this(userId, cohortConnectors, null, 0, null, methodName);
+    }
+
+
+    /**
+     * Constructor for a federated query that calls the cohort members in parallel.
+     *
+     * @param userId calling user
+     * @param cohortConnectors list of connectors to call
+     * @param federationWorkers pool of worker threads used to call the cohort members (null means call sequentially)
+     * @param federationTimeout maximum number of milliseconds to wait for each cohort member (zero means wait forever)
+     * @param auditLog logging destination for requests that time out
+     * @param methodName calling method
+     */
+    public ParallelFederationControl(String                        userId,
+                                     List<OMRSRepositoryConnector> cohortConnectors,
+                                     ExecutorService               federationWorkers,
+                                     long                          federationTimeout,
+                                     AuditLog                      auditLog,
+                                     String                        methodName)
     {
         super(userId, cohortConnectors, methodName);
 
+        this.federationWorkers = federationWorkers;
+        this.federationTimeout = federationTimeout;
+        this.auditLog          = auditLog;
     }
 
 
@@ -45,17 +90,228 @@ public class ParallelFederationControl extends FederationControlBase
     {
         if (super.cohortConnectors != null)
         {
-            for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+            if ((federationWorkers == null) || (cohortConnectors.size() < 2))
+            {
+                for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+                {
+                    issueRequestToRepository(cohortConnector, executor);
+                }
+            }
+            else
+            {
+                this.executeCommandInParallel(executor);
+            }
+        }
+    }
+
+
+    /**
+     * Hand each cohort member's request to a worker thread and wait for them all to complete or time out.
+     * The results from each cohort member are held separately and only the results of requests that complete
+     * before the deadline are added to the combined results.
+     *
+     * @param executor command to execute
+     * @throws RepositoryErrorException problem with the state of one of the repositories.
+     */
+    private void executeCommandInParallel(RepositoryExecutor executor) throws RepositoryErrorException
+    {
+        CloneableRepositoryExecutor cloneableExecutor     = null;
+        List<String>                metadataCollectionIds = new ArrayList<>();
+        List<Future<Boolean>>       requests              = new ArrayList<>();
+
+        if (executor instanceof CloneableRepositoryExecutor)
+        {
+            cloneableExecutor = (CloneableRepositoryExecutor) executor;
+        }
+
+        /*
+         * All of the requests share the deadline, which starts before they are submitted so that a slow
+         * submission counts against the federation timeout.  Any requests that are still running when it
+         * passes are cancelled and their results are discarded, even if they arrive later.
+         */
+        long deadline = System.currentTimeMillis() + federationTimeout;
+
+        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        {
+            if (cohortConnector != null)
+            {
+                String             metadataCollectionId = cohortConnector.getMetadataCollectionId();
+                RepositoryExecutor memberExecutor       = executor;
+
+                if (cloneableExecutor != null)
+                {
+                    memberExecutor = (RepositoryExecutor) cloneableExecutor.getClone();
+                    cloneableExecutor.holdResults(metadataCollectionId);
+                }
+
+                final RepositoryExecutor requestExecutor = memberExecutor;
+
+                try
+                {
+                    requests.add(federationWorkers.submit(() -> issueRequestToRepository(cohortConnector, requestExecutor)));
+                    metadataCollectionIds.add(metadataCollectionId);
+                }
+                catch (RejectedExecutionException error)
+                {
+                    /*
+                     * The worker pool is shutting down - the request is run on the caller's thread.
+                     */
+                    try
+                    {
+                        issueRequestToRepository(cohortConnector, requestExecutor);
+                    }
+                    finally
+                    {
+                        this.acceptResults(cloneableExecutor, metadataCollectionId);
+                    }
+                }
+            }
+        }
+
+        for (int i = 0; i < requests.size(); i++)
+        {
+            Future<Boolean> request              = requests.get(i);
+            String          metadataCollectionId = metadataCollectionIds.get(i);
+
+            try
+            {
+                if (federationTimeout > 0)
+                {
+                    request.get(Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+                }
+                else
+                {
+                    request.get();
+                }
+
+                this.acceptResults(cloneableExecutor, metadataCollectionId);
+            }
+            catch (TimeoutException error)
+            {
+                request.cancel(true);
+                this.rejectResults(cloneableExecutor, metadataCollectionId);
+
+                if (auditLog != null)
+                {
+                    auditLog.logMessage(methodName,
+                                        OMRSAuditCode.FEDERATED_REQUEST_TIMEOUT.getMessageDefinition(methodName,
+                                                                                                     metadataCollectionId,
+                                                                                                     Long.toString(federationTimeout)));
+                }
+            }
+            catch (InterruptedException error)
+            {
+                /*
+                 * The caller is being shut down so there is no point waiting for the other repositories.
+                 */
+                this.cancelRequests(cloneableExecutor, requests, metadataCollectionIds, i);
+
+                Thread.currentThread().interrupt();
+                return;
+            }
+            catch (ExecutionException error)
             {
-                if (cohortConnector != null)
+                if (cloneableExecutor != null)
                 {
-                    OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+                    /*
+                     * The failure is recorded in the accumulator, like the exceptions that the executor captures
+                     * itself, so the other cohort members can still contribute to the results.
+                     */
+                    cloneableExecutor.captureRequestException(metadataCollectionId, error.getCause());
+                    cloneableExecutor.acceptResults(metadataCollectionId);
+                    continue;
+                }
 
-                    String metadataCollectionId = this.validateMetadataCollection(metadataCollection, methodName);
+                this.cancelRequests(null, requests, metadataCollectionIds, i + 1);
 
-                    executor.issueRequestToRepository(metadataCollectionId, metadataCollection);
+                if (error.getCause() instanceof RepositoryErrorException)
+                {
+                    throw (RepositoryErrorException) error.getCause();
                 }
+
+                throw new RepositoryErrorException(OMRSErrorCode.UNEXPECTED_EXCEPTION_FROM_COHORT.getMessageDefinition(methodName,
+                                                                                                                        error.getCause().getMessage()),
+                                                   this.getClass().getName(),
+                                                   methodName,
+                                                   error.getCause());
             }
         }
     }
+
+
+    /**
+     * Cancel the requests that are still outstanding and discard their held results.
+     *
+     * @param cloneableExecutor executor holding the results - null if the results are not held
+     * @param requests requests to the cohort members
+     * @param metadataCollectionIds identifiers of the cohort members' metadata collections
+     * @param firstRequest index of the first request to cancel
+     */
+    private void cancelRequests(CloneableRepositoryExecutor cloneableExecutor,
+                                List<Future<Boolean>>       requests,
+                                List<String>                metadataCollectionIds,
+                                int                         firstRequest)
+    {
+        for (int i = firstRequest; i < requests.size(); i++)
+        {
+            requests.get(i).cancel(true);
+            this.rejectResults(cloneableExecutor, metadataCollectionIds.get(i));
+        }
+    }
+
+
+    /**
+     * Add the held results from a cohort member to the combined results.
+     *
+     * @param cloneableExecutor executor holding the results - null if the results are not held
+     * @param metadataCollectionId identifier of the cohort member's metadata collection
+     */
+    private void acceptResults(CloneableRepositoryExecutor cloneableExecutor,
+                               String                      metadataCollectionId)
+    {
+        if (cloneableExecutor != null)
+        {
+            cloneableExecutor.acceptResults(metadataCollectionId);
+        }
+    }
+
+
+    /**
+     * Discard the held results from a cohort member that did not respond in time.
+     *
+     * @param cloneableExecutor executor holding the results - null if the results are not held
+     * @param metadataCollectionId identifier of the cohort member's metadata collection
+     */
+    private void rejectResults(CloneableRepositoryExecutor cloneableExecutor,
+                               String                      metadataCollectionId)
+    {
+        if (cloneableExecutor != null)
+        {
+            cloneableExecutor.rejectResults(metadataCollectionId);
+        }
+    }
+
+
+    /**
+     * Issue the request to a single member of the cohort.
+     *
+     * @param cohortConnector connector to the cohort member
+     * @param executor command to execute
+     * @return boolean true means that the required results have been achieved
+     * @throws RepositoryErrorException the cohort member's metadata collection is null
+     */
+    private boolean issueRequestToRepository(OMRSRepositoryConnector cohortConnector,
+                                             RepositoryExecutor      executor) throws RepositoryErrorException
+    {
+        if (cohortConnector != null)
+        {
+            OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+
+            String metadataCollectionId = this.validateMetadataCollection(metadataCollection, methodName);
+
+            return executor.issueRequestToRepository(metadataCollectionId, metadataCollection);
+        }
+
+        return false;
+    }
 }
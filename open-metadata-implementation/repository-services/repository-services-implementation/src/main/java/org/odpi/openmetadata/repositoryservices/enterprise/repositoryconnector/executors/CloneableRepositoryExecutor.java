@@ -4,7 +4,8 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.
 
 /**
  * CloneableRepositoryExecutor describes the interface for a repository executor that can be cloned to run
- * in parallel.  They use a shared accumulator to gather and assemble the result.
+ * in parallel.  They use a shared accumulator to gather and assemble the result.  The results from each
+ * repository can be held separately until the caller decides whether to include them.
  */
 public interface CloneableRepositoryExecutor
 {
@@ -14,4 +15,38 @@ public interface CloneableRepositoryExecutor
      * @return clone of this executor
      */
     CloneableRepositoryExecutor getClone();
+
+
+    /**
+     * Hold the results from a repository separately until they are accepted or rejected.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     */
+    void holdResults(String metadataCollectionId);
+
+
+    /**
+     * Include the held results from a repository in the combined results.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     */
+    void acceptResults(String metadataCollectionId);
+
+
+    /**
+     * Discard the held results from a repository, along with any that arrive later.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     */
+    void rejectResults(String metadataCollectionId);
+
+
+    /**
+     * Record an exception that ended the request to a repository before the executor could capture it.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param exception exception from the request
+     */
+    void captureRequestException(String    metadataCollectionId,
+                                 Throwable exception);
 }
@@ -4,6 +4,7 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.
 
 
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.QueryAccumulatorBase;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 
 
 /**
@@ -12,12 +13,70 @@ import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.a
  */
 abstract class CloneableRepositoryExecutorBase extends RepositoryExecutorBase implements CloneableRepositoryExecutor
 {
+    private QueryAccumulatorBase queryAccumulator;
+
+
     CloneableRepositoryExecutorBase(String               userId,
                                     String               methodName,
                                     QueryAccumulatorBase accumulator)
     {
         super(userId, methodName);
 
+        this.queryAccumulator = accumulator;
+
         accumulator.registerExecutor();
     }
+
+
+    /**
+     * Hold the results from a repository separately until they are accepted or rejected.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     */
+    public void holdResults(String metadataCollectionId)
+    {
+        queryAccumulator.holdResults(metadataCollectionId);
+    }
+
+
+    /**
+     * Include the held results from a repository in the combined results.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     */
+    public void acceptResults(String metadataCollectionId)
+    {
+        queryAccumulator.acceptResults(metadataCollectionId);
+    }
+
+
+    /**
+     * Discard the held results from a repository, along with any that arrive later.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     */
+    public void rejectResults(String metadataCollectionId)
+    {
+        queryAccumulator.rejectResults(metadataCollectionId);
+    }
+
+
+    /**
+     * Record an exception that ended the request to a repository before the executor could capture it.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param exception exception from the request
+     */
+    public void captureRequestException(String    metadataCollectionId,
+                                        Throwable exception)
+    {
+        if (exception instanceof RepositoryErrorException)
+        {
+            queryAccumulator.captureException(metadataCollectionId, (RepositoryErrorException) exception);
+        }
+        else
+        {
+            queryAccumulator.captureGenericException(metadataCollectionId, exception);
+        }
+    }
 }
@@ -12,10 +12,14 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.EntityAccumulator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.InstancePageCursorCache;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.InstancePageMerger;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * FindEntitiesByClassificationExecutor is the executor for the findEntitiesByClassification request.
@@ -28,6 +32,7 @@ public class FindEntitiesByClassificationExecutor extends PageableRepositoryExec
     private MatchCriteria      matchCriteria;
 
     private EntityAccumulator  accumulator;
+    private InstancePageMerger<EntityDetail> merger = null;
 
 
     /**
@@ -155,19 +160,39 @@ public class FindEntitiesByClassificationExecutor extends PageableRepositoryExec
      */
     public CloneableRepositoryExecutor getClone()
     {
-        return new FindEntitiesByClassificationExecutor(userId,
-                                                        instanceTypeGUID,
-                                                        classificationName,
-                                                        matchClassificationProperties,
-                                                        matchCriteria,
-                                                        startingElement,
-                                                        limitResultsByStatus,
-                                                        asOfTime,
-                                                        sequencingProperty,
-                                                        sequencingOrder,
-                                                        pageSize,
-                                                        accumulator,
-                                                        methodName);
+        FindEntitiesByClassificationExecutor clone = new FindEntitiesByClassificationExecutor(userId,
+                                                                                              instanceTypeGUID,
+                                                                                              classificationName,
+                                                                                              matchClassificationProperties,
+                                                                                              matchCriteria,
+                                                                                              startingElement,
+                                                                                              limitResultsByStatus,
+                                                                                              asOfTime,
+                                                                                              sequencingProperty,
+                                                                                              sequencingOrder,
+                                                                                              pageSize,
+                                                                                              accumulator,
+                                                                                              methodName);
+
+        clone.merger = merger;
+
+        return clone;
+    }
+
+
+    /**
+     * Set up the executor to merge the sequenced results from each repository.
+     *
+     * @param cursorCache cache of the cursors for paging queries that are in progress
+     * @param federationWorkers pool of worker threads used to ask the repositories for more results while the page
+     *                          is merged (null means ask on the caller's thread)
+     * @param federationTimeout maximum number of milliseconds to wait for more results while the page is merged
+     */
+    public void enableStreamingMerge(InstancePageCursorCache cursorCache,
+                                     ExecutorService         federationWorkers,
+                                     long                    federationTimeout)
+    {
+        this.merger = super.getPageMerger(cursorCache, federationWorkers, federationTimeout, EntityDetail::getProperties, classificationName, matchClassificationProperties, matchCriteria);
     }
 
 
@@ -180,6 +205,38 @@ public class FindEntitiesByClassificationExecutor extends PageableRepositoryExec
      */
     public boolean issueRequestToRepository(String                 metadataCollectionId,
                                             OMRSMetadataCollection metadataCollection)
+    {
+        if (merger != null)
+        {
+            merger.addCohortMember(metadataCollectionId, metadataCollection, this::retrievePage, accumulator::addEntities);
+        }
+        else
+        {
+            List<EntityDetail> results = this.retrievePage(metadataCollectionId, metadataCollection, startingElement, pageSize);
+
+            if (results != null)
+            {
+                accumulator.addEntities(results, metadataCollectionId);
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Retrieve a page of results from the supplied repository.  Any exceptions are captured in the accumulator.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @param fromElement starting element
+     * @param maxElements maximum number of elements to return
+     * @return list of results (may be empty) or null if the request failed
+     */
+    private List<EntityDetail> retrievePage(String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection,
+                                            int                    fromElement,
+                                            int                    maxElements)
     {
         try
         {
@@ -191,14 +248,19 @@ public class FindEntitiesByClassificationExecutor extends PageableRepositoryExec
                                                                                          classificationName,
                                                                                          matchClassificationProperties,
                                                                                          matchCriteria,
-                                                                                         startingElement,
+                                                                                         fromElement,
                                                                                          limitResultsByStatus,
                                                                                          asOfTime,
                                                                                          sequencingProperty,
                                                                                          sequencingOrder,
-                                                                                         pageSize);
+                                                                                         maxElements);
+
+            if (results == null)
+            {
+                return new ArrayList<>();
+            }
 
-            accumulator.addEntities(results, metadataCollectionId);
+            return results;
 
         }
         catch (InvalidParameterException error)
@@ -238,7 +300,7 @@ public class FindEntitiesByClassificationExecutor extends PageableRepositoryExec
             accumulator.captureGenericException(metadataCollectionId, error);
         }
 
-        return true;
+        return null;
     }
 
 
@@ -267,6 +329,11 @@ public class FindEntitiesByClassificationExecutor extends PageableRepositoryExec
                                                                                                        FunctionNotSupportedException,
                                                                                                        UserNotAuthorizedException
     {
+        if (merger != null)
+        {
+            merger.mergeResults(accumulator::addEntities);
+        }
+
         if (accumulator.resultsReturned())
         {
             return accumulator.getResults(repositoryConnector);
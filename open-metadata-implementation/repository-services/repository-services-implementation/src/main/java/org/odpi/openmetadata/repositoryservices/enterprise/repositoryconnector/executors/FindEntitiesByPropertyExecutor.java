@@ -12,10 +12,14 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.EntityAccumulator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.InstancePageCursorCache;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.InstancePageMerger;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * FindEntitiesByPropertyExecutor is the executor for the findEntitiesByProperty request.
@@ -28,6 +32,7 @@ public class FindEntitiesByPropertyExecutor extends PageableRepositoryExecutorBa
     private List<String>       limitResultsByClassification;
 
     private EntityAccumulator  accumulator;
+    private InstancePageMerger<EntityDetail> merger = null;
 
 
     /**
@@ -153,19 +158,39 @@ public class FindEntitiesByPropertyExecutor extends PageableRepositoryExecutorBa
      */
     public CloneableRepositoryExecutor getClone()
     {
-        return new FindEntitiesByPropertyExecutor(userId,
-                                                  instanceTypeGUID,
-                                                  matchProperties,
-                                                  matchCriteria,
-                                                  startingElement,
-                                                  limitResultsByStatus,
-                                                  limitResultsByClassification,
-                                                  asOfTime,
-                                                  sequencingProperty,
-                                                  sequencingOrder,
-                                                  pageSize,
-                                                  accumulator,
-                                                  methodName);
+        FindEntitiesByPropertyExecutor clone = new FindEntitiesByPropertyExecutor(userId,
+                                                                                  instanceTypeGUID,
+                                                                                  matchProperties,
+                                                                                  matchCriteria,
+                                                                                  startingElement,
+                                                                                  limitResultsByStatus,
+                                                                                  limitResultsByClassification,
+                                                                                  asOfTime,
+                                                                                  sequencingProperty,
+                                                                                  sequencingOrder,
+                                                                                  pageSize,
+                                                                                  accumulator,
+                                                                                  methodName);
+
+        clone.merger = merger;
+
+        return clone;
+    }
+
+
+    /**
+     * Set up the executor to merge the sequenced results from each repository.
+     *
+     * @param cursorCache cache of the cursors for paging queries that are in progress
+     * @param federationWorkers pool of worker threads used to ask the repositories for more results while the page
+     *                          is merged (null means ask on the caller's thread)
+     * @param federationTimeout maximum number of milliseconds to wait for more results while the page is merged
+     */
+    public void enableStreamingMerge(InstancePageCursorCache cursorCache,
+                                     ExecutorService         federationWorkers,
+                                     long                    federationTimeout)
+    {
+        this.merger = super.getPageMerger(cursorCache, federationWorkers, federationTimeout, EntityDetail::getProperties, matchProperties, matchCriteria, limitResultsByClassification);
     }
 
 
@@ -178,6 +203,38 @@ public class FindEntitiesByPropertyExecutor extends PageableRepositoryExecutorBa
      */
     public boolean issueRequestToRepository(String                 metadataCollectionId,
                                             OMRSMetadataCollection metadataCollection)
+    {
+        if (merger != null)
+        {
+            merger.addCohortMember(metadataCollectionId, metadataCollection, this::retrievePage, accumulator::addEntities);
+        }
+        else
+        {
+            List<EntityDetail> results = this.retrievePage(metadataCollectionId, metadataCollection, startingElement, pageSize);
+
+            if (results != null)
+            {
+                accumulator.addEntities(results, metadataCollectionId);
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Retrieve a page of results from the supplied repository.  Any exceptions are captured in the accumulator.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @param fromElement starting element
+     * @param maxElements maximum number of elements to return
+     * @return list of results (may be empty) or null if the request failed
+     */
+    private List<EntityDetail> retrievePage(String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection,
+                                            int                    fromElement,
+                                            int                    maxElements)
     {
         try
         {
@@ -188,15 +245,20 @@ public class FindEntitiesByPropertyExecutor extends PageableRepositoryExecutorBa
                                                                                    instanceTypeGUID,
                                                                                    matchProperties,
                                                                                    matchCriteria,
-                                                                                   startingElement,
+                                                                                   fromElement,
                                                                                    limitResultsByStatus,
                                                                                    limitResultsByClassification,
                                                                                    asOfTime,
                                                                                    sequencingProperty,
                                                                                    sequencingOrder,
-                                                                                   pageSize);
+                                                                                   maxElements);
+
+            if (results == null)
+            {
+                return new ArrayList<>();
+            }
 
-            accumulator.addEntities(results, metadataCollectionId);
+            return results;
         }
         catch (InvalidParameterException error)
         {
@@ -231,7 +293,7 @@ public class FindEntitiesByPropertyExecutor extends PageableRepositoryExecutorBa
             accumulator.captureGenericException(metadataCollectionId, error);
         }
 
-        return true;
+        return null;
     }
 
 
@@ -260,6 +322,11 @@ public class FindEntitiesByPropertyExecutor extends PageableRepositoryExecutorBa
                                                                                                        FunctionNotSupportedException,
                                                                                                        UserNotAuthorizedException
     {
+        if (merger != null)
+        {
+            merger.mergeResults(accumulator::addEntities);
+        }
+
         if (accumulator.resultsReturned())
         {
             return accumulator.getResults(repositoryConnector);
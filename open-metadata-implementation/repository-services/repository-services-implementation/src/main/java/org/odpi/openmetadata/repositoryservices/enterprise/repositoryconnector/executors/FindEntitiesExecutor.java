@@ -12,10 +12,14 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.EntityAccumulator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.InstancePageCursorCache;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.InstancePageMerger;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * FindEntitiesExecutor is the executor for the findEntities request.
@@ -29,6 +33,7 @@ public class FindEntitiesExecutor extends PageableRepositoryExecutorBase
     private List<String>          instanceSubtypeGUIDs;
 
     private EntityAccumulator  accumulator;
+    private InstancePageMerger<EntityDetail> merger = null;
 
     /**
      * Create the executor.  The parameters provide the parameters for issuing the requests and
@@ -156,19 +161,39 @@ public class FindEntitiesExecutor extends PageableRepositoryExecutorBase
      */
     public CloneableRepositoryExecutor getClone()
     {
-        return new FindEntitiesExecutor(userId,
-                                        instanceTypeGUID,
-                                        instanceSubtypeGUIDs,
-                                        matchProperties,
-                                        startingElement,
-                                        limitResultsByStatus,
-                                        matchClassifications,
-                                        asOfTime,
-                                        sequencingProperty,
-                                        sequencingOrder,
-                                        pageSize,
-                                        accumulator,
-                                        methodName);
+        FindEntitiesExecutor clone = new FindEntitiesExecutor(userId,
+                                                              instanceTypeGUID,
+                                                              instanceSubtypeGUIDs,
+                                                              matchProperties,
+                                                              startingElement,
+                                                              limitResultsByStatus,
+                                                              matchClassifications,
+                                                              asOfTime,
+                                                              sequencingProperty,
+                                                              sequencingOrder,
+                                                              pageSize,
+                                                              accumulator,
+                                                              methodName);
+
+        clone.merger = merger;
+
+        return clone;
+    }
+
+
+    /**
+     * Set up the executor to merge the sequenced results from each repository.
+     *
+     * @param cursorCache cache of the cursors for paging queries that are in progress
+     * @param federationWorkers pool of worker threads used to ask the repositories for more results while the page
+     *                          is merged (null means ask on the caller's thread)
+     * @param federationTimeout maximum number of milliseconds to wait for more results while the page is merged
+     */
+    public void enableStreamingMerge(InstancePageCursorCache cursorCache,
+                                     ExecutorService         federationWorkers,
+                                     long                    federationTimeout)
+    {
+        this.merger = super.getPageMerger(cursorCache, federationWorkers, federationTimeout, EntityDetail::getProperties, instanceSubtypeGUIDs, matchProperties, matchClassifications);
     }
 
 
@@ -181,6 +206,38 @@ public class FindEntitiesExecutor extends PageableRepositoryExecutorBase
      */
     public boolean issueRequestToRepository(String                 metadataCollectionId,
                                             OMRSMetadataCollection metadataCollection)
+    {
+        if (merger != null)
+        {
+            merger.addCohortMember(metadataCollectionId, metadataCollection, this::retrievePage, accumulator::addEntities);
+        }
+        else
+        {
+            List<EntityDetail> results = this.retrievePage(metadataCollectionId, metadataCollection, startingElement, pageSize);
+
+            if (results != null)
+            {
+                accumulator.addEntities(results, metadataCollectionId);
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Retrieve a page of results from the supplied repository.  Any exceptions are captured in the accumulator.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @param fromElement starting element
+     * @param maxElements maximum number of elements to return
+     * @return list of results (may be empty) or null if the request failed
+     */
+    private List<EntityDetail> retrievePage(String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection,
+                                            int                    fromElement,
+                                            int                    maxElements)
     {
         try
         {
@@ -191,15 +248,20 @@ public class FindEntitiesExecutor extends PageableRepositoryExecutorBase
                                                                          instanceTypeGUID,
                                                                          instanceSubtypeGUIDs,
                                                                          matchProperties,
-                                                                         startingElement,
+                                                                         fromElement,
                                                                          limitResultsByStatus,
                                                                          matchClassifications,
                                                                          asOfTime,
                                                                          sequencingProperty,
                                                                          sequencingOrder,
-                                                                         pageSize);
+                                                                         maxElements);
+
+            if (results == null)
+            {
+                return new ArrayList<>();
+            }
 
-            accumulator.addEntities(results, metadataCollectionId);
+            return results;
         }
         catch (InvalidParameterException error)
         {
@@ -234,7 +296,7 @@ public class FindEntitiesExecutor extends PageableRepositoryExecutorBase
             accumulator.captureGenericException(metadataCollectionId, error);
         }
 
-        return true;
+        return null;
     }
 
 
@@ -263,6 +325,11 @@ public class FindEntitiesExecutor extends PageableRepositoryExecutorBase
                                                                                                        FunctionNotSupportedException,
                                                                                                        UserNotAuthorizedException
     {
+        if (merger != null)
+        {
+            merger.mergeResults(accumulator::addEntities);
+        }
+
         if (accumulator.resultsReturned())
         {
             return accumulator.getResults(repositoryConnector);
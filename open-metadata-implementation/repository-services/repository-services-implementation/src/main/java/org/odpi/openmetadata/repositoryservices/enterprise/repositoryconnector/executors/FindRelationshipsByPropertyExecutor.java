@@ -12,10 +12,14 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.RelationshipAccumulator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.InstancePageCursorCache;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.InstancePageMerger;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 
 /**
@@ -28,6 +32,7 @@ public class FindRelationshipsByPropertyExecutor extends PageableRepositoryExecu
     private MatchCriteria      matchCriteria;
 
     private RelationshipAccumulator accumulator;
+    private InstancePageMerger<Relationship> merger = null;
 
 
     /**
@@ -154,18 +159,38 @@ public class FindRelationshipsByPropertyExecutor extends PageableRepositoryExecu
      */
     public CloneableRepositoryExecutor getClone()
     {
-        return new FindRelationshipsByPropertyExecutor(userId,
-                                                       instanceTypeGUID,
-                                                       matchProperties,
-                                                       matchCriteria,
-                                                       startingElement,
-                                                       limitResultsByStatus,
-                                                       asOfTime,
-                                                       sequencingProperty,
-                                                       sequencingOrder,
-                                                       pageSize,
-                                                       accumulator,
-                                                       methodName);
+        FindRelationshipsByPropertyExecutor clone = new FindRelationshipsByPropertyExecutor(userId,
+                                                                                            instanceTypeGUID,
+                                                                                            matchProperties,
+                                                                                            matchCriteria,
+                                                                                            startingElement,
+                                                                                            limitResultsByStatus,
+                                                                                            asOfTime,
+                                                                                            sequencingProperty,
+                                                                                            sequencingOrder,
+                                                                                            pageSize,
+                                                                                            accumulator,
+                                                                                            methodName);
+
+        clone.merger = merger;
+
+        return clone;
+    }
+
+
+    /**
+     * Set up the executor to merge the sequenced results from each repository.
+     *
+     * @param cursorCache cache of the cursors for paging queries that are in progress
+     * @param federationWorkers pool of worker threads used to ask the repositories for more results while the page
+     *                          is merged (null means ask on the caller's thread)
+     * @param federationTimeout maximum number of milliseconds to wait for more results while the page is merged
+     */
+    public void enableStreamingMerge(InstancePageCursorCache cursorCache,
+                                     ExecutorService         federationWorkers,
+                                     long                    federationTimeout)
+    {
+        this.merger = super.getPageMerger(cursorCache, federationWorkers, federationTimeout, Relationship::getProperties, matchProperties, matchCriteria);
     }
 
 
@@ -178,6 +203,38 @@ public class FindRelationshipsByPropertyExecutor extends PageableRepositoryExecu
      */
     public boolean issueRequestToRepository(String                 metadataCollectionId,
                                             OMRSMetadataCollection metadataCollection)
+    {
+        if (merger != null)
+        {
+            merger.addCohortMember(metadataCollectionId, metadataCollection, this::retrievePage, accumulator::addRelationships);
+        }
+        else
+        {
+            List<Relationship> results = this.retrievePage(metadataCollectionId, metadataCollection, startingElement, pageSize);
+
+            if (results != null)
+            {
+                accumulator.addRelationships(results, metadataCollectionId);
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Retrieve a page of results from the supplied repository.  Any exceptions are captured in the accumulator.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @param fromElement starting element
+     * @param maxElements maximum number of elements to return
+     * @return list of results (may be empty) or null if the request failed
+     */
+    private List<Relationship> retrievePage(String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection,
+                                            int                    fromElement,
+                                            int                    maxElements)
     {
         try
         {
@@ -188,14 +245,19 @@ public class FindRelationshipsByPropertyExecutor extends PageableRepositoryExecu
                                                                                         instanceTypeGUID,
                                                                                         matchProperties,
                                                                                         matchCriteria,
-                                                                                        startingElement,
+                                                                                        fromElement,
                                                                                         limitResultsByStatus,
                                                                                         asOfTime,
                                                                                         sequencingProperty,
                                                                                         sequencingOrder,
-                                                                                        pageSize);
+                                                                                        maxElements);
+
+            if (results == null)
+            {
+                return new ArrayList<>();
+            }
 
-            accumulator.addRelationships(results, metadataCollectionId);
+            return results;
         }
         catch (InvalidParameterException error)
         {
@@ -230,7 +292,7 @@ public class FindRelationshipsByPropertyExecutor extends PageableRepositoryExecu
             accumulator.captureGenericException(metadataCollectionId, error);
         }
 
-        return true;
+        return null;
     }
 
 
@@ -258,6 +320,11 @@ public class FindRelationshipsByPropertyExecutor extends PageableRepositoryExecu
                                                                                                          FunctionNotSupportedException,
                                                                                                          UserNotAuthorizedException
     {
+        if (merger != null)
+        {
+            merger.mergeResults(accumulator::addRelationships);
+        }
+
         if (accumulator.resultsReturned())
         {
             return accumulator.getResults(repositoryConnector);
@@ -10,10 +10,14 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.RelationshipAccumulator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.InstancePageCursorCache;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.InstancePageMerger;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 
 /**
@@ -25,6 +29,7 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
     private String searchCriteria;
 
     private RelationshipAccumulator accumulator;
+    private InstancePageMerger<Relationship> merger = null;
 
 
     /**
@@ -144,17 +149,37 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
      */
     public CloneableRepositoryExecutor getClone()
     {
-        return new FindRelationshipsByPropertyValueExecutor(userId,
-                                                            instanceTypeGUID,
-                                                            searchCriteria,
-                                                            startingElement,
-                                                            limitResultsByStatus,
-                                                            asOfTime,
-                                                            sequencingProperty,
-                                                            sequencingOrder,
-                                                            pageSize,
-                                                            accumulator,
-                                                            methodName);
+        FindRelationshipsByPropertyValueExecutor clone = new FindRelationshipsByPropertyValueExecutor(userId,
+                                                                                                      instanceTypeGUID,
+                                                                                                      searchCriteria,
+                                                                                                      startingElement,
+                                                                                                      limitResultsByStatus,
+                                                                                                      asOfTime,
+                                                                                                      sequencingProperty,
+                                                                                                      sequencingOrder,
+                                                                                                      pageSize,
+                                                                                                      accumulator,
+                                                                                                      methodName);
+
+        clone.merger = merger;
+
+        return clone;
+    }
+
+
+    /**
+     * Set up the executor to merge the sequenced results from each repository.
+     *
+     * @param cursorCache cache of the cursors for paging queries that are in progress
+     * @param federationWorkers pool of worker threads used to ask the repositories for more results while the page
+     *                          is merged (null means ask on the caller's thread)
+     * @param federationTimeout maximum number of milliseconds to wait for more results while the page is merged
+     */
+    public void enableStreamingMerge(InstancePageCursorCache cursorCache,
+                                     ExecutorService         federationWorkers,
+                                     long                    federationTimeout)
+    {
+        this.merger = super.getPageMerger(cursorCache, federationWorkers, federationTimeout, Relationship::getProperties, searchCriteria);
     }
 
 
@@ -167,6 +192,38 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
      */
     public boolean issueRequestToRepository(String                 metadataCollectionId,
                                             OMRSMetadataCollection metadataCollection)
+    {
+        if (merger != null)
+        {
+            merger.addCohortMember(metadataCollectionId, metadataCollection, this::retrievePage, accumulator::addRelationships);
+        }
+        else
+        {
+            List<Relationship> results = this.retrievePage(metadataCollectionId, metadataCollection, startingElement, pageSize);
+
+            if (results != null)
+            {
+                accumulator.addRelationships(results, metadataCollectionId);
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Retrieve a page of results from the supplied repository.  Any exceptions are captured in the accumulator.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @param fromElement starting element
+     * @param maxElements maximum number of elements to return
+     * @return list of results (may be empty) or null if the request failed
+     */
+    private List<Relationship> retrievePage(String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection,
+                                            int                    fromElement,
+                                            int                    maxElements)
     {
         try
         {
@@ -176,14 +233,19 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
             List<Relationship> results = metadataCollection.findRelationshipsByPropertyValue(userId,
                                                                                              instanceTypeGUID,
                                                                                              searchCriteria,
-                                                                                             startingElement,
+                                                                                             fromElement,
                                                                                              limitResultsByStatus,
                                                                                              asOfTime,
                                                                                              sequencingProperty,
                                                                                              sequencingOrder,
-                                                                                             pageSize);
+                                                                                             maxElements);
+
+            if (results == null)
+            {
+                return new ArrayList<>();
+            }
 
-            accumulator.addRelationships(results, metadataCollectionId);
+            return results;
         }
         catch (InvalidParameterException error)
         {
@@ -218,7 +280,7 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
             accumulator.captureGenericException(metadataCollectionId, error);
         }
 
-        return true;
+        return null;
     }
 
 
@@ -246,6 +308,11 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
                                                                                                         FunctionNotSupportedException,
                                                                                                         UserNotAuthorizedException
     {
+        if (merger != null)
+        {
+            merger.mergeResults(accumulator::addRelationships);
+        }
+
         if (accumulator.resultsReturned())
         {
             return accumulator.getResults(repositoryConnector);
@@ -4,18 +4,25 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.
 
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.InstancePageCursorCache;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.InstancePageMerger;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.QueryInstanceAccumulatorBase;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 
 /**
- * CloneableRepositoryExecutorBase provides a base class for executors that can be cloned and run in
- * parallel so the call to each repository runs in a different thread.
+ * PageableRepositoryExecutorBase provides a base class for executors that can be cloned and run in
+ * parallel so the call to each repository runs in a different thread.  The results for a paged request
+ * may either be combined as they arrive or merged in sequence using an InstancePageMerger.
  */
-abstract class PageableRepositoryExecutorBase extends CloneableRepositoryExecutorBase
+public abstract class PageableRepositoryExecutorBase extends CloneableRepositoryExecutorBase
 {
     int  startingElement;
     int  pageSize;
@@ -27,6 +34,7 @@ abstract class PageableRepositoryExecutorBase extends CloneableRepositoryExecuto
     Date                 asOfTime;
 
     private QueryInstanceAccumulatorBase queryInstanceAccumulator;
+    private InstancePageMerger<?>        pageMerger = null;
 
     /**
      * Create the executor.  The parameters provide the parameters for issuing the requests and
@@ -68,6 +76,97 @@ abstract class PageableRepositoryExecutorBase extends CloneableRepositoryExecuto
     }
 
 
+    /**
+     * Request that the results from each repository are merged in sequence so that only the requested page
+     * is returned, and the following page can continue from where this one stopped.  This has no effect if the
+     * page size is unrestricted or the results are not sequenced.
+     *
+     * @param cursorCache cache of the cursors for paging queries that are in progress
+     * @param federationWorkers pool of worker threads used to ask the repositories for more results while the page
+     *                          is merged (null means ask on the caller's thread)
+     * @param federationTimeout maximum number of milliseconds to wait for more results while the page is merged
+     */
+    public abstract void enableStreamingMerge(InstancePageCursorCache cursorCache,
+                                              ExecutorService         federationWorkers,
+                                              long                    federationTimeout);
+
+
+    /**
+     * Create the merger for a paged request.
+     *
+     * @param cursorCache cache of the cursors for paging queries that are in progress
+     * @param federationWorkers pool of worker threads used to ask the repositories for more results while the page
+     *                          is merged (null means ask on the caller's thread)
+     * @param federationTimeout maximum number of milliseconds to wait for more results while the page is merged
+     * @param propertiesGetter function to extract the properties from a returned instance
+     * @param queryCriteria the search criteria that are specific to the request
+     * @param <T> type of instance returned
+     * @return merger or null if the results are not to be merged
+     */
+    <T extends InstanceHeader> InstancePageMerger<T> getPageMerger(InstancePageCursorCache         cursorCache,
+                                                                   ExecutorService                 federationWorkers,
+                                                                   long                            federationTimeout,
+                                                                   Function<T, InstanceProperties> propertiesGetter,
+                                                                   Object...                       queryCriteria)
+    {
+        if ((cursorCache == null) || (pageSize <= 0) || (! InstancePageMerger.isMergeable(sequencingProperty, sequencingOrder)))
+        {
+            return null;
+        }
+
+        /*
+         * The query key identifies all of the parameters except the starting element so that the cursor
+         * from one page is only picked up by the request for the next page of the same query.
+         */
+        StringBuilder queryKey = new StringBuilder(methodName);
+
+        queryKey.append(':').append(userId)
+                .append(':').append(instanceTypeGUID)
+                .append(':').append(limitResultsByStatus)
+                .append(':').append(asOfTime)
+                .append(':').append(sequencingProperty)
+                .append(':').append(sequencingOrder)
+                .append(':').append(pageSize);
+
+        for (Object criteria : queryCriteria)
+        {
+            queryKey.append(':').append(criteria);
+        }
+
+        InstancePageMerger<T> merger = new InstancePageMerger<>(cursorCache,
+                                                                queryKey.toString(),
+                                                                startingElement,
+                                                                pageSize,
+                                                                sequencingProperty,
+                                                                sequencingOrder,
+                                                                propertiesGetter,
+                                                                federationWorkers,
+                                                                federationTimeout);
+
+        this.pageMerger = merger;
+
+        return merger;
+    }
+
+
+    /**
+     * Discard the held results from a repository, along with any that arrive later.  The repository is
+     * also removed from the page merge.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     */
+    @Override
+    public void rejectResults(String metadataCollectionId)
+    {
+        super.rejectResults(metadataCollectionId);
+
+        if (pageMerger != null)
+        {
+            pageMerger.rejectCohortMember(metadataCollectionId);
+        }
+    }
+
+
     /**
      * Return any of the exceptions that are common to paging requests.
      *
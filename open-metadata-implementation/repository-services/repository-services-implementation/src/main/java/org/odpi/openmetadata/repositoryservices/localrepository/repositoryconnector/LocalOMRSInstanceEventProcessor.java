@@ -9,6 +9,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
 import org.odpi.openmetadata.repositoryservices.events.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RelationshipNotKnownException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,6 +24,9 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.eventmanagement.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 
@@ -1753,8 +1757,46 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         {
             verifyEventProcessor(methodName);
 
-            localMetadataCollection.saveInstanceReferenceCopies(localRepositoryConnector.getServerUserId(),
-                                                                instances);
+            if (instances != null)
+            {
+                /*
+                 * Each instance goes through the same checks as an instance received in its own event, except that the
+                 * stored versions of the entities are retrieved together.  The instances that pass are then saved with a
+                 * single call to the repository.
+                 */
+                List<String>       localInstanceGUIDs  = new ArrayList<>();
+                List<EntityDetail> entitiesToSave      = getReferenceEntitiesToSave(sourceName,
+                                                                                    methodName,
+                                                                                    originatorMetadataCollectionId,
+                                                                                    originatorServerName,
+                                                                                    instances.getEntities(),
+                                                                                    localInstanceGUIDs);
+                List<Relationship> relationshipsToSave = getReferenceRelationshipsToSave(sourceName,
+                                                                                         methodName,
+                                                                                         originatorMetadataCollectionId,
+                                                                                         originatorServerName,
+                                                                                         instances.getRelationships(),
+                                                                                         localInstanceGUIDs);
+
+                if (! localInstanceGUIDs.isEmpty())
+                {
+                    auditLog.logMessage(methodName,
+                                        OMRSAuditCode.LOCAL_INSTANCES_IN_BATCH.getMessageDefinition(methodName,
+                                                                                                    Integer.toString(localInstanceGUIDs.size()),
+                                                                                                    originatorServerName,
+                                                                                                    originatorMetadataCollectionId,
+                                                                                                    localInstanceGUIDs.toString()));
+                }
+
+                if ((! entitiesToSave.isEmpty()) || (! relationshipsToSave.isEmpty()))
+                {
+                    saveReferenceCopies(methodName,
+                                        originatorMetadataCollectionId,
+                                        originatorServerName,
+                                        entitiesToSave,
+                                        relationshipsToSave);
+                }
+            }
         }
         catch (Throwable error)
         {
@@ -2252,6 +2294,279 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     }
 
 
+    /**
+     * Select the entities received in a batch that should be saved as reference copies in the local repository.
+     * Entities that are homed in the local repository are skipped and their GUIDs are added to the supplied list.
+     * The stored versions of the other entities are retrieved with a single call to the repository if it supports it.
+     * Any other problem with an entity is handled in the same way as for an entity received in its own event.
+     *
+     * @param sourceName                     name of the source of the event.  It may be the cohort name for incoming events or the
+     *                                       local repository, or event mapper name.
+     * @param methodName                     name of the event method
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param entities                       entities in the batch
+     * @param localInstanceGUIDs             list of the GUIDs of skipped instances that are homed in the local repository
+     * @return list of entities to save
+     * @throws Exception problem retrieving the stored entities
+     */
+    private List<EntityDetail> getReferenceEntitiesToSave(String             sourceName,
+                                                          String             methodName,
+                                                          String             originatorMetadataCollectionId,
+                                                          String             originatorServerName,
+                                                          List<EntityDetail> entities,
+                                                          List<String>       localInstanceGUIDs) throws Exception
+    {
+        final String entityParameterName = "entity";
+
+        List<EntityDetail> entitiesToSave = new ArrayList<>();
+
+        if (entities == null)
+        {
+            return entitiesToSave;
+        }
+
+        List<EntityDetail> validEntities = new ArrayList<>();
+        List<String>       validGUIDs    = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            if (entity != null)
+            {
+                if (localMetadataCollectionId.equals(entity.getMetadataCollectionId()))
+                {
+                    localInstanceGUIDs.add(entity.getGUID());
+                }
+                else if (isValidReferenceInstance(sourceName,
+                                                  methodName,
+                                                  originatorMetadataCollectionId,
+                                                  originatorServerName,
+                                                  entityParameterName,
+                                                  entity))
+                {
+                    validEntities.add(entity);
+                    validGUIDs.add(entity.getGUID());
+                }
+            }
+        }
+
+        if (validEntities.isEmpty())
+        {
+            return entitiesToSave;
+        }
+
+        /*
+         * A repository that does not support the batch call is asked about each entity in turn.
+         */
+        Map<String, EntityDetail> storedEntities = null;
+
+        try
+        {
+            storedEntities = localMetadataCollection.areEntitiesKnown(localRepositoryConnector.getServerUserId(), validGUIDs);
+        }
+        catch (FunctionNotSupportedException error)
+        {
+            log.debug("Local repository does not support areEntitiesKnown: checking each entity in turn");
+        }
+
+        for (EntityDetail entity : validEntities)
+        {
+            try
+            {
+                EntityDetail storedEntity;
+
+                if (storedEntities == null)
+                {
+                    storedEntity = localMetadataCollection.isEntityKnown(localRepositoryConnector.getServerUserId(), entity.getGUID());
+                }
+                else
+                {
+                    storedEntity = storedEntities.get(entity.getGUID());
+                }
+
+                if ((compareAndValidateReferenceInstance(originatorServerName, entity, storedEntity, methodName)) &&
+                    (verifyEventToSave(sourceName, entity)))
+                {
+                    entitiesToSave.add(entity);
+                }
+            }
+            catch (Throwable error)
+            {
+                handleUnexpectedErrorFromEvent(error,
+                                               methodName,
+                                               originatorServerName,
+                                               originatorMetadataCollectionId);
+            }
+        }
+
+        return entitiesToSave;
+    }
+
+
+    /**
+     * Select the relationships received in a batch that should be saved as reference copies in the local repository.
+     * Relationships that are homed in the local repository are skipped and their GUIDs are added to the supplied list.
+     * Any other problem with a relationship is handled in the same way as for a relationship received in its own event.
+     *
+     * @param sourceName                     name of the source of the event.  It may be the cohort name for incoming events or the
+     *                                       local repository, or event mapper name.
+     * @param methodName                     name of the event method
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param relationships                  relationships in the batch
+     * @param localInstanceGUIDs             list of the GUIDs of skipped instances that are homed in the local repository
+     * @return list of relationships to save
+     */
+    private List<Relationship> getReferenceRelationshipsToSave(String             sourceName,
+                                                               String             methodName,
+                                                               String             originatorMetadataCollectionId,
+                                                               String             originatorServerName,
+                                                               List<Relationship> relationships,
+                                                               List<String>       localInstanceGUIDs)
+    {
+        final String relationshipParameterName = "relationship";
+
+        List<Relationship> relationshipsToSave = new ArrayList<>();
+
+        if (relationships != null)
+        {
+            for (Relationship relationship : relationships)
+            {
+                if (relationship != null)
+                {
+                    if (localMetadataCollectionId.equals(relationship.getMetadataCollectionId()))
+                    {
+                        localInstanceGUIDs.add(relationship.getGUID());
+                    }
+                    else if ((isValidReferenceInstance(sourceName,
+                                                       methodName,
+                                                       originatorMetadataCollectionId,
+                                                       originatorServerName,
+                                                       relationshipParameterName,
+                                                       relationship)) &&
+                             (verifyEventToSave(sourceName, relationship)))
+                    {
+                        relationshipsToSave.add(relationship);
+                    }
+                }
+            }
+        }
+
+        return relationshipsToSave;
+    }
+
+
+    /**
+     * Validate the header of an instance received in a batch.  A problem is handled in the same way as for an
+     * instance received in its own event.
+     *
+     * @param sourceName                     name of the source of the event.  It may be the cohort name for incoming events or the
+     *                                       local repository, or event mapper name.
+     * @param methodName                     name of the event method
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param instanceParameterName          name of the instance parameter
+     * @param instance                       entity or relationship
+     * @return boolean indicating whether the instance is valid
+     */
+    private boolean isValidReferenceInstance(String         sourceName,
+                                             String         methodName,
+                                             String         originatorMetadataCollectionId,
+                                             String         originatorServerName,
+                                             String         instanceParameterName,
+                                             InstanceHeader instance)
+    {
+        try
+        {
+            repositoryValidator.validateReferenceInstanceHeader(sourceName,
+                                                                localMetadataCollectionId,
+                                                                instanceParameterName,
+                                                                instance,
+                                                                methodName);
+            return true;
+        }
+        catch (Throwable error)
+        {
+            handleUnexpectedErrorFromEvent(error,
+                                           methodName,
+                                           originatorServerName,
+                                           originatorMetadataCollectionId);
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Save the instances selected from a batch as reference copies with a single call to the repository.  If the
+     * call fails, the instances are saved one at a time so only the instances with a problem are lost.
+     *
+     * @param methodName                     name of the event method
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param entities                       entities to save
+     * @param relationships                  relationships to save
+     */
+    private void saveReferenceCopies(String             methodName,
+                                     String             originatorMetadataCollectionId,
+                                     String             originatorServerName,
+                                     List<EntityDetail> entities,
+                                     List<Relationship> relationships)
+    {
+        String userId = localRepositoryConnector.getServerUserId();
+
+        try
+        {
+            localMetadataCollection.saveInstanceReferenceCopies(userId, new InstanceGraph(entities, relationships));
+        }
+        catch (Throwable batchError)
+        {
+            auditLog.logException(methodName,
+                                  OMRSAuditCode.BATCH_SAVE_FAILED.getMessageDefinition(Integer.toString(entities.size() + relationships.size()),
+                                                                                       methodName,
+                                                                                       originatorServerName,
+                                                                                       originatorMetadataCollectionId,
+                                                                                       batchError.getClass().getName(),
+                                                                                       batchError.getMessage()),
+                                  batchError);
+
+            for (EntityDetail entity : entities)
+            {
+                try
+                {
+                    localMetadataCollection.saveEntityReferenceCopy(userId, entity);
+                }
+                catch (Throwable error)
+                {
+                    handleUnexpectedErrorFromEvent(error,
+                                                   methodName,
+                                                   originatorServerName,
+                                                   originatorMetadataCollectionId);
+                }
+            }
+
+            for (Relationship relationship : relationships)
+            {
+                try
+                {
+                    localMetadataCollection.saveRelationshipReferenceCopy(userId, relationship);
+                }
+                catch (Throwable error)
+                {
+                    handleUnexpectedErrorFromEvent(error,
+                                                   methodName,
+                                                   originatorServerName,
+                                                   originatorMetadataCollectionId);
+                }
+            }
+        }
+    }
+
+
     /**
      * The incoming instance is properly formed.  Is it compatible (and a newer version) than the instance
      * that is stored?
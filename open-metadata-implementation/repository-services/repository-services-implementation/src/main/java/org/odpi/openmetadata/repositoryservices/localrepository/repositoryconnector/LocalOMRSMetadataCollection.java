@@ -6898,6 +6898,210 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Save a list of entities as reference copies.  The id of the home metadata collection is already set up in
+     * each entity.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entities details of the entities to save.
+     * @throws InvalidParameterException one of the entities is invalid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this entity's type.
+     * @throws HomeEntityException one of the entities belongs to the local repository so creating a reference
+     *                               copy would be invalid.
+     * @throws EntityConflictException one of the new entities conflicts with an existing entity.
+     * @throws InvalidEntityException one of the new entities has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveEntityReferenceCopies(String             userId,
+                                          List<EntityDetail> entities) throws InvalidParameterException,
+                                                                              RepositoryErrorException,
+                                                                              TypeErrorException,
+                                                                              PropertyErrorException,
+                                                                              HomeEntityException,
+                                                                              EntityConflictException,
+                                                                              InvalidEntityException,
+                                                                              FunctionNotSupportedException,
+                                                                              UserNotAuthorizedException
+    {
+        final String  methodName = "saveEntityReferenceCopies";
+        final String  instanceParameterName = "entities";
+
+        /*
+         * Validate parameters
+         */
+        super.referenceInstanceListParameterValidation(userId, entities, instanceParameterName, methodName);
+
+        /*
+         * Validate that each instance is not from a future version of this OMRS with header values that
+         * this version of the implementation does not understand.  Only save those from the same or
+         * past version of the OMRS.
+         */
+        if (entities != null)
+        {
+            List<EntityDetail> entitiesToSave = new ArrayList<>();
+
+            for (EntityDetail entity : entities)
+            {
+                if (entity.getHeaderVersion() <= InstanceAuditHeader.CURRENT_AUDIT_HEADER_VERSION)
+                {
+                    entitiesToSave.add(entity);
+                }
+            }
+
+            if (! entitiesToSave.isEmpty())
+            {
+                /*
+                 * Save entities
+                 */
+                realMetadataCollection.saveEntityReferenceCopies(userId, entitiesToSave);
+            }
+        }
+    }
+
+
+    /**
+     * Save a list of classifications as reference copies.  The id of the home metadata collection is already set up
+     * in each classification.  The entity may be either a locally homed entity or a reference copy.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entity entity that the classifications are attached to.
+     * @param classifications classifications to save.
+     *
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityConflictException the new entity conflicts with an existing entity.
+     * @throws InvalidEntityException the new entity has invalid contents.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                characteristics in the TypeDef for this classification type.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     */
+    @Override
+    public void saveClassificationReferenceCopies(String               userId,
+                                                  EntityDetail         entity,
+                                                  List<Classification> classifications) throws InvalidParameterException,
+                                                                                               RepositoryErrorException,
+                                                                                               TypeErrorException,
+                                                                                               EntityConflictException,
+                                                                                               InvalidEntityException,
+                                                                                               PropertyErrorException,
+                                                                                               UserNotAuthorizedException,
+                                                                                               FunctionNotSupportedException
+    {
+        final String  methodName = "saveClassificationReferenceCopies";
+        final String  instanceParameterName = "entity";
+
+        /*
+         * Validate parameters
+         */
+        this.basicRequestValidation(userId, methodName);
+        if (entity == null)
+        {
+            throw new InvalidParameterException(OMRSErrorCode.NULL_REFERENCE_INSTANCE.getMessageDefinition(repositoryName, methodName),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                instanceParameterName);
+        }
+
+        repositoryValidator.validateInstanceType(repositoryName, entity);
+        repositoryValidator.validateHomeMetadataGUID(repositoryName, instanceParameterName, entity.getMetadataCollectionId(), methodName);
+
+        /*
+         * Validate that this instance is not from a future version of this OMRS with header values that
+         * this version of the implementation does not understand.  Only save it if it is from the same or
+         * past version of the OMRS.
+         */
+        if ((classifications != null) && (entity.getHeaderVersion() <= InstanceAuditHeader.CURRENT_AUDIT_HEADER_VERSION))
+        {
+            /*
+             * Save classifications
+             */
+            realMetadataCollection.saveClassificationReferenceCopies(userId, entity, classifications);
+        }
+    }
+
+
+    /**
+     * Save a list of relationships as reference copies.  The id of the home metadata collection is already set up
+     * in each relationship.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationships relationships to save.
+     * @throws InvalidParameterException one of the relationships is invalid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityNotKnownException one of the entities identified by a relationship is not found in the
+     *                                   metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this relationship's type.
+     * @throws HomeRelationshipException one of the relationships belongs to the local repository so creating a
+     *                                     reference copy would be invalid.
+     * @throws RelationshipConflictException one of the new relationships conflicts with an existing relationship.
+     * @throws InvalidRelationshipException one of the new relationships has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveRelationshipReferenceCopies(String             userId,
+                                                List<Relationship> relationships) throws InvalidParameterException,
+                                                                                         RepositoryErrorException,
+                                                                                         TypeErrorException,
+                                                                                         EntityNotKnownException,
+                                                                                         PropertyErrorException,
+                                                                                         HomeRelationshipException,
+                                                                                         RelationshipConflictException,
+                                                                                         InvalidRelationshipException,
+                                                                                         FunctionNotSupportedException,
+                                                                                         UserNotAuthorizedException
+    {
+        final String  methodName = "saveRelationshipReferenceCopies";
+        final String  instanceParameterName = "relationships";
+
+        /*
+         * Validate parameters
+         */
+        super.referenceInstanceListParameterValidation(userId, relationships, instanceParameterName, methodName);
+
+        /*
+         * Validate that each instance is not from a future version of this OMRS with header values that
+         * this version of the implementation does not understand.  Only save those from the same or
+         * past version of the OMRS.
+         */
+        if (relationships != null)
+        {
+            List<Relationship> relationshipsToSave = new ArrayList<>();
+
+            for (Relationship relationship : relationships)
+            {
+                if (relationship.getHeaderVersion() <= InstanceAuditHeader.CURRENT_AUDIT_HEADER_VERSION)
+                {
+                    relationshipsToSave.add(relationship);
+                }
+            }
+
+            if (! relationshipsToSave.isEmpty())
+            {
+                /*
+                 * Save relationships
+                 */
+                realMetadataCollection.saveRelationshipReferenceCopies(userId, relationshipsToSave);
+            }
+        }
+    }
+
+
     /**
      * Save the entities and relationships supplied in the instance graph as a reference copies.
      * The id of the home metadata collection is already set up in the instances.
@@ -4292,6 +4292,7 @@ public class OMRSRepositoryRESTServices
             {
                 response.setEntityElementList(instanceGraph.getEntities());
                 response.setRelationshipElementList(instanceGraph.getRelationships());
+                response.setTruncated(instanceGraph.isTruncated());
             }
         }
         catch (RepositoryErrorException  error)
@@ -4382,6 +4383,7 @@ public class OMRSRepositoryRESTServices
             {
                 response.setEntityElementList(instanceGraph.getEntities());
                 response.setRelationshipElementList(instanceGraph.getRelationships());
+                response.setTruncated(instanceGraph.isTruncated());
             }
         }
         catch (RepositoryErrorException  error)
@@ -4481,6 +4483,7 @@ public class OMRSRepositoryRESTServices
             {
                 response.setEntityElementList(instanceGraph.getEntities());
                 response.setRelationshipElementList(instanceGraph.getRelationships());
+                response.setTruncated(instanceGraph.isTruncated());
             }
         }
         catch (RepositoryErrorException  error)
@@ -4586,6 +4589,7 @@ public class OMRSRepositoryRESTServices
             {
                 response.setEntityElementList(instanceGraph.getEntities());
                 response.setRelationshipElementList(instanceGraph.getRelationships());
+                response.setTruncated(instanceGraph.isTruncated());
             }
         }
         catch (RepositoryErrorException  error)
@@ -7177,6 +7181,95 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Save a list of entities as reference copies.  The id of the home metadata collection is already set up in
+     * each entity.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param requestBody details of the entities to save.
+     * @return VoidResponse:
+     * void or
+     * InvalidParameterException one of the entities is invalid or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection or
+     * PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this entity's type or
+     * HomeEntityException the entity belongs to the local repository so creating a reference
+     *                               copy would be invalid or
+     * EntityConflictException the new entity conflicts with an existing entity or
+     * InvalidEntityException the new entity has invalid contents or
+     * FunctionNotSupportedException the repository does not support instance reference copies or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public VoidResponse saveEntityReferenceCopies(String               serverName,
+                                                  String               userId,
+                                                  InstanceGraphRequest requestBody)
+    {
+        final  String   methodName = "saveEntityReferenceCopies";
+
+        log.debug("Calling method: " + methodName);
+
+        VoidResponse response = new VoidResponse();
+
+        try
+        {
+            if (requestBody != null)
+            {
+                OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+                metadataCollection.saveEntityReferenceCopies(userId, requestBody.getEntityElementList());
+            }
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeDefErrorException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (HomeEntityException error)
+        {
+            captureHomeEntityException(response, error);
+        }
+        catch (EntityConflictException error)
+        {
+            captureEntityConflictException(response, error);
+        }
+        catch (InvalidEntityException error)
+        {
+            captureInvalidEntityException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
     /**
      * Retrieve any locally homed classifications assigned to the requested entity.  This method is implemented by repository connectors that are able
      * to store classifications for entities that are homed in another repository.
@@ -7740,6 +7833,91 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Save a list of classifications as reference copies.  The id of the home metadata collection is already set up
+     * in each classification.  The entity may be either a locally homed entity or a reference copy.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param requestBody entity that the classifications are attached to and classifications to save.
+     *
+     * @return void response or
+     * InvalidParameterException one of the parameters is invalid or null.
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                          the metadata collection is stored.
+     * PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                        characteristics in the TypeDef for this classification type.
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                    hosting the metadata collection.
+     * EntityConflictException the new entity conflicts with an existing entity.
+     * InvalidEntityException the new entity has invalid contents.
+     * FunctionNotSupportedException the repository does not support reference copies of instances.
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public VoidResponse saveClassificationReferenceCopies(String                              serverName,
+                                                          String                              userId,
+                                                          ClassificationListWithEntityRequest requestBody)
+    {
+        final String methodName  = "saveClassificationReferenceCopies";
+
+        log.debug("Calling method: " + methodName);
+
+        VoidResponse response = new VoidResponse();
+
+        try
+        {
+            if (requestBody != null)
+            {
+                OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+                metadataCollection.saveClassificationReferenceCopies(userId, requestBody.getEntity(), requestBody.getClassifications());
+            }
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeDefErrorException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (EntityConflictException error)
+        {
+            captureEntityConflictException(response, error);
+        }
+        catch (InvalidEntityException error)
+        {
+            captureInvalidEntityException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
     /**
      * Remove the reference copy of the classification from the local repository. This method can be used to
      * remove reference copies from the local cohort, repositories that have left the cohort,
@@ -7916,6 +8094,101 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Save a list of relationships as reference copies.  The id of the home metadata collection is already set up
+     * in each relationship.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting userId.
+     * @param requestBody relationships to save.
+     * @return VoidResponse:
+     * void or
+     * InvalidParameterException one of the relationships is invalid or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection or
+     * EntityNotKnownException one of the entities identified by the relationship is not found in the
+     *                                   metadata collection or
+     * PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this relationship's type or
+     * HomeRelationshipException the relationship belongs to the local repository so creating a reference
+     *                                     copy would be invalid or
+     * RelationshipConflictException the new relationship conflicts with an existing relationship.
+     * InvalidRelationshipException the new relationship has invalid contents or
+     * FunctionNotSupportedException the repository does not support instance reference copies or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public VoidResponse saveRelationshipReferenceCopies(String               serverName,
+                                                        String               userId,
+                                                        InstanceGraphRequest requestBody)
+    {
+        final  String   methodName = "saveRelationshipReferenceCopies";
+
+        log.debug("Calling method: " + methodName);
+
+        VoidResponse response = new VoidResponse();
+
+        try
+        {
+            if (requestBody != null)
+            {
+                OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+                metadataCollection.saveRelationshipReferenceCopies(userId, requestBody.getRelationshipElementList());
+            }
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (InvalidRelationshipException error)
+        {
+            captureInvalidRelationshipException(response, error);
+        }
+        catch (EntityNotKnownException error)
+        {
+            captureEntityNotKnownException(response, error);
+        }
+        catch (HomeRelationshipException error)
+        {
+            captureHomeRelationshipException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeDefErrorException(response, error);
+        }
+        catch (RelationshipConflictException error)
+        {
+            captureRelationshipConflictException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
     /**
      * Remove the reference copy of the relationship from the local repository. This method can be used to
      * remove reference copies from the local cohort, repositories that have left the cohort,
@@ -0,0 +1,243 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.archivemanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessorInterface;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that ArchiveInstanceIngester passes every instance to the instance event processor, in batches
+ * of the configured size, and loads the entities before the relationships that follow them.  A batch that fails
+ * is loaded one instance at a time.
+ */
+public class ArchiveInstanceIngesterTest
+{
+    @Test
+    public void testSequentialLoad()
+    {
+        List<String>            calls    = Collections.synchronizedList(new ArrayList<>());
+        ArchiveInstanceIngester ingester = getIngester(calls, 1, 1);
+
+        ingester.addEntity(getEntity("entity1"));
+        ingester.addEntity(getEntity("entity2"));
+        ingester.addRelationship(getRelationship("relationship1"));
+        ingester.addEntity(getEntity("entity3"));
+
+        assertEquals(ingester.complete(), 4);
+        assertEquals(calls, Arrays.asList("processNewEntityEvent:entity1",
+                                          "processNewEntityEvent:entity2",
+                                          "processNewRelationshipEvent:relationship1",
+                                          "processNewEntityEvent:entity3"));
+    }
+
+
+    @Test
+    public void testParallelBatchedLoad()
+    {
+        final int entityCount       = 50;
+        final int relationshipCount = 20;
+        final int batchSize         = 3;
+
+        List<String>            calls    = Collections.synchronizedList(new ArrayList<>());
+        ArchiveInstanceIngester ingester = getIngester(calls, 4, batchSize);
+
+        for (int i = 0; i < entityCount; i++)
+        {
+            ingester.addEntity(getEntity("entity" + i));
+        }
+
+        for (int i = 0; i < relationshipCount; i++)
+        {
+            ingester.addRelationship(getRelationship("relationship" + i));
+        }
+
+        assertEquals(ingester.complete(), entityCount + relationshipCount);
+
+        Set<String> entitiesLoaded      = new HashSet<>();
+        Set<String> relationshipsLoaded = new HashSet<>();
+
+        for (String call : calls)
+        {
+            String[] guids = call.substring(call.indexOf(':') + 1).split(",");
+
+            assertTrue(guids.length <= batchSize);
+
+            for (String guid : guids)
+            {
+                if (guid.startsWith("entity"))
+                {
+                    assertTrue(relationshipsLoaded.isEmpty(), "Entity " + guid + " loaded after a relationship");
+                    assertTrue(entitiesLoaded.add(guid), "Entity " + guid + " loaded twice");
+                }
+                else
+                {
+                    assertTrue(relationshipsLoaded.add(guid), "Relationship " + guid + " loaded twice");
+                }
+            }
+        }
+
+        assertEquals(entitiesLoaded.size(), entityCount);
+        assertEquals(relationshipsLoaded.size(), relationshipCount);
+    }
+
+
+    @Test
+    public void testFailedBatchIsLoadedOneAtATime()
+    {
+        List<String>            calls    = Collections.synchronizedList(new ArrayList<>());
+        Set<Boolean>            daemons  = Collections.synchronizedSet(new HashSet<>());
+        ArchiveInstanceIngester ingester = getIngester(calls, daemons, Collections.singleton("entity1"), 2, 3);
+
+        for (int i = 0; i < 6; i++)
+        {
+            ingester.addEntity(getEntity("entity" + i));
+        }
+
+        assertEquals(ingester.complete(), 6);
+
+        Set<String> entitiesLoaded = new HashSet<>();
+
+        for (String call : calls)
+        {
+            entitiesLoaded.addAll(Arrays.asList(call.substring(call.indexOf(':') + 1).split(",")));
+        }
+
+        assertEquals(entitiesLoaded, new HashSet<>(Arrays.asList("entity0", "entity2", "entity3", "entity4", "entity5")));
+        assertTrue(calls.stream().anyMatch(call -> call.startsWith("processNewEntityEvent:")));
+        assertEquals(daemons, Collections.singleton(true));
+    }
+
+
+    /**
+     * Create an ingester with an instance event processor that records the GUIDs of the instances in each call.
+     *
+     * @param calls list to record the calls in
+     * @param threadCount number of threads loading instances
+     * @param batchSize maximum number of instances in each call
+     * @return ingester
+     */
+    private ArchiveInstanceIngester getIngester(List<String> calls,
+                                                int          threadCount,
+                                                int          batchSize)
+    {
+        return getIngester(calls, new HashSet<>(), Collections.emptySet(), threadCount, batchSize);
+    }
+
+
+    /**
+     * Create an ingester with an instance event processor that records the GUIDs of the instances in each
+     * successful call.  A call containing one of the failing GUIDs throws an exception.
+     *
+     * @param calls list to record the calls in
+     * @param daemons set to record whether each call ran on a daemon thread
+     * @param failingGUIDs GUIDs of the instances that the processor rejects
+     * @param threadCount number of threads loading instances
+     * @param batchSize maximum number of instances in each call
+     * @return ingester
+     */
+    private ArchiveInstanceIngester getIngester(List<String> calls,
+                                                Set<Boolean> daemons,
+                                                Set<String>  failingGUIDs,
+                                                int          threadCount,
+                                                int          batchSize)
+    {
+        OMRSInstanceEventProcessorInterface instanceProcessor = (OMRSInstanceEventProcessorInterface)Proxy.newProxyInstance(
+                OMRSInstanceEventProcessorInterface.class.getClassLoader(),
+                new Class[] { OMRSInstanceEventProcessorInterface.class },
+                (proxy, method, args) ->
+                {
+                    Object       instances = args[args.length - 1];
+                    List<String> guids     = new ArrayList<>();
+
+                    if (instances instanceof InstanceGraph)
+                    {
+                        InstanceGraph instanceGraph = (InstanceGraph)instances;
+
+                        if (instanceGraph.getEntities() != null)
+                        {
+                            instanceGraph.getEntities().forEach(entity -> guids.add(entity.getGUID()));
+                        }
+
+                        if (instanceGraph.getRelationships() != null)
+                        {
+                            instanceGraph.getRelationships().forEach(relationship -> guids.add(relationship.getGUID()));
+                        }
+                    }
+                    else if (instances instanceof EntityDetail)
+                    {
+                        guids.add(((EntityDetail)instances).getGUID());
+                    }
+                    else if (instances instanceof Relationship)
+                    {
+                        guids.add(((Relationship)instances).getGUID());
+                    }
+
+                    daemons.add(Thread.currentThread().isDaemon());
+
+                    if (guids.stream().anyMatch(failingGUIDs::contains))
+                    {
+                        throw new IllegalStateException("Rejected " + guids);
+                    }
+
+                    calls.add(method.getName() + ":" + String.join(",", guids));
+
+                    return null;
+                });
+
+        return new ArchiveInstanceIngester("TestArchive",
+                                           "TestArchive (1)",
+                                           "testArchiveGUID",
+                                           "ContentPack",
+                                           "TestOrganization",
+                                           instanceProcessor,
+                                           null,
+                                           threadCount,
+                                           batchSize);
+    }
+
+
+    /**
+     * Create an entity with the requested GUID.
+     *
+     * @param guid unique identifier
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+
+        return entity;
+    }
+
+
+    /**
+     * Create a relationship with the requested GUID.
+     *
+     * @param guid unique identifier
+     * @return relationship
+     */
+    private Relationship getRelationship(String guid)
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(guid);
+
+        return relationship;
+    }
+}
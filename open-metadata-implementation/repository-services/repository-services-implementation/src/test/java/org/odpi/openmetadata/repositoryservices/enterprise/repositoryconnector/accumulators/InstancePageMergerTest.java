@@ -0,0 +1,356 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that InstancePageMerger returns each page of a federated query in sequence, without duplicates, and
+ * that the cursor saved at the end of a page avoids re-reading the earlier pages.  Where members return different
+ * versions of an instance, the latest is returned.
+ */
+public class InstancePageMergerTest
+{
+    private Map<String, List<EntityDetail>> memberResults = new HashMap<>();
+    private Map<String, Integer>            elementsRead  = new HashMap<>();
+
+
+    /**
+     * Set up three cohort members with overlapping results sorted by GUID.
+     */
+    public InstancePageMergerTest()
+    {
+        memberResults.put("member1", getEntities("a", "d", "g", "j"));
+        memberResults.put("member2", getEntities("b", "e", "h", "k"));
+        memberResults.put("member3", getEntities("c", "d", "f", "i"));
+    }
+
+
+    @Test
+    void testPagingThroughMergedResults()
+    {
+        InstancePageCursorCache cursorCache = new InstancePageCursorCache(10, 60000);
+        List<String>            allGUIDs    = new ArrayList<>();
+
+        for (int fromElement = 0; fromElement < 12; fromElement = fromElement + 3)
+        {
+            allGUIDs.addAll(getPage(cursorCache, fromElement, 3));
+        }
+
+        assertEquals(allGUIDs, Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k"));
+
+        int elementsReadWithCursor = getTotalElementsRead();
+
+        /*
+         * Without the cursor, each page re-reads the earlier pages from every member.
+         */
+        elementsRead.clear();
+        allGUIDs.clear();
+
+        for (int fromElement = 0; fromElement < 12; fromElement = fromElement + 3)
+        {
+            allGUIDs.addAll(getPage(new InstancePageCursorCache(10, 60000), fromElement, 3));
+        }
+
+        assertEquals(allGUIDs, Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k"));
+        assertTrue(elementsReadWithCursor < getTotalElementsRead());
+    }
+
+
+    @Test
+    void testPageWithoutCursor()
+    {
+        InstancePageCursorCache cursorCache = new InstancePageCursorCache(10, 60000);
+
+        assertEquals(getPage(cursorCache, 6, 3), Arrays.asList("g", "h", "i"));
+    }
+
+
+    @Test
+    void testLatestVersionOfDuplicates()
+    {
+        Map<String, List<EntityDetail>> versionedResults = new HashMap<>();
+
+        /*
+         * The stale reference copies are in member1, which is merged first when the instances sort equally.
+         */
+        versionedResults.put("member1", Arrays.asList(getEntity("a", 1), getEntity("b", 1), getEntity("d", 2)));
+        versionedResults.put("member2", Arrays.asList(getEntity("b", 3), getEntity("c", 1), getEntity("d", 4)));
+
+        InstancePageCursorCache cursorCache = new InstancePageCursorCache(10, 60000);
+        List<EntityDetail>      allResults  = new ArrayList<>();
+
+        for (int fromElement = 0; fromElement < 6; fromElement = fromElement + 2)
+        {
+            EntityAccumulator accumulator = new EntityAccumulator(null, null, null);
+            InstancePageMerger<EntityDetail> merger = new InstancePageMerger<>(cursorCache,
+                                                                               "versionedQuery",
+                                                                               fromElement,
+                                                                               2,
+                                                                               null,
+                                                                               SequencingOrder.GUID,
+                                                                               EntityDetail::getProperties);
+
+            for (String metadataCollectionId : versionedResults.keySet())
+            {
+                merger.addCohortMember(metadataCollectionId,
+                                       null,
+                                       (id, collection, from, size) -> getSubList(versionedResults.get(id), from, size),
+                                       accumulator::addEntities);
+            }
+
+            merger.mergeResults(accumulator::addEntities);
+
+            List<EntityDetail> page = accumulator.getResults(null);
+
+            if (page != null)
+            {
+                allResults.addAll(page);
+            }
+        }
+
+        assertEquals(allResults.size(), 4);
+
+        assertEquals(allResults.get(0).getGUID(), "a");
+        assertEquals(allResults.get(1).getGUID(), "b");
+        assertEquals(allResults.get(1).getVersion(), 3L);
+        assertEquals(allResults.get(2).getGUID(), "c");
+        assertEquals(allResults.get(3).getGUID(), "d");
+        assertEquals(allResults.get(3).getVersion(), 4L);
+    }
+
+
+    @Test
+    void testUnsequencedResultsAreNotMerged()
+    {
+        assertFalse(InstancePageMerger.isMergeable(null, null));
+        assertFalse(InstancePageMerger.isMergeable(null, SequencingOrder.ANY));
+        assertFalse(InstancePageMerger.isMergeable(null, SequencingOrder.PROPERTY_ASCENDING));
+        assertTrue(InstancePageMerger.isMergeable("name", SequencingOrder.PROPERTY_DESCENDING));
+        assertTrue(InstancePageMerger.isMergeable(null, SequencingOrder.GUID));
+    }
+
+
+    @Test
+    void testSlowMemberIsAbandonedDuringMerge()
+    {
+        ExecutorService federationWorkers = Executors.newFixedThreadPool(2);
+
+        try
+        {
+            InstancePageCursorCache          cursorCache = new InstancePageCursorCache(10, 60000);
+            EntityAccumulator                accumulator = new EntityAccumulator(null, null, null);
+            InstancePageMerger<EntityDetail> merger      = new InstancePageMerger<>(cursorCache,
+                                                                                    "slowQuery",
+                                                                                    0,
+                                                                                    2,
+                                                                                    null,
+                                                                                    SequencingOrder.GUID,
+                                                                                    EntityDetail::getProperties,
+                                                                                    federationWorkers,
+                                                                                    300);
+
+            /*
+             * Both of member1's results are in the page, so it is asked for more while the page is merged.
+             * That request is slower than the federation timeout.
+             */
+            merger.addCohortMember("member1", null, (id, collection, from, size) ->
+            {
+                if (from > 0)
+                {
+                    try
+                    {
+                        Thread.sleep(2000);
+                    }
+                    catch (InterruptedException error)
+                    {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+
+                return getSubList(getEntities("a", "b", "c", "d"), from, size);
+            }, accumulator::addEntities);
+
+            merger.addCohortMember("member2", null, (id, collection, from, size) -> getSubList(getEntities("x", "y", "z"), from, size),
+                                   accumulator::addEntities);
+
+            long startTime = System.currentTimeMillis();
+
+            merger.mergeResults(accumulator::addEntities);
+
+            assertTrue(System.currentTimeMillis() - startTime < 1500);
+
+            List<String> pageGUIDs = new ArrayList<>();
+
+            accumulator.getResults(null).forEach(entity -> pageGUIDs.add(entity.getGUID()));
+
+            assertEquals(pageGUIDs, Arrays.asList("a", "b"));
+
+            /*
+             * The position of the slow member is not known so no cursor is saved for the next page.
+             */
+            assertNull(cursorCache.takeCursor("slowQuery", 2));
+        }
+        finally
+        {
+            federationWorkers.shutdownNow();
+        }
+    }
+
+
+    /**
+     * Retrieve a single page of results from the three members.
+     *
+     * @param cursorCache cursor cache
+     * @param fromElement starting element
+     * @param pageSize size of the page
+     * @return GUIDs in the page
+     */
+    private List<String> getPage(InstancePageCursorCache cursorCache,
+                                 int                     fromElement,
+                                 int                     pageSize)
+    {
+        InstancePageMerger<EntityDetail> merger = new InstancePageMerger<>(cursorCache,
+                                                                           "testQuery",
+                                                                           fromElement,
+                                                                           pageSize,
+                                                                           null,
+                                                                           SequencingOrder.GUID,
+                                                                           EntityDetail::getProperties);
+        EntityAccumulator accumulator = new EntityAccumulator(null, null, null);
+        List<String>      results     = new ArrayList<>();
+
+        for (String metadataCollectionId : memberResults.keySet())
+        {
+            merger.addCohortMember(metadataCollectionId, null, this::retrievePage, accumulator::addEntities);
+        }
+
+        merger.mergeResults(accumulator::addEntities);
+
+        List<EntityDetail> page = accumulator.getResults(null);
+
+        if (page != null)
+        {
+            page.forEach(entity -> results.add(entity.getGUID()));
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Simulate a request to a cohort member.
+     *
+     * @param metadataCollectionId member to call
+     * @param metadataCollection not used
+     * @param fromElement starting element
+     * @param pageSize maximum number of elements to return
+     * @return page of results
+     */
+    private List<EntityDetail> retrievePage(String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection,
+                                            int                    fromElement,
+                                            int                    pageSize)
+    {
+        List<EntityDetail> results = getSubList(memberResults.get(metadataCollectionId), fromElement, pageSize);
+
+        elementsRead.merge(metadataCollectionId, results.size(), Integer::sum);
+
+        return results;
+    }
+
+
+    /**
+     * Return a page of a member's results.
+     *
+     * @param results all of the member's results
+     * @param fromElement starting element
+     * @param pageSize maximum number of elements to return
+     * @return page of results
+     */
+    private List<EntityDetail> getSubList(List<EntityDetail> results,
+                                          int                fromElement,
+                                          int                pageSize)
+    {
+        int toIndex = Math.min(fromElement + pageSize, results.size());
+
+        if (fromElement >= toIndex)
+        {
+            return new ArrayList<>();
+        }
+
+        return new ArrayList<>(results.subList(fromElement, toIndex));
+    }
+
+
+    /**
+     * Return the number of elements returned by all of the cohort members.
+     *
+     * @return count
+     */
+    private int getTotalElementsRead()
+    {
+        int total = 0;
+
+        for (Integer count : elementsRead.values())
+        {
+            total = total + count;
+        }
+
+        return total;
+    }
+
+
+    /**
+     * Create a list of entities with the supplied GUIDs.
+     *
+     * @param guids list of GUIDs
+     * @return entities
+     */
+    private List<EntityDetail> getEntities(String... guids)
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            entities.add(getEntity(guid, 1));
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Create a version of an entity.
+     *
+     * @param guid unique identifier
+     * @param version version number
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid,
+                                   long   version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        return entity;
+    }
+}
@@ -0,0 +1,324 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.FindEntitiesExecutor;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that ParallelFederationControl calls the cohort members on the worker threads at the same time, and
+ * that only the results of the members that respond before the shared deadline are returned.
+ */
+public class ParallelFederationControlTest
+{
+    private static final String USER_ID     = "testUser";
+    private static final String METHOD_NAME = "findEntities";
+
+    private ExecutorService federationWorkers;
+
+
+    @BeforeMethod
+    void createFederationWorkers()
+    {
+        federationWorkers = Executors.newFixedThreadPool(3);
+    }
+
+
+    @AfterMethod
+    void shutdownFederationWorkers()
+    {
+        federationWorkers.shutdownNow();
+    }
+
+
+    @Test
+    void testMembersAreCalledInParallel() throws Exception
+    {
+        List<OMRSRepositoryConnector> cohortConnectors = Arrays.asList(getCohortConnector("member1", "a", 500),
+                                                                       getCohortConnector("member2", "b", 500),
+                                                                       getCohortConnector("member3", "c", 500));
+
+        ParallelFederationControl federationControl = new ParallelFederationControl(USER_ID,
+                                                                                    cohortConnectors,
+                                                                                    federationWorkers,
+                                                                                    5000,
+                                                                                    null,
+                                                                                    METHOD_NAME);
+        FindEntitiesExecutor executor  = getExecutor();
+        long                 startTime = System.currentTimeMillis();
+
+        federationControl.executeCommand(executor);
+
+        assertTrue(System.currentTimeMillis() - startTime < 1400);
+        assertEquals(getGUIDs(executor), new HashSet<>(Arrays.asList("a", "b", "c")));
+    }
+
+
+    @Test
+    void testMembersAreCalledInSequenceWithoutWorkers() throws Exception
+    {
+        List<OMRSRepositoryConnector> cohortConnectors = Arrays.asList(getCohortConnector("member1", "a", 0),
+                                                                       getCohortConnector("member2", "b", 0));
+
+        ParallelFederationControl federationControl = new ParallelFederationControl(USER_ID, cohortConnectors, METHOD_NAME);
+        FindEntitiesExecutor      executor          = getExecutor();
+
+        federationControl.executeCommand(executor);
+
+        assertEquals(getGUIDs(executor), new HashSet<>(Arrays.asList("a", "b")));
+    }
+
+
+    @Test
+    void testSlowMembersAreExcludedAtSharedDeadline() throws Exception
+    {
+        List<OMRSRepositoryConnector> cohortConnectors = Arrays.asList(getCohortConnector("member1", "a", 0),
+                                                                       getCohortConnector("member2", "b", 1500),
+                                                                       getCohortConnector("member3", "c", 1500));
+
+        ParallelFederationControl federationControl = new ParallelFederationControl(USER_ID,
+                                                                                    cohortConnectors,
+                                                                                    federationWorkers,
+                                                                                    500,
+                                                                                    null,
+                                                                                    METHOD_NAME);
+        FindEntitiesExecutor executor  = getExecutor();
+        long                 startTime = System.currentTimeMillis();
+
+        federationControl.executeCommand(executor);
+
+        /*
+         * Both slow members are abandoned at the same deadline rather than one after the other.
+         */
+        assertTrue(System.currentTimeMillis() - startTime < 1000);
+        assertEquals(getGUIDs(executor), Collections.singleton("a"));
+    }
+
+
+    @Test
+    void testLateResultsAreNotMerged() throws Exception
+    {
+        List<OMRSRepositoryConnector> cohortConnectors = Arrays.asList(getCohortConnector("member1", "a", 0),
+                                                                       getSlowConnectorIgnoringInterrupts("member2", "b", 1000));
+
+        ParallelFederationControl federationControl = new ParallelFederationControl(USER_ID,
+                                                                                    cohortConnectors,
+                                                                                    federationWorkers,
+                                                                                    300,
+                                                                                    null,
+                                                                                    METHOD_NAME);
+        FindEntitiesExecutor executor = getExecutor();
+
+        federationControl.executeCommand(executor);
+
+        /*
+         * Wait for the slow member to finish its request after the deadline.
+         */
+        Thread.sleep(1500);
+
+        assertEquals(getGUIDs(executor), Collections.singleton("a"));
+    }
+
+
+    @Test
+    void testFailedMemberDoesNotStopOtherMembers() throws Exception
+    {
+        OMRSRepositoryConnector failingConnector = mock(OMRSRepositoryConnector.class);
+
+        when(failingConnector.getMetadataCollectionId()).thenReturn("member2");
+
+        List<OMRSRepositoryConnector> cohortConnectors = Arrays.asList(getCohortConnector("member1", "a", 0),
+                                                                       failingConnector,
+                                                                       getCohortConnector("member3", "c", 300));
+
+        ParallelFederationControl federationControl = new ParallelFederationControl(USER_ID,
+                                                                                    cohortConnectors,
+                                                                                    federationWorkers,
+                                                                                    5000,
+                                                                                    null,
+                                                                                    METHOD_NAME);
+        FindEntitiesExecutor executor = getExecutor();
+
+        /*
+         * The failing member has no metadata collection.  Its failure is recorded with the results rather
+         * than abandoning the requests to the other members.
+         */
+        federationControl.executeCommand(executor);
+
+        assertEquals(getGUIDs(executor), new HashSet<>(Arrays.asList("a", "c")));
+    }
+
+
+    /**
+     * Create an executor for a simple findEntities request.
+     *
+     * @return executor
+     */
+    private FindEntitiesExecutor getExecutor()
+    {
+        return new FindEntitiesExecutor(USER_ID,
+                                        null,
+                                        null,
+                                        null,
+                                        0,
+                                        null,
+                                        null,
+                                        null,
+                                        null,
+                                        null,
+                                        0,
+                                        null,
+                                        null,
+                                        null,
+                                        METHOD_NAME);
+    }
+
+
+    /**
+     * Return the GUIDs of the entities returned by the executor.
+     *
+     * @param executor executor that has run
+     * @return set of GUIDs
+     * @throws Exception problem extracting the results
+     */
+    private Set<String> getGUIDs(FindEntitiesExecutor executor) throws Exception
+    {
+        Set<String>        guids    = new HashSet<>();
+        List<EntityDetail> entities = executor.getResults(null);
+
+        if (entities != null)
+        {
+            for (EntityDetail entity : entities)
+            {
+                guids.add(entity.getGUID());
+            }
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Create a cohort member that returns a single entity after a delay.
+     *
+     * @param metadataCollectionId identifier of the member's metadata collection
+     * @param guid GUID of the returned entity
+     * @param delay milliseconds to wait before returning
+     * @return connector
+     * @throws Exception problem setting up the mocks
+     */
+    private OMRSRepositoryConnector getCohortConnector(String metadataCollectionId,
+                                                       String guid,
+                                                       long   delay) throws Exception
+    {
+        OMRSRepositoryConnector cohortConnector    = mock(OMRSRepositoryConnector.class);
+        OMRSMetadataCollection  metadataCollection = mock(OMRSMetadataCollection.class);
+
+        when(cohortConnector.getMetadataCollectionId()).thenReturn(metadataCollectionId);
+        when(cohortConnector.getMetadataCollection()).thenReturn(metadataCollection);
+        when(metadataCollection.getMetadataCollectionId(anyString())).thenReturn(metadataCollectionId);
+        when(metadataCollection.findEntities(anyString(), any(), any(), any(), anyInt(), any(), any(),
+                                             any(), any(), any(), anyInt())).thenAnswer(invocation ->
+        {
+            if (delay > 0)
+            {
+                Thread.sleep(delay);
+            }
+
+            return getEntities(metadataCollectionId, guid);
+        });
+
+        return cohortConnector;
+    }
+
+
+    /**
+     * Create a cohort member that carries on with its request when it is cancelled, so its results arrive
+     * after the deadline.
+     *
+     * @param metadataCollectionId identifier of the member's metadata collection
+     * @param guid GUID of the returned entity
+     * @param delay milliseconds to wait before returning
+     * @return connector
+     * @throws Exception problem setting up the mocks
+     */
+    private OMRSRepositoryConnector getSlowConnectorIgnoringInterrupts(String metadataCollectionId,
+                                                                       String guid,
+                                                                       long   delay) throws Exception
+    {
+        OMRSRepositoryConnector cohortConnector    = mock(OMRSRepositoryConnector.class);
+        OMRSMetadataCollection  metadataCollection = mock(OMRSMetadataCollection.class);
+
+        when(cohortConnector.getMetadataCollectionId()).thenReturn(metadataCollectionId);
+        when(cohortConnector.getMetadataCollection()).thenReturn(metadataCollection);
+        when(metadataCollection.getMetadataCollectionId(anyString())).thenReturn(metadataCollectionId);
+        when(metadataCollection.findEntities(anyString(), any(), any(), any(), anyInt(), any(), any(),
+                                             any(), any(), any(), anyInt())).thenAnswer(invocation ->
+        {
+            long endTime = System.currentTimeMillis() + delay;
+
+            while (System.currentTimeMillis() < endTime)
+            {
+                try
+                {
+                    Thread.sleep(endTime - System.currentTimeMillis());
+                }
+                catch (InterruptedException error)
+                {
+                    /*
+                     * Ignore the cancellation, like a remote call that is already in progress.
+                     */
+                }
+            }
+
+            return getEntities(metadataCollectionId, guid);
+        });
+
+        return cohortConnector;
+    }
+
+
+    /**
+     * Return a list containing a single entity.
+     *
+     * @param metadataCollectionId home metadata collection
+     * @param guid unique identifier of the entity
+     * @return list of entities
+     */
+    private List<EntityDetail> getEntities(String metadataCollectionId,
+                                           String guid)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setMetadataCollectionId(metadataCollectionId);
+
+        List<EntityDetail> entities = new ArrayList<>();
+
+        entities.add(entity);
+
+        return entities;
+    }
+}
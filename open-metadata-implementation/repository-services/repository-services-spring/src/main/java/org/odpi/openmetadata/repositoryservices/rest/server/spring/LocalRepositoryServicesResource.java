@@ -2355,6 +2355,39 @@ public class LocalRepositoryServicesResource
     }
 
 
+    /**
+     * Save a list of entities as reference copies.  The id of the home metadata collection is already set up in
+     * each entity.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param requestBody details of the entities to save.
+     * @return VoidResponse:
+     * void or
+     * InvalidParameterException one of the entities is invalid or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection or
+     * PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this entity's type or
+     * HomeEntityException the entity belongs to the local repository so creating a reference
+     *                               copy would be invalid or
+     * EntityConflictException the new entity conflicts with an existing entity or
+     * InvalidEntityException the new entity has invalid contents or
+     * FunctionNotSupportedException the repository does not support instance reference copies or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/entities/reference-copies")
+
+    public VoidResponse saveEntityReferenceCopies(@PathVariable String               serverName,
+                                                  @PathVariable String               userId,
+                                                  @RequestBody  InstanceGraphRequest requestBody)
+    {
+        return restAPI.saveEntityReferenceCopies(serverName, userId, requestBody);
+    }
+
+
     /**
      * Retrieve any locally homed classifications assigned to the requested entity.  This method is implemented by repository connectors that are able
      * to store classifications for entities that are homed in another repository.
@@ -2573,6 +2606,39 @@ public class LocalRepositoryServicesResource
     }
 
 
+    /**
+     * Save a list of classifications as reference copies.  The id of the home metadata collection is already set up
+     * in each classification.  The entity may be either a locally homed entity or a reference copy.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param requestBody entity that the classifications are attached to and classifications to save.
+     *
+     * @return void response or
+     * InvalidParameterException one of the parameters is invalid or null.
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                          the metadata collection is stored.
+     * PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                        characteristics in the TypeDef for this classification type.
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                    hosting the metadata collection.
+     * EntityConflictException the new entity conflicts with an existing entity.
+     * InvalidEntityException the new entity has invalid contents.
+     * FunctionNotSupportedException the repository does not support reference copies of instances.
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/entities/classifications/reference-copies")
+
+    public VoidResponse saveClassificationReferenceCopies(@PathVariable String                              serverName,
+                                                          @PathVariable String                              userId,
+                                                          @RequestBody  ClassificationListWithEntityRequest requestBody)
+    {
+        return restAPI.saveClassificationReferenceCopies(serverName, userId, requestBody);
+    }
+
+
     /**
      * Remove the reference copy of the classification from the local repository. This method can be used to
      * remove reference copies from the local cohort, repositories that have left the cohort,
@@ -2642,6 +2708,41 @@ public class LocalRepositoryServicesResource
     }
 
 
+    /**
+     * Save a list of relationships as reference copies.  The id of the home metadata collection is already set up
+     * in each relationship.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting userId.
+     * @param requestBody relationships to save.
+     * @return VoidResponse:
+     * void or
+     * InvalidParameterException one of the relationships is invalid or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection or
+     * EntityNotKnownException one of the entities identified by the relationship is not found in the
+     *                                   metadata collection or
+     * PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this relationship's type or
+     * HomeRelationshipException the relationship belongs to the local repository so creating a reference
+     *                                     copy would be invalid or
+     * RelationshipConflictException the new relationship conflicts with an existing relationship.
+     * InvalidRelationshipException the new relationship has invalid contents or
+     * FunctionNotSupportedException the repository does not support instance reference copies or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/relationships/reference-copies")
+
+    public VoidResponse saveRelationshipReferenceCopies(@PathVariable String               serverName,
+                                                        @PathVariable String               userId,
+                                                        @RequestBody  InstanceGraphRequest requestBody)
+    {
+        return restAPI.saveRelationshipReferenceCopies(serverName, userId, requestBody);
+    }
+
+
 
     /**
      * Remove the reference copy of the relationship from the local repository. This method can be used to
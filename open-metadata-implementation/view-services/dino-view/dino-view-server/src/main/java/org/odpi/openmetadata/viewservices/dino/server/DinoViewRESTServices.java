@@ -205,7 +205,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -295,7 +295,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -385,7 +385,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -474,7 +474,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -562,7 +562,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -651,7 +651,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -742,7 +742,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -829,7 +829,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -921,7 +921,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1013,7 +1013,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1105,7 +1105,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1193,7 +1193,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1281,7 +1281,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1395,7 +1395,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1485,7 +1485,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1576,7 +1576,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1665,7 +1665,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1757,7 +1757,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1848,7 +1848,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1945,7 +1945,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2038,7 +2038,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2132,7 +2132,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2226,7 +2226,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2323,7 +2323,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -66,7 +66,7 @@ public class GlossaryAuthorViewCategoryRESTServices extends BaseGlossaryAuthorVi
         }  catch (Throwable error) {
             response =  getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -101,7 +101,7 @@ public class GlossaryAuthorViewCategoryRESTServices extends BaseGlossaryAuthorVi
         }  catch (Throwable error) {
             response =  getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -165,7 +165,7 @@ public class GlossaryAuthorViewCategoryRESTServices extends BaseGlossaryAuthorVi
         }  catch (Throwable error) {
             response =  getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -228,7 +228,7 @@ public class GlossaryAuthorViewCategoryRESTServices extends BaseGlossaryAuthorVi
         }  catch (Throwable error) {
             response =  getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -278,7 +278,7 @@ public class GlossaryAuthorViewCategoryRESTServices extends BaseGlossaryAuthorVi
         }  catch (Throwable error) {
             response =  getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -333,7 +333,7 @@ public class GlossaryAuthorViewCategoryRESTServices extends BaseGlossaryAuthorVi
         }  catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -372,7 +372,7 @@ public class GlossaryAuthorViewCategoryRESTServices extends BaseGlossaryAuthorVi
         }  catch (Throwable error) {
             response =  getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -400,7 +400,7 @@ public class GlossaryAuthorViewCategoryRESTServices extends BaseGlossaryAuthorVi
         } catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -428,7 +428,7 @@ public class GlossaryAuthorViewCategoryRESTServices extends BaseGlossaryAuthorVi
             } catch (Throwable error) {
                 response = getResponseForError(error, auditLog, className, methodName);
             }
-            restCallLogger.logRESTCallReturn(token, response.toString());
+            restCallLogger.logRESTCallReturn(token, response);
             return response;
         }
 }
@@ -65,7 +65,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         }  catch (Throwable error) {
             response =  getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -128,7 +128,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         }  catch (Throwable error) {
             response =  getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -191,7 +191,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         }  catch (Throwable error) {
             response =  getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -241,7 +241,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         }  catch (Throwable error) {
             response =  getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -296,7 +296,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         }  catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -335,7 +335,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         }  catch (Throwable error) {
             response =  getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -363,7 +363,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         } catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -391,7 +391,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
             } catch (Throwable error) {
                 response = getResponseForError(error, auditLog, className, methodName);
             }
-            restCallLogger.logRESTCallReturn(token, response.toString());
+            restCallLogger.logRESTCallReturn(token, response);
             return response;
         }
 }
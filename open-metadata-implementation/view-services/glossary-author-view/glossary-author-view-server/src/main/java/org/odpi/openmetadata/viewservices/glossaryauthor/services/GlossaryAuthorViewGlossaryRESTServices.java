@@ -77,7 +77,7 @@ public class GlossaryAuthorViewGlossaryRESTServices extends BaseGlossaryAuthorVi
         } catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -111,7 +111,7 @@ public class GlossaryAuthorViewGlossaryRESTServices extends BaseGlossaryAuthorVi
         } catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -173,7 +173,7 @@ public class GlossaryAuthorViewGlossaryRESTServices extends BaseGlossaryAuthorVi
         } catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -233,7 +233,7 @@ public class GlossaryAuthorViewGlossaryRESTServices extends BaseGlossaryAuthorVi
         } catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -287,7 +287,7 @@ public class GlossaryAuthorViewGlossaryRESTServices extends BaseGlossaryAuthorVi
         } catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -342,7 +342,7 @@ public class GlossaryAuthorViewGlossaryRESTServices extends BaseGlossaryAuthorVi
         } catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -381,7 +381,7 @@ public class GlossaryAuthorViewGlossaryRESTServices extends BaseGlossaryAuthorVi
         } catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
     /**
@@ -429,7 +429,7 @@ public class GlossaryAuthorViewGlossaryRESTServices extends BaseGlossaryAuthorVi
         } catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -485,7 +485,7 @@ public class GlossaryAuthorViewGlossaryRESTServices extends BaseGlossaryAuthorVi
         } catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -521,7 +521,7 @@ public class GlossaryAuthorViewGlossaryRESTServices extends BaseGlossaryAuthorVi
         } catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
     public SubjectAreaOMASAPIResponse<Term> getTerms(String serverName,
@@ -556,7 +556,7 @@ public class GlossaryAuthorViewGlossaryRESTServices extends BaseGlossaryAuthorVi
         } catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
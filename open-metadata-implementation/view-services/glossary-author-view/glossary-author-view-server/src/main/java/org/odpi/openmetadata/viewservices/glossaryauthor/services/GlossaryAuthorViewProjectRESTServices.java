@@ -67,7 +67,7 @@ public class GlossaryAuthorViewProjectRESTServices extends BaseGlossaryAuthorVie
         }  catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -102,7 +102,7 @@ public class GlossaryAuthorViewProjectRESTServices extends BaseGlossaryAuthorVie
         }  catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -165,7 +165,7 @@ public class GlossaryAuthorViewProjectRESTServices extends BaseGlossaryAuthorVie
         }  catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -228,7 +228,7 @@ public class GlossaryAuthorViewProjectRESTServices extends BaseGlossaryAuthorVie
         }  catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -279,7 +279,7 @@ public class GlossaryAuthorViewProjectRESTServices extends BaseGlossaryAuthorVie
         }  catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -333,7 +333,7 @@ public class GlossaryAuthorViewProjectRESTServices extends BaseGlossaryAuthorVie
         }  catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -372,7 +372,7 @@ public class GlossaryAuthorViewProjectRESTServices extends BaseGlossaryAuthorVie
         }  catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 }
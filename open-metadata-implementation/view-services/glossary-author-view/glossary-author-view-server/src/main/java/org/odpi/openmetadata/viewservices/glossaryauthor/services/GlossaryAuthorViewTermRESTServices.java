@@ -66,7 +66,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Throwable error) {
             response =  getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -101,7 +101,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Throwable error) {
             response =  getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -164,7 +164,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Throwable error) {
             response =  getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -227,7 +227,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Throwable error) {
             response =  getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -278,7 +278,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Throwable error) {
             response =  getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -332,7 +332,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Throwable error) {
             response =  getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -371,7 +371,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Throwable error) {
             response =  getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -399,7 +399,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         } catch (Throwable error) {
             response = getResponseForError(error, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 }
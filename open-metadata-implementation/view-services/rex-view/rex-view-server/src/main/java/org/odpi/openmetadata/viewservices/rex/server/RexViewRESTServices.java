@@ -205,7 +205,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -306,7 +306,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -401,7 +401,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -502,7 +502,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -605,7 +605,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -712,7 +712,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -821,7 +821,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -119,7 +119,7 @@ public class ServerAuthorViewRESTServices {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -155,7 +155,7 @@ public class ServerAuthorViewRESTServices {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -190,7 +190,7 @@ public class ServerAuthorViewRESTServices {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -225,7 +225,7 @@ public class ServerAuthorViewRESTServices {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -261,7 +261,7 @@ public class ServerAuthorViewRESTServices {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -296,7 +296,7 @@ public class ServerAuthorViewRESTServices {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -333,7 +333,7 @@ public class ServerAuthorViewRESTServices {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -370,7 +370,7 @@ public class ServerAuthorViewRESTServices {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -409,7 +409,7 @@ public class ServerAuthorViewRESTServices {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -452,7 +452,7 @@ public class ServerAuthorViewRESTServices {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -485,7 +485,7 @@ public class ServerAuthorViewRESTServices {
         } catch (ServerAuthorViewServiceException error) {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -520,7 +520,7 @@ public class ServerAuthorViewRESTServices {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -555,7 +555,7 @@ public class ServerAuthorViewRESTServices {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -590,7 +590,7 @@ public class ServerAuthorViewRESTServices {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -625,7 +625,7 @@ public class ServerAuthorViewRESTServices {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -660,7 +660,7 @@ public class ServerAuthorViewRESTServices {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -697,7 +697,7 @@ public class ServerAuthorViewRESTServices {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -732,7 +732,7 @@ public class ServerAuthorViewRESTServices {
         } catch (ServerAuthorViewServiceException error) {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -766,7 +766,7 @@ public class ServerAuthorViewRESTServices {
             restExceptionHandler.captureUserNotAuthorizedException(response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
 
     }
@@ -196,7 +196,7 @@ public class TexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
 